@@ -0,0 +1,107 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import edu.northwestern.at.morphadorner.*;
+
+/**	End to end benchmark for {@link AdornerEngine#adornText}.
+ *
+ *	<p>
+ *	Adorns the whole sample text with the benchmark adornment engine:
+ *	sentence splitting, word tokenization, part of speech tagging,
+ *	spelling standardization and lemmatization.  Run with more than
+ *	one thread (JMH option -t) to measure adornment by several
+ *	threads sharing one engine.
+ *	</p>
+ */
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class AdornTextBenchmark
+{
+	/**	The adornment engine. */
+
+	protected AdornerEngine engine;
+
+	/**	The sample text. */
+
+	protected String text;
+
+	/**	Create the engine and load the sample text.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	@Setup
+	public void setup()
+		throws Exception
+	{
+		engine	= BenchmarkData.getEngine();
+		text	= BenchmarkData.getSampleText();
+	}
+
+	/**	Adorn the sample text.
+	 *
+	 *	@return		The adorned sentences.
+	 */
+
+	@Benchmark
+	public Object adornText()
+	{
+		return engine.adornText( text );
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
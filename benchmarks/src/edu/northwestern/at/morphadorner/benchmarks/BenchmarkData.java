@@ -0,0 +1,320 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.util.*;
+
+import edu.northwestern.at.morphadorner.*;
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.adornedword.*;
+import edu.northwestern.at.utils.logger.*;
+
+/**	Data shared by the MorphAdorner benchmarks.
+ *
+ *	<p>
+ *	Holds the adornment engine built from the benchmark settings and
+ *	the sample text, sentences and words the benchmarks process.
+ *	Everything is loaded once, on first use, in each benchmark JVM.
+ *	</p>
+ *
+ *	<p>
+ *	The engine settings are read from the properties file named by
+ *	the "morphadorner.benchmark.properties" system property, by default
+ *	benchmarks/benchmark.properties, which uses the data files in the
+ *	data/ directory.  The sample text is read from the utf-8 file named
+ *	by the "morphadorner.benchmark.text" system property, by default
+ *	benchmarks/sampletext.txt.  Relative file names are resolved
+ *	against the current directory, which should be the MorphAdorner
+ *	installation directory.
+ *	</p>
+ */
+
+public class BenchmarkData
+{
+	/**	Default benchmark settings file. */
+
+	public static final String DEFAULT_PROPERTIES_FILE	=
+		"benchmarks/benchmark.properties";
+
+	/**	Default sample text file. */
+
+	public static final String DEFAULT_TEXT_FILE	=
+		"benchmarks/sampletext.txt";
+
+	/**	The adornment engine. */
+
+	protected static AdornerEngine engine;
+
+	/**	The sample text. */
+
+	protected static String sampleText;
+
+	/**	The sample text lines. */
+
+	protected static List<String> sampleLines;
+
+	/**	The sample text sentences. */
+
+	protected static List<List<String>> sampleSentences;
+
+	/**	The sample text words. */
+
+	protected static List<String> sampleWords;
+
+	/**	The tagged sample text sentences. */
+
+	protected static List<List<AdornedWord>> taggedSentences;
+
+	/**	Get the benchmark settings file name.
+	 *
+	 *	@return		The settings file name.
+	 */
+
+	public static String getPropertiesFileName()
+	{
+		return System.getProperty
+		(
+			"morphadorner.benchmark.properties" ,
+			DEFAULT_PROPERTIES_FILE
+		);
+	}
+
+	/**	Get the sample text file name.
+	 *
+	 *	@return		The sample text file name.
+	 */
+
+	public static String getTextFileName()
+	{
+		return System.getProperty
+		(
+			"morphadorner.benchmark.text" ,
+			DEFAULT_TEXT_FILE
+		);
+	}
+
+	/**	Create new adornment engine settings from the benchmark settings.
+	 *
+	 *	@return		The engine settings.
+	 *
+	 *	@throws	IOException		If the settings cannot be read.
+	 *
+	 *	<p>
+	 *	Each call returns new settings which the caller may change
+	 *	before creating an engine.
+	 *	</p>
+	 */
+
+	public static AdornerEngineSettings newSettings()
+		throws IOException
+	{
+		return AdornerEngineSettings.fromPropertiesFile
+		(
+			getPropertiesFileName()
+		);
+	}
+
+	/**	Get the shared adornment engine.
+	 *
+	 *	@return		The engine built from the benchmark settings.
+	 *
+	 *	@throws	Exception	If the engine cannot be created.
+	 */
+
+	public static synchronized AdornerEngine getEngine()
+		throws Exception
+	{
+		if ( engine == null )
+		{
+			engine	= new AdornerEngine( newSettings() , new DummyLogger() );
+		}
+
+		return engine;
+	}
+
+	/**	Get the sample text.
+	 *
+	 *	@return		The sample text.
+	 *
+	 *	@throws	IOException		If the sample text cannot be read.
+	 */
+
+	public static synchronized String getSampleText()
+		throws IOException
+	{
+		if ( sampleText == null )
+		{
+			sampleText	=
+				FileUtils.readTextFile( getTextFileName() , "utf-8" );
+
+			if ( sampleText == null )
+			{
+				throw new IOException
+				(
+					"Unable to read sample text " + getTextFileName()
+				);
+			}
+		}
+
+		return sampleText;
+	}
+
+	/**	Get the non-empty lines of the sample text.
+	 *
+	 *	@return		The sample text lines.
+	 *
+	 *	@throws	IOException		If the sample text cannot be read.
+	 */
+
+	public static synchronized List<String> getSampleLines()
+		throws IOException
+	{
+		if ( sampleLines == null )
+		{
+			sampleLines	= ListFactory.createNewList();
+
+			BufferedReader bufferedReader	=
+				new BufferedReader( new StringReader( getSampleText() ) );
+
+			String line	= bufferedReader.readLine();
+
+			while ( line != null )
+			{
+				if ( line.trim().length() > 0 ) sampleLines.add( line );
+
+				line	= bufferedReader.readLine();
+			}
+
+			bufferedReader.close();
+		}
+
+		return sampleLines;
+	}
+
+	/**	Get the sample text sentences.
+	 *
+	 *	@return		The sentences extracted from the sample text
+	 *				by the engine's sentence splitter and word
+	 *				tokenizer.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	public static synchronized List<List<String>> getSampleSentences()
+		throws Exception
+	{
+		if ( sampleSentences == null )
+		{
+			MorphAdornerWorker worker	= getEngine().getWorker();
+
+			sampleSentences	=
+				worker.getSentenceSplitter().extractSentences
+				(
+					getSampleText() ,
+					worker.getWordTokenizer()
+				);
+		}
+
+		return sampleSentences;
+	}
+
+	/**	Get the sample text words.
+	 *
+	 *	@return		The words of the sample text sentences, in order.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	public static synchronized List<String> getSampleWords()
+		throws Exception
+	{
+		if ( sampleWords == null )
+		{
+			sampleWords	= ListFactory.createNewList();
+
+			List<List<String>> sentences	= getSampleSentences();
+
+			for ( int i = 0 ; i < sentences.size() ; i++ )
+			{
+				sampleWords.addAll( sentences.get( i ) );
+			}
+		}
+
+		return sampleWords;
+	}
+
+	/**	Get the adorned sample text sentences.
+	 *
+	 *	@return		The sample text adorned by the engine, with
+	 *				part of speech, standard spelling and lemma
+	 *				set for each word.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	public static synchronized List<List<AdornedWord>> getTaggedSentences()
+		throws Exception
+	{
+		if ( taggedSentences == null )
+		{
+			taggedSentences	= getEngine().adornText( getSampleText() );
+		}
+
+		return taggedSentences;
+	}
+
+	/**	Allow overrides but not instantiation.
+	 */
+
+	protected BenchmarkData()
+	{
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,205 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import edu.northwestern.at.morphadorner.*;
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
+import edu.northwestern.at.utils.snapshot.*;
+
+/**	Benchmark for {@link AbstractLexicon#loadLexicon}.
+ *
+ *	<p>
+ *	Loads the word lexicon of the benchmark settings into a new
+ *	lexicon.  The lexicon file is copied to a temporary directory
+ *	so that a snapshot of the lexicon in the data directory does not
+ *	affect the result.  The "source" parameter selects whether the
+ *	lexicon text is parsed or a binary snapshot of the lexicon,
+ *	created during setup, is loaded.
+ *	</p>
+ */
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class LexiconBenchmark
+{
+	/**	Lexicon source:  "text" or "snapshot". */
+
+	@Param( { "text" , "snapshot" } )
+	public String source;
+
+	/**	Lexicon class name, or null for the default lexicon class. */
+
+	protected String lexiconClassName;
+
+	/**	Temporary directory holding the lexicon copy. */
+
+	protected File directory;
+
+	/**	URL of the lexicon copy. */
+
+	protected URL lexiconURL;
+
+	/**	Copy the lexicon file and create its snapshot if needed.
+	 *
+	 *	@throws	Exception	If the settings cannot be read or the
+	 *						lexicon cannot be copied.
+	 */
+
+	@Setup
+	public void setup()
+		throws Exception
+	{
+		AdornerEngineSettings settings	= BenchmarkData.newSettings();
+
+		lexiconClassName	= settings.lexiconClassName;
+
+		File lexiconFile	=
+			SnapshotUtils.getSourceFile( settings.wordLexiconURL );
+
+		if ( lexiconFile == null )
+		{
+			throw new IOException
+			(
+				"Word lexicon is not a local file: " + settings.wordLexiconURL
+			);
+		}
+
+		directory	= File.createTempFile( "lexiconbenchmark" , "" );
+
+		directory.delete();
+		directory.mkdirs();
+
+		File lexiconCopy	= new File( directory , lexiconFile.getName() );
+
+		if	( !FileUtils.copyFile
+				(
+					lexiconFile.getPath() ,
+					lexiconCopy.getPath()
+				)
+			)
+		{
+			throw new IOException
+			(
+				"Unable to copy " + lexiconFile.getPath() + " to " +
+				lexiconCopy.getPath()
+			);
+		}
+
+		lexiconURL	= lexiconCopy.toURI().toURL();
+
+		if ( source.equals( "snapshot" ) )
+		{
+			AbstractLexicon lexicon	= (AbstractLexicon)newLexicon();
+
+			lexicon.createLexiconSnapshot( lexiconURL , "utf-8" );
+		}
+	}
+
+	/**	Delete the lexicon copy and its snapshot.
+	 */
+
+	@TearDown
+	public void tearDown()
+	{
+		File[] files	= directory.listFiles();
+
+		if ( files != null )
+		{
+			for ( int i = 0 ; i < files.length ; i++ )
+			{
+				files[ i ].delete();
+			}
+		}
+
+		directory.delete();
+	}
+
+	/**	Create a new empty lexicon.
+	 *
+	 *	@return		The lexicon.
+	 */
+
+	protected Lexicon newLexicon()
+	{
+		LexiconFactory factory	= new LexiconFactory();
+
+		return
+			( lexiconClassName == null ) ?
+				factory.newLexicon() :
+				factory.newLexicon( lexiconClassName );
+	}
+
+	/**	Load the lexicon.
+	 *
+	 *	@return		The loaded lexicon.
+	 *
+	 *	@throws	IOException		If the lexicon cannot be read.
+	 */
+
+	@Benchmark
+	public Lexicon loadLexicon()
+		throws IOException
+	{
+		Lexicon lexicon	= newLexicon();
+
+		lexicon.loadLexicon( lexiconURL , "utf-8" );
+
+		return lexicon;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,179 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.northwestern.at.morphadorner.*;
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.adornedword.*;
+import edu.northwestern.at.utils.corpuslinguistics.lemmatizer.*;
+import edu.northwestern.at.utils.corpuslinguistics.partsofspeech.*;
+
+/**	Benchmark for {@link RuleBasedLemmatizer#lemmatize}.
+ *
+ *	<p>
+ *	Lemmatizes the standard spelling of each word of the adorned
+ *	sample text with the lemmatization word class of the word's part
+ *	of speech, using the lemmatizer of the benchmark adornment engine.
+ *	Words whose part of speech has no lemmatization word class are
+ *	skipped.  The "useCompiledRules" parameter selects whether the
+ *	lemmatizer uses its rules compiled into suffix tries or tries
+ *	each rule's regular expression in turn.
+ *	</p>
+ */
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class RuleBasedLemmatizerBenchmark
+{
+	/**	True to use the compiled lemmatization rules. */
+
+	@Param( { "true" , "false" } )
+	public boolean useCompiledRules;
+
+	/**	The lemmatizer. */
+
+	protected RuleBasedLemmatizer lemmatizer;
+
+	/**	Spellings to lemmatize. */
+
+	protected String[] spellings;
+
+	/**	Lemmatization word class for each spelling. */
+
+	protected String[] wordClasses;
+
+	/**	Get the lemmatizer and the words to lemmatize.
+	 *
+	 *	@throws	Exception	If the engine cannot be created,
+	 *						the sample text cannot be read,
+	 *						or the engine's lemmatizer is not
+	 *						rule based.
+	 */
+
+	@Setup
+	public void setup()
+		throws Exception
+	{
+		AdornerEngine engine	= BenchmarkData.getEngine();
+
+		if ( !( engine.getLemmatizer() instanceof RuleBasedLemmatizer ) )
+		{
+			throw new IllegalStateException
+			(
+				"Lemmatizer is not rule based: " + engine.getLemmatizer()
+			);
+		}
+
+		lemmatizer	= (RuleBasedLemmatizer)engine.getLemmatizer();
+
+		lemmatizer.setUseCompiledRules( useCompiledRules );
+
+		PartOfSpeechTags partOfSpeechTags	= engine.getPartOfSpeechTags();
+
+		List<String> spellingsList		= ListFactory.createNewList();
+		List<String> wordClassesList	= ListFactory.createNewList();
+
+		List<List<AdornedWord>> sentences	=
+			BenchmarkData.getTaggedSentences();
+
+		for ( int i = 0 ; i < sentences.size() ; i++ )
+		{
+			List<AdornedWord> sentence	= sentences.get( i );
+
+			for ( int j = 0 ; j < sentence.size() ; j++ )
+			{
+				AdornedWord word	= sentence.get( j );
+
+				String wordClass	=
+					partOfSpeechTags.getLemmaWordClass(
+						word.getPartsOfSpeech() );
+
+				if	(	( wordClass.length() > 0 ) &&
+						!wordClass.equals( "none" )
+					)
+				{
+					spellingsList.add( word.getStandardSpelling() );
+					wordClassesList.add( wordClass );
+				}
+			}
+		}
+
+		spellings	=
+			spellingsList.toArray( new String[ spellingsList.size() ] );
+
+		wordClasses	=
+			wordClassesList.toArray( new String[ wordClassesList.size() ] );
+	}
+
+	/**	Lemmatize the sample text words.
+	 *
+	 *	@param	blackhole	Receives the lemmata.
+	 */
+
+	@Benchmark
+	public void lemmatize( Blackhole blackhole )
+	{
+		for ( int i = 0 ; i < spellings.length ; i++ )
+		{
+			blackhole.consume
+			(
+				lemmatizer.lemmatize( spellings[ i ] , wordClasses[ i ] )
+			);
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
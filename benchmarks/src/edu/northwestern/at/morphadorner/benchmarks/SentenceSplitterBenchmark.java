@@ -0,0 +1,126 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import edu.northwestern.at.morphadorner.*;
+import edu.northwestern.at.utils.corpuslinguistics.sentencesplitter.*;
+import edu.northwestern.at.utils.corpuslinguistics.tokenizer.*;
+
+/**	Benchmark for {@link AbstractSentenceSplitter#extractSentences}.
+ *
+ *	<p>
+ *	Splits the whole sample text into sentences of words using the
+ *	sentence splitter, part of speech guesser and word tokenizer of
+ *	the benchmark adornment engine, as done when adorning a text.
+ *	The sentences may also be extracted with their word spans.
+ *	</p>
+ */
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class SentenceSplitterBenchmark
+{
+	/**	The sentence splitter. */
+
+	protected SentenceSplitter sentenceSplitter;
+
+	/**	The word tokenizer. */
+
+	protected WordTokenizer wordTokenizer;
+
+	/**	The sample text. */
+
+	protected String text;
+
+	/**	Get the sentence splitter and load the sample text.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	@Setup
+	public void setup()
+		throws Exception
+	{
+		MorphAdornerWorker worker	= BenchmarkData.getEngine().getWorker();
+
+		sentenceSplitter	= worker.getSentenceSplitter();
+		wordTokenizer		= worker.getWordTokenizer();
+		text				= BenchmarkData.getSampleText();
+	}
+
+	/**	Extract the sentences of the sample text.
+	 *
+	 *	@return		The sentences.
+	 */
+
+	@Benchmark
+	public Object extractSentences()
+	{
+		return sentenceSplitter.extractSentences( text , wordTokenizer );
+	}
+
+	/**	Extract the sentences of the sample text with word spans.
+	 *
+	 *	@return		The sentence spans.
+	 */
+
+	@Benchmark
+	public Object extractSentenceSpans()
+	{
+		return sentenceSplitter.extractSentenceSpans( text , wordTokenizer );
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
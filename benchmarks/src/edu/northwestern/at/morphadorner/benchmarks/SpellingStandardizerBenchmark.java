@@ -0,0 +1,174 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.northwestern.at.morphadorner.*;
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.spellingstandardizer.*;
+import edu.northwestern.at.utils.logger.*;
+
+/**	Benchmark for {@link ExtendedSearchSpellingStandardizer#standardizeSpelling}.
+ *
+ *	<p>
+ *	Standardizes the spelling of each word of the sample text with an
+ *	extended search spelling standardizer loaded with the standard
+ *	and alternate spellings of the benchmark settings, as when the
+ *	adornment engine is configured to use that standardizer.
+ *	</p>
+ *
+ *	<p>
+ *	The standardizer remembers the standard spellings it finds for
+ *	unknown spellings as additional alternate spellings.  The
+ *	alternate spellings are restored before each invocation so that
+ *	each invocation searches for the same spellings.
+ *	</p>
+ */
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class SpellingStandardizerBenchmark
+{
+	/**	The spelling standardizer. */
+
+	protected SpellingStandardizer spellingStandardizer;
+
+	/**	The alternate spellings as loaded. */
+
+	protected Map<String, String> mappedSpellings;
+
+	/**	Spellings to standardize. */
+
+	protected String[] spellings;
+
+	/**	Create the spelling standardizer and get the words to standardize.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	@Setup( Level.Trial )
+	public void setup()
+		throws Exception
+	{
+		AdornerEngineSettings settings	= BenchmarkData.newSettings();
+
+		settings.spellingStandardizerClassName	=
+			ExtendedSearchSpellingStandardizer.class.getName();
+
+		AdornerEngine engine	=
+			new AdornerEngine( settings , new DummyLogger() );
+
+		spellingStandardizer	= engine.getSpellingStandardizer();
+
+		TaggedStrings loadedSpellings	=
+			spellingStandardizer.getMappedSpellings();
+
+		mappedSpellings	= MapFactory.createNewMap();
+
+		Iterator<String> iterator	=
+			loadedSpellings.getAllStrings().iterator();
+
+		while ( iterator.hasNext() )
+		{
+			String spelling	= iterator.next();
+
+			mappedSpellings.put( spelling , loadedSpellings.getTag( spelling ) );
+		}
+
+		List<String> words	= BenchmarkData.getSampleWords();
+
+		spellings	= words.toArray( new String[ words.size() ] );
+	}
+
+	/**	Restore the alternate spellings as loaded.
+	 */
+
+	@Setup( Level.Invocation )
+	public void restoreMappedSpellings()
+	{
+		TaggedStrings restoredSpellings	= new TaggedStringsMap();
+
+		Iterator<String> iterator	= mappedSpellings.keySet().iterator();
+
+		while ( iterator.hasNext() )
+		{
+			String spelling	= iterator.next();
+
+			restoredSpellings.putTag( spelling , mappedSpellings.get( spelling ) );
+		}
+
+		spellingStandardizer.setMappedSpellings( restoredSpellings );
+	}
+
+	/**	Standardize the sample text spellings.
+	 *
+	 *	@param	blackhole	Receives the standard spellings.
+	 */
+
+	@Benchmark
+	public void standardizeSpelling( Blackhole blackhole )
+	{
+		for ( int i = 0 ; i < spellings.length ; i++ )
+		{
+			blackhole.consume
+			(
+				spellingStandardizer.standardizeSpelling( spellings[ i ] )
+			);
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
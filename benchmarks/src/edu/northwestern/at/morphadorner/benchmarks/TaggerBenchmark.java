@@ -0,0 +1,114 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.trigram.*;
+
+/**	Benchmark for {@link TrigramTagger#tagSentence}.
+ *
+ *	<p>
+ *	Tags each sentence of the sample text with the part of speech
+ *	tagger of the benchmark adornment engine, which is a
+ *	{@link TrigramTagger} unless the benchmark settings select
+ *	another tagger.  The tagger's part of speech guesser keeps its
+ *	caches from one invocation to the next, as when adorning a
+ *	long text.
+ *	</p>
+ */
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class TaggerBenchmark
+{
+	/**	The part of speech tagger. */
+
+	protected PartOfSpeechTagger tagger;
+
+	/**	The sample text sentences. */
+
+	protected List<List<String>> sentences;
+
+	/**	Get the tagger and the sample text sentences.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	@Setup
+	public void setup()
+		throws Exception
+	{
+		tagger		= BenchmarkData.getEngine().getTagger();
+		sentences	= BenchmarkData.getSampleSentences();
+	}
+
+	/**	Tag the sample text sentences.
+	 *
+	 *	@param	blackhole	Receives the tagged sentences.
+	 */
+
+	@Benchmark
+	public void tagSentence( Blackhole blackhole )
+	{
+		for ( int i = 0 ; i < sentences.size() ; i++ )
+		{
+			blackhole.consume( tagger.tagSentence( sentences.get( i ) ) );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,310 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.northwestern.at.morphadorner.*;
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.trigram.*;
+import edu.northwestern.at.utils.math.*;
+
+/**	Benchmark for {@link Viterbi#updateScore}.
+ *
+ *	<p>
+ *	During setup each sentence of the sample text is tagged by a
+ *	trigram tagger whose Viterbi trellis records the arguments of
+ *	each trigram {@link Viterbi#updateScore} call.  The benchmark
+ *	replays the recorded calls, resetting the trellis at the start
+ *	of each sentence, so only the trellis updates and beam search
+ *	pruning are timed, not the lexical and contextual smoothing.
+ *	</p>
+ */
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class ViterbiBenchmark
+{
+	/**	The recorded updateScore calls, in order. */
+
+	protected List<UpdateScoreCall> calls	= ListFactory.createNewList();
+
+	/**	The Viterbi trellis to update. */
+
+	protected Viterbi viterbi	= new Viterbi();
+
+	/**	Record the updateScore calls made tagging the sample text.
+	 *
+	 *	@throws	Exception	If the engine cannot be created or
+	 *						the sample text cannot be read.
+	 */
+
+	@Setup
+	public void setup()
+		throws Exception
+	{
+		AdornerEngine engine		= BenchmarkData.getEngine();
+		MorphAdornerWorker worker	= engine.getWorker();
+
+		RecordingTrigramTagger tagger	= new RecordingTrigramTagger( calls );
+
+		tagger.setPartOfSpeechGuesser( worker.getPartOfSpeechGuesser() );
+		tagger.setLexicon( engine.getWordLexicon() );
+		tagger.setTransitionMatrix( engine.getTransitionMatrix() );
+
+		List<List<String>> sentences	= BenchmarkData.getSampleSentences();
+
+		for ( int i = 0 ; i < sentences.size() ; i++ )
+		{
+			tagger.tagSentence( sentences.get( i ) );
+		}
+	}
+
+	/**	Replay the recorded updateScore calls.
+	 *
+	 *	@param	blackhole	Receives the tags passing the beam search.
+	 */
+
+	@Benchmark
+	public void updateScore( Blackhole blackhole )
+	{
+		for ( int i = 0 ; i < calls.size() ; i++ )
+		{
+			UpdateScoreCall call	= calls.get( i );
+
+			if ( call.wordIndex == 0 ) viterbi.reset();
+
+			blackhole.consume
+			(
+				viterbi.updateScore
+				(
+					call.wordIndex ,
+					call.lexicalProbs ,
+					call.contextualProbs ,
+					call.tags ,
+					call.prevTags ,
+					call.prevPrevTags
+				)
+			);
+		}
+	}
+
+	/**	Arguments of one trigram updateScore call. */
+
+	protected static class UpdateScoreCall
+	{
+		/**	Index of word in sentence. */
+
+		protected int wordIndex;
+
+		/**	Lexical probabilities for the word's tags. */
+
+		protected Probability[] lexicalProbs;
+
+		/**	Contextual probabilities for the word's tags. */
+
+		protected Map3D<String, String, String, Probability> contextualProbs;
+
+		/**	Possible tags for the word. */
+
+		protected List<String> tags;
+
+		/**	Possible tags for the previous word. */
+
+		protected List<String> prevTags;
+
+		/**	Possible tags for the word before the previous word. */
+
+		protected List<String> prevPrevTags;
+
+		/**	Record a call.
+		 *
+		 *	@param	wordIndex		Index of word in sentence.
+		 *	@param	lexicalProbs	Lexical probabilities.
+		 *	@param	contextualProbs	Contextual probabilities.
+		 *	@param	tags			Possible tags for word.
+		 *	@param	prevTags		Possible tags for previous word.
+		 *	@param	prevPrevTags	Possible tags for word before
+		 *							previous word.
+		 *
+		 *	<p>
+		 *	The arguments are copied since the tagger reuses the
+		 *	contextual probabilities map for each word.
+		 *	</p>
+		 */
+
+		protected UpdateScoreCall
+		(
+			int wordIndex ,
+			Probability[] lexicalProbs ,
+			Map3D<?, ?, ?, ?> contextualProbs ,
+			List<String> tags ,
+			List<String> prevTags ,
+			List<String> prevPrevTags
+		)
+		{
+			this.wordIndex			= wordIndex;
+			this.lexicalProbs		= (Probability[])lexicalProbs.clone();
+			this.contextualProbs	= Map3DFactory.createNewMap3D();
+
+			Iterator<CompoundKey> iterator	= contextualProbs.iterator();
+
+			while ( iterator.hasNext() )
+			{
+				CompoundKey key			= iterator.next();
+				Comparable[] keyValues	= key.getKeyValues();
+
+				this.contextualProbs.put
+				(
+					(String)keyValues[ 0 ] ,
+					(String)keyValues[ 1 ] ,
+					(String)keyValues[ 2 ] ,
+					(Probability)contextualProbs.get( key )
+				);
+			}
+
+			this.tags			= new ArrayList<String>( tags );
+			this.prevTags		= new ArrayList<String>( prevTags );
+			this.prevPrevTags	= new ArrayList<String>( prevPrevTags );
+		}
+	}
+
+	/**	Viterbi trellis which records its trigram updateScore calls. */
+
+	protected static class RecordingViterbi extends Viterbi
+	{
+		/**	List to receive the recorded calls. */
+
+		protected List<UpdateScoreCall> calls;
+
+		/**	Create recording Viterbi trellis.
+		 *
+		 *	@param	calls	List to receive the recorded calls.
+		 */
+
+		protected RecordingViterbi( List<UpdateScoreCall> calls )
+		{
+			super();
+
+			this.calls	= calls;
+		}
+
+		/**	Record and perform an updateScore call.
+		 *
+		 *	@param	wordIndex		Index of word in sentence.
+		 *	@param	lexicalProbs	Lexical probabilities.
+		 *	@param	contextualProbs	Contextual probabilities.
+		 *	@param	tags			Possible tags for word.
+		 *	@param	prevTags		Possible tags for previous word.
+		 *	@param	prevPrevTags	Possible tags for word before
+		 *							previous word.
+		 *
+		 *	@return					Tags passing beam search criterion.
+		 */
+
+		public List<String> updateScore
+		(
+			int wordIndex ,
+			Probability[] lexicalProbs ,
+			Map3D contextualProbs ,
+			List<String> tags ,
+			List<String> prevTags ,
+			List<String> prevPrevTags
+		)
+		{
+			calls.add
+			(
+				new UpdateScoreCall
+				(
+					wordIndex ,
+					lexicalProbs ,
+					contextualProbs ,
+					tags ,
+					prevTags ,
+					prevPrevTags
+				)
+			);
+
+			return super.updateScore
+			(
+				wordIndex ,
+				lexicalProbs ,
+				contextualProbs ,
+				tags ,
+				prevTags ,
+				prevPrevTags
+			);
+		}
+	}
+
+	/**	Trigram tagger which records its Viterbi trellis updates. */
+
+	protected static class RecordingTrigramTagger extends TrigramTagger
+	{
+		/**	Create recording trigram tagger.
+		 *
+		 *	@param	calls	List to receive the recorded calls.
+		 */
+
+		protected RecordingTrigramTagger( List<UpdateScoreCall> calls )
+		{
+			super();
+
+			viterbi	= new RecordingViterbi( calls );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,124 @@
+package edu.northwestern.at.morphadorner.benchmarks;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.northwestern.at.utils.corpuslinguistics.tokenizer.*;
+
+/**	Benchmark for {@link DefaultWordTokenizer#extractWords}.
+ *
+ *	<p>
+ *	Tokenizes each line of the sample text with the default word
+ *	tokenizer and pretokenizer.  The "useRegularExpressions" parameter
+ *	selects whether the pretokenizer applies its separator patterns
+ *	as regular expressions or scans the characters.
+ *	</p>
+ */
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( value = 1 , jvmArgsAppend = { "-Xmx720m" } )
+
+public class WordTokenizerBenchmark
+{
+	/**	True to apply the pretokenizer patterns as regular expressions. */
+
+	@Param( { "false" , "true" } )
+	public boolean useRegularExpressions;
+
+	/**	The word tokenizer. */
+
+	protected DefaultWordTokenizer wordTokenizer;
+
+	/**	The sample text lines. */
+
+	protected String[] lines;
+
+	/**	Create the word tokenizer and load the sample text.
+	 *
+	 *	@throws	Exception	If the sample text cannot be read.
+	 */
+
+	@Setup
+	public void setup()
+		throws Exception
+	{
+		DefaultPreTokenizer preTokenizer	= new DefaultPreTokenizer();
+
+		preTokenizer.setUseRegularExpressions( useRegularExpressions );
+
+		wordTokenizer	= new DefaultWordTokenizer();
+
+		wordTokenizer.setPreTokenizer( preTokenizer );
+
+		List<String> sampleLines	= BenchmarkData.getSampleLines();
+
+		lines	= sampleLines.toArray( new String[ sampleLines.size() ] );
+	}
+
+	/**	Tokenize the sample text lines.
+	 *
+	 *	@param	blackhole	Receives the tokens.
+	 */
+
+	@Benchmark
+	public void extractWords( Blackhole blackhole )
+	{
+		for ( int i = 0 ; i < lines.length ; i++ )
+		{
+			blackhole.consume( wordTokenizer.extractWords( lines[ i ] ) );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,2206 @@
+package edu.northwestern.at.morphadorner;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.net.URL;
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.adornedword.*;
+import edu.northwestern.at.utils.corpuslinguistics.lemmatizer.*;
+import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
+import edu.northwestern.at.utils.corpuslinguistics.namerecognizer.*;
+import edu.northwestern.at.utils.corpuslinguistics.namestandardizer.*;
+import edu.northwestern.at.utils.corpuslinguistics.partsofspeech.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.guesser.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.transitionmatrix.*;
+import edu.northwestern.at.utils.corpuslinguistics.sentencesplitter.*;
+import edu.northwestern.at.utils.corpuslinguistics.spellingmapper.*;
+import edu.northwestern.at.utils.corpuslinguistics.spellingstandardizer.*;
+import edu.northwestern.at.utils.corpuslinguistics.tokenizer.*;
+import edu.northwestern.at.utils.logger.*;
+
+/**	Adornment engine.
+ *
+ *	<p>
+ *	An adornment engine holds the model data for one adornment
+ *	configuration:  part of speech tags, word and suffix lexicons,
+ *	transition matrix, tagger rules, auxiliary word lists, spelling
+ *	standardizer, spelling mapper, name standardizer and lemmatizer.
+ *	This data is loaded once when the engine is created and is shared
+ *	by all threads which use the engine.
+ *	</p>
+ *
+ *	<p>
+ *	Components which hold mutable state while adorning a text --
+ *	the part of speech tagger and retagger (with their Viterbi trellis
+ *	and smoother caches), the part of speech guesser, the sentence
+ *	splitter and the word tokenizers -- are created separately for
+ *	each thread which uses the engine.  See {@link MorphAdornerWorker}.
+ *	</p>
+ *
+ *	<p>
+ *	Since an engine is built from its own
+ *	{@link AdornerEngineSettings}, engines for different
+ *	configurations (e.g., NCF and EME) may be used side by side.
+ *	The extra abbreviations list is the exception:  abbreviations
+ *	are global and are shared by all engines.
+ *	</p>
+ *
+ *	<p>
+ *	Example:
+ *	</p>
+ *
+ *	<pre>
+ *	AdornerEngine engine	=
+ *		new AdornerEngine
+ *		(
+ *			AdornerEngineSettings.fromPropertiesFile( "ncf.properties" ) ,
+ *			new DummyLogger()
+ *		);
+ *
+ *	List&lt;List&lt;AdornedWord&gt;&gt; sentences	=
+ *		engine.adornText( "Thou art a goodly knight." );
+ *	</pre>
+ */
+
+public class AdornerEngine
+{
+	/**	Latin words file. */
+
+	protected static String latinWordsFileName	=
+		"resources/latinwords.txt";
+
+	/**	Extra words file. */
+
+	protected static String extraWordsFileName	=
+		"resources/extrawords.txt";
+
+	/**	Engine settings. */
+
+	protected AdornerEngineSettings settings;
+
+	/**	Logger. */
+
+	protected Logger logger;
+
+	/**	Part of speech tags. */
+
+	protected PartOfSpeechTags partOfSpeechTags;
+
+	/**	Word lexicon. */
+
+	protected Lexicon wordLexicon;
+
+	/**	Suffix lexicon. */
+
+	protected Lexicon suffixLexicon;
+
+	/**	Suffix lexicon compiled into a trie for the part of
+	 *	speech guessers.  Shared by all workers and built when
+	 *	the first suffix is looked up.
+	 */
+
+	protected SuffixLexiconTrie suffixLexiconTrie;
+
+	/**	Transition matrix.  May be null. */
+
+	protected TransitionMatrix transitionMatrix;
+
+	/**	Context rules.  May be null. */
+
+	protected String[] contextRules;
+
+	/**	Lexical rules.  May be null. */
+
+	protected String[] lexicalRules;
+
+	/**	Auxiliary word lists for the part of speech guesser. */
+
+	protected List<TaggedStrings> auxiliaryWordLists	=
+		ListFactory.createNewList();
+
+	/**	Spelling standardizer.  May be null. */
+
+	protected SpellingStandardizer spellingStandardizer;
+
+	/**	Memo of spellings standardized by the spelling standardizer.
+	 *	May be null.
+	 */
+
+	protected StandardizedSpellingMemo standardizedSpellingMemo;
+
+	/**	Guessed parts of speech cache shared by the part of speech
+	 *	guessers of all threads.  Null if the cache is not shared.
+	 */
+
+	protected PartOfSpeechGuessCache sharedGuessCache;
+
+	/**	Spelling mapper.  May be null. */
+
+	protected SpellingMapper spellingMapper;
+
+	/**	Proper name standardizer.  May be null. */
+
+	protected NameStandardizer nameStandardizer;
+
+	/**	Lemmatizer.  May be null. */
+
+	protected Lemmatizer lemmatizer;
+
+	/**	Lemma separator. */
+
+	protected String lemmaSeparator	= "|";
+
+	/**	Proper names. */
+
+	protected Names names	= new Names();
+
+	/**	Per-thread adornment components. */
+
+	protected ThreadLocal<MorphAdornerWorker> workers	=
+		new ThreadLocal<MorphAdornerWorker>();
+
+	/**	Create an adornment engine.
+	 *
+	 *	@param	settings	The engine settings.
+	 *	@param	logger		The logger.
+	 *
+	 *	@throws	InvalidRuleException	If a tagger rule is bad.
+	 *	@throws	IOException				If the model data cannot be read.
+	 */
+
+	public AdornerEngine
+	(
+		AdornerEngineSettings settings ,
+		Logger logger
+	)
+		throws InvalidRuleException, IOException
+	{
+		this.settings	= settings;
+		this.logger		= logger;
+
+    								//	Create part of speech
+    								//	tags list.
+
+		partOfSpeechTags	=
+			( settings.partOfSpeechTagsClassName == null ) ?
+				new PartOfSpeechTagsFactory().newPartOfSpeechTags() :
+				new PartOfSpeechTagsFactory().newPartOfSpeechTags(
+					settings.partOfSpeechTagsClassName );
+
+								//	Load word lexicon.
+
+		wordLexicon	= loadWordLexicon();
+
+		wordLexicon.setPartOfSpeechTags( partOfSpeechTags );
+
+								//	Load suffix lexicon.
+
+		suffixLexicon	= loadSuffixLexicon();
+
+		suffixLexiconTrie	=
+			new SuffixLexiconTrie( suffixLexicon , partOfSpeechTags );
+
+								//	Load auxiliary word lists.
+
+		loadAuxiliaryWordLists();
+
+								//	Load tagger rules and transition
+								//	matrix if the tagger uses them.
+
+		PartOfSpeechTagger tagger	= newPartOfSpeechTagger();
+
+		loadTaggerRules( tagger );
+
+		transitionMatrix	= loadTransitionMatrix( tagger );
+
+								//	Create a spelling standardizer.
+
+		spellingStandardizer	= createSpellingStandardizer();
+
+								//	Create a standardized spelling
+								//	memo.
+
+		standardizedSpellingMemo	= createStandardizedSpellingMemo();
+
+								//	Create a guessed parts of speech
+								//	cache for all threads if
+								//	requested.
+
+		if ( settings.shareGuesserCache )
+		{
+			sharedGuessCache	= PartOfSpeechGuessCache.fromProperties();
+		}
+
+								//	Create a spelling mapper.
+
+		spellingMapper			= createSpellingMapper();
+
+								//	Create a name standardizer.
+
+		nameStandardizer		= createNameStandardizer();
+
+								//	Create a lemmatizer.
+
+		lemmatizer				= createLemmatizer();
+
+								//	Create components for this thread.
+								//	Reports any problems with the
+								//	tagger rules now.
+
+		workers.set( new MorphAdornerWorker( this , logger ) );
+	}
+
+	/**	Log a message.
+	 *
+	 *	@param	formatString	Format string resource name.
+	 *	@param	objects			Objects to output in format.
+	 */
+
+	protected void println( String formatString , Object[] objects )
+	{
+		println( logger , formatString , objects );
+	}
+
+	/**	Log a message.
+	 *
+	 *	@param	logger			The logger.
+	 *	@param	formatString	Format string resource name.
+	 *	@param	objects			Objects to output in format.
+	 */
+
+	protected static void println
+	(
+		Logger logger ,
+		String formatString ,
+		Object[] objects
+	)
+	{
+		StringBuilder sb	= new StringBuilder();
+
+		new Formatter( sb ).format
+		(
+			MorphAdornerSettings.getString( formatString ) ,
+			objects
+		);
+
+		logger.logInfo( sb.toString() );
+	}
+
+	/**	Load abbreviations.
+	 *
+	 *	@param	abbreviationsURL	Abbreviations URL.
+	 *	@param	loadedMessage		Message to display when words loaded.
+	 *	@param	logger				Logger for message.
+	 */
+
+	public static void loadAbbreviations
+	(
+		String abbreviationsURL ,
+		String loadedMessage ,
+		Logger logger
+	)
+	{
+		long startTime		= System.currentTimeMillis();
+
+		int currentCount	= Abbreviations.getAbbreviationsCount();
+
+								//	Load abbreviations.
+
+		Abbreviations.loadAbbreviations( abbreviationsURL );
+
+								//	Report number added.
+		int added			=
+			Abbreviations.getAbbreviationsCount() - currentCount;
+
+		println
+		(
+			logger ,
+			loadedMessage ,
+			new Object[]
+			{
+				Formatters.formatIntegerWithCommas( added ) ,
+				MorphAdorner.durationString( startTime )
+			}
+		);
+	}
+
+	/**	Get word list.
+	 *
+	 *	@param		wordFileName	File name of word list.
+	 *	@param		posTag			Part of speech tag for each word.
+	 *	@param		loadedMessage	Message to display when words loaded.
+	 *	@param		logger			Logger for message.
+	 *
+	 *	@return		Tagged strings with words.
+	 */
+
+	public static TaggedStrings getWordList
+	(
+		String wordFileName ,
+		String posTag ,
+		String loadedMessage ,
+		Logger logger
+	)
+	{
+		long startTime		= System.currentTimeMillis();
+
+								//	Load words.
+
+		TextFile wordFile	=
+			new TextFile
+			(
+				AdornerEngine.class.getResourceAsStream
+				(
+					wordFileName
+				) ,
+				"utf-8"
+			);
+
+		SingleTagTaggedStrings words	=
+			new SingleTagTaggedStrings( wordFile.toArray() , posTag );
+
+		wordFile	= null;
+
+		println
+		(
+			logger ,
+			loadedMessage ,
+			new Object[]
+			{
+				Formatters.formatIntegerWithCommas
+				(
+					words.getStringCount()
+				) ,
+				MorphAdorner.durationString( startTime )
+			}
+		);
+
+		return words;
+	}
+
+	/**	Get extra words list.
+	 *
+	 *	@param		wordFileName	File name of word list.
+	 *	@param		posTag			Part of speech tag for each word.
+	 *	@param		loadedMessage	Message to display when words loaded.
+	 *	@param		logger			Logger for message.
+	 *
+	 *	@return		Tagged strings with words.
+	 */
+
+	public static TaggedStrings getExtraWordsList
+	(
+		String wordFileName ,
+		String posTag ,
+		String loadedMessage ,
+		Logger logger
+	)
+	{
+		long startTime			= System.currentTimeMillis();
+
+		UTF8Properties words	= null;
+
+								//	Load extra words.
+		try
+		{
+			words	= new UTF8Properties();
+
+			words.load
+			(
+				AdornerEngine.class.getResourceAsStream
+				(
+					wordFileName
+				) ,
+				posTag
+			);
+		}
+		catch ( Exception e )
+		{
+		}
+
+		if ( words.size() > 0 )
+		{
+			println
+			(
+				logger ,
+				loadedMessage ,
+				new Object[]
+				{
+					Formatters.formatIntegerWithCommas
+					(
+						words.getStringCount()
+					) ,
+					MorphAdorner.durationString( startTime )
+				}
+			);
+		}
+
+		return words;
+	}
+
+	/**	Loads the word lexicon.
+	 *
+	 *	@return		The word lexicon.
+	 *
+	 *	@throws	IOException	If the lexicon cannot be read.
+	 */
+
+	protected Lexicon loadWordLexicon()
+		throws IOException
+	{
+		long startTime		= System.currentTimeMillis();
+
+		Lexicon wordLexicon	= newLexicon();
+
+								//	Compact lexicons are built while
+								//	the lexicon file is read, unless
+								//	the configured lexicon class
+								//	already holds entries.
+
+		if ( settings.compactLexicons && isEmptyLexicon( wordLexicon ) )
+		{
+			wordLexicon	= new CompactLexicon( wordLexicon );
+
+			if ( settings.wordLexiconURL != null )
+			{
+				wordLexicon.loadLexicon( settings.wordLexiconURL , "utf-8" );
+			}
+		}
+		else
+		{
+			if ( settings.wordLexiconURL != null )
+			{
+				wordLexicon.loadLexicon( settings.wordLexiconURL , "utf-8" );
+			}
+
+			if ( settings.compactLexicons )
+			{
+				wordLexicon	= new CompactLexicon( wordLexicon );
+			}
+		}
+
+		println
+		(
+			"Loaded_word_lexicon" ,
+			new Object[]
+			{
+				Formatters.formatIntegerWithCommas
+				(
+					wordLexicon.getLexiconSize()
+				) ,
+				MorphAdorner.durationString( startTime )
+			}
+		);
+								//	Set logger into word lexicon.
+
+		((UsesLogger)wordLexicon).setLogger( logger );
+
+		return wordLexicon;
+	}
+
+	/**	Loads the suffix lexicon.
+	 *
+	 *	@return		The suffix lexicon.
+	 *
+	 *	@throws	IOException	If the lexicon cannot be read.
+	 */
+
+	protected Lexicon loadSuffixLexicon()
+		throws IOException
+	{
+		long startTime			= System.currentTimeMillis();
+
+		Lexicon suffixLexicon	= newLexicon();
+
+								//	Compact lexicons are built while
+								//	the lexicon file is read, unless
+								//	the configured lexicon class
+								//	already holds entries.
+
+		if ( settings.compactLexicons && isEmptyLexicon( suffixLexicon ) )
+		{
+			suffixLexicon	= new CompactLexicon( suffixLexicon );
+
+			if ( settings.suffixLexiconURL != null )
+			{
+				suffixLexicon.loadLexicon( settings.suffixLexiconURL , "utf-8" );
+			}
+		}
+		else
+		{
+			if ( settings.suffixLexiconURL != null )
+			{
+				suffixLexicon.loadLexicon( settings.suffixLexiconURL , "utf-8" );
+			}
+
+			if ( settings.compactLexicons )
+			{
+				suffixLexicon	= new CompactLexicon( suffixLexicon );
+			}
+		}
+
+		println
+		(
+			"Loaded_suffix_lexicon" ,
+			new Object[]
+			{
+				Formatters.formatIntegerWithCommas
+				(
+					suffixLexicon.getLexiconSize()
+				) ,
+				MorphAdorner.durationString( startTime )
+			}
+		);
+								//	Set logger into suffix lexicon.
+
+		((UsesLogger)suffixLexicon).setLogger( logger );
+
+		return suffixLexicon;
+	}
+
+	/**	Load auxiliary word lists for the part of speech guesser.
+	 */
+
+	protected void loadAuxiliaryWordLists()
+	{
+		String properNounTag	= partOfSpeechTags.getSingularProperNounTag();
+
+								//	Add extra words.
+
+		auxiliaryWordLists.add
+		(
+			getExtraWordsList
+			(
+				extraWordsFileName ,
+				properNounTag ,
+				"Loaded_extra_words" ,
+				logger
+			)
+		);
+								//	Add name lists.
+
+		auxiliaryWordLists.add
+		(
+			new TaggedStringsSet
+			(
+				names.getPlaceNames().keySet() ,
+				properNounTag
+			)
+		);
+
+		auxiliaryWordLists.add
+		(
+			new TaggedStringsSet( names.getFirstNames() , properNounTag )
+		);
+
+		auxiliaryWordLists.add
+		(
+			new TaggedStringsSet( names.getSurnames() , properNounTag )
+		);
+								//	Add latin words.
+
+		if ( settings.useLatinWordList )
+		{
+			auxiliaryWordLists.add
+			(
+				getWordList
+				(
+					latinWordsFileName ,
+					partOfSpeechTags.getForeignWordTag( "latin" ) ,
+					"Loaded_latin_words" ,
+					logger
+				)
+			);
+		}
+								//	Add extra abbreviations.
+
+		if ( settings.abbreviationsURL.length() > 0 )
+		{
+			loadAbbreviations
+			(
+				URLUtils.getURLFromFileNameOrURL
+				(
+					settings.abbreviationsURL
+				).toString() ,
+				"Loaded_abbreviations" ,
+				logger
+			);
+		}
+	}
+
+	/**	Loads part of speech tagger rules.
+	 *
+	 *	@param	tagger	Part of speech tagger for which to load rules.
+	 *
+	 *	@throws	IOException	If the rules cannot be read.
+	 */
+
+	protected void loadTaggerRules( PartOfSpeechTagger tagger )
+		throws IOException
+	{
+		if	(	( settings.contextRulesURL != null ) &&
+				( tagger.usesContextRules() ) )
+		{
+			contextRules	=
+				new TextFile( settings.contextRulesURL , "utf-8" ).toArray();
+		}
+
+		if	(	( settings.lexicalRulesURL != null ) &&
+				( tagger.usesLexicalRules() ) )
+		{
+			lexicalRules	=
+				new TextFile( settings.lexicalRulesURL , "utf-8" ).toArray();
+		}
+	}
+
+	/**	Loads the transition matrix.
+	 *
+	 *	@param	tagger	Part of speech tagger.
+	 *
+	 *	@return			The transition matrix, or null if the tagger
+	 *					does not use one.
+	 *
+	 *	@throws	IOException	If the transition matrix cannot be read.
+	 */
+
+	protected TransitionMatrix loadTransitionMatrix
+	(
+		PartOfSpeechTagger tagger
+	)
+		throws IOException
+	{
+		TransitionMatrix transitionMatrix	= null;
+
+		if	( 	( settings.transitionMatrixURL != null ) &&
+				( tagger.usesTransitionProbabilities() ) )
+		{
+			long startTime		= System.currentTimeMillis();
+
+			transitionMatrix	= new TransitionMatrix();
+
+			transitionMatrix.loadTransitionMatrix
+			(
+				settings.transitionMatrixURL ,
+				"utf-8" ,
+				'\t'
+			);
+
+			println
+			(
+				"Loaded_transition_matrix" ,
+				new Object[]{ MorphAdorner.durationString( startTime ) }
+			);
+								//	Set logger into transition matrix.
+
+			transitionMatrix.setLogger( logger );
+		}
+
+		return transitionMatrix;
+	}
+
+	/**	Create spelling standardizer.
+	 *
+	 *	@return		The spelling standardizer.
+	 *
+	 *	@throws	IOException	If the spellings cannot be read.
+	 */
+
+	protected SpellingStandardizer createSpellingStandardizer()
+		throws IOException
+	{
+		SpellingStandardizerFactory factory	=
+			new SpellingStandardizerFactory();
+
+		SpellingStandardizer spellingStandardizer	=
+			( settings.spellingStandardizerClassName == null ) ?
+				factory.newSpellingStandardizer() :
+				factory.newSpellingStandardizer(
+					settings.spellingStandardizerClassName );
+
+		if	( spellingStandardizer == null ) return null;
+
+		long startTime	= System.currentTimeMillis();
+
+								//	Set word lexicon into standardizer.
+
+		if ( spellingStandardizer instanceof UsesLexicon )
+		{
+			((UsesLexicon)spellingStandardizer).setLexicon( wordLexicon );
+		}
+								//	Load standard spellings.
+
+		if ( settings.spellingsURL != null )
+		{
+			spellingStandardizer.loadStandardSpellings
+			(
+				settings.spellingsURL ,
+				"utf-8"
+			);
+
+			println
+			(
+				"Loaded_standard_spellings" ,
+				new Object[]
+				{
+					Formatters.formatIntegerWithCommas
+					(
+						spellingStandardizer.getNumberOfStandardSpellings()
+					) ,
+					MorphAdorner.durationString( startTime )
+				}
+			);
+		}
+                                //	Add name lists to standard spellings.
+
+		spellingStandardizer.addStandardSpellings( names.getFirstNames() );
+		spellingStandardizer.addStandardSpellings( names.getSurnames() );
+
+		spellingStandardizer.addStandardSpellings(
+			names.getPlaceNames().keySet() );
+
+                                //	Load alternate spellings.
+
+		if ( settings.alternateSpellingsURLs != null )
+		{
+			int altSpellingsCount	= 0;
+
+			for (	int i = 0 ;
+					i < settings.alternateSpellingsURLs.length ;
+					i++
+				)
+			{
+				startTime	= System.currentTimeMillis();
+
+				spellingStandardizer.loadAlternativeSpellings
+				(
+					settings.alternateSpellingsURLs[ i ] ,
+					"utf-8" ,
+					"\t"
+				);
+
+				println
+				(
+					"Loaded_alternate_spellings" ,
+					new Object[]
+					{
+						Formatters.formatIntegerWithCommas
+						(
+							spellingStandardizer.
+								getNumberOfAlternateSpellings() -
+									altSpellingsCount
+						) ,
+						MorphAdorner.durationString( startTime )
+					}
+				);
+
+				altSpellingsCount	=
+					spellingStandardizer.getNumberOfAlternateSpellings();
+			}
+		}
+                                //	Load alternate spellings by word class.
+
+		if ( settings.alternateSpellingsByWordClassURLs != null )
+		{
+			int[] altCountsCum	= new int[]{ 0 , 0 };
+
+			for (	int i = 0 ;
+					i < settings.alternateSpellingsByWordClassURLs.length ;
+					i++
+				)
+			{
+				startTime	= System.currentTimeMillis();
+
+				spellingStandardizer.loadAlternativeSpellingsByWordClass
+				(
+					settings.alternateSpellingsByWordClassURLs[ i ] ,
+					"utf-8"
+				);
+
+				int[] altCounts	=
+					spellingStandardizer.
+						getNumberOfAlternateSpellingsByWordClass();
+
+				println
+				(
+					"Loaded_alternate_spellings_by_word_class" ,
+					new Object[]
+					{
+						Formatters.formatIntegerWithCommas
+						(
+							altCounts[ 1 ] - altCountsCum[ 1 ]
+						) ,
+						Formatters.formatIntegerWithCommas
+						(
+							altCounts[ 0 ] - altCountsCum[ 0 ]
+						) ,
+						MorphAdorner.durationString( startTime )
+					}
+				);
+
+				altCountsCum[ 0 ]	= altCounts[ 0 ];
+				altCountsCum[ 1 ]	= altCounts[ 1 ];
+			}
+		}
+								//	Set logger into standardizer.
+
+		if ( spellingStandardizer instanceof UsesLogger )
+		{
+			((UsesLogger)spellingStandardizer).setLogger( logger );
+		}
+
+		return spellingStandardizer;
+	}
+
+	/**	Create standardized spelling memo.
+	 *
+	 *	@return		The standardized spelling memo, or null if there
+	 *				is no spelling standardizer or the memo size
+	 *				is zero.
+	 *
+	 *	@throws	IOException		If the memo file cannot be read.
+	 *
+	 *	<p>
+	 *	Memoized spellings saved by an earlier run are loaded from
+	 *	the memo file if there is one and it was made by the same
+	 *	standardizer from the same spelling data.
+	 *	</p>
+	 */
+
+	protected StandardizedSpellingMemo createStandardizedSpellingMemo()
+		throws IOException
+	{
+		if ( spellingStandardizer == null ) return null;
+
+		StandardizedSpellingMemo memo	=
+			StandardizedSpellingMemo.fromProperties();
+
+		if ( memo == null ) return null;
+
+		File memoFile	= getStandardizedSpellingMemoFile();
+
+		if ( ( memoFile != null ) && memoFile.exists() )
+		{
+			long startTime	= System.currentTimeMillis();
+
+			int memoCount	=
+				memo.load( memoFile , getStandardizedSpellingMemoHeader() );
+
+			if ( memoCount < 0 )
+			{
+				println
+				(
+					"Ignored_stale_standardized_spelling_memo" ,
+					new Object[]{ memoFile.getPath() }
+				);
+			}
+			else
+			{
+				println
+				(
+					"Loaded_standardized_spelling_memo" ,
+					new Object[]
+					{
+						Formatters.formatIntegerWithCommas( memoCount ) ,
+						MorphAdorner.durationString( startTime )
+					}
+				);
+			}
+		}
+
+		return memo;
+	}
+
+	/**	Get header describing the data behind the memoized spellings.
+	 *
+	 *	@return		The spelling standardizer class name followed by
+	 *				descriptions of the standard and alternate
+	 *				spellings files, separated by tabs.
+	 */
+
+	protected String getStandardizedSpellingMemoHeader()
+	{
+		StringBuilder sb	= new StringBuilder();
+
+		sb.append( spellingStandardizer.getClass().getName() );
+		sb.append( '\t' );
+		sb.append
+		(
+			StandardizedSpellingMemo.getDataDescription( settings.spellingsURL )
+		);
+
+		URL[][] urlLists	=
+			new URL[][]
+			{
+				settings.alternateSpellingsURLs ,
+				settings.alternateSpellingsByWordClassURLs
+			};
+
+		for ( int i = 0 ; i < urlLists.length ; i++ )
+		{
+			sb.append( '\t' );
+
+			if ( urlLists[ i ] != null )
+			{
+				for ( int j = 0 ; j < urlLists[ i ].length ; j++ )
+				{
+					if ( j > 0 ) sb.append( ' ' );
+
+					sb.append
+					(
+						StandardizedSpellingMemo.getDataDescription(
+							urlLists[ i ][ j ] )
+					);
+				}
+			}
+		}
+
+		return sb.toString();
+	}
+
+	/**	Get standardized spelling memo file.
+	 *
+	 *	@return		The memo file, or null if none.
+	 */
+
+	protected File getStandardizedSpellingMemoFile()
+	{
+		String fileName	= settings.standardizedSpellingMemoFileName;
+
+		return
+			( ( fileName == null ) || ( fileName.length() == 0 ) ) ?
+				null : new File( fileName );
+	}
+
+	/**	Save standardized spelling memo to the memo file.
+	 *
+	 *	@throws	IOException		If the memo file cannot be written.
+	 *
+	 *	<p>
+	 *	Does nothing if there is no memo or no memo file.
+	 *	</p>
+	 */
+
+	public void saveStandardizedSpellingMemo()
+		throws IOException
+	{
+		File memoFile	= getStandardizedSpellingMemoFile();
+
+		if ( ( standardizedSpellingMemo != null ) && ( memoFile != null ) )
+		{
+			long startTime	= System.currentTimeMillis();
+
+			int memoCount	=
+				standardizedSpellingMemo.save
+				(
+					memoFile ,
+					getStandardizedSpellingMemoHeader()
+				);
+
+			println
+			(
+				"Saved_standardized_spelling_memo" ,
+				new Object[]
+				{
+					Formatters.formatIntegerWithCommas( memoCount ) ,
+					MorphAdorner.durationString( startTime ) ,
+					standardizedSpellingMemo.getStatistics().toString()
+				}
+			);
+		}
+	}
+
+	/**	Create spelling mapper.
+	 *
+	 *	@return		The spelling mapper.
+	 */
+
+	protected SpellingMapper createSpellingMapper()
+	{
+		SpellingMapperFactory factory	= new SpellingMapperFactory();
+
+		return
+			( settings.spellingMapperClassName == null ) ?
+				factory.newSpellingMapper() :
+				factory.newSpellingMapper(
+					settings.spellingMapperClassName );
+	}
+
+	/**	Create proper name standardizer.
+	 *
+	 *	@return		The name standardizer.
+	 *
+	 *	@throws	IOException	If the names cannot be loaded.
+	 */
+
+	protected NameStandardizer createNameStandardizer()
+		throws IOException
+	{
+		NameStandardizerFactory factory	= new NameStandardizerFactory();
+
+		NameStandardizer nameStandardizer	=
+			( settings.nameStandardizerClassName == null ) ?
+				factory.newNameStandardizer() :
+				factory.newNameStandardizer(
+					settings.nameStandardizerClassName );
+
+		if	( nameStandardizer != null )
+		{
+								//	Load names from word lexicon
+								//	into standardizer.
+
+			long startTime	= System.currentTimeMillis();
+
+			nameStandardizer.loadNamesFromLexicon( wordLexicon );
+
+			println
+			(
+				"Loaded_names" ,
+				new Object[]
+				{
+					Formatters.formatIntegerWithCommas
+					(
+						nameStandardizer.getNumberOfNames()
+					) ,
+					MorphAdorner.durationString( startTime )
+				}
+			);
+								//	Set logger into standardizer.
+
+			if ( nameStandardizer instanceof UsesLogger )
+			{
+				((UsesLogger)nameStandardizer).setLogger( logger );
+			}
+		}
+
+		return nameStandardizer;
+	}
+
+	/**	Create lemmatizer.
+	 *
+	 *	@return		The lemmatizer.
+	 */
+
+	protected Lemmatizer createLemmatizer()
+	{
+		LemmatizerFactory factory	= new LemmatizerFactory();
+
+		Lemmatizer lemmatizer	=
+			( settings.lemmatizerClassName == null ) ?
+				factory.newLemmatizer() :
+				factory.newLemmatizer( settings.lemmatizerClassName );
+
+								//	Get lemma separator.
+
+		lemmaSeparator	= lemmatizer.getLemmaSeparator();
+
+								//	Set lexicon for lemmatizer.
+
+		lemmatizer.setLexicon( wordLexicon );
+
+								//	Set standard word list for lemmatizer.
+
+		if ( spellingStandardizer != null )
+		{
+			lemmatizer.setDictionary
+			(
+				spellingStandardizer.getStandardSpellings()
+			);
+		}
+								//	Set logger into lemmatizer.
+
+		((UsesLogger)lemmatizer).setLogger( logger );
+
+		return lemmatizer;
+	}
+
+	/**	Check if a lexicon can be replaced by an empty compact lexicon.
+	 *
+	 *	@param	lexicon		The lexicon.
+	 *
+	 *	@return				true if the lexicon has no entries and
+	 *						reads lexicon files in the standard format.
+	 */
+
+	protected static boolean isEmptyLexicon( Lexicon lexicon )
+	{
+		return
+			( lexicon instanceof AbstractLexicon ) &&
+			( lexicon.getLexiconSize() == 0 );
+	}
+
+	/**	Create a new lexicon of the configured class.
+	 *
+	 *	@return		The lexicon.
+	 */
+
+	protected Lexicon newLexicon()
+	{
+		LexiconFactory factory	= new LexiconFactory();
+
+		return
+			( settings.lexiconClassName == null ) ?
+				factory.newLexicon() :
+				factory.newLexicon( settings.lexiconClassName );
+	}
+
+	/**	Create a new part of speech tagger of the configured class.
+	 *
+	 *	@return		The part of speech tagger.
+	 */
+
+	protected PartOfSpeechTagger newPartOfSpeechTagger()
+	{
+		PartOfSpeechTaggerFactory factory	=
+			new PartOfSpeechTaggerFactory();
+
+		return
+			( settings.taggerClassName == null ) ?
+				factory.newPartOfSpeechTagger() :
+				factory.newPartOfSpeechTagger( settings.taggerClassName );
+	}
+
+	/**	Create a new part of speech retagger of the configured class.
+	 *
+	 *	@return		The part of speech retagger.
+	 */
+
+	protected PartOfSpeechRetagger newPartOfSpeechRetagger()
+	{
+		PartOfSpeechRetaggerFactory factory	=
+			new PartOfSpeechRetaggerFactory();
+
+		return
+			( settings.retaggerClassName == null ) ?
+				factory.newPartOfSpeechRetagger() :
+				factory.newPartOfSpeechRetagger(
+					settings.retaggerClassName );
+	}
+
+	/**	Create a new part of speech guesser of the configured class.
+	 *
+	 *	@return		The part of speech guesser.
+	 */
+
+	protected PartOfSpeechGuesser newPartOfSpeechGuesser()
+	{
+		PartOfSpeechGuesserFactory factory	=
+			new PartOfSpeechGuesserFactory();
+
+		return
+			( settings.guesserClassName == null ) ?
+				factory.newPartOfSpeechGuesser() :
+				factory.newPartOfSpeechGuesser( settings.guesserClassName );
+	}
+
+	/**	Create a new sentence splitter of the configured class.
+	 *
+	 *	@return		The sentence splitter.
+	 */
+
+	protected SentenceSplitter newSentenceSplitter()
+	{
+		SentenceSplitterFactory factory	= new SentenceSplitterFactory();
+
+		return
+			( settings.sentenceSplitterClassName == null ) ?
+				factory.newSentenceSplitter() :
+				factory.newSentenceSplitter(
+					settings.sentenceSplitterClassName );
+	}
+
+	/**	Create a new word tokenizer of the configured class.
+	 *
+	 *	@return		The word tokenizer.
+	 */
+
+	protected WordTokenizer newWordTokenizer()
+	{
+		WordTokenizerFactory factory	= new WordTokenizerFactory();
+
+		return
+			( settings.wordTokenizerClassName == null ) ?
+				factory.newWordTokenizer() :
+				factory.newWordTokenizer( settings.wordTokenizerClassName );
+	}
+
+	/**	Get adornment components for the current thread.
+	 *
+	 *	@return		The components for the current thread,
+	 *				created on first use.
+	 *
+	 *	@throws	IllegalStateException	If the components cannot be
+	 *									created.
+	 */
+
+	public MorphAdornerWorker getWorker()
+	{
+		MorphAdornerWorker result	= workers.get();
+
+		if ( result == null )
+		{
+			try
+			{
+				result	= new MorphAdornerWorker( this , logger );
+			}
+			catch ( Exception e )
+			{
+				throw new IllegalStateException( e.toString() );
+			}
+
+			workers.set( result );
+		}
+
+		return result;
+	}
+
+	/**	Get part of speech tagger for the current thread.
+	 *
+	 *	@return		The part of speech tagger.
+	 */
+
+	public PartOfSpeechTagger getTagger()
+	{
+		return getWorker().getTagger();
+	}
+
+	/**	Get part of speech retagger for the current thread.
+	 *
+	 *	@return		The part of speech retagger.
+	 */
+
+	public PartOfSpeechRetagger getRetagger()
+	{
+		return getWorker().getRetagger();
+	}
+
+	/**	Get part of speech guesser for the current thread.
+	 *
+	 *	@return		The part of speech guesser.
+	 */
+
+	public PartOfSpeechGuesser getPartOfSpeechGuesser()
+	{
+		return getWorker().getPartOfSpeechGuesser();
+	}
+
+	/**	Get the engine settings.
+	 *
+	 *	@return		The engine settings.
+	 */
+
+	public AdornerEngineSettings getSettings()
+	{
+		return settings;
+	}
+
+	/**	Get the logger.
+	 *
+	 *	@return		The logger.
+	 */
+
+	public Logger getLogger()
+	{
+		return logger;
+	}
+
+	/**	Get part of speech tags.
+	 *
+	 *	@return		The part of speech tags.
+	 */
+
+	public PartOfSpeechTags getPartOfSpeechTags()
+	{
+		return partOfSpeechTags;
+	}
+
+	/**	Get word lexicon.
+	 *
+	 *	@return		The word lexicon.
+	 */
+
+	public Lexicon getWordLexicon()
+	{
+		return wordLexicon;
+	}
+
+	/**	Get suffix lexicon.
+	 *
+	 *	@return		The suffix lexicon.
+	 */
+
+	public Lexicon getSuffixLexicon()
+	{
+		return suffixLexicon;
+	}
+
+	/**	Get suffix lexicon compiled into a trie.
+	 *
+	 *	@return		The suffix trie.
+	 */
+
+	public SuffixLexiconTrie getSuffixLexiconTrie()
+	{
+		return suffixLexiconTrie;
+	}
+
+	/**	Get transition matrix.
+	 *
+	 *	@return		The transition matrix.  May be null.
+	 */
+
+	public TransitionMatrix getTransitionMatrix()
+	{
+		return transitionMatrix;
+	}
+
+	/**	Get context rules.
+	 *
+	 *	@return		The context rules.  May be null.
+	 */
+
+	public String[] getContextRules()
+	{
+		return contextRules;
+	}
+
+	/**	Get lexical rules.
+	 *
+	 *	@return		The lexical rules.  May be null.
+	 */
+
+	public String[] getLexicalRules()
+	{
+		return lexicalRules;
+	}
+
+	/**	Get auxiliary word lists.
+	 *
+	 *	@return		The auxiliary word lists.
+	 */
+
+	public List<TaggedStrings> getAuxiliaryWordLists()
+	{
+		return auxiliaryWordLists;
+	}
+
+	/**	Get spelling standardizer.
+	 *
+	 *	@return		The spelling standardizer.  May be null.
+	 *
+	 *	<p>
+	 *	Callers which use the standardizer directly should
+	 *	synchronize on it, since it may cache new mappings.
+	 *	</p>
+	 */
+
+	public SpellingStandardizer getSpellingStandardizer()
+	{
+		return spellingStandardizer;
+	}
+
+	/**	Get standardized spelling memo.
+	 *
+	 *	@return		The standardized spelling memo.  May be null.
+	 */
+
+	public StandardizedSpellingMemo getStandardizedSpellingMemo()
+	{
+		return standardizedSpellingMemo;
+	}
+
+	/**	Get guessed parts of speech cache shared by all threads.
+	 *
+	 *	@return		The shared cache.  Null if the cache is not
+	 *				shared or caching is disabled.
+	 */
+
+	public PartOfSpeechGuessCache getSharedGuessCache()
+	{
+		return sharedGuessCache;
+	}
+
+	/**	Get spelling mapper.
+	 *
+	 *	@return		The spelling mapper.  May be null.
+	 */
+
+	public SpellingMapper getSpellingMapper()
+	{
+		return spellingMapper;
+	}
+
+	/**	Get name standardizer.
+	 *
+	 *	@return		The name standardizer.  May be null.
+	 */
+
+	public NameStandardizer getNameStandardizer()
+	{
+		return nameStandardizer;
+	}
+
+	/**	Get lemmatizer.
+	 *
+	 *	@return		The lemmatizer.
+	 */
+
+	public Lemmatizer getLemmatizer()
+	{
+		return lemmatizer;
+	}
+
+	/**	Get lemma separator.
+	 *
+	 *	@return		The lemma separator.
+	 */
+
+	public String getLemmaSeparator()
+	{
+		return lemmaSeparator;
+	}
+
+	/**	Adorn text.
+	 *
+	 *	@param	text	The text to adorn.
+	 *
+	 *	@return			List of adorned sentences.  Each word has its
+	 *					spelling, part of speech, standard spelling
+	 *					and lemma set.
+	 *
+	 *	<p>
+	 *	May be called concurrently from several threads.
+	 *	</p>
+	 */
+
+	public List<List<AdornedWord>> adornText( String text )
+	{
+		MorphAdornerWorker worker	= getWorker();
+
+								//	Extract the sentences and
+								//	words in the sentences as
+								//	spans over the text.
+
+		List<List<String>> sentences	= ListFactory.createNewList();
+
+		sentences.addAll
+		(
+			worker.getSentenceSplitter().extractSentenceSpans
+			(
+				text ,
+				worker.getWordTokenizer()
+			)
+		);
+								//	Tag the sentences.
+
+		worker.getPartOfSpeechGuesser().setTryStandardSpellings(
+			settings.tryStandardSpellings );
+
+		List<List<AdornedWord>> result	=
+			worker.getTagger().tagSentences( sentences );
+
+		String undeterminedPosTag	= partOfSpeechTags.getUndeterminedTag();
+
+								//	Look up the standard spellings
+								//	together when the standardizer
+								//	can do so.
+
+		prefetchStandardizedSpellings( result );
+
+								//	Add standard spelling and lemma.
+
+		for ( int i = 0 ; i < result.size() ; i++ )
+		{
+			List<AdornedWord> sentence	= result.get( i );
+
+			for ( int j = 0 ; j < sentence.size() ; j++ )
+			{
+				AdornedWord adornedWord	= sentence.get( j );
+
+				String spelling			= adornedWord.getSpelling();
+				String partOfSpeechTag	= adornedWord.getPartsOfSpeech();
+
+				String standardizedSpelling	=
+					getStandardizedSpelling( spelling , partOfSpeechTag );
+
+				String lemma	=
+					getLemma( spelling , standardizedSpelling , partOfSpeechTag );
+
+								//	Rectify # of individual lemmata
+								//	with # of parts of speech for word.
+
+				if	(	partOfSpeechTags.countTags( partOfSpeechTag ) !=
+						lemmatizer.countLemmata( lemma )
+					)
+				{
+					partOfSpeechTag	= undeterminedPosTag;
+				}
+
+				if	(	partOfSpeechTag.equals( undeterminedPosTag ) ||
+					    ( lemma.length() == 0 )
+					)
+				{
+					lemma					= spelling.toLowerCase();
+					standardizedSpelling	= spelling;
+					partOfSpeechTag			= undeterminedPosTag;
+				}
+
+				adornedWord.setPartsOfSpeech( partOfSpeechTag );
+				adornedWord.setStandardSpelling( standardizedSpelling );
+				adornedWord.setLemmata( lemma );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get standardized spelling.
+	 *
+	 *	@param	correctedSpelling	The spelling.
+	 *	@param	partOfSpeech		The part of speech tag.
+	 *
+	 *	@return						Standardized spelling, mapped
+	 *								using the spelling mapper
+	 *								if there is one.
+	 */
+
+	public String getStandardizedSpelling
+	(
+		String correctedSpelling ,
+		String partOfSpeech
+	)
+	{
+		String result	=
+			getStandardizedSpelling
+			(
+				correctedSpelling ,
+				partOfSpeech ,
+				partOfSpeechTags ,
+				nameStandardizer ,
+				spellingStandardizer ,
+				standardizedSpellingMemo
+			);
+
+		if ( spellingMapper != null )
+		{
+			synchronized( spellingMapper )
+			{
+				result	= spellingMapper.mapSpelling( result );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get standardized spelling.
+	 *
+	 *	@param	correctedSpelling			The spelling.
+	 *	@param	partOfSpeech				The part of speech tag.
+	 *	@param	partOfSpeechTags			The part of speech tags.
+	 *	@param	nameStandardizer			The proper name standardizer.
+	 *										May be null.
+	 *	@param	spellingStandardizer		The spelling standardizer.
+	 *										May be null.
+	 *	@param	standardizedSpellingMemo	The standardized spelling
+	 *										memo.  May be null.
+	 *
+	 *	@return								Standardized spelling.
+	 *
+	 *	<p>
+	 *	Proper names are standardized by the name standardizer.
+	 *	Nouns with internal capitals, foreign words and numbers are
+	 *	not standardized, except that periods are removed from
+	 *	roman numerals.  Other spellings are standardized by the
+	 *	spelling standardizer for their major word class.  Shared by
+	 *	the command line adorner and the adornment servlets so that
+	 *	both produce the same standard spellings.
+	 *	</p>
+	 */
+
+	public static String getStandardizedSpelling
+	(
+		String correctedSpelling ,
+		String partOfSpeech ,
+		PartOfSpeechTags partOfSpeechTags ,
+		NameStandardizer nameStandardizer ,
+		SpellingStandardizer spellingStandardizer ,
+		StandardizedSpellingMemo standardizedSpellingMemo
+	)
+	{
+		String spelling	= correctedSpelling;
+		String result	= correctedSpelling;
+
+		if ( partOfSpeechTags.isProperNounTag( partOfSpeech ) )
+ 		{
+			if ( nameStandardizer != null )
+			{
+	 			result	= nameStandardizer.standardizeProperName( spelling );
+	 		}
+		}
+		else if (	partOfSpeechTags.isNounTag( partOfSpeech )  &&
+					CharUtils.hasInternalCaps( spelling ) )
+ 		{
+		}
+		else if ( partOfSpeechTags.isForeignWordTag( partOfSpeech ) )
+		{
+		}
+		else if ( partOfSpeechTags.isNumberTag( partOfSpeech ) )
+		{
+			if ( RomanNumeralUtils.isLooseRomanNumeral( result ) )
+			{
+				if ( result.charAt( 0 ) == '.' )
+				{
+					result	= result.substring( 1 );
+				}
+
+				if ( result.charAt( result.length() - 1 ) == '.' )
+				{
+					result	=
+						result.substring( 0 , result.length() - 1 );
+				}
+			}
+		}
+		else if ( spellingStandardizer != null )
+		{
+								//	The standardizer may cache new
+								//	mappings and is shared by all
+								//	threads.
+
+			String wordClass	=
+				partOfSpeechTags.getMajorWordClass( partOfSpeech );
+
+								//	Use the memoized standard spelling
+								//	if there is one.
+
+			String memoizedSpelling	=
+				( standardizedSpellingMemo == null ) ? null :
+					standardizedSpellingMemo.get( spelling , wordClass );
+
+			if ( memoizedSpelling != null )
+			{
+				result	= memoizedSpelling;
+			}
+			else
+			{
+								//	Only memoize standard spellings
+								//	the standardizer really answered.
+
+				boolean[] answered	= new boolean[ 1 ];
+
+				result	=
+					standardizeSpelling
+					(
+						spellingStandardizer ,
+						spelling ,
+						wordClass ,
+						answered
+					);
+
+				if ( ( standardizedSpellingMemo != null ) && answered[ 0 ] )
+				{
+					standardizedSpellingMemo.put(
+						spelling , wordClass , result );
+				}
+			}
+
+			if ( result.equalsIgnoreCase( spelling ) )
+			{
+				result	= spelling;
+			}
+		}
+
+		return result;
+	}
+
+	/**	Check if a spelling is standardized by the spelling standardizer.
+	 *
+	 *	@param	spelling			The spelling.
+	 *	@param	partOfSpeech		The part of speech tag.
+	 *	@param	partOfSpeechTags	The part of speech tags.
+	 *
+	 *	@return						True if {@link #getStandardizedSpelling(
+	 *								String,String,PartOfSpeechTags,
+	 *								NameStandardizer,SpellingStandardizer,
+	 *								StandardizedSpellingMemo)}
+	 *								passes the spelling to the
+	 *								spelling standardizer.
+	 */
+
+	protected static boolean isStandardizedBySpellingStandardizer
+	(
+		String spelling ,
+		String partOfSpeech ,
+		PartOfSpeechTags partOfSpeechTags
+	)
+	{
+		return
+			!partOfSpeechTags.isProperNounTag( partOfSpeech ) &&
+			!(	partOfSpeechTags.isNounTag( partOfSpeech ) &&
+				CharUtils.hasInternalCaps( spelling ) ) &&
+			!partOfSpeechTags.isForeignWordTag( partOfSpeech ) &&
+			!partOfSpeechTags.isNumberTag( partOfSpeech );
+	}
+
+	/**	Standardize a spelling using a shared spelling standardizer.
+	 *
+	 *	@param	spellingStandardizer	The spelling standardizer.
+	 *	@param	spelling				The spelling.
+	 *	@param	wordClass				The major word class.
+	 *
+	 *	@return							The standardized spelling.
+	 *
+	 *	<p>
+	 *	Most standardizers cache new mappings, so calls are synchronized
+	 *	on the standardizer.  A {@link RemoteSpellingStandardizer} is
+	 *	called without synchronization so that spellings requested by
+	 *	several threads at once are sent to the server together.
+	 *	</p>
+	 */
+
+	public static String standardizeSpelling
+	(
+		SpellingStandardizer spellingStandardizer ,
+		String spelling ,
+		String wordClass
+	)
+	{
+		return
+			standardizeSpelling
+			(
+				spellingStandardizer ,
+				spelling ,
+				wordClass ,
+				null
+			);
+	}
+
+	/**	Standardize a spelling using a shared spelling standardizer.
+	 *
+	 *	@param	spellingStandardizer	The spelling standardizer.
+	 *	@param	spelling				The spelling.
+	 *	@param	wordClass				The major word class.
+	 *	@param	answered				One element array set to true
+	 *									if the standardizer answered
+	 *									the standard spelling.  Only
+	 *									a {@link RemoteSpellingStandardizer}
+	 *									which cannot reach its server
+	 *									sets false.  May be null.
+	 *
+	 *	@return							The standardized spelling.
+	 */
+
+	public static String standardizeSpelling
+	(
+		SpellingStandardizer spellingStandardizer ,
+		String spelling ,
+		String wordClass ,
+		boolean[] answered
+	)
+	{
+		String result;
+
+		if ( spellingStandardizer instanceof RemoteSpellingStandardizer )
+		{
+			result	=
+				((RemoteSpellingStandardizer)spellingStandardizer).standardizeSpelling
+				(
+					spelling ,
+					wordClass ,
+					answered
+				);
+		}
+		else
+		{
+			synchronized( spellingStandardizer )
+			{
+				result	=
+					spellingStandardizer.standardizeSpelling
+					(
+						spelling ,
+						wordClass
+					);
+			}
+
+			if ( answered != null )
+			{
+				answered[ 0 ]	= true;
+			}
+		}
+
+		return result;
+	}
+
+	/**	Look up the standard spellings for tagged sentences together.
+	 *
+	 *	@param	sentences	The tagged sentences.
+	 *
+	 *	<p>
+	 *	See {@link #prefetchStandardizedSpellings(List,PartOfSpeechTags,
+	 *	SpellingStandardizer,StandardizedSpellingMemo)}.
+	 *	</p>
+	 */
+
+	public void prefetchStandardizedSpellings
+	(
+		List<? extends List<? extends AdornedWord>> sentences
+	)
+	{
+		prefetchStandardizedSpellings
+		(
+			sentences ,
+			partOfSpeechTags ,
+			spellingStandardizer ,
+			standardizedSpellingMemo
+		);
+	}
+
+	/**	Look up the standard spellings for tagged sentences together.
+	 *
+	 *	@param	sentences					The tagged sentences.
+	 *	@param	partOfSpeechTags			The part of speech tags.
+	 *	@param	spellingStandardizer		The spelling standardizer.
+	 *										May be null.
+	 *	@param	standardizedSpellingMemo	The standardized spelling
+	 *										memo.  May be null.
+	 *
+	 *	<p>
+	 *	When the spelling standardizer is a
+	 *	{@link RemoteSpellingStandardizer}, the distinct spelling and
+	 *	word class pairs in the sentences which are not already
+	 *	memoized are standardized with one call to
+	 *	{@link RemoteSpellingStandardizer#standardizeSpellings(
+	 *	String[],String[])}, which sends them to the server in batches.
+	 *	The results answered by the server are added to the memo and
+	 *	to the remote standardizer's cache, so the following calls to
+	 *	{@link #getStandardizedSpelling(String,String,PartOfSpeechTags,
+	 *	NameStandardizer,SpellingStandardizer,StandardizedSpellingMemo)}
+	 *	for the words do not call the server.  Input spellings returned
+	 *	because the server could not answer are not memoized, so those
+	 *	words are tried again later.
+	 *	Does nothing for other standardizers.
+	 *	</p>
+	 */
+
+	public static void prefetchStandardizedSpellings
+	(
+		List<? extends List<? extends AdornedWord>> sentences ,
+		PartOfSpeechTags partOfSpeechTags ,
+		SpellingStandardizer spellingStandardizer ,
+		StandardizedSpellingMemo standardizedSpellingMemo
+	)
+	{
+		if ( !( spellingStandardizer instanceof RemoteSpellingStandardizer ) )
+		{
+			return;
+		}
+
+		RemoteSpellingStandardizer remoteStandardizer	=
+			(RemoteSpellingStandardizer)spellingStandardizer;
+
+								//	The results must be kept somewhere.
+
+		if	(	( standardizedSpellingMemo == null ) &&
+				!remoteStandardizer.isCaching()
+			)
+		{
+			return;
+		}
+								//	Collect the distinct spelling and
+								//	word class pairs not yet memoized.
+
+		Map<String, String[]> pairs	=
+			new LinkedHashMap<String, String[]>();
+
+		for ( int i = 0 ; i < sentences.size() ; i++ )
+		{
+			List<? extends AdornedWord> sentence	= sentences.get( i );
+
+			for ( int j = 0 ; j < sentence.size() ; j++ )
+			{
+				AdornedWord adornedWord	= sentence.get( j );
+
+				String spelling			= adornedWord.getSpelling();
+				String partOfSpeech		= adornedWord.getPartsOfSpeech();
+
+				if	(	!isStandardizedBySpellingStandardizer
+						(
+							spelling ,
+							partOfSpeech ,
+							partOfSpeechTags
+						)
+					)
+				{
+					continue;
+				}
+
+				String wordClass	=
+					partOfSpeechTags.getMajorWordClass( partOfSpeech );
+
+				if	(	( standardizedSpellingMemo != null ) &&
+						( standardizedSpellingMemo.get(
+							spelling , wordClass ) != null )
+					)
+				{
+					continue;
+				}
+
+				pairs.put
+				(
+					spelling + '\t' + wordClass ,
+					new String[]{ spelling , wordClass }
+				);
+			}
+		}
+
+		if ( pairs.size() == 0 )
+		{
+			return;
+		}
+								//	Standardize the pairs together.
+
+		String[] spellings		= new String[ pairs.size() ];
+		String[] wordClasses	= new String[ pairs.size() ];
+
+		int k	= 0;
+
+		for ( String[] pair : pairs.values() )
+		{
+			spellings[ k ]		= pair[ 0 ];
+			wordClasses[ k ]	= pair[ 1 ];
+
+			k++;
+		}
+
+		boolean[] answered	= new boolean[ spellings.length ];
+
+		String[] standardSpellings	=
+			remoteStandardizer.standardizeSpellings
+			(
+				spellings ,
+				wordClasses ,
+				answered
+			);
+
+		if ( standardizedSpellingMemo != null )
+		{
+			for ( int i = 0 ; i < spellings.length ; i++ )
+			{
+				if ( !answered[ i ] )
+				{
+					continue;
+				}
+
+				standardizedSpellingMemo.put
+				(
+					spellings[ i ] ,
+					wordClasses[ i ] ,
+					standardSpellings[ i ]
+				);
+			}
+		}
+	}
+
+	/**	Get lemma for a spelling.
+	 *
+	 *	@param	correctedSpelling		The spelling.
+	 *	@param	standardizedSpelling	The standardized spelling.
+	 *	@param	partOfSpeech			The part of speech tag.
+	 *
+	 *	@return							Lemma for spelling.  May be a
+	 *									compound lemma.
+	 *
+	 *	<p>
+	 *	The lemma is taken from the word lexicon unless lexicon lemmata
+	 *	are ignored.  Otherwise the lemmatizer is applied to the
+	 *	standardized spelling, or to the spelling when the standardized
+	 *	spelling is empty.  Lemmata other than compound lemmata and
+	 *	lemmata of proper nouns are forced to lower case.
+	 *	</p>
+	 */
+
+	public String getLemma
+	(
+		String correctedSpelling ,
+		String standardizedSpelling ,
+		String partOfSpeech
+	)
+	{
+		String lemma	= "*";
+
+								//	Try lexicon first unless we're ignoring
+								//	lemma entries in the lexicon.
+
+		if ( !settings.ignoreLexiconEntriesForLemmatization )
+		{
+			lemma	= wordLexicon.getLemma( correctedSpelling , partOfSpeech );
+		}
+								//	Lemma not found in word lexicon.
+								//	Use lemmatizer.
+
+		if	( lemma.equals( "*" ) )
+		{
+			lemma	=
+				getLemma
+				(
+					( standardizedSpelling.length() > 0 ) ?
+						standardizedSpelling : correctedSpelling ,
+					partOfSpeech
+				);
+		}
+								//	Force lemma to lowercase except
+								//	for proper noun tagged word.
+
+		if ( lemma.indexOf( lemmaSeparator ) < 0 )
+		{
+			if ( !partOfSpeechTags.isProperNounTag( partOfSpeech ) )
+			{
+				lemma	= lemma.toLowerCase();
+			}
+		}
+
+		return lemma;
+	}
+
+	/**	Get lemma (possibly compound) for a spelling using the lemmatizer.
+	 *
+	 *	@param	spelling		The spelling.
+	 *	@param	partOfSpeech	The part of speech tag.
+	 *
+	 *	@return					Lemma for spelling.  May contain
+	 *							compound spelling in form
+	 *							"lemma1|lemma2|...".
+	 */
+
+	public String getLemma
+	(
+		String spelling ,
+		String partOfSpeech
+	)
+	{
+		String result	= spelling;
+
+								//	Get lemmatization word class
+								//	for part of speech.
+		String lemmaClass	=
+			partOfSpeechTags.getLemmaWordClass( partOfSpeech );
+
+								//	Do not lemmatize words which
+								//	should not be lemmatized,
+								//	including proper names.
+
+		if	(	lemmatizer.cantLemmatize( spelling ) ||
+				lemmaClass.equals( "none" )
+			)
+		{
+			if ( partOfSpeechTags.isNumberTag( partOfSpeech ) )
+			{
+				if ( RomanNumeralUtils.isLooseRomanNumeral( result ) )
+				{
+					if ( result.charAt( 0 ) == '.' )
+					{
+						result	= result.substring( 1 );
+					}
+
+					if ( result.charAt( result.length() - 1 ) == '.' )
+					{
+						result	=
+							result.substring( 0 , result.length() - 1 );
+					}
+				}
+			}
+		}
+		else
+		{
+								//	If compound part of speech tag,
+								//	see if word appears in list of
+								//	known irregular lemmata.
+
+			boolean isCompoundTag	=
+				partOfSpeechTags.isCompoundTag( partOfSpeech );
+
+			if ( isCompoundTag )
+			{
+				result	= lemmatizer.lemmatize( spelling , "compound" );
+
+				if ( lemmatizer.isCompoundLemma( result ) )
+				{
+					return result;
+				}
+			}
+								//	Extract individual word parts.
+								//	May be more than one for a
+								//	contraction.
+
+			List<String> wordList	=
+				getWorker().getSpellingTokenizer().extractWords( spelling );
+
+								//	If just one word part,
+								//	get its lemma.
+
+			if ( !isCompoundTag || ( wordList.size() == 1 ) )
+			{
+				if ( lemmaClass.length() == 0 )
+				{
+					result	=
+						lemmatizer.lemmatize( spelling , "compound" );
+
+					if ( result.equals( spelling ) )
+					{
+						result	= lemmatizer.lemmatize( spelling );
+					}
+				}
+				else
+				{
+					result	=
+						lemmatizer.lemmatize( spelling , lemmaClass );
+				}
+			}
+								//	More than one word part.
+								//	Get lemma for each part and
+								//	concatenate them with the
+								//	lemma separator to form a
+								//	compound lemma.
+			else
+			{
+				result				= "";
+				String lemmaPiece	= "";
+				String[] posTags	=
+					partOfSpeechTags.splitTag( partOfSpeech );
+
+				if ( posTags.length == wordList.size() )
+				{
+					for ( int i = 0 ; i < wordList.size() ; i++ )
+					{
+						String wordPiece	= wordList.get( i );
+
+						if ( i > 0 )
+						{
+							result	= result + lemmaSeparator;
+						}
+
+						lemmaClass	=
+							partOfSpeechTags.getLemmaWordClass
+							(
+								posTags[ i ]
+							);
+
+						lemmaPiece	=
+							lemmatizer.lemmatize
+							(
+								wordPiece ,
+								lemmaClass
+							);
+
+						result	= result + lemmaPiece;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+}
+
@@ -0,0 +1,509 @@
+package edu.northwestern.at.morphadorner;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	Settings for an {@link AdornerEngine}.
+ *
+ *	<p>
+ *	Holds the model data locations, options and component class names
+ *	for one adornment configuration.  Unlike {@link MorphAdornerSettings},
+ *	whose fields are static, each engine gets its own settings object,
+ *	so that several configurations (e.g., NCF and EME) may be loaded
+ *	in the same program.
+ *	</p>
+ *
+ *	<p>
+ *	Settings may be copied from the current MorphAdorner settings with
+ *	{@link #fromMorphAdornerSettings}, or read from a properties file
+ *	with the same keys as the MorphAdorner properties files using
+ *	{@link #fromProperties}.  All the fields are public.
+ *	</p>
+ */
+
+public class AdornerEngineSettings
+{
+	/**	Word lexicon URL. */
+
+	public URL wordLexiconURL						= null;
+
+	/**	Suffix lexicon URL. */
+
+	public URL suffixLexiconURL						= null;
+
+	/**	Context rules URL. */
+
+	public URL contextRulesURL						= null;
+
+	/**	Lexical rules URL. */
+
+	public URL lexicalRulesURL						= null;
+
+	/**	Standard spellings URL. */
+
+	public URL spellingsURL							= null;
+
+	/**	Alternate spellings URLs. */
+
+	public URL[] alternateSpellingsURLs				= null;
+
+	/**	Alternate spellings by word class URLs. */
+
+	public URL[] alternateSpellingsByWordClassURLs	= null;
+
+	/**	Transition matrix URL. */
+
+	public URL transitionMatrixURL					= null;
+
+	/**	Extra abbreviations URL.  Empty if none. */
+
+	public String abbreviationsURL					= "";
+
+	/**	Use Latin word list. */
+
+	public boolean useLatinWordList					= true;
+
+	/**	Check possessives when guessing parts of speech. */
+
+	public boolean checkPossessives					= false;
+
+	/**	Try standard spellings when guessing parts of speech. */
+
+	public boolean tryStandardSpellings				= true;
+
+	/**	Share one guessed parts of speech cache among the threads. */
+
+	public boolean shareGuesserCache				= false;
+
+	/**	Ignore lemma in lexicon when lemmatizing. */
+
+	public boolean ignoreLexiconEntriesForLemmatization	= false;
+
+	/**	Store the word and suffix lexicons in compact, read-only form. */
+
+	public boolean compactLexicons					= false;
+
+	/**	Standardized spelling memo file name.  Empty if none. */
+
+	public String standardizedSpellingMemoFileName	= "";
+
+	/**	Part of speech tags class name.  Null for default. */
+
+	public String partOfSpeechTagsClassName			= null;
+
+	/**	Lexicon class name.  Null for default. */
+
+	public String lexiconClassName					= null;
+
+	/**	Part of speech tagger class name.  Null for default. */
+
+	public String taggerClassName					= null;
+
+	/**	Part of speech retagger class name.  Null for default. */
+
+	public String retaggerClassName					= null;
+
+	/**	Part of speech guesser class name.  Null for default. */
+
+	public String guesserClassName					= null;
+
+	/**	Spelling standardizer class name.  Null for default. */
+
+	public String spellingStandardizerClassName		= null;
+
+	/**	Spelling mapper class name.  Null for default. */
+
+	public String spellingMapperClassName			= null;
+
+	/**	Name standardizer class name.  Null for default. */
+
+	public String nameStandardizerClassName			= null;
+
+	/**	Lemmatizer class name.  Null for default. */
+
+	public String lemmatizerClassName				= null;
+
+	/**	Sentence splitter class name.  Null for default. */
+
+	public String sentenceSplitterClassName			= null;
+
+	/**	Word tokenizer class name.  Null for default. */
+
+	public String wordTokenizerClassName			= null;
+
+	/**	Create empty adorner engine settings.
+	 */
+
+	public AdornerEngineSettings()
+	{
+	}
+
+	/**	Create adorner engine settings from the MorphAdorner settings.
+	 *
+	 *	@return		Engine settings copied from the current
+	 *				{@link MorphAdornerSettings} and the component
+	 *				class names in the system properties.
+	 */
+
+	public static AdornerEngineSettings fromMorphAdornerSettings()
+	{
+		AdornerEngineSettings result	= new AdornerEngineSettings();
+
+		result.wordLexiconURL		= MorphAdornerSettings.wordLexiconURL;
+		result.suffixLexiconURL		= MorphAdornerSettings.suffixLexiconURL;
+		result.contextRulesURL		= MorphAdornerSettings.contextRulesURL;
+		result.lexicalRulesURL		= MorphAdornerSettings.lexicalRulesURL;
+		result.spellingsURL			= MorphAdornerSettings.spellingsURL;
+		result.transitionMatrixURL	=
+			MorphAdornerSettings.transitionMatrixURL;
+
+		result.alternateSpellingsURLs	=
+			MorphAdornerSettings.alternateSpellingsURLs;
+
+		result.alternateSpellingsByWordClassURLs	=
+			MorphAdornerSettings.alternateSpellingsByWordClassURLs;
+
+		result.abbreviationsURL		= MorphAdornerSettings.abbreviationsURL;
+		result.useLatinWordList		= MorphAdornerSettings.useLatinWordList;
+
+		result.checkPossessives		=
+			MorphAdornerSettings.getBooleanProperty(
+				"partofspeechguesser.check_possessives" , false );
+
+		result.tryStandardSpellings	=
+			MorphAdornerSettings.tryStandardSpellings;
+
+		result.shareGuesserCache	=
+			MorphAdornerSettings.getBooleanProperty(
+				"partofspeechguesser.sharecache" , false );
+
+		result.ignoreLexiconEntriesForLemmatization	=
+			MorphAdornerSettings.ignoreLexiconEntriesForLemmatization;
+
+		result.compactLexicons		=
+			MorphAdornerSettings.getBooleanProperty(
+				"lexicon.compact" , false );
+
+		result.standardizedSpellingMemoFileName	=
+			System.getProperty(
+				"standardizedspellingmemo.file" , "" ).trim();
+
+		result.getClassNames( System.getProperties() );
+
+		return result;
+	}
+
+	/**	Create adorner engine settings from properties.
+	 *
+	 *	@param	properties	The properties, using the same keys as
+	 *						the MorphAdorner properties files.
+	 *						Relative file names are resolved against
+	 *						the current directory.
+	 *
+	 *	@return				The engine settings.
+	 *
+	 *	@throws	MalformedURLException	If a file name cannot be
+	 *									converted to a URL.
+	 *
+	 *	<p>
+	 *	The spelling pairs properties may contain more than one
+	 *	file name separated by commas.
+	 *	</p>
+	 */
+
+	public static AdornerEngineSettings fromProperties
+	(
+		Properties properties
+	)
+		throws MalformedURLException
+	{
+		AdornerEngineSettings result	= new AdornerEngineSettings();
+
+		result.wordLexiconURL		=
+			getURL( properties , "lexicon.word_lexicon" );
+
+		result.suffixLexiconURL		=
+			getURL( properties , "lexicon.suffix_lexicon" );
+
+		result.contextRulesURL		=
+			getURL( properties , "partofspeechtagger.context_rules" );
+
+		result.lexicalRulesURL		=
+			getURL( properties , "partofspeechtagger.lexical_rules" );
+
+		result.spellingsURL			=
+			getURL( properties , "spelling.standard_spellings" );
+
+		result.transitionMatrixURL	=
+			getURL( properties , "partofspeechtagger.transition_matrix" );
+
+		result.alternateSpellingsURLs	=
+			getURLs( properties , "spelling.spelling_pairs" );
+
+		result.alternateSpellingsByWordClassURLs	=
+			getURLs( properties , "spelling.spelling_pairs_by_word_class" );
+
+		result.abbreviationsURL	=
+			properties.getProperty(
+				"abbreviations.abbreviations_url" , "" ).trim();
+
+		result.useLatinWordList	=
+			getBoolean(
+				properties ,
+				"wordlists.use_latin_word_list" ,
+				result.useLatinWordList );
+
+		result.checkPossessives	=
+			getBoolean(
+				properties ,
+				"partofspeechguesser.check_possessives" ,
+				result.checkPossessives );
+
+		result.tryStandardSpellings	=
+			getBoolean(
+				properties ,
+				"partofspeechguesser.try_standard_spellings" ,
+				result.tryStandardSpellings );
+
+		result.shareGuesserCache	=
+			getBoolean(
+				properties ,
+				"partofspeechguesser.sharecache" ,
+				result.shareGuesserCache );
+
+		result.ignoreLexiconEntriesForLemmatization	=
+			getBoolean(
+				properties ,
+				"adorner.lemmatization.ignorelexiconentries" ,
+				result.ignoreLexiconEntriesForLemmatization );
+
+		result.compactLexicons	=
+			getBoolean(
+				properties ,
+				"lexicon.compact" ,
+				result.compactLexicons );
+
+		result.standardizedSpellingMemoFileName	=
+			properties.getProperty(
+				"standardizedspellingmemo.file" , "" ).trim();
+
+		result.getClassNames( properties );
+
+		return result;
+	}
+
+	/**	Create adorner engine settings from a properties file.
+	 *
+	 *	@param	propertiesFileName	The properties file name or URL.
+	 *
+	 *	@return						The engine settings.
+	 *
+	 *	@throws	IOException			If the properties cannot be read.
+	 */
+
+	public static AdornerEngineSettings fromPropertiesFile
+	(
+		String propertiesFileName
+	)
+		throws IOException
+	{
+		return fromProperties
+		(
+			UTF8PropertyUtils.loadUTF8Properties
+			(
+				URLUtils.getURLFromFileNameOrURL( propertiesFileName )
+			)
+		);
+	}
+
+	/**	Get component class names from properties.
+	 *
+	 *	@param	properties	The properties.
+	 */
+
+	protected void getClassNames( Properties properties )
+	{
+		partOfSpeechTagsClassName		=
+			properties.getProperty( "partofspeechtags.class" );
+
+		lexiconClassName				=
+			properties.getProperty( "lexicon.class" );
+
+		taggerClassName					=
+			properties.getProperty( "partofspeechtagger.class" );
+
+		retaggerClassName				=
+			properties.getProperty( "partofspeechretagger.class" );
+
+		guesserClassName				=
+			properties.getProperty( "partofspeechguesser.class" );
+
+		spellingStandardizerClassName	=
+			properties.getProperty( "spellingstandardizer.class" );
+
+		spellingMapperClassName			=
+			properties.getProperty( "spellingmapper.class" );
+
+		nameStandardizerClassName		=
+			properties.getProperty( "namestandardizer.class" );
+
+		lemmatizerClassName				=
+			properties.getProperty( "lemmatizer.class" );
+
+		sentenceSplitterClassName		=
+			properties.getProperty( "sentencesplitter.class" );
+
+		wordTokenizerClassName			=
+			properties.getProperty( "wordtokenizer.class" );
+	}
+
+	/**	Get URL for a file name property.
+	 *
+	 *	@param	properties		The properties.
+	 *	@param	propertyName	The property name.
+	 *
+	 *	@return					URL for file, or null if property
+	 *							missing or empty.
+	 *
+	 *	@throws	MalformedURLException
+	 */
+
+	protected static URL getURL
+	(
+		Properties properties ,
+		String propertyName
+	)
+		throws MalformedURLException
+	{
+		URL result	= null;
+
+		String fileName	= properties.getProperty( propertyName );
+
+		if ( ( fileName != null ) && ( fileName.trim().length() > 0 ) )
+		{
+			result	= new File( fileName.trim() ).toURI().toURL();
+		}
+
+		return result;
+	}
+
+	/**	Get URLs for a comma-separated file names property.
+	 *
+	 *	@param	properties		The properties.
+	 *	@param	propertyName	The property name.
+	 *
+	 *	@return					URLs for files, or null if property
+	 *							missing or empty.
+	 *
+	 *	@throws	MalformedURLException
+	 */
+
+	protected static URL[] getURLs
+	(
+		Properties properties ,
+		String propertyName
+	)
+		throws MalformedURLException
+	{
+		URL[] result	= null;
+
+		String fileNames	= properties.getProperty( propertyName );
+
+		if ( ( fileNames != null ) && ( fileNames.trim().length() > 0 ) )
+		{
+			String[] names	= fileNames.split( "," );
+
+			result	= new URL[ names.length ];
+
+			for ( int i = 0 ; i < names.length ; i++ )
+			{
+				result[ i ]	= new File( names[ i ].trim() ).toURI().toURL();
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get boolean property.
+	 *
+	 *	@param	properties		The properties.
+	 *	@param	propertyName	The property name.
+	 *	@param	defaultValue	Default value if property not found.
+	 *
+	 *	@return					The property value.
+	 */
+
+	protected static boolean getBoolean
+	(
+		Properties properties ,
+		String propertyName ,
+		boolean defaultValue
+	)
+	{
+		boolean result	= defaultValue;
+
+		String s		=
+			MorphAdornerSettings.stripQuotes(
+				properties.getProperty( propertyName ) );
+
+		if ( s != null )
+		{
+			result	=
+				s.equalsIgnoreCase( "1" ) ||
+				s.equalsIgnoreCase( "true" ) ||
+				s.equalsIgnoreCase( "yes" ) ||
+				s.equalsIgnoreCase( "y" );
+		}
+
+		return result;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -21,11 +21,6 @@ import edu.northwestern.at.utils.xml.*;
 public class DefaultMorphAdornerXMLWriter
 	implements MorphAdornerXMLWriter
 {
-	/**	Sorted list of word IDs and word and sentence number information. */
-
-	protected SortedArrayList<SentenceAndWordNumber> sortedWords	=
-		new SortedArrayList<SentenceAndWordNumber>();
-
 	/**	Output XML writer. */
 
 	protected XMLWriter writer;
@@ -62,6 +57,44 @@ public class DefaultMorphAdornerXMLWriter
 		int totalPageBreaks
 	)
 		throws IOException, SAXException
+	{
+		writeXML
+		(
+			new InputSource( inFile ) ,
+			outFile ,
+			maxID ,
+			posTags ,
+			splitWords ,
+			totalWords ,
+			totalPageBreaks
+		);
+	}
+
+	/**	Write XML output.
+	 *
+	 *	@param	input				The XML input source.
+	 *	@param	outFile				The XML output file.
+	 *	@param	maxID				The maximum ID value in the input.
+	 *	@param	posTags				The part of speech tags.
+	 *	@param	splitWords			The map of (word ID, # of word parts)
+	 *								for multipart words.
+	 *	@param	totalWords			Total words.
+	 *	@param	totalPageBreaks		Total page breaks.
+	 *
+	 *	@throws						IOException, SAXException
+	 */
+
+	public void writeXML
+	(
+		InputSource input ,
+		String outFile ,
+		int maxID ,
+		PartOfSpeechTags posTags ,
+		Map<Integer, Integer> splitWords ,
+		int totalWords ,
+		int totalPageBreaks
+	)
+		throws IOException, SAXException
 	{
 								//	Create XML reader.
 
@@ -86,52 +119,32 @@ public class DefaultMorphAdornerXMLWriter
 				posTags ,
 				outFile ,
 				maxID ,
-				sortedWords ,
 				splitWords ,
 				totalWords ,
 				totalPageBreaks
 			);
 								//	If we need to output word numbers,
 								//	sentence numbers, or sentence
-								//	boundary milestones, we write the
-								//	preliminary output to a
-								//	temporary file.  Otherwise we can
-								//	write the final output directly.
-		boolean twoStep	=
-			MorphAdornerSettings.outputSentenceBoundaryMilestones ||
-			MorphAdornerSettings.outputSentenceNumber ||
-			MorphAdornerSettings.outputWordNumber;
-
-								//	Create a temporary file to hold
-								//	the preliminary output if we
-								//	generating output in two steps.
-
-		String tempFileName	= "";
-
-		if ( twoStep )
-		{
-			File tempFile	= File.createTempFile( "mad" , null );
-
-			tempFile.deleteOnExit();
+								//	boundary milestones, add a filter
+								//	which adds them to the output.
 
-			tempFileName	= tempFile.getAbsolutePath();
+		XMLFilter outputFilter	= idFilter;
 
-			MorphAdornerLogger.println
-			(
-				"Using_two_step_output"
-			);
+		if	(	MorphAdornerSettings.outputSentenceBoundaryMilestones ||
+				MorphAdornerSettings.outputSentenceNumber ||
+				MorphAdornerSettings.outputWordNumber
+			)
+		{
+			outputFilter	= new SentenceNumberFilter( idFilter );
 		}
 								//	Create XML output writer.
 
-		OutputStreamWriter outputStreamWriter	=
+		Writer outputStreamWriter	=
 			new OutputStreamWriter
 			(
 				new BufferedOutputStream
 				(
-					new FileOutputStream
-					(
-						twoStep ? tempFileName : outFile
-					)
+					new FileOutputStream( outFile )
 				) ,
 				"utf-8"
 			);
@@ -139,7 +152,7 @@ public class DefaultMorphAdornerXMLWriter
 		writer	=
 			new IndentingXMLWriter
 			(
-				idFilter ,
+				outputFilter ,
 				outputStreamWriter
 			);
 								//	Indent XML by two characters for
@@ -165,18 +178,7 @@ public class DefaultMorphAdornerXMLWriter
 								//	the <w> attribute fields, and
 								//	writing the updated XML to a file.
 
-		long startTime	= System.currentTimeMillis();
-
-		writer.parse( inFile );
-
-		if ( twoStep )
-		{
-			MorphAdornerLogger.println
-			(
-				"First_output_step_completed" ,
-				MorphAdorner.durationString( startTime )
-			);
-		}
+		writer.parse( input );
 
 		try
 		{
@@ -185,86 +187,6 @@ public class DefaultMorphAdornerXMLWriter
 		catch ( Exception e )
 		{
 			e.printStackTrace();
-		}
-								//	Add word and sentence numbers,
-								//	and sentence milestones, in a
-								//	second pass.  The temporary
-								//	output file of the first pass
-								//	is processed using word and
-								//	sentence numbers generated here.
-		if ( twoStep )
-		{
-			startTime	= System.currentTimeMillis();
-
-			getWordAndSentenceNumbers();
-
-								//	Add word and sentence numbers
-								//	and sentence milestones.
-
-			new SentenceNumberAdder( tempFileName , outFile , sortedWords );
-
-								//	Delete the first step temporary
-								//	file.
-
-			FileUtils.deleteFile( tempFileName );
-
-			MorphAdornerLogger.println
-			(
-				"Second_output_step_completed" ,
-				MorphAdorner.durationString( startTime )
-			);
-		}
-	}
-
-	/**	Get word and sentence numbers.
-	 */
-
-	protected void getWordAndSentenceNumbers()
-	{
-								//	Initialize sentence and word numbers.
-
-		int sentenceNumber		= 0;
-		int wordNumber			= 0;
-		int runningWordNumber	= 0;
-
-								//	Loop over all sorted word IDs.
-
-		for ( int i = 0 ; i < sortedWords.size() ; i++ )
-		{
-								//	Get information for this word ID.
-
-			SentenceAndWordNumber swn	= sortedWords.get( i );
-
-								//	If the current sentence is empty,
-								//	we are starting a new sentence.
-
-			if ( swn.isFirstPart() )
-			{
-				if ( wordNumber == 0 )
-				{
-					sentenceNumber++;
-				}
-								//	Increment word number.
-				wordNumber++;
-				runningWordNumber++;
-			}
-								//	Save word and sentence number.
-
-			swn.setSentenceAndWordNumber
-			(
-				sentenceNumber ,
-				MorphAdornerSettings.outputRunningWordNumbers ?
-					runningWordNumber : wordNumber
-			);
-								//	If this word is the last word in the
-								//	sentence, set the word number to zero
-								//	so we will start a new sentence on
-								//	the next word.
-
-			if ( swn.getEOS() )
-			{
-				wordNumber	= 0;
-			}
 		}
 	}
 }
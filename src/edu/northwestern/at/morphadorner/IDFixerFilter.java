@@ -153,10 +153,6 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 	protected Set<String> pseudoPageContainerDivTypes	=
 		SetFactory.createNewSet();
 
-	/**	Sorted sentence and word number information. */
-
-	protected SortedArrayList<SentenceAndWordNumber> sortedWords;
-
 	/**	XML writer. */
 
 	protected XMLWriter writer;
@@ -197,7 +193,6 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 	 *	@param	posTags				The part of spech tags.
 	 *	@param	outFile				The output file name.
 	 *	@param	maxID				The maximum integer word ID.
-	 *	@param	sortedWords			Sentence and word numbers sorted by word ID.
 	 *	@param	splitWords			Split words.
 	 *	@param	totalWords			Total words.
 	 *	@param	totalPageBreaks		Total page breaks.
@@ -209,7 +204,6 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 		PartOfSpeechTags posTags ,
 		String outFile ,
 		int maxID ,
-		SortedArrayList<SentenceAndWordNumber> sortedWords ,
 		Map<Integer, Integer> splitWords ,
 		int totalWords ,
 		int totalPageBreaks
@@ -270,10 +264,6 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 		this.outputWhitespace	=
 			MorphAdornerSettings.outputWhitespaceElements;
 
-								//	Set sorted words.  Will be set here. */
-
-		this.sortedWords		= sortedWords;
-
 								//	Set split words.
 
 		setSplitWords( splitWords );
@@ -294,11 +284,6 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 		this.totalWordsToEmit	= totalWords;
 
 		elementURI		= null;
-
-								//	Create list to hold sentence and
-								//	word number information.
-		sortedWords			=
-			new SortedArrayList<SentenceAndWordNumber>();
 	}
 
 	/**	Handle start of an XML element.
@@ -883,25 +868,12 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 								//	pseudopage.
 
 		pseudoPageWordCount++;
-								//	Assume we don't have a word
-								//	with an eos set to "1" indicating
-								//	and end of sentence boundary.
-
-		boolean emitSentenceBoundary	= false;
-
 								//	Force end of sentence flag true
 								//	if requested.
 		if ( forceEOS )
 		{
 			setAttributeValue( atts , WordAttributeNames.eos , "1" );
 		}
-								//	See if this word is the end if
-								//	the sentence.
-
-		String eos	= atts.getValue( WordAttributeNames.eos );
-
-		emitSentenceBoundary	= ( eos != null ) && eos.equals( "1" );
-
 								//	If the word token is the same as
 								//	the word text, and we are
 								//	outputting abbreviated attributes,
@@ -932,7 +904,8 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 		}
 								//	Remove sentence number and
 								//	word number attributes.  These
-								//	are added back later if needed.
+								//	are added back by the
+								//	SentenceNumberFilter if needed.
 
 		removeAttribute( atts , WordAttributeNames.sn );
 		removeAttribute( atts , WordAttributeNames.wn );
@@ -970,28 +943,6 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 
 		super.endElement( uri , localName , qName );
 
-								//	Save word information for
-								//	generating word and sentence
-								//	numbers later.
-
-		String id	= atts.getValue( idAttrName );
-		String ord	= atts.getValue( WordAttributeNames.ord );
-
-		if ( ord == null )
-		{
-			ord	= "0";
-		}
-
-		sortedWords.add
-		(
-			new SentenceAndWordNumber
-			(
-				id ,
-				Integer.parseInt( ord ) ,
-				part ,
-				emitSentenceBoundary
-			)
-		);
 								//	Increment count of words emitted.
 		emittedWordCount++;
 
@@ -1451,9 +1402,23 @@ public class IDFixerFilter extends ExtendedXMLFilterImpl
 	{
 								//	Save writer.
 		this.writer	= writer;
-								//	Create XML sentence melder.
+	}
+
+	/**	Handle start of document.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	public void startDocument()
+		throws SAXException
+	{
+								//	Create XML sentence melder.  Whitespace
+								//	elements pass through any filters
+								//	between this one and the writer.
+
+		sentenceMelder	= new XMLSentenceMelder( getContentHandler() );
 
-		sentenceMelder	= new XMLSentenceMelder( writer );
+		super.startDocument();
 	}
 
 	/**	Get the foreign language tag for XML element.
@@ -7,6 +7,8 @@ import java.net.URL;
 import java.net.MalformedURLException;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.regex.*;
 
 import org.w3c.dom.*;
@@ -55,35 +57,12 @@ public class MorphAdorner
 
 	protected static int defaultKWICWidth		= 80;
 
-	/**	Latin words file. */
-
-	protected static String latinWordsFileName	=
-		"resources/latinwords.txt";
-
-	/**	Extra words file. */
-
-	protected static String extraWordsFileName	=
-		"resources/extrawords.txt";
-
-	/**	Extra words. */
-
-	protected static TaggedStrings extraWords	= null;
-
 	/**	Pattern to match _CapCap */
 
 	protected static Pattern underlineCapCapPattern			=
 		Pattern.compile(
 			"^_([ABCDEFGHIJKLMNOPQRSTUVWXYZ])([ABCDEFGHIJKLMNOPQRSTUVWXYZ])" );
 
-	protected static final Matcher underlineCapCapMatcher	=
-		underlineCapCapPattern.matcher( "" );
-
-	/**	Spelling tokenizer for lemmatization.
-	 */
-
-	protected static WordTokenizer spellingTokenizer	=
-		new PennTreebankTokenizer();
-
 	/**	Part of speech tags. */
 
 	protected static PartOfSpeechTags partOfSpeechTags;
@@ -144,9 +123,15 @@ public class MorphAdorner
 
 	protected static TextInputterFactory inputterFactory;
 
-	/**	Proper names. */
+	/**	Number of sentences tagged together when streaming plain text. */
+
+	protected static final int STREAM_BATCH_SIZE	= 50;
+
+	/**	Maximum number of tagged sentence batches waiting for output
+	 *	when streaming plain text.
+	 */
 
-	protected static Names names	= new Names();
+	protected static final int STREAM_QUEUE_SIZE	= 8;
 
 	/**	Part of speech tag separator. */
 
@@ -160,6 +145,76 @@ public class MorphAdorner
 
 	protected static Runtime runTime	= Runtime.getRuntime();
 
+	/**	Adornment engine holding the shared model data. */
+
+	protected static AdornerEngine engine;
+
+	/**	Buffered logger for each thread of the multithreaded
+	 *	adornment driver.
+	 */
+
+	protected static ThreadLocal<BufferedLogger> threadLogger	=
+		new ThreadLocal<BufferedLogger>();
+
+	/**	Total number of words adorned in all input files. */
+
+	protected static AtomicLong wordsAdorned	= new AtomicLong( 0 );
+
+	/**	Number of input files which could not be adorned. */
+
+	protected static AtomicInteger filesFailed	= new AtomicInteger( 0 );
+
+	/**	Executor which tags the text segments of XML files.
+	 *
+	 *	<p>
+	 *	Shared by all the input files so each segment thread
+	 *	keeps its adornment components from file to file.
+	 *	Null until first needed.
+	 *	</p>
+	 */
+
+	protected static ExecutorService segmentExecutor;
+
+	/**	Get part of speech tagger for current thread.
+	 *
+	 *	@return		The part of speech tagger.
+	 */
+
+	protected static PartOfSpeechTagger getTagger()
+	{
+		return engine.getWorker().getTagger();
+	}
+
+	/**	Get part of speech retagger for current thread.
+	 *
+	 *	@return		The part of speech retagger.
+	 */
+
+	protected static PartOfSpeechRetagger getRetagger()
+	{
+		return engine.getWorker().getRetagger();
+	}
+
+	/**	Get part of speech guesser for current thread.
+	 *
+	 *	@return		The part of speech guesser.
+	 */
+
+	protected static PartOfSpeechGuesser getPartOfSpeechGuesser()
+	{
+		return engine.getWorker().getPartOfSpeechGuesser();
+	}
+
+	/**	Get spelling tokenizer for current thread.
+	 *
+	 *	@return		The spelling tokenizer.
+	 */
+
+	protected static WordTokenizer getSpellingTokenizer()
+	{
+		return engine.getWorker().getSpellingTokenizer();
+	}
+
 	/**	Log current memory usage.
 	 *
 	 *	@param	title	Title.
@@ -182,759 +237,492 @@ public class MorphAdorner
 		);
     }
 
-	/**	Loads the word lexicon.
-	 *
-	 *	@return		The word lexicon.
+	/**	Initialize adornment classes.
 	 */
 
-	protected static Lexicon loadWordLexicon()
-		throws IOException
+	protected static void initializeAdornment()
 	{
-								//	Load word lexicon if given.
+		try
+		{
+								//	Create a sentence splitter factory.
 
-		long startTime					= System.currentTimeMillis();
+			sentenceSplitterFactory		= new SentenceSplitterFactory();
 
-		LexiconFactory lexiconFactory	= new LexiconFactory();
-		Lexicon wordLexicon				= lexiconFactory.newLexicon();
+								//	Create an outputter factory.
 
-		if ( MorphAdornerSettings.wordLexiconURL != null )
-		{
-			wordLexicon.loadLexicon(
-				MorphAdornerSettings.wordLexiconURL , "utf-8" );
-		}
+			outputterFactory			= new AdornedWordOutputterFactory();
 
-		MorphAdornerLogger.println
-		(
-			"Loaded_word_lexicon" ,
-			new Object[]
-			{
-				Formatters.formatIntegerWithCommas
+								//	Create a word tokenizer factory.
+
+			wordTokenizerFactory		= new WordTokenizerFactory();
+
+								//	Text file inputter factory.
+
+			inputterFactory				= new TextInputterFactory();
+
+								//	Create adornment engine.  This
+								//	loads the lexicons, tagger rules,
+								//	transition matrix, spellings and
+								//	lemmatizer.
+
+			engine	=
+				new AdornerEngine
 				(
-					wordLexicon.getLexiconSize()
-				) ,
-				durationString( startTime )
-			}
-		);
-								//	Set logger into word lexicon.
+					AdornerEngineSettings.fromMorphAdornerSettings() ,
+					MorphAdornerLogger.getLogger()
+				);
+								//	Get shared model data from engine.
+
+			partOfSpeechTags		= engine.getPartOfSpeechTags();
+			wordLexicon				= engine.getWordLexicon();
+			suffixLexicon			= engine.getSuffixLexicon();
+			transitionMatrix		= engine.getTransitionMatrix();
+			spellingStandardizer	= engine.getSpellingStandardizer();
+			spellingMapper			= engine.getSpellingMapper();
+			nameStandardizer		= engine.getNameStandardizer();
+			lemmatizer				= engine.getLemmatizer();
+			lemmaSeparator			= engine.getLemmaSeparator();
 
-		((UsesLogger)wordLexicon).setLogger(
-			MorphAdornerLogger.getLogger() );
+								//	Get part of speech tag separator.
+
+			tagSeparator		= partOfSpeechTags.getTagSeparator();
+
+								//	Get tagger, retagger and guesser
+								//	for main thread.
+
+			tagger				= engine.getTagger();
+			retagger			= engine.getRetagger();
+			partOfSpeechGuesser	= engine.getPartOfSpeechGuesser();
+
+								//	Display what types of tagger and
+								//	retagger we are using.
+
+			MorphAdornerLogger.println( "Using" , new Object[]{ tagger.toString() } );
+			MorphAdornerLogger.println( "Using" , new Object[]{ retagger.toString() } );
 
-		return wordLexicon;
+		}
+		catch ( Exception e )
+		{
+			e.printStackTrace();
+		}
 	}
 
-	/**	Loads the suffix lexicon.
-	 *
-	 *	@return				The suffix lexicon.
+	/**	Process list of files containing text to adorn.
 	 */
 
-	protected static Lexicon loadSuffixLexicon()
-		throws IOException
+	protected static void processInputFiles()
 	{
-								//	Load suffix lexicon if given.
-
-		long startTime	= System.currentTimeMillis();
+		long processStartTime	= System.currentTimeMillis();
 
-		LexiconFactory lexiconFactory	= new LexiconFactory();
-		Lexicon suffixLexicon			= lexiconFactory.newLexicon();
+								//	Display # of files to process.
 
-		if ( MorphAdornerSettings.suffixLexiconURL != null )
+		switch ( MorphAdornerSettings.fileNames.length )
 		{
-			suffixLexicon.loadLexicon(
-				MorphAdornerSettings.suffixLexiconURL , "utf-8" );
+			case 0	:	MorphAdornerLogger.println
+						(
+							"No_files_to_process"
+						);
+						break;
+
+			case 1	:	MorphAdornerLogger.println
+						(
+							"One_file_to_process"
+						);
+						break;
+
+			default	:	MorphAdornerLogger.println
+						(
+							"Number_of_files_to_process" ,
+							new Object[]
+							{
+								Formatters.formatIntegerWithCommas
+								(
+									MorphAdornerSettings.fileNames.length
+								)
+							}
+						);
+						break;
 		}
+								//	Note if we're using our XML handler.
 
-		MorphAdornerLogger.println
-		(
-			"Loaded_suffix_lexicon" ,
-			new Object[]
-			{
-				Formatters.formatIntegerWithCommas
-				(
-					suffixLexicon.getLexiconSize()
-				) ,
-				durationString( startTime )
-			}
-		);
-								//	Set logger into suffix lexicon.
+		boolean useXMLHandler	=
+			MorphAdornerSettings.getBooleanProperty(
+				"adorner.handle_xml" , false );
 
-		((UsesLogger)suffixLexicon).setLogger(
-			MorphAdornerLogger.getLogger() );
+		logMemoryUsage( "Before processing input texts: " );
 
-		return suffixLexicon;
-	}
+		wordsAdorned.set( 0 );
+		filesFailed.set( 0 );
 
-	/**	Loads the transition matrix.
-	 *
-	 *	@param		tagger	Part of speech tagger.
-	 *
-	 *	@return		The transition matrix.
-	 */
+								//	Use multiple threads when requested
+								//	and there is more than one file.
 
-	protected static TransitionMatrix loadTransitionMatrix
-	(
-		PartOfSpeechTagger tagger
-	)
-		throws IOException
-	{
-		TransitionMatrix transitionMatrix	= new TransitionMatrix();
+		int threads	=
+			Math.min
+			(
+				MorphAdornerSettings.adornerThreads ,
+				MorphAdornerSettings.fileNames.length
+			);
 
-								//	Load transition matrix if given.
+		try
+		{
+			if ( threads > 1 )
+			{
+				processInputFilesInParallel( useXMLHandler , threads );
+			}
+			else
+			{
+								//	Loop over the input file names.
 
-		if	( 	( MorphAdornerSettings.transitionMatrixURL != null ) &&
-				( tagger.usesTransitionProbabilities() ) )
+				for ( int i = 0 ; i < MorphAdornerSettings.fileNames.length ; i++ )
+				{
+					processInputFile
+					(
+						MorphAdornerSettings.fileNames[ i ] ,
+						useXMLHandler
+					);
+				}
+			}
+		}
+		finally
 		{
-			long startTime	= System.currentTimeMillis();
+			shutdownSegmentExecutor();
+		}
+								//	Display total processing time.
 
-			transitionMatrix.loadTransitionMatrix
+		if ( MorphAdornerSettings.fileNames.length > 0 )
+		{
+			MorphAdornerLogger.println
 			(
-				MorphAdornerSettings.transitionMatrixURL ,
-				"utf-8" ,
-				'\t'
+				"All_files_adorned" ,
+				new Object[]{ durationString( processStartTime ) }
 			);
-								//	Set transition matrix into
-								//	part of speech tagger.
 
-			tagger.setTransitionMatrix( transitionMatrix );
+			double elapsed	=
+				Math.max( System.currentTimeMillis() - processStartTime , 1 );
+
+			long adornmentRate	=
+				(long)( ( wordsAdorned.get() / elapsed ) * 1000.0D );
 
 			MorphAdornerLogger.println
 			(
-				"Loaded_transition_matrix" ,
-				new Object[]{ durationString( startTime ) }
+				"All_files_adornment_rate" ,
+				new Object[]
+				{
+					Formatters.formatLongWithCommas( wordsAdorned.get() ) ,
+					Formatters.formatLongWithCommas( adornmentRate )
+				}
 			);
-								//	Set logger into transition matrix.
 
-			transitionMatrix.setLogger( MorphAdornerLogger.getLogger() );
+			if ( filesFailed.get() > 0 )
+			{
+				MorphAdornerLogger.println
+				(
+					"Files_failed" ,
+					new Object[]
+					{
+						Formatters.formatIntegerWithCommas(
+							filesFailed.get() ) ,
+						Formatters.formatIntegerWithCommas(
+							MorphAdornerSettings.fileNames.length )
+					}
+				);
+			}
 		}
-
-		return transitionMatrix;
 	}
 
-	/**	Loads part of speech tagger rules.
+	/**	Log and count an input file which could not be adorned.
 	 *
-	 *	@param		tagger	Part of speech tagger.
+	 *	@param	inputFileName	The input file name.
+	 *	@param	t				The failure.
 	 */
 
-	protected static void loadTaggerRules
+	protected static void logFileFailure
 	(
-		PartOfSpeechTagger tagger
+		String inputFileName ,
+		Throwable t
 	)
-		throws InvalidRuleException, IOException
 	{
-		if	(	( MorphAdornerSettings.contextRulesURL != null ) &&
-				( tagger.usesContextRules() ) )
-		{
-			String[] contextRules	=
-				new TextFile
-				(
-					MorphAdornerSettings.contextRulesURL ,
-					"utf-8"
-				).toArray();
+		filesFailed.incrementAndGet();
 
-			tagger.setContextRules( contextRules );
-		}
+		StringBuilder sb	= new StringBuilder();
 
-		if	(	( MorphAdornerSettings.lexicalRulesURL != null ) &&
-				( tagger.usesLexicalRules() ) )
-		{
-			String[] lexicalRules	=
-				new TextFile
-				(
-					MorphAdornerSettings.lexicalRulesURL ,
-					"utf-8"
-				).toArray();
+		new Formatter( sb ).format
+		(
+			MorphAdornerSettings.getString( "File_failed" ) ,
+			inputFileName ,
+			t.toString()
+		);
 
-			tagger.setLexicalRules( lexicalRules );
-		}
+		MorphAdornerLogger.logError( sb.toString() , t );
 	}
 
-	/**	Create spelling standardizer.
+	/**	Process a single input file.
 	 *
-	 *	@return				The spelling standardizer.
+	 *	@param	inputFileName	The input file name.
+	 *	@param	useXMLHandler	True to use the XML handler.
 	 */
 
-	protected static SpellingStandardizer createSpellingStandardizer
+	protected static void processInputFile
 	(
-		Lexicon wordLexicon
+		String inputFileName ,
+		boolean useXMLHandler
 	)
-		throws IOException
 	{
-								//	Get a spelling standardizer factory.
-
-		SpellingStandardizerFactory spellingStandardizerFactory	=
-			new SpellingStandardizerFactory();
-
-								//	Create a spelling standardizer.
-
-		SpellingStandardizer spellingStandardizer	=
-			spellingStandardizerFactory.newSpellingStandardizer();
+								//	Say we're processing it.
 
-								//	If standardizer created successfully ...
+		MorphAdornerLogger.println
+		(
+			"Processing_file" ,
+			new Object[]{ inputFileName }
+		);
 
-		if	( spellingStandardizer != null )
+		try
 		{
-			long startTime	= System.currentTimeMillis();
+								//	Are we using XGTagger to process
+								//	input XML?
 
-								//	Set word lexicon into standardizer.
+			if ( useXMLHandler )
+			{
+								//	See if input file is already adorned.
+								//	If so, we will readorn it keeping
+								//	the existing word IDs.
 
-			if ( spellingStandardizer instanceof UsesLexicon )
+				if ( isAdorned( inputFileName , 500 ) )
+				{
+					readorn( inputFileName );
+				}
+				else
+				{
+					adornXML( inputFileName );
+				}
+			}
+								//	Not using XML handler -- adorn
+								//	as plain text.
+			else
 			{
-				((UsesLexicon)spellingStandardizer).setLexicon( wordLexicon );
+				adornFile( inputFileName );
 			}
-								//	Remember number of standard spellings
-								//	for display.
+		}
+		catch ( Exception e )
+		{
+			logFileFailure( inputFileName , e );
+		}
+	}
+
+	/**	Process list of input files using multiple threads.
+	 *
+	 *	@param	useXMLHandler	True to use the XML handler.
+	 *	@param	threads			Number of worker threads.
+	 *
+	 *	<p>
+	 *	Each worker thread gets its own part of speech tagger, retagger,
+	 *	guesser and tokenizers.  The lexicons, transition matrix,
+	 *	spelling standardizer and lemmatizer are shared.  Log messages
+	 *	for each file are written as a group when the file is done.
+	 *	A file whose thread cannot be set up is logged as failed
+	 *	and counted in the summary like any other failed file.
+	 *	</p>
+	 */
 
-			int numberOfStandardSpellings	= 0;
+	protected static void processInputFilesInParallel
+	(
+		final boolean useXMLHandler ,
+		int threads
+	)
+	{
+		MorphAdornerLogger.println
+		(
+			"Using_adornment_threads" ,
+			new Object[]{ Formatters.formatIntegerWithCommas( threads ) }
+		);
+		ExecutorService executor	=
+			Executors.newFixedThreadPool( threads );
 
-								//	Load standard spellings.
+								//	Queue the input files.
 
-			if ( MorphAdornerSettings.spellingsURL != null )
-			{
-				spellingStandardizer.loadStandardSpellings
-				(
-					MorphAdornerSettings.spellingsURL ,
-					"utf-8"
-				);
+		List<Future<?>> futures	= ListFactory.createNewList();
 
-				numberOfStandardSpellings	=
-					spellingStandardizer.getNumberOfStandardSpellings();
+		for ( int i = 0 ; i < MorphAdornerSettings.fileNames.length ; i++ )
+		{
+			final String inputFileName	= MorphAdornerSettings.fileNames[ i ];
 
-				MorphAdornerLogger.println
+			futures.add
+			(
+				executor.submit
 				(
-					"Loaded_standard_spellings" ,
-					new Object[]
+					new Runnable()
 					{
-						Formatters.formatIntegerWithCommas
-						(
-							numberOfStandardSpellings
-						) ,
-						durationString( startTime )
-					}
-				);
-			}
-                                //	Add name lists to standard spellings.
+						public void run()
+						{
+							try
+							{
+								getThreadLogger();
 
-			spellingStandardizer.addStandardSpellings(
-				names.getFirstNames() );
+								processInputFile
+								(
+									inputFileName ,
+									useXMLHandler
+								);
+							}
+							catch ( RuntimeException e )
+							{
+								logFileFailure( inputFileName , e );
+							}
+							catch ( Error e )
+							{
+								logFileFailure( inputFileName , e );
 
-			spellingStandardizer.addStandardSpellings(
-				names.getSurnames() );
+								throw e;
+							}
+							finally
+							{
+								BufferedLogger logger	= threadLogger.get();
 
-			spellingStandardizer.addStandardSpellings(
-				names.getPlaceNames().keySet() );
+								if ( logger != null ) logger.flush();
+							}
+						}
+					}
+				)
+			);
+		}
+								//	Wait for all the files to finish.
 
-                                //	Load alternate spellings.
+		executor.shutdown();
 
-			if ( MorphAdornerSettings.alternateSpellingsURLs != null )
+		for ( int i = 0 ; i < futures.size() ; i++ )
+		{
+			try
 			{
-				int altSpellingsCount	= 0;
-
-				for (	int i = 0 ;
-						i < MorphAdornerSettings.alternateSpellingsURLs.length ;
-						i++
-					)
-				{
-					startTime	= System.currentTimeMillis();
-
-					spellingStandardizer.loadAlternativeSpellings
-					(
-						MorphAdornerSettings.alternateSpellingsURLs[ i ] ,
-						"utf-8" ,
-						"\t"
-					);
-
-					MorphAdornerLogger.println
-					(
-						"Loaded_alternate_spellings" ,
-						new Object[]
-						{
-							Formatters.formatIntegerWithCommas
-							(
-								spellingStandardizer.
-									getNumberOfAlternateSpellings() -
-										altSpellingsCount
-							) ,
-							durationString( startTime )
-						}
-					);
-
-					altSpellingsCount	=
-						spellingStandardizer.getNumberOfAlternateSpellings();
-				}
+				futures.get( i ).get();
 			}
-                                //	Load alternate spellings by word class.
-
-			if ( MorphAdornerSettings.alternateSpellingsByWordClassURLs != null )
+			catch ( ExecutionException e )
 			{
-				int[] altCountsCum	= new int[]{ 0 , 0 };
-
-				for (	int i = 0 ;
-						i < MorphAdornerSettings.alternateSpellingsByWordClassURLs.length ;
-						i++
-					)
-				{
-					startTime	= System.currentTimeMillis();
-
-					spellingStandardizer.loadAlternativeSpellingsByWordClass
-					(
-						MorphAdornerSettings.alternateSpellingsByWordClassURLs[ i ] ,
-						"utf-8"
-					);
-
-					int[] altCounts	=
-						spellingStandardizer.getNumberOfAlternateSpellingsByWordClass();
-
-					MorphAdornerLogger.println
+								//	Already logged and counted.
+			}
+			catch ( InterruptedException e )
+			{
+				MorphAdornerLogger.logError
+				(
+					MorphAdornerSettings.getString
 					(
-						"Loaded_alternate_spellings_by_word_class" ,
-						new Object[]
-						{
-							Formatters.formatIntegerWithCommas
-							(
-								altCounts[ 1 ] - altCountsCum[ 1 ]
-							) ,
-							Formatters.formatIntegerWithCommas
-							(
-								altCounts[ 0 ] - altCountsCum[ 0 ]
-							) ,
-							durationString( startTime )
-						}
-					);
+						"Interrupted_waiting_for_adornment_threads"
+					) ,
+					e
+				);
 
-					altCountsCum[ 0 ]	= altCounts[ 0 ];
-					altCountsCum[ 1 ]	= altCounts[ 1 ];
-				}
-			}
-								//	Set logger into standardizer.
+				Thread.currentThread().interrupt();
 
-			if ( nameStandardizer instanceof UsesLogger )
-			{
-				((UsesLogger)spellingStandardizer).setLogger(
-					MorphAdornerLogger.getLogger() );
+				break;
 			}
 		}
-
-		return spellingStandardizer;
 	}
 
-	/**	Create spelling mapper.
+	/**	Get buffered logger for current adornment thread.
 	 *
-	 *	@return				The spelling mapper.
-	 */
-
-	protected static SpellingMapper createSpellingMapper()
-		throws IOException
-	{
-		SpellingMapperFactory spellingMapperFactory	=
-			new SpellingMapperFactory();
-
-		return spellingMapperFactory.newSpellingMapper();
-	}
-
-	/**	Create proper name standardizer.
-	 *
-	 *	@param	wordLexicon	The word lexicon containing names.
+	 *	@return		The buffered logger for the current thread,
+	 *				created on first use.
 	 *
-	 *	@return				The name standardizer.
+	 *	<p>
+	 *	The buffered logger is set into the current thread's
+	 *	adornment components and becomes the current thread's
+	 *	MorphAdorner logger.
+	 *	</p>
 	 */
 
-	protected static NameStandardizer createNameStandardizer
-	(
-		Lexicon wordLexicon
-	)
-		throws IOException
+	protected static BufferedLogger getThreadLogger()
 	{
-		NameStandardizerFactory nameStandardizerFactory	=
-			new NameStandardizerFactory();
+		BufferedLogger result	= threadLogger.get();
 
-		NameStandardizer nameStandardizer	=
-			nameStandardizerFactory.newNameStandardizer();
-
-		if	( nameStandardizer != null )
+		if ( result == null )
 		{
-								//	Load names from word lexicon
-								//	into standardizer.
-
-			if ( wordLexicon != null )
-			{
-				long startTime	= System.currentTimeMillis();
+			result	=
+				new BufferedLogger( MorphAdornerLogger.getSharedLogger() );
 
-				nameStandardizer.loadNamesFromLexicon( wordLexicon );
+								//	Remember the logger only once
+								//	the thread's worker is set up,
+								//	so a failed setup is retried.
 
-				int numberOfNames	=
-					nameStandardizer.getNumberOfNames();
+			engine.getWorker().setLogger( result );
 
-				MorphAdornerLogger.println
-				(
-					"Loaded_names" ,
-					new Object[]
-					{
-						Formatters.formatIntegerWithCommas
-						(
-							numberOfNames
-						) ,
-						durationString( startTime )
-					}
-				);
-			}
-								//	Set logger into standardizer.
+			threadLogger.set( result );
 
-			if ( nameStandardizer instanceof UsesLogger )
-			{
-				((UsesLogger)nameStandardizer).setLogger(
-					MorphAdornerLogger.getLogger() );
-			}
+			MorphAdornerLogger.setThreadLogger( result );
 		}
 
-		return nameStandardizer;
+		return result;
 	}
 
-	/**	Initialize adornment classes.
+	/**	Get executor which tags XML text segments.
+	 *
+	 *	@return		The segment executor, or null if text segments
+	 *				are tagged by the thread adorning the file.
+	 *
+	 *	<p>
+	 *	The executor is created on first use with
+	 *	{@link MorphAdornerSettings#adornerSegmentThreads} threads
+	 *	and shared by all input files.  Its threads are daemon threads
+	 *	so they do not keep the program running.
+	 *	</p>
 	 */
 
-	protected static void initializeAdornment()
+	protected static synchronized ExecutorService getSegmentExecutor()
 	{
-		try
+		if	(	( segmentExecutor == null ) &&
+				( MorphAdornerSettings.adornerSegmentThreads > 1 )
+			)
 		{
-								//	Create a sentence splitter factory.
-
-			sentenceSplitterFactory		= new SentenceSplitterFactory();
-
-								//	Create an outputter factory.
-
-			outputterFactory			= new AdornedWordOutputterFactory();
-
-								//	Create a word tokenizer factory.
-
-			wordTokenizerFactory		= new WordTokenizerFactory();
-
-								//	Text file inputter factory.
-
-			inputterFactory				= new TextInputterFactory();
-
-    								//	Create part of speech
-    								//	tags list.
-
-			PartOfSpeechTagsFactory partOfSpeechTagsFactory	=
-				new PartOfSpeechTagsFactory();
-
-			partOfSpeechTags	=
-				partOfSpeechTagsFactory.newPartOfSpeechTags();
-
-								//	Get part of speech tag separator.
-
-			tagSeparator		= partOfSpeechTags.getTagSeparator();
-
-								//	Create a part of speech tagger.
-
-			PartOfSpeechTaggerFactory taggerFactory =
-				new PartOfSpeechTaggerFactory();
-
-			tagger = taggerFactory.newPartOfSpeechTagger();
-
-								//	Create a part of speech retagger.
-
-			PartOfSpeechRetaggerFactory retaggerFactory =
-				new PartOfSpeechRetaggerFactory();
-
-			retagger = retaggerFactory.newPartOfSpeechRetagger();
-
-								//	Set logger into tagger.
-
-			((UsesLogger)tagger).setLogger(
-				MorphAdornerLogger.getLogger() );
-
-								//	Set logger into retagger.
-
-			((UsesLogger)retagger).setLogger(
-				MorphAdornerLogger.getLogger() );
-
-								//	Set retagger into tagger.
-
-			tagger.setRetagger( retagger );
-
-								//	Display what types of tagger and
-								//	retagger we are using.
-
-			MorphAdornerLogger.println( "Using" , new Object[]{ tagger.toString() } );
-			MorphAdornerLogger.println( "Using" , new Object[]{ retagger.toString() } );
-
-								//	Load word lexicon.
-
-			wordLexicon	= loadWordLexicon();
-
-								//	Set parts of speech into lexicon.
-
-			wordLexicon.setPartOfSpeechTags( partOfSpeechTags );
-
-								//	Get a part of speech guesser
-								//	for words not in the lexicon.
-
-			partOfSpeechGuesser	=
-				new PartOfSpeechGuesserFactory().newPartOfSpeechGuesser();
-
-								//	Set check possessives flag.
-
-			boolean checkPossessives	=
-				MorphAdornerSettings.getBooleanProperty(
-					"partofspeechguesser.check_possessives" , false );
-
-
-			partOfSpeechGuesser.setCheckPossessives( checkPossessives );
-
-								//	Set guesser into tagger. */
-
-			tagger.setPartOfSpeechGuesser( partOfSpeechGuesser );
-
-								//	Set guesser into word lexicon. */
-
-			partOfSpeechGuesser.setWordLexicon( wordLexicon );
-
-								//	Set logger into guesser.
-
-			((UsesLogger)partOfSpeechGuesser).setLogger(
-				MorphAdornerLogger.getLogger() );
-
-								//	Load suffix lexicon if given.
-
-			suffixLexicon	= loadSuffixLexicon();
-
-								//	Set suffix lexicon into guesser.
-
-			partOfSpeechGuesser.setSuffixLexicon( suffixLexicon );
-
-								//	Add extra words.
-			extraWords	=
-				getExtraWordsList
-				(
-					extraWordsFileName ,
-					partOfSpeechTags.getSingularProperNounTag() ,
-					"Loaded_extra_words"
-				);
-
-			partOfSpeechGuesser.addAuxiliaryWordList( extraWords );
-
-								//	Add name lists.
-
-			partOfSpeechGuesser.addAuxiliaryWordList
-			(
-				new TaggedStringsSet
-				(
-					names.getPlaceNames().keySet() ,
-					partOfSpeechTags.getSingularProperNounTag()
-				)
-			);
-
-			partOfSpeechGuesser.addAuxiliaryWordList
-			(
-				new TaggedStringsSet
-				(
-					names.getFirstNames() ,
-					partOfSpeechTags.getSingularProperNounTag()
-				)
-			);
-
-			partOfSpeechGuesser.addAuxiliaryWordList
+			MorphAdornerLogger.println
 			(
-				new TaggedStringsSet
-				(
-					names.getSurnames() ,
-					partOfSpeechTags.getSingularProperNounTag()
-				)
-			);
-								//	Add latin words.
-
-			if ( MorphAdornerSettings.useLatinWordList )
-			{
-				partOfSpeechGuesser.addAuxiliaryWordList
-				(
-					getWordList
+				"Using_segment_threads" ,
+				new Object[]
+				{
+					Formatters.formatIntegerWithCommas
 					(
-						latinWordsFileName ,
-						partOfSpeechTags.getForeignWordTag( "latin" ) ,
-						"Loaded_latin_words"
+						MorphAdornerSettings.adornerSegmentThreads
 					)
-				);
-			}
-								//	Add extra abbreviations.
-
-			if ( MorphAdornerSettings.abbreviationsURL.length() > 0 )
-			{
-				loadAbbreviations
-				(
-					URLUtils.getURLFromFileNameOrURL
-					(
-						MorphAdornerSettings.abbreviationsURL
-					).toString() ,
-					"Loaded_abbreviations"
-				);
-			}
-								//	Set tagger to use lexicon.
-
-			tagger.setLexicon( wordLexicon );
-
-								//	Load tagger rules if given.
-
-			loadTaggerRules( tagger );
-
-								//	Load transition matrix if given.
-
-			transitionMatrix		= loadTransitionMatrix( tagger );
-
-								//	Create a spelling standardizer.
-
-			spellingStandardizer	= createSpellingStandardizer( wordLexicon );
-
-								//	Create a spelling mapper.
-
-			spellingMapper			= createSpellingMapper();
-
-								//	Create a name standardizer.
-
-			nameStandardizer		= createNameStandardizer( wordLexicon );
-
-								//	Add spelling standardizer to
-								//	part of speech guesser.
-
-			if ( spellingStandardizer != null )
-			{
-				partOfSpeechGuesser.setSpellingStandardizer(
-					spellingStandardizer );
-			}
-								//	Create a lemmatizer.
-
-			LemmatizerFactory lemmatizerFactory	=
-				new LemmatizerFactory();
-
-			lemmatizer	= lemmatizerFactory.newLemmatizer();
-
-								//	Get lemma separator.
-
-			lemmaSeparator	= lemmatizer.getLemmaSeparator();
-
-								//	Set lexicon for lemmatizer.
-
-			lemmatizer.setLexicon( wordLexicon );
-
-								//	Set standard word list for lemmatizer.
-
-			lemmatizer.setDictionary
-			(
-				spellingStandardizer.getStandardSpellings()
+				}
 			);
-								//	Set logger into lemmatizer.
-
-			((UsesLogger)lemmatizer).setLogger(
-				MorphAdornerLogger.getLogger() );
-
-		}
-		catch ( Exception e )
-		{
-			e.printStackTrace();
-		}
-	}
-
-	/**	Process list of files containing text to adorn.
-	 */
-
-	protected static void processInputFiles()
-	{
-		long processStartTime	= System.currentTimeMillis();
 
-								//	Display # of files to process.
-
-		switch ( MorphAdornerSettings.fileNames.length )
-		{
-			case 0	:	MorphAdornerLogger.println
-						(
-							"No_files_to_process"
-						);
-						break;
-
-			case 1	:	MorphAdornerLogger.println
-						(
-							"One_file_to_process"
-						);
-						break;
+			segmentExecutor	=
+				Executors.newFixedThreadPool
+				(
+					MorphAdornerSettings.adornerSegmentThreads ,
+					new ThreadFactory()
+					{
+						protected int threadNumber	= 0;
 
-			default	:	MorphAdornerLogger.println
-						(
-							"Number_of_files_to_process" ,
-							new Object[]
-							{
-								Formatters.formatIntegerWithCommas
+						public synchronized Thread newThread( Runnable r )
+						{
+							Thread thread	=
+								new Thread
 								(
-									MorphAdornerSettings.fileNames.length
-								)
-							}
-						);
-						break;
-		}
-								//	Note if we're using our XML handler.
-
-		boolean useXMLHandler	=
-			MorphAdornerSettings.getBooleanProperty(
-				"adorner.handle_xml" , false );
-
-		logMemoryUsage( "Before processing input texts: " );
-
-								//	Loop over the input file names.
-
-		for ( int i = 0 ; i < MorphAdornerSettings.fileNames.length ; i++ )
-		{
-								//	Get the next input file name.
-
-			String inputFileName	= MorphAdornerSettings.fileNames[ i ];
-
-								//	Say we're processing it.
-
-			MorphAdornerLogger.println
-			(
-				"Processing_file" ,
-				new Object[]{ inputFileName }
-			);
-
-			try
-			{
-								//	Are we using XGTagger to process
-								//	input XML?
-
-				if ( useXMLHandler )
-				{
-								//	See if input file is already adorned.
-								//	If so, we will readorn it keeping
-								//	the existing word IDs.
+									r ,
+									"MorphAdorner segment " +
+										( ++threadNumber )
+								);
 
-					if ( isAdorned( inputFileName , 500 ) )
-					{
-						readorn( inputFileName );
-					}
-					else
-					{
-						adornXML( inputFileName );
-					}
-				}
-								//	Not using XML handler -- adorn
-								//	as plain text.
-				else
-				{
-					adornFile( inputFileName );
-				}
-			}
-			catch ( Exception e )
-			{
-				e.printStackTrace();
-			}
+							thread.setDaemon( true );
+
+							return thread;
+						}
+					}
+				);
 		}
-								//	Display total processing time.
 
-		if ( MorphAdornerSettings.fileNames.length > 0 )
+		return segmentExecutor;
+	}
+
+	/**	Shut down executor which tags XML text segments.
+	 */
+
+	protected static synchronized void shutdownSegmentExecutor()
+	{
+		if ( segmentExecutor != null )
 		{
-			MorphAdornerLogger.println
-			(
-				"All_files_adorned" ,
-				new Object[]{ durationString( processStartTime ) }
-			);
+			segmentExecutor.shutdown();
+
+			segmentExecutor	= null;
 		}
 	}
 
@@ -1027,7 +815,11 @@ public class MorphAdorner
 
 		int totalPageBreaks	= 0;
 
-								//	Adorn each segment separately.
+								//	Get names of text segments
+								//	to adorn.
+
+		List<String> segmentNames	= ListFactory.createNewList();
+		List<Integer> segmentNumbers	= ListFactory.createNewList();
 
 		for ( int j = 0 ; j < nSegments ; j++ )
 		{
@@ -1040,123 +832,181 @@ public class MorphAdorner
 			if ( !segmentName.startsWith( "text" ) ) continue;
 			if ( segmentName.equals( "text" ) ) continue;
 
-								//	Report which segment is being
-								//	adorned.
-
-			MorphAdornerLogger.println
+			segmentNames.add( segmentName );
+			segmentNumbers.add( j + 1 );
+		}
+								//	Tag segments in parallel when
+								//	requested.  The adornments are
+								//	merged into the XML in segment
+								//	order below, so word IDs are
+								//	assigned as for serial adornment.
+
+		int segmentThreads	=
+			Math.min
 			(
-				"Processing_segment" ,
-				new Object[]
-				{
-					segmentName ,
-					Formatters.formatIntegerWithCommas( j + 1 ) ,
-					sSegments
-				}
+				MorphAdornerSettings.adornerSegmentThreads ,
+				segmentNames.size()
 			);
-								//	Get segment text.
 
-			String segmentText	= inputter.getSegmentText( segmentName );
+		ExecutorService executor	= null;
 
-								//	Join some split words.
+		List<Future<AdornedSegment>> futures	= null;
 
-//			segmentText			= fixSplitWords( segmentText );
+		if ( segmentThreads > 1 )
+		{
+			executor	= getSegmentExecutor();
+			futures		= ListFactory.createNewList();
+		}
+								//	Number of segments submitted
+								//	for tagging.  At most two per
+								//	thread are held in memory waiting
+								//	to be merged.
+		int submitted	= 0;
 
-								//	Convert XML text to DOM document.
+		try
+		{
+								//	Adorn each segment separately.
 
-			Document document	=
-				XGParser.textToDOM
-				(
-					MorphAdornerSettings.xgOptions ,
-					segmentText
-				);
-								//	Fix empty soft tags.
+			for ( int j = 0 ; j < segmentNames.size() ; j++ )
+			{
+				String segmentName	= segmentNames.get( j );
 
-			fixEmptySoftTags( document );
+				AdornedSegment adornedSegment;
 
-								//	Fix sup tags.
+				if ( executor == null )
+				{
+					adornedSegment	=
+						adornSegment
+						(
+							segmentName ,
+							segmentNumbers.get( j ) ,
+							sSegments ,
+							inputter.getSegmentText( segmentName )
+						);
+				}
+				else
+				{
+					while	(	( submitted < segmentNames.size() ) &&
+								( submitted < j + ( 2 * segmentThreads ) )
+							)
+					{
+						futures.add
+						(
+							submitSegment
+							(
+								executor ,
+								segmentNames.get( submitted ) ,
+								segmentNumbers.get( submitted ) ,
+								sSegments ,
+								inputter.getSegmentText(
+									segmentNames.get( submitted ) )
+							)
+						);
+
+						submitted++;
+					}
+
+					try
+					{
+						adornedSegment	= futures.get( j ).get();
+					}
+					catch ( ExecutionException e )
+					{
+						Throwable cause	= e.getCause();
 
-			fixSupTags( document );
+						if ( cause instanceof Exception )
+						{
+							throw (Exception)cause;
+						}
+
+						throw e;
+					}
 
+					futures.set( j , null );
+				}
 								//	Add page break count this segment
 								//	to total.
 
-			totalPageBreaks	+=	countPageBreaks( document );
+				totalPageBreaks	+= adornedSegment.pageBreaks;
 
-								//	Extract plain text for adornment.
-			Object[] o	=
-				XGParser.extractText
-				(
-					MorphAdornerSettings.xgOptions ,
-					document
-				);
 								//	Set running word ID.
 
-			XGParser xgParser	= (XGParser)o[ 1 ];
+				XGParser xgParser	= adornedSegment.xgParser;
 
-			xgParser.setRunningWordID( runningWordID );
-
-								//	Create adorned output.
-
-			AdornedWordOutputter outputter	=
-				adornText( (String)o[ 0 ] , null );
+				xgParser.setRunningWordID( runningWordID );
 
 								//	Merged adornments with original
 								//	XML text.
 
-			MorphAdornerLogger.println
-			(
-				"Inserting_adornments_into_xml"
-			);
-
-			long startTime	= System.currentTimeMillis();
-
-			Map<Integer, Integer> segmentSplitWords	=
-				XGParser.mergeAdornments
+				MorphAdornerLogger.println
 				(
-					MorphAdornerSettings.xgOptions ,
-					(XGParser)o[ 1 ] ,
-					document ,
-					segmentName ,
-					outputter ,
-					inputter
+					"Inserting_adornments_into_xml"
 				);
+
+				long startTime	= System.currentTimeMillis();
+
+				Map<Integer, Integer> segmentSplitWords	=
+					XGParser.mergeAdornments
+					(
+						MorphAdornerSettings.xgOptions ,
+						xgParser ,
+						adornedSegment.document ,
+						segmentName ,
+						adornedSegment.outputter ,
+						inputter ,
+						MorphAdornerSettings.mergeXMLInMemory
+					);
 								//	Add split words from this segment
 								//	to overall map of split words.
 
-			for ( int wid : segmentSplitWords.keySet() )
-			{
-				if ( segmentSplitWords.get( wid ) > 1 )
+				for ( int wid : segmentSplitWords.keySet() )
 				{
-					splitWords.put
-					(
-						wid ,
-						segmentSplitWords.get( wid )
-					);
+					if ( segmentSplitWords.get( wid ) > 1 )
+					{
+						splitWords.put
+						(
+							wid ,
+							segmentSplitWords.get( wid )
+						);
+					}
 				}
-			}
 								//	Report adornment merge complete.
 
-			MorphAdornerLogger.println
-			(
-				"Inserted_adornments_into_xml" ,
-				new Object[]{ durationString( startTime ) }
-			);
+				MorphAdornerLogger.println
+				(
+					"Inserted_adornments_into_xml" ,
+					new Object[]{ durationString( startTime ) }
+				);
 								//	Save running word ID for
 								//	processing next segment.
 
-			runningWordID	= xgParser.getRunningWordID();
+				runningWordID	= xgParser.getRunningWordID();
 
 								//	Add count of adorned words to total
 								//	for this document.
 
-			totalWords		+= xgParser.getNumberOfAdornedWords();
+				totalWords		+= xgParser.getNumberOfAdornedWords();
+
+				xgParser		= null;
+				adornedSegment	= null;
+			}
+		}
+		finally
+		{
+								//	Cancel segments still being
+								//	tagged if adornment failed.
+			if ( futures != null )
+			{
+				for ( int j = 0 ; j < futures.size() ; j++ )
+				{
+					Future<AdornedSegment> future	= futures.get( j );
 
-			xgParser	= null;
-			document	= null;
-			outputter	= null;
-			o[ 0 ]		= null;
-			o[ 1 ]		= null;
-			o			= null;
+					if ( future != null )
+					{
+						future.cancel( true );
+					}
+				}
+			}
 		}
 								//	Create name of output file to
 								//	which to write merged adorned XML.
@@ -1167,25 +1017,6 @@ public class MorphAdorner
 
 		MorphAdornerLogger.println ( "Merging_adorned" );
 
-								//	Merged adorned XML segments to
-								//	temporary file.
-
-		File file	= File.createTempFile( "mad" , null );
-
-		file.deleteOnExit();
-
-		String tempFileName	= file.getAbsolutePath();
-
-		mergeXML( inputter , tempFileName );
-
-								//	Read the merged XML file to add
-								//	revised IDs and format the XML nicely.
-
-		MorphAdornerLogger.println
-		(
-			"Writing_merged" ,
-			new Object[]{ outputFileName }
-		);
 								//	Create XML writer facory/
 
 		MorphAdornerXMLWriterFactory xmlWriterFactory	=
@@ -1196,28 +1027,74 @@ public class MorphAdorner
 		MorphAdornerXMLWriter xmlWriter	=
 			xmlWriterFactory.newMorphAdornerXMLWriter();
 
+		if ( MorphAdornerSettings.mergeXMLInMemory )
+		{
+								//	Merge adorned XML segments
+								//	through a pipe read by the
+								//	XML writer.
+
+			MorphAdornerLogger.println
+			(
+				"Writing_merged" ,
+				new Object[]{ outputFileName }
+			);
+
+			writePipedXML
+			(
+				inputter ,
+				xmlWriter ,
+				outputFileName ,
+				runningWordID ,
+				splitWords ,
+				totalWords ,
+				totalPageBreaks
+			);
+		}
+		else
+		{
+								//	Merged adorned XML segments to
+								//	temporary file.
+
+			File file	= File.createTempFile( "mad" , null );
+
+			file.deleteOnExit();
+
+			String tempFileName	= file.getAbsolutePath();
+
+			mergeXML( inputter , tempFileName );
+
+								//	Read the merged XML file to add
+								//	revised IDs and format the XML
+								//	nicely.
+
+			MorphAdornerLogger.println
+			(
+				"Writing_merged" ,
+				new Object[]{ outputFileName }
+			);
 								//	Write XML.
-		xmlWriter.writeXML
-		(
-			tempFileName ,
-			outputFileName ,
-			runningWordID ,
-			partOfSpeechTags ,
-			splitWords ,
-			totalWords ,
-			totalPageBreaks
-		);
+			xmlWriter.writeXML
+			(
+				tempFileName ,
+				outputFileName ,
+				runningWordID ,
+				partOfSpeechTags ,
+				splitWords ,
+				totalWords ,
+				totalPageBreaks
+			);
 								//	Delete temporary XML file.
 								//	May not work on some systems,
 								//	but the file will be deleted when
 								//	MorphAdorner exits anyway.
-		try
-		{
-			file.delete();
-		}
-		catch ( Exception e )
-		{
+			try
+			{
+				file.delete();
+			}
+			catch ( Exception e )
+			{
 //e.printStackTrace();
+			}
 		}
 								//	Report the updated XML has been
 								//	written out.
@@ -1231,15 +1108,168 @@ public class MorphAdorner
 				durationString( startTime )
 			}
 		);
-								//	Close inputter.
-
-		((IsCloseableObject)inputter).close();
-
-		inputter	= null;
-		splitWords	= null;
-		xmlWriter	= null;
-
-		logMemoryUsage( "After completing " + inputFileName + ": " );
+								//	Close inputter.
+
+		((IsCloseableObject)inputter).close();
+
+		inputter	= null;
+		splitWords	= null;
+		xmlWriter	= null;
+
+		logMemoryUsage( "After completing " + inputFileName + ": " );
+	}
+
+	/**	A text segment of an XML file which has been tagged
+	 *	but whose adornments have not yet been merged into the XML.
+	 */
+
+	protected static class AdornedSegment
+	{
+		/**	DOM for the segment. */
+
+		protected Document document;
+
+		/**	XGParser which extracted the segment text. */
+
+		protected XGParser xgParser;
+
+		/**	Adorned words for the segment text. */
+
+		protected AdornedWordOutputter outputter;
+
+		/**	Number of page breaks in the segment. */
+
+		protected int pageBreaks;
+	}
+
+	/**	Tag a text segment of an XML file.
+	 *
+	 *	@param	segmentName		The segment name.
+	 *	@param	segmentNumber	The segment number, starting at 1.
+	 *	@param	sSegments		The formatted number of segments.
+	 *	@param	segmentText		The segment XML text.
+	 *
+	 *	@return					The tagged segment.
+	 *
+	 *	@throws	Exception		For variety of errors.
+	 *
+	 *	<p>
+	 *	Only the current thread's adornment components are used,
+	 *	so segments may be tagged in parallel.
+	 *	</p>
+	 */
+
+	protected static AdornedSegment adornSegment
+	(
+		String segmentName ,
+		int segmentNumber ,
+		String sSegments ,
+		String segmentText
+	)
+		throws Exception
+	{
+								//	Report which segment is being
+								//	adorned.
+
+		MorphAdornerLogger.println
+		(
+			"Processing_segment" ,
+			new Object[]
+			{
+				segmentName ,
+				Formatters.formatIntegerWithCommas( segmentNumber ) ,
+				sSegments
+			}
+		);
+								//	Join some split words.
+
+//		segmentText			= fixSplitWords( segmentText );
+
+		AdornedSegment result	= new AdornedSegment();
+
+								//	Convert XML text to DOM document.
+
+		result.document	=
+			XGParser.textToDOM
+			(
+				MorphAdornerSettings.xgOptions ,
+				segmentText
+			);
+								//	Fix empty soft tags.
+
+		fixEmptySoftTags( result.document );
+
+								//	Fix sup tags.
+
+		fixSupTags( result.document );
+
+								//	Count page breaks in this segment.
+
+		result.pageBreaks	= countPageBreaks( result.document );
+
+								//	Extract plain text for adornment.
+		Object[] o	=
+			XGParser.extractText
+			(
+				MorphAdornerSettings.xgOptions ,
+				result.document
+			);
+
+		result.xgParser	= (XGParser)o[ 1 ];
+
+								//	Create adorned output.
+
+		result.outputter	= adornText( (String)o[ 0 ] , null );
+
+		return result;
+	}
+
+	/**	Submit a text segment of an XML file for tagging.
+	 *
+	 *	@param	executor		The executor which tags the segment.
+	 *	@param	segmentName		The segment name.
+	 *	@param	segmentNumber	The segment number, starting at 1.
+	 *	@param	sSegments		The formatted number of segments.
+	 *	@param	segmentText		The segment XML text.
+	 *
+	 *	@return					Future for the tagged segment.
+	 */
+
+	protected static Future<AdornedSegment> submitSegment
+	(
+		ExecutorService executor ,
+		final String segmentName ,
+		final int segmentNumber ,
+		final String sSegments ,
+		final String segmentText
+	)
+	{
+		return executor.submit
+		(
+			new Callable<AdornedSegment>()
+			{
+				public AdornedSegment call()
+					throws Exception
+				{
+					BufferedLogger logger	= getThreadLogger();
+
+					try
+					{
+						return adornSegment
+						(
+							segmentName ,
+							segmentNumber ,
+							sSegments ,
+							segmentText
+						);
+					}
+					finally
+					{
+						logger.flush();
+					}
+				}
+			}
+		);
 	}
 
 	/**	Generate output file name for adorned output.
@@ -1326,6 +1356,18 @@ public class MorphAdorner
 			);
 
 			return null;
+		}
+								//	Adorn plain text while reading it
+								//	if requested.
+
+		if ( MorphAdornerSettings.streamPlainText )
+		{
+			AdornedWordOutputter outputter	= adornPlainTextStream( fileURL );
+
+			if ( outputter != null )
+			{
+				return outputter;
+			}
 		}
 								//	Read file text into a string.
                     			//	Report error if we cannot.
@@ -1382,71 +1424,499 @@ public class MorphAdorner
 		return adornText( fileText , fileURL );
 	}
 
-	/**	Perform word adornment processes for a single input file.
-	 *
-	 *	@param	textToAdorn		Text to adorn.
-	 *	@param	outputURL		URL for output.
-	 *
-	 *	@throws					Exception if an error occurs.
+	/**	Perform word adornment processes for a single input file.
+	 *
+	 *	@param	textToAdorn		Text to adorn.
+	 *	@param	outputURL		URL for output.
+	 *
+	 *	@throws					Exception if an error occurs.
+	 */
+
+	public static AdornedWordOutputter adornText
+	(
+		String textToAdorn ,
+		URL outputURL
+	)
+		throws IOException
+	{
+		long startTime	= System.currentTimeMillis();
+
+								//	Get a sentence splitter.
+
+		SentenceSplitter sentenceSplitter	=
+			sentenceSplitterFactory.newSentenceSplitter();
+
+								//	Set logger into splitter.
+
+		((UsesLogger)sentenceSplitter).setLogger(
+			MorphAdornerLogger.getLogger() );
+
+								//	Set guesser into splitter.
+
+		PartOfSpeechGuesser partOfSpeechGuesser	= getPartOfSpeechGuesser();
+
+		sentenceSplitter.setPartOfSpeechGuesser( partOfSpeechGuesser );
+
+								//	Extract the sentences and
+								//	words in the sentences as
+								//	spans over the text.
+
+		List<List<String>> sentences	= ListFactory.createNewList();
+
+		sentences.addAll
+		(
+			sentenceSplitter.extractSentenceSpans
+			(
+				textToAdorn ,
+				wordTokenizerFactory.newWordTokenizer()
+			)
+		);
+								//	Get count of sentences and words.
+
+       	int[] wordAndSentenceCounts	= getWordAndSentenceCounts( sentences );
+
+		int wordsToTag	= wordAndSentenceCounts[ 1 ];
+
+		MorphAdornerLogger.println
+		(
+			"Extracted_words" ,
+			new Object[]
+			{
+				Formatters.formatIntegerWithCommas( wordsToTag ) ,
+				Formatters.formatIntegerWithCommas( wordAndSentenceCounts[ 0 ] ) ,
+				durationString( startTime )
+			}
+		);
+								//	See if we should use standard
+								//	spellings to help guess parts of
+								//	speech for unknow  words.
+
+		if ( partOfSpeechGuesser != null )
+		{
+			partOfSpeechGuesser.setTryStandardSpellings(
+				MorphAdornerSettings.tryStandardSpellings );
+		}
+								//	Get part of speech tags for
+								//	each word in each sentence.
+
+		startTime		= System.currentTimeMillis();
+
+		List<List<AdornedWord>> result	=
+			getTagger().tagSentences( sentences );
+
+		wordsAdorned.addAndGet( wordsToTag );
+
+		double elapsed	=
+			( System.currentTimeMillis() - startTime );
+
+		int taggingRate	= (int)( ( wordsToTag / elapsed ) * 1000.0D );
+
+		MorphAdornerLogger.println
+		(
+			"Tagging_complete" ,
+			new Object[]
+			{
+				durationString( startTime ) ,
+				Formatters.formatIntegerWithCommas( taggingRate )
+			}
+		);
+								//	Generate tagged word output.
+
+		MorphAdornerLogger.println( "Generating_other_adornments" );
+
+		startTime	= System.currentTimeMillis();
+
+								//	Create a tagged text output writer.
+
+		AdornedWordOutputter outputter	=
+			createAdornedWordOutputter( outputURL );
+
+								//	Output the tagged words.
+
+		outputAdornedSentences
+		(
+			result ,
+			outputter ,
+			new int[ 2 ]
+		);
+
+		outputter.close();
+
+		reportAdornmentsWritten( outputURL , startTime );
+
+		sentences.clear();
+		result.clear();
+
+		sentences	= null;
+		result		= null;
+
+		return outputter;
+	}
+
+	/**	Adorn plain text a sentence at a time while reading it.
+	 *
+	 *	@param	fileURL		URL of plain text to adorn.  Also used
+	 *						to name the output file.
+	 *
+	 *	@return				The adorned word outputter, or null
+	 *						if the input cannot be streamed because
+	 *						the text inputter is not a plain text
+	 *						inputter or the input looks like HTML or XML.
+	 *
+	 *	@throws	IOException	if an error occurs.
+	 *
+	 *	<p>
+	 *	The sentences are read, split, tokenized, tagged and adorned
+	 *	in batches of {@link #STREAM_BATCH_SIZE} sentences by the
+	 *	current thread.  A separate thread writes the output.
+	 *	The two threads are linked by a queue holding at most
+	 *	{@link #STREAM_QUEUE_SIZE} batches, so memory use does not
+	 *	depend on the length of the text and output starts as soon
+	 *	as the first batch is adorned.
+	 *	</p>
+	 *
+	 *	<p>
+	 *	Splitting, tagging and spelling standardization stay in the
+	 *	current thread because they share the thread's part of speech
+	 *	guesser and the spelling standardizer, which remembers
+	 *	the spellings it has standardized.  The output is therefore
+	 *	repeatable.  It may differ from that of {@link #adornText}
+	 *	for a few words because the standardizer sees the spellings
+	 *	in a different order.
+	 *	</p>
+	 */
+
+	protected static AdornedWordOutputter adornPlainTextStream( URL fileURL )
+		throws IOException
+	{
+								//	Only the plain text inputters
+								//	can be replaced by streaming.
+
+		Class<?> inputterClass	= inputterFactory.getTextInputterClass();
+
+		if	(	( inputterClass != URLTextInputter.class ) &&
+				( inputterClass != DefaultTextInputter.class )
+			)
+		{
+			return null;
+		}
+								//	Text with HTML or XML tags must be
+								//	loaded in full to strip the tags.
+								//	Scan the text for tags as
+								//	URLTextInputter does.
+
+		BufferedReader reader	=
+			new BufferedReader
+			(
+				new UnicodeReader( fileURL.openStream() , "utf-8" ) ,
+				ReaderSentenceSplitterIterator.DEFAULT_CHUNK_SIZE
+			);
+
+		boolean isTagged	= false;
+
+		try
+		{
+			isTagged	= HTMLUtils.isHTMLTaggedText( reader );
+		}
+		finally
+		{
+			reader.close();
+		}
+
+		if ( isTagged )
+		{
+			return null;
+		}
+								//	Open the text.
+		reader	=
+			new BufferedReader
+			(
+				new UnicodeReader( fileURL.openStream() , "utf-8" ) ,
+				ReaderSentenceSplitterIterator.DEFAULT_CHUNK_SIZE
+			);
+
+		long startTime	= System.currentTimeMillis();
+
+								//	Get a sentence splitter.
+
+		SentenceSplitter sentenceSplitter	=
+			sentenceSplitterFactory.newSentenceSplitter();
+
+		((UsesLogger)sentenceSplitter).setLogger(
+			MorphAdornerLogger.getLogger() );
+
+		PartOfSpeechGuesser partOfSpeechGuesser	= getPartOfSpeechGuesser();
+
+		sentenceSplitter.setPartOfSpeechGuesser( partOfSpeechGuesser );
+
+		if ( partOfSpeechGuesser != null )
+		{
+			partOfSpeechGuesser.setTryStandardSpellings(
+				MorphAdornerSettings.tryStandardSpellings );
+		}
+								//	Get iterator over sentences
+								//	in text.
+
+		Iterator<List<String>> sentences	=
+			sentenceSplitter.extractSentences
+			(
+				reader ,
+				wordTokenizerFactory.newWordTokenizer()
+			);
+								//	Create a tagged text output writer.
+
+		AdornedWordOutputter outputter	=
+			createAdornedWordOutputter( fileURL );
+
+								//	Start output thread.
+
+		AdornedWordWriter writer	=
+			new AdornedWordWriter( outputter , STREAM_QUEUE_SIZE );
+
+		writer.start();
+								//	Split, tag and adorn sentences
+								//	in batches.
+
+		int sentenceCount	= 0;
+		int wordCount		= 0;
+
+		int[] sentenceAndWordNumbers	= new int[ 2 ];
+
+		PartOfSpeechTagger tagger	= getTagger();
+
+		try
+		{
+			List<List<String>> batch	= ListFactory.createNewList();
+
+			while ( sentences.hasNext() && ( writer.getError() == null ) )
+			{
+				batch.add( sentences.next() );
+
+				if	(	( batch.size() >= STREAM_BATCH_SIZE ) ||
+						!sentences.hasNext()
+					)
+				{
+					int[] counts	= getWordAndSentenceCounts( batch );
+
+					sentenceCount	+= counts[ 0 ];
+					wordCount		+= counts[ 1 ];
+
+					ListAdornedWordOutputter adornedBatch	=
+						new ListAdornedWordOutputter();
+
+					outputAdornedSentences
+					(
+						tagger.tagSentences( batch ) ,
+						adornedBatch ,
+						sentenceAndWordNumbers
+					);
+
+					writer.put( adornedBatch.getAdornedWordDataList() );
+
+					batch	= ListFactory.createNewList();
+				}
+			}
+		}
+		catch ( InterruptedException e )
+		{
+			throw new IOException( e.toString() );
+		}
+		finally
+		{
+			writer.finish();
+
+			reader.close();
+			outputter.close();
+		}
+
+		Throwable error	= writer.getError();
+
+		if ( error != null )
+		{
+			if ( error instanceof IOException )
+			{
+				throw (IOException)error;
+			}
+
+			throw new IOException( error.toString() );
+		}
+
+		wordsAdorned.addAndGet( wordCount );
+
+		MorphAdornerLogger.println
+		(
+			"Extracted_words" ,
+			new Object[]
+			{
+				Formatters.formatIntegerWithCommas( wordCount ) ,
+				Formatters.formatIntegerWithCommas( sentenceCount ) ,
+				durationString( startTime )
+			}
+		);
+
+		double elapsed	=
+			Math.max( System.currentTimeMillis() - startTime , 1 );
+
+		int taggingRate	= (int)( ( wordCount / elapsed ) * 1000.0D );
+
+		MorphAdornerLogger.println
+		(
+			"Tagging_complete" ,
+			new Object[]
+			{
+				durationString( startTime ) ,
+				Formatters.formatIntegerWithCommas( taggingRate )
+			}
+		);
+
+		reportAdornmentsWritten( fileURL , startTime );
+
+		return outputter;
+	}
+
+	/**	Thread which writes adorned words passed to it in batches
+	 *	through a bounded queue.
 	 */
 
-	public static AdornedWordOutputter adornText
-	(
-		String textToAdorn ,
-		URL outputURL
-	)
-		throws IOException
+	protected static class AdornedWordWriter extends Thread
 	{
-		long startTime	= System.currentTimeMillis();
+		/**	End of output marker. */
 
-								//	Get a sentence splitter.
+		protected static final List<List<String>> END_OF_OUTPUT	=
+			new ArrayList<List<String>>();
 
-		SentenceSplitter sentenceSplitter	=
-			sentenceSplitterFactory.newSentenceSplitter();
+		/**	Queue of batches of words and adornments. */
 
-								//	Set logger into splitter.
+		protected BlockingQueue<List<List<String>>> queue;
 
-		((UsesLogger)sentenceSplitter).setLogger(
-			MorphAdornerLogger.getLogger() );
+		/**	The adorned word outputter. */
 
-								//	Set guesser into splitter.
+		protected AdornedWordOutputter outputter;
 
-		sentenceSplitter.setPartOfSpeechGuesser( partOfSpeechGuesser );
+		/**	Error which stopped the output, if any. */
 
-								//	Extract the sentences and
-								//	words in the sentences.
+		protected volatile Throwable error	= null;
 
-		List<List<String>> sentences	=
-			sentenceSplitter.extractSentences
-			(
-				textToAdorn ,
-				wordTokenizerFactory.newWordTokenizer()
-			);
-								//	Get count of sentences and words.
+		/**	Create adorned word writer.
+		 *
+		 *	@param	outputter	The adorned word outputter.
+		 *	@param	capacity	Maximum number of queued batches.
+		 */
 
-       	int[] wordAndSentenceCounts	= getWordAndSentenceCounts( sentences );
+		public AdornedWordWriter
+		(
+			AdornedWordOutputter outputter ,
+			int capacity
+		)
+		{
+			super( "MorphAdorner output" );
 
-		int wordsToTag	= wordAndSentenceCounts[ 1 ];
+			this.outputter	= outputter;
+			this.queue		=
+				new ArrayBlockingQueue<List<List<String>>>( capacity );
+		}
 
-		MorphAdornerLogger.println
-		(
-			"Extracted_words" ,
-			new Object[]
+		/**	Add a batch of words and adornments, waiting for room.
+		 *
+		 *	@param	batch	The words and adornments.
+		 *
+		 *	@throws	InterruptedException	if interrupted while waiting.
+		 */
+
+		public void put( List<List<String>> batch )
+			throws InterruptedException
+		{
+			queue.put( batch );
+		}
+
+		/**	Mark the end of the output and wait for the writer to finish.
+		 */
+
+		public void finish()
+		{
+			boolean done	= false;
+
+			while ( !done )
 			{
-				Formatters.formatIntegerWithCommas( wordsToTag ) ,
-				Formatters.formatIntegerWithCommas( wordAndSentenceCounts[ 0 ] ) ,
-				durationString( startTime )
+				try
+				{
+					queue.put( END_OF_OUTPUT );
+					join();
+
+					done	= true;
+				}
+				catch ( InterruptedException e )
+				{
+				}
 			}
-		);
-								//	See if we should use standard
-								//	spellings to help guess parts of
-								//	speech for unknow  words.
+		}
 
-		if ( partOfSpeechGuesser != null )
+		/**	Get error which stopped the output.
+		 *
+		 *	@return		The error, or null if none.
+		 */
+
+		public Throwable getError()
 		{
-			partOfSpeechGuesser.setTryStandardSpellings(
-				MorphAdornerSettings.tryStandardSpellings );
+			return error;
+		}
+
+		/**	Write batches until the end of output marker is seen.
+		 */
+
+		public void run()
+		{
+			try
+			{
+				List<List<String>> batch	= queue.take();
+
+				while ( batch != END_OF_OUTPUT )
+				{
+					if ( error == null )
+					{
+						try
+						{
+							for ( int i = 0 ; i < batch.size() ; i++ )
+							{
+								outputter.outputWordAndAdornments(
+									batch.get( i ) );
+							}
+						}
+						catch ( Throwable t )
+						{
+								//	Keep taking batches so the
+								//	adorning thread does not block
+								//	on a full queue.
+							error	= t;
+						}
+					}
+
+					batch	= queue.take();
+				}
+			}
+			catch ( InterruptedException e )
+			{
+				error	= e;
+			}
 		}
+	}
+
+	/**	Create adorned word outputter.
+	 *
+	 *	@param	outputURL		URL for output.  If null, output is
+	 *							written to a temporary file.
+	 *
+	 *	@return					The adorned word outputter.
+	 *
+	 *	@throws	IOException		if the output file cannot be created.
+	 */
+
+	protected static AdornedWordOutputter createAdornedWordOutputter
+	(
+		URL outputURL
+	)
+		throws IOException
+	{
 								//	Can't output lemma without a
 								//	lemmatizer.
 
@@ -1476,32 +1946,6 @@ public class MorphAdorner
 			doOutputLemma ,
 			doOutputStandardSpelling
 		);
-								//	Get part of speech tags for
-								//	each word in each sentence.
-
-		startTime		= System.currentTimeMillis();
-
-		List<List<AdornedWord>> result	= tagger.tagSentences( sentences );
-
-		double elapsed	=
-			( System.currentTimeMillis() - startTime );
-
-		int taggingRate	= (int)( ( wordsToTag / elapsed ) * 1000.0D );
-
-		MorphAdornerLogger.println
-		(
-			"Tagging_complete" ,
-			new Object[]
-			{
-				durationString( startTime ) ,
-				Formatters.formatIntegerWithCommas( taggingRate )
-			}
-		);
-								//	Generate tagged word output.
-
-		MorphAdornerLogger.println( "Generating_other_adornments" );
-
-		startTime	= System.currentTimeMillis();
 
 								//	Create a tagged text output writer.
 
@@ -1544,10 +1988,55 @@ public class MorphAdorner
 				'\t'
 			);
 		}
+		return outputter;
+	}
+
+	/**	Output adorned sentences.
+	 *
+	 *	@param	sentences				The tagged sentences.
+	 *	@param	outputter				Adorned word outputter.
+	 *	@param	sentenceAndWordNumbers	Last sentence number [0] and
+	 *									word number [1] output.
+	 *									Updated on return, so numbering
+	 *									continues across calls.
+	 *
+	 *	@throws	IOException		if an output error occurs.
+	 *
+	 *	<p>
+	 *	Adds the standard spelling, lemma, sentence and word numbers
+	 *	and other requested adornments to each tagged word
+	 *	and outputs the result.  The standard spellings of all the
+	 *	sentences are looked up together first when the spelling
+	 *	standardizer can do so.
+	 *	</p>
+	 */
+
+	protected static void outputAdornedSentences
+	(
+		List<List<AdornedWord>> sentences ,
+		AdornedWordOutputter outputter ,
+		int[] sentenceAndWordNumbers
+	)
+		throws IOException
+	{
+								//	Can't output lemma without a
+								//	lemmatizer.
+
+		boolean doOutputLemma	=
+			MorphAdornerSettings.outputLemma &&
+			( lemmatizer != null );
+
+								//	Can't output standard spelling
+								//	without a standardizer.
+
+		boolean doOutputStandardSpelling	=
+			MorphAdornerSettings.outputStandardSpelling &&
+				( spellingStandardizer != null );
+
 								//	Figure out what we are to output.
 
-		int sentenceNumber		= 0;
-		int wordNumber			= 0;
+		int sentenceNumber		= sentenceAndWordNumbers[ 0 ];
+		int wordNumber			= sentenceAndWordNumbers[ 1 ];
 
 		String lemma				= "";
 		String correctedSpelling	= "";
@@ -1569,12 +2058,17 @@ public class MorphAdorner
 
 		List<String> outputAdornments	= ListFactory.createNewList();
 
-								//	Output the tagged words.
-
-		Iterator<List<AdornedWord>> iterator	= result.iterator();
+								//	Look up the standard spellings
+								//	together when possible.
 
+		if ( doOutputStandardSpelling )
+		{
+			engine.prefetchStandardizedSpellings( sentences );
+		}
 								//	Loop over tagged sentences.
 
+		Iterator<List<AdornedWord>> iterator	= sentences.iterator();
+
 		while ( iterator.hasNext() )
 		{
 								//	Get next sentence.
@@ -1586,6 +2080,8 @@ public class MorphAdorner
 			sentenceNumber++;
 			sSentenceNumber	= sentenceNumber + "";
 
+			sentenceAndWordNumbers[ 0 ]	= sentenceNumber;
+
 			int sentenceSizeM1	= sentenceFromTagger.size() - 1;
 
 								//	Reset word numbers for each
@@ -1614,6 +2110,8 @@ public class MorphAdorner
 
 				wordNumber++;
 
+				sentenceAndWordNumbers[ 1 ]	= wordNumber;
+
 				if ( MorphAdornerSettings.outputWordNumber )
 				{
 					sWordNumber	= wordNumber + "";
@@ -1652,79 +2150,23 @@ public class MorphAdorner
 				if ( doOutputStandardSpelling )
 				{
 					standardizedSpelling	=
-						getStandardizedSpelling
+						engine.getStandardizedSpelling
 						(
-							spellingStandardizer ,
-							nameStandardizer ,
 							correctedSpelling ,
-							standardizedSpelling ,
 							partOfSpeechTag
 						);
-
-					if ( spellingMapper != null )
-					{
-						standardizedSpelling	=
-							spellingMapper.mapSpelling(
-								standardizedSpelling );
-					}
 				}
 								//	Get lemma to output.
 
 				if ( doOutputLemma )
 				{
-								//	Try lexicon first unless we're ignoring
-								//	lemma entries in the lexicon.
-
-					if ( !MorphAdornerSettings.ignoreLexiconEntriesForLemmatization )
-					{
-						lemma	=
-							wordLexicon.getLemma
-							(
-								correctedSpelling ,
-								partOfSpeechTag
-							);
-					}
-					else
-					{
-						lemma	= "*";
-					}
-								//	Lemma not found in word lexicon.
-								//	Use lemmatizer.
-
-					if	(	lemma.equals( "*" ) && ( lemmatizer != null ) )
-					{
-						if ( standardizedSpelling.length() > 0 )
-						{
-							lemma	=
-								getLemma
-								(
-									lemmatizer ,
-									standardizedSpelling ,
-									partOfSpeechTag
-								);
-						}
-						else
-						{
-							lemma	=
-								getLemma
-								(
-									lemmatizer ,
-									correctedSpelling ,
-									partOfSpeechTag
-								);
-						}
-					}
-								//	Force lemma to lowercase except
-								//	for proper noun tagged word.
-
-					if ( lemma.indexOf( lemmaSeparator ) < 0 )
-					{
-						if ( !partOfSpeechTags.isProperNounTag(
-							partOfSpeechTag ) )
-						{
-							lemma	= lemma.toLowerCase();
-						}
-					}
+					lemma	=
+						engine.getLemma
+						(
+							correctedSpelling ,
+							standardizedSpelling ,
+							partOfSpeechTag
+						);
 				}
 								//	Rectify # of individual lemmata
 								//	with # of parts of speech for word.
@@ -1838,9 +2280,25 @@ public class MorphAdorner
 				outputter.outputWordAndAdornments( outputAdornments );
 			}
 		}
+	}
 
-		outputter.close();
+	/**	Report where adornments were written.
+	 *
+	 *	@param	outputURL		URL for output, or null if output
+	 *							was written to a temporary file.
+	 *	@param	startTime		Time output started.
+	 *
+	 *	@throws	IOException		if the output file name cannot
+	 *							be determined.
+	 */
 
+	protected static void reportAdornmentsWritten
+	(
+		URL outputURL ,
+		long startTime
+	)
+		throws IOException
+	{
 		if ( outputURL != null )
 		{
 			MorphAdornerLogger.println
@@ -1871,14 +2329,6 @@ public class MorphAdorner
 				}
 			);
 		}
-
-		sentences.clear();
-		result.clear();
-
-		sentences	= null;
-		result		= null;
-
-		return outputter;
 	}
 
 	/**	Readorn adorned XML file.
@@ -1940,6 +2390,8 @@ public class MorphAdorner
 								//	Disable retagger if it can add or
 								//	delete words.
 
+		PartOfSpeechTagger tagger			= getTagger();
+		PartOfSpeechRetagger retagger		= getRetagger();
 		PartOfSpeechRetagger savedRetagger	= null;
 
 		if ( retagger.canAddOrDeleteWords() )
@@ -1960,6 +2412,8 @@ public class MorphAdorner
 
 		tagger.tagAdornedWordSentences( sentences );
 
+		wordsAdorned.addAndGet( wordInfoFilter.getNumberOfWords() );
+
 								//	Restore saved retagger.
 
 		if ( savedRetagger != null )
@@ -1995,6 +2449,11 @@ public class MorphAdorner
 		String originalToken		= "";
 		String partOfSpeechTag		= "";
 
+								//	Look up the standard spellings
+								//	together when possible.
+
+		engine.prefetchStandardizedSpellings( sentences );
+
 								//	Loop over sentences.
 
 		for ( int i = 0 ; i < sentences.size() ; i++ )
@@ -2010,85 +2469,30 @@ public class MorphAdorner
 			{
 								//	Get next word in sentence.
 
-				adornedWord				= sentence.get( j );
-
-								//	Update standard spelling.
-
-				originalToken			= adornedWord.getToken();
-				correctedSpelling		= adornedWord.getSpelling();
-				standardizedSpelling	= adornedWord.getStandardSpelling();
-				partOfSpeechTag			= adornedWord.getPartsOfSpeech();
-
-				standardizedSpelling	=
-					getStandardizedSpelling
-					(
-						spellingStandardizer ,
-						nameStandardizer ,
-						correctedSpelling ,
-						standardizedSpelling ,
-						partOfSpeechTag
-					);
-
-				if ( spellingMapper != null )
-				{
-					standardizedSpelling	=
-						spellingMapper.mapSpelling
-						(
-							standardizedSpelling
-						);
-				}
-								//	Update lemma.
-
-				if ( !MorphAdornerSettings.ignoreLexiconEntriesForLemmatization )
-				{
-					lemma	=
-						wordLexicon.getLemma
-						(
-							correctedSpelling ,
-							partOfSpeechTag
-						);
-				}
-				else
-				{
-					lemma	= "*";
-				}
-								//	Lemma not found in word lexicon.
-								//	Use lemmatizer.
-
-				if	(	lemma.equals( "*" ) && ( lemmatizer != null ) )
-				{
-					if ( standardizedSpelling.length() > 0 )
-					{
-						lemma	=
-							getLemma
-							(
-								lemmatizer ,
-								standardizedSpelling ,
-								partOfSpeechTag
-							);
-					}
-					else
-					{
-						lemma	=
-							getLemma
-							(
-								lemmatizer ,
-								correctedSpelling ,
-								partOfSpeechTag
-							);
-					}
-				}
-								//	Force lemma to lowercase except
-								//	for proper noun tagged word.
+				adornedWord				= sentence.get( j );
 
-				if ( lemma.indexOf( lemmaSeparator ) < 0 )
-				{
-					if ( !partOfSpeechTags.isProperNounTag(
-						partOfSpeechTag ) )
-					{
-						lemma	= lemma.toLowerCase();
-					}
-				}
+								//	Update standard spelling.
+
+				originalToken			= adornedWord.getToken();
+				correctedSpelling		= adornedWord.getSpelling();
+				standardizedSpelling	= adornedWord.getStandardSpelling();
+				partOfSpeechTag			= adornedWord.getPartsOfSpeech();
+
+				standardizedSpelling	=
+					engine.getStandardizedSpelling
+					(
+						correctedSpelling ,
+						partOfSpeechTag
+					);
+								//	Update lemma.
+
+				lemma	=
+					engine.getLemma
+					(
+						correctedSpelling ,
+						standardizedSpelling ,
+						partOfSpeechTag
+					);
 			}
 		}
 
@@ -2283,26 +2687,11 @@ public class MorphAdorner
 		String loadedMessage
 	)
 	{
-		long startTime		= System.currentTimeMillis();
-
-		int currentCount	= Abbreviations.getAbbreviationsCount();
-
-								//	Load abbreviations.
-
-		Abbreviations.loadAbbreviations( abbreviationsURL );
-
-								//	Report number added.
-		int added			=
-			Abbreviations.getAbbreviationsCount() - currentCount;
-
-		MorphAdornerLogger.println
+		AdornerEngine.loadAbbreviations
 		(
+			abbreviationsURL ,
 			loadedMessage ,
-			new Object[]
-			{
-				Formatters.formatIntegerWithCommas( added ) ,
-				durationString( startTime )
-			}
+			MorphAdornerLogger.getLogger()
 		);
 	}
 
@@ -2322,39 +2711,13 @@ public class MorphAdorner
 		String loadedMessage
 	)
 	{
-		long startTime		= System.currentTimeMillis();
-
-								//	Load words.
-
-		TextFile wordFile	=
-			new TextFile
-			(
-				MorphAdorner.class.getResourceAsStream
-				(
-					wordFileName
-				) ,
-				"utf-8"
-			);
-
-		SingleTagTaggedStrings words	=
-			new SingleTagTaggedStrings( wordFile.toArray() , posTag );
-
-		wordFile	= null;
-
-		MorphAdornerLogger.println
+		return AdornerEngine.getWordList
 		(
+			wordFileName ,
+			posTag ,
 			loadedMessage ,
-			new Object[]
-			{
-				Formatters.formatIntegerWithCommas
-				(
-					words.getStringCount()
-				) ,
-				durationString( startTime )
-			}
+			MorphAdornerLogger.getLogger()
 		);
-
-		return words;
 	}
 
 	/**	Get extra words list.
@@ -2373,45 +2736,13 @@ public class MorphAdorner
 		String loadedMessage
 	)
 	{
-		long startTime			= System.currentTimeMillis();
-
-		UTF8Properties words	= null;
-
-								//	Load extra words.
-		try
-		{
-			words	= new UTF8Properties();
-
-			words.load
-			(
-				MorphAdorner.class.getResourceAsStream
-				(
-					wordFileName
-				) ,
-				posTag
-			);
-		}
-		catch ( Exception e )
-		{
-		}
-
-		if ( words.size() > 0 )
-		{
-			MorphAdornerLogger.println
-			(
-				loadedMessage ,
-				new Object[]
-				{
-					Formatters.formatIntegerWithCommas
-					(
-						words.getStringCount()
-					) ,
-					durationString( startTime )
-				}
-			);
-		}
-
-		return words;
+		return AdornerEngine.getExtraWordsList
+		(
+			wordFileName ,
+			posTag ,
+			loadedMessage ,
+			MorphAdornerLogger.getLogger()
+		);
 	}
 
 	/**	Generate a KWIC line for a word in a sentence.
@@ -2592,7 +2923,105 @@ public class MorphAdorner
 		return result.toString();
 	}
 
+	/**	Merge xml fragments and write them to the XML writer
+	 *	through a pipe.
+	 *
+	 *	@param	inputter		The text inputter holding the
+	 *							adorned segments.
+	 *	@param	xmlWriter		The XML writer.
+	 *	@param	outputFileName	The XML output file.
+	 *	@param	maxID			The maximum word ID.
+	 *	@param	splitWords		The map of (word ID, # of word parts)
+	 *							for multipart words.
+	 *	@param	totalWords		Total words.
+	 *	@param	totalPageBreaks	Total page breaks.
+	 *
+	 *	@throws	IOException, SAXException
+	 *
+	 *	<p>
+	 *	A separate thread writes the merged segments into the pipe
+	 *	while the XML writer parses them, so the merged XML is
+	 *	never written to or reread from a file.
+	 *	</p>
+	 */
+
+	protected static void writePipedXML
+	(
+		final TextInputter inputter ,
+		MorphAdornerXMLWriter xmlWriter ,
+		String outputFileName ,
+		int maxID ,
+		Map<Integer, Integer> splitWords ,
+		int totalWords ,
+		int totalPageBreaks
+	)
+		throws IOException, SAXException
+	{
+		final PipedWriter pipedWriter	= new PipedWriter();
+		PipedReader pipedReader			=
+			new PipedReader( pipedWriter , 65536 );
+
+		Thread mergeThread	=
+			new Thread( "MorphAdorner merge XML" )
+			{
+				public void run()
+				{
+					Writer writer	=
+						new BufferedWriter( pipedWriter , 65536 );
+
+					mergeXML( inputter , writer );
+				}
+			};
+
+		mergeThread.start();
+
+								//	Resolve any relative DTD against
+								//	the temporary files directory,
+								//	as for a merged temporary file.
+
+		InputSource inputSource	= new InputSource( pipedReader );
+
+		inputSource.setSystemId
+		(
+			new File
+			(
+				FileUtils.getTemporaryFilesDirectory() , "mad.xml"
+			).toURI().toString()
+		);
+
+		try
+		{
+			xmlWriter.writeXML
+			(
+				inputSource ,
+				outputFileName ,
+				maxID ,
+				partOfSpeechTags ,
+				splitWords ,
+				totalWords ,
+				totalPageBreaks
+			);
+		}
+		finally
+		{
+								//	Closing the reader stops the
+								//	merge thread if the parse failed.
+			pipedReader.close();
+
+			try
+			{
+				mergeThread.join();
+			}
+			catch ( InterruptedException e )
+			{
+			}
+		}
+	}
+
 	/**	Merge xml fragments into one xml file.
+	 *
+	 *	@param	inputter		The text inputter holding the segments.
+	 *	@param	xmlFileName		The merged XML file name.
 	 */
 
 	protected static void mergeXML
@@ -2601,8 +3030,6 @@ public class MorphAdorner
 		String xmlFileName
 	)
 	{
-//		logMemoryUsage( "mergeXML: entered: " );
-
 		try
 		{
 								//	Open output file.
@@ -2616,6 +3043,31 @@ public class MorphAdorner
 			OutputStreamWriter writer			=
 				new OutputStreamWriter( bufferedStream , "utf-8" );
 
+			mergeXML( inputter , writer );
+		}
+		catch ( Exception e )
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**	Merge xml fragments into one xml stream.
+	 *
+	 *	@param	inputter	The text inputter holding the segments.
+	 *	@param	writer		The writer for the merged XML.
+	 *						Closed on return.
+	 */
+
+	protected static void mergeXML
+	(
+		TextInputter inputter ,
+		Writer writer
+	)
+	{
+//		logMemoryUsage( "mergeXML: entered: " );
+
+		try
+		{
 //			logMemoryUsage( "mergeXML: writer allocated: " );
 
 								//	Get list of text entries sorted
@@ -2733,14 +3185,10 @@ public class MorphAdorner
 
 //			logMemoryUsage( "mergeXML: after end segment: " );
 
-								//	Close XML output file.
+								//	Close XML output.
 			writer.close();
-			bufferedStream.close();
-			outputStream.close();
 
 			writer			= null;
-			bufferedStream	= null;
-			outputStream	= null;
 			entryNames		= null;
 
 			endText			= null;
@@ -2793,7 +3241,8 @@ public class MorphAdorner
 
 		if ( ( result.length() > 1 ) && ( result.charAt( 0 ) == '_' ) )
 		{
-			underlineCapCapMatcher.reset( result );
+			Matcher underlineCapCapMatcher	=
+				underlineCapCapPattern.matcher( result );
 
 			if ( underlineCapCapMatcher.find() )
 			{
@@ -2816,218 +3265,6 @@ public class MorphAdorner
 		return result;
 	}
 
-	/**	Get lemma (possibly compound) for a spelling.
-	 *
-	 *	@param	lemmatizer		The lemmatizer.
-	 *	@param	spelling			The spelling.
-	 *	@param	partOfSpeech	The part of speech tag.
-	 *
-	 *	@return						Lemma for spelling.  May contain
-	 *								compound spelling in form
-	 *								"lemma1:lemma2:...".
-	 */
-
-	protected static String getLemma
-	(
-		Lemmatizer lemmatizer ,
-		String spelling ,
-		String partOfSpeech
-	)
-	{
-		String result	= spelling;
-
-								//	Get lemmatization word class
-								//	for part of speech.
-		String lemmaClass	=
-			partOfSpeechTags.getLemmaWordClass( partOfSpeech );
-
-								//	Do not lemmatize words which
-								//	should not be lemmatized,
-								//	including proper names.
-
-		if	(	lemmatizer.cantLemmatize( spelling ) ||
-				lemmaClass.equals( "none" )
-			)
-		{
-			if ( partOfSpeechTags.isNumberTag( partOfSpeech ) )
-			{
-				if ( RomanNumeralUtils.isLooseRomanNumeral( result ) )
-				{
-					if ( result.charAt( 0 ) == '.' )
-					{
-						result	= result.substring( 1 );
-					}
-
-					if ( result.charAt( result.length() - 1 ) == '.' )
-					{
-						result	=
-							result.substring( 0 , result.length() - 1 );
-					}
-				}
-			}
-		}
-		else
-		{
-								//	If compound part of speech tag,
-								//	see if word appears in list of
-								//	known irregular lemmata.
-
-			boolean isCompoundTag	=
-				partOfSpeechTags.isCompoundTag( partOfSpeech );
-
-			if ( isCompoundTag )
-			{
-				result	= lemmatizer.lemmatize( spelling , "compound" );
-
-				if ( lemmatizer.isCompoundLemma( result ) )
-				{
-					return result;
-				}
-			}
-								//	Extract individual word parts.
-								//	May be more than one for a
-								//	contraction.
-
-			List wordList	=
-				spellingTokenizer.extractWords( spelling );
-
-								//	If just one word part,
-								//	get its lemma.
-
-			if ( !isCompoundTag || ( wordList.size() == 1 ) )
-			{
-				if ( lemmaClass.length() == 0 )
-				{
-					result	=
-						lemmatizer.lemmatize( spelling , "compound" );
-
-					if ( result.equals( spelling ) )
-					{
-						result	= lemmatizer.lemmatize( spelling );
-					}
-				}
-				else
-				{
-					result	=
-						lemmatizer.lemmatize( spelling , lemmaClass );
-				}
-			}
-								//	More than one word part.
-								//	Get lemma for each part and
-								//	concatenate them with the
-								//	lemma separator to form a
-								//	compound lemma.
-			else
-			{
-				result				= "";
-				String lemmaPiece	= "";
-				String[] posTags	=
-					partOfSpeechTags.splitTag( partOfSpeech );
-
-				if ( posTags.length == wordList.size() )
-				{
-					for ( int i = 0 ; i < wordList.size() ; i++ )
-					{
-						String wordPiece	= (String)wordList.get( i );
-
-						if ( i > 0 )
-						{
-							result	= result + lemmaSeparator;
-						}
-
-						lemmaClass	=
-							partOfSpeechTags.getLemmaWordClass
-							(
-								posTags[ i ]
-							);
-
-						lemmaPiece	=
-							lemmatizer.lemmatize
-							(
-								wordPiece ,
-								lemmaClass
-							);
-
-						result	= result + lemmaPiece;
-					}
-				}
-			}
-		}
-
-		return result;
-	}
-
-	/**	Get standardized spelling.
-	 *
-	 *	@param	standardizer			The spelling standardizer.
-	 *	@param	nameStandardizer		The name standardizer.
-	 *	@param	correctedSpelling		The spelling.
-	 *	@param	standardizedSpelling	The initial standardized spelling.
-	 *	@param	partOfSpeech			The part of speech tag.
-	 *
-	 *	@return							Standardized spelling.
-	 */
-
-	protected static String getStandardizedSpelling
-	(
-		SpellingStandardizer standardizer ,
-		NameStandardizer nameStandardizer ,
-		String correctedSpelling ,
-		String standardizedSpelling ,
-		String partOfSpeech
-	)
-	{
-		String spelling	= correctedSpelling;
-		String result	= correctedSpelling;
-
-		if ( partOfSpeechTags.isProperNounTag( partOfSpeech ) )
- 		{
- 			result	= nameStandardizer.standardizeProperName( spelling );
-		}
-		else if (	partOfSpeechTags.isNounTag( partOfSpeech )  &&
-					CharUtils.hasInternalCaps( spelling ) )
- 		{
-		}
-		else if ( partOfSpeechTags.isForeignWordTag( partOfSpeech ) )
-		{
-		}
-		else if ( partOfSpeechTags.isNumberTag( partOfSpeech ) )
-		{
-			if ( RomanNumeralUtils.isLooseRomanNumeral( result ) )
-			{
-				if ( result.charAt( 0 ) == '.' )
-				{
-					result	= result.substring( 1 );
-				}
-
-				if ( result.charAt( result.length() - 1 ) == '.' )
-				{
-					result	=
-						result.substring( 0 , result.length() - 1 );
-				}
-			}
-		}
-		else
-		{
-			result	=
-				standardizer.standardizeSpelling
-				(
-					spelling ,
-					partOfSpeechTags.getMajorWordClass
-					(
-						partOfSpeech
-					)
-				);
-
-			if ( result.equalsIgnoreCase( spelling ) )
-			{
-				result	= spelling;
-			}
-		}
-
-		return result;
-	}
-
 	/**	Fix empty soft tags.
 	 *
 	 *	@param	document	The DOM document.
@@ -3240,6 +3477,17 @@ public class MorphAdorner
 		if ( MorphAdornerSettings.fileNames.length > 0 )
 		{
 			processInputFiles();
+
+								//	Save standardized spellings
+								//	for the next run.
+			try
+			{
+				engine.saveStandardizedSpellingMemo();
+			}
+			catch ( Exception e )
+			{
+				e.printStackTrace();
+			}
 		}
 		else
 		{
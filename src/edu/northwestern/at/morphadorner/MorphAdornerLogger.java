@@ -22,6 +22,17 @@ public class MorphAdornerLogger
 
 	protected static Logger logger	= null;
 
+	/**	Per-thread logger which overrides the shared logger.
+	 *
+	 *	<p>
+	 *	Used by the multithreaded adornment driver to keep the
+	 *	messages for each input file together.
+	 *	</p>
+	 */
+
+	protected static ThreadLocal<Logger> threadLogger	=
+		new ThreadLocal<Logger>();
+
 	/**	Initializes the logger.
 	 *
 	 *	@param	configFileName		Log configuration file name.
@@ -66,7 +77,7 @@ public class MorphAdornerLogger
 
 	public static void logDebug( String str )
 	{
-		logger.logDebug( str );
+		getLogger().logDebug( str );
 	}
 
 	/**	Logs Info message.
@@ -76,7 +87,7 @@ public class MorphAdornerLogger
 
 	public static void logInfo( String str )
 	{
-		logger.logInfo( str );
+		getLogger().logInfo( str );
 	}
 
 	/**	Logs error message.
@@ -86,7 +97,18 @@ public class MorphAdornerLogger
 
 	public static void logError( String str )
 	{
-		logger.logError( str );
+		getLogger().logError( str );
+	}
+
+	/**	Logs error message with exception.
+	 *
+	 *	@param	str			Log message.
+	 *	@param	t			The exception.
+	 */
+
+	public static void logError( String str , Throwable t )
+	{
+		getLogger().logError( str , t );
 	}
 
 	/**	Get the logger.
@@ -95,10 +117,45 @@ public class MorphAdornerLogger
 	 */
 
 	public static Logger getLogger()
+	{
+		Logger result	= threadLogger.get();
+
+		if ( result == null )
+		{
+			result	= logger;
+		}
+
+		return result;
+	}
+
+	/**	Get the shared logger.
+	 *
+	 *	@return		The logger shared by all threads.
+	 */
+
+	public static Logger getSharedLogger()
 	{
 		return logger;
 	}
 
+	/**	Set the logger for the current thread.
+	 *
+	 *	@param	logger	Logger for current thread.  Null to
+	 *					revert to the shared logger.
+	 */
+
+	public static void setThreadLogger( Logger logger )
+	{
+		if ( logger == null )
+		{
+			threadLogger.remove();
+		}
+		else
+		{
+			threadLogger.set( logger );
+		}
+	}
+
 	/**	Print a string to log file.
 	 *
 	 *	@param	formatString	Resource string name to print.
@@ -248,6 +248,22 @@ public class MorphAdornerSettings
 
 	public static boolean useXMLHandler	= false;
 
+	/**	Number of threads used to adorn multiple input files. */
+
+	public static int adornerThreads	= 1;
+
+	/**	Number of threads used to adorn text segments of one XML file. */
+
+	public static int adornerSegmentThreads	= 1;
+
+	/**	Adorn plain text a sentence at a time while reading it. */
+
+	public static boolean streamPlainText	= false;
+
+	/**	Merge adorned XML segments in memory instead of temporary files. */
+
+	public static boolean mergeXMLInMemory	= false;
+
 	/**	Ignore lemma in lexicon when lemmatizing. */
 
 	public static boolean ignoreLexiconEntriesForLemmatization	= false;
@@ -513,6 +529,29 @@ public class MorphAdornerSettings
 		programBanner		= getString( "programBanner" );
 	}
 
+	/**	Get resource bundle.
+	 *
+	 *	@return		The resource bundle.
+	 *
+	 *	@throws	MissingResourceException	If the bundle cannot be found.
+	 *
+	 *	<p>
+	 *	The bundle is loaded on first use when the settings have not
+	 *	been initialized, e.g., when an {@link AdornerEngine} is used
+	 *	outside the MorphAdorner command line program.
+	 *	</p>
+	 */
+
+	protected static synchronized ResourceBundle getResourceBundle()
+	{
+		if ( resourceBundle == null )
+		{
+			resourceBundle	= ResourceBundle.getBundle( resourceName );
+		}
+
+		return resourceBundle;
+	}
+
 	/**	Get string from ResourceBundle.  If no string is found, a default
 	 *  string is used.
 	 *
@@ -538,7 +577,7 @@ public class MorphAdornerSettings
 
 		try
 		{
-			result	= resourceBundle.getString( resourceName );
+			result	= getResourceBundle().getString( resourceName );
 		}
 		catch ( MissingResourceException e )
 		{
@@ -570,7 +609,7 @@ public class MorphAdornerSettings
 
 		try
 		{
-			result	= resourceBundle.getString( resourceName );
+			result	= getResourceBundle().getString( resourceName );
 		}
 		catch ( MissingResourceException e )
 		{
@@ -600,7 +639,7 @@ public class MorphAdornerSettings
 
 		try
 		{
-			result = splitStrings( resourceBundle.getString( resourceName ) );
+			result = splitStrings( getResourceBundle().getString( resourceName ) );
 		}
 		catch ( MissingResourceException e )
 		{
@@ -997,6 +1036,26 @@ public class MorphAdornerSettings
 				"adorner.handle_xml" ,
 				useXMLHandler );
 
+		adornerThreads	=
+			getIntegerProperty(
+				"adorner.threads" ,
+				adornerThreads );
+
+		adornerSegmentThreads	=
+			getIntegerProperty(
+				"adorner.segment_threads" ,
+				adornerSegmentThreads );
+
+		streamPlainText	=
+			getBooleanProperty(
+				"adorner.stream_plain_text" ,
+				streamPlainText );
+
+		mergeXMLInMemory	=
+			getBooleanProperty(
+				"adorner.merge_xml_in_memory" ,
+				mergeXMLInMemory );
+
 		ignoreLexiconEntriesForLemmatization	=
 			getBooleanProperty(
 				"adorner.lemmatization.ignorelexiconentries" ,
@@ -1755,26 +1814,30 @@ public class MorphAdornerSettings
 	 *	@param	outputStandardSpelling	true to output standard spelling.
 	 */
 
-	public static void setXMLWordAttributes
+	public static synchronized void setXMLWordAttributes
 	(
 		boolean outputOriginalToken ,
 		boolean outputLemma ,
 		boolean outputStandardSpelling
 	)
 	{
-		xmlWordAttributes	= ListFactory.createNewList();
+								//	Build the new attribute list locally
+								//	so that concurrent readers never see
+								//	a partially filled list.
+
+		List<String> attributes	= ListFactory.createNewList();
 
 								//	Sentence number.
 
 		if ( outputSentenceNumber )
 		{
-			xmlWordAttributes.add( outputSentenceNumberAttribute );
+			attributes.add( outputSentenceNumberAttribute );
 		}
 								//	Word number.
 
 		if ( outputWordNumber )
 		{
-			xmlWordAttributes.add( outputWordNumberAttribute );
+			attributes.add( outputWordNumberAttribute );
 		}
 								//	Original token.
 								//	Note:  MUST output this if
@@ -1782,37 +1845,37 @@ public class MorphAdornerSettings
 
 		if ( outputOriginalToken )
 		{
-			xmlWordAttributes.add( outputOriginalTokenAttribute );
+			attributes.add( outputOriginalTokenAttribute );
 
-			xgOptions.setWordField( xmlWordAttributes.size() );
+			xgOptions.setWordField( attributes.size() );
 		}
 								//	Spelling.
 
 		if ( outputSpelling )
 		{
-			xmlWordAttributes.add( outputSpellingAttribute );
+			attributes.add( outputSpellingAttribute );
 		}
 								//	Part of speech.
 
 		if ( outputPartOfSpeech)
 		{
-			xmlWordAttributes.add( outputPartOfSpeechAttribute );
+			attributes.add( outputPartOfSpeechAttribute );
 		}
 								//	Standard spelling.
 
 		if ( outputStandardSpelling )
 		{
-			xmlWordAttributes.add( outputStandardSpellingAttribute );
+			attributes.add( outputStandardSpellingAttribute );
 		}
 								//	Lemma.
 		if ( outputLemma )
 		{
-			xmlWordAttributes.add( outputLemmaAttribute );
+			attributes.add( outputLemmaAttribute );
 		}
 								//	End of sentence flag.
 		if ( outputEOSFlag )
 		{
-			xmlWordAttributes.add( outputEOSFlagAttribute );
+			attributes.add( outputEOSFlagAttribute );
 		}
 								//	Word ordinal.
 /*
@@ -1822,15 +1885,17 @@ public class MorphAdornerSettings
 
 		if ( outputWordOrdinal )
 		{
-			xmlWordAttributes.add( outputWordOrdinalAttribute );
+			attributes.add( outputWordOrdinalAttribute );
 		}
 */
 								//	KWIC index.
 		if ( outputKWIC )
 		{
-			xmlWordAttributes.add( outputLeftKWICAttribute );
-			xmlWordAttributes.add( outputRightKWICAttribute );
+			attributes.add( outputLeftKWICAttribute );
+			attributes.add( outputRightKWICAttribute );
 		}
+
+		xmlWordAttributes	= attributes;
 	}
 
 	/**	Get XML word attribute.
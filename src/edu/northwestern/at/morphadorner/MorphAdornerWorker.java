@@ -0,0 +1,297 @@
+package edu.northwestern.at.morphadorner;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.guesser.*;
+import edu.northwestern.at.utils.corpuslinguistics.sentencesplitter.*;
+import edu.northwestern.at.utils.corpuslinguistics.tokenizer.*;
+import edu.northwestern.at.utils.logger.*;
+
+/**	Per-thread adornment components.
+ *
+ *	<p>
+ *	Each thread which uses an {@link AdornerEngine} gets its own
+ *	part of speech tagger, retagger, part of speech guesser,
+ *	sentence splitter and tokenizers, since these hold mutable state
+ *	while adorning a text.  The word and suffix lexicons, tagger rules,
+ *	transition matrix, auxiliary word lists and spelling standardizer
+ *	are taken from the engine and are shared.
+ *	</p>
+ */
+
+public class MorphAdornerWorker implements UsesLogger
+{
+	/**	Part of speech tagger. */
+
+	protected PartOfSpeechTagger tagger;
+
+	/**	Part of speech retagger. */
+
+	protected PartOfSpeechRetagger retagger;
+
+	/**	Part of speech guesser. */
+
+	protected PartOfSpeechGuesser partOfSpeechGuesser;
+
+	/**	Sentence splitter. */
+
+	protected SentenceSplitter sentenceSplitter;
+
+	/**	Word tokenizer. */
+
+	protected WordTokenizer wordTokenizer;
+
+	/**	Spelling tokenizer for lemmatization. */
+
+	protected WordTokenizer spellingTokenizer;
+
+	/**	Logger. */
+
+	protected Logger logger;
+
+	/**	Create a worker.
+	 *
+	 *	@param	engine	The adornment engine holding the shared
+	 *					model data.
+	 *	@param	logger	The logger.
+	 *
+	 *	@throws	InvalidRuleException	If a tagger rule is bad.
+	 */
+
+	public MorphAdornerWorker
+	(
+		AdornerEngine engine ,
+		Logger logger
+	)
+		throws InvalidRuleException
+	{
+								//	Create a part of speech tagger.
+
+		tagger		= engine.newPartOfSpeechTagger();
+
+								//	Create a part of speech retagger.
+
+		retagger	= engine.newPartOfSpeechRetagger();
+
+		tagger.setRetagger( retagger );
+
+								//	Create a part of speech guesser
+								//	which uses the engine's lexicons
+								//	and word lists.
+
+		partOfSpeechGuesser	= engine.newPartOfSpeechGuesser();
+
+		partOfSpeechGuesser.setCheckPossessives
+		(
+			engine.getSettings().checkPossessives
+		);
+
+		if ( engine.getSettings().shareGuesserCache )
+		{
+			partOfSpeechGuesser.setGuessCache( engine.getSharedGuessCache() );
+		}
+
+		Lexicon wordLexicon	= engine.getWordLexicon();
+
+		partOfSpeechGuesser.setWordLexicon( wordLexicon );
+
+		partOfSpeechGuesser.setSuffixLexicon( engine.getSuffixLexicon() );
+
+		partOfSpeechGuesser.setSuffixLexiconTrie(
+			engine.getSuffixLexiconTrie() );
+
+		List<TaggedStrings> wordLists	= engine.getAuxiliaryWordLists();
+
+		for ( int i = 0 ; i < wordLists.size() ; i++ )
+		{
+			partOfSpeechGuesser.addAuxiliaryWordList( wordLists.get( i ) );
+		}
+
+		if ( engine.getSpellingStandardizer() != null )
+		{
+			partOfSpeechGuesser.setSpellingStandardizer(
+				engine.getSpellingStandardizer() );
+		}
+
+		tagger.setPartOfSpeechGuesser( partOfSpeechGuesser );
+
+								//	Set tagger to use lexicon.
+
+		tagger.setLexicon( wordLexicon );
+
+								//	Set tagger rules.
+
+		if ( engine.getContextRules() != null )
+		{
+			tagger.setContextRules( engine.getContextRules() );
+		}
+
+		if ( engine.getLexicalRules() != null )
+		{
+			tagger.setLexicalRules( engine.getLexicalRules() );
+		}
+								//	Share transition matrix.
+
+		if ( engine.getTransitionMatrix() != null )
+		{
+			tagger.setTransitionMatrix( engine.getTransitionMatrix() );
+		}
+								//	Create sentence splitter.
+
+		sentenceSplitter	= engine.newSentenceSplitter();
+
+		sentenceSplitter.setPartOfSpeechGuesser( partOfSpeechGuesser );
+
+								//	Create tokenizers.
+
+		wordTokenizer		= engine.newWordTokenizer();
+		spellingTokenizer	= new PennTreebankTokenizer();
+
+								//	Set logger into components.
+		setLogger( logger );
+	}
+
+	/**	Get the part of speech tagger.
+	 *
+	 *	@return		The part of speech tagger.
+	 */
+
+	public PartOfSpeechTagger getTagger()
+	{
+		return tagger;
+	}
+
+	/**	Get the part of speech retagger.
+	 *
+	 *	@return		The part of speech retagger.
+	 */
+
+	public PartOfSpeechRetagger getRetagger()
+	{
+		return retagger;
+	}
+
+	/**	Get the part of speech guesser.
+	 *
+	 *	@return		The part of speech guesser.
+	 */
+
+	public PartOfSpeechGuesser getPartOfSpeechGuesser()
+	{
+		return partOfSpeechGuesser;
+	}
+
+	/**	Get the sentence splitter.
+	 *
+	 *	@return		The sentence splitter.
+	 */
+
+	public SentenceSplitter getSentenceSplitter()
+	{
+		return sentenceSplitter;
+	}
+
+	/**	Get the word tokenizer.
+	 *
+	 *	@return		The word tokenizer.
+	 */
+
+	public WordTokenizer getWordTokenizer()
+	{
+		return wordTokenizer;
+	}
+
+	/**	Get the spelling tokenizer.
+	 *
+	 *	@return		The spelling tokenizer.
+	 */
+
+	public WordTokenizer getSpellingTokenizer()
+	{
+		return spellingTokenizer;
+	}
+
+	/**	Get the logger.
+	 *
+	 *	@return		The logger.
+	 */
+
+	public Logger getLogger()
+	{
+		return logger;
+	}
+
+	/**	Set the logger.
+	 *
+	 *	@param	logger		The logger.
+	 *
+	 *	<p>
+	 *	The logger is also set into the tagger, retagger,
+	 *	guesser and sentence splitter.
+	 *	</p>
+	 */
+
+	public void setLogger( Logger logger )
+	{
+		this.logger	= logger;
+
+		((UsesLogger)tagger).setLogger( logger );
+		((UsesLogger)retagger).setLogger( logger );
+		((UsesLogger)partOfSpeechGuesser).setLogger( logger );
+
+		if ( sentenceSplitter instanceof UsesLogger )
+		{
+			((UsesLogger)sentenceSplitter).setLogger( logger );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
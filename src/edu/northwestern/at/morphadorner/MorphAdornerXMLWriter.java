@@ -40,6 +40,32 @@ public interface MorphAdornerXMLWriter
 	 	int totalPageBreaks
 	)
 		throws IOException, SAXException;
+
+	/**	Write XML output.
+	 *
+	 *	@param	input			The XML input source.
+	 *	@param	outFile			The XML output file.
+	 *	@param	maxID			The maximum ID value in the input.
+	 *	@param	posTags			The part of speech tags.
+	 *	@param	splitWords		The map of (word ID, # of word parts)
+	 *							for multipart words.
+	 *	@param	totalWords		Total words.
+	 *	@param	totalPageBreaks	Total page breaks.
+	 *
+	 *	@throws				IOException, SAXException
+	 */
+
+	public void writeXML
+	(
+		InputSource input ,
+		String outFile ,
+		int maxID ,
+		PartOfSpeechTags posTags ,
+		Map<Integer, Integer> splitWords ,
+	 	int totalWords ,
+	 	int totalPageBreaks
+	)
+		throws IOException, SAXException;
 }
 
 /*
@@ -0,0 +1,939 @@
+package edu.northwestern.at.morphadorner;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import org.xml.sax.*;
+import org.xml.sax.helpers.*;
+
+import com.megginson.sax.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.xml.*;
+
+/**	Filter to add word numbers, sentence numbers, and sentence milestones
+ *	to adorned text.
+ *
+ *	<p>
+ *	Sentences and words are numbered in word ID order.  The XML
+ *	tagger assigns word IDs in document order, except that the
+ *	words in a jump tag follow all the other words of the jump tag's
+ *	parent element.  Words outside a jump tag's parent are
+ *	numbered as they pass through the filter.  From the start of a
+ *	jump tag to the end of its parent, the XML events are held,
+ *	the ID, part and end of sentence flag of each word are recorded
+ *	in arrays, and the words are numbered in ID order when the
+ *	parent ends.  The held events are then passed on with the
+ *	numbers added.
+ *	</p>
+ *
+ *	<p>
+ *	A sentence end milestone is emitted after any &lt;c&gt; elements
+ *	following the last word in the sentence.
+ *	</p>
+ */
+
+public class SentenceNumberFilter extends ExtendedXMLFilterImpl
+{
+	/**	Word is the end of a sentence. */
+
+	protected static final int EOS			= 1;
+
+	/**	Word is the first or only part of a word. */
+
+	protected static final int FIRST_PART	= 2;
+
+	/**	Word is the last or only part of a word. */
+
+	protected static final int LAST_PART	= 4;
+
+	/**	Held event types. */
+
+	protected static final int START_ELEMENT			= 0;
+	protected static final int END_ELEMENT				= 1;
+	protected static final int CHARACTERS				= 2;
+	protected static final int IGNORABLE_WHITESPACE		= 3;
+	protected static final int PROCESSING_INSTRUCTION	= 4;
+
+	/**	ID attribute name. */
+
+	protected String idAttrName	= WordAttributeNames.id;
+
+	/**	True to output sentence numbers. */
+
+	protected boolean outputSentenceNumber;
+
+	/**	True to output word numbers. */
+
+	protected boolean outputWordNumber;
+
+	/**	True to output running word numbers. */
+
+	protected boolean outputRunningWordNumbers;
+
+	/**	True to output sentence boundary milestones. */
+
+	protected boolean outputSentenceBoundaryMilestones;
+
+	/**	Current sentence number. */
+
+	protected int sentenceNumber	= 0;
+
+	/**	Current word number within sentence. */
+
+	protected int wordNumber		= 0;
+
+	/**	Current running word number. */
+
+	protected int runningWordNumber	= 0;
+
+	/**	Sentence number of last word numbered. */
+
+	protected int wordSentenceNumber;
+
+	/**	Word number of last word numbered. */
+
+	protected int wordWordNumber;
+
+	/**	Current element depth. */
+
+	protected int depth	= 0;
+
+	/**	Depth at which events started being held.  -1 if not holding. */
+
+	protected int holdDepth	= -1;
+
+	/**	Held events. */
+
+	protected List<HeldEvent> heldEvents	= ListFactory.createNewList();
+
+	/**	IDs of held words. */
+
+	protected String[] heldIDs			= new String[ 256 ];
+
+	/**	Flags of held words. */
+
+	protected int[] heldFlags			= new int[ 256 ];
+
+	/**	Sentence numbers of held words. */
+
+	protected int[] heldSentenceNumbers	= new int[ 256 ];
+
+	/**	Word numbers of held words. */
+
+	protected int[] heldWordNumbers		= new int[ 256 ];
+
+	/**	Number of held words. */
+
+	protected int heldWordCount			= 0;
+
+	/**	True if the current word ends a sentence. */
+
+	protected boolean wordEndsSentence	= false;
+
+	/**	True if inside a &lt;c&gt; element. */
+
+	protected boolean inCElement		= false;
+
+	/**	Sentence number for pending sentence end milestone.
+	 *	0 if none.
+	 */
+
+	protected int pendingEndSentence	= 0;
+
+	/**	URI for pending sentence end milestone. */
+
+	protected String pendingEndURI;
+
+	/**	Word path for pending sentence end milestone. */
+
+	protected String pendingEndPath;
+
+	/**	Create sentence number filter.
+	 *
+	 *	@param	reader	XML input reader to which this filter applies.
+	 */
+
+	public SentenceNumberFilter( XMLReader reader )
+	{
+		super( reader );
+								//	Save ID attribute name.
+
+		this.idAttrName	=
+			MorphAdornerSettings.xgOptions.getIdArgumentName();
+
+								//	Save output options.
+
+		this.outputSentenceNumber	=
+			MorphAdornerSettings.outputSentenceNumber;
+
+		this.outputWordNumber		=
+			MorphAdornerSettings.outputWordNumber;
+
+		this.outputRunningWordNumbers	=
+			MorphAdornerSettings.outputRunningWordNumbers;
+
+		this.outputSentenceBoundaryMilestones	=
+			MorphAdornerSettings.outputSentenceBoundaryMilestones;
+	}
+
+	/**	Handle start of an XML element.
+	  *
+	  *	@param	uri			The XML element's URI.
+	  *	@param	localName	The XML element's local name.
+	  *	@param	qName		The XML element's qname.
+	  *	@param	atts		The XML element's attributes.
+	  */
+
+	public void startElement
+	(
+		String uri ,
+		String localName ,
+		String qName ,
+		Attributes atts
+	)
+		throws SAXException
+	{
+								//	Start holding events at a jump
+								//	tag.  The jump tag's words are
+								//	numbered after the remaining words
+								//	of its parent.
+
+		if	(	( holdDepth < 0 ) &&
+				MorphAdornerSettings.xgOptions.isJumpTag( qName )
+			)
+		{
+			holdDepth	= depth;
+		}
+
+		depth++;
+								//	Hold event if we're in a jump tag's
+								//	parent.
+		if ( holdDepth >= 0 )
+		{
+			HeldEvent event	= new HeldEvent( START_ELEMENT );
+
+			event.uri		= uri;
+			event.localName	= localName;
+			event.qName		= qName;
+			event.atts		= new AttributesImpl( atts );
+
+			if ( qName.equals( "w" ) )
+			{
+				event.wordIndex	= holdWord( atts );
+			}
+
+			heldEvents.add( event );
+		}
+								//	Otherwise number a word now.
+
+		else if ( qName.equals( "w" ) )
+		{
+			int flags	= getWordFlags( atts );
+
+			numberWord( flags );
+
+			emitWordStart
+			(
+				uri ,
+				localName ,
+				qName ,
+				atts ,
+				flags ,
+				wordSentenceNumber ,
+				wordWordNumber
+			);
+		}
+		else
+		{
+			emitStartElement( uri , localName , qName , atts );
+		}
+	}
+
+	/**	Handle end of an element.
+	 *
+	 *	@param	uri			The XML element's URI.
+	 *	@param	localName	The XML element's local name.
+	 *	@param	qName		The XML element's qname.
+	 */
+
+	public void endElement
+	(
+		String uri ,
+		String localName ,
+		String qName
+	)
+		throws SAXException
+	{
+		depth--;
+
+		if ( holdDepth >= 0 )
+		{
+			HeldEvent event	= new HeldEvent( END_ELEMENT );
+
+			event.uri		= uri;
+			event.localName	= localName;
+			event.qName		= qName;
+
+			heldEvents.add( event );
+
+								//	At end of jump tag's parent,
+								//	number the held words and
+								//	emit the held events.
+
+			if ( depth < holdDepth )
+			{
+				releaseHeldEvents();
+			}
+		}
+		else
+		{
+			emitEndElement( uri , localName , qName );
+		}
+	}
+
+    /**	Handle character data.
+     *
+     *	@param	ch		Array of characters.
+     *	@param	start	The starting position in the array.
+     *	@param	length	The number of characters.
+     *
+     *	@throws	org.xml.sax.SAXException If there is an error.
+     */
+
+	public void characters( char ch[] , int start , int length )
+		throws SAXException
+	{
+		if ( holdDepth >= 0 )
+		{
+			HeldEvent event	= new HeldEvent( CHARACTERS );
+
+			event.text	= new String( ch , start , length );
+
+			heldEvents.add( event );
+		}
+		else
+		{
+			super.characters( ch , start , length );
+		}
+	}
+
+    /**	Handle whitespace.
+     *
+     *	@param	ch		Array of characters.
+     *	@param	start	The starting position in the array.
+     *	@param	length	The number of characters.
+     *
+     *	@throws	org.xml.sax.SAXException If there is an error.
+     */
+
+	public void ignorableWhitespace( char ch[] , int start , int length )
+		throws SAXException
+	{
+		if ( holdDepth >= 0 )
+		{
+			HeldEvent event	= new HeldEvent( IGNORABLE_WHITESPACE );
+
+			event.text	= new String( ch , start , length );
+
+			heldEvents.add( event );
+		}
+		else
+		{
+			super.ignorableWhitespace( ch , start , length );
+		}
+	}
+
+	/**	Handle processing instruction.
+	 *
+	 *	@param	target	The processing instruction target.
+	 *	@param	data	The processing instruction data.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	public void processingInstruction( String target , String data )
+		throws SAXException
+	{
+		if ( holdDepth >= 0 )
+		{
+			HeldEvent event	= new HeldEvent( PROCESSING_INSTRUCTION );
+
+			event.qName	= target;
+			event.text	= data;
+
+			heldEvents.add( event );
+		}
+		else
+		{
+			super.processingInstruction( target , data );
+		}
+	}
+
+	/**	Handle end of document.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	public void endDocument()
+		throws SAXException
+	{
+		releaseHeldEvents();
+		emitPendingEndMilestone();
+
+		super.endDocument();
+	}
+
+	/**	Get word flags from word element attributes.
+	 *
+	 *	@param	atts	The word element's attributes.
+	 *
+	 *	@return			Combination of EOS, FIRST_PART, and LAST_PART.
+	 */
+
+	protected int getWordFlags( Attributes atts )
+	{
+		int result	= 0;
+
+		String eos	= atts.getValue( WordAttributeNames.eos );
+
+		if ( ( eos != null ) && eos.equals( "1" ) )
+		{
+			result	|= EOS;
+		}
+
+		String part	= atts.getValue( WordAttributeNames.part );
+
+		if	(	( part == null ) || part.equals( "N" ) ||
+				part.equals( "I" )
+			)
+		{
+			result	|= FIRST_PART;
+		}
+
+		if	(	( part == null ) || part.equals( "N" ) ||
+				part.equals( "F" )
+			)
+		{
+			result	|= LAST_PART;
+		}
+
+		return result;
+	}
+
+	/**	Number a word.
+	 *
+	 *	@param	flags	The word flags.
+	 *
+	 *	<p>
+	 *	Words must be numbered in word ID order.  The sentence and
+	 *	word numbers are left in wordSentenceNumber and wordWordNumber.
+	 *	</p>
+	 */
+
+	protected void numberWord( int flags )
+	{
+								//	If the current sentence is empty,
+								//	we are starting a new sentence.
+
+		if ( ( flags & FIRST_PART ) != 0 )
+		{
+			if ( wordNumber == 0 )
+			{
+				sentenceNumber++;
+			}
+								//	Increment word number.
+			wordNumber++;
+			runningWordNumber++;
+		}
+								//	Save word and sentence number.
+
+		wordSentenceNumber	= sentenceNumber;
+
+		wordWordNumber		=
+			outputRunningWordNumbers ? runningWordNumber : wordNumber;
+
+								//	If this word is the last word in the
+								//	sentence, set the word number to zero
+								//	so we will start a new sentence on
+								//	the next word.
+
+		if ( ( flags & EOS ) != 0 )
+		{
+			wordNumber	= 0;
+		}
+	}
+
+	/**	Record a held word.
+	 *
+	 *	@param	atts	The word element's attributes.
+	 *
+	 *	@return			Index of the held word.
+	 */
+
+	protected int holdWord( Attributes atts )
+	{
+		if ( heldWordCount == heldIDs.length )
+		{
+			int newLength	= heldWordCount * 2;
+
+			String[] newIDs	= new String[ newLength ];
+			int[] newFlags	= new int[ newLength ];
+
+			System.arraycopy( heldIDs , 0 , newIDs , 0 , heldWordCount );
+			System.arraycopy( heldFlags , 0 , newFlags , 0 , heldWordCount );
+
+			heldIDs				= newIDs;
+			heldFlags			= newFlags;
+			heldSentenceNumbers	= new int[ newLength ];
+			heldWordNumbers		= new int[ newLength ];
+		}
+
+		String id	= atts.getValue( idAttrName );
+
+		heldIDs[ heldWordCount ]	= ( id == null ) ? "" : id;
+		heldFlags[ heldWordCount ]	= getWordFlags( atts );
+
+		return heldWordCount++;
+	}
+
+	/**	Number the held words and emit the held events.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	protected void releaseHeldEvents()
+		throws SAXException
+	{
+		holdDepth	= -1;
+
+		if ( heldEvents.size() == 0 ) return;
+
+								//	Number held words in word ID order.
+
+		Integer[] order	= new Integer[ heldWordCount ];
+
+		for ( int i = 0 ; i < heldWordCount ; i++ )
+		{
+			order[ i ]	= i;
+		}
+
+		Arrays.sort
+		(
+			order ,
+			new Comparator<Integer>()
+			{
+				public int compare( Integer i1 , Integer i2 )
+				{
+					return heldIDs[ i1 ].compareTo( heldIDs[ i2 ] );
+				}
+			}
+		);
+
+		for ( int i = 0 ; i < heldWordCount ; i++ )
+		{
+			int wordIndex	= order[ i ];
+
+			numberWord( heldFlags[ wordIndex ] );
+
+			heldSentenceNumbers[ wordIndex ]	= wordSentenceNumber;
+			heldWordNumbers[ wordIndex ]		= wordWordNumber;
+		}
+								//	Emit held events in document order.
+
+		for ( int i = 0 ; i < heldEvents.size() ; i++ )
+		{
+			HeldEvent event	= heldEvents.get( i );
+
+			switch ( event.type )
+			{
+				case START_ELEMENT:
+					if ( event.wordIndex >= 0 )
+					{
+						emitWordStart
+						(
+							event.uri ,
+							event.localName ,
+							event.qName ,
+							event.atts ,
+							heldFlags[ event.wordIndex ] ,
+							heldSentenceNumbers[ event.wordIndex ] ,
+							heldWordNumbers[ event.wordIndex ]
+						);
+					}
+					else
+					{
+						emitStartElement
+						(
+							event.uri ,
+							event.localName ,
+							event.qName ,
+							event.atts
+						);
+					}
+					break;
+
+				case END_ELEMENT:
+					emitEndElement
+					(
+						event.uri ,
+						event.localName ,
+						event.qName
+					);
+					break;
+
+				case CHARACTERS:
+					super.characters
+					(
+						event.text.toCharArray() ,
+						0 ,
+						event.text.length()
+					);
+					break;
+
+				case IGNORABLE_WHITESPACE:
+					super.ignorableWhitespace
+					(
+						event.text.toCharArray() ,
+						0 ,
+						event.text.length()
+					);
+					break;
+
+				case PROCESSING_INSTRUCTION:
+					super.processingInstruction( event.qName , event.text );
+					break;
+			}
+		}
+								//	Clear held events and words.
+
+		heldEvents.clear();
+
+		Arrays.fill( heldIDs , 0 , heldWordCount , null );
+
+		heldWordCount	= 0;
+	}
+
+	/**	Emit start of a word element with sentence and word numbers.
+	 *
+	 *	@param	uri				The word element's URI.
+	 *	@param	localName		The word element's local name.
+	 *	@param	qName			The word element's qname.
+	 *	@param	atts			The word element's attributes.
+	 *	@param	flags			The word flags.
+	 *	@param	sentenceNumber	The word's sentence number.
+	 *	@param	wordNumber		The word's word number.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	protected void emitWordStart
+	(
+		String uri ,
+		String localName ,
+		String qName ,
+		Attributes atts ,
+		int flags ,
+		int sentenceNumber ,
+		int wordNumber
+	)
+		throws SAXException
+	{
+		emitPendingEndMilestone();
+
+		String path	= atts.getValue( WordAttributeNames.p );
+
+								//	Output start sentence milestone
+								//	if requested and this is the first
+								//	word in a sentence.
+
+		if	(	( wordNumber == 1 ) && ( ( flags & FIRST_PART ) != 0 ) &&
+				outputSentenceBoundaryMilestones
+			)
+		{
+			emitMilestone( uri , "start" , sentenceNumber , path );
+		}
+								//	Add word and sentence numbers.
+
+		AttributesImpl newAtts	= new AttributesImpl( atts );
+
+		if ( outputSentenceNumber )
+		{
+			setAttributeValue
+			(
+				newAtts ,
+				MorphAdornerSettings.outputSentenceNumberAttribute ,
+				sentenceNumber
+			);
+		}
+
+		if ( outputWordNumber )
+		{
+			setAttributeValue
+			(
+				newAtts ,
+				MorphAdornerSettings.outputWordNumberAttribute ,
+				wordNumber
+			);
+		}
+
+		super.startElement( uri , localName , qName , newAtts );
+
+								//	Remember to output end sentence
+								//	milestone if requested and this
+								//	is the last word in a sentence.
+
+		wordEndsSentence	=
+			outputSentenceBoundaryMilestones &&
+			( ( flags & EOS ) != 0 ) && ( ( flags & LAST_PART ) != 0 );
+
+		if ( wordEndsSentence )
+		{
+			pendingEndURI		= uri;
+			pendingEndPath		= path;
+			pendingEndSentence	= sentenceNumber;
+		}
+	}
+
+	/**	Emit start of an element other than a word.
+	 *
+	 *	@param	uri			The XML element's URI.
+	 *	@param	localName	The XML element's local name.
+	 *	@param	qName		The XML element's qname.
+	 *	@param	atts		The XML element's attributes.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	protected void emitStartElement
+	(
+		String uri ,
+		String localName ,
+		String qName ,
+		Attributes atts
+	)
+		throws SAXException
+	{
+								//	A pending sentence end milestone
+								//	follows any <c> elements after the
+								//	last word in the sentence.
+
+		inCElement	= qName.equals( "c" ) && ( atts.getLength() == 0 );
+
+		if ( !inCElement )
+		{
+			emitPendingEndMilestone();
+		}
+
+		super.startElement( uri , localName , qName , atts );
+	}
+
+	/**	Emit end of an element.
+	 *
+	 *	@param	uri			The XML element's URI.
+	 *	@param	localName	The XML element's local name.
+	 *	@param	qName		The XML element's qname.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	protected void emitEndElement
+	(
+		String uri ,
+		String localName ,
+		String qName
+	)
+		throws SAXException
+	{
+		if ( wordEndsSentence )
+		{
+			wordEndsSentence	= false;
+		}
+		else if ( inCElement )
+		{
+			inCElement	= false;
+		}
+		else
+		{
+			emitPendingEndMilestone();
+		}
+
+		super.endElement( uri , localName , qName );
+	}
+
+	/**	Emit pending sentence end milestone.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	protected void emitPendingEndMilestone()
+		throws SAXException
+	{
+		if ( pendingEndSentence > 0 )
+		{
+			int number			= pendingEndSentence;
+			pendingEndSentence	= 0;
+
+			emitMilestone( pendingEndURI , "end" , number , pendingEndPath );
+		}
+	}
+
+	/**	Emit a sentence milestone.
+	 *
+	 *	@param	uri			Element URI.
+	 *	@param	position	Position ("start" or "end").
+	 *	@param	number		The sentence number.
+	 *	@param	path		Associated word path.  May be null.
+	 *
+	 *	@throws	org.xml.sax.SAXException If there is an error.
+	 */
+
+	protected void emitMilestone
+	(
+		String uri ,
+		String position ,
+		int number ,
+		String path
+	)
+		throws SAXException
+	{
+		AttributesImpl milestoneAtts	= new AttributesImpl();
+
+		setAttributeValue( milestoneAtts , "unit" , "sentence" );
+		setAttributeValue( milestoneAtts , "n" , number );
+		setAttributeValue( milestoneAtts , "position" , position );
+
+								//	Create "p=" attribute for milestone
+								//	from path for associated word.
+
+		if ( ( path != null ) && ( path.length() > 0 ) )
+		{
+			int lastSlash	= path.lastIndexOf( "\\" );
+
+			if ( lastSlash >= 0 )
+			{
+				path	= path.substring( 0 , lastSlash );
+			}
+
+			if ( path.length() > 0 )
+			{
+				setAttributeValue( milestoneAtts , WordAttributeNames.p , path );
+			}
+		}
+								//	Let an XML writer output an empty
+								//	milestone element.
+
+		ContentHandler handler	= getContentHandler();
+
+		if ( handler instanceof XMLWriter )
+		{
+			((XMLWriter)handler).emptyElement
+			(
+				uri ,
+				"milestone" ,
+				"milestone" ,
+				milestoneAtts
+			);
+		}
+		else
+		{
+			super.startElement
+			(
+				uri ,
+				"milestone" ,
+				"milestone" ,
+				milestoneAtts
+			);
+
+			super.endElement( uri , "milestone" , "milestone" );
+		}
+	}
+
+	/**	Held XML event. */
+
+	protected static class HeldEvent
+	{
+		/**	Event type. */
+
+		protected int type;
+
+		/**	Element URI. */
+
+		protected String uri;
+
+		/**	Element local name. */
+
+		protected String localName;
+
+		/**	Element qname, or processing instruction target. */
+
+		protected String qName;
+
+		/**	Element attributes. */
+
+		protected AttributesImpl atts;
+
+		/**	Text, or processing instruction data. */
+
+		protected String text;
+
+		/**	Index of held word for a word element, else -1. */
+
+		protected int wordIndex	= -1;
+
+		/**	Create held event.
+		 *
+		 *	@param	type	Event type.
+		 */
+
+		protected HeldEvent( int type )
+		{
+			this.type	= type;
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -143,10 +143,12 @@ public class SentenceAndTokenOffsets
 		WordTokenizer tokenizer	= new DefaultWordTokenizer();
 
 								//	Split input text into sentences
-								//	and words.
+								//	and words.  Each sentence holds
+								//	its words as spans over the
+								//	input text.
 
-		List<List<String>> sentences	=
-			splitter.extractSentences
+		List<TokenSpans> sentences	=
+			splitter.extractSentenceSpans
 			(
 				sampleText ,
 				tokenizer
@@ -182,26 +184,25 @@ public class SentenceAndTokenOffsets
 
 								//	Get word tokens in this sentence.
 
-			List words	= sentences.get( i );
-
-								//	Get offsets for each word token
-								//	relative to this sentence.
-
-			int[] wordOffsets	=
-				tokenizer.findWordOffsets( sentence , words  );
+			TokenSpans words	= sentences.get( i );
 
 								//	Loop over word tokens.
 
 			for ( int j = 0 ; j < words.size() ; j++ )
 			{
+								//	Skip tokens which could not be
+								//	found in the text.
+
+				if ( !words.hasSpan( j ) ) continue;
+
 								//	Get start and end offset of
-								//	this word token.  Note:  the
+								//	this word token relative to
+								//	this sentence.  Note:  the
 								//	end is the end + 1 since that
 								//	is what substring wants.
 
-				start	= wordOffsets[ j ];
-				end		=
-					wordOffsets[ j ] + words.get( j ).toString().length();
+				start	= words.getStart( j ) - sentenceOffsets[ i ];
+				end		= words.getEnd( j ) - sentenceOffsets[ i ];
 
 								//	Display token number,
 								//	start, end, and text.
@@ -66,6 +66,42 @@ public interface StandardizerServerSession extends Remote {
 	 public String standardizeSpelling( String spelling , String pos )
  		throws RemoteException;
 
+	/**	Returns standard spellings for an array of spellings.
+	 *
+	 *	@param	spellings	The spellings.
+	 *
+	 *	@return				The standard spellings for each spelling,
+	 *						as an array of String arrays parallel
+	 *						to spellings.
+	 *
+	 *	<p>
+	 *	Saves a remote call per spelling.
+	 *	</p>
+	 */
+
+	 public String[][] standardizeSpellings( String[] spellings )
+ 		throws RemoteException;
+
+	/**	Returns standard spellings for arrays of spellings and word classes.
+	 *
+	 *	@param	spellings		The spellings.
+	 *	@param	wordClasses		The word classes, parallel to spellings.
+	 *
+	 *	@return					The standard spellings, parallel
+	 *							to spellings.
+	 *
+	 *	<p>
+	 *	Saves a remote call per spelling.
+	 *	</p>
+	 */
+
+	 public String[] standardizeSpellings
+	 (
+	 	String[] spellings ,
+	 	String[] wordClasses
+	 )
+ 		throws RemoteException;
+
 	 /** Returns number of alternate spellings.
 	  *
 	  *	@return		The number of alternate spellings.
@@ -344,6 +344,59 @@ public class StandardizerServerSessionImpl extends UnicastRemoteObject
 		return standardizer.standardizeSpelling( spelling , pos );
 	}
 
+	/**	Returns standard spellings for an array of spellings.
+	 *
+	 *	@param	spellings	The spellings.
+	 *
+	 *	@return				The standard spellings for each spelling,
+	 *						as an array of String arrays parallel
+	 *						to spellings.
+	 */
+
+	public String[][] standardizeSpellings( String[] spellings )
+		throws RemoteException
+	{
+		String[][] result	= new String[ spellings.length ][];
+
+		for ( int i = 0 ; i < spellings.length ; i++ )
+		{
+			result[ i ]	= standardizer.standardizeSpelling( spellings[ i ] );
+		}
+
+		return result;
+	}
+
+	/**	Returns standard spellings for arrays of spellings and word classes.
+	 *
+	 *	@param	spellings		The spellings.
+	 *	@param	wordClasses		The word classes, parallel to spellings.
+	 *
+	 *	@return					The standard spellings, parallel
+	 *							to spellings.
+	 */
+
+	public String[] standardizeSpellings
+	(
+		String[] spellings ,
+		String[] wordClasses
+	)
+		throws RemoteException
+	{
+		String[] result	= new String[ spellings.length ];
+
+		for ( int i = 0 ; i < spellings.length ; i++ )
+		{
+			result[ i ]	=
+				standardizer.standardizeSpelling
+				(
+					spellings[ i ] ,
+					wordClasses[ i ]
+				);
+		}
+
+		return result;
+	}
+
 	/** Returns number of alternate spellings.
 	  *
 	  *	@return		The number of alternate spellings.
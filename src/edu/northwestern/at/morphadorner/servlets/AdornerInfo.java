@@ -5,10 +5,13 @@ package edu.northwestern.at.morphadorner.servlets;
 import java.io.*;
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import javax.servlet.*;
 import javax.servlet.http.*;
 
+import edu.northwestern.at.morphadorner.AdornerEngine;
 import edu.northwestern.at.utils.*;
 import edu.northwestern.at.utils.html.*;
 import edu.northwestern.at.utils.corpuslinguistics.languagerecognizer.*;
@@ -33,17 +36,36 @@ import edu.northwestern.at.utils.servlets.*;
  *	<p>
  *	All the fields are public.
  *	</p>
+ *
+ *	<p>
+ *	The lexicons, transition matrix and spelling data are loaded once
+ *	and shared by all requests.  The sentence splitter, tagger and
+ *	other components which hold mutable state while processing text
+ *	are kept in a bounded pool of {@link AdornerWorker} objects.
+ *	Each request borrows a worker using {@link #getWorker} and
+ *	returns it using {@link #returnWorker}, waiting when all the
+ *	workers are in use.  The spelling standardizers cache new
+ *	mappings, so they are used through the synchronized methods
+ *	{@link #standardizeSpelling},
+ *	{@link #simpleStandardizeSpelling} and
+ *	{@link #getScoredSuggestedSpellings}.
+ *	Spellings standardized by {@link #standardizeSpelling} are
+ *	memoized, so repeated spellings do not wait for the lock.
+ *	</p>
  */
 
 public class AdornerInfo
 {
-	/**	The sentence splitter. */
+	/**	Default maximum number of workers. */
 
-	public SentenceSplitter extractor;
+	public static final int DEFAULT_POOL_SIZE	=
+		Runtime.getRuntime().availableProcessors();
 
-	/**	The part of speech guesser. */
+	/**	Milliseconds a waiting request waits for an idle worker before
+	 *	trying again to create one.
+	 */
 
-	public PartOfSpeechGuesser partOfSpeechGuesser;
+	protected static final long WORKER_RETRY_INTERVAL	= 1000;
 
 	/**	The word lexicon. */
 
@@ -65,25 +87,53 @@ public class AdornerInfo
 
 	public ExtendedSearchSpellingStandardizer standardizer;
 
+	/**	Memo of spellings standardized by the extended search
+	 *	standardizer.  Null if disabled.
+	 */
+
+	public StandardizedSpellingMemo standardizedSpellingMemo	=
+		StandardizedSpellingMemo.fromProperties();
+
 	/**	Part of speech tags. */
 
 	public PartOfSpeechTags partOfSpeechTags;
 
-	/**	The part of speech tagger. */
+	/**	Transition matrix. */
 
-	public PartOfSpeechTagger tagger;
+	public TransitionMatrix transitionMatrix;
 
-	/**	The part of speech retagger. */
+	/**	Extra word lists. */
 
-	public PartOfSpeechRetagger retagger;
+	public TaggedStrings[] extraWordLists;
 
-	/**	Transition matrix. */
+	/**	Maximum number of workers. */
 
-	public TransitionMatrix transitionMatrix;
+	protected int poolSize;
+
+	/**	Idle workers. */
+
+	protected BlockingQueue<AdornerWorker> idleWorkers	=
+		new LinkedBlockingQueue<AdornerWorker>();
+
+	/**	Number of workers created. */
 
-	/**	The name recognizer. */
+	protected int workersCreated	= 0;
 
-	public NameRecognizer nameRecognizer;
+	/**	Number of workers handed out. */
+
+	protected AtomicLong workerRequests	= new AtomicLong( 0 );
+
+	/**	Number of requests which waited for a worker. */
+
+	protected AtomicLong workerWaits	= new AtomicLong( 0 );
+
+	/**	Total time requests waited for a worker in milliseconds. */
+
+	protected AtomicLong totalWaitTime	= new AtomicLong( 0 );
+
+	/**	Longest time a request waited for a worker in milliseconds. */
+
+	protected long maximumWaitTime	= 0;
 
 	/**	Create adorner info object.
 	 *
@@ -109,6 +159,48 @@ public class AdornerInfo
 	)
 		throws Exception
 	{
+		this
+		(
+			wordLexiconFileName ,
+			suffixLexiconFileName ,
+			transitionMatrixFileName ,
+			standardSpellingsFileName ,
+			alternateSpellingsFileName ,
+			extraWordLists ,
+			names ,
+			DEFAULT_POOL_SIZE
+		);
+	}
+
+	/**	Create adorner info object.
+	 *
+	 *	@param	wordLexiconFileName			Word lexicon file name.
+	 *	@param	suffixLexiconFileName		Suffix lexicon file name.
+	 *	@param	transitionMatrixFileName	Part of speech transition matrix
+	 *										file name.
+	 *	@param	standardSpellingsFileName	Standard spellings file name.
+	 *	@param	extraWordLists				TaggedStrings array of extra
+	 *										word lists.
+	 *	@param	names						Names list.
+	 *	@param	poolSize					Maximum number of workers.
+	 */
+
+	public AdornerInfo
+	(
+		String wordLexiconFileName ,
+		String suffixLexiconFileName ,
+		String transitionMatrixFileName ,
+		String standardSpellingsFileName ,
+		String alternateSpellingsFileName ,
+		TaggedStrings[] extraWordLists ,
+		Names names ,
+		int poolSize
+	)
+		throws Exception
+	{
+		this.poolSize		= Math.max( poolSize , 1 );
+		this.extraWordLists	= extraWordLists;
+
 								//	Get word lexicon.
 
 		wordLexicon	= new DefaultLexicon();
@@ -135,49 +227,9 @@ public class AdornerInfo
 
 		partOfSpeechTags	= wordLexicon.getPartOfSpeechTags();
 
-								//	Get part of speech guessers.
-
-		partOfSpeechGuesser	= new DefaultPartOfSpeechGuesser();
-
-		partOfSpeechGuesser.setWordLexicon( wordLexicon );
-		partOfSpeechGuesser.setSuffixLexicon( suffixLexicon );
-
-								//	Get sentence splitter.
-
-		extractor	= new DefaultSentenceSplitter();
-
-								//	Set guesser into sentence splitter.
-
-		extractor.setPartOfSpeechGuesser( partOfSpeechGuesser );
-
-								//	Create trigram part of speech tagger.
-
-		tagger		= new TrigramTagger();
-
-								//	Add proper noun retagger.
-
-		retagger	= new ProperNounRetagger();
-
-		tagger.setRetagger( retagger );
-
-								//	Add auxiliary word lists to guesser.
-
-		for ( int i = 0 ; i < extraWordLists.length ; i++ )
-		{
-			partOfSpeechGuesser.addAuxiliaryWordList( extraWordLists[ i ] );
-		}
-								//	Set tagger to use lexicon.
-
-		tagger.setLexicon( wordLexicon );
-
-								//	Set guesser into tagger.
-
-		tagger.setPartOfSpeechGuesser( partOfSpeechGuesser );
-
 								//	Load transition matrix.
 
-		TransitionMatrix transitionMatrix	=
-			new TransitionMatrix();
+		transitionMatrix	= new TransitionMatrix();
 
 		transitionMatrix.loadTransitionMatrix
 		(
@@ -186,8 +238,6 @@ public class AdornerInfo
 			'\t'
 		);
 
-		tagger.setTransitionMatrix( transitionMatrix );
-
 								//	Get extended search standardizer.
 
 		standardizer	= new ExtendedSearchSpellingStandardizer();
@@ -228,12 +278,6 @@ public class AdornerInfo
 		simpleStandardizer.setStandardSpellings(
 			standardizer.getStandardSpellings() );
 
-								//	Create name recognizer.
-
-		nameRecognizer	= new DefaultNameRecognizer();
-
-		nameRecognizer.setPartOfSpeechTagger( tagger );
-
 								//	Map lemmata to spellings in
 								//	word lexicon.
 
@@ -250,6 +294,319 @@ public class AdornerInfo
 			{
 				lemmaToSpellings.add( lemmata[ j ] , spelling );
 			}
+		}
+								//	Create the first worker now so
+								//	the first request need not wait.
+
+		returnWorker( createWorker() );
+	}
+
+	/**	Create a worker if the pool is not full.
+	 *
+	 *	@return		The new worker, or null if the pool is full.
+	 *
+	 *	<p>
+	 *	If the worker cannot be created, its place in the pool is
+	 *	given back before the failure is passed on, so a later
+	 *	request may try again.
+	 *	</p>
+	 */
+
+	protected AdornerWorker createWorker()
+	{
+		synchronized( idleWorkers )
+		{
+			if ( workersCreated >= poolSize )
+			{
+				return null;
+			}
+
+			workersCreated++;
+		}
+
+		boolean created	= false;
+
+		try
+		{
+			AdornerWorker result	= new AdornerWorker( this );
+
+			created	= true;
+
+			return result;
+		}
+		finally
+		{
+			if ( !created )
+			{
+				synchronized( idleWorkers )
+				{
+					workersCreated--;
+				}
+			}
+		}
+	}
+
+	/**	Get a worker for a request.
+	 *
+	 *	@return		An idle worker.
+	 *
+	 *	<p>
+	 *	A new worker is created when no worker is idle and the pool
+	 *	is not full.  Otherwise the caller waits until another request
+	 *	returns a worker, trying again every
+	 *	{@link #WORKER_RETRY_INTERVAL} milliseconds to create one in
+	 *	case a worker could not be created earlier.  The worker must be
+	 *	returned using {@link #returnWorker} when the request is done
+	 *	with it.
+	 *	</p>
+	 */
+
+	public AdornerWorker getWorker()
+	{
+		workerRequests.incrementAndGet();
+
+		AdornerWorker result	= idleWorkers.poll();
+
+		if ( result == null )
+		{
+			result	= createWorker();
+		}
+
+		if ( result == null )
+		{
+			long startTime		= System.currentTimeMillis();
+			boolean interrupted	= false;
+
+			while ( result == null )
+			{
+				try
+				{
+					result	=
+						idleWorkers.poll
+						(
+							WORKER_RETRY_INTERVAL ,
+							TimeUnit.MILLISECONDS
+						);
+				}
+				catch ( InterruptedException e )
+				{
+					interrupted	= true;
+				}
+
+				if ( result == null )
+				{
+					result	= createWorker();
+				}
+			}
+
+			long waitTime	= System.currentTimeMillis() - startTime;
+
+			workerWaits.incrementAndGet();
+			totalWaitTime.addAndGet( waitTime );
+
+			synchronized( this )
+			{
+				maximumWaitTime	= Math.max( maximumWaitTime , waitTime );
+			}
+
+			if ( interrupted )
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		return result;
+	}
+
+	/**	Return a worker to the pool.
+	 *
+	 *	@param	worker	The worker obtained from {@link #getWorker}.
+	 */
+
+	public void returnWorker( AdornerWorker worker )
+	{
+		if ( worker != null )
+		{
+			idleWorkers.offer( worker );
+		}
+	}
+
+	/**	Get maximum number of workers.
+	 *
+	 *	@return		The maximum number of workers.
+	 */
+
+	public int getPoolSize()
+	{
+		return poolSize;
+	}
+
+	/**	Get number of workers created so far.
+	 *
+	 *	@return		The number of workers created.
+	 */
+
+	public int getWorkersCreated()
+	{
+		synchronized( idleWorkers )
+		{
+			return workersCreated;
+		}
+	}
+
+	/**	Get number of idle workers.
+	 *
+	 *	@return		The number of idle workers.
+	 */
+
+	public int getIdleWorkers()
+	{
+		return idleWorkers.size();
+	}
+
+	/**	Get number of worker requests.
+	 *
+	 *	@return		The number of calls to {@link #getWorker}.
+	 */
+
+	public long getWorkerRequests()
+	{
+		return workerRequests.get();
+	}
+
+	/**	Get number of worker requests which had to wait.
+	 *
+	 *	@return		The number of requests which waited for a worker.
+	 */
+
+	public long getWorkerWaits()
+	{
+		return workerWaits.get();
+	}
+
+	/**	Get total time requests waited for a worker.
+	 *
+	 *	@return		The total wait time in milliseconds.
+	 */
+
+	public long getTotalWaitTime()
+	{
+		return totalWaitTime.get();
+	}
+
+	/**	Get longest time a request waited for a worker.
+	 *
+	 *	@return		The maximum wait time in milliseconds.
+	 */
+
+	public synchronized long getMaximumWaitTime()
+	{
+		return maximumWaitTime;
+	}
+
+	/**	Get average time a request waited for a worker.
+	 *
+	 *	@return		The average wait time in milliseconds over
+	 *				all worker requests.
+	 */
+
+	public double getAverageWaitTime()
+	{
+		long requests	= workerRequests.get();
+
+		return ( requests == 0 ) ? 0.0D :
+			(double)totalWaitTime.get() / (double)requests;
+	}
+
+	/**	Get worker pool statistics.
+	 *
+	 *	@return		The pool statistics as a string.
+	 */
+
+	public String getPoolStatistics()
+	{
+		return
+			"pool size=" + getPoolSize() +
+			", created=" + getWorkersCreated() +
+			", idle=" + getIdleWorkers() +
+			", requests=" + getWorkerRequests() +
+			", waits=" + getWorkerWaits() +
+			", total wait=" + getTotalWaitTime() + " ms" +
+			", maximum wait=" + getMaximumWaitTime() + " ms";
+	}
+
+	/**	Standardize spelling using the extended search standardizer.
+	 *
+	 *	@param	spelling	The spelling.
+	 *	@param	wordClass	The major word class.
+	 *
+	 *	@return				The standardized spelling.
+	 */
+
+	public String standardizeSpelling( String spelling , String wordClass )
+	{
+		String result	=
+			( standardizedSpellingMemo == null ) ? null :
+				standardizedSpellingMemo.get( spelling , wordClass );
+
+		if ( result == null )
+		{
+			result	=
+				AdornerEngine.standardizeSpelling
+				(
+					standardizer ,
+					spelling ,
+					wordClass
+				);
+
+			if ( standardizedSpellingMemo != null )
+			{
+				standardizedSpellingMemo.put( spelling , wordClass , result );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Standardize spelling using the simple standardizer.
+	 *
+	 *	@param	spelling	The spelling.
+	 *	@param	wordClass	The major word class.
+	 *
+	 *	@return				The standardized spelling.
+	 *
+	 *	<p>
+	 *	The simple standardizer shares its spelling maps with the
+	 *	extended search standardizer, so both use the same lock.
+	 *	</p>
+	 */
+
+	public String simpleStandardizeSpelling
+	(
+		String spelling ,
+		String wordClass
+	)
+	{
+		synchronized( standardizer )
+		{
+			return simpleStandardizer.standardizeSpelling(
+				spelling , wordClass );
+		}
+	}
+
+	/**	Get scored suggested spellings from the extended search
+	 *	standardizer.
+	 *
+	 *	@param	spelling	The spelling.
+	 *
+	 *	@return				The scored suggested spellings.
+	 */
+
+	public List<ScoredString> getScoredSuggestedSpellings( String spelling )
+	{
+		synchronized( standardizer )
+		{
+			return standardizer.getScoredSuggestedSpellings( spelling );
 		}
 	}
 }
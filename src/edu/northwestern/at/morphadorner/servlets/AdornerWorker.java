@@ -0,0 +1,165 @@
+package edu.northwestern.at.morphadorner.servlets;
+
+/*	Please see the license information at the end of this file. */
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.namerecognizer.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.guesser.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.propernounretagger.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.trigram.*;
+import edu.northwestern.at.utils.corpuslinguistics.sentencesplitter.*;
+import edu.northwestern.at.utils.corpuslinguistics.tokenizer.*;
+
+/**	Adornment components for one servlet request at a time.
+ *
+ *	<p>
+ *	The sentence splitter, word tokenizer, part of speech guesser,
+ *	tagger, retagger and name recognizer hold mutable state while processing text,
+ *	so each request borrows a worker from the
+ *	{@link AdornerInfo} pool with {@link AdornerInfo#getWorker}
+ *	and returns it with {@link AdornerInfo#returnWorker}.
+ *	The lexicons, transition matrix and word lists are taken from
+ *	the adorner information and are shared.
+ *	</p>
+ *
+ *	<p>
+ *	All the fields are public.
+ *	</p>
+ */
+
+public class AdornerWorker
+{
+	/**	The sentence splitter. */
+
+	public SentenceSplitter extractor;
+
+	/**	The word tokenizer for text already split into sentences. */
+
+	public WordTokenizer wordTokenizer;
+
+	/**	The part of speech guesser. */
+
+	public PartOfSpeechGuesser partOfSpeechGuesser;
+
+	/**	The part of speech tagger. */
+
+	public PartOfSpeechTagger tagger;
+
+	/**	The part of speech retagger. */
+
+	public PartOfSpeechRetagger retagger;
+
+	/**	The name recognizer. */
+
+	public NameRecognizer nameRecognizer;
+
+	/**	Create adorner worker.
+	 *
+	 *	@param	adornerInfo		The adorner information holding
+	 *							the shared lexicons and
+	 *							transition matrix.
+	 */
+
+	public AdornerWorker( AdornerInfo adornerInfo )
+	{
+								//	Get part of speech guesser.
+
+		partOfSpeechGuesser	= new DefaultPartOfSpeechGuesser();
+
+		partOfSpeechGuesser.setWordLexicon( adornerInfo.wordLexicon );
+		partOfSpeechGuesser.setSuffixLexicon( adornerInfo.suffixLexicon );
+
+								//	Get sentence splitter.
+
+		extractor	= new DefaultSentenceSplitter();
+
+								//	Set guesser into sentence splitter.
+
+		extractor.setPartOfSpeechGuesser( partOfSpeechGuesser );
+
+								//	Get word tokenizer.
+
+		wordTokenizer	= new DefaultWordTokenizer();
+
+								//	Create trigram part of speech tagger.
+
+		tagger		= new TrigramTagger();
+
+								//	Add proper noun retagger.
+
+		retagger	= new ProperNounRetagger();
+
+		tagger.setRetagger( retagger );
+
+								//	Add auxiliary word lists to guesser.
+
+		TaggedStrings[] extraWordLists	= adornerInfo.extraWordLists;
+
+		for ( int i = 0 ; i < extraWordLists.length ; i++ )
+		{
+			partOfSpeechGuesser.addAuxiliaryWordList( extraWordLists[ i ] );
+		}
+								//	Set tagger to use lexicon.
+
+		tagger.setLexicon( adornerInfo.wordLexicon );
+
+								//	Set guesser into tagger.
+
+		tagger.setPartOfSpeechGuesser( partOfSpeechGuesser );
+
+								//	Share transition matrix.
+
+		tagger.setTransitionMatrix( adornerInfo.transitionMatrix );
+
+								//	Create name recognizer.
+
+		nameRecognizer	= new DefaultNameRecognizer();
+
+		nameRecognizer.setPartOfSpeechTagger( tagger );
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
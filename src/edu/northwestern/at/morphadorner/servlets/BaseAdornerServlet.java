@@ -53,6 +53,12 @@ abstract public class BaseAdornerServlet extends XHttpServlet
 
 	protected static String dataDirectory;
 
+	/**	Maximum number of taggers and other per-request adornment
+	 *	components in each adorner information pool.
+	 */
+
+	protected static int adornerPoolSize	= AdornerInfo.DEFAULT_POOL_SIZE;
+
 	/**	19th century adorner information. */
 
 	protected static AdornerInfo ncfAdornerInfo;
@@ -242,6 +248,22 @@ abstract public class BaseAdornerServlet extends XHttpServlet
 							new File( dataDirectory ).getCanonicalPath();
 					}
 				}
+			}
+								//	Get the adornment worker pool size.
+
+			String poolSizeParameter	=
+				config.getInitParameter( "adornerpoolsize" );
+
+			if ( poolSizeParameter != null )
+			{
+				try
+				{
+					adornerPoolSize	=
+						Integer.parseInt( poolSizeParameter.trim() );
+				}
+				catch ( NumberFormatException e )
+				{
+				}
 			}
 								//	Add data directory to file names.
 
@@ -314,7 +336,8 @@ abstract public class BaseAdornerServlet extends XHttpServlet
 						standardSpellingsFileName ,
 						emeSpellingPairsFileName ,
 						extraWordLists ,
-						names
+						names ,
+						adornerPoolSize
 					);
 			}
 								//	Create 19th century fiction adorner
@@ -331,7 +354,8 @@ abstract public class BaseAdornerServlet extends XHttpServlet
 						standardSpellingsFileName ,
 						ncfSpellingPairsFileName ,
 						extraWordLists ,
-						names
+						names ,
+						adornerPoolSize
 					);
 			}
 								//	Get lemmatizer.
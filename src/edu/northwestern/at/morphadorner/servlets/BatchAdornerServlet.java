@@ -0,0 +1,659 @@
+package edu.northwestern.at.morphadorner.servlets;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.util.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import edu.northwestern.at.morphadorner.AdornerEngine;
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.adornedword.*;
+
+/**	Adorns batches of texts for service clients.
+ *
+ *	<p>
+ *	Unlike the other example servlets, this servlet produces no HTML
+ *	and keeps no session state.  The request body holds the texts to
+ *	adorn as utf-8 plain text, one per line.  The adorned words are
+ *	streamed back as each text is finished, either as newline
+ *	delimited JSON objects or as tab separated values.  No content
+ *	length is set, so the servlet container uses chunked transfer
+ *	encoding for HTTP/1.1 clients.
+ *	</p>
+ *
+ *	<p>
+ *	The options are given as query string parameters.
+ *	</p>
+ *
+ *	<ul>
+ *	<li>adornername -- "eme" or "ncf" (the default).</li>
+ *	<li>input -- "documents" (the default) when each line is a
+ *		text to split into sentences, "sentences" when each line
+ *		is a single sentence to split into words, or "tokens" when
+ *		each line is a single sentence of words separated by
+ *		whitespace.  In the sentence and token modes, an empty
+ *		line ends the current document.</li>
+ *	<li>ids -- "true" when each line starts with a client
+ *		document ID followed by a tab.  Otherwise documents are
+ *		numbered starting at one.</li>
+ *	<li>format -- "json" (the default) or "tsv".</li>
+ *	<li>flush -- number of documents to output between flushes
+ *		of the response.  The default is 50.</li>
+ *	</ul>
+ *
+ *	<p>
+ *	Each adorned word is output with its document ID, sentence number,
+ *	word number within the sentence, token, part of speech tag,
+ *	standard spelling, lemma, and an end of sentence flag.
+ *	Standard spellings are found as in the command line adorner,
+ *	by major word class, leaving proper nouns and numbers as spelled.
+ *	A JSON line looks like:
+ *	</p>
+ *
+ *	<pre>
+ *	{"doc":"1","sent":1,"word":3,"token":"loved","pos":"vvd",
+ *	 "reg":"loved","lemma":"love","eos":false}
+ *	</pre>
+ *
+ *	<p>
+ *	(shown here on two lines).  TSV output starts with a header line
+ *	naming the columns.
+ *	</p>
+ */
+
+public class BatchAdornerServlet extends BaseAdornerServlet
+{
+	/**	Default number of documents between response flushes. */
+
+	protected static final int DEFAULT_FLUSH_INTERVAL	= 50;
+
+	/**	TSV output header. */
+
+	protected static final String tsvHeader	=
+		"doc\tsent\tword\ttoken\tpos\treg\tlemma\teos";
+
+	/**	Initialize the servlet.
+	 *
+	 *	@param	config	Servlet configuration.
+	 *
+	 *	@throws			ServletException
+	 */
+
+	public void init( ServletConfig config ) throws ServletException
+	{
+		super.init( config );
+								//	Start main initialization.
+		initialize( config );
+	}
+
+	/**	Handle servlet post requests.
+	 *
+	 *	@param	request		Servlet request.
+	 *	@param	response	Servlet response.
+	 *
+	 *	<p>
+	 *	Bypasses the HTML page and session handling in
+	 *	{@link BaseAdornerServlet#doPost}.
+	 *	</p>
+	 */
+
+	public void doPost
+	(
+		HttpServletRequest request ,
+		HttpServletResponse response
+	)
+		throws ServletException, java.io.IOException
+	{
+								//	If the servlet is not yet ready,
+								//	tell the client to try later.
+		if ( !isReady() )
+		{
+			response.setHeader( "Retry-After" , "60" );
+
+			response.sendError
+			(
+				HttpServletResponse.SC_SERVICE_UNAVAILABLE ,
+				servletNotReadyMessage
+			);
+
+			return;
+		}
+								//	Get options.
+
+		AdornerInfo adornerInfo	=
+			getAdornerInfo( request.getParameter( "adornername" ) );
+
+		String input			= request.getParameter( "input" );
+
+		if ( input == null ) input	= "documents";
+
+		String format			= request.getParameter( "format" );
+
+		if ( format == null ) format	= "json";
+
+		boolean hasIDs			=
+			"true".equalsIgnoreCase( request.getParameter( "ids" ) );
+
+		int flushInterval		=
+			getIntValue
+			(
+				request.getParameter( "flush" ) ,
+				DEFAULT_FLUSH_INTERVAL
+			);
+
+		if ( flushInterval < 1 ) flushInterval	= 1;
+
+		boolean tsv				= format.equalsIgnoreCase( "tsv" );
+
+		if ( !tsv && !format.equalsIgnoreCase( "json" ) )
+		{
+			response.sendError
+			(
+				HttpServletResponse.SC_BAD_REQUEST ,
+				"Unknown format: " + format
+			);
+
+			return;
+		}
+
+		boolean sentenceInput	= input.equalsIgnoreCase( "sentences" );
+		boolean tokenInput		= input.equalsIgnoreCase( "tokens" );
+
+		if	(	!sentenceInput && !tokenInput &&
+				!input.equalsIgnoreCase( "documents" )
+			)
+		{
+			response.sendError
+			(
+				HttpServletResponse.SC_BAD_REQUEST ,
+				"Unknown input: " + input
+			);
+
+			return;
+		}
+								//	Open request body and response.
+
+		BufferedReader in	=
+			new BufferedReader
+			(
+				new InputStreamReader
+				(
+					request.getInputStream() ,
+					"utf-8"
+				)
+			);
+
+		response.setContentType
+		(
+			tsv ?
+				"text/tab-separated-values; charset=utf-8" :
+				"application/x-ndjson; charset=utf-8"
+		);
+
+		PrintWriter out	=
+			new PrintWriter
+			(
+				new BufferedWriter
+				(
+					new OutputStreamWriter
+					(
+						response.getOutputStream() ,
+						"utf-8"
+					)
+				)
+			);
+
+		if ( tsv )
+		{
+			out.print( tsvHeader );
+			out.print( "\n" );
+		}
+								//	Adorn each document as
+								//	soon as it is read.
+
+		List<String> documentLines	= new ArrayList<String>();
+		String documentID			= null;
+		int documentCount			= 0;
+		String line;
+
+		while ( ( line = in.readLine() ) != null )
+		{
+			String id	= null;
+
+			if ( hasIDs && ( line.length() > 0 ) )
+			{
+				int tabPos	= line.indexOf( '\t' );
+
+				if ( tabPos >= 0 )
+				{
+					id		= line.substring( 0 , tabPos );
+					line	= line.substring( tabPos + 1 );
+				}
+			}
+
+			if ( sentenceInput || tokenInput )
+			{
+								//	An empty line or a new client
+								//	document ID ends the current
+								//	document.
+
+				boolean endDocument	=
+					( line.trim().length() == 0 ) ||
+					(	( id != null ) && ( documentID != null ) &&
+						!id.equals( documentID )
+					);
+
+				if ( endDocument && ( documentLines.size() > 0 ) )
+				{
+					documentCount++;
+
+					adornDocument
+					(
+						out ,
+						adornerInfo ,
+						( documentID != null ) ?
+							documentID : ( documentCount + "" ) ,
+						documentLines ,
+						sentenceInput ,
+						tokenInput ,
+						tsv
+					);
+
+					documentLines.clear();
+					documentID	= null;
+
+					if ( ( documentCount % flushInterval ) == 0 )
+					{
+						out.flush();
+					}
+				}
+
+				if ( line.trim().length() > 0 )
+				{
+					if ( documentID == null ) documentID	= id;
+
+					documentLines.add( line );
+				}
+			}
+			else if ( line.trim().length() > 0 )
+			{
+				documentCount++;
+
+				documentLines.add( line );
+
+				adornDocument
+				(
+					out ,
+					adornerInfo ,
+					( id != null ) ? id : ( documentCount + "" ) ,
+					documentLines ,
+					false ,
+					false ,
+					tsv
+				);
+
+				documentLines.clear();
+
+				if ( ( documentCount % flushInterval ) == 0 )
+				{
+					out.flush();
+				}
+			}
+		}
+								//	Adorn last document.
+
+		if ( documentLines.size() > 0 )
+		{
+			documentCount++;
+
+			adornDocument
+			(
+				out ,
+				adornerInfo ,
+				( documentID != null ) ?
+					documentID : ( documentCount + "" ) ,
+				documentLines ,
+				sentenceInput ,
+				tokenInput ,
+				tsv
+			);
+		}
+
+		out.flush();
+		out.close();
+	}
+
+	/**	Adorn and output one document.
+	 *
+	 *	@param	out				Output writer.
+	 *	@param	adornerInfo		Adorner information.
+	 *	@param	documentID		Document ID.
+	 *	@param	lines			Document text lines.
+	 *	@param	sentenceInput	True if each line is one sentence.
+	 *	@param	tokenInput		True if each line is one sentence of
+	 *							whitespace separated words.
+	 *	@param	tsv				True to output tab separated values,
+	 *							false to output JSON.
+	 */
+
+	protected void adornDocument
+	(
+		PrintWriter out ,
+		AdornerInfo adornerInfo ,
+		String documentID ,
+		List<String> lines ,
+		boolean sentenceInput ,
+		boolean tokenInput ,
+		boolean tsv
+	)
+	{
+		List<List<String>> sentences	= new ArrayList<List<String>>();
+		List<List<AdornedWord>> taggedSentences;
+
+								//	Split and tag the document,
+								//	holding an adornment worker
+								//	only as long as needed.
+
+		AdornerWorker worker	= adornerInfo.getWorker();
+
+		try
+		{
+			if ( tokenInput )
+			{
+				for ( int i = 0 ; i < lines.size() ; i++ )
+				{
+					String[] tokens	= lines.get( i ).trim().split( "\\s+" );
+
+					sentences.add( Arrays.asList( tokens ) );
+				}
+			}
+			else if ( sentenceInput )
+			{
+				for ( int i = 0 ; i < lines.size() ; i++ )
+				{
+					sentences.add
+					(
+						worker.wordTokenizer.extractWords( lines.get( i ) )
+					);
+				}
+			}
+			else
+			{
+				sentences	=
+					worker.extractor.extractSentences( lines.get( 0 ) );
+			}
+
+			taggedSentences	= worker.tagger.tagSentences( sentences );
+		}
+		finally
+		{
+			adornerInfo.returnWorker( worker );
+		}
+								//	Look up the standard spellings
+								//	together when possible.
+
+		AdornerEngine.prefetchStandardizedSpellings
+		(
+			taggedSentences ,
+			adornerInfo.partOfSpeechTags ,
+			adornerInfo.standardizer ,
+			adornerInfo.standardizedSpellingMemo
+		);
+								//	Output adorned words.
+
+		StringBuffer sb	= new StringBuffer();
+
+		for ( int i = 0 ; i < taggedSentences.size() ; i++ )
+		{
+			List<AdornedWord> taggedWords	= taggedSentences.get( i );
+
+			for ( int j = 0 ; j < taggedWords.size() ; j++ )
+			{
+				AdornedWord adornedWord	= taggedWords.get( j );
+
+				String spelling			= adornedWord.getSpelling();
+				String partOfSpeech		= adornedWord.getPartsOfSpeech();
+
+				String standardSpelling	=
+					AdornerEngine.getStandardizedSpelling
+					(
+						spelling ,
+						partOfSpeech ,
+						adornerInfo.partOfSpeechTags ,
+						null ,
+						adornerInfo.standardizer ,
+						adornerInfo.standardizedSpellingMemo
+					);
+
+				String lemma			=
+					getLemma
+					(
+						adornerInfo ,
+						spelling ,
+						standardSpelling ,
+						partOfSpeech
+					);
+
+				boolean eos	= ( j == ( taggedWords.size() - 1 ) );
+
+				sb.setLength( 0 );
+
+				if ( tsv )
+				{
+					sb.append( tsvField( documentID ) );
+					sb.append( '\t' );
+					sb.append( i + 1 );
+					sb.append( '\t' );
+					sb.append( j + 1 );
+					sb.append( '\t' );
+					sb.append( tsvField( spelling ) );
+					sb.append( '\t' );
+					sb.append( tsvField( partOfSpeech ) );
+					sb.append( '\t' );
+					sb.append( tsvField( standardSpelling ) );
+					sb.append( '\t' );
+					sb.append( tsvField( lemma ) );
+					sb.append( '\t' );
+					sb.append( eos ? "1" : "0" );
+				}
+				else
+				{
+					sb.append( "{\"doc\":" );
+					appendJSONString( sb , documentID );
+					sb.append( ",\"sent\":" );
+					sb.append( i + 1 );
+					sb.append( ",\"word\":" );
+					sb.append( j + 1 );
+					sb.append( ",\"token\":" );
+					appendJSONString( sb , spelling );
+					sb.append( ",\"pos\":" );
+					appendJSONString( sb , partOfSpeech );
+					sb.append( ",\"reg\":" );
+					appendJSONString( sb , standardSpelling );
+					sb.append( ",\"lemma\":" );
+					appendJSONString( sb , lemma );
+					sb.append( ",\"eos\":" );
+					sb.append( eos );
+					sb.append( '}' );
+				}
+
+				sb.append( '\n' );
+
+				out.print( sb.toString() );
+			}
+		}
+	}
+
+	/**	Get lemma for a word.
+	 *
+	 *	@param	adornerInfo			Adorner information.
+	 *	@param	spelling			The spelling.
+	 *	@param	standardSpelling	The standard spelling.
+	 *	@param	partOfSpeech		The part of speech tag.
+	 *
+	 *	@return						The lemma.
+	 *
+	 *	<p>
+	 *	The word lexicon is tried first.  The lemmatizer is used
+	 *	for words not in the lexicon, as in the part of speech
+	 *	tagger servlet.
+	 *	</p>
+	 */
+
+	protected String getLemma
+	(
+		AdornerInfo adornerInfo ,
+		String spelling ,
+		String standardSpelling ,
+		String partOfSpeech
+	)
+	{
+		String lemma	=
+			adornerInfo.wordLexicon.getLemma( spelling , partOfSpeech );
+
+		if ( lemma.equals( "*" ) && ( lemmatizer != null ) )
+		{
+			lemma	=
+				lemmatizer.lemmatize
+				(
+					( standardSpelling.length() > 0 ) ?
+						standardSpelling : spelling ,
+					adornerInfo.partOfSpeechTags.getLemmaWordClass(
+						partOfSpeech )
+				);
+		}
+
+		return lemma;
+	}
+
+	/**	Append string as quoted JSON string.
+	 *
+	 *	@param	sb		StringBuffer to which to append string.
+	 *	@param	s		The string.
+	 */
+
+	protected static void appendJSONString( StringBuffer sb , String s )
+	{
+		sb.append( '"' );
+
+		for ( int i = 0 ; i < s.length() ; i++ )
+		{
+			char ch	= s.charAt( i );
+
+			switch ( ch )
+			{
+				case '"'	: sb.append( "\\\"" );	break;
+				case '\\'	: sb.append( "\\\\" );	break;
+				case '\n'	: sb.append( "\\n" );	break;
+				case '\r'	: sb.append( "\\r" );	break;
+				case '\t'	: sb.append( "\\t" );	break;
+				default		:
+					if ( ch < ' ' )
+					{
+						String hex	= Integer.toHexString( ch );
+
+						sb.append( "\\u" );
+						sb.append( "0000".substring( hex.length() ) );
+						sb.append( hex );
+					}
+					else
+					{
+						sb.append( ch );
+					}
+			}
+		}
+
+		sb.append( '"' );
+	}
+
+	/**	Make string safe for a TSV field.
+	 *
+	 *	@param	s	The string.
+	 *
+	 *	@return		The string with tabs and line breaks
+	 *				replaced by blanks.
+	 */
+
+	protected static String tsvField( String s )
+	{
+		if	(	( s.indexOf( '\t' ) < 0 ) &&
+				( s.indexOf( '\n' ) < 0 ) &&
+				( s.indexOf( '\r' ) < 0 )
+			)
+		{
+			return s;
+		}
+
+		return s.replace( '\t' , ' ' ).replace( '\n' , ' ' ).replace(
+			'\r' , ' ' );
+	}
+
+	/**	Handle request.
+	 *
+	 *	@param	request		Servlet request.
+	 *	@param	response	Servlet response.
+	 *
+	 *	@return				Servlet results.
+	 *
+	 *	<p>
+	 *	Not used since {@link #doPost} writes the response directly.
+	 *	</p>
+	 */
+
+	protected ServletResult handleRequest
+	(
+		HttpServletRequest request ,
+		HttpServletResponse response
+	)
+		throws ServletException, java.io.IOException
+	{
+		return null;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -158,7 +158,7 @@ public class LemmatizerServlet extends BaseAdornerServlet
 					if ( standardize != null )
 					{
 						spelling	=
-							adornerInfo.standardizer.standardizeSpelling(
+							adornerInfo.standardizeSpelling(
 								spelling , "" );
 					}
 
@@ -162,7 +162,16 @@ public class NameRecognizerServlet extends BaseAdornerServlet
 		String text
 	)
 	{
-		return adornerInfo.nameRecognizer.findNames( text );
+		AdornerWorker worker	= adornerInfo.getWorker();
+
+		try
+		{
+			return worker.nameRecognizer.findNames( text );
+		}
+		finally
+		{
+			adornerInfo.returnWorker( worker );
+		}
 	}
 
 	/**	Output form.
@@ -252,9 +252,15 @@ public class ParserServlet extends BaseAdornerServlet
 
 	public Sentence parse( String s )
 	{
-		Sentence sentence = new Sentence( s , dictionary , parseOptions ) ;
+								//	Parse with a copy of the shared
+								//	options, since the parser records
+								//	its timing in the options.
 
-		sentence.sentence_parse( parseOptions ) ;
+		ParseOptions options	= new ParseOptions( parseOptions );
+
+		Sentence sentence = new Sentence( s , dictionary , options ) ;
+
+		sentence.sentence_parse( options ) ;
 
 		return sentence ;
 	}
@@ -147,11 +147,20 @@ public class PartOfSpeechTaggerServlet extends BaseAdornerServlet
 
 				if ( text.length() > 0 )
 				{
-					sentences		=
-						adornerInfo.extractor.extractSentences( text );
+					AdornerWorker worker	= adornerInfo.getWorker();
 
-					taggedSentences	=
-						adornerInfo.tagger.tagSentences( sentences );
+					try
+					{
+						sentences		=
+							worker.extractor.extractSentences( text );
+
+						taggedSentences	=
+							worker.tagger.tagSentences( sentences );
+					}
+					finally
+					{
+						adornerInfo.returnWorker( worker );
+					}
 				}
 			}
 								//	Output form.
@@ -361,7 +370,7 @@ public class PartOfSpeechTaggerServlet extends BaseAdornerServlet
 				if ( showStandard )
 				{
 					standardSpelling	=
-						adornerInfo.standardizer.standardizeSpelling
+						adornerInfo.standardizeSpelling
 						(
 							wordAndTag.getSpelling() ,
 							wordAndTag.getPartsOfSpeech()
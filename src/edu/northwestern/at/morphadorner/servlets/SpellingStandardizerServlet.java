@@ -136,7 +136,7 @@ public class SpellingStandardizerServlet extends BaseAdornerServlet
 						suggestions	=
 							new SortedArrayList<ScoredString>
 							(
-								adornerInfo.standardizer.
+								adornerInfo.
 									getScoredSuggestedSpellings
 									(
 										EnglishDecruftifier.decruftify
@@ -153,7 +153,7 @@ public class SpellingStandardizerServlet extends BaseAdornerServlet
 						if ( suggestion.equals( "?" ) )
 						{
 							suggestion	=
-								adornerInfo.standardizer.standardizeSpelling(
+								adornerInfo.standardizeSpelling(
 									spelling , "" );
 						}
         			}
@@ -162,7 +162,7 @@ public class SpellingStandardizerServlet extends BaseAdornerServlet
         				suggestions	= null;
 
         				suggestion	=
-							adornerInfo.simpleStandardizer.standardizeSpelling
+							adornerInfo.simpleStandardizeSpelling
 							(
 								spelling ,
 								""
@@ -125,8 +125,17 @@ public class WordTokenizerServlet extends BaseAdornerServlet
 
 				if ( text.length() > 0 )
 				{
-					sentences	=
-						adornerInfo.extractor.extractSentences( text );
+					AdornerWorker worker	= adornerInfo.getWorker();
+
+					try
+					{
+						sentences	=
+							worker.extractor.extractSentences( text );
+					}
+					finally
+					{
+						adornerInfo.returnWorker( worker );
+					}
 				}
 			}
 								//	Output form.
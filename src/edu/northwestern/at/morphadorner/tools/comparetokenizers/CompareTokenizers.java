@@ -0,0 +1,409 @@
+package edu.northwestern.at.morphadorner.tools.comparetokenizers;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.tokenizer.*;
+
+/**	Compare scanning and regular expression word tokenization.
+ *
+ *	<p>
+ *	<code>
+ *	java -Xmx720m edu.northwestern.at.morphadorner.tools.comparetokenizers.CompareTokenizers
+ *	file1 file2 ...
+ *	</code>
+ *	</p>
+ *
+ *  <ul>
+ *	<li>
+ *	<p>
+ *	<strong>file1 file2 ...</strong> are utf-8 text files to tokenize.
+ *	</p>
+ *	</li>
+ *	</ul>
+ *
+ *	<p>
+ *	Each line of the input files is tokenized by the default word
+ *	tokenizer and pretokenizer and by the EEBO word tokenizer and
+ *	pretokenizer, first with the pretokenizer applying its separator
+ *	patterns as regular expressions and then with the pretokenizer
+ *	scanning the characters.  Each token produced by the default
+ *	word tokenizer is then split by the Penn Treebank tokenizer, as
+ *	done when finding lemmata, first always applying the replacement
+ *	patterns and then tokenizing simple words directly.  The tokens
+ *	must be the same.  The time taken by each method is reported.
+ *	</p>
+ */
+
+public class CompareTokenizers
+{
+	/**	Names of text files to tokenize. */
+
+	protected static String[] fileNames;
+
+	/**	Lines of the text files. */
+
+	protected static List<String> lines	= ListFactory.createNewList();
+
+	/**	Number of differences found. */
+
+	protected static int differences	= 0;
+
+	/**	Tokenize all lines.
+	 *
+	 *	@param	wordTokenizer	The word tokenizer.
+	 *	@param	results			List to receive the tokens for each line.
+	 *
+	 *	@return					Elapsed time in milliseconds.
+	 */
+
+	protected static long tokenizeLines
+	(
+		WordTokenizer wordTokenizer ,
+		List<List<String>> results
+	)
+	{
+		long startTime	= System.currentTimeMillis();
+
+		for ( int i = 0 ; i < lines.size() ; i++ )
+		{
+			results.add( wordTokenizer.extractWords( lines.get( i ) ) );
+		}
+
+		return System.currentTimeMillis() - startTime;
+	}
+
+	/**	Compare tokens.
+	 *
+	 *	@param	description		Description of the tokenizer.
+	 *	@param	texts			The tokenized texts.
+	 *	@param	regexResults	Tokens from regular expressions.
+	 *	@param	scanResults		Tokens from scanning.
+	 */
+
+	protected static void compareTokens
+	(
+		String description ,
+		List<String> texts ,
+		List<List<String>> regexResults ,
+		List<List<String>> scanResults
+	)
+	{
+		for ( int i = 0 ; i < texts.size() ; i++ )
+		{
+			if ( !regexResults.get( i ).equals( scanResults.get( i ) ) )
+			{
+				if ( differences < 20 )
+				{
+					System.out.println
+					(
+						description + " tokens differ for: " + texts.get( i )
+					);
+
+					System.out.println( "   " + regexResults.get( i ) );
+					System.out.println( "   " + scanResults.get( i ) );
+				}
+
+				differences++;
+			}
+		}
+	}
+
+	/**	Report times.
+	 *
+	 *	@param	description		Description of the tokenizer.
+	 *	@param	regexTime		Time using regular expressions.
+	 *	@param	scanTime		Time scanning.
+	 */
+
+	protected static void reportTimes
+	(
+		String description ,
+		long regexTime ,
+		long scanTime
+	)
+	{
+		System.out.println
+		(
+			description + ": regular expressions " +
+			Formatters.formatLongWithCommas( regexTime ) + " ms, scanning " +
+			Formatters.formatLongWithCommas( scanTime ) + " ms."
+		);
+	}
+
+	/**	Compare tokens from a word tokenizer and pretokenizer.
+	 *
+	 *	@param	description		Description of the tokenizer.
+	 *	@param	wordTokenizer	The word tokenizer.
+	 *	@param	preTokenizer	The pretokenizer.
+	 *
+	 *	@return					Tokens produced by scanning.
+	 */
+
+	protected static List<List<String>> compareWordTokenizer
+	(
+		String description ,
+		WordTokenizer wordTokenizer ,
+		AbstractPreTokenizer preTokenizer
+	)
+	{
+		wordTokenizer.setPreTokenizer( preTokenizer );
+
+		List<List<String>> regexResults	= ListFactory.createNewList();
+		List<List<String>> scanResults	= ListFactory.createNewList();
+
+		preTokenizer.setUseRegularExpressions( true );
+
+		long regexTime	= tokenizeLines( wordTokenizer , regexResults );
+
+		preTokenizer.setUseRegularExpressions( false );
+
+		long scanTime	= tokenizeLines( wordTokenizer , scanResults );
+
+		compareTokens( description , lines , regexResults , scanResults );
+		reportTimes( description , regexTime , scanTime );
+
+		return scanResults;
+	}
+
+	/**	Compare tokens from the Penn Treebank tokenizer.
+	 *
+	 *	@param	words	The words to split.
+	 */
+
+	protected static void comparePennTreebankTokenizer( List<String> words )
+	{
+		PennTreebankTokenizer tokenizer	= new PennTreebankTokenizer();
+
+		List<List<String>> regexResults	= ListFactory.createNewList();
+		List<List<String>> scanResults	= ListFactory.createNewList();
+
+		tokenizer.setUseRegularExpressions( true );
+
+		long startTime	= System.currentTimeMillis();
+
+		for ( int i = 0 ; i < words.size() ; i++ )
+		{
+			regexResults.add( tokenizer.extractWords( words.get( i ) ) );
+		}
+
+		long regexTime	= System.currentTimeMillis() - startTime;
+
+		tokenizer.setUseRegularExpressions( false );
+
+		startTime		= System.currentTimeMillis();
+
+		for ( int i = 0 ; i < words.size() ; i++ )
+		{
+			scanResults.add( tokenizer.extractWords( words.get( i ) ) );
+		}
+
+		long scanTime	= System.currentTimeMillis() - startTime;
+
+		compareTokens( "Penn Treebank" , words , regexResults , scanResults );
+		reportTimes( "Penn Treebank" , regexTime , scanTime );
+	}
+
+	/**	Run the comparison.
+	 *
+	 *	@return		True if all tokens are the same.
+	 */
+
+	protected static boolean runComparison()
+		throws Exception
+	{
+		System.out.println
+		(
+			"Tokenizing " + Formatters.formatIntegerWithCommas( lines.size() ) +
+			" lines."
+		);
+
+		List<List<String>> defaultTokens	=
+			compareWordTokenizer
+			(
+				"Default" ,
+				new DefaultWordTokenizer() ,
+				new DefaultPreTokenizer()
+			);
+
+		compareWordTokenizer
+		(
+			"EEBO" ,
+			new EEBOWordTokenizer() ,
+			new EEBOPreTokenizer()
+		);
+
+		List<String> words	= ListFactory.createNewList();
+
+		for ( int i = 0 ; i < defaultTokens.size() ; i++ )
+		{
+			words.addAll( defaultTokens.get( i ) );
+		}
+
+		comparePennTreebankTokenizer( words );
+
+		System.out.println
+		(
+			Formatters.formatIntegerWithCommas( differences ) +
+			" tokenizations differ."
+		);
+
+		return ( differences == 0 );
+	}
+
+	/**	Read lines of the text files.
+	 */
+
+	protected static void readLines()
+		throws IOException
+	{
+		for ( int i = 0 ; i < fileNames.length ; i++ )
+		{
+			BufferedReader bufferedReader	=
+				new BufferedReader
+				(
+					new UnicodeReader
+					(
+						new FileInputStream( fileNames[ i ] ) ,
+						"utf-8"
+					)
+				);
+
+			String line	= bufferedReader.readLine();
+
+			while ( line != null )
+			{
+				lines.add( line );
+
+				line	= bufferedReader.readLine();
+			}
+
+			bufferedReader.close();
+		}
+	}
+
+	/**	Initialize.
+	 *
+	 *	@param	args	Program parameters.
+	 *
+	 *	@return			true if initialization succeeded.
+	 */
+
+	protected static boolean initialize( String[] args )
+		throws Exception
+	{
+		boolean result	= true;
+
+		if ( args.length < 1 )
+		{
+			result	= false;
+
+			help();
+		}
+		else
+		{
+			fileNames	= args;
+
+			readLines();
+		}
+
+		return result;
+	}
+
+	/**	Display brief help.
+	 */
+
+	protected static void help()
+	{
+		System.out.println( "Usage: " );
+		System.out.println( "" );
+		System.out.println( "java -Xmx720m edu.northwestern.at.morphadorner.tools.comparetokenizers.CompareTokenizers" );
+		System.out.println( "   file1 file2 ..." );
+		System.out.println( "" );
+		System.out.println( "-- file1 file2 ... are utf-8 text files to tokenize (required)." );
+	}
+
+	/**	Main program.
+	 *
+	 *	@param	args	Program parameters.
+	 */
+
+	public static void main( String args[] )
+	{
+								//	If initialization succeeds ...
+		int returnCode	= 0;
+
+		try
+		{
+			if ( initialize( args ) )
+			{
+								//	Run the comparison.
+
+				if ( !runComparison() ) returnCode	= 1;
+			}
+			else
+			{
+				returnCode	= 1;
+			}
+		}
+		catch ( Exception e )
+		{
+			e.printStackTrace();
+
+			returnCode	= 1;
+		}
+								//	Halt with error 1 if any error.
+
+		if ( returnCode != 0 )
+		{
+			System.exit( returnCode );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
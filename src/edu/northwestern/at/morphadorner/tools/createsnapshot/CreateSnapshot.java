@@ -0,0 +1,247 @@
+package edu.northwestern.at.morphadorner.tools.createsnapshot;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.net.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.transitionmatrix.*;
+
+/**	Generate binary snapshots of lexicons and transition matrices.
+ *
+ *	<p>
+ *	<code>
+ *	java -Xmx720m edu.northwestern.at.morphadorner.tools.createsnapshot.CreateSnapshot
+ *	type file1 file2 ...
+ *	</code>
+ *	</p>
+ *
+ *  <ul>
+ *	<li>
+ *	<p>
+ *	<strong>type</strong> is "lexicon" for word and suffix lexicons,
+ *	or "transitionmatrix" for transition matrices.
+ *	</p>
+ *	</li>
+ *	<li>
+ *	<p>
+ *	<strong>file1 file2 ...</strong> are the utf-8 text files
+ *	for which to create snapshots.  The snapshot for each file is
+ *	written to the same directory, with ".snapshot" appended to the
+ *	file name.
+ *	</p>
+ *	</li>
+ *	</ul>
+ *
+ *	<p>
+ *	MorphAdorner loads a snapshot instead of parsing the text file
+ *	whenever the snapshot is present and up to date.  A snapshot
+ *	becomes stale, and is ignored, when its text file is changed.
+ *	Rerun this program to bring the snapshot up to date.
+ *	</p>
+ */
+
+public class CreateSnapshot
+{
+	/**	Snapshot type. */
+
+	protected static String snapshotType;
+
+	/**	Names of text files for which to create snapshots. */
+
+	protected static String[] fileNames;
+
+	/**	Create snapshot for one file.
+	 *
+	 *	@param	fileName	The text file name.
+	 */
+
+	protected static void createSnapshot( String fileName )
+		throws IOException
+	{
+		long startTime	= System.currentTimeMillis();
+
+		URL url			= new File( fileName ).toURI().toURL();
+
+		File snapshotFile;
+
+		if ( snapshotType.equals( "lexicon" ) )
+		{
+			BaseLexicon lexicon	= new BaseLexicon();
+
+			snapshotFile	= lexicon.createLexiconSnapshot( url , "utf-8" );
+
+			System.out.println
+			(
+				"Lexicon " + fileName + " contains " +
+				Formatters.formatIntegerWithCommas(
+					lexicon.getLexiconSize() ) +
+				" entries."
+			);
+		}
+		else
+		{
+			TransitionMatrix transitionMatrix	= new TransitionMatrix();
+
+			snapshotFile	=
+				transitionMatrix.createTransitionMatrixSnapshot(
+					url , "utf-8" , '\t' );
+
+			System.out.println
+			(
+				"Transition matrix " + fileName + " contains " +
+				Formatters.formatIntegerWithCommas(
+					transitionMatrix.sliceKeySet().size() ) +
+				" tags."
+			);
+		}
+
+		long processingTime	= System.currentTimeMillis() - startTime;
+
+		System.out.println
+		(
+			"Wrote snapshot " + snapshotFile.getPath() + " in " +
+			Formatters.formatLongWithCommas( processingTime ) + " ms."
+		);
+	}
+
+	/**	Initialize.
+	 *
+	 *	@param	args	Program parameters.
+	 *
+	 *	@return			true if initialization succeeded.
+	 */
+
+	protected static boolean initialize( String[] args )
+	{
+		boolean result	= true;
+
+		if ( args.length < 2 )
+		{
+			result	= false;
+
+			help();
+		}
+		else
+		{
+			snapshotType	= args[ 0 ].toLowerCase();
+
+			if	(	!snapshotType.equals( "lexicon" ) &&
+					!snapshotType.equals( "transitionmatrix" )
+				)
+			{
+				result	= false;
+
+				System.out.println( "Bad snapshot type: " + args[ 0 ] );
+
+				help();
+			}
+
+			fileNames	= new String[ args.length - 1 ];
+
+			System.arraycopy( args , 1 , fileNames , 0 , fileNames.length );
+		}
+
+		return result;
+	}
+
+	/**	Display brief help.
+	 */
+
+	protected static void help()
+	{
+		System.out.println( "Usage: " );
+		System.out.println( "" );
+		System.out.println( "java -Xmx720m edu.northwestern.at.morphadorner.tools.createsnapshot.CreateSnapshot" );
+		System.out.println( "   type file1 file2 ..." );
+		System.out.println( "" );
+		System.out.println( "-- type is lexicon or transitionmatrix (required)." );
+		System.out.println( "-- file1 file2 ... are utf-8 text files for which to create snapshots (required)." );
+	}
+
+	/**	Main program.
+	 *
+	 *	@param	args	Program parameters.
+	 */
+
+	public static void main( String args[] )
+	{
+								//	If initialization succeeds ...
+		int returnCode	= 0;
+
+		if ( initialize( args ) )
+		{
+								//	Generate the snapshots.
+
+			for ( int i = 0 ; i < fileNames.length ; i++ )
+			{
+				try
+				{
+					createSnapshot( fileNames[ i ] );
+				}
+				catch ( Exception e )
+				{
+					e.printStackTrace();
+
+					returnCode	= 1;
+				}
+			}
+		}
+		else
+		{
+			returnCode	= 1;
+		}
+								//	Halt with error 1 if any error.
+
+		if ( returnCode != 0 )
+		{
+			System.exit( returnCode );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
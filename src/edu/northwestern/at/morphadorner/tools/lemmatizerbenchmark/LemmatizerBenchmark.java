@@ -0,0 +1,380 @@
+package edu.northwestern.at.morphadorner.tools.lemmatizerbenchmark;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.lemmatizer.*;
+
+/**	Compare compiled and regular expression lemmatization rules.
+ *
+ *	<p>
+ *	<code>
+ *	java -Xmx720m edu.northwestern.at.morphadorner.tools.lemmatizerbenchmark.LemmatizerBenchmark
+ *	wordfile [passes]
+ *	</code>
+ *	</p>
+ *
+ *  <ul>
+ *	<li>
+ *	<p>
+ *	<strong>wordfile</strong> is a utf-8 text file with one word
+ *	at the start of each line, such as data/standardspellings.txt.
+ *	Anything following a tab on a line is ignored.  The words
+ *	also serve as the lemmatizer dictionary.
+ *	</p>
+ *	</li>
+ *	<li>
+ *	<p>
+ *	<strong>passes</strong> is the number of times to lemmatize
+ *	the words with each kind of rules.  Default is 3.
+ *	</p>
+ *	</li>
+ *	</ul>
+ *
+ *	<p>
+ *	Each word is lemmatized by the English lemmatizer with no word
+ *	class and with each word class covered by the lemmatization rules,
+ *	first trying each rule's regular expression in turn and then using
+ *	the rules compiled into suffix tries.  The lemmata must be the same.
+ *	The time taken by each kind of rules is reported.
+ *	</p>
+ */
+
+public class LemmatizerBenchmark
+{
+	/**	Words to lemmatize. */
+
+	protected static String[] words;
+
+	/**	Number of passes. */
+
+	protected static int passes	= 3;
+
+	/**	The lemmatizer. */
+
+	protected static RuleBasedLemmatizer lemmatizer;
+
+	/**	Word classes to use, with "" for no word class. */
+
+	protected static String[] wordClasses;
+
+	/**	Lemmatize all words for all word classes.
+	 *
+	 *	@param	lemmata		Array to receive the lemmata,
+	 *						or null to discard them.
+	 *
+	 *	@return				Elapsed time in milliseconds.
+	 */
+
+	protected static long lemmatizeWords( String[] lemmata )
+	{
+		long startTime	= System.currentTimeMillis();
+
+		int k	= 0;
+
+		for ( int i = 0 ; i < wordClasses.length ; i++ )
+		{
+			for ( int j = 0 ; j < words.length ; j++ )
+			{
+				String lemma	=
+					( wordClasses[ i ].length() == 0 ) ?
+						lemmatizer.lemmatize( words[ j ] ) :
+						lemmatizer.lemmatize( words[ j ] , wordClasses[ i ] );
+
+				if ( lemmata != null ) lemmata[ k ]	= lemma;
+
+				k++;
+			}
+		}
+
+		return System.currentTimeMillis() - startTime;
+	}
+
+	/**	Time one kind of rules.
+	 *
+	 *	@param	useCompiledRules	True to use compiled rules.
+	 *	@param	lemmata				Array to receive the lemmata.
+	 *
+	 *	@return						Best time over all passes,
+	 *								in milliseconds.
+	 */
+
+	protected static long timeRules
+	(
+		boolean useCompiledRules ,
+		String[] lemmata
+	)
+	{
+		lemmatizer.setUseCompiledRules( useCompiledRules );
+
+		long bestTime	= lemmatizeWords( lemmata );
+
+		for ( int i = 1 ; i < passes ; i++ )
+		{
+			bestTime	= Math.min( bestTime , lemmatizeWords( null ) );
+		}
+
+		System.out.println
+		(
+			( useCompiledRules ? "Compiled rules:           " :
+				"Regular expression rules: " ) +
+			Formatters.formatLongWithCommas( bestTime ) + " ms."
+		);
+
+		return bestTime;
+	}
+
+	/**	Run the benchmark.
+	 */
+
+	protected static boolean runBenchmark()
+		throws Exception
+	{
+		int count	= words.length * wordClasses.length;
+
+		System.out.println
+		(
+			"Lemmatizing " + Formatters.formatIntegerWithCommas( count ) +
+			" words and word classes " + passes + " times."
+		);
+
+		String[] regexLemmata		= new String[ count ];
+		String[] compiledLemmata	= new String[ count ];
+
+		long regexTime		= timeRules( false , regexLemmata );
+		long compiledTime	= timeRules( true , compiledLemmata );
+
+		int differences	= 0;
+
+		for ( int i = 0 ; i < count ; i++ )
+		{
+			if ( !regexLemmata[ i ].equals( compiledLemmata[ i ] ) )
+			{
+				if ( differences < 20 )
+				{
+					System.out.println
+					(
+						"Lemmata differ for " + words[ i % words.length ] +
+						" (" + wordClasses[ i / words.length ] + "): " +
+						regexLemmata[ i ] + " " + compiledLemmata[ i ]
+					);
+				}
+
+				differences++;
+			}
+		}
+
+		if ( compiledTime > 0 )
+		{
+			System.out.println
+			(
+				"Speedup: " +
+				Formatters.formatDouble
+				(
+					(double)regexTime / (double)compiledTime , 2
+				)
+			);
+		}
+
+		System.out.println
+		(
+			Formatters.formatIntegerWithCommas( differences ) +
+			" lemmata differ."
+		);
+
+		return ( differences == 0 );
+	}
+
+	/**	Read words to lemmatize.
+	 *
+	 *	@param	fileName	The word file name.
+	 *
+	 *	@return				Set of the lower case words,
+	 *						for use as a dictionary.
+	 */
+
+	protected static Set<String> readWords( String fileName )
+		throws IOException
+	{
+		List<String> wordsList	= ListFactory.createNewList();
+		Set<String> dictionary	= SetFactory.createNewSet();
+
+		BufferedReader bufferedReader	=
+			new BufferedReader
+			(
+				new UnicodeReader
+				(
+					new FileInputStream( fileName ) ,
+					"utf-8"
+				)
+			);
+
+		String line	= bufferedReader.readLine();
+
+		while ( line != null )
+		{
+			int tabPos	= line.indexOf( '\t' );
+
+			String word	=
+				( ( tabPos >= 0 ) ? line.substring( 0 , tabPos ) : line ).trim();
+
+			if ( word.length() > 0 )
+			{
+				wordsList.add( word );
+				dictionary.add( word.toLowerCase() );
+			}
+
+			line	= bufferedReader.readLine();
+		}
+
+		bufferedReader.close();
+
+		words	= wordsList.toArray( new String[ wordsList.size() ] );
+
+		return dictionary;
+	}
+
+	/**	Initialize.
+	 *
+	 *	@param	args	Program parameters.
+	 *
+	 *	@return			true if initialization succeeded.
+	 */
+
+	protected static boolean initialize( String[] args )
+		throws Exception
+	{
+		boolean result	= true;
+
+		if ( args.length < 1 )
+		{
+			result	= false;
+
+			help();
+		}
+		else
+		{
+			if ( args.length > 1 )
+			{
+				passes	= Math.max( 1 , Integer.parseInt( args[ 1 ] ) );
+			}
+
+			lemmatizer	= new EnglishLemmatizer();
+
+			lemmatizer.setDictionary( readWords( args[ 0 ] ) );
+
+			Set<String> rulesWordClasses	=
+				lemmatizer.getRulesWordClasses();
+
+			wordClasses			= new String[ rulesWordClasses.size() + 1 ];
+			wordClasses[ 0 ]	= "";
+
+			int i	= 1;
+
+			for ( String wordClass : rulesWordClasses )
+			{
+				wordClasses[ i++ ]	= wordClass;
+			}
+		}
+
+		return result;
+	}
+
+	/**	Display brief help.
+	 */
+
+	protected static void help()
+	{
+		System.out.println( "Usage: " );
+		System.out.println( "" );
+		System.out.println( "java -Xmx720m edu.northwestern.at.morphadorner.tools.lemmatizerbenchmark.LemmatizerBenchmark" );
+		System.out.println( "   wordfile [passes]" );
+		System.out.println( "" );
+		System.out.println( "-- wordfile is a utf-8 text file with one word per line (required)." );
+		System.out.println( "-- passes is the number of times to lemmatize the words (default is 3)." );
+	}
+
+	/**	Main program.
+	 *
+	 *	@param	args	Program parameters.
+	 */
+
+	public static void main( String args[] )
+	{
+								//	If initialization succeeds ...
+		int returnCode	= 0;
+
+		try
+		{
+			if ( initialize( args ) )
+			{
+								//	Run the benchmark.
+
+				if ( !runBenchmark() ) returnCode	= 1;
+			}
+			else
+			{
+				returnCode	= 1;
+			}
+		}
+		catch ( Exception e )
+		{
+			e.printStackTrace();
+
+			returnCode	= 1;
+		}
+								//	Halt with error 1 if any error.
+
+		if ( returnCode != 0 )
+		{
+			System.exit( returnCode );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
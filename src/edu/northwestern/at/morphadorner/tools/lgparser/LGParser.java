@@ -2,8 +2,12 @@ package edu.northwestern.at.morphadorner.tools.lgparser;
 
 /*	Please see the license information at the end of this file. */
 
+import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.*;
+
 import net.sf.jlinkgrammar.* ;
+import edu.northwestern.at.utils.ListFactory;
 import edu.northwestern.at.utils.StringUtils;
 
 /**	Link grammar parser driver.
@@ -21,6 +25,21 @@ import edu.northwestern.at.utils.StringUtils;
  *	grammar parser data files and "sentence to parse" is the text of the
  *	sentence to parse.
  *	</p>
+ *
+ *	<p>
+ *	When more than one sentence is given, the sentences are parsed
+ *	in parallel, using one thread for each available processor,
+ *	and the results are displayed in the order of the sentences.
+ *	</p>
+ *
+ *	<p>
+ *	The parser dictionary is shared by all parsers, and is only
+ *	read while parsing.  Each parsed sentence holds its own parse
+ *	state, so sentences may be parsed by several threads at once.
+ *	A single LGParser is not thread safe, since {@link #parse(String)}
+ *	remembers the last sentence parsed, but {@link #parse(List,int)}
+ *	may be called from several threads.
+ *	</p>
  */
 
 public class LGParser
@@ -89,6 +108,21 @@ public class LGParser
 		parseOptions.parse_options_set_max_null_count( 10 );
 		parseOptions.parse_options_set_linkage_limit( maxLinkage );
 
+		loadDictionary( dataDirectory , parseOptions );
+	}
+
+	/**	Load the shared parser dictionary if not already loaded.
+	 *
+	 *	@param	dataDirectory	The data directory.
+	 *	@param	parseOptions	Parse options for loading the dictionary.
+	 */
+
+	protected static synchronized void loadDictionary
+	(
+		String dataDirectory ,
+		ParseOptions parseOptions
+	)
+	{
 		if ( dictionary == null )
 		{
 			try
@@ -118,6 +152,19 @@ public class LGParser
 	 */
 
 	public Linkage getLinkage( int index )
+	{
+		return getLinkage( sentence , index );
+	}
+
+	/**	Get a linkage from a parsed sentence.
+	 *
+	 *	@param	sentence	The parsed sentence.
+	 *	@param	index		The index of the linkage to return.
+	 *
+	 *	@return				The linkage at the specified index.
+	 */
+
+	public Linkage getLinkage( Sentence sentence , int index )
 	{
 		return new Linkage( index , sentence , parseOptions );
 	}
@@ -138,6 +185,148 @@ public class LGParser
 		return sentence ;
 	}
 
+	/**	Parse a list of sentence texts in parallel.
+	 *
+	 *	@param	sentenceTexts	Sentence texts to parse.
+	 *	@param	threads			Number of parsing threads.
+	 *
+	 *	@return					Parsed sentences in the order of the
+	 *							texts.  A sentence which could not be
+	 *							parsed is returned as null.
+	 *
+	 *	<p>
+	 *	Each sentence is parsed with its own copy of this parser's
+	 *	options against the shared dictionary.  The sentence last
+	 *	parsed by {@link #parse(String)} is not changed.
+	 *	</p>
+	 */
+
+	public List<Sentence> parse
+	(
+		List<String> sentenceTexts ,
+		int threads
+	)
+	{
+		List<Sentence> result	= ListFactory.createNewList();
+
+		threads	= Math.min( threads , sentenceTexts.size() );
+
+		if ( threads <= 1 )
+		{
+			for ( int i = 0 ; i < sentenceTexts.size() ; i++ )
+			{
+				result.add( parseCopy( sentenceTexts.get( i ) ) );
+			}
+
+			return result;
+		}
+
+		ExecutorService executor	=
+			Executors.newFixedThreadPool( threads );
+
+								//	Queue the sentences.
+
+		List<Future<Sentence>> futures	= ListFactory.createNewList();
+
+		for ( int i = 0 ; i < sentenceTexts.size() ; i++ )
+		{
+			final String sentenceText	= sentenceTexts.get( i );
+
+			futures.add
+			(
+				executor.submit
+				(
+					new Callable<Sentence>()
+					{
+						public Sentence call()
+						{
+							return parseCopy( sentenceText );
+						}
+					}
+				)
+			);
+		}
+								//	Wait for all the sentences to finish.
+
+		executor.shutdown();
+
+		for ( int i = 0 ; i < futures.size() ; i++ )
+		{
+			Sentence sentence	= null;
+
+			try
+			{
+				sentence	= futures.get( i ).get();
+			}
+			catch ( Exception e )
+			{
+				e.printStackTrace();
+			}
+
+			result.add( sentence );
+		}
+
+		return result;
+	}
+
+	/**	Parse sentence text with a copy of the parse options.
+	 *
+	 *	@param	s	Sentence text to parse.
+	 *
+	 *	@return		Parsed sentence, or null if the sentence
+	 *				could not be parsed.
+	 */
+
+	protected Sentence parseCopy( String s )
+	{
+		ParseOptions options	= new ParseOptions( parseOptions );
+
+		try
+		{
+			Sentence result	= new Sentence( s , dictionary , options );
+
+			result.sentence_parse( options );
+
+			return result;
+		}
+		catch ( RuntimeException e )
+		{
+			e.printStackTrace();
+
+			return null;
+		}
+	}
+
+	/**	Display the first linkage of a parsed sentence.
+	 *
+	 *	@param	sentence	The parsed sentence.
+	 */
+
+	protected void displayLinkage( Sentence sentence )
+	{
+		if ( ( sentence == null ) ||
+			( sentence.sentence_num_linkages_found() < 1 ) )
+		{
+			System.out.println( "No linkage was found." );
+		}
+		else
+		{
+			Linkage link = getLinkage( sentence , 0 );
+
+			System.out.println( link.linkage_print_diagram() );
+
+			System.out.println
+			(
+				fixOutput( link.linkage_print_links_and_domains() )
+			);
+
+			System.out.println
+			(
+				link.linkage_print_constituent_tree( 1 )
+			);
+		}
+	}
+
 	/**	Main program.
 	 *
 	 *	@param	args	Command line arguments.
@@ -151,39 +340,43 @@ public class LGParser
 
 			String dataDirectory	= args[ 0 ];
 
-								//	Get sentence text to parse.
-
-			String textToParse		= args[ 1 ] ;
-
 								//	Create new parser.
 
 			LGParser parser = new LGParser( dataDirectory );
 
-								//	Parse sentence text.
-
-			Sentence sentence = parser.parse( textToParse );
+								//	Parse a single sentence text.
 
-								//	Display linkages, if any found.
-
-			if ( sentence.sentence_num_linkages_found() < 1 )
+			if ( args.length == 2 )
 			{
-				System.out.println( "No linkage was found." );
+				parser.displayLinkage( parser.parse( args[ 1 ] ) );
 			}
 			else
 			{
-				Linkage link = parser.getLinkage( 0 );
+								//	Parse several sentence texts
+								//	in parallel.
 
-				System.out.println( link.linkage_print_diagram() );
+				List<String> texts	= ListFactory.createNewList();
 
-				System.out.println
-				(
-					fixOutput( link.linkage_print_links_and_domains() )
-				);
+				for ( int i = 1 ; i < args.length ; i++ )
+				{
+					texts.add( args[ i ] );
+				}
 
-				System.out.println
-				(
-					link.linkage_print_constituent_tree( 1 )
-				);
+				List<Sentence> sentences	=
+					parser.parse
+					(
+						texts ,
+						Runtime.getRuntime().availableProcessors()
+					);
+								//	Display linkages in sentence order.
+
+				for ( int i = 0 ; i < sentences.size() ; i++ )
+				{
+					System.out.println( texts.get( i ) );
+					System.out.println( "" );
+
+					parser.displayLinkage( sentences.get( i ) );
+				}
 			}
 		}
 	}
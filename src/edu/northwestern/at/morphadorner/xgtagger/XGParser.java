@@ -1528,6 +1528,48 @@ public class XGParser
 		TextInputter inputter
 	)
 		throws IOException
+	{
+		return mergeAdornments
+		(
+			options ,
+			instance ,
+			document ,
+			segmentName ,
+			outputter ,
+			inputter ,
+			false
+		);
+	}
+
+	/**	Merged adornments with original XML text.
+	 *
+	 *	@param	options			XGTagger options.
+	 *	@param	instance		XGParser instance.
+	 *	@param	document		Document being processed.
+	 *	@param	segmentName		Name of document segment being processed.
+	 *	@param	outputter		Adorned word outputter.
+	 *	@param	inputter		Text inputter.
+	 *	@param	inMemory		True to store the updated segment text
+	 *							in the inputter directly instead of
+	 *							through a temporary file.
+	 *
+	 *	@return					Map of (word id, # of word parts)
+	 *							for words split by soft or jump tags.
+	 *
+	 *	@throws	IOException
+	 */
+
+	public static Map<Integer, Integer> mergeAdornments
+	(
+		XGOptions options ,
+		XGParser instance ,
+		Document document ,
+		String segmentName ,
+		AdornedWordOutputter outputter ,
+		TextInputter inputter ,
+		boolean inMemory
+	)
+		throws IOException
 	{
 		instance.adornerOutputter	= outputter;
 		instance.intCountTags		= 0;
@@ -1549,18 +1591,65 @@ public class XGParser
 								//	Output updated DOM tree segment as
 								//	XML text.
 
-		File file	= File.createTempFile( "mad" , null );
+		if ( inMemory )
+		{
+			String segmentText	= XGMisc.printNodeToString( document );
 
-		file.deleteOnExit();
+			if ( segmentText != null )
+			{
+				inputter.setSegmentText
+				(
+					segmentName ,
+					normalizeLineEnds( segmentText )
+				);
+			}
+		}
+		else
+		{
+			File file	= File.createTempFile( "mad" , null );
 
-		String fileName	= file.getAbsolutePath();
+			file.deleteOnExit();
 
-		if ( XGMisc.printNodeToFile( document , fileName ) == 1 )
-		{
-			inputter.setSegmentText( segmentName , file );
+			String fileName	= file.getAbsolutePath();
+
+			if ( XGMisc.printNodeToFile( document , fileName ) == 1 )
+			{
+				inputter.setSegmentText( segmentName , file );
+			}
 		}
 
 		return instance.splitWords;
+	}
+
+	/**	Normalize line ends in text.
+	 *
+	 *	@param	text	The text.
+	 *
+	 *	@return			The text with each line ended by a newline,
+	 *					as when the text is read back from a file.
+	 *
+	 *	@throws	IOException
+	 */
+
+	protected static String normalizeLineEnds( String text )
+		throws IOException
+	{
+		StringBuffer result	= new StringBuffer( text.length() + 1 );
+
+		BufferedReader reader	=
+			new BufferedReader( new StringReader( text ) );
+
+		String line	= reader.readLine();
+
+		while ( line != null )
+		{
+			result.append( line );
+			result.append( "\n" );
+
+			line	= reader.readLine();
+		}
+
+		return result.toString();
     }
 
 	/**	Create DOM from XML text.
@@ -299,7 +299,7 @@ public class CharUtils
 
 		if ( ( s != null ) && !s.equals( "'" ) )
 		{
-			wordMatcher.reset( s );
+			Matcher wordMatcher	= wordPattern.matcher( s );
 
 			result	= wordMatcher.matches();
 		}
@@ -18,9 +18,15 @@ public class PatternReplacer
 
 	protected String sourcePattern;
 
-	/**	Compiled source pattern matcher. */
+	/**	Compiled source pattern.
+	 *
+	 *	<p>
+	 *	A new matcher is created for each call so that a single
+	 *	pattern replacer may be shared across threads.
+	 *	</p>
+	 */
 
-	protected Matcher sourcePatternMatcher;
+	protected Pattern sourcePatternCompiled;
 
 	/**	Replacement. */
 
@@ -45,8 +51,7 @@ public class PatternReplacer
 		this.sourcePattern			= sourcePattern;
 		this.replacementPattern		= replacementPattern;
 
-		this.sourcePatternMatcher	=
-			Pattern.compile( sourcePattern ).matcher( "" );
+		this.sourcePatternCompiled	= Pattern.compile( sourcePattern );
 	}
 
 	/**	Return matched groups.
@@ -61,7 +66,9 @@ public class PatternReplacer
 	{
 		String[] result	= null;
 
-		if ( sourcePatternMatcher.reset( s ).find() )
+		Matcher sourcePatternMatcher	= sourcePatternCompiled.matcher( s );
+
+		if ( sourcePatternMatcher.find() )
 		{
 			int groupCount	= sourcePatternMatcher.groupCount();
 
@@ -86,7 +93,8 @@ public class PatternReplacer
 	public String replace( String s )
 	{
 		return
-			sourcePatternMatcher.reset( s ).replaceAll( replacementPattern );
+			sourcePatternCompiled.matcher( s ).replaceAll(
+				replacementPattern );
 	}
 
 	/**	Display pattern replacer as string.
@@ -0,0 +1,367 @@
+package edu.northwestern.at.utils.cache;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+/**	Abstract thread-safe bounded cache.
+ *
+ *	<p>
+ *	The cache is split into segments by key hash code.  Each segment
+ *	is an ordinary single-threaded {@link Cache} holding at most its
+ *	share of the capacity, and is locked only while it is accessed.
+ *	Threads using keys in different segments do not block each other.
+ *	Extend this class and override {@link #createSegment} to provide
+ *	an eviction policy.
+ *	</p>
+ */
+
+abstract public class AbstractBoundedCache<K, V>
+	implements BoundedCache<K, V>
+{
+	/**	Default number of segments. */
+
+	public static final int DEFAULT_SEGMENTS	= 16;
+
+	/**	The segments. */
+
+	protected Cache<K, V>[] segments;
+
+	/**	Segment mask.  The number of segments is a power of two. */
+
+	protected int segmentMask;
+
+	/**	Maximum number of entries. */
+
+	protected int capacity;
+
+	/**	Cache statistics. */
+
+	protected CacheStatistics statistics	= new CacheStatistics();
+
+	/**	Create a bounded cache.
+	 *
+	 *	@param	capacity	Maximum number of entries.
+	 *	@param	segments	Requested number of segments.
+	 *						Rounded up to a power of two, and reduced
+	 *						so that each segment holds at least
+	 *						16 entries.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public AbstractBoundedCache( int capacity , int segments )
+	{
+		this.capacity	= Math.max( capacity , 1 );
+
+		int nSegments	= 1;
+
+		while	(	( nSegments < segments ) &&
+					( ( nSegments * 2 * 16 ) <= this.capacity )
+				)
+		{
+			nSegments	*= 2;
+		}
+
+		this.segments		= (Cache<K, V>[])new Cache<?, ?>[ nSegments ];
+		this.segmentMask	= nSegments - 1;
+
+								//	Spread the capacity over the
+								//	segments.
+
+		int segmentCapacity	= this.capacity / nSegments;
+		int extra			= this.capacity % nSegments;
+
+		for ( int i = 0 ; i < nSegments ; i++ )
+		{
+			this.segments[ i ]	=
+				createSegment
+				(
+					segmentCapacity + ( ( i < extra ) ? 1 : 0 )
+				);
+		}
+	}
+
+	/**	Create a bounded cache with the default number of segments.
+	 *
+	 *	@param	capacity	Maximum number of entries.
+	 */
+
+	public AbstractBoundedCache( int capacity )
+	{
+		this( capacity , DEFAULT_SEGMENTS );
+	}
+
+	/**	Create a cache segment.
+	 *
+	 *	@param	segmentCapacity		Maximum number of entries
+	 *								in the segment.
+	 *
+	 *	@return						The segment.
+	 *
+	 *	<p>
+	 *	The segment need not be thread-safe.  It should call
+	 *	statistics.recordEviction() for each entry it evicts.
+	 *	</p>
+	 */
+
+	abstract protected Cache<K, V> createSegment( int segmentCapacity );
+
+	/**	Copy the entries of a segment.
+	 *
+	 *	@param	segment		The segment.
+	 *	@param	entries		Map to which to add the segment entries.
+	 *
+	 *	<p>
+	 *	Called with the segment locked.  Copying the entries should
+	 *	not count as using them.
+	 *	</p>
+	 */
+
+	abstract protected void copySegmentEntries
+	(
+		Cache<K, V> segment ,
+		Map<K, V> entries
+	);
+
+	/**	Get segment for a key.
+	 *
+	 *	@param	key		The key.
+	 *
+	 *	@return			The segment which holds the key.
+	 */
+
+	protected Cache<K, V> segmentFor( Object key )
+	{
+		int h	= key.hashCode();
+
+								//	Spread the high bits down so
+								//	that the segment does not depend
+								//	on the low bits alone.
+
+		h	^= ( h >>> 16 );
+		h	*= 0x85EBCA6B;
+		h	^= ( h >>> 13 );
+
+		return segments[ h & segmentMask ];
+	}
+
+	/**	Clear all entries in the cache.
+	 *
+	 *	<p>
+	 *	The statistics are not reset.
+	 *	</p>
+	 */
+
+	public void clear()
+	{
+		for ( int i = 0 ; i < segments.length ; i++ )
+		{
+			Cache<K, V> segment	= segments[ i ];
+
+			synchronized( segment )
+			{
+				segment.clear();
+			}
+		}
+	}
+
+	/**	True if cache contains a specified key.
+	 *
+	 *	@param	key		The key to look up.
+	 *
+	 *	@return			true if the cache contains the key.
+	 */
+
+	public boolean containsKey( K key )
+	{
+		Cache<K, V> segment	= segmentFor( key );
+
+		synchronized( segment )
+		{
+			return segment.containsKey( key );
+		}
+	}
+
+	/**	Retrieve a cached value.
+	 *
+	 *	@param	key		The key of the entry to retrieve.
+	 *
+	 *	@return			The value of the cached entry specified by key;
+	 *					null if the cache does not contain the key.
+	 */
+
+	public V get( K key )
+	{
+		Cache<K, V> segment	= segmentFor( key );
+
+		V result;
+
+		synchronized( segment )
+		{
+			result	= segment.get( key );
+		}
+
+		if ( result == null )
+		{
+			statistics.recordMiss();
+		}
+		else
+		{
+			statistics.recordHit();
+		}
+
+		return result;
+	}
+
+	/**	Add or replace a cached value.
+	 *
+	 *	@param	key		The key of the entry to add.
+	 *	@param	value	The value of the entry to add.
+	 *
+	 *	@return			The value of any existing cached entry specified
+	 *					by the key; null if the cache does not contain
+	 *					the key.
+	 */
+
+	public V put( K key , V value )
+	{
+		Cache<K, V> segment	= segmentFor( key );
+
+		synchronized( segment )
+		{
+			return segment.put( key , value );
+		}
+	}
+
+	/**	Remove a specific entry from the cache.
+	 *
+	 *	@param	key		The key of the entry to remove.
+	 *
+	 *	@return			The entry removed, or null if none.
+	 */
+
+	public V remove( K key )
+	{
+		Cache<K, V> segment	= segmentFor( key );
+
+		synchronized( segment )
+		{
+			return segment.remove( key );
+		}
+	}
+
+	/**	Return current size of cache.
+	 *
+	 *	@return		Number of entries (keys) currently stored in cache.
+	 */
+
+	public int size()
+	{
+		int result	= 0;
+
+		for ( int i = 0 ; i < segments.length ; i++ )
+		{
+			Cache<K, V> segment	= segments[ i ];
+
+			synchronized( segment )
+			{
+				result	+= segment.size();
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get the maximum number of entries.
+	 *
+	 *	@return		The maximum number of entries in the cache.
+	 */
+
+	public int getCapacity()
+	{
+		return capacity;
+	}
+
+	/**	Get the cache statistics.
+	 *
+	 *	@return		The hit, miss and eviction counts.
+	 */
+
+	public CacheStatistics getStatistics()
+	{
+		return statistics;
+	}
+
+	/**	Get a copy of the cached entries.
+	 *
+	 *	@return		Map holding the cached keys and values.
+	 *				Changing the map does not change the cache.
+	 *
+	 *	<p>
+	 *	Each segment is locked while its entries are copied, so
+	 *	entries added to other segments during the copy may or may not
+	 *	be included.
+	 *	</p>
+	 */
+
+	public Map<K, V> getEntries()
+	{
+		Map<K, V> result	= new HashMap<K, V>();
+
+		for ( int i = 0 ; i < segments.length ; i++ )
+		{
+			Cache<K, V> segment	= segments[ i ];
+
+			synchronized( segment )
+			{
+				copySegmentEntries( segment , result );
+			}
+		}
+
+		return result;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,83 @@
+package edu.northwestern.at.utils.cache;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+/**	A thread-safe cache with a fixed maximum number of entries.
+ *
+ *	<p>
+ *	When the cache is full, adding an entry evicts another entry
+ *	chosen by the cache's eviction policy.  The cache keeps
+ *	hit, miss and eviction counts.
+ *	</p>
+ */
+
+public interface BoundedCache<K, V> extends Cache<K, V>
+{
+	/**	Get the maximum number of entries.
+	 *
+	 *	@return		The maximum number of entries in the cache.
+	 */
+
+	public int getCapacity();
+
+	/**	Get the cache statistics.
+	 *
+	 *	@return		The hit, miss and eviction counts.
+	 */
+
+	public CacheStatistics getStatistics();
+
+	/**	Get a copy of the cached entries.
+	 *
+	 *	@return		Map holding the cached keys and values.
+	 *				Changing the map does not change the cache.
+	 */
+
+	public Map<K, V> getEntries();
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
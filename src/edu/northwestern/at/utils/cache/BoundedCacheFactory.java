@@ -0,0 +1,170 @@
+package edu.northwestern.at.utils.cache;
+
+/*	Please see the license information at the end of this file. */
+
+/**	BoundedCache factory.
+ *
+ *	<p>
+ *	Creates a bounded cache given the name of an eviction policy:
+ *	</p>
+ *
+ *	<ul>
+ *	<li>"lru" -- evict the least recently used entry
+ *		({@link ConcurrentLRUCache}).</li>
+ *	<li>"tinylfu" -- admit entries by estimated access frequency
+ *		({@link ConcurrentTinyLFUCache}).</li>
+ *	</ul>
+ */
+
+public class BoundedCacheFactory
+{
+	/**	Least recently used eviction policy name. */
+
+	public static final String LRU		= "lru";
+
+	/**	Frequency-aware eviction policy name. */
+
+	public static final String TINYLFU	= "tinylfu";
+
+	/**	Get a bounded cache.
+	 *
+	 *	@param	policy		Eviction policy name.  Null for "lru".
+	 *	@param	capacity	Maximum number of entries.
+	 *
+	 *	@return				The cache, or null if capacity is zero
+	 *						or less.
+	 *
+	 *	@throws	IllegalArgumentException
+	 *						if the policy name is not recognized.
+	 */
+
+	public static <K, V> BoundedCache<K, V> newBoundedCache
+	(
+		String policy ,
+		int capacity
+	)
+	{
+		BoundedCache<K, V> result	= null;
+
+		if ( capacity > 0 )
+		{
+			if ( ( policy == null ) || policy.equalsIgnoreCase( LRU ) )
+			{
+				result	= new ConcurrentLRUCache<K, V>( capacity );
+			}
+			else if ( policy.equalsIgnoreCase( TINYLFU ) )
+			{
+				result	= new ConcurrentTinyLFUCache<K, V>( capacity );
+			}
+			else
+			{
+				throw new IllegalArgumentException
+				(
+					"Unknown cache eviction policy " + policy + "."
+				);
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get a bounded cache using settings from system properties.
+	 *
+	 *	@param	propertyPrefix		Property name prefix, e.g.,
+	 *								"lexicalsmoother".
+	 *	@param	defaultCapacity		Capacity used when the
+	 *								"prefix.cachesize" property is
+	 *								missing or invalid.
+	 *
+	 *	@return						The cache, or null if the capacity
+	 *								is zero or less.
+	 *
+	 *	@throws	IllegalArgumentException
+	 *								if the "prefix.cachepolicy"
+	 *								property names an unknown policy.
+	 *
+	 *	<p>
+	 *	The "prefix.cachesize" property gives the capacity, and the
+	 *	"prefix.cachepolicy" property gives the eviction policy name.
+	 *	</p>
+	 */
+
+	public static <K, V> BoundedCache<K, V> newBoundedCacheFromProperties
+	(
+		String propertyPrefix ,
+		int defaultCapacity
+	)
+	{
+		int capacity	= defaultCapacity;
+
+		String size		=
+			System.getProperty( propertyPrefix + ".cachesize" );
+
+		if ( size != null )
+		{
+			try
+			{
+				capacity	= Integer.parseInt( size.trim() );
+			}
+			catch ( NumberFormatException e )
+			{
+			}
+		}
+
+		return newBoundedCache
+		(
+			System.getProperty( propertyPrefix + ".cachepolicy" ) ,
+			capacity
+		);
+	}
+
+	/**	Don't allow instantiation, do allow overrides. */
+
+	protected BoundedCacheFactory()
+	{
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
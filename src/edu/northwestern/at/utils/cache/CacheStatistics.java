@@ -0,0 +1,171 @@
+package edu.northwestern.at.utils.cache;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.concurrent.atomic.*;
+
+/**	Cache hit, miss and eviction counters.
+ *
+ *	<p>
+ *	The counters may be updated concurrently by several threads.
+ *	</p>
+ */
+
+public class CacheStatistics
+{
+	/**	Number of lookups which found a cached value. */
+
+	protected AtomicLong hitCount		= new AtomicLong( 0 );
+
+	/**	Number of lookups which did not find a cached value. */
+
+	protected AtomicLong missCount		= new AtomicLong( 0 );
+
+	/**	Number of entries evicted to stay within the cache capacity. */
+
+	protected AtomicLong evictionCount	= new AtomicLong( 0 );
+
+	/**	Create cache statistics with all counts zero.
+	 */
+
+	public CacheStatistics()
+	{
+	}
+
+	/**	Record a cache hit.
+	 */
+
+	public void recordHit()
+	{
+		hitCount.incrementAndGet();
+	}
+
+	/**	Record a cache miss.
+	 */
+
+	public void recordMiss()
+	{
+		missCount.incrementAndGet();
+	}
+
+	/**	Record an eviction.
+	 */
+
+	public void recordEviction()
+	{
+		evictionCount.incrementAndGet();
+	}
+
+	/**	Get number of cache hits.
+	 *
+	 *	@return		Number of cache hits.
+	 */
+
+	public long getHitCount()
+	{
+		return hitCount.get();
+	}
+
+	/**	Get number of cache misses.
+	 *
+	 *	@return		Number of cache misses.
+	 */
+
+	public long getMissCount()
+	{
+		return missCount.get();
+	}
+
+	/**	Get number of evictions.
+	 *
+	 *	@return		Number of entries evicted.
+	 */
+
+	public long getEvictionCount()
+	{
+		return evictionCount.get();
+	}
+
+	/**	Get hit ratio.
+	 *
+	 *	@return		Hits divided by lookups, or 0 if there have been
+	 *				no lookups.
+	 */
+
+	public double getHitRatio()
+	{
+		long hits		= hitCount.get();
+		long lookups	= hits + missCount.get();
+
+		return ( lookups == 0 ) ? 0.0D : ( (double)hits / (double)lookups );
+	}
+
+	/**	Reset all counts to zero.
+	 */
+
+	public void reset()
+	{
+		hitCount.set( 0 );
+		missCount.set( 0 );
+		evictionCount.set( 0 );
+	}
+
+	/**	Return a string representation of the statistics.
+	 *
+	 *	@return		The hit, miss and eviction counts and hit ratio.
+	 */
+
+	public String toString()
+	{
+		return
+			"hits=" + getHitCount() +
+			", misses=" + getMissCount() +
+			", evictions=" + getEvictionCount() +
+			", hit ratio=" +
+			( Math.round( getHitRatio() * 1000.0D ) / 10.0D ) + "%";
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,122 @@
+package edu.northwestern.at.utils.cache;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+/**	Thread-safe bounded cache which evicts the least recently used entry.
+ *
+ *	<p>
+ *	Each segment is an {@link LRUCache}, so the least recently used
+ *	entry is evicted from the segment into which a new entry is added.
+ *	</p>
+ */
+
+public class ConcurrentLRUCache<K, V> extends AbstractBoundedCache<K, V>
+{
+	/**	Create a least recently used cache.
+	 *
+	 *	@param	capacity	Maximum number of entries.
+	 */
+
+	public ConcurrentLRUCache( int capacity )
+	{
+		super( capacity );
+	}
+
+	/**	Create a least recently used cache.
+	 *
+	 *	@param	capacity	Maximum number of entries.
+	 *	@param	segments	Requested number of segments.
+	 */
+
+	public ConcurrentLRUCache( int capacity , int segments )
+	{
+		super( capacity , segments );
+	}
+
+	/**	Create a cache segment.
+	 *
+	 *	@param	segmentCapacity		Maximum number of entries
+	 *								in the segment.
+	 *
+	 *	@return						The segment.
+	 */
+
+	protected Cache<K, V> createSegment( final int segmentCapacity )
+	{
+		return new LRUCache<K, V>( segmentCapacity )
+		{
+			protected boolean removeEldestEntry( Map.Entry<K, V> lruEntry )
+			{
+				boolean result	= ( size() > segmentCapacity );
+
+				if ( result )
+				{
+					statistics.recordEviction();
+				}
+
+				return result;
+			}
+		};
+	}
+
+	/**	Copy the entries of a segment.
+	 *
+	 *	@param	segment		The segment.
+	 *	@param	entries		Map to which to add the segment entries.
+	 */
+
+	protected void copySegmentEntries
+	(
+		Cache<K, V> segment ,
+		Map<K, V> entries
+	)
+	{
+		entries.putAll( (LRUCache<K, V>)segment );
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,303 @@
+package edu.northwestern.at.utils.cache;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+/**	Thread-safe bounded cache using frequency-aware admission.
+ *
+ *	<p>
+ *	Each segment follows the "window TinyLFU" scheme.  New entries go
+ *	into a small least recently used window holding about one percent
+ *	of the segment capacity.  An entry pushed out of the window may
+ *	only replace the least recently used entry of the main area
+ *	when its key has been accessed more often, as estimated by a
+ *	{@link FrequencySketch}.  Otherwise the window entry is evicted.
+ *	</p>
+ *
+ *	<p>
+ *	Frequently used keys therefore survive long bursts of keys
+ *	which are used only once, such as the rare words in a text,
+ *	which would flush a plain least recently used cache.
+ *	</p>
+ */
+
+public class ConcurrentTinyLFUCache<K, V> extends AbstractBoundedCache<K, V>
+{
+	/**	Create a frequency-aware cache.
+	 *
+	 *	@param	capacity	Maximum number of entries.
+	 */
+
+	public ConcurrentTinyLFUCache( int capacity )
+	{
+		super( capacity );
+	}
+
+	/**	Create a frequency-aware cache.
+	 *
+	 *	@param	capacity	Maximum number of entries.
+	 *	@param	segments	Requested number of segments.
+	 */
+
+	public ConcurrentTinyLFUCache( int capacity , int segments )
+	{
+		super( capacity , segments );
+	}
+
+	/**	Create a cache segment.
+	 *
+	 *	@param	segmentCapacity		Maximum number of entries
+	 *								in the segment.
+	 *
+	 *	@return						The segment.
+	 */
+
+	protected Cache<K, V> createSegment( int segmentCapacity )
+	{
+		return new TinyLFUSegment( segmentCapacity );
+	}
+
+	/**	Copy the entries of a segment.
+	 *
+	 *	@param	segment		The segment.
+	 *	@param	entries		Map to which to add the segment entries.
+	 */
+
+	protected void copySegmentEntries
+	(
+		Cache<K, V> segment ,
+		Map<K, V> entries
+	)
+	{
+		TinyLFUSegment tinyLFUSegment	= (TinyLFUSegment)segment;
+
+		entries.putAll( tinyLFUSegment.window );
+		entries.putAll( tinyLFUSegment.main );
+	}
+
+	/**	A single-threaded window TinyLFU cache segment.
+	 */
+
+	protected class TinyLFUSegment implements Cache<K, V>
+	{
+		/**	Window of recently added entries, in access order. */
+
+		protected LinkedHashMap<K, V> window;
+
+		/**	Main area, in access order. */
+
+		protected LinkedHashMap<K, V> main;
+
+		/**	Maximum number of entries in the window. */
+
+		protected int windowCapacity;
+
+		/**	Maximum number of entries in the main area. */
+
+		protected int mainCapacity;
+
+		/**	Key access frequencies. */
+
+		protected FrequencySketch sketch;
+
+		/**	Create a segment.
+		 *
+		 *	@param	capacity	Maximum number of entries.
+		 */
+
+		public TinyLFUSegment( int capacity )
+		{
+			windowCapacity	= Math.max( capacity / 100 , 1 );
+			mainCapacity	= Math.max( capacity - windowCapacity , 1 );
+
+			window			=
+				new LinkedHashMap<K, V>( windowCapacity + 1 , 1.1f , true );
+
+			main			=
+				new LinkedHashMap<K, V>( mainCapacity + 1 , 1.1f , true );
+
+			sketch			= new FrequencySketch( capacity );
+		}
+
+		/**	Clear all entries in the segment.
+		 */
+
+		public void clear()
+		{
+			window.clear();
+			main.clear();
+			sketch.clear();
+		}
+
+		/**	True if segment contains a specified key.
+		 *
+		 *	@param	key		The key to look up.
+		 *
+		 *	@return			true if the segment contains the key.
+		 */
+
+		public boolean containsKey( K key )
+		{
+			return window.containsKey( key ) || main.containsKey( key );
+		}
+
+		/**	Retrieve a cached value.
+		 *
+		 *	@param	key		The key of the entry to retrieve.
+		 *
+		 *	@return			The value of the cached entry specified by key;
+		 *					null if the segment does not contain the key.
+		 */
+
+		public V get( K key )
+		{
+			sketch.increment( key );
+
+			V result	= window.get( key );
+
+			if ( result == null )
+			{
+				result	= main.get( key );
+			}
+
+			return result;
+		}
+
+		/**	Add or replace a cached value.
+		 *
+		 *	@param	key		The key of the entry to add.
+		 *	@param	value	The value of the entry to add.
+		 *
+		 *	@return			The value of any existing cached entry
+		 *					specified by the key; null if the segment
+		 *					does not contain the key.
+		 */
+
+		public V put( K key , V value )
+		{
+			if ( main.containsKey( key ) )
+			{
+				return main.put( key , value );
+			}
+
+			V result	= window.put( key , value );
+
+			if ( window.size() > windowCapacity )
+			{
+								//	Move least recently used window
+								//	entry to main area if there is
+								//	room or it is used more often
+								//	than the main area's least
+								//	recently used entry.
+
+				Iterator<Map.Entry<K, V>> windowIterator	=
+					window.entrySet().iterator();
+
+				Map.Entry<K, V> candidate	= windowIterator.next();
+
+				K candidateKey		= candidate.getKey();
+				V candidateValue	= candidate.getValue();
+
+				windowIterator.remove();
+
+				if ( main.size() < mainCapacity )
+				{
+					main.put( candidateKey , candidateValue );
+				}
+				else
+				{
+					Iterator<Map.Entry<K, V>> mainIterator	=
+						main.entrySet().iterator();
+
+					K victimKey	= mainIterator.next().getKey();
+
+					if	(	sketch.frequency( candidateKey ) >
+							sketch.frequency( victimKey )
+						)
+					{
+						mainIterator.remove();
+						main.put( candidateKey , candidateValue );
+					}
+
+					statistics.recordEviction();
+				}
+			}
+
+			return result;
+		}
+
+		/**	Remove a specific entry from the segment.
+		 *
+		 *	@param	key		The key of the entry to remove.
+		 *
+		 *	@return			The entry removed, or null if none.
+		 */
+
+		public V remove( K key )
+		{
+			V result	= window.remove( key );
+
+			if ( result == null )
+			{
+				result	= main.remove( key );
+			}
+
+			return result;
+		}
+
+		/**	Return current size of segment.
+		 *
+		 *	@return		Number of entries in the segment.
+		 */
+
+		public int size()
+		{
+			return window.size() + main.size();
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
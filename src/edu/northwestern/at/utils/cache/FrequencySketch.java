@@ -0,0 +1,201 @@
+package edu.northwestern.at.utils.cache;
+
+/*	Please see the license information at the end of this file. */
+
+/**	Approximate access frequencies for cache keys.
+ *
+ *	<p>
+ *	A count-min sketch with four rows of four bit counters.
+ *	The frequency of a key is the smallest of its four counters,
+ *	so hash collisions can only overestimate it.  After a number of
+ *	increments proportional to the sketch size all counters are
+ *	halved, so that the frequencies favor recent accesses.
+ *	</p>
+ *
+ *	<p>
+ *	This class is not thread-safe.
+ *	</p>
+ */
+
+public class FrequencySketch
+{
+	/**	Largest counter value. */
+
+	protected static final int MAXIMUM_COUNT	= 15;
+
+	/**	Hash seeds for the four rows. */
+
+	protected static final int[] SEEDS	=
+		new int[]
+		{
+			0x9E3779B9 , 0xC2B2AE35 , 0x27D4EB2F , 0x165667B1
+		};
+
+	/**	Counters.  Four rows of "width" counters. */
+
+	protected byte[] counters;
+
+	/**	Row width mask.  The row width is a power of two. */
+
+	protected int widthMask;
+
+	/**	Number of increments since the counters were last halved. */
+
+	protected int increments;
+
+	/**	Number of increments after which the counters are halved. */
+
+	protected int sampleSize;
+
+	/**	Create a frequency sketch.
+	 *
+	 *	@param	capacity	Number of entries in the cache whose
+	 *						keys are counted.
+	 */
+
+	public FrequencySketch( int capacity )
+	{
+		int width	= 16;
+
+		while ( width < ( 2 * capacity ) )
+		{
+			width	*= 2;
+		}
+
+		counters	= new byte[ 4 * width ];
+		widthMask	= width - 1;
+		sampleSize	= 10 * Math.max( capacity , 1 );
+		increments	= 0;
+	}
+
+	/**	Get counter index for a key hash in a row.
+	 *
+	 *	@param	hash	The key hash code.
+	 *	@param	row		The row, 0 through 3.
+	 *
+	 *	@return			The counter index.
+	 */
+
+	protected int indexOf( int hash , int row )
+	{
+		int h	= hash * SEEDS[ row ];
+
+		h	^= ( h >>> 16 );
+
+		return ( row * ( widthMask + 1 ) ) + ( h & widthMask );
+	}
+
+	/**	Record an access to a key.
+	 *
+	 *	@param	key		The key.
+	 */
+
+	public void increment( Object key )
+	{
+		int hash		= key.hashCode();
+		boolean added	= false;
+
+		for ( int row = 0 ; row < 4 ; row++ )
+		{
+			int index	= indexOf( hash , row );
+
+			if ( counters[ index ] < MAXIMUM_COUNT )
+			{
+				counters[ index ]++;
+				added	= true;
+			}
+		}
+
+		if ( added && ( ++increments >= sampleSize ) )
+		{
+			halve();
+		}
+	}
+
+	/**	Get the approximate access frequency of a key.
+	 *
+	 *	@param	key		The key.
+	 *
+	 *	@return			The frequency, 0 through 15.
+	 */
+
+	public int frequency( Object key )
+	{
+		int hash	= key.hashCode();
+		int result	= MAXIMUM_COUNT;
+
+		for ( int row = 0 ; row < 4 ; row++ )
+		{
+			result	= Math.min( result , counters[ indexOf( hash , row ) ] );
+		}
+
+		return result;
+	}
+
+	/**	Halve all counters.
+	 */
+
+	protected void halve()
+	{
+		for ( int i = 0 ; i < counters.length ; i++ )
+		{
+			counters[ i ]	= (byte)( counters[ i ] >>> 1 );
+		}
+
+		increments	= increments / 2;
+	}
+
+	/**	Reset all counters to zero.
+	 */
+
+	public void clear()
+	{
+		java.util.Arrays.fill( counters , (byte)0 );
+
+		increments	= 0;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -67,6 +67,52 @@ public class TextInputterFactory
 
 		return textInputter;
 	}
+
+	/**	Get the class of the textInputters this factory creates.
+	 *
+	 *	@return		The TextInputter class.
+	 *
+	 *	<p>
+	 *	Finds the class named by the "textinputter.class" property
+	 *	as {@link #newTextInputter()} does, without creating
+	 *	a textInputter.
+	 *	</p>
+	 */
+
+	public Class<?> getTextInputterClass()
+	{
+		String className	=
+			System.getProperty( "textinputter.class" );
+
+		if ( className == null )
+		{
+			className	= "DefaultTextInputter";
+		}
+
+		Class<?> textInputterClass	= null;
+
+		try
+		{
+			textInputterClass	= Class.forName( className );
+		}
+		catch ( Exception e )
+		{
+			String fixedClassName	=
+				ClassUtils.packageName( this.getClass().getName() ) +
+				"." + className;
+
+			try
+			{
+				textInputterClass	= Class.forName( fixedClassName );
+			}
+			catch ( Exception e2 )
+			{
+				textInputterClass	= DefaultTextInputter.class;
+			}
+		}
+
+		return textInputterClass;
+	}
 }
 
 /*
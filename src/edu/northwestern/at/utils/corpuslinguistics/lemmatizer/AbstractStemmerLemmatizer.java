@@ -51,9 +51,18 @@ abstract public class AbstractStemmerLemmatizer
 	 *	This actually returns the stemmed form of the spelling,
 	 *	not the lemma.
 	 *	</p>
+	 *
+	 *	<p>
+	 *	Synchronized because the stemmers and the stem map are
+	 *	not thread safe.
+	 *	</p>
 	 */
 
-	 public String lemmatize( String spelling , String wordClass )
+	 public synchronized String lemmatize
+	 (
+	 	String spelling ,
+	 	String wordClass
+	 )
 	 {
 	 	String result	= "*";
 
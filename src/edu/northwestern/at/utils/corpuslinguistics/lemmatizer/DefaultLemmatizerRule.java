@@ -54,6 +54,21 @@ public class DefaultLemmatizerRule implements LemmatizerRule
 
 	protected boolean mustMatchDictionaryEntry;
 
+	/**	Literal suffix which every matching string ends with. */
+
+	protected String requiredSuffix	= "";
+
+	/**	True if the source pattern is the literal required suffix
+	 *	and the replacement is a literal string.
+	 */
+
+	protected boolean literal	= false;
+
+	/**	Characters with a special meaning in a regular expression. */
+
+	protected static final String REGEX_METACHARACTERS	=
+		"\\^$.|?*+()[]{}";
+
 	/**	Create a lemmatizer rule.
 	 *
 	 *	@param	ruleText	The rule text.
@@ -194,6 +209,13 @@ public class DefaultLemmatizerRule implements LemmatizerRule
 				replacementCount++;
 			}
 
+			requiredSuffix	= getLiteralSuffix( source );
+
+			literal	=
+				requiredSuffix.equals( source ) &&
+				( replacement.indexOf( '$' ) < 0 ) &&
+				( replacement.indexOf( '\\' ) < 0 );
+
 			source	= source + "$";
 
 			compiledSource	= Pattern.compile( source );
@@ -233,6 +255,97 @@ public class DefaultLemmatizerRule implements LemmatizerRule
 		return result;
 	}
 
+	/**	Get the literal characters which end a regular expression.
+	 *
+	 *	@param	pattern		The regular expression.
+	 *
+	 *	@return				The literal characters at the end of
+	 *						the pattern which any match must end
+	 *						with.  Empty if there are none or the
+	 *						pattern is too complex to tell.
+	 */
+
+	protected static String getLiteralSuffix( String pattern )
+	{
+		if	(	( pattern.indexOf( '|' ) >= 0 ) ||
+				( pattern.indexOf( "(?" ) >= 0 ) ||
+				( pattern.indexOf( "\\Q" ) >= 0 )
+			)
+		{
+			return "";
+		}
+
+		int start	= pattern.length();
+
+		while	(	( start > 0 ) &&
+					( REGEX_METACHARACTERS.indexOf(
+						pattern.charAt( start - 1 ) ) < 0 )
+				)
+		{
+			start--;
+		}
+								//	A backslash before the literal
+								//	characters starts an escape,
+								//	class or back reference such as
+								//	\d, \x41, \0101 or \1 which may
+								//	take any number of the following
+								//	characters, so give up.
+
+		if ( ( start > 0 ) && ( pattern.charAt( start - 1 ) == '\\' ) )
+		{
+			return "";
+		}
+
+		return pattern.substring( start );
+	}
+
+	/**	Get the literal suffix which every matching string ends with.
+	 *
+	 *	@return		The required suffix.  Empty if there is none.
+	 *
+	 *	<p>
+	 *	Strings ending with a line terminator may match without
+	 *	ending with the suffix.
+	 *	</p>
+	 */
+
+	public String getRequiredSuffix()
+	{
+		return requiredSuffix;
+	}
+
+	/**	Check if rule is a literal suffix replacement.
+	 *
+	 *	@return		True if the rule replaces the required suffix
+	 *				with the replacement string and does nothing else.
+	 */
+
+	public boolean isLiteral()
+	{
+		return literal;
+	}
+
+	/**	Get the replacement string.
+	 *
+	 *	@return		The replacement string.
+	 */
+
+	public String getReplacement()
+	{
+		return replacement;
+	}
+
+	/**	Check if the lemma must be in the dictionary.
+	 *
+	 *	@return		True if the rule applies only when the
+	 *				resulting lemma is in the dictionary.
+	 */
+
+	public boolean getMustMatchDictionaryEntry()
+	{
+		return mustMatchDictionaryEntry;
+	}
+
 	/**	Apply a lemmatization rule to a string.
 	 *
 	 *	@param	s	String to which to apply rule.
@@ -0,0 +1,400 @@
+package edu.northwestern.at.utils.corpuslinguistics.lemmatizer;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+/**	Lemmatization rules for one word class compiled into a suffix trie.
+ *
+ *	<p>
+ *	The rules are stored in a trie keyed by the reversed literal
+ *	suffix each rule requires (see
+ *	{@link DefaultLemmatizerRule#getRequiredSuffix}).  Each trie node
+ *	holds, in rule order, the rules whose required suffix ends at
+ *	that node or at one of its ancestors.  Walking a word from its
+ *	last character down the trie therefore finds, in one pass, the
+ *	only rules which can match the word.  Rules which require no
+ *	suffix, or which are not {@link DefaultLemmatizerRule}s, are
+ *	held by every node.
+ *	</p>
+ *
+ *	<p>
+ *	The candidate rules are tried in their original order and the
+ *	first rule which changes the word wins, as when the whole rule
+ *	list is tried.  Rules which replace a literal suffix with a
+ *	literal string are applied directly.  The other rules are
+ *	applied with their regular expressions.
+ *	</p>
+ */
+
+public class LemmatizerRuleTrie
+{
+	/**	The rules, in order. */
+
+	protected LemmatizerRule[] rules;
+
+	/**	Required suffix length of each literal rule, or -1 for
+	 *	rules applied with a regular expression.
+	 */
+
+	protected int[] literalSuffixLengths;
+
+	/**	Indices of all the rules, in order. */
+
+	protected int[] allRules;
+
+	/**	Root of the trie. */
+
+	protected Node root	= new Node();
+
+	/**	Create compiled rules.
+	 *
+	 *	@param	rulesList	The rules for a word class, in order.
+	 */
+
+	public LemmatizerRuleTrie( List<LemmatizerRule> rulesList )
+	{
+		rules					=
+			rulesList.toArray( new LemmatizerRule[ rulesList.size() ] );
+
+		literalSuffixLengths	= new int[ rules.length ];
+		allRules				= new int[ rules.length ];
+
+								//	Add each rule at the node for
+								//	its reversed required suffix.
+
+		for ( int i = 0 ; i < rules.length ; i++ )
+		{
+			String suffix				= "";
+			literalSuffixLengths[ i ]	= -1;
+
+			if ( rules[ i ] instanceof DefaultLemmatizerRule )
+			{
+				DefaultLemmatizerRule rule	=
+					(DefaultLemmatizerRule)rules[ i ];
+
+				suffix	= rule.getRequiredSuffix();
+
+				if ( rule.isLiteral() )
+				{
+					literalSuffixLengths[ i ]	= suffix.length();
+				}
+			}
+
+			Node node	= root;
+
+			for ( int j = suffix.length() - 1 ; j >= 0 ; j-- )
+			{
+				node	= node.addChild( suffix.charAt( j ) );
+			}
+
+			node.addRule( i );
+
+			allRules[ i ]	= i;
+		}
+								//	Merge the rules of each node
+								//	with those of its ancestors.
+
+		root.mergeRules( new int[ 0 ] );
+	}
+
+	/**	Apply the first rule which changes a string.
+	 *
+	 *	@param	s			String to which to apply rules.
+	 *	@param	dictionary	Set of known words.
+	 *
+	 *	@return				String after the first rule which
+	 *						changes it is applied, or the string
+	 *						itself if no rule changes it.
+	 */
+
+	public String apply( String s , Set<String> dictionary )
+	{
+		int length	= s.length();
+
+								//	A string ending with a line
+								//	terminator may match a regular
+								//	expression ending with "$"
+								//	without ending with the
+								//	required suffix.  Try all rules.
+
+		if ( ( length > 0 ) && isLineTerminator( s.charAt( length - 1 ) ) )
+		{
+			return applyRules( s , dictionary , allRules );
+		}
+								//	Find the deepest node matching
+								//	the end of the string.
+		Node node	= root;
+
+		for ( int i = length - 1 ; i >= 0 ; i-- )
+		{
+			Node child	= node.getChild( s.charAt( i ) );
+
+			if ( child == null ) break;
+
+			node	= child;
+		}
+
+		return applyRules( s , dictionary , node.rules );
+	}
+
+	/**	Apply the first rule which changes a string.
+	 *
+	 *	@param	s			String to which to apply rules.
+	 *	@param	dictionary	Set of known words.
+	 *	@param	ruleIndices	Indices of the rules to try, in order.
+	 *
+	 *	@return				String after the first rule which
+	 *						changes it is applied, or the string
+	 *						itself if no rule changes it.
+	 */
+
+	protected String applyRules
+	(
+		String s ,
+		Set<String> dictionary ,
+		int[] ruleIndices
+	)
+	{
+		for ( int i = 0 ; i < ruleIndices.length ; i++ )
+		{
+			int ruleIndex	= ruleIndices[ i ];
+			String result;
+
+			if ( literalSuffixLengths[ ruleIndex ] >= 0 )
+			{
+				DefaultLemmatizerRule rule	=
+					(DefaultLemmatizerRule)rules[ ruleIndex ];
+
+				result	=
+					s.substring
+					(
+						0 ,
+						s.length() - literalSuffixLengths[ ruleIndex ]
+					) + rule.getReplacement();
+
+				if ( rule.getMustMatchDictionaryEntry() )
+				{
+					if ( !dictionary.contains( result.toLowerCase() ) )
+					{
+						result	= s;
+					}
+				}
+			}
+			else
+			{
+				result	= rules[ ruleIndex ].apply( s , dictionary );
+			}
+
+			if ( !result.equals( s ) ) return result;
+		}
+
+		return s;
+	}
+
+	/**	Check for a regular expression line terminator.
+	 *
+	 *	@param	ch	The character.
+	 *
+	 *	@return		True if the character ends a line.
+	 */
+
+	protected static boolean isLineTerminator( char ch )
+	{
+		return
+			( ch == '\n' ) || ( ch == '\r' ) || ( ch == '\u0085' ) ||
+			( ch == '\u2028' ) || ( ch == '\u2029' );
+	}
+
+	/**	A trie node. */
+
+	protected static class Node
+	{
+		/**	Child node characters, sorted. */
+
+		protected char[] childChars	= new char[ 0 ];
+
+		/**	Child nodes. */
+
+		protected Node[] children	= new Node[ 0 ];
+
+		/**	Indices of the rules which can match a string reaching
+		 *	this node, in order.  Before merging, only the rules
+		 *	whose suffix ends at this node.
+		 */
+
+		protected int[] rules		= new int[ 0 ];
+
+		/**	Get child node.
+		 *
+		 *	@param	ch	The child node character.
+		 *
+		 *	@return		The child node, or null if none.
+		 */
+
+		protected Node getChild( char ch )
+		{
+			for ( int i = 0 ; i < childChars.length ; i++ )
+			{
+				if ( childChars[ i ] == ch ) return children[ i ];
+
+				if ( childChars[ i ] > ch ) break;
+			}
+
+			return null;
+		}
+
+		/**	Get or add child node.
+		 *
+		 *	@param	ch	The child node character.
+		 *
+		 *	@return		The child node.
+		 */
+
+		protected Node addChild( char ch )
+		{
+			Node result	= getChild( ch );
+
+			if ( result == null )
+			{
+				result	= new Node();
+
+				int i	= 0;
+
+				while ( ( i < childChars.length ) && ( childChars[ i ] < ch ) )
+				{
+					i++;
+				}
+
+				char[] newChars		= new char[ childChars.length + 1 ];
+				Node[] newChildren	= new Node[ children.length + 1 ];
+
+				System.arraycopy( childChars , 0 , newChars , 0 , i );
+				System.arraycopy( children , 0 , newChildren , 0 , i );
+
+				newChars[ i ]		= ch;
+				newChildren[ i ]	= result;
+
+				System.arraycopy( childChars , i , newChars , i + 1 ,
+					childChars.length - i );
+				System.arraycopy( children , i , newChildren , i + 1 ,
+					children.length - i );
+
+				childChars	= newChars;
+				children	= newChildren;
+			}
+
+			return result;
+		}
+
+		/**	Add a rule whose suffix ends at this node.
+		 *
+		 *	@param	ruleIndex	The rule index.
+		 */
+
+		protected void addRule( int ruleIndex )
+		{
+			int[] newRules	= new int[ rules.length + 1 ];
+
+			System.arraycopy( rules , 0 , newRules , 0 , rules.length );
+
+			newRules[ rules.length ]	= ruleIndex;
+			rules						= newRules;
+		}
+
+		/**	Merge rules of this node and its descendants with the
+		 *	rules of their ancestors.
+		 *
+		 *	@param	ancestorRules	Merged rules of the parent node.
+		 */
+
+		protected void mergeRules( int[] ancestorRules )
+		{
+			rules	= merge( ancestorRules , rules );
+
+			for ( int i = 0 ; i < children.length ; i++ )
+			{
+				children[ i ].mergeRules( rules );
+			}
+		}
+
+		/**	Merge two sorted lists of distinct rule indices.
+		 *
+		 *	@param	rules1	First list.
+		 *	@param	rules2	Second list.
+		 *
+		 *	@return			Merged sorted list.
+		 */
+
+		protected static int[] merge( int[] rules1 , int[] rules2 )
+		{
+			int[] result	= new int[ rules1.length + rules2.length ];
+
+			int i	= 0;
+			int j	= 0;
+			int k	= 0;
+
+			while ( ( i < rules1.length ) || ( j < rules2.length ) )
+			{
+				if	(	( j >= rules2.length ) ||
+						(	( i < rules1.length ) &&
+							( rules1[ i ] < rules2[ j ] )
+						)
+					)
+				{
+					result[ k++ ]	= rules1[ i++ ];
+				}
+				else
+				{
+					result[ k++ ]	= rules2[ j++ ];
+				}
+			}
+
+			return result;
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
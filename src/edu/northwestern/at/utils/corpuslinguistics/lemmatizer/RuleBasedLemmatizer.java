@@ -49,6 +49,22 @@ public class RuleBasedLemmatizer
 
 	protected Set<String> rulesWordClasses	= new TreeSet<String>();
 
+	/**	Lemmatizing rules compiled into suffix tries.
+	 *
+	 *	<p>
+	 *	The compiled rules are stored in a map with the word class
+	 *	as a key and a LemmatizerRuleTrie holding the rules for
+	 *	the word class as the value.
+	 *	</p>
+	 */
+
+	protected Map<String, LemmatizerRuleTrie> compiledRules	=
+		MapFactory.createNewMap();
+
+	/**	True to apply rules using the compiled rules. */
+
+	protected boolean useCompiledRules	= true;
+
 	/**	Create a rule-based lemmatizer. */
 
 	public RuleBasedLemmatizer()
@@ -122,6 +138,104 @@ public class RuleBasedLemmatizer
 		}
 
 		buffer.close();
+								//	Compile rules.
+
+		compiledRules.clear();
+
+		for	(	Iterator<String> iterator	= rules.keySet().iterator() ;
+				iterator.hasNext() ; )
+		{
+			String wordClass	= iterator.next();
+
+			compiledRules.put
+			(
+				wordClass ,
+				new LemmatizerRuleTrie( rules.get( wordClass ) )
+			);
+		}
+	}
+
+	/**	Get the word classes covered by rules.
+	 *
+	 *	@return		The word classes covered by rules.
+	 */
+
+	public Set<String> getRulesWordClasses()
+	{
+		return Collections.unmodifiableSet( rulesWordClasses );
+	}
+
+	/**	Set whether to apply rules using the compiled rules.
+	 *
+	 *	@param	useCompiledRules	True to use the compiled rules,
+	 *								false to try each rule's regular
+	 *								expression in turn.
+	 *
+	 *	<p>
+	 *	Both settings produce the same lemmata.
+	 *	</p>
+	 */
+
+	public void setUseCompiledRules( boolean useCompiledRules )
+	{
+		this.useCompiledRules	= useCompiledRules;
+	}
+
+	/**	Get whether rules are applied using the compiled rules.
+	 *
+	 *	@return		True if the compiled rules are used.
+	 */
+
+	public boolean getUseCompiledRules()
+	{
+		return useCompiledRules;
+	}
+
+	/**	Apply the first rule for a word class which changes a lemma.
+	 *
+	 *	@param	lemma		The lemma.
+	 *	@param	wordClass	The word class.
+	 *
+	 *	@return				The lemma after the first rule which
+	 *						changes it is applied, or the lemma
+	 *						itself if no rule changes it.
+	 */
+
+	protected String applyRules( String lemma , String wordClass )
+	{
+		if ( useCompiledRules )
+		{
+			LemmatizerRuleTrie ruleTrie	= compiledRules.get( wordClass );
+
+			if ( ruleTrie != null )
+			{
+				return ruleTrie.apply( lemma , dictionary );
+			}
+		}
+
+		List<LemmatizerRule> rulesForWordClass	= rules.get( wordClass );
+
+		if	(	( rulesForWordClass != null ) &&
+				( rulesForWordClass.size() > 0 )
+			)
+		{
+			LemmatizerRule[] wordClassRules	=
+				(LemmatizerRule[])rulesForWordClass.toArray(
+					new LemmatizerRule[ rulesForWordClass.size() ] );
+
+			for ( int j = 0 ; j < wordClassRules.length ; j++ )
+			{
+				String newLemma	=
+					wordClassRules[ j ].apply( lemma , dictionary );
+
+				if ( !newLemma.equals( lemma ) )
+				{
+					return newLemma;
+				}
+			}
+		}
+
+		return lemma;
 	}
 
 	/**	Loads irregular forms from a URL.
@@ -239,29 +353,7 @@ public class RuleBasedLemmatizer
 
 			for ( int i = 0 ; i < lcWordClasses.length ; i++ )
 			{
-				List<LemmatizerRule> rulesForWordClass	=
-					rules.get( lcWordClasses[ i ] );
-
-				if	(	( rulesForWordClass != null ) &&
-						( rulesForWordClass.size() > 0 )
-					)
-				{
-					LemmatizerRule[] wordClassRules	=
-						(LemmatizerRule[])rulesForWordClass.toArray(
-							new LemmatizerRule[ rulesForWordClass.size() ] );
-
-					for ( int j = 0 ; j < wordClassRules.length ; j++ )
-					{
-						String newLemma	=
-							wordClassRules[ j ].apply( lemma , dictionary );
-
-						if ( !newLemma.equals( lemma ) )
-						{
-							lemma	= newLemma;
-							break;
-						}
-					}
-				}
+				lemma	= applyRules( lemma , lcWordClasses[ i ] );
 			}
 		}
 
@@ -332,27 +424,11 @@ public class RuleBasedLemmatizer
 		{
 			String wordClass	= iterator.next().toLowerCase();
 
-			List<LemmatizerRule> rulesForWordClass	=
-				rules.get( wordClass );
+			String newLemma		= applyRules( lemma , wordClass );
 
-			if	(	( rulesForWordClass != null ) &&
-					( rulesForWordClass.size() > 0 )
-				)
+			if ( !newLemma.equals( lemma ) )
 			{
-				LemmatizerRule[] wordClassRules	=
-					(LemmatizerRule[])rulesForWordClass.toArray(
-						new LemmatizerRule[ rulesForWordClass.size() ] );
-
-				for ( int i = 0 ; i < wordClassRules.length ; i++ )
-				{
-					String newLemma	=
-						wordClassRules[ i ].apply( lemma , dictionary );
-
-					if ( !newLemma.equals( lemma ) )
-					{
-						return cleanUpLemma( newLemma );
-					}
-				}
+				return cleanUpLemma( newLemma );
 			}
 		}
 
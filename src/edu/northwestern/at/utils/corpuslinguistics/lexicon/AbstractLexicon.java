@@ -8,6 +8,7 @@ import java.net.URL;
 
 import edu.northwestern.at.utils.*;
 import edu.northwestern.at.utils.logger.*;
+import edu.northwestern.at.utils.snapshot.*;
 import edu.northwestern.at.utils.corpuslinguistics.outputter.*;
 import edu.northwestern.at.utils.corpuslinguistics.partsofspeech.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
@@ -321,14 +322,107 @@ abstract public class AbstractLexicon
 		lexiconMap.remove( entry );
 	}
 
+	/**	Snapshot format name for lexicons. */
+
+	protected static final String SNAPSHOT_FORMAT	= "lexicon";
+
+	/**	Snapshot format version for lexicons. */
+
+	protected static final int SNAPSHOT_VERSION		= 1;
+
 	/**	Load entries into a lexicon.
 	 *
 	 *	@param	lexiconURL	URL for the file containing the lexicon.
 	 *	@param	encoding	Character encoding of lexicon file text.
+	 *
+	 *	<p>
+	 *	If the lexicon is a local file with an up to date binary
+	 *	snapshot (see {@link #createLexiconSnapshot}), the entries
+	 *	are loaded from the snapshot.  Otherwise the lexicon text
+	 *	is parsed.
+	 *	</p>
 	 */
 
 	public void loadLexicon( URL lexiconURL , String encoding )
 		throws IOException
+	{
+		SnapshotReader snapshotReader	=
+			SnapshotReader.open
+			(
+				lexiconURL ,
+				SNAPSHOT_FORMAT ,
+				SNAPSHOT_VERSION ,
+				String.valueOf( encoding )
+			);
+
+		if ( snapshotReader != null )
+		{
+			loadLexiconSnapshot( snapshotReader );
+		}
+		else
+		{
+			loadLexiconText( lexiconURL , encoding , null );
+		}
+	}
+
+	/**	Create binary snapshot of a lexicon file.
+	 *
+	 *	@param	lexiconURL	URL for the local file containing the lexicon.
+	 *	@param	encoding	Character encoding of lexicon file text.
+	 *
+	 *	@return				The snapshot file.
+	 *
+	 *	<p>
+	 *	The lexicon text is loaded into this lexicon and the parsed
+	 *	entries are written to a snapshot file alongside the lexicon file.
+	 *	Subsequent calls to {@link #loadLexicon} with the same
+	 *	URL and encoding load the snapshot instead of parsing the text,
+	 *	until the lexicon file is modified.
+	 *	</p>
+	 */
+
+	public File createLexiconSnapshot( URL lexiconURL , String encoding )
+		throws IOException
+	{
+		File lexiconFile	= SnapshotUtils.getSourceFile( lexiconURL );
+
+		if ( lexiconFile == null )
+		{
+			throw new IOException
+			(
+				"Snapshots can only be created for local files: " +
+				lexiconURL
+			);
+		}
+
+		SnapshotWriter snapshotWriter	=
+			new SnapshotWriter
+			(
+				SNAPSHOT_FORMAT ,
+				SNAPSHOT_VERSION ,
+				String.valueOf( encoding )
+			);
+
+		loadLexiconText( lexiconURL , encoding , snapshotWriter );
+
+		return snapshotWriter.save( lexiconFile );
+	}
+
+	/**	Load entries into a lexicon from lexicon text.
+	 *
+	 *	@param	lexiconURL		URL for the file containing the lexicon.
+	 *	@param	encoding		Character encoding of lexicon file text.
+	 *	@param	snapshotWriter	Snapshot writer to record the parsed
+	 *							entries.  May be null.
+	 */
+
+	protected void loadLexiconText
+	(
+		URL lexiconURL ,
+		String encoding ,
+		SnapshotWriter snapshotWriter
+	)
+		throws IOException
 	{
 		String line;
 								//	Open lexicon for input.
@@ -352,17 +446,14 @@ abstract public class AbstractLexicon
 
 		String[] tokens;
 		String entry;
-		String sCount;
-		String lemma;
 		int count;
-		List categories;
-		String category;
-		int categoryCount;
-		boolean wordFound;
-		longestEntryLength	= 0;
-		shortestEntryLength	= 99999;
 
-		uniqueEntryCountForCategoryMap.clear();
+		String[] categories		= new String[ 0 ];
+		String[] lemmata		= new String[ 0 ];
+		int[] categoryCounts	= new int[ 0 ];
+		int numberOfCategories;
+
+		startLoadingLexicon();
 
 								//	Read first line of lexicon.
 
@@ -389,94 +480,63 @@ abstract public class AbstractLexicon
 
 				count	= Integer.parseInt( tokens[ 1 ] );
 
-								//	Remember longest and shortest entries
-								//	seen so far.
-
-				longestEntryLength	=
-					Math.max( longestEntryLength , entry.length() );
-
-				shortestEntryLength	=
-					Math.min( shortestEntryLength , entry.length() );
-
-								//	Get the existing lexicon entry,
-								//	if any.
-
-				LexiconEntry lexiconEntry	= lexiconMap.get( entry );
-
-								//	If none, create a new entry.
+								//	The remaining tokens on the input
+								//	line are (category , lemma ,
+								//	category count ) triples.
+								//	Stop at the first bad triple.
 
-				if ( lexiconEntry == null )
+				if ( categories.length < tokens.length )
 				{
-					Map<String, MutableInteger> categoriesAndCounts	=
-						MapFactory.createNewMap();
-
-					Map<String, String> lemmata	= MapFactory.createNewMap();
-
-					lexiconEntry	=
-						new LexiconEntry
-						(
-							entry ,
-							entry ,
-							0 ,
-							categoriesAndCounts ,
-							lemmata
-						);
+					categories		= new String[ tokens.length ];
+					lemmata			= new String[ tokens.length ];
+					categoryCounts	= new int[ tokens.length ];
 				}
-								//	Update total count for entry.
 
-				lexiconEntry.entryCount	+= count;
+				numberOfCategories	= 0;
 
-								//	The remaining tokens on the input
-								//	line are (category , category count )
-								//	pairs.
 				try
 				{
 					for ( int i = 2 ; i < tokens.length ; i = i + 3 )
 					{
-								//	Get next category.
-
-						category	= tokens[ i ];
-
-								//	Get lemma for this category.
-
-						lemma		= tokens[ i + 1 ];
-
-								//	Get category count.
-
-						count		= Integer.parseInt( tokens[ i + 2 ] );
-
-								//	Update category and count map.
-
-						lexiconEntry.updateCategoryAndCount(
-							category , count );
-
-								//	Update lemma.
-
-						lexiconEntry.updateLemma( category , lemma );
+						String category	= tokens[ i ];
+						String lemma	= tokens[ i + 1 ];
+						int catCount	= Integer.parseInt( tokens[ i + 2 ] );
 
-								//	Update overall category count.
+						categories[ numberOfCategories ]		= category;
+						lemmata[ numberOfCategories ]			= lemma;
+						categoryCounts[ numberOfCategories ]	= catCount;
 
-						updateCategoryCount( category , count );
+						numberOfCategories++;
 					}
 				}
 				catch ( Exception e )
 				{
-/*
-//					e.printStackTrace();
-					System.out.println( "----------" );
-					System.out.println( "Bad lexicon entry: line=<" +
-						line + ">" );
-					System.out.println( "----------" );
-*/
 				}
-								//	Determine largest category for entry.
-
-				lexiconEntry.determineLargestCategory();
+								//	Add the entry to the lexicon.
+				addLexiconLine
+				(
+					entry ,
+					count ,
+					categories ,
+					lemmata ,
+					categoryCounts ,
+					numberOfCategories
+				);
+								//	Record the entry in the snapshot.
 
-								//	Add new or updated lexicon entry
-								//	to the lexicon map.
+				if ( snapshotWriter != null )
+				{
+					snapshotWriter.writeString( entry );
+					snapshotWriter.writeInt( count );
+					snapshotWriter.writeInt( numberOfCategories );
 
-				lexiconMap.put( entry , lexiconEntry );
+					for ( int i = 0 ; i < numberOfCategories ; i++ )
+					{
+						snapshotWriter.writeString( categories[ i ] );
+						snapshotWriter.writeString( lemmata[ i ] );
+						snapshotWriter.writeInt( categoryCounts[ i ] );
+					}
+				}
 			}
 								//	Read next line from lexicon.
 
@@ -496,6 +556,159 @@ abstract public class AbstractLexicon
 		computeUniqueEntryCountsForCategories();
 	}
 
+	/**	Load entries into a lexicon from a snapshot.
+	 *
+	 *	@param	snapshotReader	The snapshot reader.
+	 */
+
+	protected void loadLexiconSnapshot( SnapshotReader snapshotReader )
+	{
+		String[] categories		= new String[ 0 ];
+		String[] lemmata		= new String[ 0 ];
+		int[] categoryCounts	= new int[ 0 ];
+
+		startLoadingLexicon();
+
+								//	Replay each recorded entry.
+
+		while ( snapshotReader.hasRemaining() )
+		{
+			String entry			= snapshotReader.readString();
+			int count				= snapshotReader.readInt();
+			int numberOfCategories	= snapshotReader.readInt();
+
+			if ( categories.length < numberOfCategories )
+			{
+				categories		= new String[ numberOfCategories ];
+				lemmata			= new String[ numberOfCategories ];
+				categoryCounts	= new int[ numberOfCategories ];
+			}
+
+			for ( int i = 0 ; i < numberOfCategories ; i++ )
+			{
+				categories[ i ]		= snapshotReader.readString();
+				lemmata[ i ]		= snapshotReader.readString();
+				categoryCounts[ i ]	= snapshotReader.readInt();
+			}
+
+			addLexiconLine
+			(
+				entry ,
+				count ,
+				categories ,
+				lemmata ,
+				categoryCounts ,
+				numberOfCategories
+			);
+		}
+								//	Compute number of lexicon entries
+								//	for each category.
+
+		computeUniqueEntryCountsForCategories();
+	}
+
+	/**	Prepare to load lexicon entries.
+	 */
+
+	protected void startLoadingLexicon()
+	{
+		longestEntryLength	= 0;
+		shortestEntryLength	= 99999;
+
+		uniqueEntryCountForCategoryMap.clear();
+	}
+
+	/**	Add one line of lexicon data to the lexicon.
+	 *
+	 *	@param	entry				The entry.
+	 *	@param	count				Count for the entry.
+	 *	@param	categories			Categories for the entry.
+	 *	@param	lemmata				Lemma for each category.
+	 *	@param	categoryCounts		Count for each category.
+	 *	@param	numberOfCategories	Number of categories to use from
+	 *								the category arrays.
+	 */
+
+	protected void addLexiconLine
+	(
+		String entry ,
+		int count ,
+		String[] categories ,
+		String[] lemmata ,
+		int[] categoryCounts ,
+		int numberOfCategories
+	)
+	{
+								//	Remember longest and shortest entries
+								//	seen so far.
+
+		longestEntryLength	=
+			Math.max( longestEntryLength , entry.length() );
+
+		shortestEntryLength	=
+			Math.min( shortestEntryLength , entry.length() );
+
+								//	Get the existing lexicon entry,
+								//	if any.
+
+		LexiconEntry lexiconEntry	= lexiconMap.get( entry );
+
+								//	If none, create a new entry.
+
+		if ( lexiconEntry == null )
+		{
+			Map<String, MutableInteger> categoriesAndCounts	=
+				MapFactory.createNewMap();
+
+			Map<String, String> lemmataMap	= MapFactory.createNewMap();
+
+			lexiconEntry	=
+				new LexiconEntry
+				(
+					entry ,
+					entry ,
+					0 ,
+					categoriesAndCounts ,
+					lemmataMap
+				);
+		}
+								//	Update total count for entry.
+
+		lexiconEntry.entryCount	+= count;
+
+								//	Add the (category , lemma ,
+								//	category count ) triples.
+		try
+		{
+			for ( int i = 0 ; i < numberOfCategories ; i++ )
+			{
+								//	Update category and count map.
+
+				lexiconEntry.updateCategoryAndCount(
+					categories[ i ] , categoryCounts[ i ] );
+
+								//	Update lemma.
+
+				lexiconEntry.updateLemma( categories[ i ] , lemmata[ i ] );
+
+								//	Update overall category count.
+
+				updateCategoryCount( categories[ i ] , categoryCounts[ i ] );
+			}
+		}
+		catch ( Exception e )
+		{
+		}
+								//	Determine largest category for entry.
+
+		lexiconEntry.determineLargestCategory();
+
+								//	Add new or updated lexicon entry
+								//	to the lexicon map.
+
+		lexiconMap.put( entry , lexiconEntry );
+	}
+
 	/**	Compute number of lexicon entries for each category.
 	 */
 
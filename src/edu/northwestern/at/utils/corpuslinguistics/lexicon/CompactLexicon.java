@@ -0,0 +1,1599 @@
+package edu.northwestern.at.utils.corpuslinguistics.lexicon;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+import java.io.*;
+import java.net.URL;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
+import edu.northwestern.at.utils.logger.*;
+import edu.northwestern.at.utils.corpuslinguistics.outputter.*;
+import edu.northwestern.at.utils.corpuslinguistics.partsofspeech.*;
+
+/**	CompactLexicon: memory-compact, read-only lexicon.
+ *
+ *	<p>
+ *	A compact lexicon stores the same information as a
+ *	{@link BaseLexicon} without creating a {@link LexiconEntry}
+ *	and two hash maps for each entry.  The entries are held in a
+ *	sorted string array with an open-addressed integer hash index.
+ *	The categories, category counts, and lemmata for all the
+ *	entries are held in parallel primitive arrays.  Category tags
+ *	are stored as short integer ids and lemmata as integer ids into
+ *	a table of distinct lemmata.
+ *	</p>
+ *
+ *	<p>
+ *	The categories for each entry are kept in the iteration order
+ *	of the lexicon from which the compact lexicon was built,
+ *	so taggers and guessers see the categories in the same order.
+ *	</p>
+ *
+ *	<p>
+ *	Lexicon data is loaded using {@link #loadLexicon}, which
+ *	records the lexicon lines in primitive arrays as they are
+ *	read and builds the compact arrays from those, or by passing
+ *	an existing lexicon to the constructor.  Methods which modify
+ *	lexicon entries throw an UnsupportedOperationException.
+ *	</p>
+ *
+ *	<p>
+ *	The LexiconEntry objects built for lookups are kept in a
+ *	bounded cache, so looking up the same entry repeatedly does
+ *	not rebuild its maps.  Maps and LexiconEntry objects returned
+ *	by the lookup methods are unmodifiable and may be shared, so
+ *	the MutableInteger counts they hold must not be modified.
+ *	The maximum number of cached entries and the eviction policy
+ *	are taken from the "compactlexicon.cachesize" and
+ *	"compactlexicon.cachepolicy" system properties.  A size of
+ *	zero or less disables the cache.
+ *	</p>
+ *
+ *	<p>
+ *	MorphAdorner stores its word and suffix lexicons as compact
+ *	lexicons when the "lexicon.compact" property is true.
+ *	</p>
+ */
+
+public class CompactLexicon
+	extends IsCloseableObject
+	implements Lexicon, UsesLogger
+{
+	/**	Lemma id for a lemma which is the same as the entry. */
+
+	protected static final int LEMMA_IS_ENTRY	= -1;
+
+	/**	Lemma id for no lemma. */
+
+	protected static final int NO_LEMMA			= -2;
+
+	/**	Default maximum number of cached lexicon entries. */
+
+	public static final int DEFAULT_CACHE_SIZE	= 20000;
+
+	/**	Entries, sorted in ascending order. */
+
+	protected String[] entries;
+
+	/**	Hash index of entries.  Holds entry index + 1, or 0 if empty. */
+
+	protected int[] entryIndex;
+
+	/**	Total count for each entry. */
+
+	protected int[] entryCounts;
+
+	/**	Largest category id for each entry.  -1 if none. */
+
+	protected short[] largestCategoryIds;
+
+	/**	Start of each entry's categories in category arrays.
+	 *
+	 *	<p>
+	 *	The categories for entry i run from categoryStarts[ i ]
+	 *	up to but not including categoryStarts[ i + 1 ].
+	 *	</p>
+	 */
+
+	protected int[] categoryStarts;
+
+	/**	Category ids. */
+
+	protected short[] categoryIds;
+
+	/**	Category counts. */
+
+	protected int[] categoryCounts;
+
+	/**	Lemma ids. */
+
+	protected int[] lemmaIds;
+
+	/**	Category names by id. */
+
+	protected String[] categoryNames;
+
+	/**	Map from category name to id. */
+
+	protected Map<String, Integer> categoryIdMap;
+
+	/**	Distinct lemmata by id. */
+
+	protected String[] lemmata;
+
+	/**	Overall category counts. */
+
+	protected Map<String, MutableInteger> categoryCountsMap;
+
+	/**	Number of unique entries for each category. */
+
+	protected Map<String, MutableInteger> uniqueEntryCountForCategoryMap;
+
+	/**	Longest entry length. */
+
+	protected int longestEntryLength;
+
+	/**	Shortest entry length. */
+
+	protected int shortestEntryLength;
+
+	/**	Part of speech tags for this lexicon. */
+
+	protected PartOfSpeechTags partOfSpeechTags;
+
+	/**	Logger used for output. */
+
+	protected Logger logger;
+
+	/**	Cache of lexicon entries built for lookups.  May be null. */
+
+	protected BoundedCache<String, LexiconEntry> entryCache;
+
+	/**	Create an empty compact lexicon.
+	 */
+
+	public CompactLexicon()
+		throws IOException
+	{
+		logger		= new DummyLogger();
+
+		entryCache	=
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"compactlexicon" ,
+				DEFAULT_CACHE_SIZE
+			);
+
+		compact( new BaseLexicon() );
+
+		setPartOfSpeechTags( new DefaultPartOfSpeechTags() );
+	}
+
+	/**	Create a compact lexicon from another lexicon.
+	 *
+	 *	@param	lexicon		The lexicon to compact.
+	 */
+
+	public CompactLexicon( Lexicon lexicon )
+	{
+		logger		= new DummyLogger();
+
+		entryCache	=
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"compactlexicon" ,
+				DEFAULT_CACHE_SIZE
+			);
+
+		compact( lexicon );
+
+		partOfSpeechTags	= lexicon.getPartOfSpeechTags();
+	}
+
+	/**	Get the logger.
+	 *
+	 *	@return		The logger.
+	 */
+
+	public Logger getLogger()
+	{
+		return logger;
+	}
+
+	/**	Set the logger.
+	 *
+	 *	@param	logger		The logger.
+	 */
+
+	public void setLogger( Logger logger )
+	{
+		this.logger	= logger;
+	}
+
+	/**	Load entries into a lexicon.
+	 *
+	 *	@param	lexiconURL	URL for the file containing the lexicon.
+	 *	@param	encoding	Character encoding of lexicon file text.
+	 *
+	 *	<p>
+	 *	Replaces any entries already in the lexicon.  The lexicon
+	 *	text or snapshot is read by a {@link CompactLexiconLoader},
+	 *	which records each line in primitive arrays, so no
+	 *	LexiconEntry is created for the entries while loading.
+	 *	</p>
+	 */
+
+	public void loadLexicon( URL lexiconURL , String encoding )
+		throws IOException
+	{
+		CompactLexiconLoader loader	= new CompactLexiconLoader();
+
+		loader.setLogger( logger );
+		loader.loadLexicon( lexiconURL , encoding );
+
+		compact( loader );
+	}
+
+	/**	Build the compact arrays from another lexicon.
+	 *
+	 *	@param	lexicon		The lexicon to compact.
+	 */
+
+	protected void compact( Lexicon lexicon )
+	{
+								//	Get sorted entries.
+
+		String[] newEntries		= lexicon.getEntries();
+		int nEntries			= newEntries.length;
+
+								//	Count total categories.
+
+		int nCategories			= 0;
+
+		for ( int i = 0 ; i < nEntries ; i++ )
+		{
+			nCategories	+=
+				lexicon.getLexiconEntry(
+					newEntries[ i ] ).categoriesAndCounts.size();
+		}
+								//	Allocate arrays.
+
+		startCompacting( newEntries , nCategories );
+
+		List<String> categoryList	= ListFactory.createNewList();
+		List<String> lemmaList		= ListFactory.createNewList();
+
+		categoryIdMap							= MapFactory.createNewMap();
+		Map<String, Integer> lemmaIdMap			= MapFactory.createNewMap();
+
+								//	Copy each entry's data.
+		int k	= 0;
+
+		for ( int i = 0 ; i < nEntries ; i++ )
+		{
+			k	=
+				compactEntry
+				(
+					i ,
+					lexicon.getLexiconEntry( entries[ i ] ) ,
+					k ,
+					categoryList ,
+					lemmaIdMap ,
+					lemmaList
+				);
+		}
+
+		finishCompacting
+		(
+			k ,
+			categoryList ,
+			lemmaList ,
+			lexicon.getCategoryCounts()
+		);
+	}
+
+	/**	Build the compact arrays from the lines recorded by a loader.
+	 *
+	 *	@param	loader		The loader holding the recorded lines.
+	 *
+	 *	<p>
+	 *	The lines for each entry are replayed in their original order
+	 *	into one scratch LexiconEntry, using the same updates as
+	 *	{@link AbstractLexicon#addLexiconLine}, and the result is
+	 *	copied into the compact arrays before moving on to the
+	 *	next entry.
+	 *	</p>
+	 */
+
+	protected void compact( CompactLexiconLoader loader )
+	{
+								//	Get sorted entries.
+
+		String[] newEntries		=
+			loader.entryList.toArray(
+				new String[ loader.entryList.size() ] );
+
+		Arrays.sort( newEntries );
+
+		int nEntries			= newEntries.length;
+
+								//	Group the recorded lines by entry
+								//	id, keeping the lines for each
+								//	entry in their original order.
+
+		int[] entryLineStarts	= new int[ nEntries + 1 ];
+
+		for ( int line = 0 ; line < loader.nLines ; line++ )
+		{
+			entryLineStarts[ loader.lineEntryIds[ line ] + 1 ]++;
+		}
+
+		for ( int i = 0 ; i < nEntries ; i++ )
+		{
+			entryLineStarts[ i + 1 ]	+= entryLineStarts[ i ];
+		}
+
+		int[] entryLines		= new int[ loader.nLines ];
+		int[] nextLine			= entryLineStarts.clone();
+
+		for ( int line = 0 ; line < loader.nLines ; line++ )
+		{
+			entryLines[ nextLine[ loader.lineEntryIds[ line ] ]++ ]	= line;
+		}
+
+		nextLine	= null;
+
+								//	Allocate arrays.  The number of
+								//	recorded triples is an upper bound
+								//	on the number of categories.
+
+		startCompacting( newEntries , loader.nTriples );
+
+		List<String> categoryList	= ListFactory.createNewList();
+		List<String> lemmaList		= ListFactory.createNewList();
+
+		categoryIdMap							= MapFactory.createNewMap();
+		Map<String, Integer> lemmaIdMap			= MapFactory.createNewMap();
+
+								//	Scratch entry reused for each
+								//	entry.
+
+		LexiconEntry lexiconEntry	=
+			new LexiconEntry
+			(
+				null ,
+				null ,
+				0 ,
+				MapFactory.<String, MutableInteger>createNewMap() ,
+				MapFactory.<String, String>createNewMap()
+			);
+								//	Replay and copy each entry's data.
+		int k	= 0;
+
+		for ( int i = 0 ; i < nEntries ; i++ )
+		{
+			String entry	= entries[ i ];
+			int entryId		= loader.entryIdMap.get( entry ).intValue();
+
+			lexiconEntry.entry					= entry;
+			lexiconEntry.standardEntry			= entry;
+			lexiconEntry.entryCount				= 0;
+			lexiconEntry.largestCategory		= null;
+			lexiconEntry.largestCategoryCount	= 0;
+
+			lexiconEntry.categoriesAndCounts.clear();
+			lexiconEntry.lemmata.clear();
+
+			for	(	int j = entryLineStarts[ entryId ] ;
+					j < entryLineStarts[ entryId + 1 ] ;
+					j++
+				)
+			{
+				loader.replayLine( entryLines[ j ] , lexiconEntry );
+			}
+
+			k	=
+				compactEntry
+				(
+					i ,
+					lexiconEntry ,
+					k ,
+					categoryList ,
+					lemmaIdMap ,
+					lemmaList
+				);
+		}
+
+		finishCompacting
+		(
+			k ,
+			categoryList ,
+			lemmaList ,
+			loader.getCategoryCounts()
+		);
+	}
+
+	/**	Allocate the compact arrays.
+	 *
+	 *	@param	newEntries		The sorted entries.
+	 *	@param	nCategories		Number of category slots to allocate.
+	 */
+
+	protected void startCompacting( String[] newEntries , int nCategories )
+	{
+		int nEntries			= newEntries.length;
+
+		entries					= newEntries;
+		entryCounts				= new int[ nEntries ];
+		largestCategoryIds		= new short[ nEntries ];
+		categoryStarts			= new int[ nEntries + 1 ];
+		categoryIds				= new short[ nCategories ];
+		categoryCounts			= new int[ nCategories ];
+		lemmaIds				= new int[ nCategories ];
+
+		longestEntryLength		= 0;
+		shortestEntryLength		= ( nEntries > 0 ) ? 99999 : 0;
+
+		if ( entryCache != null )
+		{
+			entryCache.clear();
+		}
+	}
+
+	/**	Copy one entry's data into the compact arrays.
+	 *
+	 *	@param	i				Index of the entry.
+	 *	@param	lexiconEntry	The entry's data.
+	 *	@param	k				First free category slot.
+	 *	@param	categoryList	List of category names by id.
+	 *	@param	lemmaIdMap		Map from lemmata to ids.
+	 *	@param	lemmaList		List of lemmata by id.
+	 *
+	 *	@return					Next free category slot.
+	 */
+
+	protected int compactEntry
+	(
+		int i ,
+		LexiconEntry lexiconEntry ,
+		int k ,
+		List<String> categoryList ,
+		Map<String, Integer> lemmaIdMap ,
+		List<String> lemmaList
+	)
+	{
+		String entry	= entries[ i ];
+
+		longestEntryLength	=
+			Math.max( longestEntryLength , entry.length() );
+
+		shortestEntryLength	=
+			Math.min( shortestEntryLength , entry.length() );
+
+		entryCounts[ i ]		= lexiconEntry.entryCount;
+		largestCategoryIds[ i ]	=
+			( lexiconEntry.largestCategory == null ) ? -1 :
+				getOrAddId(
+					lexiconEntry.largestCategory ,
+					categoryIdMap ,
+					categoryList
+				);
+
+		categoryStarts[ i ]		= k;
+
+		for ( String category : lexiconEntry.categoriesAndCounts.keySet() )
+		{
+			categoryIds[ k ]	=
+				getOrAddId( category , categoryIdMap , categoryList );
+
+			categoryCounts[ k ]	=
+				lexiconEntry.categoriesAndCounts.get(
+					category ).intValue();
+
+			String lemma	= lexiconEntry.lemmata.get( category );
+
+			if ( lemma == null )
+			{
+				lemmaIds[ k ]	= NO_LEMMA;
+			}
+			else if ( lemma.equals( entry ) )
+			{
+				lemmaIds[ k ]	= LEMMA_IS_ENTRY;
+			}
+			else
+			{
+				lemmaIds[ k ]	=
+					getOrAddIntId( lemma , lemmaIdMap , lemmaList );
+			}
+
+			k++;
+		}
+
+		return k;
+	}
+
+	/**	Finish building the compact arrays.
+	 *
+	 *	@param	nCategories		Number of category slots used.
+	 *	@param	categoryList	List of category names by id.
+	 *	@param	lemmaList		List of lemmata by id.
+	 *	@param	counts			Overall category counts.
+	 */
+
+	protected void finishCompacting
+	(
+		int nCategories ,
+		List<String> categoryList ,
+		List<String> lemmaList ,
+		Map<String, MutableInteger> counts
+	)
+	{
+		int nEntries	= entries.length;
+
+		categoryStarts[ nEntries ]	= nCategories;
+
+								//	Trim category arrays if fewer
+								//	slots were used than allocated.
+
+		if ( nCategories < categoryIds.length )
+		{
+			short[] newCategoryIds	= new short[ nCategories ];
+			int[] newCategoryCounts	= new int[ nCategories ];
+			int[] newLemmaIds		= new int[ nCategories ];
+
+			System.arraycopy(
+				categoryIds , 0 , newCategoryIds , 0 , nCategories );
+
+			System.arraycopy(
+				categoryCounts , 0 , newCategoryCounts , 0 , nCategories );
+
+			System.arraycopy(
+				lemmaIds , 0 , newLemmaIds , 0 , nCategories );
+
+			categoryIds		= newCategoryIds;
+			categoryCounts	= newCategoryCounts;
+			lemmaIds		= newLemmaIds;
+		}
+
+		categoryNames	=
+			categoryList.toArray( new String[ categoryList.size() ] );
+
+		lemmata			=
+			lemmaList.toArray( new String[ lemmaList.size() ] );
+
+								//	Copy overall category counts.
+
+		categoryCountsMap	= new LinkedHashMap<String, MutableInteger>();
+
+		for ( String category : counts.keySet() )
+		{
+			categoryCountsMap.put
+			(
+				category ,
+				new MutableInteger( counts.get( category ).intValue() )
+			);
+		}
+								//	Count unique entries for each
+								//	category.
+
+		uniqueEntryCountForCategoryMap	= MapFactory.createNewMap();
+
+		for ( int i = 0 ; i < categoryIds.length ; i++ )
+		{
+			String category			= categoryNames[ categoryIds[ i ] ];
+			MutableInteger count	=
+				uniqueEntryCountForCategoryMap.get( category );
+
+			if ( count == null )
+			{
+				uniqueEntryCountForCategoryMap.put(
+					category , new MutableInteger( 1 ) );
+			}
+			else
+			{
+				count.setValue( count.intValue() + 1 );
+			}
+		}
+								//	Build the hash index.
+		int indexSize	= 16;
+
+		while ( indexSize < ( 2 * nEntries ) )
+		{
+			indexSize	<<= 1;
+		}
+
+		entryIndex	= new int[ indexSize ];
+
+		for ( int i = 0 ; i < nEntries ; i++ )
+		{
+			int slot	= hashSlot( entries[ i ] );
+
+			while ( entryIndex[ slot ] != 0 )
+			{
+				slot	= ( slot + 1 ) & ( indexSize - 1 );
+			}
+
+			entryIndex[ slot ]	= i + 1;
+		}
+	}
+
+	/**	Get id for a string, adding it if not present.
+	 *
+	 *	@param	s		The string.
+	 *	@param	idMap	Map from strings to ids.
+	 *	@param	idList	List of strings by id.
+	 *
+	 *	@return			The id.
+	 */
+
+	protected static short getOrAddId
+	(
+		String s ,
+		Map<String, Integer> idMap ,
+		List<String> idList
+	)
+	{
+		return (short)getOrAddIntId( s , idMap , idList );
+	}
+
+	/**	Get integer id for a string, adding it if not present.
+	 *
+	 *	@param	s		The string.
+	 *	@param	idMap	Map from strings to ids.
+	 *	@param	idList	List of strings by id.
+	 *
+	 *	@return			The id.
+	 */
+
+	protected static int getOrAddIntId
+	(
+		String s ,
+		Map<String, Integer> idMap ,
+		List<String> idList
+	)
+	{
+		Integer id	= idMap.get( s );
+
+		if ( id == null )
+		{
+			id	= new Integer( idList.size() );
+
+			idMap.put( s , id );
+			idList.add( s );
+		}
+
+		return id.intValue();
+	}
+
+	/**	Get starting hash index slot for an entry.
+	 *
+	 *	@param	entry	The entry.
+	 *
+	 *	@return			The starting slot.
+	 */
+
+	protected int hashSlot( String entry )
+	{
+		int hash	= entry.hashCode() * 0x9E3779B9;
+
+		return ( hash ^ ( hash >>> 16 ) ) & ( entryIndex.length - 1 );
+	}
+
+	/**	Find index of an entry.
+	 *
+	 *	@param	entry	The entry.  Must match exactly.
+	 *
+	 *	@return			Index of entry in entries array, or -1 if
+	 *					the entry is not in the lexicon.
+	 */
+
+	protected int findEntry( String entry )
+	{
+		if ( entry == null ) return -1;
+
+		int slot	= hashSlot( entry );
+		int mask	= entryIndex.length - 1;
+		int index;
+
+		while ( ( index = entryIndex[ slot ] ) != 0 )
+		{
+			if ( entries[ index - 1 ].equals( entry ) )
+			{
+				return index - 1;
+			}
+
+			slot	= ( slot + 1 ) & mask;
+		}
+
+		return -1;
+	}
+
+	/**	Find index of an entry using case fallbacks.
+	 *
+	 *	@param	entry	The entry.
+	 *
+	 *	@return			Index of entry in entries array, or -1 if
+	 *					the entry is not in the lexicon.
+	 *
+	 *	<p>
+	 *	Uses the same fallbacks as {@link AbstractLexicon#getLexiconEntry}.
+	 *	If the entry is not found and is all capitals, the entry with
+	 *	only the first letter capitalized is tried.  If that fails,
+	 *	the lower case entry is tried.
+	 *	</p>
+	 */
+
+	protected int lookupEntry( String entry )
+	{
+		int result	= findEntry( entry );
+
+		if ( result < 0 )
+		{
+			if ( CharUtils.allLettersCapital( entry ) )
+			{
+				result	= findEntry( CharUtils.capitalizeFirstLetter( entry ) );
+			}
+		}
+
+		if ( result < 0 )
+		{
+			result	= findEntry( entry.toLowerCase() );
+		}
+
+		return result;
+	}
+
+	/**	Get lemma for a category slot.
+	 *
+	 *	@param	entryIdx	Entry index.
+	 *	@param	slot		Category slot.
+	 *
+	 *	@return				The lemma, or null if none.
+	 */
+
+	protected String getSlotLemma( int entryIdx , int slot )
+	{
+		int lemmaId	= lemmaIds[ slot ];
+
+		switch ( lemmaId )
+		{
+			case LEMMA_IS_ENTRY	: return entries[ entryIdx ];
+			case NO_LEMMA		: return null;
+			default				: return lemmata[ lemmaId ];
+		}
+	}
+
+	/**	Find category slot for an entry.
+	 *
+	 *	@param	entryIdx	Entry index.
+	 *	@param	category	Category.
+	 *
+	 *	@return				Category slot, or -1 if the entry does not
+	 *						have the category.
+	 */
+
+	protected int findCategorySlot( int entryIdx , String category )
+	{
+		Integer categoryId	= categoryIdMap.get( category );
+
+		if ( categoryId != null )
+		{
+			int id	= categoryId.intValue();
+
+			for	(	int i = categoryStarts[ entryIdx ] ;
+					i < categoryStarts[ entryIdx + 1 ] ;
+					i++
+				)
+			{
+				if ( categoryIds[ i ] == id ) return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**	Get lemma for an entry and category.
+	 *
+	 *	@param	entryIdx	Entry index.
+	 *	@param	category	Category.
+	 *
+	 *	@return				The lemma, or "*" if none.
+	 *
+	 *	<p>
+	 *	Matches {@link LexiconEntry#getLemma}.
+	 *	</p>
+	 */
+
+	protected String getEntryLemma( int entryIdx , String category )
+	{
+		String result	= null;
+
+		int slot		= findCategorySlot( entryIdx , category );
+
+		if ( slot >= 0 )
+		{
+			result	= getSlotLemma( entryIdx , slot );
+		}
+
+		if ( ( result == null ) || ( result.length() == 0 ) )
+		{
+			result	= "*";
+		}
+
+		return result;
+	}
+
+	/**	Get largest category for an entry index.
+	 *
+	 *	@param	entryIdx	Entry index.
+	 *
+	 *	@return				Largest category, or null if none.
+	 */
+
+	protected String getLargestCategory( int entryIdx )
+	{
+		int id	= largestCategoryIds[ entryIdx ];
+
+		return ( id < 0 ) ? null : categoryNames[ id ];
+	}
+
+	/**	Create category counts map for an entry index.
+	 *
+	 *	@param	entryIdx	Entry index.
+	 *
+	 *	@return				New map of categories to counts, in
+	 *						original iteration order.
+	 */
+
+	protected Map<String, MutableInteger> getCategoryCountsMap( int entryIdx )
+	{
+		Map<String, MutableInteger> result	=
+			new LinkedHashMap<String, MutableInteger>();
+
+		for	(	int i = categoryStarts[ entryIdx ] ;
+				i < categoryStarts[ entryIdx + 1 ] ;
+				i++
+			)
+		{
+			result.put
+			(
+				categoryNames[ categoryIds[ i ] ] ,
+				new MutableInteger( categoryCounts[ i ] )
+			);
+		}
+
+		return result;
+	}
+
+	/**	Update entry count in lexicon for a given category.
+	 *
+	 *	@param	entry		The entry.
+	 *	@param	category	The category.
+	 *	@param	lemma		The lemma.
+	 *	@param	entryCount	The entry count to add to the current count.
+	 *
+	 *	<p>
+	 *	Not supported.  A compact lexicon is read-only.
+	 *	</p>
+	 */
+
+	public void updateEntryCount
+	(
+		String entry ,
+		String category ,
+		String lemma ,
+		int entryCount
+	)
+	{
+		throw new UnsupportedOperationException(
+			"Compact lexicon is read-only." );
+	}
+
+	/**	Remove given category for an entry.
+	 *
+	 *	@param	entry		The entry.
+	 *	@param	category	The category to remove.
+	 *
+	 *	<p>
+	 *	Not supported.  A compact lexicon is read-only.
+	 *	</p>
+	 */
+
+	public void removeEntryCategory
+	(
+		String entry ,
+		String category
+	)
+	{
+		throw new UnsupportedOperationException(
+			"Compact lexicon is read-only." );
+	}
+
+	/**	Remove entry.
+	 *
+	 *	@param	entry		The entry to remove.
+	 *
+	 *	<p>
+	 *	Not supported.  A compact lexicon is read-only.
+	 *	</p>
+	 */
+
+	public void removeEntry
+	(
+		String entry
+	)
+	{
+		throw new UnsupportedOperationException(
+			"Compact lexicon is read-only." );
+	}
+
+	/**	Get number of entries in Lexicon.
+	 *
+	 *	@return		Number of entries in Lexicon.
+	 */
+
+	public int getLexiconSize()
+	{
+		return entries.length;
+	}
+
+	/**	Get the entries, sorted in ascending order.
+	 *
+	 *	@return		The sorted entry strings as an array of string.
+	 */
+
+	public String[] getEntries()
+	{
+		return entries.clone();
+	}
+
+	/**	Get the categories, sorted in ascending order.
+	 *
+	 *	@return		The sorted category strings as an array of string.
+	 */
+
+	public String[] getCategories()
+	{
+		Set<String> categorySet	= categoryCountsMap.keySet();
+
+		String[] categories		=
+			categorySet.toArray(
+				new String[ categorySet.size() ] );
+
+		Arrays.sort( categories );
+
+		return categories;
+	}
+
+	/**	Checks if lexicon contains an entry.
+	 *
+	 *	@param	entry	Entry to look up.
+	 *
+	 *	@return			true if lexicon contains entry.
+	 *					Only an exact match is considered.
+	 */
+
+	public boolean containsEntry( String entry )
+	{
+		return ( findEntry( entry ) >= 0 );
+	}
+
+	/**	Get a lexicon entry.
+	 *
+	 *	@param	entry	Entry for which to get lexicon information.
+	 *
+	 *	@return			Unmodifiable LexiconEntry for entry,
+	 *					or null if not found.
+	 */
+
+	public LexiconEntry getLexiconEntry( String entry )
+	{
+		LexiconEntry result	= null;
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			result	= getLexiconEntry( entryIdx );
+		}
+
+		return result;
+	}
+
+	/**	Get the lexicon entry for an entry index.
+	 *
+	 *	@param	entryIdx	Entry index.
+	 *
+	 *	@return				Unmodifiable LexiconEntry for the entry.
+	 *
+	 *	<p>
+	 *	The entry is taken from the entry cache when present.
+	 *	Otherwise it is built from the compact arrays and added
+	 *	to the cache.
+	 *	</p>
+	 */
+
+	protected LexiconEntry getLexiconEntry( int entryIdx )
+	{
+		String entry		= entries[ entryIdx ];
+		LexiconEntry result	= null;
+
+		if ( entryCache != null )
+		{
+			result	= entryCache.get( entry );
+		}
+
+		if ( result == null )
+		{
+			Map<String, String> lemmataMap	= MapFactory.createNewMap();
+
+			for	(	int i = categoryStarts[ entryIdx ] ;
+					i < categoryStarts[ entryIdx + 1 ] ;
+					i++
+				)
+			{
+				String lemma	= getSlotLemma( entryIdx , i );
+
+				if ( lemma != null )
+				{
+					lemmataMap.put(
+						categoryNames[ categoryIds[ i ] ] , lemma );
+				}
+			}
+
+			result	=
+				new LexiconEntry
+				(
+					entry ,
+					entry ,
+					entryCounts[ entryIdx ] ,
+					Collections.unmodifiableMap(
+						getCategoryCountsMap( entryIdx ) ) ,
+					Collections.unmodifiableMap( lemmataMap )
+				);
+
+			if ( entryCache != null )
+			{
+				entryCache.put( entry , result );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Set a lexicon entry.
+	 *
+	 *	@param	entry		Entry for which to get lexicon information.
+	 *	@param	entryData	The lexicon entry data.
+	 *
+	 *	@return				Previous lexicon data for entry, if any.
+	 *
+	 *	<p>
+	 *	Not supported.  A compact lexicon is read-only.
+	 *	</p>
+	 */
+
+	public LexiconEntry setLexiconEntry
+	(
+		String entry ,
+		LexiconEntry entryData
+	)
+	{
+		throw new UnsupportedOperationException(
+			"Compact lexicon is read-only." );
+	}
+
+	/**	Get categories for an entry in the lexicon.
+	 *
+	 *	@param	entry	Entry to look up.
+	 *
+	 *	@return			Unmodifiable set of categories.
+	 *					Null if entry not found in lexicon.
+	 */
+
+	public Set<String> getCategoriesForEntry( String entry )
+	{
+		Set<String> categories	= null;
+
+		final int entryIdx		= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			categories	=
+				new AbstractSet<String>()
+				{
+					public int size()
+					{
+						return
+							categoryStarts[ entryIdx + 1 ] -
+							categoryStarts[ entryIdx ];
+					}
+
+					public boolean contains( Object o )
+					{
+						return
+							( o instanceof String ) &&
+							( findCategorySlot( entryIdx , (String)o ) >= 0 );
+					}
+
+					public Iterator<String> iterator()
+					{
+						return new Iterator<String>()
+						{
+							int slot	= categoryStarts[ entryIdx ];
+
+							public boolean hasNext()
+							{
+								return slot < categoryStarts[ entryIdx + 1 ];
+							}
+
+							public String next()
+							{
+								if ( !hasNext() )
+								{
+									throw new NoSuchElementException();
+								}
+
+								return categoryNames[ categoryIds[ slot++ ] ];
+							}
+
+							public void remove()
+							{
+								throw new UnsupportedOperationException();
+							}
+						};
+					}
+				};
+		}
+								//	Not found?  Try punctuation or symbol.
+		if ( categories == null )
+		{
+			if ( CharUtils.isPunctuationOrSymbol( entry ) )
+			{
+				categories	= new TreeSet<String>();
+				categories.add( entry );
+			}
+		}
+
+		return categories;
+	}
+
+	/**	Get categories for an entry in a sentence.
+	 *
+	 *	@param	sentence	List of entries in sentence.
+	 *	@param	entryIndex	Index within sentence (0-based) of entry.
+	 *
+	 *	@return				Set of categories.
+	 *						Null if entry not found in lexicon.
+	 */
+
+	public Set<String> getCategoriesForEntry
+	(
+		List<String> sentence ,
+		int entryIndex
+	)
+	{
+		return getCategoriesForEntry( sentence.get( entryIndex ) );
+	}
+
+	/**	Get categories for an entry.
+	 *
+	 *	@param	entry			Entry to look up.
+	 *	@param	isFirstEntry	True if entry is first in sentence.
+	 *
+	 *	@return					Set of categories.
+	 *							Null if entry not found in lexicon.
+	 */
+
+	public Set<String> getCategoriesForEntry
+	(
+		String entry ,
+		boolean isFirstEntry
+	)
+	{
+		return getCategoriesForEntry( entry );
+	}
+
+	/**	Get number of categories for an entry.
+	 *
+	 *	@param	entry	Entry for which to find number of categories.
+	 *
+	 *	@return			Number of categories for entry.
+	 */
+
+	public int getNumberOfCategoriesForEntry( String entry )
+	{
+		int result		= 0;
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			result	=
+				categoryStarts[ entryIdx + 1 ] - categoryStarts[ entryIdx ];
+		}
+
+		return result;
+	}
+
+	/**	Get category counts for an entry.
+	 *
+	 *	@param	entry	Entry to look up.
+	 *
+	 *	@return			Unmodifiable map of counts for each category.
+	 *					String keys are tags, MutableInteger counts
+	 *					are values.  The counts must not be modified.
+	 *
+	 *					Null if entry not found in lexicon.
+	 */
+
+	public Map<String, MutableInteger> getCategoryCountsForEntry
+	(
+		String entry
+	)
+	{
+		Map<String, MutableInteger> result	= null;
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			result	= getLexiconEntry( entryIdx ).categoriesAndCounts;
+		}
+
+		return result;
+	}
+
+	/**	Get category with largest count for an entry.
+	 *
+	 *	@param	entry	Entry to look up.
+	 *
+	 *	@return			Category with largest count.
+	 *					Empty string if entry not found in lexicon.
+	 */
+
+	public String getLargestCategory( String entry )
+	{
+		String result	= "";
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			result	= getLargestCategory( entryIdx );
+		}
+
+		return result;
+	}
+
+	/**	Get count for an entry in a specific category.
+	 *
+	 *	@param	entry		Entry to look up.
+	 *	@param	category	Category for which to retrieve count.
+	 *
+	 *	@return				Number of occurrences of entry in category.
+	 */
+
+	public int getCategoryCount( String entry , String category )
+	{
+		int result		= 0;
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			int slot	= findCategorySlot( entryIdx , category );
+
+			if ( slot >= 0 )
+			{
+				result	= categoryCounts[ slot ];
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get lemma for an entry.
+	 *
+	 *	@param	entry		Entry to look up.
+	 *
+	 *	@return				Lemma form of entry.  A "*' is returned
+	 *						if the lemma cannot be found.
+	 *
+	 *	<p>
+	 *	Returns the lemma associated with the most frequently
+	 *	occurring part of speech.
+	 *	</p>
+	 */
+
+	public String getLemma( String entry )
+	{
+		String result	= "*";
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			result	=
+				getEntryLemma( entryIdx , getLargestCategory( entryIdx ) );
+		}
+
+		return result;
+	}
+
+	/**	Get all lemmata for an entry.
+	 *
+	 *	@param	entry		Entry to look up.
+	 *
+	 *	@return				Lemmata forms of entry.
+	 */
+
+	public String[] getLemmata( String entry )
+	{
+		String[] result	= new String[]{ "*" };
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			Set<String> lemmataSet	= new TreeSet<String>();
+
+			for	(	int i = categoryStarts[ entryIdx ] ;
+					i < categoryStarts[ entryIdx + 1 ] ;
+					i++
+				)
+			{
+				String lemma	= getSlotLemma( entryIdx , i );
+
+				if ( lemma != null ) lemmataSet.add( lemma );
+			}
+
+			result	=
+				lemmataSet.toArray(
+					new String[ lemmataSet.size() ] );
+		}
+
+		return result;
+	}
+
+	/**	Get lemma for an entry in a specific category.
+	 *
+	 *	@param	entry		Entry to look up.
+	 *	@param	category	Category for which to retrieve lemma.
+	 *
+	 *	@return				Lemma form of entry.  An "*' is returned
+	 *							if the lemma cannot be found.
+	 */
+
+	public String getLemma( String entry , String category )
+	{
+		String result	= "*";
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			result	= getEntryLemma( entryIdx , category );
+		}
+
+		return result;
+	}
+
+	/**	Get total count for an entry.
+	 *
+	 *	@param	entry		Entry to look up.
+	 *
+	 *	@return				Count of occurrences of entry.
+	 */
+
+	public int getEntryCount( String entry )
+	{
+		int result		= 0;
+
+		int entryIdx	= lookupEntry( entry );
+
+		if ( entryIdx >= 0 )
+		{
+			result	= entryCounts[ entryIdx ];
+		}
+
+		return result;
+	}
+
+	/**	Get category count.
+	 *
+	 *	@param	category	Get number of times category appears in lexicon.
+	 *
+	 *	@return					Category count.
+	 */
+
+	public int getCategoryCount( String category )
+	{
+		int result	= 0;
+
+		MutableInteger count	= categoryCountsMap.get( category );
+
+		if ( count != null )
+		{
+			result	= count.intValue();
+		}
+
+		return result;
+	}
+
+	/**	Get unique entry count for a category.
+	 *
+	 *	@param	category	Category.
+	 *
+	 *	@return				Count of unique entries with this category.
+	 */
+
+	public int getUniqueEntryCountForCategory( String category )
+	{
+		int result	= 0;
+
+		MutableInteger count	=
+			uniqueEntryCountForCategoryMap.get( category );
+
+		if ( count != null )
+		{
+			result	= count.intValue();
+		}
+
+		return result;
+	}
+
+	/**	Get category counts.
+	 *
+	 *	@return		Category counts map.
+	 */
+
+	public Map<String, MutableInteger> getCategoryCounts()
+	{
+		return categoryCountsMap;
+	}
+
+	/**	Get number of categories.
+	 *
+	 *	@return		Number of categories.
+	 */
+
+	public int getNumberOfCategories()
+	{
+		return categoryCountsMap.keySet().size();
+	}
+
+	/**	Save lexicon to a file.
+	 *
+	 *	@param	lexiconFileName		File containing the lexicon.
+	 *	@param	encoding			Character encoding of lexicon file text.
+	 */
+
+	public void saveLexiconToTextFile
+	(
+		String lexiconFileName ,
+		String encoding
+	)
+		throws IOException
+	{
+		AdornedWordOutputter outputter	=
+			new PrintStreamAdornedWordOutputter();
+
+		outputter.createOutputFile( lexiconFileName , encoding , '\t' );
+
+								//	Entries are already sorted.
+
+		for ( int i = 0 ; i < entries.length ; i++ )
+		{
+			outputter.outputWordAndAdornments
+			(
+				getLexiconEntry( i ).getLexiconEntryData()
+			);
+		}
+
+		outputter.close();
+	}
+
+	/**	Get the longest entry length in the lexicon.
+	 *
+	 *	@return		The longest entry length in the lexicon.
+	 */
+
+	public int getLongestEntryLength()
+	{
+		return longestEntryLength;
+	}
+
+	/**	Get the shortest entry length in the lexicon.
+	 *
+	 *	@return		The shortest entry length in the lexicon.
+	 */
+
+	public int getShortestEntryLength()
+	{
+		return shortestEntryLength;
+	}
+
+	/**	Get the part of speech tags list used by the lexicon.
+	 *
+	 *	@return		Part of speech tags list.
+	 */
+
+	public PartOfSpeechTags getPartOfSpeechTags()
+	{
+		return partOfSpeechTags;
+	}
+
+	/**	Set the part of speech tags list used by the lexicon.
+	 *
+	 *	@param	partOfSpeechTags	Part of speech tags list.
+	 *
+	 *	@return			true if all categories in lexicon appear in
+	 *					the part of speech tags list.
+	 */
+
+	public boolean setPartOfSpeechTags( PartOfSpeechTags partOfSpeechTags )
+	{
+		this.partOfSpeechTags	= partOfSpeechTags;
+
+		boolean result			= true;
+
+		String[] usedCategories	= getCategories();
+
+		for	(	int i = 0 ;
+				( i < usedCategories.length ) && result;
+				i++
+			)
+		{
+			result	= partOfSpeechTags.isTag( usedCategories[ i ] );
+		}
+
+		return result;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,385 @@
+package edu.northwestern.at.utils.corpuslinguistics.lexicon;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	CompactLexiconLoader: records lexicon lines for a compact lexicon.
+ *
+ *	<p>
+ *	Reads a lexicon text file or snapshot using the parsing in
+ *	{@link AbstractLexicon}, but instead of building a
+ *	{@link LexiconEntry} for each entry, records each line in
+ *	growable primitive arrays.  Entries, categories and lemmata
+ *	are stored once each and referenced by integer ids.
+ *	{@link CompactLexicon#loadLexicon} uses the recorded lines
+ *	to build its compact arrays.
+ *	</p>
+ *
+ *	<p>
+ *	Only the overall category counts and the entry lengths are
+ *	available through the {@link Lexicon} methods.  The loader
+ *	holds no lexicon entries.
+ *	</p>
+ */
+
+public class CompactLexiconLoader extends AbstractLexicon
+{
+	/**	Map from entry to entry id. */
+
+	protected Map<String, Integer> entryIdMap;
+
+	/**	Entries by id, in order of first appearance. */
+
+	protected List<String> entryList;
+
+	/**	Map from category to category id. */
+
+	protected Map<String, Integer> categoryIdMap;
+
+	/**	Categories by id. */
+
+	protected List<String> categoryList;
+
+	/**	Map from lemma to lemma id. */
+
+	protected Map<String, Integer> lemmaIdMap;
+
+	/**	Lemmata by id. */
+
+	protected List<String> lemmaList;
+
+	/**	Number of recorded lines. */
+
+	protected int nLines;
+
+	/**	Entry id for each line. */
+
+	protected int[] lineEntryIds;
+
+	/**	Entry count for each line. */
+
+	protected int[] lineCounts;
+
+	/**	Start of each line's triples in the triple arrays. */
+
+	protected int[] lineTripleStarts;
+
+	/**	Number of triples for each line. */
+
+	protected int[] lineTripleCounts;
+
+	/**	Number of recorded (category , lemma , count) triples. */
+
+	protected int nTriples;
+
+	/**	Category id for each triple. */
+
+	protected short[] tripleCategoryIds;
+
+	/**	Lemma id for each triple.
+	 *
+	 *	<p>
+	 *	{@link CompactLexicon#LEMMA_IS_ENTRY} when the lemma is the
+	 *	same as the entry, {@link CompactLexicon#NO_LEMMA} when there
+	 *	is no lemma.
+	 *	</p>
+	 */
+
+	protected int[] tripleLemmaIds;
+
+	/**	Category count for each triple. */
+
+	protected int[] tripleCounts;
+
+	/**	Create an empty loader.
+	 */
+
+	public CompactLexiconLoader()
+	{
+		super();
+	}
+
+	/**	Prepare to load lexicon entries.
+	 */
+
+	protected void startLoadingLexicon()
+	{
+		super.startLoadingLexicon();
+
+		entryIdMap			= MapFactory.createNewMap();
+		entryList			= ListFactory.createNewList();
+		categoryIdMap		= MapFactory.createNewMap();
+		categoryList		= ListFactory.createNewList();
+		lemmaIdMap			= MapFactory.createNewMap();
+		lemmaList			= ListFactory.createNewList();
+
+		nLines				= 0;
+		lineEntryIds		= new int[ 1024 ];
+		lineCounts			= new int[ 1024 ];
+		lineTripleStarts	= new int[ 1024 ];
+		lineTripleCounts	= new int[ 1024 ];
+
+		nTriples			= 0;
+		tripleCategoryIds	= new short[ 1024 ];
+		tripleLemmaIds		= new int[ 1024 ];
+		tripleCounts		= new int[ 1024 ];
+
+		categoryCountsMap.clear();
+	}
+
+	/**	Record one line of lexicon data.
+	 *
+	 *	@param	entry				The entry.
+	 *	@param	count				Count for the entry.
+	 *	@param	categories			Categories for the entry.
+	 *	@param	lemmata				Lemma for each category.
+	 *	@param	categoryCounts		Count for each category.
+	 *	@param	numberOfCategories	Number of categories to use from
+	 *								the category arrays.
+	 */
+
+	protected void addLexiconLine
+	(
+		String entry ,
+		int count ,
+		String[] categories ,
+		String[] lemmata ,
+		int[] categoryCounts ,
+		int numberOfCategories
+	)
+	{
+								//	Remember longest and shortest entries
+								//	seen so far.
+
+		longestEntryLength	=
+			Math.max( longestEntryLength , entry.length() );
+
+		shortestEntryLength	=
+			Math.min( shortestEntryLength , entry.length() );
+
+								//	Make room for the line.
+
+		if ( nLines == lineEntryIds.length )
+		{
+			int size			= 2 * nLines;
+
+			lineEntryIds		= grow( lineEntryIds , size );
+			lineCounts			= grow( lineCounts , size );
+			lineTripleStarts	= grow( lineTripleStarts , size );
+			lineTripleCounts	= grow( lineTripleCounts , size );
+		}
+
+		if ( ( nTriples + numberOfCategories ) > tripleCounts.length )
+		{
+			int size	=
+				Math.max
+				(
+					2 * tripleCounts.length ,
+					nTriples + numberOfCategories
+				);
+
+			tripleCategoryIds	= grow( tripleCategoryIds , size );
+			tripleLemmaIds		= grow( tripleLemmaIds , size );
+			tripleCounts		= grow( tripleCounts , size );
+		}
+								//	Record the line.
+
+		lineEntryIds[ nLines ]		=
+			CompactLexicon.getOrAddIntId( entry , entryIdMap , entryList );
+
+		lineCounts[ nLines ]		= count;
+		lineTripleStarts[ nLines ]	= nTriples;
+		lineTripleCounts[ nLines ]	= numberOfCategories;
+
+		nLines++;
+								//	Record the (category , lemma ,
+								//	category count ) triples.
+
+		for ( int i = 0 ; i < numberOfCategories ; i++ )
+		{
+			tripleCategoryIds[ nTriples ]	=
+				CompactLexicon.getOrAddId(
+					categories[ i ] , categoryIdMap , categoryList );
+
+			if ( lemmata[ i ] == null )
+			{
+				tripleLemmaIds[ nTriples ]	= CompactLexicon.NO_LEMMA;
+			}
+			else if ( lemmata[ i ].equals( entry ) )
+			{
+				tripleLemmaIds[ nTriples ]	= CompactLexicon.LEMMA_IS_ENTRY;
+			}
+			else
+			{
+				tripleLemmaIds[ nTriples ]	=
+					CompactLexicon.getOrAddIntId(
+						lemmata[ i ] , lemmaIdMap , lemmaList );
+			}
+
+
+			tripleCounts[ nTriples ]		= categoryCounts[ i ];
+
+			nTriples++;
+		}
+	}
+
+	/**	Compute number of lexicon entries for each category.
+	 *
+	 *	<p>
+	 *	Does nothing.  The compact lexicon counts the unique entries
+	 *	for each category when it builds its arrays.
+	 *	</p>
+	 */
+
+	protected void computeUniqueEntryCountsForCategories()
+	{
+	}
+
+	/**	Replay a recorded line into a lexicon entry.
+	 *
+	 *	@param	line			The line number.
+	 *	@param	lexiconEntry	The lexicon entry to update.
+	 *
+	 *	<p>
+	 *	Applies the same updates as {@link AbstractLexicon#addLexiconLine}
+	 *	to the lexicon entry and to the overall category counts.
+	 *	</p>
+	 */
+
+	protected void replayLine( int line , LexiconEntry lexiconEntry )
+	{
+								//	Update total count for entry.
+
+		lexiconEntry.entryCount	+= lineCounts[ line ];
+
+		int start	= lineTripleStarts[ line ];
+		int end		= start + lineTripleCounts[ line ];
+
+								//	Add the (category , lemma ,
+								//	category count ) triples.
+		try
+		{
+			for ( int i = start ; i < end ; i++ )
+			{
+				String category	= categoryList.get( tripleCategoryIds[ i ] );
+				int lemmaId		= tripleLemmaIds[ i ];
+
+								//	Update category and count map.
+
+				lexiconEntry.updateCategoryAndCount(
+					category , tripleCounts[ i ] );
+
+								//	Update lemma.
+
+				String lemma	= null;
+
+				switch ( lemmaId )
+				{
+					case CompactLexicon.LEMMA_IS_ENTRY	:
+						lemma	= lexiconEntry.entry;
+						break;
+
+					case CompactLexicon.NO_LEMMA		:
+						break;
+
+					default								:
+						lemma	= lemmaList.get( lemmaId );
+						break;
+				}
+
+				lexiconEntry.updateLemma( category , lemma );
+
+								//	Update overall category count.
+
+				updateCategoryCount( category , tripleCounts[ i ] );
+			}
+		}
+		catch ( Exception e )
+		{
+		}
+								//	Determine largest category for entry.
+
+		lexiconEntry.determineLargestCategory();
+	}
+
+	/**	Grow an integer array.
+	 *
+	 *	@param	array	The array.
+	 *	@param	size	The new size.
+	 *
+	 *	@return			New array holding the old array's values.
+	 */
+
+	protected static int[] grow( int[] array , int size )
+	{
+		int[] result	= new int[ size ];
+
+		System.arraycopy( array , 0 , result , 0 , array.length );
+
+		return result;
+	}
+
+	/**	Grow a short integer array.
+	 *
+	 *	@param	array	The array.
+	 *	@param	size	The new size.
+	 *
+	 *	@return			New array holding the old array's values.
+	 */
+
+	protected static short[] grow( short[] array , int size )
+	{
+		short[] result	= new short[ size ];
+
+		System.arraycopy( array , 0 , result , 0 , array.length );
+
+		return result;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
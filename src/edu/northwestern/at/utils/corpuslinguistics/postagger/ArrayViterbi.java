@@ -0,0 +1,771 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.logger.*;
+import edu.northwestern.at.utils.math.*;
+
+/**	Viterbi algorithm using primitive arrays.
+ *
+ *	<p>
+ *	This version of the Viterbi trellis assigns each part of speech
+ *	tag an integer index when the tag is first seen.  Each word
+ *	position in the trellis holds a dense array of log probability
+ *	scores and a dense array of traceback tag indices, both indexed
+ *	by tag index.  The arrays are reused from one sentence to the
+ *	next, so tagging a sentence does not box word indices, hash
+ *	tags for each trellis cell, or allocate a
+ *	{@link edu.northwestern.at.utils.math.Probability} for each score.
+ *	</p>
+ *
+ *	<p>
+ *	Each cell carries a generation stamp.  Resetting the trellis for
+ *	a new sentence just increments the generation, which marks every
+ *	cell as empty without clearing the arrays.
+ *	</p>
+ *
+ *	<p>
+ *	The scoring and beam search pruning are performed exactly
+ *	as in {@link Viterbi}, so both produce the same tags.
+ *	The {@link Viterbi} methods which take
+ *	{@link edu.northwestern.at.utils.math.Probability} values
+ *	continue to work.  The faster {@link #updateLogScore} methods
+ *	take natural log probabilities.
+ *	</p>
+ */
+
+public class ArrayViterbi extends Viterbi
+{
+	/**	Maps part of speech tag to tag index. */
+
+	protected Map<String, Integer> tagIndices;
+
+	/**	Maps tag index to part of speech tag. */
+
+	protected List<String> tagNames;
+
+	/**	Log probability scores by word position and tag index.
+	 *
+	 *	<p>
+	 *	Word index i is stored at position i + 2 so that
+	 *	the start states at word indices -2 and -1 fit.
+	 *	</p>
+	 */
+
+	protected double[][] scores;
+
+	/**	Traceback tag indices by word position and tag index. */
+
+	protected int[][] tracebacks;
+
+	/**	Generation stamps for scores. */
+
+	protected int[][] scoreStamps;
+
+	/**	Generation stamps for tracebacks. */
+
+	protected int[][] tracebackStamps;
+
+	/**	Current generation. */
+
+	protected int generation;
+
+	/**	Tag indices for current word's tags. */
+
+	protected int[] tagIndexBuffer;
+
+	/**	Tag indices for previous word's tags. */
+
+	protected int[] prevTagIndexBuffer;
+
+	/**	Create Viterbi object.
+	 */
+
+	public ArrayViterbi()
+	{
+		super();
+	}
+
+	/**	Reset viterbi to clean state.
+	 */
+
+	public void reset()
+	{
+								//	Viterbi's constructor calls reset
+								//	before our fields are set up.
+		if ( tagIndices == null )
+		{
+			tagIndices			= MapFactory.createNewMap();
+			tagNames			= ListFactory.createNewList();
+			scores				= new double[ 0 ][];
+			tracebacks			= new int[ 0 ][];
+			scoreStamps			= new int[ 0 ][];
+			tracebackStamps		= new int[ 0 ][];
+			tagIndexBuffer		= new int[ 16 ];
+			prevTagIndexBuffer	= new int[ 16 ];
+			generation			= 0;
+		}
+								//	Start a new generation, which
+								//	empties all the trellis cells.
+		generation++;
+
+		if ( generation == Integer.MAX_VALUE )
+		{
+			for ( int i = 0 ; i < scoreStamps.length ; i++ )
+			{
+				if ( scoreStamps[ i ] != null )
+				{
+					Arrays.fill( scoreStamps[ i ] , 0 );
+					Arrays.fill( tracebackStamps[ i ] , 0 );
+				}
+			}
+
+			generation	= 1;
+		}
+								//	Set initial state.  Use "." as
+								//	the initial tag(s).
+
+		int startState	= getTagIndex( "." );
+
+		setLogScore( -2 , startState , 0.0D );
+		setLogScore( -1 , startState , 0.0D );
+
+		beamSearchRejections	= 0;
+	}
+
+	/**	Get index for a part of speech tag.
+	 *
+	 *	@param	tag		Part of speech tag.
+	 *
+	 *	@return			The tag index.  A new index is assigned
+	 *					the first time a tag is seen.
+	 */
+
+	public int getTagIndex( String tag )
+	{
+		Integer index	= tagIndices.get( tag );
+
+		if ( index == null )
+		{
+			index	= new Integer( tagNames.size() );
+
+			tagIndices.put( tag , index );
+			tagNames.add( tag );
+		}
+
+		return index.intValue();
+	}
+
+	/**	Get part of speech tag for a tag index.
+	 *
+	 *	@param	tagIndex	The tag index.
+	 *
+	 *	@return				The part of speech tag.
+	 */
+
+	public String getTag( int tagIndex )
+	{
+		return tagNames.get( tagIndex );
+	}
+
+	/**	Make sure trellis has room for a word index and tag index.
+	 *
+	 *	@param	row			Trellis row (word index + 2).
+	 *	@param	tagIndex	Tag index.
+	 */
+
+	protected void ensureCapacity( int row , int tagIndex )
+	{
+		if ( row >= scores.length )
+		{
+			int newRows	= Math.max( row + 1 , scores.length * 2 );
+
+			scores			= growRows( scores , newRows );
+			tracebacks		= growRows( tracebacks , newRows );
+			scoreStamps		= growRows( scoreStamps , newRows );
+			tracebackStamps	= growRows( tracebackStamps , newRows );
+		}
+
+		if	(	( scores[ row ] == null ) ||
+				( tagIndex >= scores[ row ].length )
+			)
+		{
+			int newLength	=
+				Math.max
+				(
+					Math.max( tagIndex + 1 , tagNames.size() ) ,
+					( scores[ row ] == null ) ? 0 : scores[ row ].length * 2
+				);
+
+			double[] newScores	= new double[ newLength ];
+			int[] newTracebacks	= new int[ newLength ];
+			int[] newScoreStamps		= new int[ newLength ];
+			int[] newTracebackStamps	= new int[ newLength ];
+
+			if ( scores[ row ] != null )
+			{
+				int oldLength	= scores[ row ].length;
+
+				System.arraycopy(
+					scores[ row ] , 0 , newScores , 0 , oldLength );
+
+				System.arraycopy(
+					tracebacks[ row ] , 0 , newTracebacks , 0 , oldLength );
+
+				System.arraycopy(
+					scoreStamps[ row ] , 0 , newScoreStamps , 0 , oldLength );
+
+				System.arraycopy(
+					tracebackStamps[ row ] , 0 ,
+					newTracebackStamps , 0 , oldLength );
+			}
+
+			scores[ row ]			= newScores;
+			tracebacks[ row ]		= newTracebacks;
+			scoreStamps[ row ]		= newScoreStamps;
+			tracebackStamps[ row ]	= newTracebackStamps;
+		}
+	}
+
+	/**	Grow an array of rows.
+	 *
+	 *	@param	rows	The rows.
+	 *	@param	newRows	The new number of rows.
+	 *
+	 *	@return			The grown array of rows.
+	 */
+
+	protected static double[][] growRows( double[][] rows , int newRows )
+	{
+		double[][] result	= new double[ newRows ][];
+
+		System.arraycopy( rows , 0 , result , 0 , rows.length );
+
+		return result;
+	}
+
+	/**	Grow an array of rows.
+	 *
+	 *	@param	rows	The rows.
+	 *	@param	newRows	The new number of rows.
+	 *
+	 *	@return			The grown array of rows.
+	 */
+
+	protected static int[][] growRows( int[][] rows , int newRows )
+	{
+		int[][] result	= new int[ newRows ][];
+
+		System.arraycopy( rows , 0 , result , 0 , rows.length );
+
+		return result;
+	}
+
+	/**	Get log probability score for a word index and tag index.
+	 *
+	 *	@param	index		Word index.
+	 *	@param	tagIndex	Tag index.
+	 *
+	 *	@return				Log probability.  Negative infinity
+	 *						if (index,tag) not found.
+	 */
+
+	public double getLogScore( int index , int tagIndex )
+	{
+		int row	= index + 2;
+
+		if	(	( row < scoreStamps.length ) &&
+				( scoreStamps[ row ] != null ) &&
+				( tagIndex < scoreStamps[ row ].length ) &&
+				( scoreStamps[ row ][ tagIndex ] == generation )
+			)
+		{
+			return scores[ row ][ tagIndex ];
+		}
+
+		return Double.NEGATIVE_INFINITY;
+	}
+
+	/**	Store log probability score for a word index and tag index.
+	 *
+	 *	@param	index		Word index.
+	 *	@param	tagIndex	Tag index.
+	 *	@param	score		Log probability score.
+	 */
+
+	protected void setLogScore( int index , int tagIndex , double score )
+	{
+		int row	= index + 2;
+
+		ensureCapacity( row , tagIndex );
+
+		scores[ row ][ tagIndex ]		= score;
+		scoreStamps[ row ][ tagIndex ]	= generation;
+	}
+
+	/**	Store score and traceback tag index for a word index.
+	 *
+	 *	@param	index				Word index.
+	 *	@param	tagIndex			Tag index.
+	 *	@param	tracebackTagIndex	Traceback tag index.
+	 *	@param	score				Log probability score.
+	 */
+
+	public void setLogScore
+	(
+		int index ,
+		int tagIndex ,
+		int tracebackTagIndex ,
+		double score
+	)
+	{
+		int row	= index + 2;
+
+		setLogScore( index , tagIndex , score );
+
+		tracebacks[ row ][ tagIndex ]		= tracebackTagIndex;
+		tracebackStamps[ row ][ tagIndex ]	= generation;
+	}
+
+	/**	Get traceback tag index for a word index and tag index.
+	 *
+	 *	@param	index		Word index.
+	 *	@param	tagIndex	Tag index.
+	 *
+	 *	@return				Traceback tag index, or -1 if
+	 *						(index,tag) not found.
+	 */
+
+	public int getTracebackTagIndex( int index , int tagIndex )
+	{
+		int row	= index + 2;
+
+		if	(	( row < tracebackStamps.length ) &&
+				( tracebackStamps[ row ] != null ) &&
+				( tagIndex < tracebackStamps[ row ].length ) &&
+				( tracebackStamps[ row ][ tagIndex ] == generation )
+			)
+		{
+			return tracebacks[ row ][ tagIndex ];
+		}
+
+		return -1;
+	}
+
+	/**	Get probability value for a specified word index and tag.
+	 *
+	 *	@param	index	Word index.
+	 *	@param	tag		Part of speech tag.
+	 *
+	 *	@return			Probability.  If (index,tag) not found, returns 0.
+ 	 */
+
+ 	public Probability getScore( int index , String tag )
+ 	{
+		Integer tagIndex	= tagIndices.get( tag );
+
+		if ( tagIndex == null ) return Probability.ZERO_PROBABILITY;
+
+		double score	= getLogScore( index , tagIndex.intValue() );
+
+		if ( score == Double.NEGATIVE_INFINITY )
+		{
+			return Probability.ZERO_PROBABILITY;
+		}
+
+		Probability result	= new Probability();
+
+		result.setLogProbability( score );
+
+		return result;
+ 	}
+
+	/**	Get traceback tag for a specified tag and word index.
+	 *
+	 *	@param	index	Word index.
+	 *	@param	tag		Part of speech tag.
+	 *
+	 *	@return			Part of speech tag.  Returns "*" if (index,tag)
+	 *					not found.
+ 	 */
+
+ 	public String getTracebackTag( int index , String tag )
+ 	{
+		Integer tagIndex	= tagIndices.get( tag );
+
+		if ( tagIndex == null ) return "*";
+
+		int result	= getTracebackTagIndex( index , tagIndex.intValue() );
+
+		return ( result < 0 ) ? "*" : tagNames.get( result );
+ 	}
+
+	/**	Store Viterbi score and traceback tag for a specified word index.
+	 *
+	 *	@param	index			Word index.
+	 *	@param	tag				Part of speech tag.
+	 *	@param	tracebackTag	Traceback tag to store.
+	 *	@param	score			Score to store.
+	 */
+
+	public void setScore
+	(
+		int index ,
+		String tag ,
+		String tracebackTag ,
+		Probability score
+	)
+	{
+		setLogScore
+		(
+			index ,
+			getTagIndex( tag ) ,
+			getTagIndex( tracebackTag ) ,
+			score.getLogProbability()
+		);
+	}
+
+	/**	Get tag indices for a list of tags.
+	 *
+	 *	@param	tags	The tags.
+	 *	@param	buffer	Buffer to hold the indices.
+	 *
+	 *	@return			The buffer, or a larger buffer if the
+	 *					tags do not fit.
+	 */
+
+	protected int[] getTagIndices( List<String> tags , int[] buffer )
+	{
+		int[] result	= buffer;
+
+		if ( tags.size() > result.length )
+		{
+			result	= new int[ Math.max( tags.size() , result.length * 2 ) ];
+		}
+
+		for ( int i = 0 ; i < tags.size() ; i++ )
+		{
+			result[ i ]	= getTagIndex( tags.get( i ) );
+		}
+
+		return result;
+	}
+
+	/**	Perform Viterbi scoring for bigram using log probabilities.
+	 *
+	 *	@param	wordIndex			Word index for current word.
+	 *	@param	lexicalLogProbs		Log lexical probabilities.
+	 *								Entries match corresponding tags
+	 *								in "tags" parameter.
+	 *	@param	contextualLogProbs	Log contextual probabilities.
+	 *								The entry for tags[i] and
+	 *								prevTags[j] is at
+	 *								[ i * prevTags.size() + j ].
+	 *	@param	tags				Possible tags for current word.
+	 *	@param	prevTags			Possible tags for previous word.
+	 *
+	 *	@return						Tags passing beam search criterion.
+	 */
+
+	public List<String> updateLogScore
+	(
+		int wordIndex ,
+		double[] lexicalLogProbs ,
+		double[] contextualLogProbs ,
+		List<String> tags ,
+		List<String> prevTags
+	)
+	{
+		int nTags		= tags.size();
+		int nPrevTags	= prevTags.size();
+
+		tagIndexBuffer		= getTagIndices( tags , tagIndexBuffer );
+		prevTagIndexBuffer	= getTagIndices( prevTags , prevTagIndexBuffer );
+
+		int[] tagIndex		= tagIndexBuffer;
+		int[] prevTagIndex	= prevTagIndexBuffer;
+
+		double bestScore	= Double.NEGATIVE_INFINITY;
+
+		for ( int i = 0 ; i < nTags ; i++ )
+		{
+			double lexicalProb	= lexicalLogProbs[ i ];
+			double currentScore	= getLogScore( wordIndex , tagIndex[ i ] );
+
+			for ( int j = 0 ; j < nPrevTags ; j++ )
+			{
+				double score	=
+					getLogScore( wordIndex - 1 , prevTagIndex[ j ] ) +
+					lexicalProb + contextualLogProbs[ i * nPrevTags + j ];
+
+				if ( Double.compare( score , currentScore ) > 0 )
+				{
+					bestScore		= score;
+					currentScore	= score;
+
+					setLogScore
+					(
+						wordIndex , tagIndex[ i ] , prevTagIndex[ j ] , score
+					);
+				}
+			}
+		}
+								//	Prune tags using beam width.
+
+		return pruneTags( wordIndex , tags , tagIndex , bestScore );
+	}
+
+	/**	Perform Viterbi scoring for trigram using log probabilities.
+	 *
+	 *	@param	wordIndex			Word index for current word.
+	 *	@param	lexicalLogProbs		Log lexical probabilities.
+	 *								Entries match corresponding tags
+	 *								in "tags" parameter.
+	 *	@param	contextualLogProbs	Log contextual probabilities.
+	 *								The entry for tags[i], prevTags[j]
+	 *								and prevPrevTags[k] is at
+	 *								[ ( i * prevTags.size() + j ) *
+	 *								prevPrevTags.size() + k ].
+	 *	@param	tags				Possible tags for current word.
+	 *	@param	prevTags			Possible tags for previous word.
+	 *	@param	prevPrevTags		Possible tags for previous word of
+	 *								previous word.
+	 *
+	 *	@return						Tags passing beam search criterion.
+	 */
+
+	public List<String> updateLogScore
+	(
+		int wordIndex ,
+		double[] lexicalLogProbs ,
+		double[] contextualLogProbs ,
+		List<String> tags ,
+		List<String> prevTags ,
+		List<String> prevPrevTags
+	)
+	{
+		int nTags			= tags.size();
+		int nPrevTags		= prevTags.size();
+		int nPrevPrevTags	= prevPrevTags.size();
+
+		tagIndexBuffer		= getTagIndices( tags , tagIndexBuffer );
+		prevTagIndexBuffer	= getTagIndices( prevTags , prevTagIndexBuffer );
+
+		int[] tagIndex		= tagIndexBuffer;
+		int[] prevTagIndex	= prevTagIndexBuffer;
+
+		double bestScore	= Double.NEGATIVE_INFINITY;
+
+		for ( int i = 0 ; i < nTags ; i++ )
+		{
+			double lexicalProb	= lexicalLogProbs[ i ];
+			double currentScore	= getLogScore( wordIndex , tagIndex[ i ] );
+
+			for ( int j = 0 ; j < nPrevTags ; j++ )
+			{
+				double scorem1	=
+					getLogScore( wordIndex - 1 , prevTagIndex[ j ] ) +
+					lexicalProb;
+
+				int base	= ( i * nPrevTags + j ) * nPrevPrevTags;
+
+				for ( int k = 0 ; k < nPrevPrevTags ; k++ )
+				{
+					double score	= scorem1 + contextualLogProbs[ base + k ];
+
+					if ( Double.compare( score , currentScore ) > 0 )
+					{
+						bestScore		= score;
+						currentScore	= score;
+
+						setLogScore
+						(
+							wordIndex ,
+							tagIndex[ i ] ,
+							prevTagIndex[ j ] ,
+							score
+						);
+					}
+				}
+			}
+		}
+								//	Prune tags using beam width.
+
+		return pruneTags( wordIndex , tags , tagIndex , bestScore );
+	}
+
+	/**	Prune tags using beam search.
+	 *
+	 *	@param	wordIndex	The word index.
+	 *	@param	tags		The tags to prune.
+	 *	@param	bestScore	The best score for this word and set of tags.
+	 *
+	 *	@return				The pruned list of tags.
+	 */
+
+	protected List<String> pruneTags
+	(
+		int wordIndex ,
+		List<String> tags ,
+		Probability bestScore
+	)
+	{
+		tagIndexBuffer	= getTagIndices( tags , tagIndexBuffer );
+
+		return pruneTags
+		(
+			wordIndex ,
+			tags ,
+			tagIndexBuffer ,
+			bestScore.getLogProbability()
+		);
+	}
+
+	/**	Prune tags using beam search.
+	 *
+	 *	@param	wordIndex	The word index.
+	 *	@param	tags		The tags to prune.
+	 *	@param	tagIndex	The tag indices for the tags.
+	 *	@param	bestScore	The log of the best score for this word
+	 *						and set of tags.
+	 *
+	 *	@return				The pruned list of tags.
+	 *
+	 *	<p>
+	 *	Tags whose log score is more than the log beam width below
+	 *	the best score are removed from the trellis.
+	 *	</p>
+	 */
+
+	protected List<String> pruneTags
+	(
+		int wordIndex ,
+		List<String> tags ,
+		int[] tagIndex ,
+		double bestScore
+	)
+	{
+		List<String> passedTags	= ListFactory.createNewList();
+
+		int row	= wordIndex + 2;
+
+		for ( int i = 0 ; i < tags.size() ; i++ )
+		{
+			double tagScore	= getLogScore( wordIndex , tagIndex[ i ] );
+
+			if ( ( bestScore - tagScore ) > beamWidth )
+			{
+				if ( tagScore != Double.NEGATIVE_INFINITY )
+				{
+					scoreStamps[ row ][ tagIndex[ i ] ]	= 0;
+				}
+
+				beamSearchRejections++;
+			}
+			else
+			{
+				passedTags.add( tags.get( i ) );
+			}
+		}
+
+		return passedTags;
+	}
+
+	/**	Get optimal set of tags via backtracking.
+	 *
+	 *	@param	nWords	Number of words.
+	 *	@param	tags	Final state tags.
+	 *
+	 *	@return			Optimal list of tags.
+	 */
+
+	public List<String> optimalTags( int nWords , List<String> tags )
+	{
+		int wordIndex		= nWords - 1;
+
+		int bestTag			= getTagIndex( "." );
+		double bestScore	= Double.NEGATIVE_INFINITY;
+
+		for ( int i = 0 ; i < tags.size() ; i++ )
+		{
+			int tag			= getTagIndex( tags.get( i ) );
+			double score	= getLogScore( wordIndex , tag );
+
+			if ( Double.compare( score , bestScore ) > 0 )
+			{
+				bestScore	= score;
+				bestTag		= tag;
+			}
+		}
+		                        //	Back track to get optimal tags.
+
+		String[] tagArray	= new String[ Math.max( nWords , 0 ) ];
+
+		while ( wordIndex >= 0 )
+		{
+			if ( bestTag < 0 )
+			{
+				tagArray[ wordIndex ]	= "*";
+				wordIndex--;
+			}
+			else
+			{
+				tagArray[ wordIndex ]	= tagNames.get( bestTag );
+				bestTag	= getTracebackTagIndex( wordIndex-- , bestTag );
+			}
+		}
+
+		List<String> tagList	= ListFactory.createNewList();
+
+		tagList.addAll( Arrays.asList( tagArray ) );
+
+		return tagList;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
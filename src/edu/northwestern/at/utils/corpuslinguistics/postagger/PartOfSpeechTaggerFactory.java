@@ -125,6 +125,18 @@ public class PartOfSpeechTaggerFactory
 			classPrefix + ".bigramhybrid.BigramHybridTagger"
 		);
 
+		taggerClassMap.put
+		(
+			"FastBigramTagger" ,
+			classPrefix + ".fastbigram.FastBigramTagger"
+		);
+
+		taggerClassMap.put
+		(
+			"FastTrigramTagger" ,
+			classPrefix + ".fasttrigram.FastTrigramTagger"
+		);
+
 		taggerClassMap.put
 		(
 			"HeppleTagger" ,
@@ -117,6 +117,42 @@ public class BigramTagger
 				contextualSmoother.cachedProbabilitiesCount()
 			);
 
+			if ( lexicalSmoother.getCacheStatistics() != null )
+			{
+				logger.logDebug
+				(
+					"      lexical probability cache          : " +
+					lexicalSmoother.getCacheStatistics()
+				);
+			}
+
+			if ( contextualSmoother.getCacheStatistics() != null )
+			{
+				logger.logDebug
+				(
+					"      contextual probability cache       : " +
+					contextualSmoother.getCacheStatistics()
+				);
+			}
+
+			if ( partOfSpeechGuesser != null )
+			{
+				if ( partOfSpeechGuesser.getCacheStatistics() != null )
+				{
+					logger.logDebug
+					(
+						"      guessed parts of speech cache      : " +
+						partOfSpeechGuesser.getCacheStatistics()
+					);
+				}
+
+				logger.logDebug
+				(
+					"      guesser check timings              : " +
+					partOfSpeechGuesser.getCheckTimings()
+				);
+			}
+
 			logger.logDebug
 			(
 				"   # of states rejected by beam search: " +
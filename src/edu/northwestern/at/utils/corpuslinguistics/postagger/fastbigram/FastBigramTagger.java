@@ -0,0 +1,165 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger.fastbigram;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
+import edu.northwestern.at.utils.corpuslinguistics.postagger.bigram.*;
+
+/**	Bigram Part of Speech tagger using a primitive array Viterbi trellis.
+ *
+ *	<p>
+ *	Assigns the same tags as {@link BigramTagger}, but keeps the
+ *	Viterbi trellis in an {@link ArrayViterbi} and passes the lexical
+ *	and contextual probabilities to it as arrays of log probabilities.
+ *	The arrays are reused from one word to the next.
+ *	</p>
+ */
+
+public class FastBigramTagger
+	extends BigramTagger
+	implements PartOfSpeechTagger
+{
+	/**	Array Viterbi trellis. */
+
+	protected ArrayViterbi arrayViterbi;
+
+	/**	Log lexical probabilities for the current word. */
+
+	protected double[] lexicalLogProbs		= new double[ 16 ];
+
+	/**	Log contextual probabilities for the current word. */
+
+	protected double[] contextualLogProbs	= new double[ 256 ];
+
+	/**	Create a fast bigram tagger.
+	 */
+
+	public FastBigramTagger()
+	{
+		super();
+
+		arrayViterbi	= new ArrayViterbi();
+		viterbi			= arrayViterbi;
+	}
+
+	/**	Process a single word.
+	 *
+	 *	@param	wordIndex		Index of word in sentence (starts at 0).
+	 *	@param	word			Word being processed.
+ 	 *	@param	previousTags	The previous word's tags.
+	 *	@param	tags			The current word's tags.
+	 *
+	 *	@return					Updated tag list.
+	 */
+
+	protected List<String> processWord
+	(
+		int wordIndex ,
+		String word ,
+		List<String> previousTags ,
+		List<String> tags
+	)
+	{
+		int nTags			= tags.size();
+		int nPreviousTags	= previousTags.size();
+
+								//	Make sure probability arrays
+								//	are large enough.
+
+		if ( lexicalLogProbs.length < nTags )
+		{
+			lexicalLogProbs	= new double[ nTags * 2 ];
+		}
+
+		if ( contextualLogProbs.length < nTags * nPreviousTags )
+		{
+			contextualLogProbs	= new double[ nTags * nPreviousTags * 2 ];
+		}
+								//	Get log probabilities.
+		int l	= 0;
+
+		for ( int i = 0 ; i < nTags ; i++ )
+		{
+			String tagI	= tags.get( i );
+
+			lexicalLogProbs[ i ]	=
+				lexicalSmoother.lexicalProbability(
+					word , tagI ).getLogProbability();
+
+			for ( int j = 0 ; j < nPreviousTags ; j++ )
+			{
+				contextualLogProbs[ l++ ]	=
+					contextualSmoother.contextualProbability
+					(
+						tagI ,
+						previousTags.get( j )
+					).getLogProbability();
+			}
+		}
+
+		return arrayViterbi.updateLogScore
+		(
+			wordIndex ,
+			lexicalLogProbs ,
+			contextualLogProbs ,
+			tags ,
+			previousTags
+		);
+	}
+
+	/**	Return tagger description.
+	 *
+	 *	@return		Tagger description.
+	 */
+
+	public String toString()
+	{
+		return "Fast bigram tagger";
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
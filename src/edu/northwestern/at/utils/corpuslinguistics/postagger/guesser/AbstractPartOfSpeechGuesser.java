@@ -45,30 +45,48 @@ abstract public class AbstractPartOfSpeechGuesser
 
 	protected Logger logger	= new DummyLogger();
 
-	/**	Cache parts of speech for unknown words.
+	/**	Cache parts of speech and lexicon for unknown words.
+	 *	Null if caching is disabled.
 	 *
 	 *	<p>
-	 *	The key is the word spelling, the value is a map of
-	 *	parts of speech and associated counts for the spelling.
+	 *	The key is the word spelling, the value holds a map of
+	 *	parts of speech and associated counts for the spelling,
+	 *	and the lexicon to use to retrieve counts for probability
+	 *	calculations.  Normally the lexicon is only set when it is
+	 *	the suffix lexicon.  The word lexicon is assumed by default
+	 *	otherwise.  The size and eviction policy of the cache are
+	 *	set by the "partofspeechguesser.cachesize" and
+	 *	"partofspeechguesser.cachepolicy" system properties.
+	 *	The cache may be shared with other guessers using
+	 *	{@link #setGuessCache}.
 	 *	</p>
 	 */
 
-	protected Cache<String, Map<String, MutableInteger>> cachedWords	=
-		new LRUCache<String, Map<String, MutableInteger>>( 2000 );
+	protected PartOfSpeechGuessCache cachedWords	=
+		PartOfSpeechGuessCache.fromProperties();
 
-	/**	Cache lexicon for unknown words.
+	/**	Last word found or cached with a lexicon other than the
+	 *	word lexicon.
 	 *
 	 *	<p>
-	 *	The key is the word spelling, the value is the lexicon to use
-	 *	to retrieve counts for probability calculations.
-	 *	Normally a cache entry is only created when the
-	 *	lexicon is the suffix lexicon.  The word lexicon is
-	 *	assumed by default otherwise.
+	 *	Lets {@link #getCachedLexiconForWord} find the lexicon of
+	 *	a word just guessed when the cache is disabled or the word
+	 *	has already been evicted.
 	 *	</p>
 	 */
 
-	protected Map<String, Lexicon> cachedLexicons	=
-		MapFactory.createNewMap();
+	protected String lastLexiconWord	= null;
+
+	/**	Lexicon for {@link #lastLexiconWord}. */
+
+	protected Lexicon lastLexicon		= null;
+
+	/**	Timings for the name, standard spelling, suffix and
+	 *	hyphenated word checks.
+	 */
+
+	protected PartOfSpeechGuesserTimings timings	=
+		new PartOfSpeechGuesserTimings();
 
 	/**	The word lexicon.
 	 */
@@ -109,6 +127,16 @@ abstract public class AbstractPartOfSpeechGuesser
 
 	protected boolean checkPossessives		= false;
 
+	/**	Suffix lexicon compiled into a trie.  Created when first
+	 *	needed unless set with {@link #setSuffixLexiconTrie}.
+	 */
+
+	protected SuffixLexiconTrie suffixLexiconTrie	= null;
+
+	/**	True to use the suffix trie for suffix analysis. */
+
+	protected boolean useSuffixLexiconTrie	= true;
+
 	/**	Get the logger.
 	 *
 	 *	@return		The logger.
@@ -195,6 +223,67 @@ abstract public class AbstractPartOfSpeechGuesser
 		this.suffixLexicon	= suffixLexicon;
 	}
 
+	/**	Get the suffix lexicon compiled into a trie.
+	 *
+	 *	@return		The suffix trie for the current suffix lexicon
+	 *				and word lexicon part of speech tags.
+	 *				Created if there is none or the lexicons have
+	 *				changed.
+	 */
+
+	public SuffixLexiconTrie getSuffixLexiconTrie()
+	{
+		PartOfSpeechTags posTags	= wordLexicon.getPartOfSpeechTags();
+
+		if	(	( suffixLexiconTrie == null ) ||
+				( suffixLexiconTrie.getSuffixLexicon() != suffixLexicon ) ||
+				( suffixLexiconTrie.getPartOfSpeechTags() != posTags )
+			)
+		{
+			suffixLexiconTrie	= new SuffixLexiconTrie( suffixLexicon , posTags );
+		}
+
+		return suffixLexiconTrie;
+	}
+
+	/**	Set the suffix lexicon compiled into a trie.
+	 *
+	 *	@param	suffixLexiconTrie	The suffix trie.
+	 *
+	 *	<p>
+	 *	Guessers using the same lexicons may share one trie.
+	 *	The trie is ignored unless it was created from the suffix
+	 *	lexicon and the word lexicon part of speech tags.
+	 *	</p>
+	 */
+
+	public void setSuffixLexiconTrie( SuffixLexiconTrie suffixLexiconTrie )
+	{
+		this.suffixLexiconTrie	= suffixLexiconTrie;
+	}
+
+	/**	Set whether to use the suffix trie for suffix analysis.
+	 *
+	 *	@param	useSuffixLexiconTrie	True to use the suffix trie,
+	 *									false to look up each suffix
+	 *									of a word in the suffix lexicon.
+	 */
+
+	public void setUseSuffixLexiconTrie( boolean useSuffixLexiconTrie )
+	{
+		this.useSuffixLexiconTrie	= useSuffixLexiconTrie;
+	}
+
+	/**	Get whether the suffix trie is used for suffix analysis.
+	 *
+	 *	@return		True if the suffix trie is used.
+	 */
+
+	public boolean getUseSuffixLexiconTrie()
+	{
+		return useSuffixLexiconTrie;
+	}
+
 	/**	Add word to cache.
 	 *
 	 *	@param	word	The word.
@@ -207,7 +296,80 @@ abstract public class AbstractPartOfSpeechGuesser
 		Map<String, MutableInteger> tagMap
 	)
 	{
-		cachedWords.put( word , tagMap );
+		addCachedWord( word , tagMap , null );
+	}
+
+	/**	Add word to cache.
+	 *
+	 *	@param	word	The word.
+	 *	@param	tagMap	Tag map for the word.
+	 *	@param	lexicon	Lexicon from which to retrieve counts for
+	 *					the word, or null for the word lexicon.
+	 */
+
+	protected void addCachedWord
+	(
+		String word ,
+		Map<String, MutableInteger> tagMap ,
+		Lexicon lexicon
+	)
+	{
+		if ( cachedWords != null )
+		{
+			cachedWords.put( word , tagMap , lexicon );
+		}
+
+		if ( lexicon != null )
+		{
+			lastLexiconWord	= word;
+			lastLexicon		= lexicon;
+		}
+	}
+
+	/**	Get the guessed parts of speech cache.
+	 *
+	 *	@return		The cache, or null if caching is disabled.
+	 */
+
+	public PartOfSpeechGuessCache getGuessCache()
+	{
+		return cachedWords;
+	}
+
+	/**	Set the guessed parts of speech cache.
+	 *
+	 *	@param	guessCache	The cache, or null to disable caching.
+	 *
+	 *	<p>
+	 *	Guessers which use the same lexicons and settings may share
+	 *	one cache.
+	 *	</p>
+	 */
+
+	public void setGuessCache( PartOfSpeechGuessCache guessCache )
+	{
+		this.cachedWords	= guessCache;
+	}
+
+	/**	Get the guessed parts of speech cache statistics.
+	 *
+	 *	@return		The cache statistics, or null if caching is
+	 *				disabled.
+	 */
+
+	public CacheStatistics getCacheStatistics()
+	{
+		return ( cachedWords == null ) ? null : cachedWords.getStatistics();
+	}
+
+	/**	Get the timings for the expensive guesser checks.
+	 *
+	 *	@return		The check timings.
+	 */
+
+	public PartOfSpeechGuesserTimings getCheckTimings()
+	{
+		return timings;
 	}
 
 	/**	Create map with one (pos, count) entry.
@@ -329,12 +491,48 @@ abstract public class AbstractPartOfSpeechGuesser
 	 *	so the word lexicon is returned.  Words whose
 	 *	category counts result from a suffix analysis will
 	 *	have a cached entry pointing to the suffix lexicon.
+	 *	A word which is no longer cached is guessed again.
 	 *	</p>
 	 */
 
 	public Lexicon getCachedLexiconForWord( String word )
 	{
-		Lexicon result	= cachedLexicons.get( word );
+								//	Words in the word lexicon are
+								//	never guessed.
+
+		if ( ( wordLexicon != null ) && wordLexicon.containsEntry( word ) )
+		{
+			return wordLexicon;
+		}
+
+		Lexicon result	= null;
+
+		if ( word.equals( lastLexiconWord ) )
+		{
+			result	= lastLexicon;
+		}
+		else
+		{
+			PartOfSpeechGuessCache.CachedGuess guess	=
+				( cachedWords == null ) ? null : cachedWords.get( word );
+
+			if ( guess != null )
+			{
+				result	= guess.getLexicon();
+			}
+			else
+			{
+								//	Word not cached.  Guess it
+								//	again to find its lexicon.
+
+				guessPartsOfSpeech( word );
+
+				if ( word.equals( lastLexiconWord ) )
+				{
+					result	= lastLexicon;
+				}
+			}
+		}
 
 		if ( result == null )
 		{
@@ -356,12 +554,25 @@ abstract public class AbstractPartOfSpeechGuesser
 	{
 		Map<String, MutableInteger>	result	= null;
 
+		if ( cachedWords == null ) return result;
+
 								//	Is word in cache?  Return
 								//	existing parts of speech if so.
 
-		if ( cachedWords.containsKey( word ) )
+		PartOfSpeechGuessCache.CachedGuess guess	= cachedWords.get( word );
+
+		if ( guess != null )
 		{
-			result	= cachedWords.get( word );
+			result	= guess.getTagMap();
+
+								//	Remember word's lexicon for
+								//	getCachedLexiconForWord.
+
+			if ( guess.getLexicon() != null )
+			{
+				lastLexiconWord	= word;
+				lastLexicon		= guess.getLexicon();
+			}
 		}
 		else
 		{
@@ -373,9 +584,14 @@ abstract public class AbstractPartOfSpeechGuesser
 								//	Return existing parts of speech
 								//	if so.
 
-			if ( cachedWords.containsKey( lowerCaseWord ) )
+			if ( !lowerCaseWord.equals( word ) )
 			{
-				result	= cachedWords.get( lowerCaseWord );
+				guess	= cachedWords.get( lowerCaseWord );
+
+				if ( guess != null )
+				{
+					result	= guess.getTagMap();
+				}
 			}
 		}
 								//	Return null if word not found
@@ -954,7 +1170,10 @@ abstract public class AbstractPartOfSpeechGuesser
 				String suffix	= word.substring( dashPos + 1 );
 
 				result			=
-					wordLexicon.getCategoryCountsForEntry( suffix );
+					clonePosTagMap
+					(
+						wordLexicon.getCategoryCountsForEntry( suffix )
+					);
 
 				if ( result == null )
 				{
@@ -1007,14 +1226,21 @@ abstract public class AbstractPartOfSpeechGuesser
 	 	{
 			if ( spellingStandardizer != null )
 			{
-				result	=
-					spellingStandardizer.standardizeSpelling( word );
+								//	The standardizer may cache new
+								//	mappings, and may be shared by
+								//	guessers in other threads.
 
-				if ( result.length == 0 )
+				synchronized( spellingStandardizer )
 				{
 					result	=
-						spellingStandardizer.standardizeSpelling(
-							word.toLowerCase() );
+						spellingStandardizer.standardizeSpelling( word );
+
+					if ( result.length == 0 )
+					{
+						result	=
+							spellingStandardizer.standardizeSpelling(
+								word.toLowerCase() );
+					}
 				}
 			}
 		}
@@ -1022,14 +1248,26 @@ abstract public class AbstractPartOfSpeechGuesser
 		{
 			if ( auxiliarySpellingStandardizer != null )
 			{
-				result	=
-					auxiliarySpellingStandardizer.standardizeSpelling( word );
+								//	The auxiliary standardizer shares
+								//	its mapped spellings with the
+								//	main standardizer, so lock that.
 
-				if ( result.length == 0 )
+				Object lock	=
+					( spellingStandardizer != null ) ?
+						spellingStandardizer : auxiliarySpellingStandardizer;
+
+				synchronized( lock )
 				{
 					result	=
 						auxiliarySpellingStandardizer.standardizeSpelling(
-							word.toLowerCase() );
+							word );
+
+					if ( result.length == 0 )
+					{
+						result	=
+							auxiliarySpellingStandardizer.standardizeSpelling(
+								word.toLowerCase() );
+					}
 				}
 			}
 		}
@@ -1215,6 +1453,30 @@ abstract public class AbstractPartOfSpeechGuesser
 	{
 	 	Map<String, MutableInteger> result	= null;
 
+                                //	Does word contain a capital letter?
+
+		boolean hasCap	= CharUtils.hasCapitalLetter( word );
+
+								//	Does word contain an apostrophe?
+
+		boolean hasApos	= CharUtils.hasApostrophe( word );
+
+								//	Find the longest suffix whose
+								//	tags, less any proper noun and
+								//	compound tags the word may not
+								//	have, are not empty.
+
+		if ( useSuffixLexiconTrie )
+		{
+			result	= getSuffixLexiconTrie().getTagMap( word , hasCap , hasApos );
+
+			if ( result != null )
+			{
+				addCachedWord( word , result , suffixLexicon );
+			}
+
+			return result;
+		}
 								//	Get maximum and minimum
 								//	suffix lengths.
 
@@ -1225,13 +1487,6 @@ abstract public class AbstractPartOfSpeechGuesser
 								//	to perform suffix analysis.
 
 		int l	= word.length();
-                                //	Does word contain a capital letter?
-
-		boolean hasCap	= CharUtils.hasCapitalLetter( word );
-
-								//	Does word contain an apostrophe?
-
-		boolean hasApos	= CharUtils.hasApostrophe( word );
 
 								//	Check successively shorter
 								//	suffixes looking for a match
@@ -1285,8 +1540,7 @@ abstract public class AbstractPartOfSpeechGuesser
 
 				if ( ( result != null ) && ( result.size() > 0 ) )
 				{
-					addCachedWord( word , result );
-					cachedLexicons.put( word , suffixLexicon );
+					addCachedWord( word , result , suffixLexicon );
 
 					return result;
 				}
@@ -230,8 +230,12 @@ public class DefaultPartOfSpeechGuesser
 
 								//	Check for hyphenated word.
 
+		long startTime	= System.nanoTime();
+
 		result	= checkHyphenatedWord( word );
 
+		timings.record( PartOfSpeechGuesserTimings.HYPHENATED_WORD , startTime );
+
 		if ( result != null )
 		{
 			if ( debug )
@@ -252,33 +256,45 @@ public class DefaultPartOfSpeechGuesser
 								//	return the parts of speech for
 								//	the standardized spellings.
 
+		startTime	= System.nanoTime();
+
 		String[] standardSpellings	= getStandardizedSpellings( word );
 
 		if ( standardSpellings != null )
 		{
 			result	= checkStandardSpellings( word , standardSpellings );
+		}
 
-			if ( result != null )
+		timings.record
+		(
+			PartOfSpeechGuesserTimings.STANDARD_SPELLINGS ,
+			startTime
+		);
+
+		if ( result != null )
+		{
+			if ( debug )
 			{
-				if ( debug )
-				{
-					logger.logDebug
-					(
-						"guessPartsOfSpeech:   from standard spellings, " +
-						"pos=" + result
-					);
-				}
+				logger.logDebug
+				(
+					"guessPartsOfSpeech:   from standard spellings, " +
+					"pos=" + result
+				);
 			}
-
-			if ( result != null ) return result;
 		}
+
+		if ( result != null ) return result;
 								//	Standard spelling not found in
 								//	lexicon.
 
 								//	See if it is a proper name.
 
+		startTime	= System.nanoTime();
+
 		result	= checkName( word );
 
+		timings.record( PartOfSpeechGuesserTimings.NAME , startTime );
+
 		if ( result != null )
 		{
 			if ( debug )
@@ -335,8 +351,12 @@ public class DefaultPartOfSpeechGuesser
 
 		if ( suffixLexicon != null )
 		{
+			startTime	= System.nanoTime();
+
 			result	= checkSuffixes( word , standardSpellings );
 
+			timings.record( PartOfSpeechGuesserTimings.SUFFIXES , startTime );
+
 			if ( result != null )
 			{
 				if ( debug )
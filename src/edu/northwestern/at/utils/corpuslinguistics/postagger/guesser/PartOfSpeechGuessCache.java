@@ -0,0 +1,238 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger.guesser;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
+import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
+
+/**	Cache of guessed parts of speech.
+ *
+ *	<p>
+ *	Holds the parts of speech guessed for words which do not appear
+ *	in the word lexicon, together with the lexicon from which the
+ *	category counts for each guessed word should be taken.  The
+ *	lexicon is null when the word lexicon should be used, and is
+ *	the suffix lexicon for words whose parts of speech come from a
+ *	suffix analysis.  Since the parts of speech and the lexicon are
+ *	held in one entry, they are evicted together.
+ *	</p>
+ *
+ *	<p>
+ *	The cache is thread-safe, so one cache may be shared by the
+ *	part of speech guessers of several adornment threads, as long as
+ *	the guessers use the same lexicons and settings.  The cached tag
+ *	maps must not be modified.
+ *	</p>
+ *
+ *	<p>
+ *	The maximum number of cached words and the eviction policy are
+ *	taken from the "partofspeechguesser.cachesize" and
+ *	"partofspeechguesser.cachepolicy" system properties when the
+ *	cache is created with {@link #fromProperties}.
+ *	</p>
+ */
+
+public class PartOfSpeechGuessCache
+{
+	/**	Default maximum number of cached words. */
+
+	public static final int DEFAULT_CACHE_SIZE	= 50000;
+
+	/**	Cached guesses keyed by word spelling. */
+
+	protected BoundedCache<String, CachedGuess> cache;
+
+	/**	Create cache.
+	 *
+	 *	@param	cache	Cache to hold the guesses.
+	 */
+
+	public PartOfSpeechGuessCache( BoundedCache<String, CachedGuess> cache )
+	{
+		this.cache	= cache;
+	}
+
+	/**	Create cache using settings from system properties.
+	 *
+	 *	@return		The cache, or null if the cache size is zero or less.
+	 */
+
+	public static PartOfSpeechGuessCache fromProperties()
+	{
+		BoundedCache<String, CachedGuess> cache	=
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"partofspeechguesser" ,
+				DEFAULT_CACHE_SIZE
+			);
+
+		return ( cache == null ) ? null : new PartOfSpeechGuessCache( cache );
+	}
+
+	/**	Get cached guess for a word.
+	 *
+	 *	@param	word	The word.
+	 *
+	 *	@return			The cached guess, or null if none.
+	 */
+
+	public CachedGuess get( String word )
+	{
+		return cache.get( word );
+	}
+
+	/**	Cache guessed parts of speech for a word.
+	 *
+	 *	@param	word	The word.
+	 *	@param	tagMap	Tag map for the word.
+	 *	@param	lexicon	Lexicon holding the category counts for the
+	 *					word, or null for the word lexicon.
+	 */
+
+	public void put
+	(
+		String word ,
+		Map<String, MutableInteger> tagMap ,
+		Lexicon lexicon
+	)
+	{
+		cache.put( word , new CachedGuess( tagMap , lexicon ) );
+	}
+
+	/**	Get number of cached words.
+	 *
+	 *	@return		The number of cached words.
+	 */
+
+	public int size()
+	{
+		return cache.size();
+	}
+
+	/**	Get maximum number of cached words.
+	 *
+	 *	@return		The maximum number of cached words.
+	 */
+
+	public int getCapacity()
+	{
+		return cache.getCapacity();
+	}
+
+	/**	Clear the cache. */
+
+	public void clear()
+	{
+		cache.clear();
+	}
+
+	/**	Get the cache statistics.
+	 *
+	 *	@return		The hit, miss and eviction counts.
+	 */
+
+	public CacheStatistics getStatistics()
+	{
+		return cache.getStatistics();
+	}
+
+	/**	Guessed parts of speech for a word. */
+
+	public static class CachedGuess
+	{
+		/**	Tag map for the word. */
+
+		protected Map<String, MutableInteger> tagMap;
+
+		/**	Lexicon holding the category counts, or null for the
+		 *	word lexicon.
+		 */
+
+		protected Lexicon lexicon;
+
+		/**	Create cached guess.
+		 *
+		 *	@param	tagMap	Tag map for the word.
+		 *	@param	lexicon	Lexicon holding the category counts for
+		 *					the word, or null for the word lexicon.
+		 */
+
+		public CachedGuess
+		(
+			Map<String, MutableInteger> tagMap ,
+			Lexicon lexicon
+		)
+		{
+			this.tagMap		= tagMap;
+			this.lexicon	= lexicon;
+		}
+
+		/**	Get tag map.
+		 *
+		 *	@return		Tag map for the word.
+		 */
+
+		public Map<String, MutableInteger> getTagMap()
+		{
+			return tagMap;
+		}
+
+		/**	Get lexicon.
+		 *
+		 *	@return		Lexicon holding the category counts for the
+		 *				word, or null for the word lexicon.
+		 */
+
+		public Lexicon getLexicon()
+		{
+			return lexicon;
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -5,6 +5,7 @@ package edu.northwestern.at.utils.corpuslinguistics.postagger.guesser;
 import java.util.*;
 
 import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
 import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
 import edu.northwestern.at.utils.corpuslinguistics.spellingstandardizer.*;
@@ -114,6 +115,13 @@ public interface PartOfSpeechGuesser
 
 	public void setSuffixLexicon( Lexicon suffixLexicon );
 
+	/**	Set the suffix lexicon compiled into a trie.
+	 *
+	 *	@param	suffixLexiconTrie	The suffix trie.
+	 */
+
+	public void setSuffixLexiconTrie( SuffixLexiconTrie suffixLexiconTrie );
+
 	/**	Add an auxiliary word list.
 	 */
 
@@ -133,6 +141,35 @@ public interface PartOfSpeechGuesser
 	 */
 
 	public void setCheckPossessives( boolean checkPossessives );
+
+	/**	Get the guessed parts of speech cache.
+	 *
+	 *	@return		The cache, or null if caching is disabled.
+	 */
+
+	public PartOfSpeechGuessCache getGuessCache();
+
+	/**	Set the guessed parts of speech cache.
+	 *
+	 *	@param	guessCache	The cache, or null to disable caching.
+	 */
+
+	public void setGuessCache( PartOfSpeechGuessCache guessCache );
+
+	/**	Get the guessed parts of speech cache statistics.
+	 *
+	 *	@return		The cache statistics, or null if caching is
+	 *				disabled.
+	 */
+
+	public CacheStatistics getCacheStatistics();
+
+	/**	Get the timings for the expensive guesser checks.
+	 *
+	 *	@return		The check timings.
+	 */
+
+	public PartOfSpeechGuesserTimings getCheckTimings();
 }
 
 /*
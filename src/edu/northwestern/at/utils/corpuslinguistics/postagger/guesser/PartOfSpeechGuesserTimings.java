@@ -0,0 +1,195 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger.guesser;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.concurrent.atomic.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	Timings for the expensive part of speech guesser checks.
+ *
+ *	<p>
+ *	Records the number of calls and the elapsed time for the name,
+ *	standard spelling, suffix and hyphenated word checks which a
+ *	guesser tries for words not found in its cache or lexicon.
+ *	The counts are updated atomically, so the timings may be
+ *	shared by several threads.
+ *	</p>
+ */
+
+public class PartOfSpeechGuesserTimings
+{
+	/**	Name check. */
+
+	public static final int NAME				= 0;
+
+	/**	Standard spellings check. */
+
+	public static final int STANDARD_SPELLINGS	= 1;
+
+	/**	Suffix check. */
+
+	public static final int SUFFIXES			= 2;
+
+	/**	Hyphenated word check. */
+
+	public static final int HYPHENATED_WORD		= 3;
+
+	/**	Check names for output. */
+
+	protected static final String[] checkNames	=
+		new String[]
+		{
+			"name" ,
+			"standard spellings" ,
+			"suffixes" ,
+			"hyphenated word"
+		};
+
+	/**	Number of calls to each check. */
+
+	protected AtomicLongArray calls	=
+		new AtomicLongArray( checkNames.length );
+
+	/**	Total elapsed time of each check in nanoseconds. */
+
+	protected AtomicLongArray nanos	=
+		new AtomicLongArray( checkNames.length );
+
+	/**	Create timings. */
+
+	public PartOfSpeechGuesserTimings()
+	{
+	}
+
+	/**	Record a call to a check.
+	 *
+	 *	@param	check		The check, e.g., {@link #SUFFIXES}.
+	 *	@param	startTime	System.nanoTime() when the check started.
+	 */
+
+	public void record( int check , long startTime )
+	{
+		calls.incrementAndGet( check );
+		nanos.addAndGet( check , System.nanoTime() - startTime );
+	}
+
+	/**	Get number of calls to a check.
+	 *
+	 *	@param	check	The check.
+	 *
+	 *	@return			The number of calls.
+	 */
+
+	public long getCalls( int check )
+	{
+		return calls.get( check );
+	}
+
+	/**	Get total elapsed time of a check.
+	 *
+	 *	@param	check	The check.
+	 *
+	 *	@return			The total elapsed time in nanoseconds.
+	 */
+
+	public long getNanos( int check )
+	{
+		return nanos.get( check );
+	}
+
+	/**	Reset the timings. */
+
+	public void reset()
+	{
+		for ( int i = 0 ; i < checkNames.length ; i++ )
+		{
+			calls.set( i , 0 );
+			nanos.set( i , 0 );
+		}
+	}
+
+	/**	Return the timings as a string.
+	 *
+	 *	@return		The calls, total milliseconds and mean microseconds
+	 *				for each check.
+	 */
+
+	public String toString()
+	{
+		StringBuffer result	= new StringBuffer();
+
+		for ( int i = 0 ; i < checkNames.length ; i++ )
+		{
+			long nCalls	= calls.get( i );
+			long nNanos	= nanos.get( i );
+
+			if ( i > 0 ) result.append( "; " );
+
+			result.append( checkNames[ i ] );
+			result.append( ": calls=" );
+			result.append( nCalls );
+			result.append( ", time=" );
+			result.append
+			(
+				Formatters.formatDouble( nNanos / 1000000.0D , 1 )
+			);
+			result.append( " ms, mean=" );
+			result.append
+			(
+				Formatters.formatDouble
+				(
+					( nCalls == 0 ) ? 0.0D : nNanos / ( nCalls * 1000.0D ) ,
+					1
+				)
+			);
+			result.append( " us" );
+		}
+
+		return result.toString();
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
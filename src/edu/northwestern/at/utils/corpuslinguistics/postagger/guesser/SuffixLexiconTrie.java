@@ -0,0 +1,548 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger.guesser;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
+import edu.northwestern.at.utils.corpuslinguistics.partsofspeech.*;
+
+/**	Suffix lexicon compiled into a trie of reversed suffixes.
+ *
+ *	<p>
+ *	Each suffix in the suffix lexicon is stored in a trie keyed by
+ *	its characters from last to first.  Walking a word from its last
+ *	character down the trie therefore finds the matching suffixes
+ *	in one pass, without extracting a substring or looking up each
+ *	possible suffix in the lexicon.  A suffix of the word matches an
+ *	entry as in {@link AbstractLexicon#getLexiconEntry}: the suffix
+ *	itself is tried first, then the suffix with only its first
+ *	letter capitalized if all its letters are capitals, and then
+ *	the lower case suffix.  Three paths through the trie are
+ *	followed at once to do this.
+ *	</p>
+ *
+ *	<p>
+ *	The part of speech guesser only allows proper noun and proper
+ *	adjective tags for words containing a capital letter, and only
+ *	allows compound tags for words containing an apostrophe.
+ *	Each trie node holds the category counts of its suffix with
+ *	these tags removed for each of the four combinations.  The
+ *	longest matching suffix with any tags left is used, as the
+ *	guesser would try the next shorter suffix when the filtered
+ *	counts of a suffix are empty.
+ *	</p>
+ *
+ *	<p>
+ *	The trie is built from the suffix lexicon on first use, so
+ *	creating it costs nothing until a suffix is looked up.  The trie
+ *	does not change once built and may be shared by several threads.
+ *	The tag maps it returns must not be modified.  The trie must be
+ *	created again if the suffix lexicon changes.
+ *	</p>
+ */
+
+public class SuffixLexiconTrie
+{
+	/**	Tag map index flag for words containing a capital letter. */
+
+	protected static final int CAPITAL		= 1;
+
+	/**	Tag map index flag for words containing an apostrophe. */
+
+	protected static final int APOSTROPHE	= 2;
+
+	/**	The suffix lexicon. */
+
+	protected Lexicon suffixLexicon;
+
+	/**	Part of speech tags used to find proper and compound tags. */
+
+	protected PartOfSpeechTags partOfSpeechTags;
+
+	/**	Root of the trie, or null until the trie is built. */
+
+	protected volatile Node root	= null;
+
+	/**	Number of suffixes in the trie. */
+
+	protected int suffixCount	= 0;
+
+	/**	Create suffix trie.
+	 *
+	 *	@param	suffixLexicon		The suffix lexicon.
+	 *	@param	partOfSpeechTags	Part of speech tags used to find
+	 *								proper noun, proper adjective and
+	 *								compound tags.
+	 */
+
+	public SuffixLexiconTrie
+	(
+		Lexicon suffixLexicon ,
+		PartOfSpeechTags partOfSpeechTags
+	)
+	{
+		this.suffixLexicon		= suffixLexicon;
+		this.partOfSpeechTags	= partOfSpeechTags;
+	}
+
+	/**	Get the root of the trie.
+	 *
+	 *	@return		The root node.  The trie is built if it
+	 *				has not been built yet.
+	 */
+
+	protected Node getRoot()
+	{
+		Node result	= root;
+
+		if ( result == null )
+		{
+			synchronized( this )
+			{
+				result	= root;
+
+				if ( result == null )
+				{
+					result	= buildTrie();
+					root	= result;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**	Build the trie from the suffix lexicon.
+	 *
+	 *	@return		The root node.
+	 */
+
+	protected Node buildTrie()
+	{
+		Node result	= new Node();
+
+		suffixCount	= 0;
+
+								//	Add each suffix at the node for
+								//	its reversed characters.
+
+		String[] suffixes	= suffixLexicon.getEntries();
+
+		for ( int i = 0 ; i < suffixes.length ; i++ )
+		{
+			String suffix	= suffixes[ i ];
+
+			Node node	= result;
+
+			for ( int j = suffix.length() - 1 ; j >= 0 ; j-- )
+			{
+				node	= node.addChild( suffix.charAt( j ) );
+			}
+								//	Suffixes with a zero count
+								//	match but have no tags.
+
+			node.tagMaps	=
+				getFilteredTagMaps
+				(
+					( suffixLexicon.getEntryCount( suffix ) > 0 ) ?
+						suffixLexicon.getCategoryCountsForEntry( suffix ) :
+						null
+				);
+
+			suffixCount++;
+		}
+
+		return result;
+	}
+
+	/**	Get the suffix lexicon.
+	 *
+	 *	@return		The suffix lexicon.
+	 */
+
+	public Lexicon getSuffixLexicon()
+	{
+		return suffixLexicon;
+	}
+
+	/**	Get the part of speech tags.
+	 *
+	 *	@return		The part of speech tags.
+	 */
+
+	public PartOfSpeechTags getPartOfSpeechTags()
+	{
+		return partOfSpeechTags;
+	}
+
+	/**	Get number of suffixes in the trie.
+	 *
+	 *	@return		The number of suffixes.
+	 */
+
+	public int getSuffixCount()
+	{
+		getRoot();
+
+		return suffixCount;
+	}
+
+	/**	Get category counts for the longest suffix of a word.
+	 *
+	 *	@param	word			The word.
+	 *	@param	hasCapital		True if the word contains a capital
+	 *							letter.  Otherwise proper noun and
+	 *							proper adjective tags are removed.
+	 *	@param	hasApostrophe	True if the word contains an apostrophe.
+	 *							Otherwise compound tags are removed.
+	 *
+	 *	@return					The category counts for the longest
+	 *							suffix of the word with at least one
+	 *							tag left after removing tags, or null
+	 *							if none.  Must not be modified.
+	 */
+
+	public Map<String, MutableInteger> getTagMap
+	(
+		String word ,
+		boolean hasCapital ,
+		boolean hasApostrophe
+	)
+	{
+		int tagMapIndex	=
+			( hasCapital ? CAPITAL : 0 ) |
+			( hasApostrophe ? APOSTROPHE : 0 );
+
+		Node rootNode	= getRoot();
+
+								//	Tags for the empty suffix,
+								//	if any.
+
+		Map<String, MutableInteger> result	=
+			getTagMap( rootNode , null , null , tagMapIndex );
+
+								//	Nodes for the suffix as is,
+								//	the suffix with its first letter
+								//	capitalized, and the lower
+								//	case suffix.
+		Node node			= rootNode;
+		Node capitalNode	= null;
+		Node lowerCaseNode	= rootNode;
+
+								//	True if the suffix contains a
+								//	letter and all its letters are
+								//	capitals.
+
+		boolean hasLetter		= false;
+		boolean allCapitals		= true;
+
+		for ( int i = word.length() - 1 ; i >= 0 ; i-- )
+		{
+			char ch			= word.charAt( i );
+			char lowerCh	= Character.toLowerCase( ch );
+
+			if ( Character.isLetter( ch ) )
+			{
+				hasLetter	= true;
+				allCapitals	= allCapitals && Character.isUpperCase( ch );
+
+								//	This letter is now the first
+								//	letter of the suffix.
+				capitalNode	=
+					( lowerCaseNode == null ) ? null :
+						lowerCaseNode.getChild(
+							Character.toUpperCase( lowerCh ) );
+			}
+			else if ( capitalNode != null )
+			{
+				capitalNode	= capitalNode.getChild( lowerCh );
+			}
+
+			node			=
+				( node == null ) ? null : node.getChild( ch );
+
+			lowerCaseNode	=
+				( lowerCaseNode == null ) ? null :
+					lowerCaseNode.getChild( lowerCh );
+
+			if	(	( node == null ) &&
+					( capitalNode == null ) &&
+					( lowerCaseNode == null )
+				)
+			{
+				break;
+			}
+								//	Use the tags for the longer
+								//	suffix if there are any.
+
+			Map<String, MutableInteger> tagMap	=
+				getTagMap
+				(
+					node ,
+					( hasLetter && allCapitals ) ? capitalNode : null ,
+					lowerCaseNode ,
+					tagMapIndex
+				);
+
+			if ( tagMap != null )
+			{
+				result	= tagMap;
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get category counts for the first matching suffix.
+	 *
+	 *	@param	node			Node for the suffix as is, or null.
+	 *	@param	capitalNode		Node for the capitalized suffix, or null.
+	 *	@param	lowerCaseNode	Node for the lower case suffix, or null.
+	 *	@param	tagMapIndex		Tag map index for the word.
+	 *
+	 *	@return					Category counts for the first of
+	 *							the nodes which holds a suffix,
+	 *							or null if none or the suffix has
+	 *							no tags left for the word.
+	 */
+
+	protected Map<String, MutableInteger> getTagMap
+	(
+		Node node ,
+		Node capitalNode ,
+		Node lowerCaseNode ,
+		int tagMapIndex
+	)
+	{
+		Map<String, MutableInteger>[] tagMaps	= null;
+
+		if ( ( node != null ) && ( node.tagMaps != null ) )
+		{
+			tagMaps	= node.tagMaps;
+		}
+		else if ( ( capitalNode != null ) && ( capitalNode.tagMaps != null ) )
+		{
+			tagMaps	= capitalNode.tagMaps;
+		}
+		else if	(	( lowerCaseNode != null ) &&
+					( lowerCaseNode.tagMaps != null )
+				)
+		{
+			tagMaps	= lowerCaseNode.tagMaps;
+		}
+
+		return ( tagMaps == null ) ? null : tagMaps[ tagMapIndex ];
+	}
+
+	/**	Get filtered copies of the category counts for a suffix.
+	 *
+	 *	@param	tagMap	The category counts for the suffix, or null
+	 *					if none.
+	 *
+	 *	@return			Array of the category counts with proper and
+	 *					compound tags removed, indexed by the
+	 *					{@link #CAPITAL} and {@link #APOSTROPHE}
+	 *					flags of words allowed to keep those tags.
+	 *					Entries with no tags left are null.
+	 */
+
+	@SuppressWarnings("unchecked")
+	protected Map<String, MutableInteger>[] getFilteredTagMaps
+	(
+		Map<String, MutableInteger> tagMap
+	)
+	{
+		Map<String, MutableInteger>[] result	=
+			(Map<String, MutableInteger>[])new Map<?, ?>[ 4 ];
+
+		if ( tagMap == null ) return result;
+
+		for ( int i = result.length - 1 ; i >= 0 ; i-- )
+		{
+			Map<String, MutableInteger> filteredMap	= cloneTagMap( tagMap );
+
+			Iterator<String> iterator	= filteredMap.keySet().iterator();
+
+			while ( iterator.hasNext() )
+			{
+				String tag	= iterator.next();
+
+				if	(	(	( ( i & CAPITAL ) == 0 ) &&
+							(	partOfSpeechTags.isProperNounTag( tag ) ||
+								partOfSpeechTags.isProperAdjectiveTag( tag )
+							)
+						) ||
+						(	( ( i & APOSTROPHE ) == 0 ) &&
+							partOfSpeechTags.isCompoundTag( tag )
+						)
+					)
+				{
+					iterator.remove();
+				}
+			}
+								//	Share maps from which no
+								//	tags were removed with the
+								//	unfiltered map, which comes
+								//	first.
+
+			if ( filteredMap.size() == 0 )
+			{
+				filteredMap	= null;
+			}
+			else if ( filteredMap.size() == tagMap.size() )
+			{
+				if ( i < ( result.length - 1 ) )
+				{
+					filteredMap	= result[ result.length - 1 ];
+				}
+			}
+
+			result[ i ]	= filteredMap;
+		}
+
+		return result;
+	}
+
+	/**	Copy category counts.
+	 *
+	 *	@param	tagMap	The category counts.
+	 *
+	 *	@return			Copy of the category counts.
+	 */
+
+	protected static Map<String, MutableInteger> cloneTagMap
+	(
+		Map<String, MutableInteger> tagMap
+	)
+	{
+		Map<String, MutableInteger> result	=
+			MapFactory.createNewMap( tagMap.size() );
+
+		for ( String tag: tagMap.keySet() )
+		{
+			result.put
+			(
+				tag ,
+				new MutableInteger( tagMap.get( tag ).intValue() )
+			);
+		}
+
+		return result;
+	}
+
+	/**	A trie node. */
+
+	protected static class Node
+	{
+		/**	Child node characters, sorted. */
+
+		protected char[] childChars	= new char[ 0 ];
+
+		/**	Child nodes. */
+
+		protected Node[] children	= new Node[ 0 ];
+
+		/**	Filtered category counts, indexed by the capital and
+		 *	apostrophe flags.  Null if no suffix ends at this node.
+		 */
+
+		protected Map<String, MutableInteger>[] tagMaps;
+
+		/**	Get child node.
+		 *
+		 *	@param	ch	The child node character.
+		 *
+		 *	@return		The child node, or null if none.
+		 */
+
+		protected Node getChild( char ch )
+		{
+			int i	= Arrays.binarySearch( childChars , ch );
+
+			return ( i >= 0 ) ? children[ i ] : null;
+		}
+
+		/**	Get or add child node.
+		 *
+		 *	@param	ch	The child node character.
+		 *
+		 *	@return		The child node.
+		 */
+
+		protected Node addChild( char ch )
+		{
+			int i	= Arrays.binarySearch( childChars , ch );
+
+			if ( i >= 0 ) return children[ i ];
+
+			i	= -( i + 1 );
+
+			Node result	= new Node();
+
+			char[] newChars		= new char[ childChars.length + 1 ];
+			Node[] newChildren	= new Node[ children.length + 1 ];
+
+			System.arraycopy( childChars , 0 , newChars , 0 , i );
+			System.arraycopy( children , 0 , newChildren , 0 , i );
+
+			newChars[ i ]		= ch;
+			newChildren[ i ]	= result;
+
+			System.arraycopy( childChars , i , newChars , i + 1 ,
+				childChars.length - i );
+			System.arraycopy( children , i , newChildren , i + 1 ,
+				children.length - i );
+
+			childChars	= newChars;
+			children	= newChildren;
+
+			return result;
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,959 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger.hepple;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	Compiled, indexed form of the Hepple tagger context rules.
+ *
+ *	<p>
+ *	Each tag and word appearing in the rules is interned to an
+ *	integer id.  Each rule of a standard type (PREVTAG, WDNEXTTAG,
+ *	and so on) is stored in an open-addressed hash table under a
+ *	single long key computed from its "from" and "to" tags, its
+ *	trigger type, and the ids of its trigger values.  Only the
+ *	first rule with a given key is kept, since a later rule with
+ *	the same key can never fire.
+ *	</p>
+ *
+ *	<p>
+ *	A rule can fire only when its "to" tag is one of the lexicon
+ *	tags for the word being tagged.  So to tag the word in the
+ *	middle of a {@link HeppleTaggingWindow}, the table is probed
+ *	once for each trigger type used by the rules from the word's
+ *	most common lexicon tag to each of its lexicon tags (once for
+ *	each window position for the "1OR2" and "1OR2OR3" types).  The
+ *	earliest rule found fires, exactly as when the rules are tried
+ *	one by one.
+ *	</p>
+ *
+ *	<p>
+ *	Rules created from classes other than the standard
+ *	<code>Rule_*</code> classes, and rules with too few context
+ *	values, are not compiled.  They are evaluated in their original
+ *	order by calling {@link Rule#apply}, after copying the window
+ *	into the tagger's linear buffers.  UNKNOWN rules never fire and
+ *	are dropped.
+ *	</p>
+ *
+ *	<p>
+ *	Compiled rules are never modified after they are created and
+ *	may be shared freely across threads.
+ *	</p>
+ */
+
+public class CompiledHeppleRules
+{
+	/**	Names of the compiled trigger types. */
+
+	protected static final String[] triggerNames	=
+		new String[]
+		{
+			"UNRESTRICTED" ,
+			"CURWD" ,
+			"PREVWD" ,
+			"NEXTWD" ,
+			"PREV2WD" ,
+			"NEXT2WD" ,
+			"PREV1OR2WD" ,
+			"NEXT1OR2WD" ,
+			"LBIGRAM" ,
+			"RBIGRAM" ,
+			"WDAND2BFR" ,
+			"WDAND2AFT" ,
+			"PREVTAG" ,
+			"NEXTTAG" ,
+			"PREV2TAG" ,
+			"NEXT2TAG" ,
+			"PREV1OR2TAG" ,
+			"NEXT1OR2TAG" ,
+			"PREV1OR2OR3TAG" ,
+			"NEXT1OR2OR3TAG" ,
+			"PREVBIGRAM" ,
+			"NEXTBIGRAM" ,
+			"SURROUNDTAG" ,
+			"WDPREVTAG" ,
+			"WDNEXTTAG" ,
+			"WDAND2TAGBFR" ,
+			"WDAND2TAGAFT"
+		};
+
+	/**	Window positions tested by each trigger type.
+	 *
+	 *	<p>
+	 *	For a conjunctive trigger type, context value i must match
+	 *	the window position i.  For a disjunctive trigger type,
+	 *	context value 0 must match any one of the positions.
+	 *	</p>
+	 */
+
+	protected static final int[][] triggerPositions	=
+		new int[][]
+		{
+			{ } ,
+			{ 3 } ,
+			{ 2 } ,
+			{ 4 } ,
+			{ 1 } ,
+			{ 5 } ,
+			{ 1 , 2 } ,
+			{ 4 , 5 } ,
+			{ 2 , 3 } ,
+			{ 3 , 4 } ,
+			{ 1 , 3 } ,
+			{ 3 , 5 } ,
+			{ 2 } ,
+			{ 4 } ,
+			{ 1 } ,
+			{ 5 } ,
+			{ 1 , 2 } ,
+			{ 4 , 5 } ,
+			{ 0 , 1 , 2 } ,
+			{ 4 , 5 , 6 } ,
+			{ 1 , 2 } ,
+			{ 4 , 5 } ,
+			{ 2 , 4 } ,
+			{ 2 , 3 } ,
+			{ 3 , 4 } ,
+			{ 1 , 3 } ,
+			{ 3 , 5 }
+		};
+
+	/**	True for each position of a trigger type which tests
+	 *	the spelling, false for each which tests the most common
+	 *	lexicon tag.
+	 */
+
+	protected static final boolean[][] triggerTestsWord	=
+		new boolean[][]
+		{
+			{ } ,
+			{ true } ,
+			{ true } ,
+			{ true } ,
+			{ true } ,
+			{ true } ,
+			{ true , true } ,
+			{ true , true } ,
+			{ true , true } ,
+			{ true , true } ,
+			{ true , true } ,
+			{ true , true } ,
+			{ false } ,
+			{ false } ,
+			{ false } ,
+			{ false } ,
+			{ false , false } ,
+			{ false , false } ,
+			{ false , false , false } ,
+			{ false , false , false } ,
+			{ false , false } ,
+			{ false , false } ,
+			{ false , false } ,
+			{ false , true } ,
+			{ true , false } ,
+			{ false , true } ,
+			{ true , false }
+		};
+
+	/**	True for trigger types which match one context value
+	 *	against any of their positions.
+	 */
+
+	protected static final boolean[] triggerIsDisjunctive	=
+		new boolean[]
+		{
+			false , false , false , false , false , false ,
+			true , true ,
+			false , false , false , false ,
+			false , false , false , false ,
+			true , true , true , true ,
+			false , false , false , false , false , false , false
+		};
+
+	/**	Map from trigger name to trigger type. */
+
+	protected static final Map<String, Integer> triggerTypes	=
+		MapFactory.createNewMap();
+
+	static
+	{
+		for ( int i = 0 ; i < triggerNames.length ; i++ )
+		{
+			triggerTypes.put( triggerNames[ i ] , i );
+		}
+	}
+
+	/**	Name of the rule which never fires. */
+
+	protected static final String unknownRuleId	= "UNKNOWN";
+
+	/**	Class name prefix of the standard rules. */
+
+	protected static final String ruleClassPrefix	=
+		ClassUtils.packageName( HeppleTagger.class.getName() ) +
+		".rules.Rule_";
+
+	/**	Empty slot marker in rule key table. */
+
+	protected static final long EMPTY_KEY	= -1L;
+
+	/**	Maximum rule key table load factor. */
+
+	protected static final double MAX_LOAD_FACTOR	= 0.75D;
+
+	/**	Map from tag or word to id. */
+
+	protected final Map<String, Integer> ids	= MapFactory.createNewMap();
+
+	/**	Number of ids. */
+
+	protected final int idCount;
+
+	/**	Rules, grouped by "from" tag, each group in original order. */
+
+	protected final Rule[] rules;
+
+	/**	Sorted ids of the "to" tags of the compiled rules for each
+	 *	"from" tag, by "from" tag id.  Null if a tag has no
+	 *	compiled rules.
+	 */
+
+	protected final int[][] toTagIdsByFromTag;
+
+	/**	Tag pair index for each "to" tag,
+	 *	parallel to toTagIdsByFromTag.
+	 */
+
+	protected final int[][] tagPairsByFromTag;
+
+	/**	Trigger types used by the compiled rules for each
+	 *	"from" tag and "to" tag pair, by tag pair index, in order
+	 *	of the first rule of each type.
+	 */
+
+	protected final int[][] triggerTypesByTagPair;
+
+	/**	Index of the first rule of each trigger type,
+	 *	parallel to triggerTypesByTagPair.
+	 */
+
+	protected final int[][] firstRulesByTagPair;
+
+	/**	Indices of the uncompiled rules for each "from" tag,
+	 *	by "from" tag id.  Null if a tag has no uncompiled rules.
+	 */
+
+	protected final int[][] uncompiledRulesByFromTag;
+
+	/**	Rule key table keys.  Empty slots hold EMPTY_KEY. */
+
+	protected final long[] ruleKeys;
+
+	/**	Index of the first rule stored under each key,
+	 *	parallel to ruleKeys.
+	 */
+
+	protected final int[] ruleIndices;
+
+	/**	Rule key table mask (table size - 1). */
+
+	protected final int ruleMask;
+
+	/**	Number of compiled rules. */
+
+	protected final int compiledRuleCount;
+
+	/**	Compile rules.
+	 *
+	 *	@param	rulesByFromTag	Map from "from" tag to the list of
+	 *							rules for that tag in order.
+	 *
+	 *	@throws	IllegalArgumentException	if the rules use too many
+	 *										distinct tags and words to
+	 *										be compiled.
+	 */
+
+	public CompiledHeppleRules( Map<String, List<Rule>> rulesByFromTag )
+	{
+								//	Collect rules grouped by "from"
+								//	tag, and intern the tags and
+								//	words they use.
+
+		List<Rule> ruleList	= ListFactory.createNewList();
+
+		Iterator<String> iterator	= rulesByFromTag.keySet().iterator();
+
+		while ( iterator.hasNext() )
+		{
+			String fromTag	= iterator.next();
+
+			intern( fromTag );
+
+			List<Rule> fromTagRules	= rulesByFromTag.get( fromTag );
+
+			for ( int i = 0 ; i < fromTagRules.size() ; i++ )
+			{
+				Rule rule	= fromTagRules.get( i );
+
+				ruleList.add( rule );
+
+				if ( getTriggerType( rule ) >= 0 )
+				{
+					intern( rule.to );
+
+					for ( int j = 0 ; j < rule.context.length ; j++ )
+					{
+						intern( rule.context[ j ] );
+					}
+				}
+			}
+		}
+
+		idCount						= ids.size();
+		rules						=
+			ruleList.toArray( new Rule[ ruleList.size() ] );
+
+		toTagIdsByFromTag			= new int[ idCount ][];
+		tagPairsByFromTag			= new int[ idCount ][];
+		uncompiledRulesByFromTag	= new int[ idCount ][];
+
+								//	Find the first rule for each key,
+								//	and record the trigger types used
+								//	for each "from" and "to" tag pair
+								//	and the uncompiled rules for each
+								//	"from" tag.
+
+		Map<Long, Integer> firstRuleByKey	= MapFactory.createNewMap();
+
+		List<Set<Integer>> pairTriggerTypes	= ListFactory.createNewList();
+		List<List<Integer>> pairFirstRules	= ListFactory.createNewList();
+
+		int compiled	= 0;
+		int ruleIndex	= 0;
+
+		while ( ruleIndex < rules.length )
+		{
+			int fromTagId	= getId( rules[ ruleIndex ].from );
+
+			Map<Integer, Integer> pairsByToTag	=
+				new TreeMap<Integer, Integer>();
+
+			List<Integer> uncompiled	= ListFactory.createNewList();
+
+			while	(	( ruleIndex < rules.length ) &&
+						( getId( rules[ ruleIndex ].from ) == fromTagId )
+					)
+			{
+				Rule rule			= rules[ ruleIndex ];
+				int triggerType		= getTriggerType( rule );
+
+				if ( triggerType >= 0 )
+				{
+					int toTagId		= getId( rule.to );
+					Integer pair	= pairsByToTag.get( toTagId );
+
+					if ( pair == null )
+					{
+						pair	= pairTriggerTypes.size();
+
+						pairsByToTag.put( toTagId , pair );
+						pairTriggerTypes.add( new LinkedHashSet<Integer>() );
+						pairFirstRules.add( new ArrayList<Integer>() );
+					}
+
+					if ( pairTriggerTypes.get( pair ).add( triggerType ) )
+					{
+						pairFirstRules.get( pair ).add( ruleIndex );
+					}
+
+					checkKeyRange( pairTriggerTypes.size() );
+
+					long key	=
+						ruleKey
+						(
+							pair ,
+							triggerType ,
+							getValueId( rule , triggerType , 0 ) ,
+							getValueId( rule , triggerType , 1 )
+						);
+
+					if ( !firstRuleByKey.containsKey( key ) )
+					{
+						firstRuleByKey.put( key , ruleIndex );
+					}
+
+					compiled++;
+				}
+				else if ( !unknownRuleId.equals( rule.ruleId ) ||
+					!isStandardRule( rule ) )
+				{
+					uncompiled.add( ruleIndex );
+				}
+
+				ruleIndex++;
+			}
+
+			if ( pairsByToTag.size() > 0 )
+			{
+				toTagIdsByFromTag[ fromTagId ]	=
+					toIntArray( pairsByToTag.keySet() );
+
+				tagPairsByFromTag[ fromTagId ]	=
+					toIntArray( pairsByToTag.values() );
+			}
+
+			if ( uncompiled.size() > 0 )
+			{
+				uncompiledRulesByFromTag[ fromTagId ]	=
+					toIntArray( uncompiled );
+			}
+		}
+
+		compiledRuleCount		= compiled;
+
+		triggerTypesByTagPair	= new int[ pairTriggerTypes.size() ][];
+		firstRulesByTagPair		= new int[ pairTriggerTypes.size() ][];
+
+		for ( int i = 0 ; i < pairTriggerTypes.size() ; i++ )
+		{
+			triggerTypesByTagPair[ i ]	= toIntArray( pairTriggerTypes.get( i ) );
+			firstRulesByTagPair[ i ]	= toIntArray( pairFirstRules.get( i ) );
+		}
+								//	Size the key table to a power
+								//	of two which keeps the load factor
+								//	below the maximum.
+
+		int tableSize	= 16;
+
+		while ( tableSize * MAX_LOAD_FACTOR <= firstRuleByKey.size() )
+		{
+			tableSize	<<= 1;
+		}
+
+		ruleMask	= tableSize - 1;
+		ruleKeys	= new long[ tableSize ];
+		ruleIndices	= new int[ tableSize ];
+
+		Arrays.fill( ruleKeys , EMPTY_KEY );
+
+		Iterator<Long> keyIterator	= firstRuleByKey.keySet().iterator();
+
+		while ( keyIterator.hasNext() )
+		{
+			long key	= keyIterator.next();
+			int slot	= findSlot( key );
+
+			ruleKeys[ slot ]	= key;
+			ruleIndices[ slot ]	= firstRuleByKey.get( key );
+		}
+	}
+
+	/**	Intern a tag or word.
+	 *
+	 *	@param	s	The tag or word.
+	 */
+
+	protected void intern( String s )
+	{
+		if ( !ids.containsKey( s ) )
+		{
+			ids.put( s , ids.size() );
+		}
+	}
+
+	/**	Get id of a tag or word.
+	 *
+	 *	@param	s	The tag or word.
+	 *
+	 *	@return		The id, or -1 if the tag or word does not
+	 *				appear in any compiled rule.
+	 */
+
+	public int getId( String s )
+	{
+		Integer result	= ids.get( s );
+
+		return ( result == null ) ? -1 : result.intValue();
+	}
+
+	/**	Get compiled trigger type for a rule.
+	 *
+	 *	@param	rule	The rule.
+	 *
+	 *	@return			The trigger type, or -1 if the rule
+	 *					cannot be compiled.
+	 */
+
+	protected static int getTriggerType( Rule rule )
+	{
+		Integer result	= triggerTypes.get( rule.ruleId );
+
+		if ( ( result == null ) || !isStandardRule( rule ) ) return -1;
+
+		int triggerType	= result.intValue();
+
+		return ( rule.context.length < getValueCount( triggerType ) ) ?
+			-1 : triggerType;
+	}
+
+	/**	Get number of context values used by a trigger type.
+	 *
+	 *	@param	triggerType		The trigger type.
+	 *
+	 *	@return					The number of context values.
+	 */
+
+	protected static int getValueCount( int triggerType )
+	{
+		return triggerIsDisjunctive[ triggerType ] ? 1 :
+			triggerPositions[ triggerType ].length;
+	}
+
+	/**	See if a rule is an instance of the standard class
+	 *	for its rule id.
+	 *
+	 *	@param	rule	The rule.
+	 *
+	 *	@return			True if the rule is a standard rule.
+	 */
+
+	protected static boolean isStandardRule( Rule rule )
+	{
+		return rule.getClass().getName().equals(
+			ruleClassPrefix + rule.ruleId );
+	}
+
+	/**	Get id of a rule's trigger value.
+	 *
+	 *	@param	rule			The rule.
+	 *	@param	triggerType		The rule's trigger type.
+	 *	@param	valueIndex		The value index, 0 or 1.
+	 *
+	 *	@return					The id of the context value,
+	 *							or -1 if the trigger type has no
+	 *							such value.
+	 *
+	 *	<p>
+	 *	A rule with a disjunctive trigger type is stored under
+	 *	the key for its single value, and the table is probed
+	 *	once for each of the trigger type's positions.
+	 *	</p>
+	 */
+
+	protected int getValueId
+	(
+		Rule rule ,
+		int triggerType ,
+		int valueIndex
+	)
+	{
+		return ( valueIndex < getValueCount( triggerType ) ) ?
+			getId( rule.context[ valueIndex ] ) : -1;
+	}
+
+	/**	Check that rule keys can be computed without overflow.
+	 *
+	 *	@param	pairCount	Number of tag pairs.
+	 *
+	 *	@throws	IllegalArgumentException	if the keys would overflow.
+	 */
+
+	protected void checkKeyRange( int pairCount )
+	{
+		double idRange	= idCount + 1;
+
+		if	(	(double)pairCount * triggerNames.length *
+				idRange * idRange >= Long.MAX_VALUE
+			)
+		{
+			throw new IllegalArgumentException
+			(
+				"Too many distinct tags and words to compile rules."
+			);
+		}
+	}
+
+	/**	Compute rule key.
+	 *
+	 *	@param	tagPair			"From" and "to" tag pair index.
+	 *	@param	triggerType		Trigger type.
+	 *	@param	valueId1		First trigger value id, or -1 if none.
+	 *	@param	valueId2		Second trigger value id, or -1 if none.
+	 *
+	 *	@return					The rule key.
+	 */
+
+	protected long ruleKey
+	(
+		int tagPair ,
+		int triggerType ,
+		int valueId1 ,
+		int valueId2
+	)
+	{
+		long idRange	= idCount + 1;
+
+		return
+			(	( (long)tagPair * triggerNames.length + triggerType ) *
+				idRange + ( valueId1 + 1 )
+			) * idRange + ( valueId2 + 1 );
+	}
+
+	/**	Find table slot for rule key.
+	 *
+	 *	@param	key		The rule key.
+	 *
+	 *	@return			Slot holding key, or empty slot at which
+	 *					key would be stored.
+	 */
+
+	protected int findSlot( long key )
+	{
+								//	Mix all the key bits, since keys
+								//	differ mostly in their low bits.
+
+		long hash	= ( key ^ ( key >>> 33 ) ) * 0xFF51AFD7ED558CCDL;
+
+		hash		= ( hash ^ ( hash >>> 33 ) ) * 0xC4CEB9FE1A85EC53L;
+
+		int slot	= (int)( hash ^ ( hash >>> 33 ) ) & ruleMask;
+
+		while	(	( ruleKeys[ slot ] != EMPTY_KEY ) &&
+					( ruleKeys[ slot ] != key )
+				)
+		{
+			slot	= ( slot + 1 ) & ruleMask;
+		}
+
+		return slot;
+	}
+
+	/**	Find first rule stored under a key.
+	 *
+	 *	@param	tagPair			"From" and "to" tag pair index.
+	 *	@param	triggerType		Trigger type.
+	 *	@param	valueId1		First trigger value id, or -1 if none.
+	 *	@param	valueId2		Second trigger value id, or -1 if none.
+	 *	@param	best			Index of the first firing rule
+	 *							found so far.
+	 *
+	 *	@return					Index of the first rule stored under
+	 *							the key if it precedes best, else best.
+	 */
+
+	protected int findRule
+	(
+		int tagPair ,
+		int triggerType ,
+		int valueId1 ,
+		int valueId2 ,
+		int best
+	)
+	{
+		long key	= ruleKey( tagPair , triggerType , valueId1 , valueId2 );
+		int slot	= findSlot( key );
+
+		return	( ( ruleKeys[ slot ] == key ) && ( ruleIndices[ slot ] < best ) ) ?
+			ruleIndices[ slot ] : best;
+	}
+
+	/**	Apply the first matching rule to the word being tagged.
+	 *
+	 *	@param	window	The tagging window.
+	 *	@param	tagger	The tagger, whose linear buffers are
+	 *					used to evaluate uncompiled rules.
+	 *
+	 *	@return			True if a rule fired.
+	 *
+	 *	<p>
+	 *	When a rule fires, the tag of the word at the center
+	 *	of the window is replaced by the rule's "to" tag and the
+	 *	tagger's rule correction count is incremented.
+	 *	</p>
+	 */
+
+	public boolean apply( HeppleTaggingWindow window , HeppleTagger tagger )
+	{
+		int fromTagId	= window.getLexTagId( HeppleTaggingWindow.CENTER );
+
+		if ( fromTagId < 0 ) return false;
+
+		int best			= rules.length;
+		int[] toTagIds		= toTagIdsByFromTag[ fromTagId ];
+
+		if ( toTagIds != null )
+		{
+			String[] lexTags	=
+				window.getLexTags( HeppleTaggingWindow.CENTER );
+
+								//	Only rules whose "to" tag is one
+								//	of the word's lexicon tags can fire.
+
+			for ( int i = 0 ; i < lexTags.length ; i++ )
+			{
+				int toTagId	= ( i == 0 ) ? fromTagId : getId( lexTags[ i ] );
+				int k		= Arrays.binarySearch( toTagIds , toTagId );
+
+				if ( ( toTagId >= 0 ) && ( k >= 0 ) )
+				{
+					best	=
+						findFirstRule
+						(
+							window ,
+							tagPairsByFromTag[ fromTagId ][ k ] ,
+							best
+						);
+				}
+			}
+		}
+								//	Try uncompiled rules which precede
+								//	the first firing compiled rule.
+
+		int[] uncompiled	= uncompiledRulesByFromTag[ fromTagId ];
+
+		if ( uncompiled != null )
+		{
+			boolean copied	= false;
+
+			for ( int i = 0 ; i < uncompiled.length ; i++ )
+			{
+				int ruleIndex	= uncompiled[ i ];
+
+				if ( ruleIndex >= best ) break;
+
+				if ( !copied )
+				{
+					window.copyTo
+					(
+						tagger.wordBuff ,
+						tagger.tagBuff ,
+						tagger.lexBuff
+					);
+
+					copied	= true;
+				}
+
+				if ( rules[ ruleIndex ].apply( tagger ) )
+				{
+					window.setTag
+					(
+						HeppleTaggingWindow.CENTER ,
+						tagger.tagBuff[ HeppleTaggingWindow.CENTER ]
+					);
+
+					return true;
+				}
+			}
+		}
+								//	Fire the first compiled rule.
+
+		if ( best < rules.length )
+		{
+			window.setTag( HeppleTaggingWindow.CENTER , rules[ best ].to );
+			tagger.incrementRuleCorrections();
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**	Find the first compiled rule for a tag pair which fires.
+	 *
+	 *	@param	window		The tagging window.
+	 *	@param	tagPair		"From" and "to" tag pair index.
+	 *	@param	best		Index of the first firing rule
+	 *						found so far.
+	 *
+	 *	@return				Index of the first firing rule for the
+	 *						tag pair if it precedes best, else best.
+	 *
+	 *	<p>
+	 *	Probes the table once for each trigger type (and position,
+	 *	for disjunctive types).  Stops when the remaining trigger
+	 *	types have no rules preceding the first firing rule found
+	 *	so far.
+	 *	</p>
+	 */
+
+	protected int findFirstRule
+	(
+		HeppleTaggingWindow window ,
+		int tagPair ,
+		int best
+	)
+	{
+		int[] types			= triggerTypesByTagPair[ tagPair ];
+		int[] firstRules	= firstRulesByTagPair[ tagPair ];
+
+		for ( int i = 0 ; i < types.length ; i++ )
+		{
+			if ( firstRules[ i ] >= best ) break;
+
+			int triggerType		= types[ i ];
+			int[] positions		= triggerPositions[ triggerType ];
+			boolean[] testsWord	= triggerTestsWord[ triggerType ];
+
+			if ( triggerIsDisjunctive[ triggerType ] )
+			{
+				for ( int j = 0 ; j < positions.length ; j++ )
+				{
+					int valueId	=
+						getWindowId( window , positions[ j ] , testsWord[ j ] );
+
+					if ( valueId >= 0 )
+					{
+						best	=
+							findRule( tagPair , triggerType , valueId , -1 , best );
+					}
+				}
+			}
+			else
+			{
+				int valueId1	= -1;
+				int valueId2	= -1;
+
+				if ( positions.length > 0 )
+				{
+					valueId1	=
+						getWindowId( window , positions[ 0 ] , testsWord[ 0 ] );
+
+					if ( valueId1 < 0 ) continue;
+				}
+
+				if ( positions.length > 1 )
+				{
+					valueId2	=
+						getWindowId( window , positions[ 1 ] , testsWord[ 1 ] );
+
+					if ( valueId2 < 0 ) continue;
+				}
+
+				best	=
+					findRule( tagPair , triggerType , valueId1 , valueId2 , best );
+			}
+		}
+
+		return best;
+	}
+
+	/**	Get id of spelling or most common tag at a window position.
+	 *
+	 *	@param	window		The tagging window.
+	 *	@param	position	The position.
+	 *	@param	word		True for the spelling id, false for
+	 *						the tag id.
+	 *
+	 *	@return				The id.
+	 */
+
+	protected static int getWindowId
+	(
+		HeppleTaggingWindow window ,
+		int position ,
+		boolean word
+	)
+	{
+		return word ?
+			window.getWordId( position ) : window.getLexTagId( position );
+	}
+
+	/**	Convert collection of integers to an array.
+	 *
+	 *	@param	integers	The integers.
+	 *
+	 *	@return				Array of the integers in iteration order.
+	 */
+
+	protected static int[] toIntArray( Collection<Integer> integers )
+	{
+		int[] result	= new int[ integers.size() ];
+		int i			= 0;
+
+		Iterator<Integer> iterator	= integers.iterator();
+
+		while ( iterator.hasNext() )
+		{
+			result[ i++ ]	= iterator.next().intValue();
+		}
+
+		return result;
+	}
+
+	/**	Get number of rules.
+	 *
+	 *	@return		Number of rules, including those not compiled.
+	 */
+
+	public int getRuleCount()
+	{
+		return rules.length;
+	}
+
+	/**	Get number of compiled rules.
+	 *
+	 *	@return		Number of rules stored in the key table.
+	 */
+
+	public int getCompiledRuleCount()
+	{
+		return compiledRuleCount;
+	}
+
+	/**	Get number of interned tags and words.
+	 *
+	 *	@return		Number of ids.
+	 */
+
+	public int getIdCount()
+	{
+		return idCount;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
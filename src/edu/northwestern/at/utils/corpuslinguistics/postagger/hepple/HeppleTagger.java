@@ -97,6 +97,21 @@ public class HeppleTagger extends AbstractPartOfSpeechTagger
 
 	protected Map<String, List<Rule>> rules	= MapFactory.createNewMap();
 
+	/**	Compiled, indexed form of the tagging rules.
+	 *
+	 *	<p>
+	 *	Built from {@link #rules} whenever the context rules are set.
+	 *	</p>
+	 */
+
+	protected CompiledHeppleRules compiledRules	= null;
+
+	/**	True to apply the compiled rules, false to try each rule
+	 *	for the current tag in turn.
+	 */
+
+	protected boolean useCompiledRules	= true;
+
 	/**	Marks unused positions in sliding word buffer. */
 
 	protected static final String staart				= "STAART";
@@ -107,7 +122,20 @@ public class HeppleTagger extends AbstractPartOfSpeechTagger
 	protected static final AdornedWord staartWordAndTag	=
 		new BaseAdornedWord( staart , staart );
 
-	/**	Sliding word buffer. */
+	/**	Sliding word, tag, and parts of speech window used with
+	 *	the compiled rules.
+	 */
+
+	protected HeppleTaggingWindow window	= null;
+
+	/**	Sliding word buffer.
+	 *
+	 *	<p>
+	 *	When the compiled rules are used, the word, tag, and parts of
+	 *	speech buffers are filled from {@link #window} only before
+	 *	applying a rule which could not be compiled.
+	 *	</p>
+	 */
 
 	public String[] wordBuff =
 		{ staart, staart, staart, staart, staart, staart, staart };
@@ -206,6 +234,84 @@ public class HeppleTagger extends AbstractPartOfSpeechTagger
 								//	rules for the "from" tag.
 
 			existingRules.add( newRule );
+		}
+								//	Compile the rules.  Leave them
+								//	uncompiled if they use too many
+								//	distinct tags and words.
+		try
+		{
+			compiledRules	= new CompiledHeppleRules( rules );
+		}
+		catch ( IllegalArgumentException e )
+		{
+			compiledRules	= null;
+		}
+
+		resetWindow();
+	}
+
+	/**	Get the compiled rules.
+	 *
+	 *	@return		The compiled rules, or null if no context rules
+	 *				have been set or they could not be compiled.
+	 */
+
+	public CompiledHeppleRules getCompiledRules()
+	{
+		return compiledRules;
+	}
+
+	/**	Set whether to apply the compiled rules.
+	 *
+	 *	@param	useCompiledRules	True to apply the compiled rules,
+	 *								false to try each rule for the
+	 *								current tag in turn.
+	 */
+
+	public void setUseCompiledRules( boolean useCompiledRules )
+	{
+		this.useCompiledRules	= useCompiledRules;
+
+		resetWindow();
+	}
+
+	/**	Get whether the compiled rules are applied.
+	 *
+	 *	@return		True if the compiled rules are applied.
+	 */
+
+	public boolean getUseCompiledRules()
+	{
+		return useCompiledRules;
+	}
+
+	/**	Fill the sliding buffers and window with unused positions. */
+
+	protected void resetWindow()
+	{
+		for ( int i = 0 ; i < wordBuff.length ; i++ )
+		{
+			wordBuff[ i ]	= staart;
+			tagBuff[ i ]	= staart;
+			lexBuff[ i ]	= staartLex;
+		}
+
+		if ( compiledRules != null )
+		{
+			if ( window == null )
+			{
+				window	=
+					new HeppleTaggingWindow
+					(
+						staart ,
+						staartLex ,
+						compiledRules
+					);
+			}
+			else
+			{
+				window.reset( staart , staartLex , compiledRules );
+			}
 		}
 	}
 
@@ -317,6 +423,18 @@ public class HeppleTagger extends AbstractPartOfSpeechTagger
 		List taggedSentence
 	)
 	{
+		if ( useCompiledRules && ( compiledRules != null ) )
+		{
+			String[] lex	= getPartsOfSpeech( word.getSpelling() , false );
+
+			return oneCompiledStep
+			(
+				word.getSpelling() ,
+				lex ,
+				lex[ 0 ] ,
+				taggedSentence
+			);
+		}
 								//	Add the new word at the end of the
 								//	text window.
 
@@ -474,6 +592,16 @@ public class HeppleTagger extends AbstractPartOfSpeechTagger
 		List<T> taggedSentence
 	)
 	{
+		if ( useCompiledRules && ( compiledRules != null ) )
+		{
+			return oneCompiledStep
+			(
+				adornedWord.getSpelling() ,
+				getPartsOfSpeech( adornedWord.getSpelling() , false ) ,
+				adornedWord.getPartsOfSpeech() ,
+				(List<AdornedWord>)taggedSentence
+			);
+		}
 								//	Add the new word at the end of the
 								//	text window.
 
@@ -536,6 +664,75 @@ public class HeppleTagger extends AbstractPartOfSpeechTagger
 		return false;
 	}
 
+	/**	Adds a new word to the current window and applies the
+	 *	compiled rules.
+	 *
+	 *	@param	spelling		The new word's spelling.
+	 *	@param	lex				The new word's parts of speech,
+	 *							most frequent first.
+	 *	@param	tag				The new word's current tag.
+	 *	@param	taggedSentence	A List of adorned words
+	 *							representing the results of tagging
+	 *							the current sentence so far.
+	 *
+	 *	@return					true if a full sentence is now tagged,
+	 *							false otherwise.
+	 *
+	 *	<p>
+	 *	Performs the same steps as {@link #oneStep} and
+	 *	{@link #oneRetagStep} using the ring buffer {@link #window}
+	 *	and the compiled rules instead of the sliding buffers and
+	 *	the rule lists.
+	 *	</p>
+	 */
+
+	protected boolean oneCompiledStep
+	(
+		String spelling ,
+		String[] lex ,
+		String tag ,
+		List<AdornedWord> taggedSentence
+	)
+	{
+								//	Add the new word at the end of the
+								//	text window.
+
+		window.advance( spelling , lex , tag , compiledRules );
+
+		if ( debug )
+		{
+			System.out.println(
+				"===> word=" + window.getWord( 3 ) +
+				" currently tagged " + window.getTag( 3 ) );
+		}
+								//	Apply the first matching rule to
+								//	the word in the middle of the
+								//	text window.
+
+		compiledRules.apply( window , this );
+
+								//	Save the tagged word from the
+								//	first position.
+
+		String taggedWord	= window.getWord( 0 );
+
+		if ( taggedWord != staart )
+		{
+			AdornedWord newWord	=
+				new BaseAdornedWord( taggedWord , window.getTag( 0 ) );
+
+			taggedSentence.add( newWord );
+
+			if ( window.getWord( 1 ) == staart )
+			{
+								//	wordTag[ 0 ] was the end of a sentence.
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/** Get parts of speech for a word.
 	 *
 	 *	@param	word			The word to be classified.
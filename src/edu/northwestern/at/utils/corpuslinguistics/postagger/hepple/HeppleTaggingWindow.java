@@ -0,0 +1,312 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger.hepple;
+
+/*	Please see the license information at the end of this file. */
+
+/**	Sliding seven word window for the Hepple tagger.
+ *
+ *	<p>
+ *	Holds the spelling, current tag and lexicon tags of each word in
+ *	the window in a ring buffer, so that advancing the window stores
+ *	the new word in the slot of the word leaving the window instead of
+ *	shifting every slot.  Positions are numbered from 0 (oldest word)
+ *	to 6 (newest word) as in the {@link HeppleTagger#wordBuff},
+ *	{@link HeppleTagger#tagBuff} and {@link HeppleTagger#lexBuff}
+ *	arrays.  The word at position 3 is the word being tagged.
+ *	</p>
+ *
+ *	<p>
+ *	Each word also carries the ids assigned by a
+ *	{@link CompiledHeppleRules} to its spelling and to its most common
+ *	lexicon tag, so the compiled rules can probe their table without
+ *	looking up the strings again.
+ *	</p>
+ */
+
+public class HeppleTaggingWindow
+{
+	/**	Number of words in the window. */
+
+	public static final int SIZE	= 7;
+
+	/**	Position of the word being tagged. */
+
+	public static final int CENTER	= 3;
+
+	/**	Spellings by slot. */
+
+	protected String[] words		= new String[ SIZE ];
+
+	/**	Current tags by slot. */
+
+	protected String[] tags			= new String[ SIZE ];
+
+	/**	Lexicon tags by slot, most common tag first. */
+
+	protected String[][] lexTags	= new String[ SIZE ][];
+
+	/**	Spelling ids by slot. */
+
+	protected int[] wordIds			= new int[ SIZE ];
+
+	/**	Most common lexicon tag ids by slot. */
+
+	protected int[] lexTagIds		= new int[ SIZE ];
+
+	/**	Slot holding position 0. */
+
+	protected int start				= 0;
+
+	/**	Create a window.
+	 *
+	 *	@param	word		Spelling which marks an unused position.
+	 *	@param	lexTags		Lexicon tags for an unused position.
+	 *	@param	rules		Compiled rules which assign the ids.
+	 */
+
+	public HeppleTaggingWindow
+	(
+		String word ,
+		String[] lexTags ,
+		CompiledHeppleRules rules
+	)
+	{
+		reset( word , lexTags , rules );
+	}
+
+	/**	Fill every position with the same word.
+	 *
+	 *	@param	word		Spelling which marks an unused position.
+	 *	@param	lexTags		Lexicon tags for an unused position.
+	 *	@param	rules		Compiled rules which assign the ids.
+	 */
+
+	public void reset
+	(
+		String word ,
+		String[] lexTags ,
+		CompiledHeppleRules rules
+	)
+	{
+		start	= 0;
+
+		for ( int i = 0 ; i < SIZE ; i++ )
+		{
+			set( i , word , lexTags , lexTags[ 0 ] , rules );
+		}
+	}
+
+	/**	Advance the window by one word.
+	 *
+	 *	@param	word		Spelling of the new word.
+	 *	@param	lexTags		Lexicon tags for the new word,
+	 *						most common tag first.
+	 *	@param	tag			Current tag of the new word.
+	 *	@param	rules		Compiled rules which assign the ids.
+	 *
+	 *	<p>
+	 *	The word at position 0 leaves the window, and the new word
+	 *	is placed at position 6.
+	 *	</p>
+	 */
+
+	public void advance
+	(
+		String word ,
+		String[] lexTags ,
+		String tag ,
+		CompiledHeppleRules rules
+	)
+	{
+		start	= ( start == SIZE - 1 ) ? 0 : start + 1;
+
+		set( SIZE - 1 , word , lexTags , tag , rules );
+	}
+
+	/**	Store a word at a position.
+	 *
+	 *	@param	position	The position.
+	 *	@param	word		Spelling of the word.
+	 *	@param	lexTags		Lexicon tags for the word.
+	 *	@param	tag			Current tag of the word.
+	 *	@param	rules		Compiled rules which assign the ids.
+	 */
+
+	protected void set
+	(
+		int position ,
+		String word ,
+		String[] lexTags ,
+		String tag ,
+		CompiledHeppleRules rules
+	)
+	{
+		int slot			= slot( position );
+
+		words[ slot ]		= word;
+		tags[ slot ]		= tag;
+		this.lexTags[ slot ]	= lexTags;
+		wordIds[ slot ]		= rules.getId( word );
+		lexTagIds[ slot ]	=
+			( lexTags.length > 0 ) ? rules.getId( lexTags[ 0 ] ) : -1;
+	}
+
+	/**	Get slot for a position.
+	 *
+	 *	@param	position	The position, 0 through 6.
+	 *
+	 *	@return				The ring buffer slot.
+	 */
+
+	protected int slot( int position )
+	{
+		int result	= start + position;
+
+		return ( result >= SIZE ) ? result - SIZE : result;
+	}
+
+	/**	Get spelling at a position.
+	 *
+	 *	@param	position	The position.
+	 *
+	 *	@return				The spelling.
+	 */
+
+	public String getWord( int position )
+	{
+		return words[ slot( position ) ];
+	}
+
+	/**	Get current tag at a position.
+	 *
+	 *	@param	position	The position.
+	 *
+	 *	@return				The current tag.
+	 */
+
+	public String getTag( int position )
+	{
+		return tags[ slot( position ) ];
+	}
+
+	/**	Set current tag at a position.
+	 *
+	 *	@param	position	The position.
+	 *	@param	tag			The new tag.
+	 */
+
+	public void setTag( int position , String tag )
+	{
+		tags[ slot( position ) ]	= tag;
+	}
+
+	/**	Get lexicon tags at a position.
+	 *
+	 *	@param	position	The position.
+	 *
+	 *	@return				The lexicon tags, most common tag first.
+	 */
+
+	public String[] getLexTags( int position )
+	{
+		return lexTags[ slot( position ) ];
+	}
+
+	/**	Get spelling id at a position.
+	 *
+	 *	@param	position	The position.
+	 *
+	 *	@return				The spelling id, or -1 if the spelling
+	 *						does not appear in any rule.
+	 */
+
+	public int getWordId( int position )
+	{
+		return wordIds[ slot( position ) ];
+	}
+
+	/**	Get most common lexicon tag id at a position.
+	 *
+	 *	@param	position	The position.
+	 *
+	 *	@return				The tag id, or -1 if the tag
+	 *						does not appear in any rule.
+	 */
+
+	public int getLexTagId( int position )
+	{
+		return lexTagIds[ slot( position ) ];
+	}
+
+	/**	Copy the window into linear buffers.
+	 *
+	 *	@param	wordBuff	Receives the spellings.
+	 *	@param	tagBuff		Receives the current tags.
+	 *	@param	lexBuff		Receives the lexicon tags.
+	 *
+	 *	<p>
+	 *	Used to evaluate rules which have not been compiled and
+	 *	which therefore read the tagger's linear buffers.
+	 *	</p>
+	 */
+
+	public void copyTo
+	(
+		String[] wordBuff ,
+		String[] tagBuff ,
+		String[][] lexBuff
+	)
+	{
+		for ( int i = 0 ; i < SIZE ; i++ )
+		{
+			int slot		= slot( i );
+
+			wordBuff[ i ]	= words[ slot ];
+			tagBuff[ i ]	= tags[ slot ];
+			lexBuff[ i ]	= lexTags[ slot ];
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -5,6 +5,7 @@ package edu.northwestern.at.utils.corpuslinguistics.postagger.smoothing.contextu
 import java.util.*;
 
 import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
 import edu.northwestern.at.utils.logger.*;
 import edu.northwestern.at.utils.math.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
@@ -30,10 +31,19 @@ abstract public class AbstractContextualSmoother
 
 	protected PartOfSpeechTagger partOfSpeechTagger;
 
+	/**	Default maximum number of cached contextual probabilities. */
+
+	public static final int DEFAULT_CACHE_SIZE	= 50000;
+
 	/**	Cached contextual probabilities.
+	 *
+	 *	<p>
+	 *	Keyed by a (previous previous tag, previous tag, tag)
+	 *	CompoundKey.  Null if caching is disabled.
+	 *	</p>
 	 */
 
-	protected Map3D<String, String, String, Probability>
+	protected BoundedCache<CompoundKey, Probability>
 		cachedContextualProbabilities;
 
 	/**	Logger used for output. */
@@ -49,7 +59,11 @@ abstract public class AbstractContextualSmoother
 								//	probabilities.
 
 		cachedContextualProbabilities	=
-			Map3DFactory.createNewMap3D( 1000 );
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"contextualsmoother" ,
+				DEFAULT_CACHE_SIZE
+			);
 
 								//	Create logger.
 
@@ -112,7 +126,28 @@ abstract public class AbstractContextualSmoother
 
 	public void clearCachedProbabilities()
 	{
-		cachedContextualProbabilities.clear();
+		if ( cachedContextualProbabilities != null )
+		{
+			cachedContextualProbabilities.clear();
+		}
+	}
+
+	/**	Get the cache statistics.
+	 *
+	 *	@return		The cache hit, miss and eviction counts,
+	 *				or null if caching is disabled.
+	 */
+
+	public CacheStatistics getCacheStatistics()
+	{
+		CacheStatistics result	= null;
+
+		if ( cachedContextualProbabilities != null )
+		{
+			result	= cachedContextualProbabilities.getStatistics();
+		}
+
+		return result;
 	}
 
 	/**	Get contextually smoothed probability of a word given a tag.
@@ -125,7 +160,7 @@ abstract public class AbstractContextualSmoother
 	 *
  	 *	<p>
  	 *	To avoid redoing potentially expensive probability calculations,
- 	 *	you can use the "cachedContextualProbabilities" HashMap2D to store
+ 	 *	you can use the "cachedContextualProbabilities" cache to store
  	 *	probabilities once they are calculated.  Your contextualProbability
  	 *	method should look to see if the cache contains the needed
  	 *	contextual probability.  If so, just retrieve it without recomputing it.
@@ -145,8 +180,9 @@ abstract public class AbstractContextualSmoother
 	 *								//	See if the contextual probability
 	 *								//	p( word | tag ) is in the cache.
 	 *
-	 *		Probability result	=
-	 *			(Probability)cachedContextualProbabilities.get( word , tag );
+	 *		CompoundKey key		= new CompoundKey( word , tag );
+	 *
+	 *		Probability result	= cachedContextualProbabilities.get( key );
      *
 	 *								//	If the probability isn't in the
 	 *								//	cache, compute it.
@@ -160,7 +196,7 @@ abstract public class AbstractContextualSmoother
 	 *
 	 *			result	= new Probability( prob );
 	 *
-	 *			cachedContextualProbabilities.put( word , tag , result );
+	 *			cachedContextualProbabilities.put( key , result );
 	 *		}
 	 *
 	 *		return result;
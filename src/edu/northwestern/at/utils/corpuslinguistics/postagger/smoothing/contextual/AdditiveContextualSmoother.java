@@ -4,6 +4,7 @@ package edu.northwestern.at.utils.corpuslinguistics.postagger.smoothing.contextu
 
 import java.util.*;
 
+import edu.northwestern.at.utils.*;
 import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.transitionmatrix.*;
@@ -101,11 +102,12 @@ public class AdditiveContextualSmoother
 								//	(previousTag, tag) is in the cache.
 
 		Probability result	=	null;
+		CompoundKey key		=	null;
 
 		if( cachedContextualProbabilities != null )
 		{
-			result	=
-				cachedContextualProbabilities.get( previousTag , tag , "*" );
+			key		= new CompoundKey( previousTag , tag , "*" );
+			result	= cachedContextualProbabilities.get( key );
 		}
 								//	If the probability isn't in the
 								//	cache, compute it.
@@ -131,10 +133,7 @@ public class AdditiveContextualSmoother
 
 			if ( cachedContextualProbabilities != null )
 			{
-				cachedContextualProbabilities.put
-				(
-					previousTag , tag , "*" , result
-				);
+				cachedContextualProbabilities.put( key , result );
 			}
         }
 
@@ -169,12 +168,14 @@ public class AdditiveContextualSmoother
 								//	is in the cache.
 
 		Probability result	=	null;
+		CompoundKey key		=	null;
 
 		if ( cachedContextualProbabilities != null )
 		{
-			result	=
-				cachedContextualProbabilities.get(
-					previousPreviousTag , previousTag , tag );
+			key		=
+				new CompoundKey( previousPreviousTag , previousTag , tag );
+
+			result	= cachedContextualProbabilities.get( key );
 		}
 								//	If the probability isn't in the
 								//	cache, compute it.
@@ -203,8 +204,7 @@ public class AdditiveContextualSmoother
 
 			if ( cachedContextualProbabilities != null )
 			{
-				cachedContextualProbabilities.put(
-					previousPreviousTag , previousTag , tag , result );
+				cachedContextualProbabilities.put( key , result );
 			}
 		}
 
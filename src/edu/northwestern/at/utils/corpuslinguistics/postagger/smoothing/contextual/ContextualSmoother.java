@@ -4,6 +4,7 @@ package edu.northwestern.at.utils.corpuslinguistics.postagger.smoothing.contextu
 
 import java.util.*;
 
+import edu.northwestern.at.utils.cache.*;
 import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
 import edu.northwestern.at.utils.math.*;
@@ -38,6 +39,14 @@ public interface ContextualSmoother
 
 	public void clearCachedProbabilities();
 
+	/**	Get the cache statistics.
+	 *
+	 *	@return		The cache hit, miss and eviction counts,
+	 *				or null if probabilities are not cached.
+	 */
+
+	public CacheStatistics getCacheStatistics();
+
 	/**	Compute smoothed contextual probability of a tag given the previous tag.
 	 *
 	 *	@param	tag				The current tag.
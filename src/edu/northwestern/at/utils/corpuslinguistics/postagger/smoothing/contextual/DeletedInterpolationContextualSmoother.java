@@ -17,6 +17,11 @@ import edu.northwestern.at.utils.math.*;
  *	unigram bigram, and trigram probabilities (for a trigram
  *	tagger).
  *	</p>
+ *
+ *	<p>
+ *	The smoothed probabilities are precomputed by the tagger's
+ *	{@link CompiledTransitionMatrix}, so no probability cache is used.
+ *	</p>
  */
 
 public class DeletedInterpolationContextualSmoother
@@ -38,6 +43,11 @@ public class DeletedInterpolationContextualSmoother
 
 	public DeletedInterpolationContextualSmoother()
 	{
+								//	Probabilities are read from the
+								//	compiled transition matrix, so
+								//	they are not cached.
+
+		cachedContextualProbabilities	= null;
 	}
 
 	/**	Compute contextual probability of a tag given the previous tag.
@@ -73,51 +83,19 @@ public class DeletedInterpolationContextualSmoother
 		String previousTag
 	)
 	{
-								//	See if the contextual probability
-								//	for the tag sequence
-								//	(previousTag, tag) is in the cache.
-
-		Probability result	=	null;
-
-		if ( cachedContextualProbabilities != null )
-		{
-			result	=
-				cachedContextualProbabilities.get( previousTag , tag , "*" );
-		}
-								//	If the probability isn't in the
-								//	cache, compute it.
-		if ( result == null )
-		{
-								//	Get bigram weights if we don't
-								//	already have them.
-
-			TransitionMatrix transitionMatrix	=
-				partOfSpeechTagger.getTransitionMatrix();
-
-			if ( bigramWeights == null )
-			{
-				bigramWeights	= transitionMatrix.getBigramWeights();
-			}
-
-			double prob	=
-				transitionMatrix.getProbability( previousTag , tag ) *
-				bigramWeights[ 1 ] +
-				transitionMatrix.getProbability( tag ) *
-				bigramWeights[ 0 ];
-
-								//	Store computed probability in
-								//	the cache.
-
-			result	= new Probability( prob );
+								//	Get compiled form of transition
+								//	matrix.  The smoothed probability
+								//	was computed when the matrix
+								//	was compiled.
 
-			if ( cachedContextualProbabilities != null )
-			{
-				cachedContextualProbabilities.put(
-					previousTag , tag , "*" , result );
-			}
-		}
+		CompiledTransitionMatrix transitionMatrix	=
+			getCompiledTransitionMatrix();
 
-		return result;
+		return new Probability
+		(
+			transitionMatrix.getInterpolatedProbability(
+				tag , previousTag )
+		);
 	}
 
 	/**	Compute contextual probability of a tag given the previous tags.
@@ -157,54 +135,36 @@ public class DeletedInterpolationContextualSmoother
 		String previousPreviousTag
 	)
 	{
-								//	See if the contextual probability
-								//	for the tag sequence
-								//	(previousPreviousTag, previousTag , tag)
-								//	is in the cache.
+								//	Get compiled form of transition
+								//	matrix.  The smoothed probability
+								//	was computed when the matrix
+								//	was compiled.
 
-		Probability result	=	null;
+		CompiledTransitionMatrix transitionMatrix	=
+			getCompiledTransitionMatrix();
 
-		if ( cachedContextualProbabilities != null )
-		{
-			result	=
-				cachedContextualProbabilities.get(
-					previousPreviousTag , previousTag , tag );
-		}
-								//	If the probability isn't in the
-								//	cache, compute it.
+		return new Probability
+		(
+			transitionMatrix.getInterpolatedProbability(
+				tag , previousTag , previousPreviousTag )
+		);
+	}
+
+	/**	Get compiled transition matrix for the tagger.
+	 *
+	 *	@return		The compiled transition matrix.
+	 */
+
+	protected CompiledTransitionMatrix getCompiledTransitionMatrix()
+	{
+		CompiledTransitionMatrix result	=
+			partOfSpeechTagger.getTransitionMatrix(
+				).getCompiledTransitionMatrix();
 
-		if ( result == null )
+		if ( trigramWeights == null )
 		{
-								//	Get trigram weights if
-								//	we don't already have them.
-
-			TransitionMatrix transitionMatrix	=
-				partOfSpeechTagger.getTransitionMatrix();
-
-			if ( trigramWeights == null )
-			{
-				trigramWeights	= transitionMatrix.getTrigramWeights();
-			}
-
-			double prob	=
-				transitionMatrix.getProbability(
-					previousPreviousTag , previousTag , tag ) *
-					trigramWeights[ 2 ] +
-				transitionMatrix.getProbability( previousTag , tag ) *
-					trigramWeights[ 1 ] +
-				transitionMatrix.getProbability( tag ) *
-					trigramWeights[ 0 ];
-
-								//	Store computed probability in
-								//	the cache.
-
-			result	= new Probability( prob );
-
-			if ( cachedContextualProbabilities != null )
-			{
-				cachedContextualProbabilities.put(
-					previousPreviousTag , previousTag , tag , result );
-			}
+			bigramWeights	= result.getBigramWeights();
+			trigramWeights	= result.getTrigramWeights();
 		}
 
 		return result;
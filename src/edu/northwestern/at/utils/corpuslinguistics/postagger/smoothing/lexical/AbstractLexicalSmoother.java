@@ -5,6 +5,7 @@ package edu.northwestern.at.utils.corpuslinguistics.postagger.smoothing.lexical;
 import java.util.*;
 
 import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
 import edu.northwestern.at.utils.logger.*;
 import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
@@ -31,10 +32,19 @@ abstract public class AbstractLexicalSmoother
 
 	protected PartOfSpeechTagger partOfSpeechTagger;
 
+	/**	Default maximum number of cached lexical probabilities. */
+
+	public static final int DEFAULT_CACHE_SIZE	= 100000;
+
 	/**	Cached lexical probabilities for words.
+	 *
+	 *	<p>
+	 *	Keyed by a (word, tag) CompoundKey.  Null if caching is disabled.
+	 *	</p>
 	 */
 
-	protected Map2D<String, String, Probability> cachedLexicalProbabilities;
+	protected BoundedCache<CompoundKey, Probability>
+		cachedLexicalProbabilities;
 
 	/**	Logger used for output. */
 
@@ -49,7 +59,11 @@ abstract public class AbstractLexicalSmoother
 								//	probabilities.
 
 		cachedLexicalProbabilities	=
-			Map2DFactory.createNewMap2D( 3000 );
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"lexicalsmoother" ,
+				DEFAULT_CACHE_SIZE
+			);
 
 								//	Create dummy logger.
 
@@ -112,7 +126,28 @@ abstract public class AbstractLexicalSmoother
 
 	public void clearCachedProbabilities()
 	{
-		cachedLexicalProbabilities.clear();
+		if ( cachedLexicalProbabilities != null )
+		{
+			cachedLexicalProbabilities.clear();
+		}
+	}
+
+	/**	Get the cache statistics.
+	 *
+	 *	@return		The cache hit, miss and eviction counts,
+	 *				or null if caching is disabled.
+	 */
+
+	public CacheStatistics getCacheStatistics()
+	{
+		CacheStatistics result	= null;
+
+		if ( cachedLexicalProbabilities != null )
+		{
+			result	= cachedLexicalProbabilities.getStatistics();
+		}
+
+		return result;
 	}
 
 	/**	Get lexically smoothed probability of a word given a tag.
@@ -125,7 +160,7 @@ abstract public class AbstractLexicalSmoother
 	 *
  	 *	<p>
  	 *	To avoid redoing potentially expensive probability calculations,
- 	 *	you can use the "cachedLexicalProbabilities" HashMap2D to store
+ 	 *	you can use the "cachedLexicalProbabilities" cache to store
  	 *	probabilities once they are calculated.  Your lexicalProbability
  	 *	method should look to see if the cache contains the needed
  	 *	lexical probability.  If so, just retrieve it without recomputing it.
@@ -145,8 +180,9 @@ abstract public class AbstractLexicalSmoother
 	 *								//	See if the lexical probability
 	 *								//	p( word | tag ) is in the cache.
 	 *
-	 *		Probability result	=
-	 *			(Probability)cachedLexicalProbabilities.get( word , tag );
+	 *		CompoundKey key		= new CompoundKey( word , tag );
+	 *
+	 *		Probability result	= cachedLexicalProbabilities.get( key );
      *
 	 *								//	If the probability isn't in the
 	 *								//	cache, compute it.
@@ -160,7 +196,7 @@ abstract public class AbstractLexicalSmoother
 	 *
 	 *			result	= new Probability( prob );
 	 *
-	 *			cachedLexicalProbabilities.put( word , tag , result );
+	 *			cachedLexicalProbabilities.put( key , result );
 	 *		}
 	 *
 	 *		return result;
@@ -4,6 +4,7 @@ package edu.northwestern.at.utils.corpuslinguistics.postagger.smoothing.lexical;
 
 import java.util.*;
 
+import edu.northwestern.at.utils.*;
 import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
 import edu.northwestern.at.utils.math.*;
@@ -59,10 +60,12 @@ public class AdditiveLexicalSmoother
 								//	p( word | tag ) is in the cache.
 
 		Probability result	=	null;
+		CompoundKey key		=	null;
 
 		if ( cachedLexicalProbabilities != null )
 		{
-			result	= cachedLexicalProbabilities.get( word , tag );
+			key		= new CompoundKey( word , tag );
+			result	= cachedLexicalProbabilities.get( key );
 		}
 								//	If the probability isn't in the
 								//	cache, compute it.
@@ -124,7 +127,7 @@ public class AdditiveLexicalSmoother
 
 			if ( cachedLexicalProbabilities != null )
 			{
-				cachedLexicalProbabilities.put( word , tag , result );
+				cachedLexicalProbabilities.put( key , result );
 			}
 		}
 
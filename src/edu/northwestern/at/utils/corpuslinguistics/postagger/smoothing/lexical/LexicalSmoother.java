@@ -4,6 +4,7 @@ package edu.northwestern.at.utils.corpuslinguistics.postagger.smoothing.lexical;
 
 import java.util.*;
 
+import edu.northwestern.at.utils.cache.*;
 import edu.northwestern.at.utils.corpuslinguistics.lexicon.*;
 import edu.northwestern.at.utils.corpuslinguistics.postagger.*;
 import edu.northwestern.at.utils.math.*;
@@ -38,6 +39,14 @@ public interface LexicalSmoother
 
 	public void clearCachedProbabilities();
 
+	/**	Get the cache statistics.
+	 *
+	 *	@return		The cache hit, miss and eviction counts,
+	 *				or null if probabilities are not cached.
+	 */
+
+	public CacheStatistics getCacheStatistics();
+
 	/**	Get lexically smoothed probability of a word given a tag.
 	 *
 	 *	@param	word	The word.
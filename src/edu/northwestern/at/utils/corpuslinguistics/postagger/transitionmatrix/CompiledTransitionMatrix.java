@@ -0,0 +1,618 @@
+package edu.northwestern.at.utils.corpuslinguistics.postagger.transitionmatrix;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	Compiled, tag-indexed form of a transition matrix.
+ *
+ *	<p>
+ *	A compiled transition matrix is an immutable snapshot of
+ *	a {@link TransitionMatrix} in which each part of speech tag is
+ *	interned to an integer index.  Unigram and bigram counts and
+ *	probabilities are held in dense arrays.  Trigrams are held in
+ *	an open-addressed hash table keyed by a single long value
+ *	computed from the three tag indices.
+ *	</p>
+ *
+ *	<p>
+ *	The contextual probabilities smoothed by deleted interpolation
+ *	are computed once when the matrix is compiled, so that
+ *	a deleted interpolation smoother needs only array lookups
+ *	to retrieve them.  The smoothed values are computed using
+ *	exactly the same arithmetic as the original smoother so the
+ *	results are identical.
+ *	</p>
+ *
+ *	<p>
+ *	A compiled transition matrix is never modified after it is
+ *	created and may be shared freely across threads.
+ *	</p>
+ */
+
+public class CompiledTransitionMatrix
+{
+	/**	Empty slot marker in trigram key table. */
+
+	protected static final long EMPTY_KEY	= -1L;
+
+	/**	Maximum trigram table load factor. */
+
+	protected static final double MAX_LOAD_FACTOR	= 0.75D;
+
+	/**	Tags by index. */
+
+	protected final String[] tags;
+
+	/**	Map from tag to index. */
+
+	protected final Map<String, Integer> tagIndices;
+
+	/**	Number of tags. */
+
+	protected final int tagCount;
+
+	/**	Unigram counts by tag index. */
+
+	protected final int[] unigramCounts;
+
+	/**	Unigram probabilities by tag index. */
+
+	protected final double[] unigramProbs;
+
+	/**	Bigram counts by tag1 * tagCount + tag2. */
+
+	protected final int[] bigramCounts;
+
+	/**	Bigram probabilities by tag1 * tagCount + tag2. */
+
+	protected final double[] bigramProbs;
+
+	/**	Smoothed bigram probabilities by previousTag * tagCount + tag. */
+
+	protected final double[] smoothedBigramProbs;
+
+	/**	Smoothed trigram probabilities for unseen trigrams
+	 *	by previousTag * tagCount + tag.
+	 */
+
+	protected final double[] smoothedTrigramBackoffProbs;
+
+	/**	Trigram table keys.  Empty slots hold EMPTY_KEY. */
+
+	protected final long[] trigramKeys;
+
+	/**	Trigram counts parallel to trigramKeys. */
+
+	protected final int[] trigramCounts;
+
+	/**	Trigram probabilities parallel to trigramKeys. */
+
+	protected final double[] trigramProbs;
+
+	/**	Smoothed trigram probabilities parallel to trigramKeys. */
+
+	protected final double[] smoothedTrigramProbs;
+
+	/**	Trigram table mask (table size - 1). */
+
+	protected final int trigramMask;
+
+	/**	Number of trigrams stored. */
+
+	protected final int trigramEntries;
+
+	/**	Bigram weights from deleted interpolation. */
+
+	protected final double[] bigramWeights;
+
+	/**	Trigram weights from deleted interpolation. */
+
+	protected final double[] trigramWeights;
+
+	/**	Compile a transition matrix.
+	 *
+	 *	@param	transitionMatrix	The transition matrix to compile.
+	 */
+
+	public CompiledTransitionMatrix( TransitionMatrix transitionMatrix )
+	{
+								//	Make sure the transition matrix
+								//	probabilities are available.
+
+		if ( !transitionMatrix.haveProbabilities )
+		{
+			transitionMatrix.calculateProbabilities();
+		}
+
+		double[] bw	= transitionMatrix.getBigramWeights();
+		double[] tw	= transitionMatrix.getTrigramWeights();
+
+		bigramWeights	= new double[ bw.length ];
+		trigramWeights	= new double[ tw.length ];
+
+		System.arraycopy( bw , 0 , bigramWeights , 0 , bw.length );
+		System.arraycopy( tw , 0 , trigramWeights , 0 , tw.length );
+
+								//	Collect all the tags which appear
+								//	anywhere in the matrix.
+
+		Set<String> tagSet	= new TreeSet<String>();
+
+		tagSet.addAll( transitionMatrix.unigramCountMap.keySet() );
+		tagSet.addAll( transitionMatrix.bigramCountMap.rowKeySet() );
+		tagSet.addAll( transitionMatrix.bigramCountMap.columnKeySet() );
+		tagSet.addAll( transitionMatrix.trigramCountMap.rowKeySet() );
+		tagSet.addAll( transitionMatrix.trigramCountMap.columnKeySet() );
+		tagSet.addAll( transitionMatrix.trigramCountMap.sliceKeySet() );
+
+								//	Intern the tags.
+
+		tagCount	= tagSet.size();
+		tags		= tagSet.toArray( new String[ tagCount ] );
+		tagIndices	= MapFactory.createNewMap( tagCount );
+
+		for ( int i = 0 ; i < tagCount ; i++ )
+		{
+			tagIndices.put( tags[ i ] , new Integer( i ) );
+		}
+								//	Fill unigram arrays.
+
+		unigramCounts	= new int[ tagCount ];
+		unigramProbs	= new double[ tagCount ];
+
+		for ( int i = 0 ; i < tagCount ; i++ )
+		{
+			unigramCounts[ i ]	= transitionMatrix.getCount( tags[ i ] );
+			unigramProbs[ i ]	=
+				transitionMatrix.getProbability( tags[ i ] );
+		}
+								//	Fill dense bigram arrays along
+								//	with the precomputed smoothed
+								//	bigram and trigram backoff values.
+
+		bigramCounts				= new int[ tagCount * tagCount ];
+		bigramProbs					= new double[ tagCount * tagCount ];
+		smoothedBigramProbs			= new double[ tagCount * tagCount ];
+		smoothedTrigramBackoffProbs	= new double[ tagCount * tagCount ];
+
+		for ( int i = 0 ; i < tagCount ; i++ )
+		{
+			for ( int j = 0 ; j < tagCount ; j++ )
+			{
+				int k	= i * tagCount + j;
+
+				bigramCounts[ k ]	=
+					transitionMatrix.getCount( tags[ i ] , tags[ j ] );
+
+				bigramProbs[ k ]	=
+					transitionMatrix.getProbability( tags[ i ] , tags[ j ] );
+
+				smoothedBigramProbs[ k ]	=
+					bigramProbs[ k ] * bigramWeights[ 1 ] +
+					unigramProbs[ j ] * bigramWeights[ 0 ];
+
+				smoothedTrigramBackoffProbs[ k ]	=
+					0.0D * trigramWeights[ 2 ] +
+					bigramProbs[ k ] * trigramWeights[ 1 ] +
+					unigramProbs[ j ] * trigramWeights[ 0 ];
+			}
+		}
+								//	Size the trigram table to a power
+								//	of two which keeps the load factor
+								//	below the maximum.
+
+		int trigramsToStore	= transitionMatrix.trigramCountMap.size();
+		int tableSize		= 16;
+
+		while ( tableSize * MAX_LOAD_FACTOR <= trigramsToStore )
+		{
+			tableSize	<<= 1;
+		}
+
+		trigramMask				= tableSize - 1;
+		trigramKeys				= new long[ tableSize ];
+		trigramCounts			= new int[ tableSize ];
+		trigramProbs			= new double[ tableSize ];
+		smoothedTrigramProbs	= new double[ tableSize ];
+
+		Arrays.fill( trigramKeys , EMPTY_KEY );
+
+								//	Add each trigram to the table.
+
+		int entries	= 0;
+
+		Iterator<CompoundKey> iterator	=
+			transitionMatrix.trigramCountMap.iterator();
+
+		while ( iterator.hasNext() )
+		{
+			Object[] keyValues	= iterator.next().getKeyValues();
+
+			String tag1	= keyValues[ 0 ].toString();
+			String tag2	= keyValues[ 1 ].toString();
+			String tag3	= keyValues[ 2 ].toString();
+
+			int i	= getTagIndex( tag1 );
+			int j	= getTagIndex( tag2 );
+			int k	= getTagIndex( tag3 );
+
+			int slot	= findSlot( trigramKey( i , j , k ) );
+
+			if ( trigramKeys[ slot ] == EMPTY_KEY )
+			{
+				entries++;
+			}
+
+			trigramKeys[ slot ]		= trigramKey( i , j , k );
+			trigramCounts[ slot ]	=
+				transitionMatrix.getCount( tag1 , tag2 , tag3 );
+
+			trigramProbs[ slot ]	=
+				transitionMatrix.getProbability( tag1 , tag2 , tag3 );
+
+			smoothedTrigramProbs[ slot ]	=
+				trigramProbs[ slot ] * trigramWeights[ 2 ] +
+				bigramProbs[ j * tagCount + k ] * trigramWeights[ 1 ] +
+				unigramProbs[ k ] * trigramWeights[ 0 ];
+		}
+
+		trigramEntries	= entries;
+	}
+
+	/**	Compute trigram key from tag indices.
+	 *
+	 *	@param	tag1	First tag index.
+	 *	@param	tag2	Second tag index.
+	 *	@param	tag3	Third tag index.
+	 *
+	 *	@return			The trigram key.
+	 */
+
+	protected long trigramKey( int tag1 , int tag2 , int tag3 )
+	{
+		return ( (long)tag1 * tagCount + tag2 ) * tagCount + tag3;
+	}
+
+	/**	Find table slot for trigram key.
+	 *
+	 *	@param	key		The trigram key.
+	 *
+	 *	@return			Slot holding key, or empty slot at which
+	 *					key would be stored.
+	 */
+
+	protected int findSlot( long key )
+	{
+		long hash	= key * 0x9E3779B97F4A7C15L;
+		int slot	= (int)( hash ^ ( hash >>> 32 ) ) & trigramMask;
+
+		while	(	( trigramKeys[ slot ] != EMPTY_KEY ) &&
+					( trigramKeys[ slot ] != key )
+				)
+		{
+			slot	= ( slot + 1 ) & trigramMask;
+		}
+
+		return slot;
+	}
+
+	/**	Find table slot for trigram.
+	 *
+	 *	@param	tag1	First tag index.
+	 *	@param	tag2	Second tag index.
+	 *	@param	tag3	Third tag index.
+	 *
+	 *	@return			Slot holding trigram, or -1 if trigram
+	 *					is not in the table.
+	 */
+
+	protected int findTrigram( int tag1 , int tag2 , int tag3 )
+	{
+		long key	= trigramKey( tag1 , tag2 , tag3 );
+		int slot	= findSlot( key );
+
+		return ( trigramKeys[ slot ] == key ) ? slot : -1;
+	}
+
+	/**	Get number of tags.
+	 *
+	 *	@return		Number of distinct tags in matrix.
+	 */
+
+	public int getTagCount()
+	{
+		return tagCount;
+	}
+
+	/**	Get number of trigrams.
+	 *
+	 *	@return		Number of distinct trigrams in matrix.
+	 */
+
+	public int getTrigramCount()
+	{
+		return trigramEntries;
+	}
+
+	/**	Get index for tag.
+	 *
+	 *	@param	tag		The part of speech tag.
+	 *
+	 *	@return			The tag index, or -1 if the tag does not
+	 *					appear in the matrix.
+	 */
+
+	public int getTagIndex( String tag )
+	{
+		Integer index	= tagIndices.get( tag );
+
+		return ( index == null ) ? -1 : index.intValue();
+	}
+
+	/**	Get tag for index.
+	 *
+	 *	@param	index	The tag index.
+	 *
+	 *	@return			The part of speech tag.
+	 */
+
+	public String getTag( int index )
+	{
+		return tags[ index ];
+	}
+
+	/**	Look up unigram count.
+	 *
+	 *	@param	tag		The tag index.
+	 *
+	 *	@return			Count of tag.
+	 */
+
+	public int getCount( int tag )
+	{
+		return ( tag < 0 ) ? 0 : unigramCounts[ tag ];
+	}
+
+	/**	Look up bigram count.
+	 *
+	 *	@param	tag1	The first tag index.
+	 *	@param	tag2	The second tag index.
+	 *
+	 *	@return			Count of tag1 followed by tag2.
+	 */
+
+	public int getCount( int tag1 , int tag2 )
+	{
+		return ( ( tag1 < 0 ) || ( tag2 < 0 ) ) ? 0 :
+			bigramCounts[ tag1 * tagCount + tag2 ];
+	}
+
+	/**	Look up trigram count.
+	 *
+	 *	@param	tag1	The first tag index.
+	 *	@param	tag2	The second tag index.
+	 *	@param	tag3	The third tag index.
+	 *
+	 *	@return			Count of tag1 followed by tag2 followed by tag3.
+	 */
+
+	public int getCount( int tag1 , int tag2 , int tag3 )
+	{
+		if ( ( tag1 < 0 ) || ( tag2 < 0 ) || ( tag3 < 0 ) ) return 0;
+
+		int slot	= findTrigram( tag1 , tag2 , tag3 );
+
+		return ( slot < 0 ) ? 0 : trigramCounts[ slot ];
+	}
+
+	/**	Look up unigram probability.
+	 *
+	 *	@param	tag		The tag index.
+	 *
+	 *	@return			Probability of tag.
+	 */
+
+	public double getProbability( int tag )
+	{
+		return ( tag < 0 ) ? 0.0D : unigramProbs[ tag ];
+	}
+
+	/**	Look up bigram probability.
+	 *
+	 *	@param	tag1	The first tag index.
+	 *	@param	tag2	The second tag index.
+	 *
+	 *	@return			Transition probability of tag1 followed by tag2.
+	 */
+
+	public double getProbability( int tag1 , int tag2 )
+	{
+		return ( ( tag1 < 0 ) || ( tag2 < 0 ) ) ? 0.0D :
+			bigramProbs[ tag1 * tagCount + tag2 ];
+	}
+
+	/**	Look up trigram probability.
+	 *
+	 *	@param	tag1	The first tag index.
+	 *	@param	tag2	The second tag index.
+	 *	@param	tag3	The third tag index.
+	 *
+	 *	@return			Transition probability of tag1 followed by tag2
+	 *					followed by tag3.
+	 */
+
+	public double getProbability( int tag1 , int tag2 , int tag3 )
+	{
+		if ( ( tag1 < 0 ) || ( tag2 < 0 ) || ( tag3 < 0 ) ) return 0.0D;
+
+		int slot	= findTrigram( tag1 , tag2 , tag3 );
+
+		return ( slot < 0 ) ? 0.0D : trigramProbs[ slot ];
+	}
+
+	/**	Get bigram probability smoothed by deleted interpolation.
+	 *
+	 *	@param	tag				The current tag index.
+	 *	@param	previousTag		The previous tag index.
+	 *
+	 *	@return					Smoothed p( tag | previousTag ).
+	 */
+
+	public double getInterpolatedProbability( int tag , int previousTag )
+	{
+		if ( tag < 0 ) return 0.0D;
+
+		if ( previousTag < 0 )
+		{
+			return unigramProbs[ tag ] * bigramWeights[ 0 ];
+		}
+
+		return smoothedBigramProbs[ previousTag * tagCount + tag ];
+	}
+
+	/**	Get trigram probability smoothed by deleted interpolation.
+	 *
+	 *	@param	tag						The current tag index.
+	 *	@param	previousTag				The previous tag index.
+	 *	@param	previousPreviousTag		The previous previous tag index.
+	 *
+	 *	@return					Smoothed
+	 *							p( tag | previousPreviousTag , previousTag ).
+	 */
+
+	public double getInterpolatedProbability
+	(
+		int tag ,
+		int previousTag ,
+		int previousPreviousTag
+	)
+	{
+		if ( tag < 0 ) return 0.0D;
+
+		if ( previousTag < 0 )
+		{
+			return unigramProbs[ tag ] * trigramWeights[ 0 ];
+		}
+
+		if ( previousPreviousTag >= 0 )
+		{
+			int slot	= findTrigram( previousPreviousTag , previousTag , tag );
+
+			if ( slot >= 0 )
+			{
+				return smoothedTrigramProbs[ slot ];
+			}
+		}
+
+		return smoothedTrigramBackoffProbs[ previousTag * tagCount + tag ];
+	}
+
+	/**	Get bigram probability smoothed by deleted interpolation.
+	 *
+	 *	@param	tag				The current tag.
+	 *	@param	previousTag		The previous tag.
+	 *
+	 *	@return					Smoothed p( tag | previousTag ).
+	 */
+
+	public double getInterpolatedProbability( String tag , String previousTag )
+	{
+		return getInterpolatedProbability
+		(
+			getTagIndex( tag ) ,
+			getTagIndex( previousTag )
+		);
+	}
+
+	/**	Get trigram probability smoothed by deleted interpolation.
+	 *
+	 *	@param	tag						The current tag.
+	 *	@param	previousTag				The previous tag.
+	 *	@param	previousPreviousTag		The previous previous tag.
+	 *
+	 *	@return					Smoothed
+	 *							p( tag | previousPreviousTag , previousTag ).
+	 */
+
+	public double getInterpolatedProbability
+	(
+		String tag ,
+		String previousTag ,
+		String previousPreviousTag
+	)
+	{
+		return getInterpolatedProbability
+		(
+			getTagIndex( tag ) ,
+			getTagIndex( previousTag ) ,
+			getTagIndex( previousPreviousTag )
+		);
+	}
+
+	/**	Return bigram weights from deleted interpolation.
+	 *
+	 *	@return		Copy of bigram weights used to compile the matrix.
+	 */
+
+	public double[] getBigramWeights()
+	{
+		return bigramWeights.clone();
+	}
+
+	/**	Return trigram weights from deleted interpolation.
+	 *
+	 *	@return		Copy of trigram weights used to compile the matrix.
+	 */
+
+	public double[] getTrigramWeights()
+	{
+		return trigramWeights.clone();
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -8,6 +8,7 @@ import java.util.*;
 
 import edu.northwestern.at.utils.*;
 import edu.northwestern.at.utils.logger.*;
+import edu.northwestern.at.utils.snapshot.*;
 
 /**	Probability transition matrix.
  *
@@ -86,6 +87,12 @@ public class TransitionMatrix
 
 	protected double[] trigramWeights	= null;
 
+	/**	Compiled form of this matrix.  Null until requested.
+	 */
+
+	protected volatile CompiledTransitionMatrix compiledTransitionMatrix	=
+		null;
+
 	/**	Constants for clarification.
 	 */
 
@@ -151,7 +158,8 @@ public class TransitionMatrix
 		totalWords			+= increment;
 
 		                            	//	Probabilities are invalid.
-		haveProbabilities	= false;
+		haveProbabilities			= false;
+		compiledTransitionMatrix	= null;
 	}
 
 	/**	Increment bigram tag count.
@@ -186,7 +194,8 @@ public class TransitionMatrix
 			tag1 , tag2 , new Integer( newCount ) );
 
 		                            	//	Probabilities are invalid.
-		haveProbabilities	= false;
+		haveProbabilities			= false;
+		compiledTransitionMatrix	= null;
 	}
 
 	/**	Increment trigram tag count.
@@ -229,7 +238,8 @@ public class TransitionMatrix
 		trigramCountMap.put( tag1 , tag2 , tag3 , new Integer( newCount ) );
 
 		                            	//	Probabilities are invalid.
-		haveProbabilities	= false;
+		haveProbabilities			= false;
+		compiledTransitionMatrix	= null;
 	}
 
 	/**	Safely divide two counts.
@@ -630,6 +640,39 @@ public class TransitionMatrix
 		return result;
 	}
 
+	/**	Get compiled form of this transition matrix.
+	 *
+	 *	@return		The compiled transition matrix.
+	 *
+	 *	<p>
+	 *	The compiled matrix is created on first request and
+	 *	discarded whenever a count in this matrix changes.
+	 *	</p>
+	 */
+
+	public CompiledTransitionMatrix getCompiledTransitionMatrix()
+	{
+		CompiledTransitionMatrix result	= compiledTransitionMatrix;
+
+		if ( result == null )
+		{
+			synchronized( this )
+			{
+				result	= compiledTransitionMatrix;
+
+				if ( result == null )
+				{
+					result						=
+						new CompiledTransitionMatrix( this );
+
+					compiledTransitionMatrix	= result;
+				}
+			}
+		}
+
+		return result;
+	}
+
 	/**	Get row key set.
 	 *
 	 *		@return 	row key set.
@@ -670,6 +713,14 @@ public class TransitionMatrix
 		return totalWords;
 	}
 
+	/**	Snapshot format name for transition matrices. */
+
+	protected static final String SNAPSHOT_FORMAT	= "transitionmatrix";
+
+	/**	Snapshot format version for transition matrices. */
+
+	protected static final int SNAPSHOT_VERSION		= 1;
+
 	/**	Load transition matrix from a URL.
 	 *
 	 *	@param	url			URL from which to load transition matrix.
@@ -678,6 +729,12 @@ public class TransitionMatrix
 	 *						Usually a tab (\t).
 	 *
 	 *	@throws	IOException when an I/O error occurs.
+	 *
+	 *	<p>
+	 *	If the URL is a local file with an up to date binary snapshot
+	 *	(see {@link #createTransitionMatrixSnapshot}), the counts
+	 *	are loaded from the snapshot.  Otherwise the text is parsed.
+	 *	</p>
 	 */
 
 	public void loadTransitionMatrix
@@ -688,14 +745,101 @@ public class TransitionMatrix
 	)
 		throws IOException
 	{
+		SnapshotReader snapshotReader	=
+			SnapshotReader.open
+			(
+				url ,
+				SNAPSHOT_FORMAT ,
+				SNAPSHOT_VERSION ,
+				getSnapshotParameters( encoding , delimChar )
+			);
+
+		if ( snapshotReader != null )
+		{
+			loadTransitionMatrix( snapshotReader );
+		}
+		else
+		{
 								//	Create reader over URL input stream.
 
-		Reader reader	=
-			new UnicodeReader( url.openStream() , encoding );
+			Reader reader	=
+				new UnicodeReader( url.openStream() , encoding );
 
 								//	Load transition matrix using reader.
 
-		loadTransitionMatrix( reader , delimChar );
+			loadTransitionMatrix( reader , delimChar , null );
+		}
+	}
+
+	/**	Create binary snapshot of a transition matrix file.
+	 *
+	 *	@param	url			URL of local transition matrix file.
+	 *	@param	encoding	Character encoding for file text.
+	 *	@param	delimChar	Column separator character.
+	 *						Usually a tab (\t).
+	 *
+	 *	@return				The snapshot file.
+	 *
+	 *	@throws	IOException when an I/O error occurs.
+	 *
+	 *	<p>
+	 *	The transition matrix text is loaded into this matrix and
+	 *	the parsed counts are written to a snapshot file alongside
+	 *	the text file.
+	 *	</p>
+	 */
+
+	public File createTransitionMatrixSnapshot
+	(
+		URL url ,
+		String encoding ,
+		char delimChar
+	)
+		throws IOException
+	{
+		File matrixFile	= SnapshotUtils.getSourceFile( url );
+
+		if ( matrixFile == null )
+		{
+			throw new IOException
+			(
+				"Snapshots can only be created for local files: " + url
+			);
+		}
+
+		SnapshotWriter snapshotWriter	=
+			new SnapshotWriter
+			(
+				SNAPSHOT_FORMAT ,
+				SNAPSHOT_VERSION ,
+				getSnapshotParameters( encoding , delimChar )
+			);
+
+		loadTransitionMatrix
+		(
+			new UnicodeReader( url.openStream() , encoding ) ,
+			delimChar ,
+			snapshotWriter
+		);
+
+		return snapshotWriter.save( matrixFile );
+	}
+
+	/**	Get snapshot source parameters.
+	 *
+	 *	@param	encoding	Character encoding for file text.
+	 *	@param	delimChar	Column separator character.
+	 *
+	 *	@return				Source parameters string for snapshot.
+	 */
+
+	protected static String getSnapshotParameters
+	(
+		String encoding ,
+		char delimChar
+	)
+	{
+		return encoding + "|" + (int)delimChar;
 	}
 
 	/**	Load transition matrix from a reader.
@@ -716,22 +860,35 @@ public class TransitionMatrix
 	)
 		throws IOException
 	{
-		String line		= "";
-		String delim	= delimChar + "";
-
-								//	Count ngrams of each size.
-
-		totalNGrams[ UNIGRAM ]	= 0;
-		totalNGrams[ BIGRAM ]	= 0;
-		totalNGrams[ TRIGRAM ]	= 0;
+		loadTransitionMatrix( reader , delimChar , null );
+	}
 
-		uniqueNGrams[ UNIGRAM ]	= 0;
-		uniqueNGrams[ BIGRAM ]	= 0;
-		uniqueNGrams[ TRIGRAM ]	= 0;
+	/**	Load transition matrix from a reader.
+	 *
+	 *	@param	reader			Reader from which to read transition
+	 *							matrix.
+	 *
+	 *	@param	delimChar		Column separator character.
+	 *							Usually a tab (\t).
+	 *
+	 *	@param	snapshotWriter	Snapshot writer to record the parsed
+	 *							counts.  May be null.
+	 *
+	 *	@throws	IOException when an I/O error occurs.
+	 */
 
-								//	Count total words.
+	protected void loadTransitionMatrix
+	(
+		Reader reader,
+		char delimChar ,
+		SnapshotWriter snapshotWriter
+	)
+		throws IOException
+	{
+		String line		= "";
+		String delim	= delimChar + "";
 
-		totalWords				= 0;
+		startLoadingTransitionMatrix();
 
 								//	Wrap reader with BufferedReader
 								//	so we can read lines.
@@ -750,46 +907,28 @@ public class TransitionMatrix
 								//	We must have between 2 and 4
 								//	tokens.  Ignore the line if not.
 
-			switch ( tokens.length )
+			if ( ( tokens.length < 2 ) || ( tokens.length > 4 ) )
 			{
-								//	Unigram tag and count.
-				case 2:
-				{
-					int count	= Integer.parseInt( tokens[ 1 ] );
+				continue;
+			}
 
-					incrementCount( tokens[ 0 ] , count );
+			int n		= tokens.length - 1;
+			int count	= Integer.parseInt( tokens[ n ] );
 
-					break;
-				}
+			addNGramCount( tokens , n , count );
 
-								//	Bigram tags and count.
-				case 3:
-				{
-					int count	= Integer.parseInt( tokens[ 2 ] );
+								//	Record the ngram in the snapshot.
 
-					incrementCount( tokens[ 0 ] , tokens[ 1 ] , count );
+			if ( snapshotWriter != null )
+			{
+				snapshotWriter.writeInt( n );
 
-					break;
-				}
-								//	Trigram tags and count.
-				case 4:
+				for ( int i = 0 ; i < n ; i++ )
 				{
-					int count	= Integer.parseInt( tokens[ 3 ] );
-
-					incrementCount
-					(
-						tokens[ 0 ] ,
-						tokens[ 1 ] ,
-						tokens[ 2 ] ,
-						count
-					);
-
-					break;
+					snapshotWriter.writeString( tokens[ i ] );
 				}
 
-				default:
-				{
-				}
+				snapshotWriter.writeInt( count );
 			}
 		}
 								//	Close the reader.
@@ -800,11 +939,256 @@ public class TransitionMatrix
 
 		calculateProbabilities();
 
+								//	Record the probabilities in the
+								//	snapshot.
+
+		if ( snapshotWriter != null )
+		{
+			writeProbabilities( snapshotWriter );
+		}
 								//	Display ngram counts.
 
 //		displayNGramCounts();
 	}
 
+	/**	Load transition matrix from a snapshot.
+	 *
+	 *	@param	snapshotReader	The snapshot reader.
+	 */
+
+	protected void loadTransitionMatrix( SnapshotReader snapshotReader )
+	{
+		String[] tags	= new String[ 3 ];
+
+		startLoadingTransitionMatrix();
+
+		while ( snapshotReader.hasRemaining() )
+		{
+			int n	= snapshotReader.readInt();
+
+			for ( int i = 0 ; i < n ; i++ )
+			{
+				tags[ i ]	= snapshotReader.readString();
+			}
+
+			if ( n == 0 )
+			{
+				break;
+			}
+
+			addNGramCount( tags , n , snapshotReader.readInt() );
+		}
+								//	Read the probabilities computed
+								//	when the snapshot was created.
+
+		readProbabilities( snapshotReader );
+	}
+
+	/**	Write probabilities to a snapshot.
+	 *
+	 *	@param	snapshotWriter	The snapshot writer.
+	 *
+	 *	@throws	IOException when an I/O error occurs.
+	 *
+	 *	<p>
+	 *	A zero ngram length ends the counts.  The deleted interpolation
+	 *	weights and the unigram, bigram, and trigram probabilities
+	 *	follow.
+	 *	</p>
+	 */
+
+	protected void writeProbabilities( SnapshotWriter snapshotWriter )
+		throws IOException
+	{
+		snapshotWriter.writeInt( 0 );
+
+		writeWeights( snapshotWriter , bigramWeights );
+		writeWeights( snapshotWriter , trigramWeights );
+
+		snapshotWriter.writeInt( unigramProbMap.size() );
+
+		for ( String tag : unigramProbMap.keySet() )
+		{
+			snapshotWriter.writeString( tag );
+			snapshotWriter.writeDouble( unigramProbMap.get( tag ) );
+		}
+
+		snapshotWriter.writeInt( bigramProbMap.size() );
+
+		for ( CompoundKey key : bigramProbMap.keySet() )
+		{
+			Object[] tags	= key.getKeyValues();
+
+			snapshotWriter.writeString( tags[ 0 ].toString() );
+			snapshotWriter.writeString( tags[ 1 ].toString() );
+			snapshotWriter.writeDouble( bigramProbMap.get( key ) );
+		}
+
+		snapshotWriter.writeInt( trigramProbMap.size() );
+
+		Iterator<CompoundKey> iterator	= trigramProbMap.iterator();
+
+		while ( iterator.hasNext() )
+		{
+			CompoundKey key	= iterator.next();
+			Object[] tags	= key.getKeyValues();
+
+			snapshotWriter.writeString( tags[ 0 ].toString() );
+			snapshotWriter.writeString( tags[ 1 ].toString() );
+			snapshotWriter.writeString( tags[ 2 ].toString() );
+			snapshotWriter.writeDouble( trigramProbMap.get( key ) );
+		}
+	}
+
+	/**	Write weights to a snapshot.
+	 *
+	 *	@param	snapshotWriter	The snapshot writer.
+	 *	@param	weights			The weights.
+	 *
+	 *	@throws	IOException when an I/O error occurs.
+	 */
+
+	protected void writeWeights
+	(
+		SnapshotWriter snapshotWriter ,
+		double[] weights
+	)
+		throws IOException
+	{
+		snapshotWriter.writeInt( weights.length );
+
+		for ( int i = 0 ; i < weights.length ; i++ )
+		{
+			snapshotWriter.writeDouble( weights[ i ] );
+		}
+	}
+
+	/**	Read probabilities from a snapshot.
+	 *
+	 *	@param	snapshotReader	The snapshot reader.
+	 */
+
+	protected void readProbabilities( SnapshotReader snapshotReader )
+	{
+		bigramWeights	= readWeights( snapshotReader );
+		trigramWeights	= readWeights( snapshotReader );
+
+		int count	= snapshotReader.readInt();
+
+		for ( int i = 0 ; i < count ; i++ )
+		{
+			String tag	= snapshotReader.readString();
+
+			unigramProbMap.put(
+				tag , new Double( snapshotReader.readDouble() ) );
+		}
+
+		count	= snapshotReader.readInt();
+
+		for ( int i = 0 ; i < count ; i++ )
+		{
+			String tag1	= snapshotReader.readString();
+			String tag2	= snapshotReader.readString();
+
+			bigramProbMap.put(
+				tag1 , tag2 , new Double( snapshotReader.readDouble() ) );
+		}
+
+		count	= snapshotReader.readInt();
+
+		for ( int i = 0 ; i < count ; i++ )
+		{
+			String tag1	= snapshotReader.readString();
+			String tag2	= snapshotReader.readString();
+			String tag3	= snapshotReader.readString();
+
+			trigramProbMap.put
+			(
+				tag1 ,
+				tag2 ,
+				tag3 ,
+				new Double( snapshotReader.readDouble() )
+			);
+		}
+
+		haveProbabilities	= true;
+	}
+
+	/**	Read weights from a snapshot.
+	 *
+	 *	@param	snapshotReader	The snapshot reader.
+	 *
+	 *	@return					The weights.
+	 */
+
+	protected double[] readWeights( SnapshotReader snapshotReader )
+	{
+		double[] result	= new double[ snapshotReader.readInt() ];
+
+		for ( int i = 0 ; i < result.length ; i++ )
+		{
+			result[ i ]	= snapshotReader.readDouble();
+		}
+
+		return result;
+	}
+
+	/**	Prepare to load transition matrix counts.
+	 */
+
+	protected void startLoadingTransitionMatrix()
+	{
+								//	Count ngrams of each size.
+
+		totalNGrams[ UNIGRAM ]	= 0;
+		totalNGrams[ BIGRAM ]	= 0;
+		totalNGrams[ TRIGRAM ]	= 0;
+
+		uniqueNGrams[ UNIGRAM ]	= 0;
+		uniqueNGrams[ BIGRAM ]	= 0;
+		uniqueNGrams[ TRIGRAM ]	= 0;
+
+								//	Count total words.
+
+		totalWords				= 0;
+	}
+
+	/**	Add count for an ngram.
+	 *
+	 *	@param	tags	The ngram tags.
+	 *	@param	n		The number of tags in the ngram (1 to 3).
+	 *	@param	count	The count.
+	 */
+
+	protected void addNGramCount( String[] tags , int n , int count )
+	{
+		switch ( n )
+		{
+								//	Unigram tag and count.
+			case 1:
+			{
+				incrementCount( tags[ 0 ] , count );
+				break;
+			}
+								//	Bigram tags and count.
+			case 2:
+			{
+				incrementCount( tags[ 0 ] , tags[ 1 ] , count );
+				break;
+			}
+								//	Trigram tags and count.
+			case 3:
+			{
+				incrementCount( tags[ 0 ] , tags[ 1 ] , tags[ 2 ] , count );
+				break;
+			}
+
+			default:
+			{
+			}
+		}
+	}
+
 	/**	Display the ngram counts.
 	 */
 
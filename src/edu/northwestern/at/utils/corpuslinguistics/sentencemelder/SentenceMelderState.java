@@ -4,7 +4,7 @@ package edu.northwestern.at.utils.corpuslinguistics.sentencemelder;
 
 import java.util.*;
 
-import com.megginson.sax.*;
+import org.xml.sax.*;
 
 /**	Sentence melder state.
  *
@@ -45,9 +45,9 @@ public class SentenceMelderState
 
 	StringBuffer sb	= new StringBuffer();
 
-	/** XML writer for XML output. */
+	/** Content handler for XML output. */
 
-	XMLWriter xmlWriter	= null;
+	ContentHandler xmlWriter	= null;
 
 	/**	XML element URI. */
 
@@ -3,7 +3,6 @@ package edu.northwestern.at.utils.corpuslinguistics.sentencemelder;
 /*	Please see the license information at the end of this file. */
 
 import java.util.*;
-import com.megginson.sax.*;
 import org.xml.sax.*;
 import org.xml.sax.helpers.*;
 
@@ -25,10 +24,12 @@ public class XMLSentenceMelder extends SentenceMelder
 
 	/**	Create sentence melder.
 	 *
-	 *	@param	xmlWriter	XML output data writer.
+	 *	@param	xmlWriter	XML output data writer, or the
+	 *						content handler of a filter which
+	 *						passes output on to the writer.
 	 */
 
-	public XMLSentenceMelder( XMLWriter xmlWriter )
+	public XMLSentenceMelder( ContentHandler xmlWriter )
 	{
 		this.state.xmlWriter	= xmlWriter;
 	}
@@ -2,6 +2,7 @@ package edu.northwestern.at.utils.corpuslinguistics.sentencesplitter;
 
 /*	Please see the license information at the end of this file. */
 
+import java.io.*;
 import java.util.*;
 
 import edu.northwestern.at.utils.*;
@@ -463,18 +464,297 @@ abstract public class AbstractSentenceSplitter
 								//	Extract each sentence in order
 								//	of appearance.
 
-		List<String> previousSentenceWords	= null;
+		Iterator<List<String>> iterator	=
+			new SentenceExtractor( sentenceSplitterIterator , tokenizer );
 
-		while ( sentenceSplitterIterator.hasNext() )
+		while ( iterator.hasNext() )
+		{
+			result.add( iterator.next() );
+		}
+								//	Return list of sentences to caller.
+		return result;
+	 }
+
+	/**	Break text into sentences and tokens held as spans.
+	 *
+	 *	@param	text			Text to break into sentences and tokens.
+	 *	@param	tokenizer		Word tokenizer to use for breaking sentences
+	 *								into words.
+	 *
+	 *	@return					List of sentences.  Each sentence
+	 *								holds its word tokens as spans
+	 *								over the text.
+	 *
+	 *	<p>
+	 *	The sentences and tokens are the same as those returned by
+	 *	{@link #extractSentences(String,WordTokenizer)}.  The start
+	 *	and end offset of each token in the text are available
+	 *	without searching the text again, and the token strings are
+	 *	created only as they are needed.
+	 *	</p>
+	 */
+
+	public List<TokenSpans> extractSentenceSpans
+	(
+		String text ,
+		WordTokenizer tokenizer
+	)
+	{
+		List<TokenSpans> result	= ListFactory.createNewList();
+
+		sentenceSplitterIterator.setText( text );
+
+		Iterator<List<String>> iterator	=
+			new SentenceExtractor( sentenceSplitterIterator , tokenizer , text );
+
+		while ( iterator.hasNext() )
+		{
+			result.add( (TokenSpans)iterator.next() );
+		}
+
+		return result;
+	}
+
+	/**	Break text from a reader into sentences and tokens.
+	 *
+	 *	@param	reader		Reader supplying text to break into
+	 *						sentences and tokens.
+	 *	@param	tokenizer	Word tokenizer to use for breaking sentences
+	 *						into words.
+	 *
+	 *	@return				Iterator over sentences.  Each sentence
+	 *						is a list of word tokens.
+	 *
+	 *	<p>
+	 *	The text is read and split as the sentences are requested,
+	 *	so memory use does not depend on the length of the text.
+	 *	Lines are joined with a blank.  The sentences are the same
+	 *	as those returned by {@link #extractSentences(String,WordTokenizer)}
+	 *	for the joined text.
+	 *	</p>
+	 */
+
+	public Iterator<List<String>> extractSentences
+	(
+		Reader reader ,
+		WordTokenizer tokenizer
+	)
+	{
+		return new SentenceExtractor
+		(
+			new ReaderSentenceSplitterIterator
+			(
+				sentenceSplitterIterator ,
+				reader
+			) ,
+			tokenizer
+		);
+	}
+
+	/**	Iterator which extracts tokenized sentences one at a time.
+	 *
+	 *	<p>
+	 *	A sentence may still have words appended to it after the
+	 *	following candidate sentence is examined, so a sentence is
+	 *	returned only after the next sentence has been added or the
+	 *	text is exhausted.
+	 *	</p>
+	 */
+
+	protected class SentenceExtractor implements Iterator<List<String>>
+	{
+		/**	Splits the text into candidate sentences. */
+
+		protected SentenceSplitterIterator iterator;
+
+		/**	Tokenizer for splitting sentences into words. */
+
+		protected WordTokenizer tokenizer;
+
+		/**	Previous sentence. */
+
+		protected List<String> previousSentenceWords	= null;
+
+		/**	Sentences which may still be extended. */
+
+		protected List<List<String>> pendingSentences	=
+			ListFactory.createNewList();
+
+		/**	Sentences ready to be returned. */
+
+		protected LinkedList<List<String>> readySentences	=
+			new LinkedList<List<String>>();
+
+		/**	Text split by the iterator when sentences are returned
+		 *	as token spans, else null.
+		 */
+
+		protected String text	= null;
+
+		/**	Offset in text past the last candidate sentence. */
+
+		protected int textPosition	= 0;
+
+		/**	Create sentence extractor.
+		 *
+		 *	@param	iterator	Sentence splitter iterator positioned
+		 *						at the start of the text.
+		 *	@param	tokenizer	Word tokenizer.
+		 */
+
+		public SentenceExtractor
+		(
+			SentenceSplitterIterator iterator ,
+			WordTokenizer tokenizer
+		)
+		{
+			this.iterator	= iterator;
+			this.tokenizer	= tokenizer;
+		}
+
+		/**	Create sentence extractor returning token spans.
+		 *
+		 *	@param	iterator	Sentence splitter iterator positioned
+		 *						at the start of the text.
+		 *	@param	tokenizer	Word tokenizer.
+		 *	@param	text		The text split by the iterator.
+		 */
+
+		public SentenceExtractor
+		(
+			SentenceSplitterIterator iterator ,
+			WordTokenizer tokenizer ,
+			String text
+		)
+		{
+			this( iterator , tokenizer );
+
+			this.text	= text;
+		}
+
+		/**	Check if another sentence is available.
+		 *
+		 *	@return		true if another sentence is available.
+		 */
+
+		public boolean hasNext()
+		{
+			while ( readySentences.isEmpty() && iterator.hasNext() )
+			{
+				extractNextSentence();
+			}
+
+			if ( readySentences.isEmpty() && !pendingSentences.isEmpty() )
+			{
+				readySentences.addAll( pendingSentences );
+				pendingSentences.clear();
+			}
+
+			return !readySentences.isEmpty();
+		}
+
+		/**	Get next sentence.
+		 *
+		 *	@return		The next sentence as a list of word tokens.
+		 */
+
+		public List<String> next()
+		{
+			if ( !hasNext() )
+			{
+				throw new NoSuchElementException();
+			}
+
+			return readySentences.removeFirst();
+		}
+
+		/**	Remove is not supported.
+		 */
+
+		public void remove()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		/**	Add a sentence.
+		 *
+		 *	@param	sentenceWords	The sentence words.
+		 *
+		 *	<p>
+		 *	The previously added sentences can no longer change
+		 *	and become ready.
+		 *	</p>
+		 */
+
+		protected void add( List<String> sentenceWords )
+		{
+			List<List<String>> added	= ListFactory.createNewList();
+
+			addSentence( sentenceWords , added );
+
+			if ( added.size() > 0 )
+			{
+				readySentences.addAll( pendingSentences );
+				pendingSentences	= added;
+			}
+
+			previousSentenceWords	= sentenceWords;
+		}
+
+		/**	Split candidate sentence into words.
+		 *
+		 *	@param	sentenceText	The candidate sentence text.
+		 *
+		 *	@return					The words.  When token spans are
+		 *							returned, the words are token
+		 *							spans over the text.
+		 *
+		 *	<p>
+		 *	The candidate sentences are consecutive parts of the text,
+		 *	so each is found at or after the end of the one before it.
+		 *	</p>
+		 */
+
+		protected List<String> extractWords( String sentenceText )
+		{
+			if ( text == null )
+			{
+				return tokenizer.extractWords( sentenceText );
+			}
+
+			int start	=
+				text.startsWith( sentenceText , textPosition ) ?
+					textPosition : text.indexOf( sentenceText , textPosition );
+
+			if ( start < 0 )
+			{
+				return
+					TokenSpans.alignTokens
+					(
+						text ,
+						textPosition ,
+						tokenizer.extractWords( sentenceText )
+					);
+			}
+
+			textPosition	= start + sentenceText.length();
+
+			return tokenizer.extractWordSpans( text , start , textPosition );
+		}
+
+		/**	Extract next candidate sentence from the text.
+		 */
+
+		protected void extractNextSentence()
 		{
 								//	Get text of next sentence.
 
-			String sentenceText	= sentenceSplitterIterator.next();;
+			String sentenceText	= iterator.next();
 
 								//	Get text of sentence past next sentence,
 								//	if any.
 
-			String nextSentenceText	= sentenceSplitterIterator.peek();
+			String nextSentenceText	= iterator.peek();
 
 								//	If following sentence consists solely
 								//	of a period, join its text to the
@@ -485,18 +765,17 @@ abstract public class AbstractSentenceSplitter
 				)
 			{
 				sentenceText	= sentenceText + nextSentenceText;
-				sentenceSplitterIterator.next();
+				iterator.next();
 			}
 								//	Split sentence into words.
 
-			List<String> sentenceWords		=
-				tokenizer.extractWords( sentenceText );
+			List<String> sentenceWords		= extractWords( sentenceText );
 
 								//	Ignore empty sentence.
 
 			if ( sentenceWords.size() == 0 )
 			{
-				continue;
+				return;
 			}
 			    				//	Split sentence into apparent
 			    				//	subsentences at surround text markers,
@@ -533,8 +812,7 @@ abstract public class AbstractSentenceSplitter
 				{
 					if ( eosSeen && !quoteOnlySentence( sentenceWords ) )
 					{
-						addSentence( sentenceWords , result );
-						previousSentenceWords	= sentenceWords;
+						add( sentenceWords );
 					}
 					else
 					{
@@ -544,16 +822,13 @@ abstract public class AbstractSentenceSplitter
 						}
 						else
 						{
-							addSentence( sentenceWords , result );
-							previousSentenceWords	= sentenceWords;
+							add( sentenceWords );
 						}
 					}
 				}
 			}
 		}
-								//	Return list of sentences to caller.
-		return result;
-	 }
+	}
 
 	/**	Check if sentence contains only a double quote.
 	 *
@@ -630,12 +905,19 @@ abstract public class AbstractSentenceSplitter
 	 *						than the number of sentences -- the
 	 *						last offset is where the sentence
 	 *						after the last sentence would start.
+	 *
+	 *	<p>
+	 *	When the sentences are {@link TokenSpans} over the text, as
+	 *	returned by {@link #extractSentenceSpans}, their spans give
+	 *	the offsets directly.  Otherwise the words of each sentence
+	 *	are aligned with the text as TokenSpans.
+	 *	</p>
 	 */
 
 	public int[] findSentenceOffsets
 	(
 		String text ,
-		List<List<String>> sentences
+		List<? extends List<String>> sentences
 	)
 	{
 								//	Allocate int vector to hold
@@ -645,6 +927,11 @@ abstract public class AbstractSentenceSplitter
 
 		int[] result	= new int[ sentenceCount + 1 ];
 
+								//	Spans for sentences which are
+								//	not already spans over the text.
+
+		TokenSpans alignedSpans	= new TokenSpans( text );
+
 								//	Offset of current sentence.
 
 		int offset		= 0;
@@ -655,38 +942,46 @@ abstract public class AbstractSentenceSplitter
 		{
 								//	Get next sentence.
 
-			List sentence	= sentences.get( i );
+			List<String> sentence	= sentences.get( i );
 
 								//	Store its starting offset.
 
 			result[ i ]		= offset;
 
-								//	Find number of non-blank
-								//	characters in tokens in
-								//	sentence.
-
-			int nbCount	= 0;
+								//	Get the sentence's token spans,
+								//	aligning the tokens with the
+								//	text following the previous
+								//	sentence if needed.
+			TokenSpans spans;
 
-			for ( int j = 0 ; j < sentence.size() ; j++ )
+			if	(	( sentence instanceof TokenSpans ) &&
+					( ((TokenSpans)sentence).getText() == text )
+				)
 			{
-				nbCount	+= sentence.get( j ).toString().length();
+				spans	= (TokenSpans)sentence;
 			}
-								//	Move forward in text that many
-								//	non-blank characters, skipping
-								//	over any whitespace.  That will
-								//	give us the offset of the start of
-								//	the next sentence, if any.
+			else
+			{
+				spans	= alignedSpans;
 
-			int tNbCount	= 0;
+				spans.clear();
+				spans.setAlignPosition( offset );
 
-			while ( tNbCount < nbCount )
-			{
-				if ( !CharUtils.isWhitespace( text.charAt( offset ) ) )
+				for ( int j = 0 ; j < sentence.size() ; j++ )
 				{
-					tNbCount++;
+					spans.add( sentence.get( j ) );
 				}
+			}
+								//	The next sentence starts after
+								//	the last token in this sentence.
 
-				offset++;
+			for ( int j = spans.size() - 1 ; j >= 0 ; j-- )
+			{
+				if ( spans.hasSpan( j ) )
+				{
+					offset	= spans.getEnd( j );
+					break;
+				}
 			}
 		}
 								//	Store position of last sentence + 1.
@@ -1001,19 +1296,37 @@ abstract public class AbstractSentenceSplitter
 	{
 		List<List<String>> result	= ListFactory.createNewList();
 
-		List<String> subSentence	= ListFactory.createNewList();
+		List<String> subSentence	= newSubSentence( sentenceWords );
 
 		for ( int i = 0 ; i < sentenceWords.size() ; i++ )
 		{
-			String word	= sentenceWords.get( i );
+			boolean endOfSection;
 
-			subSentence.add( word );
+			if ( sentenceWords instanceof TokenSpans )
+			{
+				TokenSpans spans	= (TokenSpans)sentenceWords;
+
+				((TokenSpans)subSentence).addSpan( spans , i );
 
-			if ( word.equals(
-				CharUtils. CHAR_END_OF_TEXT_SECTION_STRING ) )
+				endOfSection	=
+					spans.tokenEquals(
+						i , CharUtils. CHAR_END_OF_TEXT_SECTION_STRING );
+			}
+			else
+			{
+				String word	= sentenceWords.get( i );
+
+				subSentence.add( word );
+
+				endOfSection	=
+					word.equals(
+						CharUtils. CHAR_END_OF_TEXT_SECTION_STRING );
+			}
+
+			if ( endOfSection )
 			{
 				result.add( subSentence );
-				subSentence	= ListFactory.createNewList();
+				subSentence	= newSubSentence( sentenceWords );
 			}
 		}
 
@@ -1025,6 +1338,25 @@ abstract public class AbstractSentenceSplitter
 		return result;
 	}
 
+	/**	Create an empty subsentence.
+	 *
+	 *	@param	sentenceWords	The sentence words being split.
+	 *
+	 *	@return					Empty token spans over the same text
+	 *							if the sentence words are token spans,
+	 *							else an empty list.
+	 */
+
+	protected List<String> newSubSentence( List<String> sentenceWords )
+	{
+		if ( sentenceWords instanceof TokenSpans )
+		{
+			return new TokenSpans( ((TokenSpans)sentenceWords).getText() );
+		}
+
+		return ListFactory.createNewList();
+	}
+
 	/**	See if potential verb found in token list.
 	 *
 	 *	@param	tokenList	The token list.
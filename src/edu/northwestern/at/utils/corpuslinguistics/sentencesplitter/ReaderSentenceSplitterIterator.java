@@ -0,0 +1,363 @@
+package edu.northwestern.at.utils.corpuslinguistics.sentencesplitter;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.util.*;
+
+/**	Sentence splitter iterator over text read from a Reader.
+ *
+ *	<p>
+ *	Text is read a chunk at a time and split into sentences
+ *	by another sentence splitter iterator, so only about one chunk
+ *	of text is held in memory however long the input is.
+ *	Sentence boundaries found within the last
+ *	{@link #SAFETY_MARGIN} characters of a chunk, and the last
+ *	sentence in a chunk, are not trusted.  The text from the
+ *	last trusted boundary on is carried over into the next chunk.
+ *	This yields the same sentences as splitting the entire text at once.
+ *	</p>
+ *
+ *	<p>
+ *	When no trusted sentence boundary is found the chunk size is
+ *	doubled, up to {@link #MAXIMUM_CHUNK_SIZE} characters.
+ *	Text of that length without a sentence boundary is split
+ *	at the last boundary found, or returned as one sentence
+ *	if there is none.
+ *	</p>
+ *
+ *	<p>
+ *	As in {@link edu.northwestern.at.utils.corpuslinguistics.inputter.URLTextInputter},
+ *	input lines are joined with a blank.
+ *	</p>
+ */
+
+public class ReaderSentenceSplitterIterator
+	implements SentenceSplitterIterator
+{
+	/**	Default chunk size in characters. */
+
+	public static final int DEFAULT_CHUNK_SIZE	= 65536;
+
+	/**	Characters at the end of a chunk in which sentence boundaries
+	 *	may still change when more text is read.
+	 */
+
+	public static final int SAFETY_MARGIN		= 2048;
+
+	/**	Maximum chunk size in characters. */
+
+	public static final int MAXIMUM_CHUNK_SIZE	= 16 * DEFAULT_CHUNK_SIZE;
+
+	/**	Sentence splitter iterator for each chunk. */
+
+	protected SentenceSplitterIterator chunkIterator;
+
+	/**	Reader supplying the text. */
+
+	protected BufferedReader reader;
+
+	/**	Text read but not yet split into trusted sentences. */
+
+	protected StringBuffer buffer	= new StringBuffer();
+
+	/**	Chunk size. */
+
+	protected int chunkSize;
+
+	/**	Maximum chunk size. */
+
+	protected int maximumChunkSize;
+
+	/**	True when all input has been read. */
+
+	protected boolean endOfInput;
+
+	/**	Sentences ready to be returned. */
+
+	protected LinkedList<String> sentences	= new LinkedList<String>();
+
+	/**	Create reader sentence splitter iterator.
+	 *
+	 *	@param	chunkIterator	Sentence splitter iterator used
+	 *							to split each chunk.
+	 *	@param	reader			Reader supplying the text.
+	 *	@param	chunkSize		Chunk size in characters.
+	 */
+
+	public ReaderSentenceSplitterIterator
+	(
+		SentenceSplitterIterator chunkIterator ,
+		Reader reader ,
+		int chunkSize
+	)
+	{
+		this.chunkIterator	= chunkIterator;
+		this.chunkSize		= Math.max( chunkSize , 2 * SAFETY_MARGIN );
+
+		this.maximumChunkSize	=
+			Math.max( this.chunkSize , MAXIMUM_CHUNK_SIZE );
+
+		setReader( reader );
+	}
+
+	/**	Create reader sentence splitter iterator.
+	 *
+	 *	@param	chunkIterator	Sentence splitter iterator used
+	 *							to split each chunk.
+	 *	@param	reader			Reader supplying the text.
+	 */
+
+	public ReaderSentenceSplitterIterator
+	(
+		SentenceSplitterIterator chunkIterator ,
+		Reader reader
+	)
+	{
+		this( chunkIterator , reader , DEFAULT_CHUNK_SIZE );
+	}
+
+	/**	Set the reader supplying the text to split.
+	 *
+	 *	@param	reader	Reader supplying the text.
+	 */
+
+	public void setReader( Reader reader )
+	{
+		this.reader	=
+			( reader instanceof BufferedReader ) ?
+				(BufferedReader)reader : new BufferedReader( reader );
+
+		buffer.setLength( 0 );
+		sentences.clear();
+
+		endOfInput	= false;
+	}
+
+	/**	Set the text to split.
+	 *
+	 *	@param	text	Text to split.
+	 */
+
+	public void setText( String text )
+	{
+		setReader( new StringReader( text ) );
+	}
+
+	/**	Check if there is another sentence available.
+	 *
+	 *	@return	true if another sentence is available.
+	 */
+
+	public boolean hasNext()
+	{
+		while	(	sentences.isEmpty() &&
+					( !endOfInput || ( buffer.length() > 0 ) )
+				)
+		{
+			splitChunk();
+		}
+
+		return !sentences.isEmpty();
+	}
+
+	/**	Return next sentence.
+	 *
+	 *	@return	next sentence, or null if none.
+	 */
+
+	public String next()
+	{
+		return hasNext() ? sentences.removeFirst() : null;
+	}
+
+	/**	Return next sentence without advancing sentence pointer.
+	 *
+	 *	@return	next sentence, or null if none.
+	 */
+
+	public String peek()
+	{
+		return hasNext() ? sentences.getFirst() : null;
+	}
+
+	/**	Read text until the buffer holds a specified number of characters.
+	 *
+	 *	@param	size	Number of characters wanted.
+	 *
+	 *	<p>
+	 *	Sets endOfInput when the reader is exhausted.
+	 *	</p>
+	 */
+
+	protected void fillBuffer( int size )
+	{
+		try
+		{
+			while ( !endOfInput && ( buffer.length() < size ) )
+			{
+				String line	= reader.readLine();
+
+				if ( line == null )
+				{
+					endOfInput	= true;
+					reader.close();
+				}
+				else
+				{
+					buffer.append( line );
+					buffer.append( " " );
+				}
+			}
+		}
+		catch ( IOException e )
+		{
+			throw new IllegalStateException( e.toString() );
+		}
+	}
+
+	/**	Split the buffered text and queue the trusted sentences.
+	 */
+
+	protected void splitChunk()
+	{
+		int size	= chunkSize;
+
+		while ( true )
+		{
+			fillBuffer( size );
+
+			String text	= buffer.toString();
+
+			chunkIterator.setText( text );
+
+			List<String> chunkSentences	= new ArrayList<String>();
+
+			while ( chunkIterator.hasNext() )
+			{
+				chunkSentences.add( chunkIterator.next() );
+			}
+								//	At the end of the input all the
+								//	sentences are final.
+			if ( endOfInput )
+			{
+				sentences.addAll( chunkSentences );
+				buffer.setLength( 0 );
+
+				return;
+			}
+								//	Otherwise keep sentences which end
+								//	well before the end of the text
+								//	and are followed by another
+								//	sentence.
+
+			int trustedEnd	= text.length() - SAFETY_MARGIN;
+			int end			= 0;
+			int trusted		= 0;
+
+			for ( int i = 0 ; i < ( chunkSentences.size() - 1 ) ; i++ )
+			{
+				int sentenceEnd	= end + chunkSentences.get( i ).length();
+
+				if ( sentenceEnd > trustedEnd )
+				{
+					break;
+				}
+
+				end	= sentenceEnd;
+				trusted++;
+			}
+
+			if ( trusted > 0 )
+			{
+				sentences.addAll( chunkSentences.subList( 0 , trusted ) );
+				buffer.delete( 0 , end );
+
+				return;
+			}
+								//	No trusted sentence in the largest
+								//	chunk allowed.  Keep all but the
+								//	last sentence, or the entire
+								//	chunk if it holds one sentence.
+
+			if ( size >= maximumChunkSize )
+			{
+				if ( chunkSentences.size() > 1 )
+				{
+					end	= 0;
+
+					for ( int i = 0 ; i < ( chunkSentences.size() - 1 ) ; i++ )
+					{
+						end	+= chunkSentences.get( i ).length();
+					}
+
+					sentences.addAll
+					(
+						chunkSentences.subList
+						(
+							0 ,
+							chunkSentences.size() - 1
+						)
+					);
+
+					buffer.delete( 0 , end );
+				}
+				else
+				{
+					sentences.addAll( chunkSentences );
+					buffer.setLength( 0 );
+				}
+
+				return;
+			}
+								//	No trusted sentence yet.  Read
+								//	a larger chunk.
+
+			size	= Math.min( 2 * size , maximumChunkSize );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -2,6 +2,7 @@ package edu.northwestern.at.utils.corpuslinguistics.sentencesplitter;
 
 /*	Please see the license information at the end of this file. */
 
+import java.io.*;
 import java.util.*;
 
 import edu.northwestern.at.utils.corpuslinguistics.postagger.guesser.*;
@@ -75,6 +76,50 @@ public interface SentenceSplitter
 
 	public List<List<String>> extractSentences( String text );
 
+	/**	Break text from a reader into sentences and tokens.
+	 *
+	 *	@param	reader		Reader supplying text to break into
+	 *						sentences and tokens.
+	 *	@param	tokenizer	Tokenizer to use for breaking sentences
+	 *						into words.
+	 *
+	 *	@return				Iterator over sentences.  Each sentence
+	 *						is a list of word tokens.
+	 *
+	 *	<p>
+	 *	The text is read as the sentences are requested.
+	 *	Lines are joined with a blank.
+	 *	</p>
+	 */
+
+	public Iterator<List<String>> extractSentences
+	(
+		Reader reader ,
+		WordTokenizer tokenizer
+	);
+
+	/**	Break text into sentences and tokens held as spans.
+	 *
+	 *	@param	text			Text to break into sentences and tokens.
+	 *	@param	tokenizer		Tokenizer to use for breaking sentences
+	 *							into words.
+	 *
+	 *	@return					List of sentences.  Each sentence
+	 *							holds its word tokens as spans over
+	 *							the text.
+	 *
+	 *	<p>
+	 *	The sentences and tokens are the same as those returned by
+	 *	{@link #extractSentences(String,WordTokenizer)}.
+	 *	</p>
+	 */
+
+	public List<TokenSpans> extractSentenceSpans
+	(
+		String text ,
+		WordTokenizer tokenizer
+	);
+
 	/**	Find starting offsets of sentences extracted from a text.
 	 *
 	 *	@param	text			Text from which sentences were
@@ -98,7 +143,7 @@ public interface SentenceSplitter
 	public int[] findSentenceOffsets
 	(
 		String text ,
-		List<List<String>> sentences
+		List<? extends List<String>> sentences
 	);
 }
 
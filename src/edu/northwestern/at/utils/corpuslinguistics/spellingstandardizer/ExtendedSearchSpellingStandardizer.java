@@ -17,6 +17,14 @@ import edu.northwestern.at.utils.corpuslinguistics.stringsimilarity.*;
  *	methods to try to find a good list of suggested standardized
  *	spellings.
  *	</p>
+ *
+ *	<p>
+ *	The alternate and standard spelling dictionaries are
+ *	{@link EditNeighborhoodSpellingDictionary} instances.  Their
+ *	candidate indices find suggestions without near searches through
+ *	the ternary tries, and hold the double metaphone codes used to
+ *	score the suggestions.
+ *	</p>
  */
 
 public class ExtendedSearchSpellingStandardizer
@@ -32,6 +40,14 @@ public class ExtendedSearchSpellingStandardizer
 
 	protected DoubleMetaphone doubleMetaphone	= new DoubleMetaphone();
 
+	/**	Dictionary of alternate and standard spellings. */
+
+	protected IndexedSpellingDictionary globalDictionary;
+
+	/**	Dictionary of standard spellings. */
+
+	protected IndexedSpellingDictionary localDictionary;
+
 	/**	Create extended search spelling standardizer.
 	 */
 
@@ -41,28 +57,36 @@ public class ExtendedSearchSpellingStandardizer
 	}
 
 	/**	Creates dictionaries from spelling lists.
+	 *
+	 *	<p>
+	 *	The candidate indices of both dictionaries are built here,
+	 *	so the first standardization does not wait for them.
+	 *	</p>
 	 */
 
 	public void createDictionaries()
 	{
-		SpellingDictionary globalDictionary	= null;
-		SpellingDictionary localDictionary	= null;
+		globalDictionary	= null;
+		localDictionary		= null;
 
 		long startTime = System.currentTimeMillis();
 
 		try
 		{
 			globalDictionary		=
-				new TernaryTrieSpellingDictionary
+				new EditNeighborhoodSpellingDictionary
 				(
 					mappedSpellings
 				);
 
 			localDictionary			=
-				new TernaryTrieSpellingDictionary
+				new EditNeighborhoodSpellingDictionary
 				(
 					standardSpellingSet
 				);
+
+			globalDictionary.buildIndex();
+			localDictionary.buildIndex();
 		}
 		catch ( Exception e )
 		{
@@ -114,8 +138,8 @@ public class ExtendedSearchSpellingStandardizer
 
 		try
 		{
-			SpellingDictionary localDictionary			=
-				new TernaryTrieSpellingDictionary
+			localDictionary			=
+				new EditNeighborhoodSpellingDictionary
 				(
 					standardSpellingSet
 				);
@@ -426,14 +450,14 @@ try ss for sf or fs
 								//	Get phonetic values for
 								//	suggestion.
 
-			doubleMetaphone.encode( suggestions[ i ] );
+			String[] codes	= getPhoneticCodes( suggestions[ i ] );
 
 								//	If suggestion matches one of the
 								//	phonetic values for the spelling,
 								//	raise the score of the suggestion.
 
-			if (	dm1.equals( doubleMetaphone.getPrimary() ) ||
-				    dm2.equals( doubleMetaphone.getAlternate() ) )
+			if (	dm1.equals( codes[ 0 ] ) ||
+				    dm2.equals( codes[ 1 ] ) )
 			{
 				score	+= score + 0.2D;
 			}
@@ -497,6 +521,55 @@ try ss for sf or fs
  		return result;
 	}
 
+	/**	Get double metaphone codes for a spelling.
+	 *
+	 *	@param	spelling	The spelling.
+	 *
+	 *	@return				Two element array with the primary and
+	 *						alternate codes.
+	 *
+	 *	<p>
+	 *	The codes for dictionary spellings are taken from the
+	 *	dictionary candidate indices.  Other spellings are encoded.
+	 *	</p>
+	 */
+
+	protected String[] getPhoneticCodes( String spelling )
+	{
+		String primary		= null;
+		String alternate	= null;
+
+		SpellingCandidateIndex index	= null;
+
+		if ( localDictionary != null )
+		{
+			index	= localDictionary.getIndex();
+
+			primary	= index.getPrimaryCode( spelling );
+		}
+
+		if ( ( primary == null ) && ( globalDictionary != null ) )
+		{
+			index	= globalDictionary.getIndex();
+
+			primary	= index.getPrimaryCode( spelling );
+		}
+
+		if ( primary != null )
+		{
+			alternate	= index.getAlternateCode( spelling );
+		}
+		else
+		{
+			doubleMetaphone.encode( spelling );
+
+			primary		= doubleMetaphone.getPrimary();
+			alternate	= doubleMetaphone.getAlternate();
+		}
+
+		return new String[]{ primary , alternate };
+	}
+
 	/**	Return suggested spellings.
 	 *
 	 *	@param	spelling		The spelling for which to return suggestions.
@@ -6,8 +6,10 @@ import java.io.*;
 import java.net.*;
 import java.rmi.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
 import edu.northwestern.at.utils.logger.*;
 import edu.northwestern.at.morphadorner.servers.standardizerserver.*;
 
@@ -17,6 +19,44 @@ import edu.northwestern.at.morphadorner.servers.standardizerserver.*;
  *	This spelling standardizer uses RMI calls to a spelling
  *	standardizer to find standardized spellings.
  *	</p>
+ *
+ *	<p>
+ *	Results are kept in a local bounded cache, so each distinct
+ *	spelling and word class pair normally costs only one remote call.
+ *	The cache size is set by the "remotestandardizer.cachesize"
+ *	system property (default 100,000 entries) and the eviction policy
+ *	by "remotestandardizer.cachepolicy".  A size of zero disables
+ *	the cache.
+ *	</p>
+ *
+ *	<p>
+ *	{@link #standardizeSpellings(String[],String[])} and
+ *	{@link #standardizeSpellings(String[])} look up whole arrays of
+ *	spellings with one remote call per batch of misses.  Calls to
+ *	{@link #standardizeSpelling(String,String)} made at the same time
+ *	by several threads are also coalesced into batches by a dispatcher
+ *	thread.  A batch holds up to "remotestandardizer.batchsize"
+ *	spellings (default 256).  The dispatcher sends whatever has queued
+ *	while the previous batch was in flight, waiting an additional
+ *	"remotestandardizer.batchwindow" milliseconds (default 0) to fill
+ *	a batch.  A batch size of one sends each spelling directly.
+ *	A caller waits at most "remotestandardizer.resulttimeout"
+ *	milliseconds (default 60,000) for its batch to be answered, after
+ *	which the input spelling is returned as its own standard spelling.
+ *	</p>
+ *
+ *	<p>
+ *	Input spellings returned because the server could not answer are
+ *	never cached.  Callers which keep the results elsewhere can use
+ *	{@link #standardizeSpelling(String,String,boolean[])} and
+ *	{@link #standardizeSpellings(String[],String[],boolean[])} to
+ *	find out which results the server answered.
+ *	</p>
+ *
+ *	<p>
+ *	The standardization methods may be called by several threads at
+ *	once without further synchronization.
+ *	</p>
  */
 
 public class RemoteSpellingStandardizer
@@ -30,6 +70,61 @@ public class RemoteSpellingStandardizer
 
 	protected Logger logger;
 
+	/**	Default local cache size. */
+
+	public static final int DEFAULT_CACHE_SIZE	= 100000;
+
+	/**	Default maximum number of spellings per remote call. */
+
+	public static final int DEFAULT_BATCH_SIZE	= 256;
+
+	/**	Default time in milliseconds to wait to fill a batch. */
+
+	public static final long DEFAULT_BATCH_WINDOW	= 0;
+
+	/**	Default time in milliseconds to wait for a queued spelling. */
+
+	public static final long DEFAULT_RESULT_TIMEOUT	= 60000;
+
+	/**	Cache of standard spellings by spelling and word class.
+	 *	Null if caching is disabled.
+	 */
+
+	protected BoundedCache<String, String> cache;
+
+	/**	Cache of standard spellings by spelling alone.
+	 *	Null if caching is disabled.
+	 */
+
+	protected BoundedCache<String, String[]> spellingsCache;
+
+	/**	Maximum number of spellings per remote call. */
+
+	protected int batchSize	= DEFAULT_BATCH_SIZE;
+
+	/**	Time in milliseconds to wait to fill a batch. */
+
+	protected long batchWindow	= DEFAULT_BATCH_WINDOW;
+
+	/**	Time in milliseconds to wait for a queued spelling. */
+
+	protected long resultTimeout	= DEFAULT_RESULT_TIMEOUT;
+
+	/**	Spellings waiting for the dispatcher thread. */
+
+	protected BlockingQueue<PendingSpelling> pendingSpellings	=
+		new LinkedBlockingQueue<PendingSpelling>();
+
+	/**	Dispatcher thread.  Null until first needed, and again
+	 *	after the dispatcher thread exits.
+	 */
+
+	protected Thread dispatcher;
+
+	/**	True once the standardizer is closed. */
+
+	protected volatile boolean closed	= false;
+
 	/**	Create spelling standardizer that uses a remote standardizer server.
 	 */
 
@@ -38,6 +133,81 @@ public class RemoteSpellingStandardizer
 		initializeServerSession();
 
 		logger	= new DummyLogger();
+
+		cache			=
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"remotestandardizer" ,
+				DEFAULT_CACHE_SIZE
+			);
+
+		spellingsCache	=
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"remotestandardizer" ,
+				DEFAULT_CACHE_SIZE
+			);
+
+		batchSize	=
+			Math.max
+			(
+				1 ,
+				getIntegerProperty
+				(
+					"remotestandardizer.batchsize" ,
+					DEFAULT_BATCH_SIZE
+				)
+			);
+
+		batchWindow	=
+			Math.max
+			(
+				0 ,
+				getIntegerProperty
+				(
+					"remotestandardizer.batchwindow" ,
+					(int)DEFAULT_BATCH_WINDOW
+				)
+			);
+
+		resultTimeout	=
+			Math.max
+			(
+				1 ,
+				getIntegerProperty
+				(
+					"remotestandardizer.resulttimeout" ,
+					(int)DEFAULT_RESULT_TIMEOUT
+				)
+			);
+	}
+
+	/**	Get integer system property.
+	 *
+	 *	@param	name			Property name.
+	 *	@param	defaultValue	Value to return if property is missing
+	 *							or invalid.
+	 *
+	 *	@return					The property value.
+	 */
+
+	protected static int getIntegerProperty( String name , int defaultValue )
+	{
+		int result		= defaultValue;
+		String value	= System.getProperty( name );
+
+		if ( value != null )
+		{
+			try
+			{
+				result	= Integer.parseInt( value.trim() );
+			}
+			catch ( NumberFormatException e )
+			{
+			}
+		}
+
+		return result;
 	}
 
 	/**	Initializes the server session.
@@ -193,7 +363,7 @@ public class RemoteSpellingStandardizer
 
 	public void addStandardSpellings
 	(
-		Collection standardSpellings
+		Collection<String> standardSpellings
 	)
 	{
 	}
@@ -235,27 +405,131 @@ public class RemoteSpellingStandardizer
 
 	 public String[] standardizeSpelling( String spelling )
 	 {
-								//	Assume input spelling as result.
+	 	return standardizeSpellings( new String[]{ spelling } )[ 0 ];
+	 }
 
-	 	String[] result	= new String[]{ spelling };
+	/**	Returns standard spellings for an array of spellings.
+	 *
+	 *	@param	spellings	The spellings.
+	 *
+	 *	@return				The standard spellings for each spelling,
+	 *						parallel to spellings.
+	 *
+	 *	<p>
+	 *	Spellings not in the local cache are sent to the server in
+	 *	batches.  If the server cannot be reached, the input spelling
+	 *	is returned as its own standard spelling.  Each returned array
+	 *	is a copy the caller may modify.
+	 *	</p>
+	 */
 
-								//	If we connected successfully to
-								//	the remote standardizer server,
-								//	ask the remote server for the
-								//	standardized spelling.
-	 	if ( session != null )
-	 	{
-	 		try
-	 		{
-	 			result	= session.standardizeSpelling( spelling );
-	 		}
-	 		catch ( RemoteException e )
-	 		{
-	 		}
-	 	}
+	public String[][] standardizeSpellings( String[] spellings )
+	{
+		String[][] result		= new String[ spellings.length ][];
 
-	 	return result;
-	 }
+								//	Collect distinct spellings
+								//	not in cache.
+
+		Map<String, List<Integer>> misses	=
+			new LinkedHashMap<String, List<Integer>>();
+
+		for ( int i = 0 ; i < spellings.length ; i++ )
+		{
+			String[] cached	=
+				( spellingsCache != null ) ?
+					spellingsCache.get( spellings[ i ] ) : null;
+
+			if ( cached != null )
+			{
+				result[ i ]	= cached.clone();
+			}
+			else
+			{
+				addMiss( misses , spellings[ i ] , i );
+			}
+		}
+								//	Ask the server for the misses,
+								//	a batch at a time.
+
+		String[] missSpellings	=
+			misses.keySet().toArray( new String[ misses.size() ] );
+
+		for ( int start = 0 ; start < missSpellings.length ; start += batchSize )
+		{
+			int end			=
+				Math.min( start + batchSize , missSpellings.length );
+
+			String[] batch	= new String[ end - start ];
+
+			System.arraycopy( missSpellings , start , batch , 0 , batch.length );
+
+			String[][] standardSpellings	= null;
+
+			if ( session != null )
+			{
+				try
+				{
+					standardSpellings	= session.standardizeSpellings( batch );
+				}
+				catch ( RemoteException e )
+				{
+					logger.logError
+					(
+						"Unable to standardize batch of " +
+						batch.length + " spellings." ,
+						e
+					);
+				}
+			}
+								//	Treat a short result as no result.
+
+			if	(	( standardSpellings != null ) &&
+					( standardSpellings.length < batch.length )
+				)
+			{
+				logger.logWarning
+				(
+					"Standardizer server returned " +
+					standardSpellings.length + " spellings for " +
+					batch.length + " requested."
+				);
+
+				standardSpellings	= null;
+			}
+
+			for ( int i = 0 ; i < batch.length ; i++ )
+			{
+				String[] standardSpelling	= null;
+
+				if ( standardSpellings != null )
+				{
+					standardSpelling	= standardSpellings[ i ];
+				}
+								//	Use the input spelling when the
+								//	server gave no standard spelling.
+								//	Only server answers are cached.
+
+				if ( standardSpelling == null )
+				{
+					standardSpelling	= new String[]{ batch[ i ] };
+				}
+				else if ( spellingsCache != null )
+				{
+					spellingsCache.put( batch[ i ] , standardSpelling.clone() );
+				}
+
+				List<Integer> indices	= misses.get( batch[ i ] );
+
+				for ( int j = 0 ; j < indices.size() ; j++ )
+				{
+					result[ indices.get( j ).intValue() ]	=
+						standardSpelling.clone();
+				}
+			}
+		}
+
+		return result;
+	}
 
 	/**	Returns a standard spelling given a standard or alternate spelling.
 	 *
@@ -263,28 +537,659 @@ public class RemoteSpellingStandardizer
 	 *	@param	wordClass	The word class.
 	 *
 	 *	@return				The standard spelling.
+	 *
+	 *	<p>
+	 *	A spelling not in the local cache is handed to the dispatcher
+	 *	thread so that it may be sent to the server together with
+	 *	spellings requested by other threads.
+	 *	</p>
 	 */
 
 	public String standardizeSpelling( String spelling , String wordClass )
 	{
-									//	Assume input spelling as result.
+		return standardizeSpelling( spelling , wordClass , null );
+	}
 
-	 	String result	= spelling;
+	/**	Returns a standard spelling given a standard or alternate spelling.
+	 *
+	 *	@param	spelling	The spelling.
+	 *	@param	wordClass	The word class.
+	 *	@param	answered	One element array set to true if the
+	 *						standard spelling was answered by the
+	 *						server, or false if the input spelling
+	 *						was returned because the server could
+	 *						not answer.  May be null.
+	 *
+	 *	@return				The standard spelling.
+	 */
 
-	 	if ( session != null )
-	 	{
-	 		try
-	 		{
-	 			result	=
-	 				session.standardizeSpelling( spelling , wordClass );
-	 		}
-	 		catch ( RemoteException e )
-	 		{
-	 		}
-	 	}
+	public String standardizeSpelling
+	(
+		String spelling ,
+		String wordClass ,
+		boolean[] answered
+	)
+	{
+		String result	= getCachedSpelling( spelling , wordClass );
+
+		if ( answered != null )
+		{
+			answered[ 0 ]	= ( result != null );
+		}
+
+		if ( result == null )
+		{
+			if ( ( batchSize <= 1 ) || ( session == null ) || closed )
+			{
+				result	=
+					standardizeSpellings
+					(
+						new String[]{ spelling } ,
+						new String[]{ wordClass } ,
+						answered
+					)[ 0 ];
+			}
+			else
+			{
+				PendingSpelling pending	=
+					new PendingSpelling( spelling , wordClass );
+
+				pendingSpellings.add( pending );
+
+								//	If the standardizer was closed
+								//	while we queued the spelling,
+								//	the dispatcher may already have
+								//	released the queue.  Resolve the
+								//	spelling ourselves if it is still
+								//	queued.
+
+				if ( closed || !startDispatcher() )
+				{
+					if ( pendingSpellings.remove( pending ) )
+					{
+						pending.setResult( spelling );
+					}
+				}
+
+				result	= pending.getResult( resultTimeout );
+
+				if ( answered != null )
+				{
+					answered[ 0 ]	= pending.isAnswered();
+				}
+			}
+		}
 
 		return result;
-	 }
+	}
+
+	/**	Returns standard spellings for arrays of spellings and word classes.
+	 *
+	 *	@param	spellings		The spellings.
+	 *	@param	wordClasses		The word classes, parallel to spellings.
+	 *
+	 *	@return					The standard spellings, parallel
+	 *							to spellings.
+	 *
+	 *	<p>
+	 *	Spellings not in the local cache are sent to the server in
+	 *	batches.  If the server cannot be reached, the input spelling
+	 *	is returned as its own standard spelling.
+	 *	</p>
+	 */
+
+	public String[] standardizeSpellings
+	(
+		String[] spellings ,
+		String[] wordClasses
+	)
+	{
+		return standardizeSpellings( spellings , wordClasses , null );
+	}
+
+	/**	Returns standard spellings for arrays of spellings and word classes.
+	 *
+	 *	@param	spellings		The spellings.
+	 *	@param	wordClasses		The word classes, parallel to spellings.
+	 *	@param	answered		Set true for each standard spelling
+	 *							answered by the server, and false for
+	 *							each input spelling returned because
+	 *							the server could not answer.  Parallel
+	 *							to spellings.  May be null.
+	 *
+	 *	@return					The standard spellings, parallel
+	 *							to spellings.
+	 */
+
+	public String[] standardizeSpellings
+	(
+		String[] spellings ,
+		String[] wordClasses ,
+		boolean[] answered
+	)
+	{
+		String[] result	= new String[ spellings.length ];
+
+								//	Collect distinct spelling and
+								//	word class pairs not in cache.
+
+		Map<String, List<Integer>> misses	=
+			new LinkedHashMap<String, List<Integer>>();
+
+		for ( int i = 0 ; i < spellings.length ; i++ )
+		{
+			result[ i ]	= getCachedSpelling( spellings[ i ] , wordClasses[ i ] );
+
+			if ( answered != null )
+			{
+				answered[ i ]	= ( result[ i ] != null );
+			}
+
+			if ( result[ i ] == null )
+			{
+				addMiss
+				(
+					misses ,
+					getCacheKey( spellings[ i ] , wordClasses[ i ] ) ,
+					i
+				);
+			}
+		}
+								//	Ask the server for the misses,
+								//	a batch at a time.
+
+		List<List<Integer>> missIndices	=
+			new ArrayList<List<Integer>>( misses.values() );
+
+		for ( int start = 0 ; start < missIndices.size() ; start += batchSize )
+		{
+			int end	= Math.min( start + batchSize , missIndices.size() );
+
+			String[] batchSpellings		= new String[ end - start ];
+			String[] batchWordClasses	= new String[ end - start ];
+
+			for ( int i = start ; i < end ; i++ )
+			{
+				int index	= missIndices.get( i ).get( 0 ).intValue();
+
+				batchSpellings[ i - start ]		= spellings[ index ];
+				batchWordClasses[ i - start ]	= wordClasses[ index ];
+			}
+
+			boolean[] batchAnswered		= new boolean[ end - start ];
+
+			String[] standardSpellings	=
+				remoteStandardizeSpellings
+				(
+					batchSpellings ,
+					batchWordClasses ,
+					batchAnswered
+				);
+
+			for ( int i = start ; i < end ; i++ )
+			{
+				List<Integer> indices	= missIndices.get( i );
+
+				for ( int j = 0 ; j < indices.size() ; j++ )
+				{
+					int index	= indices.get( j ).intValue();
+
+					result[ index ]	= standardSpellings[ i - start ];
+
+					if ( answered != null )
+					{
+						answered[ index ]	= batchAnswered[ i - start ];
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**	Ask server for standard spellings and cache them.
+	 *
+	 *	@param	spellings		The spellings.
+	 *	@param	wordClasses		The word classes, parallel to spellings.
+	 *	@param	answered		Set true for each standard spelling
+	 *							answered by the server.  Parallel to
+	 *							spellings.
+	 *
+	 *	@return					The standard spellings, parallel
+	 *							to spellings.  The input spellings
+	 *							are returned if the server cannot
+	 *							be reached.
+	 */
+
+	protected String[] remoteStandardizeSpellings
+	(
+		String[] spellings ,
+		String[] wordClasses ,
+		boolean[] answered
+	)
+	{
+		String[] result	= null;
+
+		if ( session != null )
+		{
+			try
+			{
+				result	= session.standardizeSpellings( spellings , wordClasses );
+			}
+			catch ( RemoteException e )
+			{
+				logger.logError
+				(
+					"Unable to standardize batch of " +
+					spellings.length + " spellings." ,
+					e
+				);
+			}
+		}
+
+		if ( result == null )
+		{
+			result	= spellings.clone();
+		}
+		else
+		{
+								//	Treat a short result as no result,
+								//	and a missing standard spelling
+								//	as the input spelling.
+
+			if ( result.length < spellings.length )
+			{
+				logger.logWarning
+				(
+					"Standardizer server returned " + result.length +
+					" spellings for " + spellings.length + " requested."
+				);
+
+				result	= spellings.clone();
+			}
+			else
+			{
+				for ( int i = 0 ; i < spellings.length ; i++ )
+				{
+					if ( result[ i ] == null )
+					{
+						result[ i ]	= spellings[ i ];
+					}
+					else
+					{
+						answered[ i ]	= true;
+
+						if ( cache != null )
+						{
+							cache.put
+							(
+								getCacheKey( spellings[ i ] , wordClasses[ i ] ) ,
+								result[ i ]
+							);
+						}
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**	Check if standard spellings are kept in the local cache.
+	 *
+	 *	@return		True if the local cache is enabled.
+	 */
+
+	public boolean isCaching()
+	{
+		return ( cache != null );
+	}
+
+	/**	Get cached standard spelling.
+	 *
+	 *	@param	spelling	The spelling.
+	 *	@param	wordClass	The word class.
+	 *
+	 *	@return				The cached standard spelling, or null if none.
+	 */
+
+	protected String getCachedSpelling( String spelling , String wordClass )
+	{
+		String result	= null;
+
+		if ( cache != null )
+		{
+			result	= cache.get( getCacheKey( spelling , wordClass ) );
+		}
+
+		return result;
+	}
+
+	/**	Get cache key for spelling and word class.
+	 *
+	 *	@param	spelling	The spelling.
+	 *	@param	wordClass	The word class.
+	 *
+	 *	@return				The cache key.
+	 */
+
+	protected static String getCacheKey( String spelling , String wordClass )
+	{
+		return spelling + '\t' + wordClass;
+	}
+
+	/**	Record a cache miss.
+	 *
+	 *	@param	misses		Map from keys to indices of the misses.
+	 *	@param	key			Key of the miss.
+	 *	@param	index		Index of the miss.
+	 */
+
+	protected static void addMiss
+	(
+		Map<String, List<Integer>> misses ,
+		String key ,
+		int index
+	)
+	{
+		List<Integer> indices	= misses.get( key );
+
+		if ( indices == null )
+		{
+			indices	= new ArrayList<Integer>( 1 );
+
+			misses.put( key , indices );
+		}
+
+		indices.add( new Integer( index ) );
+	}
+
+	/**	Start the dispatcher thread if not already running.
+	 *
+	 *	@return		True if the dispatcher thread is running,
+	 *				false if the standardizer is closed.
+	 */
+
+	protected synchronized boolean startDispatcher()
+	{
+		if ( closed ) return false;
+
+		if ( ( dispatcher == null ) || !dispatcher.isAlive() )
+		{
+			dispatcher	=
+				new Thread( "Remote spelling standardizer dispatcher" )
+				{
+					public void run()
+					{
+						dispatchSpellings();
+					}
+				};
+
+			dispatcher.setDaemon( true );
+			dispatcher.start();
+		}
+
+		return true;
+	}
+
+	/**	Send queued spellings to the server in batches.
+	 *
+	 *	<p>
+	 *	Runs in the dispatcher thread until the standardizer is closed.
+	 *	</p>
+	 */
+
+	protected void dispatchSpellings()
+	{
+		List<PendingSpelling> batch	= new ArrayList<PendingSpelling>();
+
+		try
+		{
+			while ( !closed )
+			{
+				batch.add( pendingSpellings.take() );
+
+				pendingSpellings.drainTo( batch , batchSize - batch.size() );
+
+								//	Wait to fill batch if requested.
+
+				if ( batchWindow > 0 )
+				{
+					long deadline	= System.currentTimeMillis() + batchWindow;
+
+					while ( batch.size() < batchSize )
+					{
+						long remaining	= deadline - System.currentTimeMillis();
+
+						if ( remaining <= 0 ) break;
+
+						PendingSpelling pending	=
+							pendingSpellings.poll
+							(
+								remaining ,
+								TimeUnit.MILLISECONDS
+							);
+
+						if ( pending == null ) break;
+
+						batch.add( pending );
+
+						pendingSpellings.drainTo
+						(
+							batch ,
+							batchSize - batch.size()
+						);
+					}
+				}
+
+				try
+				{
+					sendBatch( batch );
+				}
+				catch ( RuntimeException e )
+				{
+					logger.logError
+					(
+						"Unable to standardize batch of " +
+						batch.size() + " spellings." ,
+						e
+					);
+				}
+								//	Release callers whose spellings
+								//	were not answered.
+
+				for ( int i = 0 ; i < batch.size() ; i++ )
+				{
+					PendingSpelling pending	= batch.get( i );
+
+					pending.setResultIfUnset( pending.spelling );
+				}
+
+				batch.clear();
+			}
+		}
+		catch ( InterruptedException e )
+		{
+		}
+		finally
+		{
+			synchronized( this )
+			{
+				if ( dispatcher == Thread.currentThread() )
+				{
+					dispatcher	= null;
+				}
+			}
+								//	Release any waiting callers.
+
+			pendingSpellings.drainTo( batch );
+
+			for ( int i = 0 ; i < batch.size() ; i++ )
+			{
+				PendingSpelling pending	= batch.get( i );
+
+				pending.setResultIfUnset( pending.spelling );
+			}
+		}
+	}
+
+	/**	Send a batch of queued spellings to the server.
+	 *
+	 *	@param	batch	The queued spellings.
+	 */
+
+	protected void sendBatch( List<PendingSpelling> batch )
+	{
+		String[] spellings		= new String[ batch.size() ];
+		String[] wordClasses	= new String[ batch.size() ];
+
+		for ( int i = 0 ; i < batch.size() ; i++ )
+		{
+			spellings[ i ]		= batch.get( i ).spelling;
+			wordClasses[ i ]	= batch.get( i ).wordClass;
+		}
+
+		boolean[] answered	= new boolean[ batch.size() ];
+
+		String[] result	=
+			standardizeSpellings( spellings , wordClasses , answered );
+
+		for ( int i = 0 ; i < batch.size() ; i++ )
+		{
+			batch.get( i ).setResult( result[ i ] , answered[ i ] );
+		}
+	}
+
+	/**	A spelling waiting to be sent to the server. */
+
+	protected static class PendingSpelling
+	{
+		/**	The spelling. */
+
+		protected String spelling;
+
+		/**	The word class. */
+
+		protected String wordClass;
+
+		/**	The standard spelling, or null until set. */
+
+		protected String result;
+
+		/**	True if the server answered the standard spelling. */
+
+		protected boolean answered	= false;
+
+		/**	Create pending spelling.
+		 *
+		 *	@param	spelling	The spelling.
+		 *	@param	wordClass	The word class.
+		 */
+
+		protected PendingSpelling( String spelling , String wordClass )
+		{
+			this.spelling	= spelling;
+			this.wordClass	= wordClass;
+		}
+
+		/**	Set the standard spelling and wake the waiting caller.
+		 *
+		 *	@param	result	The standard spelling.  Null is
+		 *					replaced by the input spelling.
+		 */
+
+		protected synchronized void setResult( String result )
+		{
+			setResult( result , false );
+		}
+
+		/**	Set the standard spelling and wake the waiting caller.
+		 *
+		 *	@param	result		The standard spelling.  Null is
+		 *						replaced by the input spelling.
+		 *	@param	answered	True if the server answered the
+		 *						standard spelling.
+		 */
+
+		protected synchronized void setResult
+		(
+			String result ,
+			boolean answered
+		)
+		{
+			this.result		= ( result == null ) ? spelling : result;
+			this.answered	= answered && ( result != null );
+
+			notifyAll();
+		}
+
+		/**	Check if the server answered the standard spelling.
+		 *
+		 *	@return		True if the server answered the standard
+		 *				spelling.  False if none has been set yet,
+		 *				or the input spelling was used because the
+		 *				server could not answer in time.
+		 */
+
+		protected synchronized boolean isAnswered()
+		{
+			return answered;
+		}
+
+		/**	Set the standard spelling if not already set.
+		 *
+		 *	@param	result	The standard spelling.
+		 */
+
+		protected synchronized void setResultIfUnset( String result )
+		{
+			if ( this.result == null )
+			{
+				setResult( result );
+			}
+		}
+
+		/**	Wait for the standard spelling.
+		 *
+		 *	@param	timeout		Maximum time to wait in milliseconds.
+		 *
+		 *	@return				The standard spelling, or the input
+		 *						spelling if none arrives in time.
+		 */
+
+		protected synchronized String getResult( long timeout )
+		{
+			boolean interrupted	= false;
+			long deadline		= System.currentTimeMillis() + timeout;
+
+			while ( result == null )
+			{
+				long remaining	= deadline - System.currentTimeMillis();
+
+				if ( remaining <= 0 )
+				{
+					result	= spelling;
+					break;
+				}
+
+				try
+				{
+					wait( remaining );
+				}
+				catch ( InterruptedException e )
+				{
+					interrupted	= true;
+				}
+			}
+
+			if ( interrupted )
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			return result;
+		}
+	}
 
 	 /** Returns number of alternate spellings.
 	  *
@@ -426,6 +1331,13 @@ public class RemoteSpellingStandardizer
 
 	public void close()
 	{
+		closed	= true;
+
+		synchronized( this )
+		{
+			if ( dispatcher != null ) dispatcher.interrupt();
+		}
+
 		try
 		{
 			if ( session != null ) session.endSession();
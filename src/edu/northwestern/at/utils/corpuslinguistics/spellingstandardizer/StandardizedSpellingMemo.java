@@ -0,0 +1,422 @@
+package edu.northwestern.at.utils.corpuslinguistics.spellingstandardizer;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.net.URL;
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
+
+/**	Memo of standardized spellings.
+ *
+ *	<p>
+ *	Remembers the standard spelling a spelling standardizer produced
+ *	for a spelling and word class, so that variant forms such as
+ *	"vnto" and "haue" which recur in every text are standardized only
+ *	once.  The memo is a thread-safe {@link BoundedCache}, so all the
+ *	threads adorning texts with one standardizer can share it without
+ *	locking the standardizer for spellings seen before.
+ *	</p>
+ *
+ *	<p>
+ *	The memo can change the standard spellings produced.  A
+ *	standardizer may learn new mappings as it runs, so the standard
+ *	spelling it returns for a spelling and word class can change
+ *	during a run.  The memo keeps the first standard spelling
+ *	returned for the rest of the run, and for later runs when a
+ *	memo file is used.  For this reason the memo is disabled unless
+ *	a memo size is given.
+ *	</p>
+ *
+ *	<p>
+ *	The memo may be saved to a file and loaded again in a later run.
+ *	The file starts with a header line describing the standardizer
+ *	and data files which produced the memo, followed by one memoized
+ *	spelling per line, with the spelling, word class, and standard
+ *	spelling separated by tabs, in utf-8.  A memo file whose header
+ *	does not match the current standardizer and data files is not
+ *	loaded, so changed spelling data is never masked by stale
+ *	memoized spellings.
+ *	</p>
+ *
+ *	<p>
+ *	The maximum number of memoized spellings and the eviction policy
+ *	are taken from the "standardizedspellingmemo.cachesize" and
+ *	"standardizedspellingmemo.cachepolicy" system properties when the
+ *	memo is created with {@link #fromProperties}.
+ *	</p>
+ */
+
+public class StandardizedSpellingMemo
+{
+	/**	Default maximum number of memoized spellings.
+	 *
+	 *	<p>
+	 *	Zero, so the memo is disabled unless requested.
+	 *	</p>
+	 */
+
+	public static final int DEFAULT_CACHE_SIZE	= 0;
+
+	/**	Prefix of the memo file header line. */
+
+	public static final String HEADER_PREFIX	=
+		"#StandardizedSpellingMemo 1\t";
+
+	/**	Memoized standard spellings keyed by (spelling, word class). */
+
+	protected BoundedCache<CompoundKey, String> cache;
+
+	/**	Create memo.
+	 *
+	 *	@param	cache	Cache to hold the memoized spellings.
+	 */
+
+	public StandardizedSpellingMemo( BoundedCache<CompoundKey, String> cache )
+	{
+		this.cache	= cache;
+	}
+
+	/**	Create memo using settings from system properties.
+	 *
+	 *	@return		The memo, or null if the memo size is zero or less.
+	 */
+
+	public static StandardizedSpellingMemo fromProperties()
+	{
+		BoundedCache<CompoundKey, String> cache	=
+			BoundedCacheFactory.newBoundedCacheFromProperties
+			(
+				"standardizedspellingmemo" ,
+				DEFAULT_CACHE_SIZE
+			);
+
+		return ( cache == null ) ? null : new StandardizedSpellingMemo( cache );
+	}
+
+	/**	Get key for a spelling and word class.
+	 *
+	 *	@param	spelling	The spelling.
+	 *	@param	wordClass	The word class.  May be null.
+	 *
+	 *	@return				The memo key.
+	 */
+
+	protected static CompoundKey getKey( String spelling , String wordClass )
+	{
+		return
+			new CompoundKey
+			(
+				spelling ,
+				( wordClass == null ) ? "" : wordClass
+			);
+	}
+
+	/**	Get memoized standard spelling.
+	 *
+	 *	@param	spelling	The spelling.
+	 *	@param	wordClass	The word class.  May be null.
+	 *
+	 *	@return				The memoized standard spelling, or null
+	 *						if none.
+	 */
+
+	public String get( String spelling , String wordClass )
+	{
+		return cache.get( getKey( spelling , wordClass ) );
+	}
+
+	/**	Memoize a standard spelling.
+	 *
+	 *	@param	spelling			The spelling.
+	 *	@param	wordClass			The word class.  May be null.
+	 *	@param	standardSpelling	The standard spelling.
+	 *								Null values are not memoized.
+	 */
+
+	public void put
+	(
+		String spelling ,
+		String wordClass ,
+		String standardSpelling
+	)
+	{
+		if ( ( spelling != null ) && ( standardSpelling != null ) )
+		{
+			cache.put( getKey( spelling , wordClass ) , standardSpelling );
+		}
+	}
+
+	/**	Get number of memoized spellings.
+	 *
+	 *	@return		The number of memoized spellings.
+	 */
+
+	public int size()
+	{
+		return cache.size();
+	}
+
+	/**	Clear the memo. */
+
+	public void clear()
+	{
+		cache.clear();
+	}
+
+	/**	Get the memo statistics.
+	 *
+	 *	@return		The hit, miss and eviction counts.
+	 */
+
+	public CacheStatistics getStatistics()
+	{
+		return cache.getStatistics();
+	}
+
+	/**	Get description of a data file for a memo header.
+	 *
+	 *	@param	url		URL of the data file.  May be null.
+	 *
+	 *	@return			The URL, followed by the file length and
+	 *					modification time for a local file.
+	 */
+
+	public static String getDataDescription( URL url )
+	{
+		if ( url == null ) return "";
+
+		String result	= url.toString();
+
+		if ( url.getProtocol().equals( "file" ) )
+		{
+			try
+			{
+				File file	= new File( url.toURI() );
+
+				result	=
+					result + " " + file.length() + " " + file.lastModified();
+			}
+			catch ( Exception e )
+			{
+			}
+		}
+
+		return result;
+	}
+
+	/**	Load memoized spellings from a file.
+	 *
+	 *	@param	file	The memo file.
+	 *	@param	header	Description of the standardizer and data
+	 *					files, as passed to {@link #save}.
+	 *
+	 *	@return			The number of spellings loaded, or -1 if
+	 *					the file header does not match the header
+	 *					and the file was ignored.
+	 *
+	 *	@throws	IOException		If the file cannot be read.
+	 */
+
+	public int load( File file , String header )
+		throws IOException
+	{
+		int result	= 0;
+
+		BufferedReader bufferedReader	=
+			new BufferedReader
+			(
+				new InputStreamReader
+				(
+					new FileInputStream( file ) ,
+					"utf-8"
+				)
+			);
+
+		try
+		{
+			String line	= bufferedReader.readLine();
+
+			if ( ( line == null ) || !line.equals( getHeaderLine( header ) ) )
+			{
+				return -1;
+			}
+
+			line	= bufferedReader.readLine();
+
+			while ( line != null )
+			{
+				String[] fields	= line.split( "\t" , -1 );
+
+				if	(	( fields.length == 3 ) &&
+						( fields[ 0 ].length() > 0 ) &&
+						( fields[ 2 ].length() > 0 )
+					)
+				{
+					put( fields[ 0 ] , fields[ 1 ] , fields[ 2 ] );
+					result++;
+				}
+
+				line	= bufferedReader.readLine();
+			}
+		}
+		finally
+		{
+			bufferedReader.close();
+		}
+
+		return result;
+	}
+
+	/**	Get memo file header line.
+	 *
+	 *	@param	header	Description of the standardizer and data files.
+	 *
+	 *	@return			The header line.
+	 */
+
+	protected static String getHeaderLine( String header )
+	{
+		return
+			HEADER_PREFIX +
+			( ( header == null ) ? "" : header.replaceAll( "[\r\n]" , " " ) );
+	}
+
+	/**	Save memoized spellings to a file.
+	 *
+	 *	@param	file	The memo file.
+	 *	@param	header	Description of the standardizer and data
+	 *					files which produced the memoized spellings.
+	 *
+	 *	@return			The number of spellings saved.
+	 *
+	 *	@throws	IOException		If the file cannot be written.
+	 *
+	 *	<p>
+	 *	The spellings are written to a temporary file which is then
+	 *	renamed to the memo file.  Where the platform cannot rename
+	 *	over an existing file, the old memo file is deleted and the
+	 *	rename retried, so an interruption between the two steps can
+	 *	leave only the temporary file.  The next save replaces it.
+	 *	</p>
+	 */
+
+	public int save( File file , String header )
+		throws IOException
+	{
+		int result	= 0;
+
+		File tempFile	= new File( file.getPath() + ".tmp" );
+
+		PrintWriter printWriter	=
+			new PrintWriter
+			(
+				new BufferedWriter
+				(
+					new OutputStreamWriter
+					(
+						new FileOutputStream( tempFile ) ,
+						"utf-8"
+					)
+				)
+			);
+
+		try
+		{
+			printWriter.print( getHeaderLine( header ) );
+			printWriter.print( '\n' );
+
+			Iterator<Map.Entry<CompoundKey, String>> iterator	=
+				cache.getEntries().entrySet().iterator();
+
+			while ( iterator.hasNext() )
+			{
+				Map.Entry<CompoundKey, String> entry	= iterator.next();
+
+				Comparable<?>[] keyValues	= entry.getKey().getKeyValues();
+
+				printWriter.print( keyValues[ 0 ] );
+				printWriter.print( '\t' );
+				printWriter.print( keyValues[ 1 ] );
+				printWriter.print( '\t' );
+				printWriter.print( entry.getValue() );
+				printWriter.print( '\n' );
+
+				result++;
+			}
+		}
+		finally
+		{
+			printWriter.close();
+		}
+
+		if ( printWriter.checkError() )
+		{
+			tempFile.delete();
+
+			throw new IOException( "Unable to write " + tempFile.getPath() );
+		}
+
+		if ( !tempFile.renameTo( file ) )
+		{
+			file.delete();
+		}
+
+		if ( tempFile.exists() && !tempFile.renameTo( file ) )
+		{
+			throw new IOException
+			(
+				"Unable to rename " + tempFile.getPath() + " to " +
+				file.getPath()
+			);
+		}
+
+		return result;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -199,7 +199,8 @@ public class Abbreviations
 
 		if ( !result )
 		{
-			abbreviationMatcher.reset( str );
+			Matcher abbreviationMatcher	=
+				abbreviationPattern.matcher( str );
 
 			result	= abbreviationMatcher.matches();
 		}
@@ -241,7 +242,7 @@ public class Abbreviations
 
 	public static boolean isInitial( String str )
 	{
-		initialMatcher.reset( str );
+		Matcher initialMatcher	= initialPattern.matcher( str );
 
 		return initialMatcher.matches();
 	}
@@ -260,7 +261,8 @@ public class Abbreviations
 
 	public static boolean isPossessiveInitial( String str )
 	{
-		possessiveInitialMatcher.reset( str );
+		Matcher possessiveInitialMatcher	=
+			possessiveInitialPattern.matcher( str );
 
 		return possessiveInitialMatcher.matches();
 	}
@@ -2,6 +2,7 @@ package edu.northwestern.at.utils.corpuslinguistics.tokenizer;
 
 /*	Please see the license information at the end of this file. */
 
+import java.util.*;
 import java.util.regex.*;
 import java.util.StringTokenizer;
 
@@ -12,6 +13,15 @@ import edu.northwestern.at.utils.PatternReplacer;
 import edu.northwestern.at.utils.StringUtils;
 
 /**	Default pretokenizes which prepares a string for tokenization.
+ *
+ *	<p>
+ *	By default the text is prepared in a single scan over its
+ *	characters, which gives the same result as applying the
+ *	always separators and comma separator patterns in turn.
+ *	The characters matched by the always separators character class
+ *	are found once by testing each character against the pattern.
+ *	Use {@link #setUseRegularExpressions} to apply the patterns instead.
+ *	</p>
  */
 
 abstract public class AbstractPreTokenizer
@@ -116,6 +126,28 @@ abstract public class AbstractPreTokenizer
 	protected PatternReplacer commaSeparatorReplacer	=
 		new PatternReplacer( commaSeparator , " $1 $2" );
 
+	/**	Single characters matched by always separators patterns,
+	 *	keyed by pattern.
+	 */
+
+	protected static Map<String, BitSet> separatorCharactersMap	=
+		new HashMap<String, BitSet>();
+
+	/**	Single characters which are always separators.
+	 *
+	 *	<p>
+	 *	Subclasses which change the always separators replacer
+	 *	must also set these using {@link #getSeparatorCharacters}.
+	 *	</p>
+	 */
+
+	protected BitSet alwaysSeparatorCharacters	=
+		getSeparatorCharacters( alwaysSeparators );
+
+	/**	True to apply the separator patterns as regular expressions. */
+
+	protected boolean useRegularExpressions	= false;
+
 	/**	Create a preTokenizer.
 	 */
 
@@ -144,6 +176,79 @@ abstract public class AbstractPreTokenizer
 		this.logger	= logger;
 	}
 
+	/**	Get the single characters matched by an always separators
+	 *	pattern.
+	 *
+	 *	@param	separators	The always separators pattern.
+	 *
+	 *	@return				Set of the characters matched by the
+	 *						pattern on their own.
+	 *
+	 *	<p>
+	 *	Each character from 0x0000 through 0xFFFF is tested against
+	 *	the pattern the first time the pattern is seen.  The hyphen and
+	 *	period runs which start the pattern never match a single
+	 *	character, so the result holds exactly the characters in the
+	 *	pattern's character class.
+	 *	</p>
+	 */
+
+	protected static synchronized BitSet getSeparatorCharacters
+	(
+		String separators
+	)
+	{
+		BitSet result	= separatorCharactersMap.get( separators );
+
+		if ( result == null )
+		{
+			result			= new BitSet( Character.MAX_VALUE + 1 );
+
+			Matcher matcher	= Pattern.compile( separators ).matcher( "" );
+
+			for ( int ch = 0 ; ch <= Character.MAX_VALUE ; ch++ )
+			{
+				matcher.reset( String.valueOf( (char)ch ) );
+
+				if ( matcher.matches() )
+				{
+					result.set( ch );
+				}
+			}
+
+			separatorCharactersMap.put( separators , result );
+		}
+
+		return result;
+	}
+
+	/**	Set whether to apply the separator patterns as regular
+	 *	expressions.
+	 *
+	 *	@param	useRegularExpressions	True to apply the patterns,
+	 *									false to scan the characters.
+	 *
+	 *	<p>
+	 *	Both settings produce the same pretokenized text.
+	 *	</p>
+	 */
+
+	public void setUseRegularExpressions( boolean useRegularExpressions )
+	{
+		this.useRegularExpressions	= useRegularExpressions;
+	}
+
+	/**	Get whether the separator patterns are applied as regular
+	 *	expressions.
+	 *
+	 *	@return		True if the patterns are applied.
+	 */
+
+	public boolean getUseRegularExpressions()
+	{
+		return useRegularExpressions;
+	}
+
 	/**	Prepare text for tokenization.
 	 *
 	 *	@param	line	The text to prepare for tokenization,
@@ -152,6 +257,241 @@ abstract public class AbstractPreTokenizer
 	 */
 
 	public String pretokenize( String line )
+	{
+		return
+			useRegularExpressions ?
+				pretokenizeUsingPatterns( line ) : scanSeparators( line );
+	}
+
+	/**	Prepare text for tokenization in one scan.
+	 *
+	 *	@param	line	The text to prepare for tokenization,
+	 *
+	 *	@return			The pretokenized text.
+	 *
+	 *	<p>
+	 *	Tabs become blanks.  Runs of two or more hyphens, runs of
+	 *	three or more periods, and the always separator characters
+	 *	are surrounded by blanks.  Commas not followed by a digit
+	 *	are surrounded by blanks, except a comma which directly
+	 *	follows a comma being split, since the comma pattern
+	 *	matches the pair.
+	 *	</p>
+	 */
+
+	protected String scanSeparators( String line )
+	{
+		int length			= line.length();
+
+		StringBuffer result	= new StringBuffer( length + ( length / 4 ) + 16 );
+
+								//	True when the last character
+								//	appended is a comma which may
+								//	need to be split off.
+
+		boolean pendingComma	= false;
+
+		int i	= 0;
+
+		while ( i < length )
+		{
+			int end	= findSeparatorEnd( line , i , length );
+
+			if ( end > i )
+			{
+				pendingComma	= appendChar( result , ' ' , pendingComma );
+
+				result.append( line , i , end );
+
+				pendingComma	= appendChar( result , ' ' , pendingComma );
+
+				i	= end;
+			}
+			else
+			{
+				char ch	= line.charAt( i );
+
+				if ( ch == '\t' ) ch = ' ';
+
+				pendingComma	= appendChar( result , ch , pendingComma );
+
+				i++;
+			}
+		}
+
+		return result.toString();
+	}
+
+	/**	Find the end of a separator.
+	 *
+	 *	@param	text	The text.
+	 *	@param	start	Offset at which the separator may start.
+	 *	@param	end		Offset of the end of the text.
+	 *
+	 *	@return			Offset past the separator starting at start,
+	 *					or -1 if no separator starts there.
+	 *
+	 *	<p>
+	 *	Hyphens and periods are separators only in runs of two or
+	 *	more hyphens or three or more periods.
+	 *	</p>
+	 */
+
+	protected int findSeparatorEnd( CharSequence text , int start , int end )
+	{
+		char ch	= text.charAt( start );
+
+		if ( ( ch == '-' ) || ( ch == '.' ) )
+		{
+			int runEnd	= start + 1;
+
+			while ( ( runEnd < end ) && ( text.charAt( runEnd ) == ch ) )
+			{
+				runEnd++;
+			}
+
+			return
+				( ( runEnd - start ) >= ( ( ch == '-' ) ? 2 : 3 ) ) ?
+					runEnd : -1;
+		}
+
+		return alwaysSeparatorCharacters.get( ch ) ? start + 1 : -1;
+	}
+
+	/**	Find the tokens of pretokenized text as spans over the text.
+	 *
+	 *	@param	text	The text.
+	 *	@param	start	Offset of the first character to pretokenize.
+	 *	@param	end		Offset past the last character to pretokenize.
+	 *	@param	spans	Token spans to which the spans are appended.
+	 *
+	 *	<p>
+	 *	The spans cover the same characters as the blank delimited
+	 *	tokens of the text returned by {@link #pretokenize} for the
+	 *	characters from start to end.  No text is copied.
+	 *	Subclasses which change how text is pretokenized must
+	 *	override this method too.
+	 *	</p>
+	 */
+
+	public void findTokenSpans
+	(
+		CharSequence text ,
+		int start ,
+		int end ,
+		TokenSpans spans
+	)
+	{
+		int tokenStart	= -1;
+
+								//	True when the character follows
+								//	a comma which was split off.
+
+		boolean afterComma	= false;
+
+		int i	= start;
+
+		while ( i < end )
+		{
+			char ch			= text.charAt( i );
+			int separatorEnd	= findSeparatorEnd( text , i , end );
+
+			if	(	( separatorEnd > i ) ||
+					( ch == ' ' ) || ( ch == '\t' ) || ( ch == '\n' ) ||
+					( ch == '\r' ) || ( ch == '\f' ) ||
+					(	( ch == ',' ) && !afterComma && ( i + 1 < end ) &&
+						(	( text.charAt( i + 1 ) < '0' ) ||
+							( text.charAt( i + 1 ) > '9' )
+						)
+					)
+				)
+			{
+				if ( tokenStart >= 0 )
+				{
+					spans.addSpan( tokenStart , i );
+
+					tokenStart	= -1;
+				}
+
+				if ( separatorEnd > i )
+				{
+					spans.addSpan( i , separatorEnd );
+
+					afterComma	= false;
+					i			= separatorEnd;
+				}
+				else if ( ch == ',' )
+				{
+					spans.addSpan( i , i + 1 );
+
+					afterComma	= true;
+					i++;
+				}
+				else
+				{
+					afterComma	= false;
+					i++;
+				}
+			}
+			else
+			{
+				if ( tokenStart < 0 ) tokenStart = i;
+
+				afterComma	= false;
+				i++;
+			}
+		}
+
+		if ( tokenStart >= 0 )
+		{
+			spans.addSpan( tokenStart , end );
+		}
+	}
+
+	/**	Append a character, splitting off a preceding comma.
+	 *
+	 *	@param	result			Pretokenized text.
+	 *	@param	ch				Character to append.
+	 *	@param	pendingComma	True if the last character in result
+	 *							is a comma which may need to be split.
+	 *
+	 *	@return					True if the appended character is a
+	 *							comma which may need to be split.
+	 */
+
+	protected static boolean appendChar
+	(
+		StringBuffer result ,
+		char ch ,
+		boolean pendingComma
+	)
+	{
+		if ( pendingComma )
+		{
+			if ( ( ch < '0' ) || ( ch > '9' ) )
+			{
+				result.setLength( result.length() - 1 );
+				result.append( " , " );
+			}
+
+			result.append( ch );
+
+			return false;
+		}
+
+		result.append( ch );
+
+		return ( ch == ',' );
+	}
+
+	/**	Prepare text for tokenization using the separator patterns.
+	 *
+	 *	@param	line	The text to prepare for tokenization,
+	 *
+	 *	@return			The pretokenized text.
+	 */
+
+	protected String pretokenizeUsingPatterns( String line )
 	{
 								//	Replace tabs with single space.
 
@@ -43,14 +43,6 @@ abstract public class AbstractWordTokenizer
 
 	protected boolean apostropheCanBeQuote	= true;
 
-	/**	Pattern for 2 or more hyphens. */
-
-	protected final Pattern hyphensPattern	=
-		Pattern.compile(  "^([-\u2011]{2,})$" );
-
-	protected final Matcher hyphensMatcher	=
-		hyphensPattern.matcher( "" );
-
 	/**	Create a word tokenizer.
 	 */
 
@@ -303,6 +295,12 @@ abstract public class AbstractWordTokenizer
 	 *							than the number of words -- the
 	 *							last offset is where the word
 	 *							after the last word would start.
+	 *
+	 *	<p>
+	 *	When the words are {@link TokenSpans} over sentenceText,
+	 *	their spans give the offsets directly.  Otherwise the words
+	 *	are aligned with sentenceText as TokenSpans.
+	 *	</p>
 	 */
 
 	public int[] findWordOffsets( String sentenceText , List<?> words )
@@ -314,54 +312,43 @@ abstract public class AbstractWordTokenizer
 
 		int[] result	= new int[ wordCount + 1 ];
 
-								//	Sentence text length.
+								//	Use the spans of words already
+								//	held as spans over the sentence
+								//	text.  Otherwise align the words
+								//	with the sentence text.
+		TokenSpans spans;
 
-		int sentenceTextLength	= sentenceText.length();
+		if	(	( words instanceof TokenSpans ) &&
+				( ((TokenSpans)words).getText() == sentenceText )
+			)
+		{
+			spans	= (TokenSpans)words;
+		}
+		else
+		{
+			spans	= new TokenSpans( sentenceText );
 
-								//	Offset of current word.
+			for ( int i = 0 ; i < wordCount ; i++ )
+			{
+				spans.add( words.get( i ).toString() );
+			}
+		}
+								//	Store starting offset of each
+								//	word.  A word with no span
+								//	starts where the previous
+								//	word ended.
 		int offset	= 0;
-								//	Loop over words.
 
 		for ( int i = 0 ; i < wordCount ; i++ )
 		{
-								//	Get next word.
-
-			String word	= words.get( i ).toString();
-
-								//	Skip leading whitespace.
-
-			while ( CharUtils.isWhitespace(
-				sentenceText.charAt( offset ) ) )
+			if ( spans.hasSpan( i ) )
 			{
-				offset++;
+				result[ i ]	= spans.getStart( i );
+				offset		= spans.getEnd( i );
 			}
-								//	Store starting offset of word.
-
-			result[ i ]		= offset;
-
-								//	Find number of non-blank
-								//	characters in word =
-								//	word length.
-
-			int nbCount	= word.length();
-
-								//	Move forward in text that many
-								//	non-blank characters, skipping
-								//	over any whitespace.  That will
-								//	give us the offset of the start of
-								//	the next word, if any.
-
-			int tNbCount	= 0;
-
-			while ( tNbCount < nbCount )
+			else
 			{
-				if ( !CharUtils.isWhitespace(
-					sentenceText.charAt( offset ) ) )
-				{
-					tNbCount++;
-				}
-
-				offset++;
+				result[ i ]	= offset;
 			}
 		}
 								//	Store position of last word + 1.
@@ -382,9 +369,70 @@ abstract public class AbstractWordTokenizer
 
 	public boolean isMultipleHyphens( String s )
 	{
-		hyphensMatcher.reset( s );
+		int length	= s.length();
+
+		if ( length < 2 ) return false;
+
+		for ( int i = 0 ; i < length ; i++ )
+		{
+			char ch	= s.charAt( i );
+
+			if ( ( ch != '-' ) && ( ch != CharUtils.NONBREAKING_HYPHEN ) )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**	True if string is dashes or asterisks after an optional letter.
+	 *
+	 *	@param	s	String to check.
+	 *
+	 *	@return		true if string contains an optional A through Z
+	 *				or a through z letter followed by two or three
+	 *				hyphens, two or three non-breaking hyphens,
+	 *				or one or more asterisks.
+	 */
+
+	public boolean isLetterAndDashesOrAsterisks( String s )
+	{
+		int length	= s.length();
+		int start	= 0;
+
+		if ( length > 0 )
+		{
+			char ch	= s.charAt( 0 );
+
+			if ( ( ( ch >= 'A' ) && ( ch <= 'Z' ) ) ||
+				( ( ch >= 'a' ) && ( ch <= 'z' ) ) )
+			{
+				start	= 1;
+			}
+		}
+
+		int count	= length - start;
+
+		if ( count < 1 ) return false;
+
+		char dash	= s.charAt( start );
+
+		if ( ( dash == '-' ) || ( dash == CharUtils.NONBREAKING_HYPHEN ) )
+		{
+			if ( ( count < 2 ) || ( count > 3 ) ) return false;
+		}
+		else if ( dash != '*' )
+		{
+			return false;
+		}
 
-		return hyphensMatcher.matches();
+		for ( int i = start + 1 ; i < length ; i++ )
+		{
+			if ( s.charAt( i ) != dash ) return false;
+		}
+
+		return true;
 	}
 
 	/**	Break text into word tokens.
@@ -399,6 +447,75 @@ abstract public class AbstractWordTokenizer
 	 */
 
 	public abstract List<String> extractWords( String text );
+
+	/**	Break text into word tokens held as spans.
+	 *
+	 *	@param	text	Text to break into word tokens.
+	 *
+	 *	@return			The word tokens, with their offsets in text.
+	 */
+
+	public TokenSpans extractWordSpans( CharSequence text )
+	{
+		return extractWordSpans( text , 0 , text.length() );
+	}
+
+	/**	Break part of a text into word tokens held as spans.
+	 *
+	 *	@param	text	Text containing the characters to break into
+	 *					word tokens.
+	 *	@param	start	Offset of the first character.
+	 *	@param	end		Offset past the last character.
+	 *
+	 *	@return			The word tokens, with their offsets in text.
+	 *
+	 *	<p>
+	 *	The tokens are those {@link #extractWords} returns for the
+	 *	characters from start to end.  Subclasses which can find the
+	 *	token boundaries directly in the text should override this.
+	 *	</p>
+	 */
+
+	public TokenSpans extractWordSpans
+	(
+		CharSequence text ,
+		int start ,
+		int end
+	)
+	{
+		return alignWordSpans( text , start , end );
+	}
+
+	/**	Break part of a text into words and find their spans.
+	 *
+	 *	@param	text	Text containing the characters to break into
+	 *					word tokens.
+	 *	@param	start	Offset of the first character.
+	 *	@param	end		Offset past the last character.
+	 *
+	 *	@return			The word tokens, with their offsets in text.
+	 *
+	 *	<p>
+	 *	The words returned by {@link #extractWords} are aligned with
+	 *	the text in the same way as by {@link #findWordOffsets}.
+	 *	</p>
+	 */
+
+	protected TokenSpans alignWordSpans
+	(
+		CharSequence text ,
+		int start ,
+		int end
+	)
+	{
+		return
+			TokenSpans.alignTokens
+			(
+				text ,
+				start ,
+				extractWords( text.subSequence( start , end ).toString() )
+			);
+	}
 }
 
 /*
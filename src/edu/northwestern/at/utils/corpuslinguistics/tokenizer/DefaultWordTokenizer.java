@@ -57,9 +57,117 @@ public class DefaultWordTokenizer
 
 			String token	= tokenizer.nextToken();
 
+								//	Add the words for the token.
+
+			addTokenWords( token , result );
+		}
+								//	Return list of words to caller.
+	 	return result;
+	 }
+
+	/**	Break part of a text into word tokens held as spans.
+	 *
+	 *	@param	text	Text containing the characters to break into
+	 *					word tokens.
+	 *	@param	start	Offset of the first character.
+	 *	@param	end		Offset past the last character.
+	 *
+	 *	@return			The word tokens, with their offsets in text.
+	 *
+	 *	<p>
+	 *	The pretokenizer finds the pretokenized tokens as spans over
+	 *	the text.  A pretokenized token made only of letters and digits
+	 *	is a word token on its own and is added as a span without
+	 *	creating its string.  Other pretokenized tokens are broken
+	 *	into word tokens as by {@link #extractWords}, and the word
+	 *	tokens are aligned with the text as they are added.
+	 *	</p>
+	 */
+
+	public TokenSpans extractWordSpans
+	(
+		CharSequence text ,
+		int start ,
+		int end
+	)
+	{
+		if ( !( preTokenizer instanceof AbstractPreTokenizer ) )
+		{
+			return alignWordSpans( text , start , end );
+		}
+								//	Find the pretokenized tokens.
+
+		TokenSpans preTokens	= new TokenSpans( text , start );
+
+		((AbstractPreTokenizer)preTokenizer).findTokenSpans
+		(
+			text ,
+			start ,
+			end ,
+			preTokens
+		);
+								//	Break each into word tokens.
+
+		TokenSpans result	= new TokenSpans( text , start );
+
+		for ( int i = 0 ; i < preTokens.size() ; i++ )
+		{
+			int tokenStart	= preTokens.getStart( i );
+			int tokenEnd	= preTokens.getEnd( i );
+
+			if ( isLettersOrDigits( text , tokenStart , tokenEnd ) )
+			{
+				result.addSpan( tokenStart , tokenEnd );
+			}
+			else
+			{
+				result.setAlignPosition( tokenStart );
+
+				addTokenWords( preTokens.get( i ) , result );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Check if characters of a text are all letters or digits.
+	 *
+	 *	@param	text	The text.
+	 *	@param	start	Offset of the first character.
+	 *	@param	end		Offset past the last character.
+	 *
+	 *	@return			true if all the characters are letters
+	 *					or digits.
+	 */
+
+	protected static boolean isLettersOrDigits
+	(
+		CharSequence text ,
+		int start ,
+		int end
+	)
+	{
+		for ( int i = start ; i < end ; i++ )
+		{
+			if ( !Character.isLetterOrDigit( text.charAt( i ) ) ) return false;
+		}
+
+		return true;
+	}
+
+	/**	Break a pretokenized token into word tokens.
+	 *
+	 *	@param	token	The pretokenized token.
+	 *	@param	result	List of word tokens extracted so far, to
+	 *					which the word tokens are added.  The last
+	 *					word tokens may also be changed.
+	 */
+
+	protected void addTokenWords( String token , List<String> result )
+	{
 								//	Preprocess token.
 
-			token			= preprocessToken( token , result );
+		token			= preprocessToken( token , result );
 
 								//	Check if we have to split off a
 								//	leading character,   Some like a
@@ -70,76 +178,69 @@ public class DefaultWordTokenizer
 								//	the character alone, otherwise split off
 								//	the leading character.
 
-			boolean doneLeading	= false;
+		boolean doneLeading	= false;
 
-			while ( ( token.length() > 0 ) && ( !doneLeading ) )
+		while ( ( token.length() > 0 ) && ( !doneLeading ) )
+		{
+			if ( isMultipleHyphens( token ) )
 			{
-				hyphensMatcher.reset( token );
-
-				if ( hyphensMatcher.matches() )
+				doneLeading	= true;
+			}
+			else if ( token.charAt( 0 ) == '&' )
+			{
+				if ( contractions.containsString( token ) )
 				{
 					doneLeading	= true;
 				}
-				else if ( token.charAt( 0 ) == '&' )
+				else
 				{
-					if ( contractions.containsString( token ) )
-					{
-						doneLeading	= true;
-					}
-					else
-					{
-						addWordToSentence( result ,  "&" );
-						token	= token.substring( 1 );
-					}
+					addWordToSentence( result ,  "&" );
+					token	= token.substring( 1 );
 				}
-				else if ( !apostropheCanBeQuote &&
-					CharUtils.isApostrophe( token.charAt( 0 ) ) )
+			}
+			else if ( !apostropheCanBeQuote &&
+				CharUtils.isApostrophe( token.charAt( 0 ) ) )
+			{
+				doneLeading	= true;
+			}
+			else if ( isSingleOpeningQuote( token.charAt( 0 ) ) )
+			{
+				if	( contractions.containsString( token ) )
 				{
 					doneLeading	= true;
 				}
-				else if ( isSingleOpeningQuote( token.charAt( 0 ) ) )
-				{
-					if	( contractions.containsString( token ) )
-					{
-						doneLeading	= true;
-					}
-					else
-					{
-						addWordToSentence( result ,  token.charAt( 0 ) + "" );
-						token	= token.substring( 1 );
-					}
-				}
-				else if ( CharUtils.isOpeningQuote( token.charAt( 0 ) ) )
+				else
 				{
 					addWordToSentence( result ,  token.charAt( 0 ) + "" );
 					token	= token.substring( 1 );
 				}
-				else if ( token.charAt( 0 ) == '%' )
-				{
-					addWordToSentence( result ,  "%" );
-					token	= token.substring( 1 );
-				}
-				else if ( token.charAt( 0 ) == '*' )
-				{
-					addWordToSentence( result ,  "*" );
-					token	= token.substring( 1 );
-				}
+			}
+			else if ( CharUtils.isOpeningQuote( token.charAt( 0 ) ) )
+			{
+				addWordToSentence( result ,  token.charAt( 0 ) + "" );
+				token	= token.substring( 1 );
+			}
+			else if ( token.charAt( 0 ) == '%' )
+			{
+				addWordToSentence( result ,  "%" );
+				token	= token.substring( 1 );
+			}
+			else if ( token.charAt( 0 ) == '*' )
+			{
+				addWordToSentence( result ,  "*" );
+				token	= token.substring( 1 );
+			}
 //				else if ( CharUtils.isDash( token.charAt( 0 ) ) )
-				else if ( CharUtils.isBreakingDash( token.charAt( 0 ) ) )
+			else if ( CharUtils.isBreakingDash( token.charAt( 0 ) ) )
+			{
+				if ( token.length() > 1 )
 				{
-					if ( token.length() > 1 )
+					if ( !CharUtils.isNumber( token.substring( 1 ) ) )
 					{
-						if ( !CharUtils.isNumber( token.substring( 1 ) ) )
-						{
-							addWordToSentence(
-								result ,  token.charAt( 0 ) + "" );
+						addWordToSentence(
+							result ,  token.charAt( 0 ) + "" );
 
-							token	= token.substring( 1 );
-						}
-						else
-						{
-							doneLeading	= true;
-						}
+						token	= token.substring( 1 );
 					}
 					else
 					{
@@ -151,95 +252,76 @@ public class DefaultWordTokenizer
 					doneLeading	= true;
 				}
 			}
+			else
+			{
+				doneLeading	= true;
+			}
+		}
 
-			int l				= token.length();
-			String endDelims	= "";
+		int l				= token.length();
+		String endDelims	= "";
 
 								//	If token is all dashes, leave it
 								//	intact.
 
-			hyphensMatcher.reset( token );
-
-			if ( !hyphensMatcher.matches() )
-			{
+		if ( !isMultipleHyphens( token ) )
+		{
 								//	See if we have to split off
 								//	trailing delimiter characters.
 
-				boolean doneEnding	= false;
+			boolean doneEnding	= false;
 
-				while ( ( l > 1 )  && !doneEnding )
-				{
+			while ( ( l > 1 )  && !doneEnding )
+			{
 								//	If character is colon, dash, or single
 								//	quote, assume we should split
 								//	off that character.
 
-					if	(	( token.charAt( l - 1 ) == ':' ) ||
+				if	(	( token.charAt( l - 1 ) == ':' ) ||
 //							( CharUtils.isDash( token.charAt( l - 1 ) ) ) ||
-							( CharUtils.isBreakingDash( token.charAt( l - 1 ) ) ) ||
-							( isClosingQuote( token.charAt( l - 1 ) ) )
-						)
-					{
-						endDelims	= token.charAt( l - 1 ) + endDelims;
-						token		=
-							token.substring( 0 , token.length() - 1 );
-					}
+						( CharUtils.isBreakingDash( token.charAt( l - 1 ) ) ) ||
+						( isClosingQuote( token.charAt( l - 1 ) ) )
+					)
+				{
+					endDelims	= token.charAt( l - 1 ) + endDelims;
+					token		=
+						token.substring( 0 , token.length() - 1 );
+				}
 								//	See if we should split off a
 								//	trailing question or exclamation.
 
-					else if	(	( token.charAt( l - 1 ) == '!' ) ||
-								( token.charAt( l - 1 ) == '?' )
-							)
+				else if	(	( token.charAt( l - 1 ) == '!' ) ||
+							( token.charAt( l - 1 ) == '?' )
+						)
+				{
+					if ( Abbreviations.isAbbreviation( token ) )
 					{
-						if ( Abbreviations.isAbbreviation( token ) )
-						{
-							doneEnding	= true;
-						}
-						else
-						{
-							endDelims	=
-								token.charAt( l - 1 ) + endDelims;
+						doneEnding	= true;
+					}
+					else
+					{
+						endDelims	=
+							token.charAt( l - 1 ) + endDelims;
 
-							token		=
-								token.substring( 0 , token.length() - 1 );
-						}
+						token		=
+							token.substring( 0 , token.length() - 1 );
 					}
+				}
 								//	See if we should split off a
 								//	trailing period.
 
-					else if ( token.charAt( l - 1 ) == '.' )
-					{
+				else if ( token.charAt( l - 1 ) == '.' )
+				{
 								//	If this is currency, split off the
 								//	trailing period if there is
 								//	a previous period in the token.
 
-						if ( token.charAt( 0 ) == '$' )
-						{
-							if ( token.length() > 2 )
-							{
-								if ( token.substring( 1 , l - 2 ).indexOf(
-									 '.' ) >= 0 )
-								{
-									endDelims	= "." + endDelims;
-									token		=
-										token.substring(
-											0 , token.length() - 1 );
-								}
-							}
-
-							doneEnding		= true;
-						}
-								//	If we have an apparent abbreviation,
-								//	leave the period attached to the
-								//	token.  Split it off otherwise.
-
-						else if ( isLetterOrSingleQuote(
-							token.charAt( l - 2 ) ) )
+					if ( token.charAt( 0 ) == '$' )
+					{
+						if ( token.length() > 2 )
 						{
-							if ( Abbreviations.isAbbreviation( token ) )
-							{
-								doneEnding	= true;
-							}
-							else
+							if ( token.substring( 1 , l - 2 ).indexOf(
+								 '.' ) >= 0 )
 							{
 								endDelims	= "." + endDelims;
 								token		=
@@ -247,24 +329,17 @@ public class DefaultWordTokenizer
 										0 , token.length() - 1 );
 							}
 						}
-								//	All periods?  Leave it alone.
-
-						else if ( CharUtils.isAllPeriods( token ) )
-						{
-							doneEnding	= true;
-						}
-								//	Leave trailing period attached
-								//	to number.
 
-						else if ( CharUtils.isNumber( token ) )
-						{
-							doneEnding	= true;
-						}
-								//	Leave trailing period attached
-								//	to Roman numeral.
+						doneEnding		= true;
+					}
+								//	If we have an apparent abbreviation,
+								//	leave the period attached to the
+								//	token.  Split it off otherwise.
 
-						else if ( RomanNumeralUtils.isLooseRomanNumeral(
-							token ) )
+					else if ( isLetterOrSingleQuote(
+						token.charAt( l - 2 ) ) )
+					{
+						if ( Abbreviations.isAbbreviation( token ) )
 						{
 							doneEnding	= true;
 						}
@@ -272,86 +347,111 @@ public class DefaultWordTokenizer
 						{
 							endDelims	= "." + endDelims;
 							token		=
-								token.substring( 0 , token.length() - 1 );
+								token.substring(
+									0 , token.length() - 1 );
 						}
 					}
-					else
+								//	All periods?  Leave it alone.
+
+					else if ( CharUtils.isAllPeriods( token ) )
 					{
-						doneEnding	= true;;
+						doneEnding	= true;
 					}
+								//	Leave trailing period attached
+								//	to number.
+
+					else if ( CharUtils.isNumber( token ) )
+					{
+						doneEnding	= true;
+					}
+								//	Leave trailing period attached
+								//	to Roman numeral.
 
-					l	= token.length();
+					else if ( RomanNumeralUtils.isLooseRomanNumeral(
+						token ) )
+					{
+						doneEnding	= true;
+					}
+					else
+					{
+						endDelims	= "." + endDelims;
+						token		=
+							token.substring( 0 , token.length() - 1 );
+					}
 				}
+				else
+				{
+					doneEnding	= true;;
+				}
+
+				l	= token.length();
 			}
+		}
 								//	If we have just "--" or "---" and the
 								//	previous token was just a single letter,
 								//	append the dashes to the previous token.
 
-			if ( isMultipleHyphens( token ) )
+		if ( isMultipleHyphens( token ) )
+		{
+			if ( result.size() > 0 )
 			{
-				if ( result.size() > 0 )
-				{
-					String previousToken	=
-						(String)result.get( result.size() - 1 );
+				String previousToken	=
+					(String)result.get( result.size() - 1 );
 
-					if ( CharUtils.isLetter( previousToken ) )
-					{
-						previousToken	= previousToken + token;
-						result.set( result.size() - 1 , previousToken );
-						token	= "";
-					}
+				if ( CharUtils.isLetter( previousToken ) )
+				{
+					previousToken	= previousToken + token;
+					result.set( result.size() - 1 , previousToken );
+					token	= "";
 				}
 			}
+		}
 								//	If we have a 's or 'S, and the previous
 								//	token was just dashes or asterisks,
 								//	append the 's to the previous token.
 
-			if ( token.equals( "'s" ) || token.equals( "'S" ) )
+		if ( token.equals( "'s" ) || token.equals( "'S" ) )
+		{
+			if ( result.size() > 0 )
 			{
-				if ( result.size() > 0 )
-				{
-					String previousToken	=
-						(String)result.get( result.size() - 1 );
+				String previousToken	=
+					(String)result.get( result.size() - 1 );
 
-					if ( previousToken.matches(
-						"([A-Za-z]){0,1}(--|---|\u2011\u2011|\u2011\u2011\u2011|(\\*+))" ) )
-					{
-						previousToken	= previousToken + token;
-						result.set( result.size() - 1 , previousToken );
-						token	= "";
-					}
+				if ( isLetterAndDashesOrAsterisks( previousToken ) )
+				{
+					previousToken	= previousToken + token;
+					result.set( result.size() - 1 , previousToken );
+					token	= "";
 				}
 			}
+		}
 								//	If the token is not empty,
 								//	add it to the sentence.
 
-			if ( token.length() > 0 )
-			{
+		if ( token.length() > 0 )
+		{
 								//	Check if we need to split a token
 								//	containing an internal period.
 
-				String[] tokens	= splitToken( token );
+			String[] tokens	= splitToken( token );
 
-				for ( int k = 0 ; k < tokens.length ; k++ )
+			for ( int k = 0 ; k < tokens.length ; k++ )
+			{
+				if ( tokens[ k ].length() > 0 )
 				{
-					if ( tokens[ k ].length() > 0 )
-					{
-						addWordToSentence( result ,  tokens[ k ] );
-					}
+					addWordToSentence( result ,  tokens[ k ] );
 				}
 			}
+		}
 								//	Add the trailing delimiters.
 
-			for ( int k = 0 ; k < endDelims.length() ; k++ )
-			{
-				String delimToken	= endDelims.charAt( k ) + "";
+		for ( int k = 0 ; k < endDelims.length() ; k++ )
+		{
+			String delimToken	= endDelims.charAt( k ) + "";
 
-				addWordToSentence( result , delimToken );
-			}
+			addWordToSentence( result , delimToken );
 		}
-								//	Return list of words to caller.
-	 	return result;
-	 }
+	}
 
 	/**	Add word to list of words in sentence.
 	 *
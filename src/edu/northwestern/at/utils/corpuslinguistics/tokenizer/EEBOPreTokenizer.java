@@ -54,6 +54,9 @@ public class EEBOPreTokenizer
 
 		alwaysSeparatorsReplacer	=
 			new PatternReplacer( EEBOAlwaysSeparators , " $1 ");
+
+		alwaysSeparatorCharacters	=
+			getSeparatorCharacters( EEBOAlwaysSeparators );
 	}
 }
 
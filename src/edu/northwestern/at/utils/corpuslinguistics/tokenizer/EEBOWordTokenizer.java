@@ -33,9 +33,6 @@ public class EEBOWordTokenizer
 	protected static Pattern underlineCapCapPattern			=
 		Pattern.compile( "^_([ABCDEFGHIJKLMNOPQRSTUVWXYZ])([ABCDEFGHIJKLMNOPQRSTUVWXYZ])" );
 
-	protected static final Matcher underlineCapCapMatcher	=
-		underlineCapCapPattern.matcher( "" );
-
 	/**	Create EEBO word tokenizer.
 	 */
 
@@ -44,6 +41,32 @@ public class EEBOWordTokenizer
 		super();
 	}
 
+	/**	Break part of a text into word tokens held as spans.
+	 *
+	 *	@param	text	Text containing the characters to break into
+	 *					word tokens.
+	 *	@param	start	Offset of the first character.
+	 *	@param	end		Offset past the last character.
+	 *
+	 *	@return			The word tokens, with their offsets in text.
+	 *
+	 *	<p>
+	 *	Preprocessing may remove characters from any token and join
+	 *	tokens, so the words are extracted first and then aligned
+	 *	with the text.
+	 *	</p>
+	 */
+
+	public TokenSpans extractWordSpans
+	(
+		CharSequence text ,
+		int start ,
+		int end
+	)
+	{
+		return alignWordSpans( text , start , end );
+	}
+
 	/**	Preprocess a word token.
 	 *
 	 *	@param	token			Token to preprocess.
@@ -114,7 +137,8 @@ public class EEBOWordTokenizer
 
 		if ( ( result.length() > 1 ) && ( result.charAt( 0 ) == '_' ) )
 		{
-			underlineCapCapMatcher.reset( result );
+			Matcher underlineCapCapMatcher	=
+				underlineCapCapPattern.matcher( result );
 
 			if ( underlineCapCapMatcher.find() )
 			{
@@ -135,10 +159,17 @@ public class EEBOWordTokenizer
 		}
 								//	Split tokens of the form
 								//	number.word into number. word .
-
-		if ( ( result.length() > 2 ) && ( result.indexOf( "." ) > 0 ) )
+								//	Only tokens starting with a digit
+								//	can match.
+
+		if	(	( result.length() > 2 ) &&
+				( result.charAt( 0 ) >= '0' ) &&
+				( result.charAt( 0 ) <= '9' ) &&
+				( result.indexOf( "." ) > 0 )
+			)
 		{
-			numberDotSpellingMatcher.reset( result );
+			Matcher numberDotSpellingMatcher	=
+				numberDotSpellingPattern.matcher( result );
 
 			if ( numberDotSpellingMatcher.matches() )
 			{
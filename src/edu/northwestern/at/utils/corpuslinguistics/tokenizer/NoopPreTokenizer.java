@@ -29,6 +29,51 @@ public class NoopPreTokenizer
 	{
 		return line;
 	}
+
+	/**	Find the blank delimited tokens of text as spans over the text.
+	 *
+	 *	@param	text	The text.
+	 *	@param	start	Offset of the first character to pretokenize.
+	 *	@param	end		Offset past the last character to pretokenize.
+	 *	@param	spans	Token spans to which the spans are appended.
+	 */
+
+	public void findTokenSpans
+	(
+		CharSequence text ,
+		int start ,
+		int end ,
+		TokenSpans spans
+	)
+	{
+		int tokenStart	= -1;
+
+		for ( int i = start ; i < end ; i++ )
+		{
+			char ch	= text.charAt( i );
+
+			if	(	( ch == ' ' ) || ( ch == '\t' ) || ( ch == '\n' ) ||
+					( ch == '\r' ) || ( ch == '\f' )
+				)
+			{
+				if ( tokenStart >= 0 )
+				{
+					spans.addSpan( tokenStart , i );
+
+					tokenStart	= -1;
+				}
+			}
+			else if ( tokenStart < 0 )
+			{
+				tokenStart	= i;
+			}
+		}
+
+		if ( tokenStart >= 0 )
+		{
+			spans.addSpan( tokenStart , end );
+		}
+	}
 }
 
 /*
@@ -12,6 +12,16 @@ import edu.northwestern.at.utils.PatternReplacer;
  *	Based upon the sed script written by Robert McIntyre at
  *	http://www.cis.upenn.edu/~treebank/tokenizer.sed .
  *	</p>
+ *
+ *	<p>
+ *	MorphAdorner uses this tokenizer to split single spellings into
+ *	their parts when finding lemmata.  Most spellings contain no
+ *	character the replacement patterns act upon.  Such a spelling is
+ *	recognized in one scan over its characters and returned as a
+ *	single token, or split directly when it is one of the words
+ *	like "cannot" the patterns split.  Only the remaining text is
+ *	passed through the replacement patterns.
+ *	</p>
  */
 
 public class PennTreebankTokenizer
@@ -23,6 +33,37 @@ public class PennTreebankTokenizer
 	protected static List<PatternReplacer> pennPatterns	=
 		ListFactory.createNewList();
 
+	/**	Characters which some replacement pattern acts upon. */
+
+	protected static final String pennPatternCharacters	=
+		"`'?!\".,;:@#$%&[](){}<>";
+
+	/**	Words split by the replacement patterns without
+	 *	an apostrophe or period.
+	 *
+	 *	<p>
+	 *	The first entry in each row is the word, and the remaining
+	 *	entries are the parts into which the word is split.
+	 *	The first letter of the word may also be upper case.
+	 *	</p>
+	 */
+
+	protected static final String[][] pennSplitWords	=
+	{
+		{ "cannot" , "can" , "not" } ,
+		{ "gimme" , "gim" , "me" } ,
+		{ "gonna" , "gon" , "na" } ,
+		{ "gotta" , "got" , "ta" } ,
+		{ "lemme" , "lem" , "me" } ,
+		{ "wanna" , "wan" , "na" } ,
+		{ "whaddya" , "wha" , "dd" , "ya" } ,
+		{ "whatcha" , "wha" , "t" , "cha" }
+	};
+
+	/**	True to always apply the replacement patterns. */
+
+	protected boolean useRegularExpressions	= false;
+
 	/**	Create a simple word tokenizer.
 	 */
 
@@ -30,6 +71,39 @@ public class PennTreebankTokenizer
 	{
 	}
 
+	/**	Set whether to always apply the replacement patterns.
+	 *
+	 *	@param	useRegularExpressions	True to always apply the
+	 *									patterns, false to tokenize
+	 *									simple words directly.
+	 *
+	 *	<p>
+	 *	Both settings produce the same tokens.
+	 *	</p>
+	 */
+
+	public void setUseRegularExpressions( boolean useRegularExpressions )
+	{
+		this.useRegularExpressions	= useRegularExpressions;
+	}
+
+	/**	Get whether the replacement patterns are always applied.
+	 *
+	 *	@return		True if the patterns are always applied.
+	 */
+
+	public boolean getUseRegularExpressions()
+	{
+		return useRegularExpressions;
+	}
+
+	/**	Prepare text for tokenization using the replacement patterns.
+	 *
+	 *	@param	s	The text.
+	 *
+	 *	@return		The text with tokens separated by single blanks.
+	 */
+
 	public static String prepareTextForTokenization( String s )
 	{
 		for ( int i = 0 ; i < pennPatterns.size() ; i++ )
@@ -53,6 +127,17 @@ public class PennTreebankTokenizer
 
 	 public List<String> extractWords( String text )
 	 {
+								//	Tokenize a simple word directly.
+
+		if ( !useRegularExpressions )
+		{
+			List<String> simpleWords	= extractSimpleWord( text );
+
+			if ( simpleWords != null )
+			{
+				return simpleWords;
+			}
+		}
 								//	Holds listof tokenized words.
 
 	 	List<String> result	= ListFactory.createNewList();
@@ -80,6 +165,75 @@ public class PennTreebankTokenizer
 		return result;
 	}
 
+	/**	Tokenize text which the replacement patterns leave intact
+	 *	or only split as a whole word.
+	 *
+	 *	@param	text	Text to tokenize.
+	 *
+	 *	@return			List of word tokens, or null if the
+	 *					replacement patterns must be applied.
+	 *
+	 *	<p>
+	 *	The text must contain no blanks or control characters,
+	 *	no character in {@link #pennPatternCharacters}, and no
+	 *	two hyphens in a row.  The replacement patterns then only
+	 *	act upon the words in {@link #pennSplitWords}.
+	 *	</p>
+	 */
+
+	protected List<String> extractSimpleWord( String text )
+	{
+		int length	= text.length();
+
+		for ( int i = 0 ; i < length ; i++ )
+		{
+			char ch	= text.charAt( i );
+
+			if	(	( ch <= ' ' ) ||
+					( pennPatternCharacters.indexOf( ch ) >= 0 ) ||
+					(	( ch == '-' ) && ( i > 0 ) &&
+						( text.charAt( i - 1 ) == '-' )
+					)
+				)
+			{
+				return null;
+			}
+		}
+
+		List<String> result	= ListFactory.createNewList();
+
+		if ( length == 0 ) return result;
+
+		char firstChar	= text.charAt( 0 );
+
+		for ( int i = 0 ; i < pennSplitWords.length ; i++ )
+		{
+			String word	= pennSplitWords[ i ][ 0 ];
+
+			if	(	( length == word.length() ) &&
+					(	( firstChar == word.charAt( 0 ) ) ||
+						( firstChar ==
+							Character.toUpperCase( word.charAt( 0 ) ) )
+					) &&
+					text.regionMatches( 1 , word , 1 , length - 1 )
+				)
+			{
+				result.add( firstChar + pennSplitWords[ i ][ 1 ].substring( 1 ) );
+
+				for ( int j = 2 ; j < pennSplitWords[ i ].length ; j++ )
+				{
+					result.add( pennSplitWords[ i ][ j ] );
+				}
+
+				return result;
+			}
+		}
+
+		result.add( text );
+
+		return result;
+	}
+
 	/**	Static initializer. */
 
 	static
@@ -0,0 +1,754 @@
+package edu.northwestern.at.utils.corpuslinguistics.tokenizer;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.CharUtils;
+
+/**	Word tokens held as spans over the original text.
+ *
+ *	<p>
+ *	Each token is held as the start and end offsets of the characters
+ *	it covers in the text from which it was extracted.  The token
+ *	string is created only when {@link #get} is called, so a tokenizer
+ *	which finds token boundaries directly in the text need not copy
+ *	each token into a string of its own.  A token whose string differs
+ *	from the characters it covers, such as a token joined to a token
+ *	which follows white space, holds its string as well.  A token
+ *	which could not be found in the text has no span.
+ *	</p>
+ *
+ *	<p>
+ *	TokenSpans is also a list of the token strings, so it may be used
+ *	anywhere a sentence is a list of words.  A string added to the end
+ *	of the list is aligned with the text following the last token:
+ *	white space is skipped, and the token is expected to cover the
+ *	next non-blank characters, as for
+ *	{@link AbstractWordTokenizer#findWordOffsets}.  Characters other
+ *	than letters and digits which a tokenizer dropped are skipped.
+ *	Strings inserted elsewhere have no span.
+ *	</p>
+ */
+
+public class TokenSpans
+	extends AbstractList<String>
+	implements RandomAccess
+{
+	/**	Token type for a token containing a letter. */
+
+	public static final int WORD		= 0;
+
+	/**	Token type for a token containing digits but no letters. */
+
+	public static final int NUMBER		= 1;
+
+	/**	Token type for a token containing only punctuation. */
+
+	public static final int PUNCTUATION	= 2;
+
+	/**	Token type for any other token. */
+
+	public static final int SYMBOL		= 3;
+
+	/**	The text. */
+
+	protected CharSequence text;
+
+	/**	Start offset of each token, or -1 if none. */
+
+	protected int[] starts;
+
+	/**	End offset of each token, or -1 if none. */
+
+	protected int[] ends;
+
+	/**	String for each token, or null if not yet created. */
+
+	protected String[] tokens;
+
+	/**	Number of tokens. */
+
+	protected int size	= 0;
+
+	/**	Offset in text at which the next appended token is sought. */
+
+	protected int alignPosition;
+
+	/**	Create empty token spans over a text.
+	 *
+	 *	@param	text	The text.
+	 */
+
+	public TokenSpans( CharSequence text )
+	{
+		this( text , 0 );
+	}
+
+	/**	Create empty token spans over a text.
+	 *
+	 *	@param	text	The text.
+	 *	@param	start	Offset at which the first token is sought.
+	 */
+
+	public TokenSpans( CharSequence text , int start )
+	{
+		this.text			= text;
+		this.alignPosition	= start;
+
+		starts		= new int[ 16 ];
+		ends		= new int[ 16 ];
+		tokens		= new String[ 16 ];
+	}
+
+	/**	Create token spans for tokens extracted from a text.
+	 *
+	 *	@param	text	The text.
+	 *	@param	start	Offset of the first character from which the
+	 *					tokens were extracted.
+	 *	@param	words	The tokens, in order.
+	 *
+	 *	@return			The token spans.
+	 */
+
+	public static TokenSpans alignTokens
+	(
+		CharSequence text ,
+		int start ,
+		List<String> words
+	)
+	{
+		TokenSpans result	= new TokenSpans( text , start );
+
+		for ( int i = 0 ; i < words.size() ; i++ )
+		{
+			result.add( words.get( i ) );
+		}
+
+		return result;
+	}
+
+	/**	Get the text.
+	 *
+	 *	@return		The text over which the tokens are spans.
+	 */
+
+	public CharSequence getText()
+	{
+		return text;
+	}
+
+	/**	Get the number of tokens.
+	 *
+	 *	@return		The number of tokens.
+	 */
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**	Get a token string.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@return			The token string.
+	 */
+
+	public String get( int index )
+	{
+		checkIndex( index );
+
+		String result	= tokens[ index ];
+
+		if ( result == null )
+		{
+			result			=
+				text.subSequence( starts[ index ] , ends[ index ] ).toString();
+
+			tokens[ index ]	= result;
+		}
+
+		return result;
+	}
+
+	/**	Get the start offset of a token.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@return			Offset in the text of the first character
+	 *					covered by the token, or -1 if the token
+	 *					has no span.
+	 */
+
+	public int getStart( int index )
+	{
+		checkIndex( index );
+
+		return starts[ index ];
+	}
+
+	/**	Get the end offset of a token.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@return			Offset in the text past the last character
+	 *					covered by the token, or -1 if the token
+	 *					has no span.
+	 */
+
+	public int getEnd( int index )
+	{
+		checkIndex( index );
+
+		return ends[ index ];
+	}
+
+	/**	Check if a token has a span.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@return			true if the token covers known characters
+	 *					of the text.
+	 */
+
+	public boolean hasSpan( int index )
+	{
+		checkIndex( index );
+
+		return ( starts[ index ] >= 0 );
+	}
+
+	/**	Get the length of a token string.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@return			The length of the token string.
+	 */
+
+	public int getTokenLength( int index )
+	{
+		checkIndex( index );
+
+		return
+			( tokens[ index ] != null ) ? tokens[ index ].length() :
+				ends[ index ] - starts[ index ];
+	}
+
+	/**	Get a character of a token string.
+	 *
+	 *	@param	index	The token index.
+	 *	@param	i		The character offset in the token string.
+	 *
+	 *	@return			The character.
+	 */
+
+	public char getTokenChar( int index , int i )
+	{
+		checkIndex( index );
+
+		return
+			( tokens[ index ] != null ) ? tokens[ index ].charAt( i ) :
+				text.charAt( starts[ index ] + i );
+	}
+
+	/**	Check if a token string equals a string.
+	 *
+	 *	@param	index	The token index.
+	 *	@param	s		The string.
+	 *
+	 *	@return			true if the token string equals the string.
+	 *
+	 *	<p>
+	 *	The token string is not created.
+	 *	</p>
+	 */
+
+	public boolean tokenEquals( int index , String s )
+	{
+		int length	= getTokenLength( index );
+
+		if ( length != s.length() ) return false;
+
+		for ( int i = 0 ; i < length ; i++ )
+		{
+			if ( getTokenChar( index , i ) != s.charAt( i ) ) return false;
+		}
+
+		return true;
+	}
+
+	/**	Get the type of a token.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@return			{@link #WORD} if the token contains a letter,
+	 *					{@link #NUMBER} if it contains a digit but
+	 *					no letter, {@link #PUNCTUATION} if it
+	 *					contains only punctuation, and
+	 *					{@link #SYMBOL} otherwise.
+	 */
+
+	public int getType( int index )
+	{
+		int length				= getTokenLength( index );
+		boolean digitSeen		= false;
+		boolean allPunctuation	= ( length > 0 );
+
+		for ( int i = 0 ; i < length ; i++ )
+		{
+			char ch	= getTokenChar( index , i );
+
+			if ( Character.isLetter( ch ) ) return WORD;
+
+			if ( Character.isDigit( ch ) )
+			{
+				digitSeen	= true;
+			}
+			else if ( !CharUtils.isPunctuation( ch ) )
+			{
+				allPunctuation	= false;
+			}
+		}
+
+		if ( digitSeen ) return NUMBER;
+
+		return allPunctuation ? PUNCTUATION : SYMBOL;
+	}
+
+	/**	Append a token covering characters of the text.
+	 *
+	 *	@param	start	Offset of the first character covered.
+	 *	@param	end		Offset past the last character covered.
+	 *
+	 *	<p>
+	 *	The token string is the characters covered.
+	 *	</p>
+	 */
+
+	public void addSpan( int start , int end )
+	{
+		addSpan( start , end , null );
+	}
+
+	/**	Append a token covering characters of the text.
+	 *
+	 *	@param	start	Offset of the first character covered,
+	 *					or -1 if none.
+	 *	@param	end		Offset past the last character covered,
+	 *					or -1 if none.
+	 *	@param	token	The token string, or null if the token
+	 *					string is the characters covered.
+	 */
+
+	public void addSpan( int start , int end , String token )
+	{
+		insertSpan( size , start , end , token );
+
+		if ( end >= 0 ) alignPosition = end;
+	}
+
+	/**	Append a token from another token spans over the same text.
+	 *
+	 *	@param	source	The source token spans.
+	 *	@param	index	The index of the token in source.
+	 */
+
+	public void addSpan( TokenSpans source , int index )
+	{
+		source.checkIndex( index );
+
+		addSpan
+		(
+			source.starts[ index ] ,
+			source.ends[ index ] ,
+			source.tokens[ index ]
+		);
+	}
+
+	/**	Add a token string.
+	 *
+	 *	@param	index	Index at which to add the token.
+	 *	@param	token	The token string.
+	 *
+	 *	<p>
+	 *	A token appended to the end of the list is aligned with the
+	 *	text following the last token appended.  When the token
+	 *	does not appear there, it may follow characters which are
+	 *	not letters or digits and which a tokenizer dropped.
+	 *	</p>
+	 */
+
+	public void add( int index , String token )
+	{
+		if ( ( index < 0 ) || ( index > size ) )
+		{
+			throw new IndexOutOfBoundsException( "Index: " + index );
+		}
+
+		if ( index == size )
+		{
+			int start	= skipWhitespace( alignPosition );
+			int length	= text.length();
+
+			for ( int i = start ; i < length ; i++ )
+			{
+				if ( matches( i , token , 0 ) )
+				{
+					start	= i;
+					break;
+				}
+
+				if ( Character.isLetterOrDigit( text.charAt( i ) ) ) break;
+			}
+
+			int end		= findEnd( start , token , 0 );
+
+			if ( end >= 0 )
+			{
+				addSpan( start , end , token );
+			}
+			else
+			{
+				addSpan( -1 , -1 , token );
+			}
+		}
+		else
+		{
+			insertSpan( index , -1 , -1 , token );
+		}
+
+		modCount++;
+	}
+
+	/**	Replace a token string.
+	 *
+	 *	@param	index	The token index.
+	 *	@param	token	The new token string.
+	 *
+	 *	@return			The previous token string.
+	 *
+	 *	<p>
+	 *	When the last token is replaced by the last token followed by
+	 *	further characters, as when a tokenizer joins a token to the
+	 *	one before it, the span is extended over the characters
+	 *	following it.
+	 *	</p>
+	 */
+
+	public String set( int index , String token )
+	{
+		String result	= get( index );
+
+		if	(	( index == size - 1 ) &&
+				( starts[ index ] >= 0 ) &&
+				token.startsWith( result )
+			)
+		{
+			int end	=
+				findEnd
+				(
+					skipWhitespace( alignPosition ) ,
+					token ,
+					result.length()
+				);
+
+			if ( end >= 0 )
+			{
+				ends[ index ]	= end;
+				alignPosition	= end;
+			}
+		}
+
+		tokens[ index ]	= token;
+
+		return result;
+	}
+
+	/**	Remove a token.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@return			The token string.
+	 *
+	 *	<p>
+	 *	Removing the last token allows its characters to be covered by
+	 *	the next token appended.
+	 *	</p>
+	 */
+
+	public String remove( int index )
+	{
+		String result	= get( index );
+
+		if ( ( index == size - 1 ) && ( starts[ index ] >= 0 ) )
+		{
+			alignPosition	= starts[ index ];
+		}
+
+		int count	= size - index - 1;
+
+		System.arraycopy( starts , index + 1 , starts , index , count );
+		System.arraycopy( ends , index + 1 , ends , index , count );
+		System.arraycopy( tokens , index + 1 , tokens , index , count );
+
+		size--;
+
+		tokens[ size ]	= null;
+
+		modCount++;
+
+		return result;
+	}
+
+	/**	Remove all tokens.
+	 */
+
+	public void clear()
+	{
+		Arrays.fill( tokens , 0 , size , null );
+
+		size	= 0;
+
+		modCount++;
+	}
+
+	/**	Insert a token.
+	 *
+	 *	@param	index	Index at which to insert the token.
+	 *	@param	start	Start offset, or -1 if none.
+	 *	@param	end		End offset, or -1 if none.
+	 *	@param	token	The token string, or null.
+	 */
+
+	protected void insertSpan( int index , int start , int end , String token )
+	{
+		if ( size == starts.length )
+		{
+			int capacity	= size * 2;
+
+			int[] newStarts		= new int[ capacity ];
+			int[] newEnds		= new int[ capacity ];
+			String[] newTokens	= new String[ capacity ];
+
+			System.arraycopy( starts , 0 , newStarts , 0 , size );
+			System.arraycopy( ends , 0 , newEnds , 0 , size );
+			System.arraycopy( tokens , 0 , newTokens , 0 , size );
+
+			starts	= newStarts;
+			ends	= newEnds;
+			tokens	= newTokens;
+		}
+
+		int count	= size - index;
+
+		System.arraycopy( starts , index , starts , index + 1 , count );
+		System.arraycopy( ends , index , ends , index + 1 , count );
+		System.arraycopy( tokens , index , tokens , index + 1 , count );
+
+		starts[ index ]	= start;
+		ends[ index ]	= end;
+		tokens[ index ]	= token;
+
+		size++;
+	}
+
+	/**	Skip white space in the text.
+	 *
+	 *	@param	position	Offset at which to start.
+	 *
+	 *	@return				Offset of the next non-blank character,
+	 *						or the text length if none.
+	 */
+
+	protected int skipWhitespace( int position )
+	{
+		int length	= text.length();
+
+		while	(	( position < length ) &&
+					CharUtils.isWhitespace( text.charAt( position ) )
+				)
+		{
+			position++;
+		}
+
+		return position;
+	}
+
+	/**	Find the end of the characters covered by part of a token.
+	 *
+	 *	@param	position	Offset in text of the first character.
+	 *	@param	token		The token string.
+	 *	@param	offset		Offset in token of the first character.
+	 *
+	 *	@return				Offset past the characters covered,
+	 *						or -1 if the text ends first.
+	 *
+	 *	<p>
+	 *	When the token characters appear in the text at the position
+	 *	they are covered exactly.  Otherwise the token characters
+	 *	are sought in order, skipping characters other than letters
+	 *	and digits, as when a tokenizer drops characters from a token
+	 *	or joins tokens.  Failing that, as many non-blank characters
+	 *	are covered as there are token characters.
+	 *	</p>
+	 */
+
+	protected int findEnd( int position , String token , int offset )
+	{
+		int count	= token.length() - offset;
+		int length	= text.length();
+
+		if ( matches( position , token , offset ) ) return position + count;
+
+								//	Try skipping characters other
+								//	than letters and digits which
+								//	are not in the token.
+		int i	= offset;
+		int end	= position;
+
+		while ( ( i < token.length() ) && ( end < length ) )
+		{
+			char ch	= text.charAt( end );
+
+			if ( ch == token.charAt( i ) )
+			{
+				i++;
+			}
+			else if ( Character.isLetterOrDigit( ch ) )
+			{
+				break;
+			}
+
+			end++;
+		}
+
+		if ( i == token.length() ) return end;
+
+								//	Cover as many non-blank characters
+								//	as there are token characters.
+
+		int nonBlankCount	= 0;
+
+		while ( ( nonBlankCount < count ) && ( position < length ) )
+		{
+			if ( !CharUtils.isWhitespace( text.charAt( position ) ) )
+			{
+				nonBlankCount++;
+			}
+
+			position++;
+		}
+
+		return ( nonBlankCount == count ) ? position : -1;
+	}
+
+	/**	Check if part of a token appears in the text.
+	 *
+	 *	@param	position	Offset in text of the first character.
+	 *	@param	token		The token string.
+	 *	@param	offset		Offset in token of the first character.
+	 *
+	 *	@return				true if the characters of the token from
+	 *						offset on appear in the text at position.
+	 */
+
+	protected boolean matches( int position , String token , int offset )
+	{
+		int count	= token.length() - offset;
+
+		if ( position + count > text.length() ) return false;
+
+		for ( int i = 0 ; i < count ; i++ )
+		{
+			if ( text.charAt( position + i ) != token.charAt( offset + i ) )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**	Get the offset at which the next appended token is sought.
+	 *
+	 *	@return		The offset.
+	 */
+
+	public int getAlignPosition()
+	{
+		return alignPosition;
+	}
+
+	/**	Set the offset at which the next appended token is sought.
+	 *
+	 *	@param	alignPosition	The offset.
+	 */
+
+	public void setAlignPosition( int alignPosition )
+	{
+		this.alignPosition	= alignPosition;
+	}
+
+	/**	Check a token index.
+	 *
+	 *	@param	index	The token index.
+	 *
+	 *	@throws	IndexOutOfBoundsException	If the index is out of range.
+	 */
+
+	protected void checkIndex( int index )
+	{
+		if ( ( index < 0 ) || ( index >= size ) )
+		{
+			throw new IndexOutOfBoundsException
+			(
+				"Index: " + index + ", Size: " + size
+			);
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -44,6 +44,28 @@ public interface WordTokenizer
 
 	public List<String> extractWords( String text );
 
+	/**	Break part of a text into word tokens held as spans.
+	 *
+	 *	@param	text	Text containing the characters to break into
+	 *					word tokens.
+	 *	@param	start	Offset of the first character.
+	 *	@param	end		Offset past the last character.
+	 *
+	 *	@return			The word tokens, with their offsets in text.
+	 *
+	 *	<p>
+	 *	The tokens are those {@link #extractWords} returns for the
+	 *	characters from start to end.
+	 *	</p>
+	 */
+
+	public TokenSpans extractWordSpans
+	(
+		CharSequence text ,
+		int start ,
+		int end
+	);
+
 	/**	Find starting offsets of words in a sentence.
 	 *
 	 *	@param	sentenceText	Text from which tokens were
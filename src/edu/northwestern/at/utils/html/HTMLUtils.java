@@ -1,5 +1,7 @@
 package edu.northwestern.at.utils.html;
 
+import java.io.*;
+
 import edu.northwestern.at.utils.StringUtils;
 
 /*	Please see the license information at the end of this file. */
@@ -40,6 +42,57 @@ public class HTMLUtils
 		return result;
 	}
 
+	/**	Simple-minded test for determining if text read from
+	 *	a reader is HTML/XML tagged.
+	 *
+	 *	@param	reader	The reader supplying the text to check.
+	 *
+	 *	@return			True if text appears to be tagged XML/HTML.
+	 *
+	 *	@throws	IOException	if an error occurs reading the text.
+	 *
+	 *	<p>
+	 *	Applies the test of {@link #isHTMLTaggedText(String)} to the
+	 *	text with its lines joined by a blank, reading a line at
+	 *	a time.  The reader is not closed.
+	 *	</p>
+	 */
+
+	public static boolean isHTMLTaggedText( Reader reader )
+		throws IOException
+	{
+		BufferedReader bufferedReader	=
+			( reader instanceof BufferedReader ) ?
+				(BufferedReader)reader : new BufferedReader( reader );
+
+		String line	= bufferedReader.readLine();
+
+		if ( ( line != null ) && ( line + " " ).startsWith( "<?xml " ) )
+		{
+			return true;
+		}
+
+		boolean openTag		= false;
+		boolean closeTag	= false;
+
+		while ( ( line != null ) && !( openTag && closeTag ) )
+		{
+			openTag		=
+				openTag ||
+				( line.indexOf( "<html" ) != -1 ) ||
+				( line.indexOf( "<HTML" ) != -1 );
+
+			closeTag	=
+				closeTag ||
+				( line.indexOf( "</html" ) != -1 ) ||
+				( line.indexOf( "</HTML" ) != -1 );
+
+			line	= bufferedReader.readLine();
+		}
+
+		return openTag && closeTag;
+	}
+
 	/**	Simple-minded tag stripper for HTML/XML .
 	 *
 	 *	@param	taggedText	Text from which to strip tags.
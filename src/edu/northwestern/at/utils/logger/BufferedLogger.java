@@ -0,0 +1,313 @@
+package edu.northwestern.at.utils.logger;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.ListFactory;
+
+/** Logger which buffers messages until flushed to another logger.
+ *
+ *	<p>
+ *	A buffered logger collects the messages written by a single
+ *	thread and writes them as a group to a target logger when
+ *	{@link #flush} is called.  This keeps the messages for one
+ *	unit of work together when several threads share the same
+ *	target logger.
+ *	</p>
+ *
+ *	<p>
+ *	A buffered logger is not itself thread safe.  Each thread
+ *	should use its own buffered logger.
+ *	</p>
+ */
+
+public class BufferedLogger implements Logger
+{
+	/** Logger to which buffered messages are written. */
+
+	protected Logger targetLogger;
+
+	/** Buffered log entries. */
+
+	protected List<LogEntry> entries	= ListFactory.createNewList();
+
+	/** True if logger enabled. */
+
+	protected boolean loggerEnabled = false;
+
+	/** Create a buffered logger.
+	 *
+	 *	@param	targetLogger	Logger to which buffered messages
+	 *							are written when flushed.
+	 */
+
+	public BufferedLogger( Logger targetLogger )
+	{
+		this.targetLogger	= targetLogger;
+		this.loggerEnabled	= true;
+	}
+
+	/** Get the target logger.
+	 *
+	 *	@return		The target logger.
+	 */
+
+	public Logger getTargetLogger()
+	{
+		return targetLogger;
+	}
+
+	/** Write buffered messages to target logger.
+	 *
+	 *	<p>
+	 *	The buffered messages are written while holding the
+	 *	lock on the target logger so that messages from other
+	 *	buffered loggers are not interleaved with them.
+	 *	</p>
+	 */
+
+	public void flush()
+	{
+		if ( entries.size() == 0 ) return;
+
+		synchronized( targetLogger )
+		{
+			for ( int i = 0 ; i < entries.size() ; i++ )
+			{
+				LogEntry entry	= entries.get( i );
+
+				if ( entry.throwable == null )
+				{
+					targetLogger.log( entry.level , entry.message );
+				}
+				else
+				{
+					targetLogger.log
+					(
+						entry.level ,
+						entry.message ,
+						entry.throwable
+					);
+				}
+			}
+		}
+
+		entries.clear();
+	}
+
+	/** Terminates the logger.
+	 *
+	 *	<p>
+	 *	Any buffered messages are flushed.  The target logger
+	 *	is not terminated.
+	 *	</p>
+	 */
+
+	public void terminate()
+	{
+		flush();
+
+		loggerEnabled = false;
+	}
+
+	/** Logs a message at the DEBUG level.
+	 *
+	 *	@param	str			Log message.
+	 */
+
+	public void logDebug( String str )
+	{
+		log( LoggerConstants.DEBUG , str );
+	}
+
+	/** Logs a message at the INFO level.
+	 *
+	 *	@param	str			Log message.
+	 */
+
+	public void logInfo( String str )
+	{
+		log( LoggerConstants.INFO , str );
+	}
+
+	/** Logs a message at the WARN level.
+	 *
+	 *	@param	str			Log message.
+	 */
+
+	public void logWarning( String str )
+	{
+		log( LoggerConstants.WARN , str );
+	}
+
+	/** Logs a message at the ERROR level.
+	 *
+	 *	@param	str			Log message.
+	 */
+
+	public void logError( String str )
+	{
+		log( LoggerConstants.ERROR , str );
+	}
+
+	/** Logs a error message with a stack trace.
+	 *
+	 *	@param	str		Log message.
+	 *
+	 *	@param	t		Throwable.
+	 */
+
+	public void logError( String str , Throwable t )
+	{
+		log( LoggerConstants.ERROR , str , t );
+	}
+
+	/** Logs a message at the FATAL level.
+	 *
+	 *	@param	str			Log message.
+	 */
+
+	public void logFatal( String str )
+	{
+		log( LoggerConstants.FATAL , str );
+	}
+
+	/** Logs a fatal message with a stack trace.
+	 *
+	 *	@param	str		Log message.
+	 *
+	 *	@param	t		Throwable.
+	 */
+
+	public void logFatal( String str , Throwable t )
+	{
+		log( LoggerConstants.FATAL , str , t );
+	}
+
+	/** Logs a message.
+	 *
+	 *	@param	level		Log message level.
+	 *	@param	str			Log message.
+	 */
+
+	public void log( int level , String str )
+	{
+		log( level , str , null );
+	}
+
+	/** Logs a message with a stack trace.
+	 *
+	 *	@param	level		Log message level.
+	 *	@param	str			Log message.
+	 *	@param	t			Throwable.
+	 */
+
+	public void log( int level, String str, Throwable t )
+	{
+		if ( loggerEnabled )
+		{
+			entries.add( new LogEntry( level , str , t ) );
+		}
+	}
+
+	/** Returns true if debugging messages are enabled.
+	 *
+	 *	@return		True if debugging messages are enabled.
+	 */
+
+	public boolean isDebuggingEnabled()
+	{
+		return targetLogger.isDebuggingEnabled();
+	}
+
+	/** Returns true if logger is enabled.
+	 *
+	 *	@return		True if logger is enabled.
+	 */
+
+	public boolean isLoggerEnabled()
+	{
+		return loggerEnabled && targetLogger.isLoggerEnabled();
+	}
+
+	/** A buffered log entry. */
+
+	protected static class LogEntry
+	{
+		/** Log message level. */
+
+		protected int level;
+
+		/** Log message. */
+
+		protected String message;
+
+		/** Throwable, or null if none. */
+
+		protected Throwable throwable;
+
+		/** Create a buffered log entry.
+		 *
+		 *	@param	level		Log message level.
+		 *	@param	message		Log message.
+		 *	@param	throwable	Throwable, or null if none.
+		 */
+
+		protected LogEntry
+		(
+			int level ,
+			String message ,
+			Throwable throwable
+		)
+		{
+			this.level		= level;
+			this.message	= message;
+			this.throwable	= throwable;
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,305 @@
+package edu.northwestern.at.utils.snapshot;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.net.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.zip.*;
+
+/**	Reads a binary snapshot of a text resource.
+ *
+ *	<p>
+ *	The snapshot file is memory mapped.  Use {@link #open} to
+ *	obtain a reader.  The reader is only returned when the snapshot
+ *	exists, was written for the same format, format version and
+ *	source parameters, matches the current length and modification
+ *	time of the text resource, and passes its checksum test.
+ *	</p>
+ */
+
+public class SnapshotReader
+{
+	/**	Mapped snapshot payload. */
+
+	protected ByteBuffer payload;
+
+	/**	Strings read so far, by index. */
+
+	protected List<String> strings;
+
+	/**	Open snapshot for a text resource.
+	 *
+	 *	@param	sourceURL			The text resource URL.
+	 *	@param	formatName			Expected format name.
+	 *	@param	formatVersion		Expected format version.
+	 *	@param	sourceParameters	Expected source parameters.
+	 *
+	 *	@return						The snapshot reader, or null if
+	 *								there is no usable snapshot.
+	 */
+
+	public static SnapshotReader open
+	(
+		URL sourceURL ,
+		String formatName ,
+		int formatVersion ,
+		String sourceParameters
+	)
+	{
+		SnapshotReader result	= null;
+
+		File sourceFile			= SnapshotUtils.getSourceFile( sourceURL );
+
+		if ( ( sourceFile != null ) && sourceFile.isFile() )
+		{
+			File snapshotFile	= SnapshotUtils.getSnapshotFile( sourceFile );
+
+			if ( snapshotFile.isFile() )
+			{
+				try
+				{
+					result	=
+						open
+						(
+							sourceFile ,
+							snapshotFile ,
+							formatName ,
+							formatVersion ,
+							sourceParameters
+						);
+				}
+				catch ( Exception e )
+				{
+					result	= null;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**	Open snapshot file.
+	 *
+	 *	@param	sourceFile			The text file.
+	 *	@param	snapshotFile		The snapshot file.
+	 *	@param	formatName			Expected format name.
+	 *	@param	formatVersion		Expected format version.
+	 *	@param	sourceParameters	Expected source parameters.
+	 *
+	 *	@return						The snapshot reader, or null if
+	 *								the snapshot is stale or corrupt.
+	 *
+	 *	@throws	IOException	if an I/O error occurs.
+	 */
+
+	protected static SnapshotReader open
+	(
+		File sourceFile ,
+		File snapshotFile ,
+		String formatName ,
+		int formatVersion ,
+		String sourceParameters
+	)
+		throws IOException
+	{
+		RandomAccessFile file	= new RandomAccessFile( snapshotFile , "r" );
+
+		MappedByteBuffer buffer;
+
+		try
+		{
+			FileChannel channel	= file.getChannel();
+
+			buffer	=
+				channel.map(
+					FileChannel.MapMode.READ_ONLY , 0 , channel.size() );
+		}
+		finally
+		{
+								//	The mapping remains valid after
+								//	the file is closed.
+			file.close();
+		}
+								//	Check header.
+
+		if	(	( buffer.getInt() != SnapshotUtils.MAGIC ) ||
+				( buffer.getInt() != SnapshotUtils.VERSION ) ||
+				!formatName.equals( readChars( buffer ) ) ||
+				( buffer.getInt() != formatVersion ) ||
+				!sourceParameters.equals( readChars( buffer ) ) ||
+				( buffer.getLong() != sourceFile.length() ) ||
+				( buffer.getLong() != sourceFile.lastModified() )
+			)
+		{
+			return null;
+		}
+
+		int payloadLength	= buffer.getInt();
+		long checksum		= buffer.getLong();
+
+		if ( payloadLength != buffer.remaining() )
+		{
+			return null;
+		}
+
+		ByteBuffer payload	= buffer.slice();
+
+								//	Verify checksum.
+
+		CRC32 crc		= new CRC32();
+		byte[] chunk	= new byte[ 65536 ];
+
+		while ( payload.hasRemaining() )
+		{
+			int length	= Math.min( chunk.length , payload.remaining() );
+
+			payload.get( chunk , 0 , length );
+			crc.update( chunk , 0 , length );
+		}
+
+		if ( crc.getValue() != checksum )
+		{
+			return null;
+		}
+
+		payload.rewind();
+
+		return new SnapshotReader( payload );
+	}
+
+	/**	Create snapshot reader over payload.
+	 *
+	 *	@param	payload		The payload.
+	 */
+
+	protected SnapshotReader( ByteBuffer payload )
+	{
+		this.payload	= payload;
+		this.strings	= new ArrayList<String>();
+	}
+
+	/**	Read string length and characters.
+	 *
+	 *	@param	buffer	The buffer.
+	 *
+	 *	@return			The string.
+	 */
+
+	protected static String readChars( ByteBuffer buffer )
+	{
+		int length		= buffer.getInt();
+
+		if ( ( length < 0 ) || ( ( length * 2 ) > buffer.remaining() ) )
+		{
+			throw new BufferUnderflowException();
+		}
+
+		char[] chars	= new char[ length ];
+
+		for ( int i = 0 ; i < length ; i++ )
+		{
+			chars[ i ]	= buffer.getChar();
+		}
+
+		return new String( chars );
+	}
+
+	/**	Check if more data remains.
+	 *
+	 *	@return		true if more data remains.
+	 */
+
+	public boolean hasRemaining()
+	{
+		return payload.hasRemaining();
+	}
+
+	/**	Read an integer.
+	 *
+	 *	@return		The integer.
+	 */
+
+	public int readInt()
+	{
+		return payload.getInt();
+	}
+
+	/**	Read a double.
+	 *
+	 *	@return		The double.
+	 */
+
+	public double readDouble()
+	{
+		return payload.getDouble();
+	}
+
+	/**	Read a string.
+	 *
+	 *	@return		The string.  May be null.
+	 */
+
+	public String readString()
+	{
+		int index	= payload.getInt();
+
+		if ( index < 0 )
+		{
+			return null;
+		}
+
+		if ( index == strings.size() )
+		{
+			strings.add( readChars( payload ) );
+		}
+
+		return strings.get( index );
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,154 @@
+package edu.northwestern.at.utils.snapshot;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.net.*;
+
+/**	Snapshot utilities.
+ *
+ *	<p>
+ *	A snapshot is a binary image of the records parsed from a text
+ *	resource such as a lexicon or transition matrix.  The snapshot
+ *	for a text file is stored next to the file, with
+ *	".snapshot" appended to the file name.
+ *	</p>
+ *
+ *	<p>
+ *	Each snapshot file starts with a header containing
+ *	</p>
+ *
+ *	<ul>
+ *	<li>a magic number and the snapshot container version,</li>
+ *	<li>the format name and format version of the data,</li>
+ *	<li>a string of source parameters (e.g., the text encoding)
+ *		used to parse the text resource,</li>
+ *	<li>the length and last modified time of the text resource,</li>
+ *	<li>the payload length and CRC32 checksum of the payload.</li>
+ *	</ul>
+ *
+ *	<p>
+ *	A snapshot is only used when every header field matches the
+ *	current text resource and the checksum is correct.
+ *	Otherwise callers fall back to parsing the text.
+ *	</p>
+ */
+
+public class SnapshotUtils
+{
+	/**	Snapshot file magic number ("MASP"). */
+
+	public static final int MAGIC		= 0x4D415350;
+
+	/**	Snapshot container version. */
+
+	public static final int VERSION		= 1;
+
+	/**	Snapshot file name extension. */
+
+	public static final String SNAPSHOT_EXTENSION	= ".snapshot";
+
+	/**	Get local file for a URL.
+	 *
+	 *	@param	url		The URL.
+	 *
+	 *	@return			The local file, or null if the URL does not
+	 *					refer to a local file.
+	 */
+
+	public static File getSourceFile( URL url )
+	{
+		File result	= null;
+
+		if ( ( url != null ) && "file".equalsIgnoreCase( url.getProtocol() ) )
+		{
+			try
+			{
+				result	= new File( url.toURI() );
+			}
+			catch ( Exception e )
+			{
+				result	= new File( url.getPath() );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get snapshot file for a text file.
+	 *
+	 *	@param	sourceFile	The text file.
+	 *
+	 *	@return				The snapshot file.
+	 */
+
+	public static File getSnapshotFile( File sourceFile )
+	{
+		return new File( sourceFile.getPath() + SNAPSHOT_EXTENSION );
+	}
+
+	/**	Get snapshot file for a text resource URL.
+	 *
+	 *	@param	url		The text resource URL.
+	 *
+	 *	@return			The snapshot file, or null if the URL does not
+	 *					refer to a local file.
+	 */
+
+	public static File getSnapshotFile( URL url )
+	{
+		File sourceFile	= getSourceFile( url );
+
+		return ( sourceFile == null ) ? null : getSnapshotFile( sourceFile );
+	}
+
+	/**	Don't allow instantiation, do allow overrides. */
+
+	protected SnapshotUtils()
+	{
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
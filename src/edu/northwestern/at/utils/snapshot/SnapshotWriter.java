@@ -0,0 +1,269 @@
+package edu.northwestern.at.utils.snapshot;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	Writes a binary snapshot of a text resource.
+ *
+ *	<p>
+ *	Records are appended to an in-memory payload using
+ *	{@link #writeInt} and {@link #writeString}.  Strings are
+ *	written once and referenced by index thereafter, so repeated
+ *	strings such as part of speech tags take only four bytes.
+ *	Calling {@link #save} writes the header and payload to the
+ *	snapshot file for the text resource.
+ *	</p>
+ */
+
+public class SnapshotWriter
+{
+	/**	Payload bytes. */
+
+	protected ByteArrayOutputStream payloadBytes;
+
+	/**	Payload output stream. */
+
+	protected DataOutputStream payload;
+
+	/**	Map from strings already written to their indices. */
+
+	protected Map<String, Integer> stringIndices;
+
+	/**	Snapshot format name. */
+
+	protected String formatName;
+
+	/**	Snapshot format version. */
+
+	protected int formatVersion;
+
+	/**	Parameters used to parse the text resource. */
+
+	protected String sourceParameters;
+
+	/**	Create a snapshot writer.
+	 *
+	 *	@param	formatName			Format name, e.g., "lexicon".
+	 *	@param	formatVersion		Format version.
+	 *	@param	sourceParameters	Parameters used to parse the text
+	 *								resource, e.g., its encoding.
+	 */
+
+	public SnapshotWriter
+	(
+		String formatName ,
+		int formatVersion ,
+		String sourceParameters
+	)
+	{
+		this.formatName			= formatName;
+		this.formatVersion		= formatVersion;
+		this.sourceParameters	= sourceParameters;
+
+		payloadBytes			= new ByteArrayOutputStream( 1 << 20 );
+		payload					= new DataOutputStream( payloadBytes );
+		stringIndices			= MapFactory.createNewMap();
+	}
+
+	/**	Write an integer.
+	 *
+	 *	@param	value	The integer to write.
+	 *
+	 *	@throws	IOException	if an I/O error occurs.
+	 */
+
+	public void writeInt( int value )
+		throws IOException
+	{
+		payload.writeInt( value );
+	}
+
+	/**	Write a double.
+	 *
+	 *	@param	value	The double to write.
+	 *
+	 *	@throws	IOException	if an I/O error occurs.
+	 */
+
+	public void writeDouble( double value )
+		throws IOException
+	{
+		payload.writeDouble( value );
+	}
+
+	/**	Write a string.
+	 *
+	 *	@param	s		The string to write.  May be null.
+	 *
+	 *	@throws	IOException	if an I/O error occurs.
+	 *
+	 *	<p>
+	 *	The string index is written.  The first time a string is seen
+	 *	the index is followed by the string length and characters.
+	 *	A null string is written as index -1.
+	 *	</p>
+	 */
+
+	public void writeString( String s )
+		throws IOException
+	{
+		if ( s == null )
+		{
+			payload.writeInt( -1 );
+			return;
+		}
+
+		Integer index	= stringIndices.get( s );
+
+		if ( index != null )
+		{
+			payload.writeInt( index.intValue() );
+		}
+		else
+		{
+			int newIndex	= stringIndices.size();
+
+			stringIndices.put( s , new Integer( newIndex ) );
+
+			payload.writeInt( newIndex );
+			writeChars( payload , s );
+		}
+	}
+
+	/**	Write string length and characters.
+	 *
+	 *	@param	output	The output stream.
+	 *	@param	s		The string.
+	 *
+	 *	@throws	IOException	if an I/O error occurs.
+	 */
+
+	protected static void writeChars( DataOutputStream output , String s )
+		throws IOException
+	{
+		output.writeInt( s.length() );
+		output.writeChars( s );
+	}
+
+	/**	Save snapshot for a text file.
+	 *
+	 *	@param	sourceFile	The text file from which the payload
+	 *						was created.
+	 *
+	 *	@return				The snapshot file written.
+	 *
+	 *	@throws	IOException	if an I/O error occurs.
+	 *
+	 *	<p>
+	 *	The snapshot is written to a temporary file which is then
+	 *	renamed, so a reader never sees a partially written snapshot.
+	 *	</p>
+	 */
+
+	public File save( File sourceFile )
+		throws IOException
+	{
+		payload.flush();
+
+		byte[] payloadArray	= payloadBytes.toByteArray();
+
+		CRC32 crc	= new CRC32();
+
+		crc.update( payloadArray , 0 , payloadArray.length );
+
+		File snapshotFile	= SnapshotUtils.getSnapshotFile( sourceFile );
+
+		File tempFile		=
+			new File( snapshotFile.getPath() + ".tmp" );
+
+		DataOutputStream output	=
+			new DataOutputStream
+			(
+				new BufferedOutputStream
+				(
+					new FileOutputStream( tempFile )
+				)
+			);
+
+		try
+		{
+			output.writeInt( SnapshotUtils.MAGIC );
+			output.writeInt( SnapshotUtils.VERSION );
+			writeChars( output , formatName );
+			output.writeInt( formatVersion );
+			writeChars( output , sourceParameters );
+			output.writeLong( sourceFile.length() );
+			output.writeLong( sourceFile.lastModified() );
+			output.writeInt( payloadArray.length );
+			output.writeLong( crc.getValue() );
+			output.write( payloadArray );
+		}
+		finally
+		{
+			output.close();
+		}
+
+		snapshotFile.delete();
+
+		if ( !tempFile.renameTo( snapshotFile ) )
+		{
+			tempFile.delete();
+
+			throw new IOException
+			(
+				"Unable to create snapshot file " + snapshotFile.getPath()
+			);
+		}
+
+		return snapshotFile;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,132 @@
+package edu.northwestern.at.utils.spellcheck;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	EditNeighborhoodSpellingDictionary -- spelling dictionary which
+ *	searches the one letter edit neighborhood of a word at once.
+ *
+ *	<p>
+ *	Finds the same related words as
+ *	{@link TernaryTrieSpellingDictionary}.  When no close words are
+ *	found, the ternary trie dictionary runs a near search for each
+ *	word made by removing one letter from the misspelling or inserting
+ *	one letter from "a" through "y", at distances zero and one.
+ *	For an eight letter word that is more than four hundred near
+ *	searches.
+ *	</p>
+ *
+ *	<p>
+ *	This dictionary instead runs one
+ *	{@link SpellingCandidateIndex#insertionSearch} for each insertion
+ *	position, matching all of the inserted letters at once, and one
+ *	near search at distance one for each removed letter.  Words within
+ *	distance zero are also within distance one, so the separate
+ *	distance zero searches are not needed.
+ *	</p>
+ */
+
+public class EditNeighborhoodSpellingDictionary
+	extends IndexedSpellingDictionary
+{
+	/** Create EditNeighborhoodSpellingDictionary from a set
+	 *	containing words.
+	 *
+	 *	@param	wordsSet	Set with words to add to the dictionary.
+	 */
+
+	public EditNeighborhoodSpellingDictionary( Set<String> wordsSet )
+	{
+		super( wordsSet );
+	}
+
+	/** Create EditNeighborhoodSpellingDictionary from a tagged
+	 *	strings list.
+	 *
+	 *	@param	wordsList	Tagged strings list with words
+	 *						to add to the dictionary.
+	 */
+
+	public EditNeighborhoodSpellingDictionary( TaggedStrings wordsList )
+	{
+		super( wordsList );
+	}
+
+	/**	Add words near a given word with one letter added or removed.
+	 *
+	 *	@param	word		The word.
+	 *	@param	result		Set to which to add the words found.
+	 */
+
+	protected void addLetterAddedOrRemovedWords
+	(
+		String word ,
+		Set<String> result
+	)
+	{
+		SpellingCandidateIndex index	= getIndex();
+
+		int size	= word.length();
+
+		for ( int i = size - 1 ; i >= 0 ; i-- )
+		{
+			result.addAll
+			(
+				index.nearSearch
+				(
+					word.substring( 0 , i ) + word.substring( i + 1 , size ) ,
+					1
+				)
+			);
+
+			result.addAll( index.insertionSearch( word , i , 'a' , 'y' , 1 ) );
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
@@ -0,0 +1,207 @@
+package edu.northwestern.at.utils.spellcheck;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+
+/**	IndexedSpellingDictionary -- ternary trie spelling dictionary
+ *	with a candidate index.
+ *
+ *	<p>
+ *	Finds the same related words as
+ *	{@link TernaryTrieSpellingDictionary}, but uses a
+ *	{@link SpellingCandidateIndex} instead of near searches through
+ *	the ternary trie.  The index also holds the double metaphone codes
+ *	of the dictionary words.  Call {@link #buildIndex} once the
+ *	dictionary is loaded so the first lookup does not pay for building
+ *	the index.
+ *	</p>
+ */
+
+public class IndexedSpellingDictionary extends TernaryTrieSpellingDictionary
+{
+	/**	The candidate index. */
+
+	protected SpellingCandidateIndex index;
+
+	/** Create IndexedSpellingDictionary from a set containing words.
+	 *
+	 *	@param	wordsSet	Set with words to add to the dictionary.
+	 */
+
+	public IndexedSpellingDictionary( Set<String> wordsSet )
+	{
+		super( wordsSet );
+	}
+
+	/** Create IndexedSpellingDictionary from a tagged strings list.
+	 *
+	 *	@param	wordsList	Tagged strings list with words
+	 *						to add to the dictionary.
+	 */
+
+	public IndexedSpellingDictionary( TaggedStrings wordsList )
+	{
+		super( wordsList );
+	}
+
+	/**	Build the candidate index if not already built. */
+
+	public void buildIndex()
+	{
+		getIndex();
+	}
+
+	/**	Get the candidate index.
+	 *
+	 *	@return		The candidate index.
+	 *
+	 *	<p>
+	 *	The index is built from the dictionary words on first use
+	 *	if {@link #buildIndex} has not been called.
+	 *	</p>
+	 */
+
+	public synchronized SpellingCandidateIndex getIndex()
+	{
+		if ( index == null )
+		{
+			index	= new SpellingCandidateIndex( trie.getAllStrings() );
+		}
+
+		return index;
+	}
+
+	/** Add a word to the dictionary.
+	 *
+	 *	@param	word		The word to add to the dictionary.
+	 *
+	 *	@return				True if word added successfully.
+	 */
+
+	public boolean addWord( String word )
+	{
+		boolean result	= super.addWord( word );
+
+		synchronized( this )
+		{
+			if ( index != null ) index.addWord( word );
+		}
+
+		return result;
+	}
+
+	/**	Find words near a given word.
+	 *
+	 *	@param	word		The word.
+	 *	@param	distance	The maximum number of differing letters.
+	 *
+	 *	@return				List of words near the given word.
+	 */
+
+	protected List<String> nearSearch( String word , int distance )
+	{
+		return getIndex().nearSearch( word , distance );
+	}
+
+	/** Get set of words which almost match given word.
+	 *
+	 *	@param	word		The word for which to find similar words.
+	 *
+	 *	@return				Set of words which are similar
+	 *						to specified word.
+	 *
+	 *	<p>
+	 *	Returns the same words as the near searches with increasing
+	 *	distances in
+	 *	{@link TernaryTrieSpellingDictionary#getMoreRelatedWords},
+	 *	using a single pass over the candidate index.
+	 *	</p>
+	 */
+
+	public Set<String> getMoreRelatedWords( String word )
+	{
+		Set<String> result	= SetFactory.createNewSet();
+
+		if ( ( word != null ) && ( word.length() > 0 ) )
+		{
+			int maxDistance	= Math.min( word.length() / 2 , 10 ) - 1;
+
+			if ( maxDistance <= MAXDIFFS ) return result;
+
+			List<String>[] wordsByDistance	=
+				getIndex().nearSearchByDistance( word.toLowerCase() , maxDistance );
+
+								//	Words within each distance
+								//	are added until two distances
+								//	have found words.
+			int k			= 0;
+			int nearCount	= 0;
+
+			for ( int i = 0 ; i <= maxDistance ; i++ )
+			{
+				nearCount	+= wordsByDistance[ i ].size();
+
+				if ( ( i > MAXDIFFS ) && ( nearCount > 0 ) )
+				{
+					for ( int j = 0 ; j <= i ; j++ )
+					{
+						result.addAll( wordsByDistance[ j ] );
+					}
+
+					k++;
+
+					if ( k >= 2 ) break;
+				}
+			}
+		}
+
+		return result;
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
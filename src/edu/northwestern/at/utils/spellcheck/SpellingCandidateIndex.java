@@ -0,0 +1,988 @@
+package edu.northwestern.at.utils.spellcheck;
+
+/*	Please see the license information at the end of this file. */
+
+import java.util.*;
+
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.corpuslinguistics.phonetics.*;
+
+/**	Candidate index over the words in a spelling dictionary.
+ *
+ *	<p>
+ *	The index is built once from a collection of words.  It holds
+ *	the words grouped by length and lists of the words containing each
+ *	letter pair (bigram) at each position, with hash tables to find
+ *	words and letter pair lists.  It also caches the double metaphone
+ *	codes of each word once they are first requested.
+ *	</p>
+ *
+ *	<p>
+ *	{@link #nearSearch} finds the same words as
+ *	{@link TernaryTrie#nearSearch}.  Rather than walk the trie, it
+ *	counts the letter pairs each word shares in place with the search
+ *	word.  A word differing in k places from the search word loses at
+ *	most 2k of those letter pairs, so only words sharing enough letter
+ *	pairs need to be compared with the search word.  When the search
+ *	word is too short or the distance too large for letter pairs to
+ *	rule out any words, all the words of each candidate length are
+ *	compared.
+ *	</p>
+ *
+ *	<p>
+ *	{@link #insertionSearch} finds the words near any of the words
+ *	made by inserting one letter from a range at a given position in
+ *	a search word.  The inserted position is treated as a wildcard
+ *	which matches any letter in the range, so one search replaces a
+ *	near search for each letter.
+ *	</p>
+ *
+ *	<p>
+ *	Words added after the index is built are kept in a short list which
+ *	is searched in full.  Searches use work arrays and are synchronized.
+ *	</p>
+ */
+
+public class SpellingCandidateIndex
+{
+	/**	Number of leading word positions whose letter pairs are indexed. */
+
+	protected static final int MAXIMUM_INDEXED_POSITIONS	= 15;
+
+	/**	Bit shift for the position in a letter pair entry. */
+
+	protected static final int POSITION_SHIFT	= 59;
+
+	/**	Bit shift for the first letter in a letter pair entry. */
+
+	protected static final int FIRST_LETTER_SHIFT	= 43;
+
+	/**	Bit shift for the second letter in a letter pair entry. */
+
+	protected static final int SECOND_LETTER_SHIFT	= 27;
+
+	/**	Mask for the word index in a letter pair entry. */
+
+	protected static final long WORD_INDEX_MASK	= ( 1L << 27 ) - 1;
+
+	/**	Indexed words. */
+
+	protected String[] words;
+
+	/**	Hash table of word indices plus one.  Zero marks an empty slot. */
+
+	protected int[] wordTable;
+
+	/**	Characters of the indexed words. */
+
+	protected char[][] wordChars;
+
+	/**	Indices of words by word length. */
+
+	protected int[][] wordsByLength;
+
+	/**	Sorted letter pair entries by word length.
+	 *
+	 *	<p>
+	 *	Each entry packs a position, the two letters starting at that
+	 *	position, and the word index into a long.
+	 *	</p>
+	 */
+
+	protected long[][] letterPairsByLength;
+
+	/**	Hash tables of letter pair keys by word length. */
+
+	protected long[][] letterPairKeys;
+
+	/**	Index of the first entry for each letter pair key
+	 *	by word length.  -1 marks an empty slot.
+	 */
+
+	protected int[][] letterPairStarts;
+
+	/**	Primary double metaphone codes of the indexed words. */
+
+	protected String[] primaryCodes;
+
+	/**	Alternate double metaphone codes of the indexed words. */
+
+	protected String[] alternateCodes;
+
+	/**	Double metaphone encoder. */
+
+	protected DoubleMetaphone doubleMetaphone	= new DoubleMetaphone();
+
+	/**	Words added after the index was built. */
+
+	protected List<String> addedWords	= ListFactory.createNewList();
+
+	/**	Shared letter pair counts for each word.  Work array. */
+
+	protected int[] letterPairCounts;
+
+	/**	Words whose letter pair counts are non-zero.  Work array. */
+
+	protected int[] countedWords;
+
+	/**	Create index.
+	 *
+	 *	@param	wordsToIndex	The words to index.
+	 */
+
+	public SpellingCandidateIndex( Collection<String> wordsToIndex )
+	{
+								//	Hash the words in the order of
+								//	the collection, skipping empty
+								//	and duplicate words.
+
+		wordTable			= new int[ getTableSize( wordsToIndex.size() ) ];
+
+		List<String> wordList	= ListFactory.createNewList();
+
+		for ( String word : wordsToIndex )
+		{
+			if ( ( word == null ) || ( word.length() == 0 ) ) continue;
+
+			int slot	= word.hashCode() & ( wordTable.length - 1 );
+			boolean found	= false;
+
+			while ( wordTable[ slot ] != 0 )
+			{
+				if ( wordList.get( wordTable[ slot ] - 1 ).equals( word ) )
+				{
+					found	= true;
+					break;
+				}
+
+				slot	= ( slot + 1 ) & ( wordTable.length - 1 );
+			}
+
+			if ( !found )
+			{
+				wordList.add( word );
+				wordTable[ slot ]	= wordList.size();
+			}
+		}
+
+		words				= wordList.toArray( new String[ wordList.size() ] );
+		wordChars			= new char[ words.length ][];
+		primaryCodes		= new String[ words.length ];
+		alternateCodes		= new String[ words.length ];
+		letterPairCounts	= new int[ words.length ];
+		countedWords		= new int[ words.length ];
+
+								//	Get characters and word lengths.
+		int maxLength		= 0;
+
+		for ( int i = 0 ; i < words.length ; i++ )
+		{
+			wordChars[ i ]	= words[ i ].toCharArray();
+			maxLength		= Math.max( maxLength , wordChars[ i ].length );
+		}
+								//	Group words by length.
+
+		int[] lengthCounts	= new int[ maxLength + 1 ];
+		int[] pairCounts	= new int[ maxLength + 1 ];
+
+		for ( int i = 0 ; i < words.length ; i++ )
+		{
+			int length	= wordChars[ i ].length;
+
+			lengthCounts[ length ]++;
+			pairCounts[ length ]	+= getIndexedPairCount( length );
+		}
+
+		wordsByLength		= new int[ maxLength + 1 ][];
+		letterPairsByLength	= new long[ maxLength + 1 ][];
+
+		for ( int length = 0 ; length <= maxLength ; length++ )
+		{
+			wordsByLength[ length ]			= new int[ lengthCounts[ length ] ];
+			letterPairsByLength[ length ]	= new long[ pairCounts[ length ] ];
+			lengthCounts[ length ]			= 0;
+			pairCounts[ length ]			= 0;
+		}
+								//	Add letter pair entries.
+
+		for ( int i = 0 ; i < words.length ; i++ )
+		{
+			char[] chars	= wordChars[ i ];
+			int length		= chars.length;
+
+			wordsByLength[ length ][ lengthCounts[ length ]++ ]	= i;
+
+			long[] entries	= letterPairsByLength[ length ];
+
+			for ( int j = 0 ; j < getIndexedPairCount( length ) ; j++ )
+			{
+				entries[ pairCounts[ length ]++ ]	=
+					getLetterPairKey( j , chars[ j ] , chars[ j + 1 ] ) | i;
+			}
+		}
+
+								//	Sort the entries for each length
+								//	and hash the start of the entries
+								//	for each letter pair.
+
+		letterPairKeys		= new long[ maxLength + 1 ][];
+		letterPairStarts	= new int[ maxLength + 1 ][];
+
+		for ( int length = 0 ; length <= maxLength ; length++ )
+		{
+			long[] entries	= letterPairsByLength[ length ];
+
+			Arrays.sort( entries );
+
+			int nKeys	= 0;
+
+			for ( int k = 0 ; k < entries.length ; k++ )
+			{
+				if	(	( k == 0 ) ||
+						( ( entries[ k ] & ~WORD_INDEX_MASK ) !=
+							( entries[ k - 1 ] & ~WORD_INDEX_MASK ) )
+					)
+				{
+					nKeys++;
+				}
+			}
+
+			long[] keys		= new long[ getTableSize( nKeys ) ];
+			int[] starts	= new int[ keys.length ];
+
+			Arrays.fill( starts , -1 );
+
+			for ( int k = 0 ; k < entries.length ; k++ )
+			{
+				long key	= entries[ k ] & ~WORD_INDEX_MASK;
+
+				if	(	( k == 0 ) ||
+						( key != ( entries[ k - 1 ] & ~WORD_INDEX_MASK ) )
+					)
+				{
+					int slot	= getLetterPairSlot( keys , starts , key );
+
+					keys[ slot ]	= key;
+					starts[ slot ]	= k;
+				}
+			}
+
+			letterPairKeys[ length ]	= keys;
+			letterPairStarts[ length ]	= starts;
+		}
+	}
+
+	/**	Get hash table size for a number of entries.
+	 *
+	 *	@param	nEntries	The number of entries.
+	 *
+	 *	@return				A power of two at least twice the
+	 *						number of entries.
+	 */
+
+	protected static int getTableSize( int nEntries )
+	{
+		int result	= 2;
+
+		while ( result < ( 2 * nEntries ) )
+		{
+			result	<<= 1;
+		}
+
+		return result;
+	}
+
+	/**	Get hash table slot for a letter pair key.
+	 *
+	 *	@param	keys	Hash table keys.
+	 *	@param	starts	Hash table entry starts.
+	 *	@param	key		The letter pair key.
+	 *
+	 *	@return			The slot holding the key, or the empty slot
+	 *					where the key belongs.
+	 */
+
+	protected static int getLetterPairSlot
+	(
+		long[] keys ,
+		int[] starts ,
+		long key
+	)
+	{
+		int mask	= keys.length - 1;
+		long hash	= key * 0x9E3779B97F4A7C15L;
+		int slot	= (int)( hash >>> 40 ) & mask;
+
+		while ( ( starts[ slot ] >= 0 ) && ( keys[ slot ] != key ) )
+		{
+			slot	= ( slot + 1 ) & mask;
+		}
+
+		return slot;
+	}
+
+	/**	Get number of indexed letter pairs for a word length.
+	 *
+	 *	@param	length	The word length.
+	 *
+	 *	@return			The number of letter pairs indexed.
+	 */
+
+	protected static int getIndexedPairCount( int length )
+	{
+		return Math.max( 0 , Math.min( length , MAXIMUM_INDEXED_POSITIONS ) - 1 );
+	}
+
+	/**	Get letter pair entry key.
+	 *
+	 *	@param	position	Position of first letter.
+	 *	@param	first		First letter.
+	 *	@param	second		Second letter.
+	 *
+	 *	@return				The key, with a zero word index.
+	 */
+
+	protected static long getLetterPairKey
+	(
+		int position ,
+		char first ,
+		char second
+	)
+	{
+		return
+			( (long)position << POSITION_SHIFT ) |
+			( (long)first << FIRST_LETTER_SHIFT ) |
+			( (long)second << SECOND_LETTER_SHIFT );
+	}
+
+	/**	Get index of a word.
+	 *
+	 *	@param	word	The word.
+	 *
+	 *	@return			The word index, or -1 if the word
+	 *					is not indexed.
+	 */
+
+	public int getWordIndex( String word )
+	{
+		int mask	= wordTable.length - 1;
+		int slot	= word.hashCode() & mask;
+
+		while ( wordTable[ slot ] != 0 )
+		{
+			int index	= wordTable[ slot ] - 1;
+
+			if ( words[ index ].equals( word ) ) return index;
+
+			slot	= ( slot + 1 ) & mask;
+		}
+
+		return -1;
+	}
+
+	/**	Check if word is in index.
+	 *
+	 *	@param	word	The word.
+	 *
+	 *	@return			true if the word was indexed or added.
+	 */
+
+	public synchronized boolean containsWord( String word )
+	{
+		return ( getWordIndex( word ) >= 0 ) || addedWords.contains( word );
+	}
+
+	/**	Add a word.
+	 *
+	 *	@param	word	The word to add.
+	 */
+
+	public synchronized void addWord( String word )
+	{
+		if	(	( word != null ) && ( word.length() > 0 ) &&
+				( getWordIndex( word ) < 0 ) &&
+				!addedWords.contains( word )
+			)
+		{
+			addedWords.add( word );
+		}
+	}
+
+	/**	Get primary double metaphone code of an indexed word.
+	 *
+	 *	@param	word	The word.
+	 *
+	 *	@return			The primary code, or null if the word
+	 *					was not indexed.
+	 */
+
+	public String getPrimaryCode( String word )
+	{
+		int index	= getWordIndex( word );
+
+		if ( index < 0 ) return null;
+
+		encodeWord( index );
+
+		return primaryCodes[ index ];
+	}
+
+	/**	Get alternate double metaphone code of an indexed word.
+	 *
+	 *	@param	word	The word.
+	 *
+	 *	@return			The alternate code, or null if the word
+	 *					was not indexed.
+	 */
+
+	public String getAlternateCode( String word )
+	{
+		int index	= getWordIndex( word );
+
+		if ( index < 0 ) return null;
+
+		encodeWord( index );
+
+		return alternateCodes[ index ];
+	}
+
+	/**	Get and cache double metaphone codes for an indexed word.
+	 *
+	 *	@param	index	The word index.
+	 */
+
+	protected synchronized void encodeWord( int index )
+	{
+		if ( primaryCodes[ index ] == null )
+		{
+			doubleMetaphone.encode( words[ index ] );
+
+			alternateCodes[ index ]	= doubleMetaphone.getAlternate();
+			primaryCodes[ index ]	= doubleMetaphone.getPrimary();
+		}
+	}
+
+	/**	Get number of words in index.
+	 *
+	 *	@return		The number of indexed and added words.
+	 */
+
+	public synchronized int getNumberOfWords()
+	{
+		return words.length + addedWords.size();
+	}
+
+	/**	Find words near a given word.
+	 *
+	 *	@param	word		The word.
+	 *	@param	distance	The maximum distance.
+	 *
+	 *	@return				List of words near the given word.
+	 *
+	 *	<p>
+	 *	The distance between two words is the number of positions
+	 *	in the shorter word at which the words differ, plus the
+	 *	difference in their lengths, as in
+	 *	{@link TernaryTrie#nearSearch}.
+	 *	</p>
+	 */
+
+	public synchronized List<String> nearSearch( String word , int distance )
+	{
+		if ( distance == 0 )
+		{
+			List<String> result	= ListFactory.createNewList();
+
+			if ( containsWord( word ) ) result.add( word );
+
+			return result;
+		}
+
+		return search( word.toCharArray() , distance , -1 , ' ' , ' ' );
+	}
+
+	/**	Find words near words with one letter inserted.
+	 *
+	 *	@param	word			The word.
+	 *	@param	position		Position at which letters are inserted,
+	 *							from 0 through the length of the word.
+	 *	@param	firstLetter		First letter to insert.
+	 *	@param	lastLetter		Last letter to insert.
+	 *	@param	distance		The maximum distance.
+	 *
+	 *	@return					List of words near the given word with
+	 *							any of the letters from firstLetter
+	 *							through lastLetter inserted at
+	 *							the given position.
+	 *
+	 *	<p>
+	 *	Returns the union of the results of {@link #nearSearch} for
+	 *	each inserted letter, each word appearing once.
+	 *	</p>
+	 */
+
+	public synchronized List<String> insertionSearch
+	(
+		String word ,
+		int position ,
+		char firstLetter ,
+		char lastLetter ,
+		int distance
+	)
+	{
+		char[] chars	= new char[ word.length() + 1 ];
+
+		word.getChars( 0 , position , chars , 0 );
+		word.getChars( position , word.length() , chars , position + 1 );
+
+		chars[ position ]	= firstLetter;
+
+		return search( chars , distance , position , firstLetter , lastLetter );
+	}
+
+	/**	Find words near a given word.
+	 *
+	 *	@param	chars				Characters of the word.
+	 *	@param	distance			The maximum distance.
+	 *	@param	wildcardPosition	Position matching any letter from
+	 *								firstLetter through lastLetter,
+	 *								or -1 for none.
+	 *	@param	firstLetter			First letter matched by the wildcard.
+	 *	@param	lastLetter			Last letter matched by the wildcard.
+	 *
+	 *	@return						List of words near the given word.
+	 */
+
+	protected List<String> search
+	(
+		char[] chars ,
+		int distance ,
+		int wildcardPosition ,
+		char firstLetter ,
+		char lastLetter
+	)
+	{
+		List<String> result	= ListFactory.createNewList();
+
+		if ( distance < 0 ) return result;
+
+		int wordLength	= chars.length;
+
+								//	Search each length within the
+								//	distance.
+
+		int minLength	= Math.max( 1 , wordLength - distance );
+		int maxLength	=
+			Math.min( wordsByLength.length - 1 , wordLength + distance );
+
+		for ( int length = minLength ; length <= maxLength ; length++ )
+		{
+			int maxDiffs	= distance - Math.abs( length - wordLength );
+			int checkLength	= Math.min( length , wordLength );
+
+								//	Count letter pairs shared with
+								//	words of this length.  Each
+								//	difference removes at most two.
+								//	Letter pairs including the
+								//	wildcard are not counted.
+
+			int pairCount	= getIndexedPairCount( checkLength );
+			int minShared	=
+				pairCount - ( 2 * maxDiffs ) -
+				getWildcardPairCount( wildcardPosition , pairCount );
+
+			if ( minShared > 0 )
+			{
+				int nCounted	=
+					countSharedLetterPairs
+					(
+						chars , length , pairCount , wildcardPosition
+					);
+
+				for ( int i = 0 ; i < nCounted ; i++ )
+				{
+					int index	= countedWords[ i ];
+
+					if	(	( letterPairCounts[ index ] >= minShared ) &&
+							( countDiffs( wordChars[ index ] , chars ,
+								checkLength , maxDiffs , wildcardPosition ,
+								firstLetter , lastLetter ) <= maxDiffs )
+						)
+					{
+						result.add( words[ index ] );
+					}
+
+					letterPairCounts[ index ]	= 0;
+				}
+			}
+			else
+			{
+								//	Compare all words of this length.
+
+				int[] indices	= wordsByLength[ length ];
+
+				for ( int i = 0 ; i < indices.length ; i++ )
+				{
+					int index	= indices[ i ];
+
+					if	(	countDiffs( wordChars[ index ] , chars ,
+								checkLength , maxDiffs , wildcardPosition ,
+								firstLetter , lastLetter ) <= maxDiffs
+						)
+					{
+						result.add( words[ index ] );
+					}
+				}
+			}
+		}
+								//	Search added words.
+
+		for ( int i = 0 ; i < addedWords.size() ; i++ )
+		{
+			char[] addedChars	= addedWords.get( i ).toCharArray();
+			int lengthDiff		= Math.abs( addedChars.length - wordLength );
+
+			if	(	( lengthDiff <= distance ) &&
+					( countDiffs( addedChars , chars ,
+						Math.min( addedChars.length , wordLength ) ,
+						distance - lengthDiff , wildcardPosition ,
+						firstLetter , lastLetter ) <= ( distance - lengthDiff ) )
+				)
+			{
+				result.add( addedWords.get( i ) );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Get number of counted letter pairs which include a wildcard.
+	 *
+	 *	@param	wildcardPosition	Wildcard position, or -1 for none.
+	 *	@param	pairCount			Number of letter pairs counted.
+	 *
+	 *	@return						Number of the leading pairCount
+	 *								letter pairs including the wildcard.
+	 */
+
+	protected static int getWildcardPairCount
+	(
+		int wildcardPosition ,
+		int pairCount
+	)
+	{
+		int result	= 0;
+
+		if ( wildcardPosition >= 0 )
+		{
+			if ( wildcardPosition < pairCount ) result++;
+
+			if	(	( wildcardPosition > 0 ) &&
+					( ( wildcardPosition - 1 ) < pairCount )
+				)
+			{
+				result++;
+			}
+		}
+
+		return result;
+	}
+
+	/**	Find words near a given word, grouped by distance.
+	 *
+	 *	@param	word			The word.
+	 *	@param	maxDistance		The maximum distance.
+	 *
+	 *	@return					Array of word lists.  Entry i holds the
+	 *							words exactly distance i from the word.
+	 *
+	 *	<p>
+	 *	Each word within the maximum distance is compared once, so this
+	 *	is much faster than separate near searches for each distance.
+	 *	</p>
+	 */
+
+	public synchronized List<String>[] nearSearchByDistance
+	(
+		String word ,
+		int maxDistance
+	)
+	{
+		@SuppressWarnings("unchecked")
+		List<String>[] result	=
+			(List<String>[])new List<?>[ Math.max( maxDistance , 0 ) + 1 ];
+
+		for ( int i = 0 ; i < result.length ; i++ )
+		{
+			result[ i ]	= ListFactory.createNewList();
+		}
+
+		if ( maxDistance < 0 ) return result;
+
+		char[] chars	= word.toCharArray();
+		int wordLength	= chars.length;
+
+		int minLength	= Math.max( 1 , wordLength - maxDistance );
+		int maxLength	=
+			Math.min( wordsByLength.length - 1 , wordLength + maxDistance );
+
+		for ( int length = minLength ; length <= maxLength ; length++ )
+		{
+			int lengthDiff	= Math.abs( length - wordLength );
+			int maxDiffs	= maxDistance - lengthDiff;
+			int checkLength	= Math.min( length , wordLength );
+			int[] indices	= wordsByLength[ length ];
+
+			for ( int i = 0 ; i < indices.length ; i++ )
+			{
+				int index	= indices[ i ];
+
+				int diffs	=
+					countDiffs( wordChars[ index ] , chars , checkLength , maxDiffs );
+
+				if ( diffs <= maxDiffs )
+				{
+					result[ diffs + lengthDiff ].add( words[ index ] );
+				}
+			}
+		}
+
+		for ( int i = 0 ; i < addedWords.size() ; i++ )
+		{
+			String addedWord	= addedWords.get( i );
+
+			int wordDistance	= getDistance( addedWord , word , maxDistance );
+
+			if ( wordDistance <= maxDistance )
+			{
+				result[ wordDistance ].add( addedWord );
+			}
+		}
+
+		return result;
+	}
+
+	/**	Count letter pairs shared in place with words of a given length.
+	 *
+	 *	@param	chars		Characters of search word.
+	 *	@param	length		Length of words to search.
+	 *	@param	pairCount	Number of leading letter pairs to count.
+	 *	@param	wildcardPosition	Position of wildcard whose letter
+	 *								pairs are skipped, or -1 for none.
+	 *
+	 *	@return				Number of words with shared letter pairs.
+	 *						The word indices are in countedWords
+	 *						and the counts in letterPairCounts.
+	 */
+
+	protected int countSharedLetterPairs
+	(
+		char[] chars ,
+		int length ,
+		int pairCount ,
+		int wildcardPosition
+	)
+	{
+		int result		= 0;
+		long[] entries	= letterPairsByLength[ length ];
+		long[] keys		= letterPairKeys[ length ];
+		int[] starts	= letterPairStarts[ length ];
+
+		for ( int j = 0 ; j < pairCount ; j++ )
+		{
+			if	(	( j == wildcardPosition ) ||
+					( ( j + 1 ) == wildcardPosition )
+				)
+			{
+				continue;
+			}
+
+			long key	= getLetterPairKey( j , chars[ j ] , chars[ j + 1 ] );
+
+								//	Find first entry for this
+								//	letter pair.
+
+			int first	= starts[ getLetterPairSlot( keys , starts , key ) ];
+
+			if ( first < 0 ) continue;
+
+			for	(	int k = first ;
+					( k < entries.length ) &&
+					( ( entries[ k ] & ~WORD_INDEX_MASK ) == key ) ;
+					k++
+				)
+			{
+				int index	= (int)( entries[ k ] & WORD_INDEX_MASK );
+
+				if ( letterPairCounts[ index ]++ == 0 )
+				{
+					countedWords[ result++ ]	= index;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**	Count differing characters in leading positions of two words.
+	 *
+	 *	@param	chars1		First word characters.
+	 *	@param	chars2		Second word characters.
+	 *	@param	length		Number of leading characters to compare.
+	 *	@param	maxDiffs	Stop counting after this many differences.
+	 *
+	 *	@return				Number of differences, or maxDiffs + 1
+	 *						if there are more than maxDiffs.
+	 */
+
+	protected static int countDiffs
+	(
+		char[] chars1 ,
+		char[] chars2 ,
+		int length ,
+		int maxDiffs
+	)
+	{
+		int result	= 0;
+
+		for ( int i = 0 ; i < length ; i++ )
+		{
+			if ( chars1[ i ] != chars2[ i ] )
+			{
+				if ( ++result > maxDiffs ) break;
+			}
+		}
+
+		return result;
+	}
+
+	/**	Count differing characters in leading positions of two words.
+	 *
+	 *	@param	chars1				First word characters.
+	 *	@param	chars2				Second word characters.
+	 *	@param	length				Number of leading characters
+	 *								to compare.
+	 *	@param	maxDiffs			Stop counting after this
+	 *								many differences.
+	 *	@param	wildcardPosition	Position in the second word
+	 *								matching any letter from
+	 *								firstLetter through lastLetter,
+	 *								or -1 for none.
+	 *	@param	firstLetter			First letter matched by the wildcard.
+	 *	@param	lastLetter			Last letter matched by the wildcard.
+	 *
+	 *	@return						Number of differences, or
+	 *								maxDiffs + 1 if there are more
+	 *								than maxDiffs.
+	 */
+
+	protected static int countDiffs
+	(
+		char[] chars1 ,
+		char[] chars2 ,
+		int length ,
+		int maxDiffs ,
+		int wildcardPosition ,
+		char firstLetter ,
+		char lastLetter
+	)
+	{
+		if ( ( wildcardPosition < 0 ) || ( wildcardPosition >= length ) )
+		{
+			return countDiffs( chars1 , chars2 , length , maxDiffs );
+		}
+
+		int result	= 0;
+
+		char c		= chars1[ wildcardPosition ];
+
+		if ( ( c < firstLetter ) || ( c > lastLetter ) ) result++;
+
+		for ( int i = 0 ; ( i < length ) && ( result <= maxDiffs ) ; i++ )
+		{
+			if ( ( i != wildcardPosition ) && ( chars1[ i ] != chars2[ i ] ) )
+			{
+				result++;
+			}
+		}
+
+		return Math.min( result , maxDiffs + 1 );
+	}
+
+	/**	Get distance between two words.
+	 *
+	 *	@param	word1			First word.
+	 *	@param	word2			Second word.
+	 *	@param	maxDistance		Stop counting after this distance.
+	 *
+	 *	@return					The distance, or a value larger than
+	 *							maxDistance if the distance is larger
+	 *							than maxDistance.
+	 */
+
+	protected static int getDistance
+	(
+		String word1 ,
+		String word2 ,
+		int maxDistance
+	)
+	{
+		int lengthDiff	= Math.abs( word1.length() - word2.length() );
+
+		if ( lengthDiff > maxDistance ) return lengthDiff;
+
+		return
+			lengthDiff +
+			countDiffs
+			(
+				word1.toCharArray() ,
+				word2.toCharArray() ,
+				Math.min( word1.length() , word2.length() ) ,
+				maxDistance - lengthDiff
+			);
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+
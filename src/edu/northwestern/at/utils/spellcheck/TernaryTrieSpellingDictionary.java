@@ -232,16 +232,16 @@ e.printStackTrace();
 
 								//	Start by looking for words with a
 								//	maximum of MAXDIFFS letters different.
+								//	Words with fewer letters different
+								//	are found by the same search.
 
-		for	(	maxSuggestions = 1;
-				( maxSuggestions <= MAXDIFFS ) &&
-				( size >= maxSuggestions * 2 );
-				maxSuggestions++
-			)
+		maxSuggestions	= Math.min( MAXDIFFS , size / 2 );
+
+		if ( maxSuggestions > 0 )
 		{
 			result.addAll
 			(
-				trie.nearSearch( word , maxSuggestions )
+				nearSearch( word , maxSuggestions )
 			);
 		}
 								//	Check for 1 letter removed or added,
@@ -250,37 +250,7 @@ e.printStackTrace();
 
 		if ( ( result.size() == 0 ) && ( size > 2 ) )
 		{
-			for	(	maxSuggestions = 0 ;
-					( maxSuggestions <= 1 ) ;
-					maxSuggestions++
-				)
-			{
-				for ( i = size - 1 ; i >= 0 ; i-- )
-				{
-					result.addAll
-					(
-						trie.nearSearch
-						(
-							word.substring( 0 , i ) +
-								word.substring( i + 1 , size ) ,
-							maxSuggestions
-					 	)
-					);
-
-					for ( j = 'a' ; j < 'z' ; j++ )
-					{
-						result.addAll
-						(
-							trie.nearSearch
-							(
-								word.substring( 0 , i ) + ((char)j ) +
-									word.substring( i , size ) ,
-								maxSuggestions
-							)
-						);
-					}
-				}
-			}
+			addLetterAddedOrRemovedWords( word , result );
 		}
 
 		if ( result.size() == 0 )
@@ -324,7 +294,7 @@ e.printStackTrace();
 
 				suggestion	= sugBuf.toString();
 
-				result.addAll( trie.nearSearch( suggestion , 1 ) );
+				result.addAll( nearSearch( suggestion , 1 ) );
 			}
         }
 								//	Prefixes.
@@ -346,7 +316,7 @@ e.printStackTrace();
 						word.substring( 0 , i ) +
 						word.substring( i + 1 , size );
 
-					result.addAll( trie.nearSearch( suggestion , 1 ) );
+					result.addAll( nearSearch( suggestion , 1 ) );
 				}
 			}
 		}
@@ -354,6 +324,78 @@ e.printStackTrace();
 		return result;
 	}
 
+	/**	Add words near a given word with one letter added or removed.
+	 *
+	 *	@param	word		The word.
+	 *	@param	result		Set to which to add the words found.
+	 *
+	 *	<p>
+	 *	Adds the words at most one letter different from the
+	 *	given word with one letter removed or one letter
+	 *	from "a" through "y" added.  Subclasses may override this
+	 *	to find the same words faster.
+	 *	</p>
+	 */
+
+	protected void addLetterAddedOrRemovedWords
+	(
+		String word ,
+		Set<String> result
+	)
+	{
+		int size	= word.length();
+
+		for	(	int maxSuggestions = 0 ;
+				( maxSuggestions <= 1 ) ;
+				maxSuggestions++
+			)
+		{
+			for ( int i = size - 1 ; i >= 0 ; i-- )
+			{
+				result.addAll
+				(
+					nearSearch
+					(
+						word.substring( 0 , i ) +
+							word.substring( i + 1 , size ) ,
+						maxSuggestions
+				 	)
+				);
+
+				for ( int j = 'a' ; j < 'z' ; j++ )
+				{
+					result.addAll
+					(
+						nearSearch
+						(
+							word.substring( 0 , i ) + ((char)j ) +
+								word.substring( i , size ) ,
+							maxSuggestions
+						)
+					);
+				}
+			}
+		}
+	}
+
+	/**	Find words near a given word.
+	 *
+	 *	@param	word		The word.
+	 *	@param	distance	The maximum number of differing letters.
+	 *
+	 *	@return				List of words near the given word.
+	 *
+	 *	<p>
+	 *	Uses {@link TernaryTrie#nearSearch}.  Subclasses may override
+	 *	this to find the same words faster.
+	 *	</p>
+	 */
+
+	protected List<String> nearSearch( String word , int distance )
+	{
+		return trie.nearSearch( word , distance );
+	}
+
 	/** Retrieves all words in dictionary.
 	 *
 	 *	@return		ArrayList of all words in dictionary.
@@ -400,7 +442,7 @@ e.printStackTrace();
 			for	( int i = ( MAXDIFFS + 1 ) ; i < Math.min( l / 2 , 10 ) ; i++ )
 			{
 				List<String> nearSearches	=
-					trie.nearSearch( word.toLowerCase() , i );
+					nearSearch( word.toLowerCase() , i );
 
 				if ( nearSearches.size() > 0 )
 				{
@@ -184,6 +184,50 @@ public class IndentingXMLWriter extends XMLWriter
 
 		super.endElement( uri , localName , qName );
 	}
+
+	/**	Write an empty element.
+	  *
+	  *	@param	uri			The XML element's URI.
+	  *	@param	localName	The XML element's local name.
+	  *	@param	qName		The XML element's qname.
+	  *	@param	atts		The XML element's attributes.
+	  */
+
+	public void emptyElement
+	(
+		String uri ,
+		String localName ,
+		String qName ,
+		Attributes atts
+	)
+		throws SAXException
+	{
+								//	Emit EOL and indentation before
+								//	the element.
+
+		super.ignorableWhitespace( eol , 0 , eol.length );
+
+		if ( indentStep > 0 )
+		{
+			for ( int i = 0 ; i < childStack.size() ; i++ )
+			{
+				super.ignorableWhitespace( indents , 0 , indents.length );
+			}
+		}
+								//	If this element has a parent,
+								//	set the child stack value for the
+								//	parent to true.
+
+		if ( !childStack.isEmpty() )
+		{
+			childStack.pop();
+			childStack.push( true );
+		}
+								//	Perform standard processing
+								//	for this element.
+
+		super.emptyElement( uri , localName , qName , atts );
+	}
 }
 
 /*
@@ -178,9 +178,6 @@ public class Dictionary {
     public int already_got_it;
     public int line_number;
 
-    /* a pointer to the temporary lookup list */
-    DictNode lookup_list = null;
-
     static boolean rand_table_inited = false;
     /**
      * This is the dictionary_create function cast as a java object constructor with an extra
@@ -268,8 +265,6 @@ public class Dictionary {
         } else {
             unlimited_connector_set = null;
         }
-
-        lookup_list = null;
     }
 
     /**
@@ -360,19 +355,18 @@ public class Dictionary {
      *      the program merely examines the list (doesn't change it)
      */
     public DictNode dictionary_lookup(String s) {
-
-
-        lookup_list = null;
-        rdictionary_lookup(root, s);
-        prune_lookup_list(s);
-        return lookup_list;
+        /* the lookup list is built in a local variable, not a field, so that
+           several sentences can look up words in this dictionary at once */
+        return prune_lookup_list(rdictionary_lookup(root, s, null), s);
     }
 
     /**
      *
+     * @param lookup_list
      * @param s
+     * @return the pruned list
      */
-    void prune_lookup_list(String s) {
+    DictNode prune_lookup_list(DictNode lookup_list, String s) {
         DictNode dn, dnx, dn_new;
         dn_new = null;
         for (dn = lookup_list; dn != null; dn = dnx) {
@@ -390,22 +384,25 @@ public class Dictionary {
             dn.right = lookup_list;
             lookup_list = dn;
         }
+        return lookup_list;
     }
 
     /**
      *
      * @param dn
      * @param s
+     * @param lookup_list the list of matches found so far
+     * @return the list with the matches under dn added
      */
-    void rdictionary_lookup(DictNode dn, String s) {
+    DictNode rdictionary_lookup(DictNode dn, String s, DictNode lookup_list) {
         /* see comment in dictionary_lookup below */
         int m;
         DictNode dn_new;
         if (dn == null)
-            return;
+            return lookup_list;
         m = dict_match(s, dn.string);
         if (m >= 0) {
-            rdictionary_lookup(dn.right, s);
+            lookup_list = rdictionary_lookup(dn.right, s, lookup_list);
         }
         if (m == 0) {
             dn_new = new DictNode(dn);
@@ -413,8 +410,9 @@ public class Dictionary {
             lookup_list = dn_new;
         }
         if (m <= 0) {
-            rdictionary_lookup(dn.left, s);
+            lookup_list = rdictionary_lookup(dn.left, s, lookup_list);
         }
+        return lookup_list;
     }
 
     /**
@@ -434,15 +432,17 @@ public class Dictionary {
      *
      * @param dn
      * @param s
+     * @param lookup_list the list of matches found so far
+     * @return the list with the matches under dn added
      */
-    void rabridged_lookup(DictNode dn, String s) {
+    DictNode rabridged_lookup(DictNode dn, String s, DictNode lookup_list) {
         int m;
         DictNode dn_new;
         if (dn == null)
-            return;
+            return lookup_list;
         m = dict_match(s, dn.string);
         if (m >= 0) {
-            rabridged_lookup(dn.right, s);
+            lookup_list = rabridged_lookup(dn.right, s, lookup_list);
         }
         if (m == 0 && !is_idiom_word(dn.string)) {
             dn_new = new DictNode(dn);
@@ -450,8 +450,9 @@ public class Dictionary {
             lookup_list = dn_new;
         }
         if (m <= 0) {
-            rabridged_lookup(dn.left, s);
+            lookup_list = rabridged_lookup(dn.left, s, lookup_list);
         }
+        return lookup_list;
     }
 
     /**
@@ -460,10 +461,7 @@ public class Dictionary {
      * @return a linked list of dictionary nodes containing the string
      */
     DictNode abridged_lookup(String s) {
-        lookup_list = null;
-        rabridged_lookup(root, s);
-        prune_lookup_list(s);
-        return lookup_list;
+        return prune_lookup_list(rabridged_lookup(root, s, null), s);
     }
 
     /**
@@ -39,16 +39,14 @@ public class Disjunct {
         return d1;
     }
 
-    static int dup_table_size;
-    static Disjunct dup_table[];
-
     static Disjunct eliminate_duplicate_disjuncts(ParseOptions opts, Disjunct d) {
         /* Takes the list of disjuncts pointed to by d, eliminates all
            duplicates, and returns a pointer to a new list.
            It frees the disjuncts that are eliminated.
         */
-        int i, h, count;
+        int i, h, count, dup_table_size;
         Disjunct dn, dx;
+        Disjunct dup_table[];
         count = 0;
         dup_table_size = MyRandom.next_power_of_two_up(2 * count_disjuncts(d));
         dup_table = new Disjunct[dup_table_size];
@@ -56,7 +54,7 @@ public class Disjunct {
             dup_table[i] = null;
         while (d != null) {
             dn = d.next;
-            h = d.old_hash_disjunct();
+            h = d.old_hash_disjunct(dup_table_size);
 
             for (dx = dup_table[h]; dx != null; dx = dx.next) {
                 if (dx.disjuncts_equal(d))
@@ -126,21 +124,21 @@ public class Disjunct {
        equality.
     */
 
-    int old_hash_disjunct() {
+    int old_hash_disjunct(int dup_table_size) {
         /* This is a hash function for disjuncts */
         int i;
         Connector e;
         i = 0;
         for (e = left; e != null; e = e.next) {
-            i = string_hash(e.string, i);
+            i = string_hash(e.string, i, dup_table_size);
         }
         for (e = right; e != null; e = e.next) {
-            i = string_hash(e.string, i);
+            i = string_hash(e.string, i, dup_table_size);
         }
-        return string_hash(string, i);
+        return string_hash(string, i, dup_table_size);
     }
 
-    static int string_hash(String s, int i) {
+    static int string_hash(String s, int i, int dup_table_size) {
         /* hash function that takes a string and a seed value i */
         for (int j = 0; j < s.length(); j++)
             i = i + (i << 1) + MyRandom.randtable[(s.charAt(j) + i) & (GlobalBean.RTSIZE - 1)];
@@ -118,7 +118,7 @@ public class Exp {
         return size;
     }
 
-    void insert_connectors(int dir) {
+    void insert_connectors(Sentence sent,int dir) {
         /* Put into the set S all of the dir-pointing connectors still in e.    */
         Connector dummy = new Connector();
         ExpList el;
@@ -130,11 +130,11 @@ public class Exp {
         if (type == GlobalBean.CONNECTOR_type) {
             if (dir == this.dir) {
                 dummy.string = string;
-                Sentence.insert_S(dummy);
+                sent.insert_S(dummy);
             }
         } else {
             for (el = l; el != null; el = el.next) {
-                el.e.insert_connectors(dir);
+                el.e.insert_connectors(sent,dir);
             }
         }
     }
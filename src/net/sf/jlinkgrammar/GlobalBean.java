@@ -263,7 +263,6 @@ public class GlobalBean {
     public static int batch_errors = 0;
     public static boolean input_pending = false;
     public static int input_char;
-    public static ParseOptions opts;
 
     public static int lperrno;
     public static String lperrmsg;
@@ -303,7 +302,7 @@ public class GlobalBean {
         }
     }
 
-    public static boolean special_command(StringBuffer input_string, Dictionary dict) {
+    public static boolean special_command(StringBuffer input_string, Dictionary dict, ParseOptions opts) {
 
         if (input_string.charAt(0) == '\n')
             return true;
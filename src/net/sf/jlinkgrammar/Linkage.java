@@ -39,21 +39,21 @@ public class Linkage {
     public ParseOptions opts;
 
     /* the following are all for generating postscript */
-    private static int word_used[][] = new int[GlobalBean.MAXSUBL][GlobalBean.MAX_SENTENCE];
+    private int word_used[][] = new int[GlobalBean.MAXSUBL][GlobalBean.MAX_SENTENCE];
     /* tells the height of the links above the sentence */
-    private static int link_heights[] = new int[GlobalBean.MAX_LINKS];
+    private int link_heights[] = new int[GlobalBean.MAX_LINKS];
     /* the word beginning each row of the display */
-    private static int row_starts[] = new int[GlobalBean.MAX_SENTENCE];
+    private int row_starts[] = new int[GlobalBean.MAX_SENTENCE];
     /* the number of rows */
-    private static int N_rows;
+    private int N_rows;
     /* version of N_words in this file for printing links */
-    private static int N_words_to_print;
+    private int N_words_to_print;
 
-    private static int center[] = new int[GlobalBean.MAX_SENTENCE];
+    private int center[] = new int[GlobalBean.MAX_SENTENCE];
     // TODO - make constituent a linked list - jlr
-    private static Constituent constituent[] = new Constituent[GlobalBean.MAXCONSTITUENTS];
-    private static int templist[] = new int[100];
-    private static int r_limit = 0;
+    private Constituent constituent[] = new Constituent[GlobalBean.MAXCONSTITUENTS];
+    private int templist[] = new int[100];
+    private int r_limit = 0;
 
     static class LinkageAndList {
         int num;
@@ -61,9 +61,9 @@ public class Linkage {
         boolean valid;
     };
 
-    public static LinkageAndList andlist[] = new LinkageAndList[1024];
+    public LinkageAndList andlist[] = new LinkageAndList[1024];
 
-    public static int wordtype[] = new int[GlobalBean.MAX_SENTENCE];
+    public int wordtype[] = new int[GlobalBean.MAX_SENTENCE];
 
     /**
      * setter for object's copy of the sentence
@@ -147,7 +147,7 @@ public class Linkage {
         this.opts = opts;
         info = sent.link_info[k];
 
-        extract_links(sent.link_info[k].index, sent.null_count, sent.parse_info);
+        extract_links(sent.link_info[k].index, sent.null_count, sent.parse_info, sent.parse_context.random);
         compute_chosen_words(sent);
 
         if (sent.set_has_fat_down()) {
@@ -156,8 +156,8 @@ public class Linkage {
             extract_thin_linkage(sent, opts);
         }
 
-        if (sent.dict.postprocessor != null) {
-            linkage_post_process(sent.dict.postprocessor);
+        if (sent.postprocessor != null) {
+            linkage_post_process(sent.postprocessor);
         }
 
     }
@@ -208,13 +208,13 @@ public class Linkage {
            sentence.  For this to work, you must have already called parse, and
            already built the whole_set.
      */
-    static void extract_links(int index, int cost, ParseInfo pi) {
+    static void extract_links(int index, int cost, ParseInfo pi, MyRandom random) {
         
         pi.initialize_links();
         if (index < 0) {
-            MyRandom.my_random_initialize(index);
-            pi.list_random_links(pi.parse_set);
-            MyRandom.my_random_finalize();
+            random.my_random_initialize(index);
+            pi.list_random_links(pi.parse_set, random);
+            random.my_random_finalize();
         } else {
             pi.list_links(pi.parse_set, index);
         }
@@ -263,10 +263,9 @@ public class Linkage {
 
         sublinkage = new Sublinkage(pi);
         pi.build_digraph();
-        Sentence.structure_violation = false;
         d_root = pi.build_DIS_CON_tree();
 
-        if (Sentence.structure_violation) {
+        if (pi.structure_violation) {
             sent.compute_link_names();
             for (i = 0; i < pi.N_links; i++) {
                 // TODO: copy_full_link(&sublinkage.link[i],&(pi.link_array[i]));
@@ -325,8 +324,8 @@ public class Linkage {
                     sublinkage.link[i].l = sent.patch_array[i].newl;
                     sublinkage.link[i].r = sent.patch_array[i].newr;
                 } else if (
-                    (ParseInfo.dfs_root_word[pi.link_array[i].l] != -1)
-                        && (ParseInfo.dfs_root_word[pi.link_array[i].r] != -1)) {
+                    (pi.dfs_root_word[pi.link_array[i].l] != -1)
+                        && (pi.dfs_root_word[pi.link_array[i].r] != -1)) {
                     sublinkage.link[i].l = -1;
                 }
             }
@@ -865,9 +864,6 @@ public class Linkage {
         return ps_string;
     }
 
-    public static char picture[][] = new char[GlobalBean.MAX_HEIGHT][GlobalBean.MAX_LINE];
-    public static char xpicture[][] = new char[GlobalBean.MAX_HEIGHT][GlobalBean.MAX_LINE];
-
     public void set_centers(boolean print_word_0) {
         int i, len, tot;
         tot = 0;
@@ -899,6 +895,8 @@ public class Linkage {
         String gr_string;
         Dictionary dict = sent.dict;
         int x_screen_width = opts.parse_options_get_screen_width();
+        char picture[][] = new char[GlobalBean.MAX_HEIGHT][GlobalBean.MAX_LINE];
+        char xpicture[][] = new char[GlobalBean.MAX_HEIGHT][GlobalBean.MAX_LINE];
 
         string = new StringBuffer();
 
@@ -1152,7 +1150,7 @@ public class Linkage {
         StringBuffer cs;
         CNode root;
 
-        if (mode == 0 || sent.dict.constituent_pp == null) {
+        if (mode == 0 || sent.constituent_pp == null) {
             return null;
         } else if (mode == 1 || mode == 3) {
             cs = new StringBuffer();
@@ -1310,7 +1308,7 @@ public class Linkage {
         String q;
 
         sent = linkage_get_sentence();
-        pp = sent.dict.constituent_pp;
+        pp = sent.constituent_pp;
         numcon_total = 0;
 
         count_words_used();
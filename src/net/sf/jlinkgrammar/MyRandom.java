@@ -6,18 +6,19 @@ package net.sf.jlinkgrammar;
  *
  */
 public class MyRandom {
-    static int random_state[] = new int[2];
-    static int random_count = 0;
-    static boolean random_inited = false;
+    /* the generator state is per instance, so that each parse can have its own */
+    int random_state[] = new int[2];
+    int random_count = 0;
+    boolean random_inited = false;
 
-    static int step_generator(int d) {
+    int step_generator(int d) {
         /* no overflow should occur, so this is machine independent */
         random_state[0] = ((random_state[0] * 3) + d + 104729) % 179424673;
         random_state[1] = ((random_state[1] * 7) + d + 48611) % 86028121;
         return random_state[0] + random_state[1];
     }
 
-    static void my_random_initialize(int seed) {
+    void my_random_initialize(int seed) {
         if (random_inited) {
             throw new RuntimeException("Random number generator not finalized.");
         }
@@ -31,14 +32,14 @@ public class MyRandom {
         random_inited = true;
     }
 
-    static void my_random_finalize() {
+    void my_random_finalize() {
         if (!random_inited) {
             throw new RuntimeException("Random number generator not initialized.");
         }
         random_inited = false;
     }
 
-    static int my_random() {
+    int my_random() {
         random_count++;
         return step_generator(random_count);
     }
@@ -0,0 +1,278 @@
+package net.sf.jlinkgrammar;
+
+/**
+ * The working state of one parse.  The C parser kept the counting memo
+ * (ctable), the fast matcher's hash tables and the null link flag in
+ * global variables, and the first port of it kept them as static fields
+ * of Sentence, so that only one sentence could be parsed at a time.  Each
+ * Sentence now owns a ParseContext, and parses of different sentences
+ * share nothing but the Dictionary, which is only read while parsing.
+ * <p>
+ * A ParseContext is reinitialized by each call to Sentence.sentence_parse(),
+ * so a sentence may still be parsed more than once.  A single sentence,
+ * and the linkages extracted from it, must not be used by more than one
+ * thread at a time.
+ *
+ * @see Sentence#parse_context
+ * @see Sentence#sentence_parse(ParseOptions)
+ */
+public class ParseContext {
+    /**
+     * true if the current pass of the parser allows null links
+     */
+    public boolean null_links;
+    /**
+     * The size of ctable
+     * TODO - make this Java, not C, and use the collection object stuff!
+     * sp that ctable size can not be modified independently of ctable.
+     */
+    public int ctable_size;
+    /**
+     * The TableConnector table used to memoize count()
+     */
+    public TableConnector ctable[];
+
+    public int match_cost;
+
+    public int match_l_table_size[] = new int[GlobalBean.MAX_SENTENCE]; /* the sizes of the hash tables */
+    public int match_r_table_size[] = new int[GlobalBean.MAX_SENTENCE];
+
+    /* the beginnings of the hash tables */
+    public MatchNode match_l_table[][] = new MatchNode[GlobalBean.MAX_SENTENCE][];
+    public MatchNode match_r_table[][] = new MatchNode[GlobalBean.MAX_SENTENCE][];
+
+    /**
+     * the random number generator used to choose which linkages to examine
+     * when there are more than the linkage limit
+     */
+    public MyRandom random = new MyRandom();
+
+    /**
+     * Creates an empty context.  The tables are allocated by
+     * Sentence.init_table() and Sentence.init_fast_matcher().
+     */
+    public ParseContext() {
+    }
+
+    /**
+     *
+     * @param lw
+     * @param rw
+     * @param le
+     * @param re
+     * @param cost
+     * @see TableConnector#lw
+     * @see TableConnector#rw
+     * @see TableConnector#le
+     * @see TableConnector#re
+     * @see TableConnector#cost
+     * @return the count for this quintuple if there, -1 otherwise
+     */
+    public int table_lookup(int lw, int rw, Connector le, Connector re, int cost) {
+        /* returns the count for this quintuple if there, -1 otherwise */
+        TableConnector t = table_pointer(lw, rw, le, re, cost);
+
+        if (t == null)
+            return -1;
+        else
+            return t.count;
+    }
+
+    /**
+     *
+     * @param lw
+     * @param rw
+     * @param le
+     * @param re
+     * @param cost
+     * @see TableConnector#lw
+     * @see TableConnector#rw
+     * @see TableConnector#le
+     * @see TableConnector#re
+     * @see TableConnector#cost
+     * @return hash used in this.ctable
+     */
+    public int hash(int lw, int rw, Connector le, Connector re, int cost) {
+        int i;
+        i = 0;
+
+        i = i + (i << 1) + MyRandom.randtable[(lw + i) & (GlobalBean.RTSIZE - 1)];
+        i = i + (i << 1) + MyRandom.randtable[(rw + i) & (GlobalBean.RTSIZE - 1)];
+        i =
+            i
+                + (i << 1)
+                + MyRandom.randtable[(((le == null ? 0 : le.hashCode()) + i) % (ctable_size + 1))
+                    & (GlobalBean.RTSIZE - 1)];
+        i =
+            i
+                + (i << 1)
+                + MyRandom.randtable[(((re == null ? 0 : re.hashCode()) + i) % (ctable_size + 1))
+                    & (GlobalBean.RTSIZE - 1)];
+        i = i + (i << 1) + MyRandom.randtable[(cost + i) & (GlobalBean.RTSIZE - 1)];
+        return i & (ctable_size - 1);
+    }
+
+    /**
+     *
+     * @param lw
+     * @param rw
+     * @param le
+     * @param re
+     * @param cost
+     * @see TableConnector#lw
+     * @see TableConnector#rw
+     * @see TableConnector#le
+     * @see TableConnector#re
+     * @see TableConnector#cost
+     * @return the pointer to this info, null if not there
+     */
+    public TableConnector table_pointer(int lw, int rw, Connector le, Connector re, int cost) {
+        /* returns the pointer to this info, null if not there */
+        TableConnector t;
+        t = ctable[hash(lw, rw, le, re, cost)];
+        for (; t != null; t = t.next) {
+            if ((t.lw == lw) && (t.rw == rw) && (t.le == le) && (t.re == re) && (t.cost == cost))
+                return t;
+        }
+
+        return null;
+    }
+
+    /**
+     * Stores the value in the table this.ctable.  Assumes it's not already there
+     * @param lw
+     * @param rw
+     * @param le
+     * @param re
+     * @param cost
+     * @param count
+     * @return a new TableConnector
+     * @see TableConnector#lw
+     * @see TableConnector#rw
+     * @see TableConnector#le
+     * @see TableConnector#re
+     * @see TableConnector#cost
+     * @see TableConnector#next
+     * @see Sentence#init_table()
+     *
+     *
+     */
+    public TableConnector table_store(int lw, int rw, Connector le, Connector re, int cost, int count) {
+        /* Stores the value in the table.  Assumes it's not already there */
+        TableConnector t, n;
+        int h;
+
+        n = new TableConnector();
+        n.count = count;
+        n.lw = lw;
+        n.rw = rw;
+        n.le = le;
+        n.re = re;
+        n.cost = cost;
+        h = hash(lw, rw, le, re, cost);
+        t = ctable[h];
+        n.next = t;
+        ctable[h] = n;
+        return n;
+    }
+
+    void table_update(int lw, int rw, Connector le, Connector re, int cost, int count) {
+        /* Stores the value in the table.  Unlike table_store, it assumes it's already there */
+        TableConnector t = table_pointer(lw, rw, le, re, cost);
+
+        if (t == null) {
+            throw new RuntimeException("This entry is supposed to be in the table.");
+        }
+        t.count = count;
+    }
+
+    /**
+     * Forms and returns a list of disjuncts that might match lc or rc or both.
+     * lw and rw are the words from which lc and rc came respectively.
+     * The list is formed by the link pointers of MatchNodes.
+     * The list contains no duplicates.  A quadratic algorithm is used to
+     * eliminate duplicates.  In practice the match_cost is less than the
+     * parse_cost (and the loop is tiny), so there's no reason to bother
+     * to fix this.
+     * @param w array index of word to match
+     * @param lc left Connector
+     * @param lw index into word array of left word
+     * @param rc right Connector
+     * @param rw index into word array of right word
+     * @return the right match
+     */
+    public MatchNode form_match_list(int w, Connector lc, int lw, Connector rc, int rw) {
+        /*
+        */
+        MatchNode ml, mr, mx, my, mz, front, free_later;
+
+        if (lc != null) {
+            ml = match_l_table[w][Sentence.fast_match_hash(lc) & (match_l_table_size[w] - 1)];
+        } else {
+            ml = null;
+        }
+        if (rc != null) {
+            mr = match_r_table[w][Sentence.fast_match_hash(rc) & (match_r_table_size[w] - 1)];
+        } else {
+            mr = null;
+        }
+
+        front = null;
+        for (mx = ml; mx != null; mx = mx.next) {
+            if (mx.d.left.word < lw)
+                break;
+            my = get_match_node();
+            my.d = mx.d;
+            my.next = front;
+            front = my;
+        }
+        ml = front; /* ml is now the list of things that could match the left */
+
+        front = null;
+        for (mx = mr; mx != null; mx = mx.next) {
+            if (mx.d.right.word > rw)
+                break;
+            my = get_match_node();
+            my.d = mx.d;
+            my.next = front;
+            front = my;
+        }
+        mr = front; /* mr is now the list of things that could match the right */
+
+        /* now we want to eliminate duplicates from the lists */
+
+        free_later = null;
+        front = null;
+        for (mx = mr; mx != null; mx = mz) {
+            /* see if mx in first list, put it in if its not */
+            mz = mx.next;
+            match_cost++;
+            for (my = ml; my != null; my = my.next) {
+                match_cost++;
+                if (mx.d == my.d)
+                    break;
+            }
+            if (my != null) { /* mx was in the l list */
+                mx.next = free_later;
+                free_later = mx;
+            }
+            if (my == null) { /* it was not there */
+                mx.next = front;
+                front = mx;
+            }
+        }
+        mr = front; /* mr is now the abbreviated right list */
+
+        /* now catenate the two lists */
+        if (mr == null)
+            return ml;
+        for (mx = mr; mx.next != null; mx = mx.next);
+        mx.next = ml;
+        return mr;
+    }
+
+    static MatchNode get_match_node() {
+        /* return a match node to be used by the caller */
+        return new MatchNode();
+    }
+}
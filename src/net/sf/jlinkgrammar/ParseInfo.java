@@ -15,6 +15,10 @@ public class ParseInfo {
     Disjunct chosen_disjuncts[] = new Disjunct[GlobalBean.MAX_SENTENCE];
     int N_links;
     Link link_array[] = new Link[GlobalBean.MAX_LINKS];
+    /**
+     * set by build_DIS_CON_tree() when the linkage has an improper structure
+     */
+    boolean structure_violation;
 
     void initialize_links() {
         int i;
@@ -44,7 +48,7 @@ public class ParseInfo {
         list_links(pc.set[1], index / pc.set[0].count);
     }
 
-    void list_random_links(ParseSet set) {
+    void list_random_links(ParseSet set, MyRandom random) {
         ParseChoice pc;
         int num_pc, new_index;
 
@@ -55,7 +59,7 @@ public class ParseInfo {
             num_pc++;
         }
 
-        new_index = MyRandom.my_random() % num_pc;
+        new_index = random.my_random() % num_pc;
 
         num_pc = 0;
         for (pc = set.first; pc != null; pc = pc.next) {
@@ -68,8 +72,8 @@ public class ParseInfo {
             throw new RuntimeException("Couldn't get a random parse choice");
         }
         issue_links_for_choice(pc);
-        list_random_links(pc.set[0]);
-        list_random_links(pc.set[1]);
+        list_random_links(pc.set[0], random);
+        list_random_links(pc.set[1], random);
     }
 
     void issue_links_for_choice(ParseChoice pc) {
@@ -203,6 +207,7 @@ public class ParseInfo {
            dfs_height[] for this.
          */
 
+        structure_violation = false;
         for (w = 0; w < N_words; w++)
             dfs_height[w] = 0;
         for (w = 0; w < N_words; w++)
@@ -301,7 +306,7 @@ public class ParseInfo {
             throw new RuntimeException("parse_set() called with cost < 0.");
         }
 
-        count = Sentence.table_lookup(lw, rw, le, re, cost);
+        count = sent.parse_context.table_lookup(lw, rw, le, re, cost);
 
         /*
           if(!(count >= 0)) {
@@ -371,7 +376,7 @@ public class ParseInfo {
         }
 
         for (w = start_word; w <= end_word; w++) {
-            m = Sentence.form_match_list(w, le, lw, re, rw);
+            m = sent.parse_context.form_match_list(w, le, lw, re, rw);
             for (; m != null; m = m.next) {
                 d = m.d;
                 for (lcost = 0; lcost <= cost; lcost++) {
@@ -523,7 +528,7 @@ public class ParseInfo {
         }
     }
 
-    static DISNode build_DISNode(int w) {
+    DISNode build_DISNode(int w) {
         /* This node is connected to its parent via a fat link.  Search the
            region reachable via thin links, and put all reachable nodes with fat
            links out of them in its list of children.
@@ -536,7 +541,7 @@ public class ParseInfo {
         return dn;
     }
 
-    static CONList c_dfs(int w, DISNode start_dn, CONList c) {
+    CONList c_dfs(int w, DISNode start_dn, CONList c) {
 
         /* Does a depth-first-search starting from w.  Puts on the front of the
            list pointed to by c all of the CON nodes it finds, and returns the
@@ -551,7 +556,7 @@ public class ParseInfo {
         ListOfLinks lol, lolx;
         if (dfs_root_word[w] != -1) {
             if (dfs_root_word[w] != start_dn.word) {
-                Sentence.structure_violation = true;
+                structure_violation = true;
             }
             return c;
         }
@@ -559,7 +564,7 @@ public class ParseInfo {
         for (lol = word_links[w]; lol != null; lol = lol.next) {
             if (lol.dir < 0) { /* a backwards link */
                 if (dfs_root_word[lol.word] == -1) {
-                    Sentence.structure_violation = true;
+                    structure_violation = true;
                 }
             } else if (lol.dir == 0) {
                 lolx = new ListOfLinks();
@@ -578,7 +583,7 @@ public class ParseInfo {
         return c;
     }
 
-    static boolean is_CON_word(int w) {
+    boolean is_CON_word(int w) {
         /* Returns true if there is at least one fat link pointing out of this word. */
         ListOfLinks lol;
         for (lol = word_links[w]; lol != null; lol = lol.next) {
@@ -589,7 +594,7 @@ public class ParseInfo {
         return false;
     }
 
-    static CONNode build_CONNode(int w) {
+    CONNode build_CONNode(int w) {
         /* This word is a CON word (has fat links down).  Build the tree for it.  */
         ListOfLinks lol;
         CONNode a;
@@ -609,9 +614,9 @@ public class ParseInfo {
         return a;
     }
 
-    static ListOfLinks word_links[] = new ListOfLinks[GlobalBean.MAX_SENTENCE]; /* ptr to l.o.l. out of word */
-    static int dfs_root_word[] = new int[GlobalBean.MAX_SENTENCE]; /* for the depth-first search */
-    static int dfs_height[] = new int[GlobalBean.MAX_SENTENCE]; /* to determine the order to do the root word dfs */
-    static Integer height_perm[] = new Integer[GlobalBean.MAX_SENTENCE]; /* permute the vertices from highest to lowest */
+    ListOfLinks word_links[] = new ListOfLinks[GlobalBean.MAX_SENTENCE]; /* ptr to l.o.l. out of word */
+    int dfs_root_word[] = new int[GlobalBean.MAX_SENTENCE]; /* for the depth-first search */
+    int dfs_height[] = new int[GlobalBean.MAX_SENTENCE]; /* to determine the order to do the root word dfs */
+    Integer height_perm[] = new Integer[GlobalBean.MAX_SENTENCE]; /* permute the vertices from highest to lowest */
 
 }
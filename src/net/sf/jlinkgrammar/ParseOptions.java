@@ -247,6 +247,44 @@ public class ParseOptions {
         input = System.in;
     }
 
+    /**
+     * Copies the settings of another set of parse options.  The copy has
+     * its own resources, so that a thread parsing with the copy does not
+     * disturb the timing of parses made with opts.
+     * @param opts the options to copy
+     */
+    public ParseOptions(ParseOptions opts) {
+        verbosity = opts.verbosity;
+        linkage_limit = opts.linkage_limit;
+        disjunct_cost = opts.disjunct_cost;
+        min_null_count = opts.min_null_count;
+        max_null_count = opts.max_null_count;
+        null_block = opts.null_block;
+        islands_ok = opts.islands_ok;
+        cost_model = opts.cost_model;
+        short_length = opts.short_length;
+        all_short = opts.all_short;
+        twopass_length = opts.twopass_length;
+        max_sentence_length = opts.max_sentence_length;
+        resources = new Resources();
+        display_short = opts.display_short;
+        display_word_subscripts = opts.display_word_subscripts;
+        display_link_subscripts = opts.display_link_subscripts;
+        display_walls = opts.display_walls;
+        display_union = opts.display_union;
+        allow_null = opts.allow_null;
+        echo_on = opts.echo_on;
+        batch_mode = opts.batch_mode;
+        screen_width = opts.screen_width;
+        display_on = opts.display_on;
+        display_postscript = opts.display_postscript;
+        display_constituents = opts.display_constituents;
+        display_bad = opts.display_bad;
+        display_links = opts.display_links;
+        out = opts.out;
+        input = opts.input;
+    }
+
     public void parse_options_set_cost_model_type(ParseOptions opts, int cm) {
         switch (cm) {
             case GlobalBean.VDAL :
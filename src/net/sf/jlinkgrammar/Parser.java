@@ -21,19 +21,19 @@ import java.io.PrintStream;
  */
 public class Parser {
 
-       private static Dictionary dict;
-       private static Sentence sent;
-       private static String dictionary_file = null;
-       private static String post_process_knowledge_file = null;
-       private static String constituent_knowledge_file = null;
-       private static String affix_file = null;
-       private static boolean pp_on = true;
-       private static boolean af_on = true;
-       private static boolean cons_on = true;
-       private static int num_linkages;
-       private static StringBuffer input_string = new StringBuffer();
-       private static int label = GlobalBean.NOT_LABEL;
-       private static ParseOptions opts;
+       private Dictionary dict;
+       private Sentence sent;
+       private String dictionary_file = null;
+       private String post_process_knowledge_file = null;
+       private String constituent_knowledge_file = null;
+       private String affix_file = null;
+       private boolean pp_on = true;
+       private boolean af_on = true;
+       private boolean cons_on = true;
+       private int num_linkages;
+       private StringBuffer input_string = new StringBuffer();
+       private int label = GlobalBean.NOT_LABEL;
+       private ParseOptions opts;
   /**
    * Creates a new instance of Parser
    */
@@ -44,7 +44,18 @@ public class Parser {
        InitializeVars(args);
    }
 
-   public static void InitializeVars(String arg[]) {
+  /**
+   * Creates a new instance of Parser from command line arguments.  Each
+   * instance has its own dictionary, options and sentence, so several
+   * parsers may be used at once.
+   *
+   * @param arg the command line arguments
+   */
+   public Parser(String arg[]) {
+       InitializeVars(arg);
+   }
+
+   public void InitializeVars(String arg[]) {
 
        int i = 0;
        if (arg.length > 1 && (arg[0].charAt(0) != '-')) {
@@ -53,7 +64,6 @@ public class Parser {
            i++;
        }
        opts = new ParseOptions();
-       GlobalBean.opts = opts;
        // opts = new ParseOptions();
 
        opts.parse_options_set_max_sentence_length(70);
@@ -167,7 +177,14 @@ public class Parser {
 
    public static void doIt(String arg[]) throws IOException {
 
-       InitializeVars(arg);
+       new Parser(arg).parseInput();
+   }
+
+  /**
+   * Runs the example sentence, then parses the sentences read from the
+   * input of this parser's options.
+   */
+   public void parseInput() throws IOException {
 
 
 
@@ -233,7 +250,7 @@ public class Parser {
            }
            if (input_string.equals("quit\n") || input_string.equals("exit\n"))
                break;
-           if (GlobalBean.special_command(input_string, dict))
+           if (GlobalBean.special_command(input_string, dict, opts))
                continue;
            if (opts.parse_options_get_echo_on()) {
                opts.out.println(input_string);
@@ -61,6 +61,27 @@ public class Postprocessor {
         
     }
 
+    /**
+     * Creates a postprocessor for one sentence.  It shares the rules of pp,
+     * which are only read, but has its own working state, so that the
+     * linkages of several sentences can be postprocessed at the same time.
+     * @param pp the dictionary's postprocessor
+     */
+    Postprocessor(Postprocessor pp) {
+        knowledge = pp.knowledge;
+        set_of_links_of_sentence = PPLinkset.PPLinkset_open(1024);
+        set_of_links_in_an_active_rule = PPLinkset.PPLinkset_open(1024);
+        relevant_contains_one_rules = new int[knowledge.n_contains_one_rules + 1];
+        relevant_contains_none_rules = new int[knowledge.n_contains_none_rules + 1];
+        relevant_contains_one_rules[0] = -1;
+        relevant_contains_none_rules[0] = -1;
+        pp_node = null;
+        pp_data = new PPData();
+        pp_data.links_to_ignore = null;
+        n_local_rules_firing = 0;
+        n_global_rules_firing = 0;
+    }
+
     /**
      *
       string comparison in postprocessing. The first parameter is a
@@ -88,15 +88,32 @@ public class Sentence {
     public int post_quote[] = new int[GlobalBean.MAX_SENTENCE];
     public PatchElement patch_array[];
     //static boolean islands_ok;
-    public static boolean null_links;
+    /**
+     * the counting memo, match tables and other working state of a parse
+     * @see ParseContext
+     */
+    public ParseContext parse_context = new ParseContext();
+    /**
+     * this sentence's copy of the dictionary's postprocessor
+     * @see Postprocessor#Postprocessor(Postprocessor)
+     */
+    public Postprocessor postprocessor;
+    /**
+     * this sentence's copy of the dictionary's constituent postprocessor
+     */
+    public Postprocessor constituent_pp;
 
 
 
     public Sentence(String input_string, Dictionary dict, ParseOptions opts) {
 
-        dict.lookup_list = null;
-
         this.dict = dict;
+        if (dict.postprocessor != null) {
+            postprocessor = new Postprocessor(dict.postprocessor);
+        }
+        if (dict.constituent_pp != null) {
+            constituent_pp = new Postprocessor(dict.constituent_pp);
+        }
         num_linkages_found = 0;
         num_linkages_alloced = 0;
         num_linkages_post_processed = 0;
@@ -659,7 +676,7 @@ public class Sentence {
             print_disjunct_counts(opts);
         }
 
-        null_links = (opts.min_null_count > 0);
+        parse_context.null_links = (opts.min_null_count > 0);
 
         has_conjunction = sentence_contains_conjunction();
         set_connector_length_limits(opts);
@@ -780,7 +797,7 @@ public class Sentence {
         init_fast_matcher();
         init_table();
         //local_sent = word;
-        null_links = (opts.min_null_count > 0);
+        parse_context.null_links = (opts.min_null_count > 0);
         /*
         for (d = sent.word[0].d; d != null; d = d.next) {
         if ((d.left == null) && region_valid(0, sent.word.size(), d.right, null)) {
@@ -791,7 +808,7 @@ public class Sentence {
         mark_region(0, sent.word.size(), null, null);
         */
 
-        if (null_links) {
+        if (parse_context.null_links) {
             mark_region(-1, word.size(), null, null);
         } else {
             for (int w = 0; w < word.size(); w++) {
@@ -810,7 +827,7 @@ public class Sentence {
 
         delete_unmarked_disjuncts();
         if (opts.verbosity > 1) {
-            opts.out.println("" + match_cost + " Match cost");
+            opts.out.println("" + parse_context.match_cost + " Match cost");
         }
 
     }
@@ -866,13 +883,13 @@ public class Sentence {
         int w;
         MatchNode m;
 
-        i = table_lookup(lw, rw, le, re, 0);
+        i = parse_context.table_lookup(lw, rw, le, re, 0);
         if (i >= 0) {
             return i;
         }
 
         if ((le == null) && (re == null) && deletable[lw + 1][rw]) {
-            table_store(lw, rw, le, re, 0, 1);
+            parse_context.table_store(lw, rw, le, re, 0, 1);
             return 1;
         }
 
@@ -890,7 +907,7 @@ public class Sentence {
         found = 0;
 
         for (w = start_word; w <= end_word; w++) {
-            m = form_match_list(w, le, lw, re, rw);
+            m = parse_context.form_match_list(w, le, lw, re, rw);
             for (; m != null; m = m.next) {
                 d = m.d;
                 /* mark_cost++;*/
@@ -920,110 +937,10 @@ public class Sentence {
             if (found != 0)
                 break;
         }
-        table_store(lw, rw, le, re, 0, found);
+        parse_context.table_store(lw, rw, le, re, 0, found);
         return found;
     }
 
-    /**
-     * Forms and returns a list of disjuncts that might match lc or rc or both.
-     * lw and rw are the words from which lc and rc came respectively.
-     * The list is formed by the link pointers of MatchNodes.
-     * The list contains no duplicates.  A quadratic algorithm is used to
-     * eliminate duplicates.  In practice the match_cost is less than the
-     * parse_cost (and the loop is tiny), so there's no reason to bother
-     * to fix this.
-     * @param w array index of word to match
-     * @param lc left Connector
-     * @param lw index into word array of left word
-     * @param rc right Connector
-     * @param rw index into word array of right word
-     * @return the right match
-     */
-    public static MatchNode form_match_list(int w, Connector lc, int lw, Connector rc, int rw) {
-        /*
-        */
-        MatchNode ml, mr, mx, my, mz, front, free_later;
-
-        if (lc != null) {
-            ml = match_l_table[w][fast_match_hash(lc) & (match_l_table_size[w] - 1)];
-        } else {
-            ml = null;
-        }
-        if (rc != null) {
-            mr = match_r_table[w][fast_match_hash(rc) & (match_r_table_size[w] - 1)];
-        } else {
-            mr = null;
-        }
-
-        front = null;
-        for (mx = ml; mx != null; mx = mx.next) {
-            if (mx.d.left.word < lw)
-                break;
-            my = get_match_node();
-            my.d = mx.d;
-            my.next = front;
-            front = my;
-        }
-        ml = front; /* ml is now the list of things that could match the left */
-
-        front = null;
-        for (mx = mr; mx != null; mx = mx.next) {
-            if (mx.d.right.word > rw)
-                break;
-            my = get_match_node();
-            my.d = mx.d;
-            my.next = front;
-            front = my;
-        }
-        mr = front; /* mr is now the list of things that could match the right */
-
-        /* now we want to eliminate duplicates from the lists */
-
-        free_later = null;
-        front = null;
-        for (mx = mr; mx != null; mx = mz) {
-            /* see if mx in first list, put it in if its not */
-            mz = mx.next;
-            match_cost++;
-            for (my = ml; my != null; my = my.next) {
-                match_cost++;
-                if (mx.d == my.d)
-                    break;
-            }
-            if (my != null) { /* mx was in the l list */
-                mx.next = free_later;
-                free_later = mx;
-            }
-            if (my == null) { /* it was not there */
-                mx.next = front;
-                front = mx;
-            }
-        }
-        mr = front; /* mr is now the abbreviated right list */
-
-        /* now catenate the two lists */
-        if (mr == null)
-            return ml;
-        for (mx = mr; mx.next != null; mx = mx.next);
-        mx.next = ml;
-        return mr;
-    }
-
-    static MatchNode get_match_node() {
-        /* return a match node to be used by the caller */
-        return new MatchNode();
-    }
-
-    void table_update(int lw, int rw, Connector le, Connector re, int cost, int count) {
-        /* Stores the value in the table.  Unlike table_store, it assumes it's already there */
-        TableConnector t = table_pointer(lw, rw, le, re, cost);
-
-        if (t == null) {
-            throw new RuntimeException("This entry is supposed to be in the table.");
-        }
-        t.count = count;
-    }
-
     void mark_region(int lw, int rw, Connector le, Connector re) {
         /* Mark as useful all disjuncts involved in some way to complete the structure  */
         /* within the current region.  Note that only disjuncts strictly between        */
@@ -1041,9 +958,9 @@ public class Sentence {
         if ((i == 0) || (i == 2))
             return;
         /* we only reach this point if it's a valid unmarked region, i=1 */
-        table_update(lw, rw, le, re, 0, 2);
+        parse_context.table_update(lw, rw, le, re, 0, 2);
 
-        if ((le == null) && (re == null) && (null_links) && (rw != 1 + lw)) {
+        if ((le == null) && (re == null) && (parse_context.null_links) && (rw != 1 + lw)) {
             w = lw + 1;
             for (d = word.get(w).d; d != null; d = d.next) {
                 if ((d.left == null) && region_valid(w, rw, d.right, null) > 0) {
@@ -1067,7 +984,7 @@ public class Sentence {
         }
 
         for (w = start_word; w <= end_word; w++) {
-            m = form_match_list(w, le, lw, re, rw);
+            m = parse_context.form_match_list(w, le, lw, re, rw);
             for (; m != null; m = m.next) {
                 d = m.d;
                 /* mark_cost++;*/
@@ -1919,7 +1836,7 @@ public class Sentence {
 
         /* what is the rationale for ignoring the effective_dist
            if null links are allowed? */
-        if (null_links) {
+        if (parse_context.null_links) {
             for (i = 0; i < word.size(); i++) {
                 for (j = 0; j <= word.size(); j++) {
                     effective_dist[i][j] = j - i;
@@ -1982,7 +1899,7 @@ public class Sentence {
             for (j = 0; j <= word.size(); j++) {
                 if (j == i + 1) {
                     deletable[i + 1][j] = true;
-                } else if (null_links) {
+                } else if (parse_context.null_links) {
                     deletable[i + 1][j] = true;
                 } else if (!has_conjunction) {
                     deletable[i + 1][j] = false;
@@ -2109,7 +2026,7 @@ public class Sentence {
         }
 
         if (opts.verbosity > 1) {
-            opts.out.println("" + match_cost + " Match cost");
+            opts.out.println("" + parse_context.match_cost + " Match cost");
         }
         opts.print_time("Finished parse");
         return num_valid_linkages;
@@ -2162,12 +2079,12 @@ public class Sentence {
         if (cost < 0)
             return 0; /* will we ever call it with cost<0 ? */
 
-        t = table_pointer(lw, rw, le, re, cost);
+        t = parse_context.table_pointer(lw, rw, le, re, cost);
 
         if (t == null) {
             /* create the table entry with a tentative cost of 0 */
             /* this cost must be updated before we return */
-            t = table_store(lw, rw, le, re, cost, 0);
+            t = parse_context.table_store(lw, rw, le, re, cost, 0);
         } else {
             return t.count;
         }
@@ -2231,7 +2148,7 @@ public class Sentence {
         total = 0;
 
         for (w = start_word; w <= end_word; w++) {
-            m = form_match_list(w, le, lw, re, rw);
+            m = parse_context.form_match_list(w, le, lw, re, rw);
             for (; m != null; m = m.next) {
                 d = m.d;
                 for (lcost = 0; lcost <= cost; lcost++) {
@@ -2328,7 +2245,7 @@ public class Sentence {
      */
     public int pseudocount(int lw, int rw, Connector le, Connector re, int cost) {
         int count;
-        count = table_lookup(lw, rw, le, re, cost);
+        count = parse_context.table_lookup(lw, rw, le, re, cost);
         if (count == 0)
             return 0;
         else
@@ -2367,16 +2284,6 @@ public class Sentence {
             pi.x_table[i] = null;
         }
     }
-    /**
-     * The size of this.ctable
-     * TODO - make this Java, not C, and use the collection object stuff!
-     * sp that ctable size can not be modified independently of ctable.
-     */
-    public static int ctable_size;
-    /**
-     * The TableConnector table associated with this sentence instance object
-     */
-    public static TableConnector ctable[];
     /**
      * A piecewise exponential function determines the size of the hash table.
      * Probably should make use of the actual number of disjuncts, rather than just
@@ -2388,161 +2295,30 @@ public class Sentence {
         /* the number of words                                                          */
         int i;
         if (word.size() >= 10) {
-            ctable_size = (1 << 16);
+            parse_context.ctable_size = (1 << 16);
             /*  } else if (sent.word.size() >= 10) {
                 table_size = (1 << (((6*(sent.word.size()-10))/30) + 10)); */
         } else if (word.size() >= 4) {
-            ctable_size = (1 << (((6 * (word.size() - 4)) / 6) + 4));
+            parse_context.ctable_size = (1 << (((6 * (word.size() - 4)) / 6) + 4));
         } else {
-            ctable_size = (1 << 4);
+            parse_context.ctable_size = (1 << 4);
         }
-        ctable = new TableConnector[ctable_size];
-        for (i = 0; i < ctable_size; i++) {
-            ctable[i] = null;
+        parse_context.ctable = new TableConnector[parse_context.ctable_size];
+        for (i = 0; i < parse_context.ctable_size; i++) {
+            parse_context.ctable[i] = null;
         }
     }
 
-    /**
-     *
-     * @param lw
-     * @param rw
-     * @param le
-     * @param re
-     * @param cost
-     * @see TableConnector#lw
-     * @see TableConnector#rw
-     * @see TableConnector#le
-     * @see TableConnector#re
-     * @see TableConnector#cost
-     * @return the count for this quintuple if there, -1 otherwise
-     */
-    public static int table_lookup(int lw, int rw, Connector le, Connector re, int cost) {
-        /* returns the count for this quintuple if there, -1 otherwise */
-        TableConnector t = table_pointer(lw, rw, le, re, cost);
-
-        if (t == null)
-            return -1;
-        else
-            return t.count;
-    }
-
-    /**
-     *
-     * @param lw
-     * @param rw
-     * @param le
-     * @param re
-     * @param cost
-     * @see TableConnector#lw
-     * @see TableConnector#rw
-     * @see TableConnector#le
-     * @see TableConnector#re
-     * @see TableConnector#cost
-     * @return hash used in this.ctable
-     */
-    public static int hash(int lw, int rw, Connector le, Connector re, int cost) {
-        int i;
-        i = 0;
-
-        i = i + (i << 1) + MyRandom.randtable[(lw + i) & (GlobalBean.RTSIZE - 1)];
-        i = i + (i << 1) + MyRandom.randtable[(rw + i) & (GlobalBean.RTSIZE - 1)];
-        i =
-            i
-                + (i << 1)
-                + MyRandom.randtable[(((le == null ? 0 : le.hashCode()) + i) % (Sentence.ctable_size + 1))
-                    & (GlobalBean.RTSIZE - 1)];
-        i =
-            i
-                + (i << 1)
-                + MyRandom.randtable[(((re == null ? 0 : re.hashCode()) + i) % (Sentence.ctable_size + 1))
-                    & (GlobalBean.RTSIZE - 1)];
-        i = i + (i << 1) + MyRandom.randtable[(cost + i) & (GlobalBean.RTSIZE - 1)];
-        return i & (Sentence.ctable_size - 1);
-    }
-
-    /**
-     *
-     * @param lw
-     * @param rw
-     * @param le
-     * @param re
-     * @param cost
-     * @see TableConnector#lw
-     * @see TableConnector#rw
-     * @see TableConnector#le
-     * @see TableConnector#re
-     * @see TableConnector#cost
-     * @return the pointer to this info, null if not there
-     */
-    public static TableConnector table_pointer(int lw, int rw, Connector le, Connector re, int cost) {
-        /* returns the pointer to this info, null if not there */
-        TableConnector t;
-        t = Sentence.ctable[hash(lw, rw, le, re, cost)];
-        for (; t != null; t = t.next) {
-            if ((t.lw == lw) && (t.rw == rw) && (t.le == le) && (t.re == re) && (t.cost == cost))
-                return t;
-        }
-
-        return null;
-    }
-
-    /**
-     * Stores the value in the table this.ctable.  Assumes it's not already there
-     * @param lw
-     * @param rw
-     * @param le
-     * @param re
-     * @param cost
-     * @param count
-     * @return a new TableConnector
-     * @see TableConnector#lw
-     * @see TableConnector#rw
-     * @see TableConnector#le
-     * @see TableConnector#re
-     * @see TableConnector#cost
-     * @see TableConnector#next
-     * @see #init_table()
-     *
-     *
-     */
-    public static TableConnector table_store(int lw, int rw, Connector le, Connector re, int cost, int count) {
-        /* Stores the value in the table.  Assumes it's not already there */
-        TableConnector t, n;
-        int h;
-
-        n = new TableConnector();
-        n.count = count;
-        n.lw = lw;
-        n.rw = rw;
-        n.le = le;
-        n.re = re;
-        n.cost = cost;
-        h = hash(lw, rw, le, re, cost);
-        t = ctable[h];
-        n.next = t;
-        ctable[h] = n;
-        return n;
-    }
-
-    public static int match_cost;
-
-    public static int match_l_table_size[] = new int[GlobalBean.MAX_SENTENCE]; /* the sizes of the hash tables */
-    public static int match_r_table_size[] = new int[GlobalBean.MAX_SENTENCE];
-
-    /* the beginnings of the hash tables */
-    public static MatchNode match_l_table[][] = new MatchNode[GlobalBean.MAX_SENTENCE][];
-    public static MatchNode match_r_table[][] = new MatchNode[GlobalBean.MAX_SENTENCE][];
-
     public void init_fast_matcher() {
         int w, len, size, i;
         MatchNode t[];
         Disjunct d;
-        match_cost = 0;
+        parse_context.match_cost = 0;
         for (w = 0; w < word.size(); w++) {
             len = left_disjunct_list_length(word.get(w).d);
             size = MyRandom.next_power_of_two_up(len);
-            match_l_table_size[w] = size;
-            t = match_l_table[w] = new MatchNode[size];
+            parse_context.match_l_table_size[w] = size;
+            t = parse_context.match_l_table[w] = new MatchNode[size];
             for (i = 0; i < size; i++)
                 t[i] = null;
 
@@ -2554,8 +2330,8 @@ public class Sentence {
 
             len = right_disjunct_list_length(word.get(w).d);
             size = MyRandom.next_power_of_two_up(len);
-            match_r_table_size[w] = size;
-            t = match_r_table[w] = new MatchNode[size];
+            parse_context.match_r_table_size[w] = size;
+            t = parse_context.match_r_table[w] = new MatchNode[size];
             for (i = 0; i < size; i++)
                 t[i] = null;
 
@@ -2878,14 +2654,14 @@ public class Sentence {
                 indices[in] = - (in + 1);
             }
         } else {
-            MyRandom.my_random_initialize(N_linkages_found + word.size());
+            parse_context.random.my_random_initialize(N_linkages_found + word.size());
             for (in = 0; in < N_linkages_alloced; in++) {
                 denom = (double)N_linkages_alloced;
                 block_bottom = (int) (((double)in * (double)N_linkages_found) / denom);
                 block_top = (int) (((double) (in + 1) * (double)N_linkages_found) / denom);
-                indices[in] = block_bottom + (MyRandom.my_random() % (block_top - block_bottom));
+                indices[in] = block_bottom + (parse_context.random.my_random() % (block_top - block_bottom));
             }
-            MyRandom.my_random_finalize();
+            parse_context.random.my_random_finalize();
         }
 
         only_canonical_allowed = (!(overflowed || (N_linkages_found > 2 * opts.linkage_limit)));
@@ -2901,7 +2677,7 @@ public class Sentence {
            in the 2nd pass you've pruned the relevant rule set in the first pass. */
         if (word.size() >= opts.twopass_length) {
             for (in = 0; in < N_linkages_alloced; in++) {
-                Linkage.extract_links(indices[in], null_count, parse_info);
+                Linkage.extract_links(indices[in], null_count, parse_info, parse_context.random);
                 if (set_has_fat_down()) {
                     if (only_canonical_allowed && !is_canonical_linkage())
                         continue;
@@ -2912,7 +2688,7 @@ public class Sentence {
             }
         } /* second pass: actually perform post-processing */
         for (in = 0; in < N_linkages_alloced; in++) {
-            Linkage.extract_links(indices[in], null_count, parse_info);
+            Linkage.extract_links(indices[in], null_count, parse_info, parse_context.random);
             if (set_has_fat_down()) {
                 canonical = is_canonical_linkage();
                 if (only_canonical_allowed && !canonical)
@@ -2948,14 +2724,13 @@ public class Sentence {
         num_valid_linkages = N_valid_linkages;
     }
 
-    public static boolean structure_violation;
     /* The following three functions are all for computing the cost of and lists */
-    public static boolean visited[] = new boolean[GlobalBean.MAX_SENTENCE];
-    public static int and_element_sizes[] = new int[GlobalBean.MAX_SENTENCE];
-    public static int and_element[] = new int[GlobalBean.MAX_SENTENCE];
-    public static int N_and_elements;
-    public static int outside_word[] = new int[GlobalBean.MAX_SENTENCE];
-    public static int N_outside_words;
+    public boolean visited[] = new boolean[GlobalBean.MAX_SENTENCE];
+    public int and_element_sizes[] = new int[GlobalBean.MAX_SENTENCE];
+    public int and_element[] = new int[GlobalBean.MAX_SENTENCE];
+    public int N_and_elements;
+    public int outside_word[] = new int[GlobalBean.MAX_SENTENCE];
+    public int N_outside_words;
 
     /**
      * Patches up appropriate links in the patch_array for this DISNode
@@ -3000,7 +2775,7 @@ public class Sentence {
     public void fill_patch_array_CON(CONNode cn, LinksToPatch ltp) {
         ListOfLinks lol;
         LinksToPatch ltpx;
-        for (lol = ParseInfo.word_links[cn.word]; lol != null; lol = lol.next) {
+        for (lol = parse_info.word_links[cn.word]; lol != null; lol = lol.next) {
             if (lol.dir == 0) {
                 ltpx = new LinksToPatch();
                 ltpx.next = ltp;
@@ -3034,27 +2809,24 @@ public class Sentence {
         LinkageInfo li = new LinkageInfo();
         DISNode d_root;
         PPNode pp;
-        Postprocessor postprocessor;
         Sublinkage sublinkage;
         ParseInfo pi = parse_info;
         PPNode accum = new PPNode(); /* for domain ancestry check */
         DTypeList dtl0, dtl1; /* for domain ancestry check */
 
         sublinkage = new Sublinkage(pi);
-        postprocessor = dict.postprocessor;
         pi.build_digraph();
-        structure_violation = false;
-        d_root = pi.build_DIS_CON_tree(); /* may set structure_violation to true */
+        d_root = pi.build_DIS_CON_tree(); /* may set pi.structure_violation to true */
 
         li.N_violations = 0;
-        li.improper_fat_linkage = structure_violation;
+        li.improper_fat_linkage = pi.structure_violation;
         li.inconsistent_domains = false;
         li.unused_word_cost = pi.unused_word_cost();
         li.disjunct_cost = pi.disjunct_cost();
         li.null_cost = pi.null_cost();
         li.link_cost = pi.link_cost();
 
-        if (structure_violation) {
+        if (pi.structure_violation) {
             li.N_violations++;
             li.and_cost = 0; /* ? */
             li.andlist = null;
@@ -3093,8 +2865,8 @@ public class Sentence {
                     sublinkage.link[i].l = patch_array[i].newl;
                     sublinkage.link[i].r = patch_array[i].newr;
                 } else {
-                    if ((ParseInfo.dfs_root_word[pi.link_array[i].l] != -1)
-                        && (ParseInfo.dfs_root_word[pi.link_array[i].r] != -1)) {
+                    if ((pi.dfs_root_word[pi.link_array[i].l] != -1)
+                        && (pi.dfs_root_word[pi.link_array[i].r] != -1)) {
                         sublinkage.link[i].l = -1;
                     }
                 }
@@ -3488,7 +3260,7 @@ public class Sentence {
         if (visited[w])
             return;
         visited[w] = true;
-        for (lol = ParseInfo.word_links[w]; lol != null; lol = lol.next) {
+        for (lol = parse_info.word_links[w]; lol != null; lol = lol.next) {
             if (lol.dir == 1) {
                 /* we only consider UP or DOWN priority links here */
 
@@ -3516,7 +3288,7 @@ public class Sentence {
         visited[w] = true;
         and_element_sizes[N_and_elements]++;
 
-        for (lol = ParseInfo.word_links[w]; lol != null; lol = lol.next) {
+        for (lol = parse_info.word_links[w]; lol != null; lol = lol.next) {
             if (lol.dir >= 0) {
                 and_dfs_full(lol.word);
             }
@@ -3605,13 +3377,11 @@ public class Sentence {
         int i;
         LinkageInfo li = new LinkageInfo();
         PPNode pp;
-        Postprocessor postprocessor;
         Sublinkage sublinkage;
         ParseInfo pi = parse_info;
         pi.build_digraph();
 
         sublinkage = new Sublinkage(pi);
-        postprocessor = dict.postprocessor;
 
         compute_link_names();
         for (i = 0; i < pi.N_links; i++) {
@@ -3824,10 +3594,10 @@ public class Sentence {
     }
 
     /* TRUE if this word has a fat down link, FALSE otherise */
-    public static boolean has_fat_down[] = new boolean[GlobalBean.MAX_SENTENCE];
+    public boolean has_fat_down[] = new boolean[GlobalBean.MAX_SENTENCE];
 
     /* points to the image structure for each word.  null if not a fat word. */
-    public static ImageNode image_array[] = new ImageNode[GlobalBean.MAX_SENTENCE];
+    public ImageNode image_array[] = new ImageNode[GlobalBean.MAX_SENTENCE];
 
     /* The following routines' purpose is to eliminate all but the
        canonical linkage (of a collection of linkages that are identical
@@ -4011,7 +3781,7 @@ public class Sentence {
                 clean_up_expressions(w);
                 /* gets rid of XNodes with null exp */
                 for (x = word.get(w).x; x != null; x = x.next) {
-                    x.exp.insert_connectors('+');
+                    x.exp.insert_connectors(this,'+');
                 }
             }
 
@@ -4034,7 +3804,7 @@ public class Sentence {
                 clean_up_expressions(w);
                 /* gets rid of XNodes with null exp */
                 for (x = word.get(w).x; x != null; x = x.next) {
-                    x.exp.insert_connectors('-');
+                    x.exp.insert_connectors(this,'-');
                 }
             }
 
@@ -4067,17 +3837,17 @@ public class Sentence {
         opts.out.println();
     }
 
-    public static int s_table_size;
-    public static Connector table[];
+    public int s_table_size;
+    public Connector table[];
 
-    public static void zero_S() {
+    public void zero_S() {
         int i;
         for (i = 0; i < s_table_size; i++) {
             table[i] = null;
         }
     }
 
-    public static void free_S() {
+    public void free_S() {
         /* This function removes all connectors from the set S */
         int i;
         for (i = 0; i < s_table_size; i++) {
@@ -4089,7 +3859,7 @@ public class Sentence {
      *
      * @param c
      */
-    public static void insert_S(Connector c) {
+    public void insert_S(Connector c) {
         /* this function puts a copy of c into S if one like it isn't already there */
         int h;
         Connector e;
@@ -4113,7 +3883,7 @@ public class Sentence {
      * @param c
      * @return the hash  of the connector
      */
-    public static int hash_S(Connector c) {
+    public int hash_S(Connector c) {
         /*
         */
         String s;
@@ -4701,10 +4471,10 @@ public class Sentence {
         int change, total_deleted, N_deleted;
         boolean deleteme;
 
-        if (dict.postprocessor == null)
+        if (postprocessor == null)
             return 0;
 
-        knowledge = dict.postprocessor.knowledge;
+        knowledge = postprocessor.knowledge;
 
         init_cms_table();
 
@@ -4905,21 +4675,21 @@ public class Sentence {
 
 
 
-    public static int power_cost;
+    public int power_cost;
     /* either GENTLE or RUTHLESS */
     /* obviates excessive paramater passing */
-    public static int power_prune_mode;
+    public int power_prune_mode;
     /* counts the number of changes
        of c.word fields in a pass */
-    public static int N_changed;
+    public int N_changed;
 
     /* the sizes of the hash tables */
-    public static int power_l_table_size[] = new int[GlobalBean.MAX_SENTENCE];
-    public static int power_r_table_size[] = new int[GlobalBean.MAX_SENTENCE];
+    public int power_l_table_size[] = new int[GlobalBean.MAX_SENTENCE];
+    public int power_r_table_size[] = new int[GlobalBean.MAX_SENTENCE];
 
     /* the beginnings of the hash tables */
-    public static CList power_l_table[][] = new CList[GlobalBean.MAX_SENTENCE][];
-    public static CList power_r_table[][] = new CList[GlobalBean.MAX_SENTENCE][];
+    public CList power_l_table[][] = new CList[GlobalBean.MAX_SENTENCE][];
+    public CList power_r_table[][] = new CList[GlobalBean.MAX_SENTENCE][];
 
         /**
      *
@@ -4981,7 +4751,7 @@ public class Sentence {
         power_prune_mode = mode;
         /* this global variable avoids lots of
                                          parameter passing */
-        null_links = (opts.min_null_count > 0);
+        parse_context.null_links = (opts.min_null_count > 0);
 
         init_power();
         power_cost = 0;
@@ -5295,7 +5065,7 @@ public class Sentence {
                 if (!((lc.next == null) && (rc.next == null)))
                     return false;
             } else {
-                if ((!null_links) && (lc.next == null) && (rc.next == null) && (!lc.multi) && (!rc.multi)) {
+                if ((!parse_context.null_links) && (lc.next == null) && (rc.next == null) && (!lc.multi) && (!rc.multi)) {
                     return false;
                 }
             }
@@ -5305,7 +5075,7 @@ public class Sentence {
                 if (!((lc.next == null) && (rc.next == null)))
                     return false;
             } else {
-                if ((!null_links)
+                if ((!parse_context.null_links)
                     && (lc.next == null)
                     && (rc.next == null)
                     && (!lc.multi)
@@ -5560,7 +5330,7 @@ public class Sentence {
       */
 
     public final static int CMS_SIZE = (2 << 10);
-    public static Cms cms_table[] = new Cms[CMS_SIZE];
+    public Cms cms_table[] = new Cms[CMS_SIZE];
 
     public void init_cms_table() {
         int i;
@@ -0,0 +1,433 @@
+package edu.northwestern.at.utils.corpuslinguistics.spellingstandardizer;
+
+/*	Please see the license information at the end of this file. */
+
+import java.io.*;
+import java.rmi.*;
+import java.util.*;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import edu.northwestern.at.morphadorner.AdornerEngine;
+import edu.northwestern.at.morphadorner.servers.standardizerserver.*;
+import edu.northwestern.at.utils.*;
+import edu.northwestern.at.utils.cache.*;
+import edu.northwestern.at.utils.corpuslinguistics.adornedword.*;
+import edu.northwestern.at.utils.corpuslinguistics.partsofspeech.*;
+
+/**	Tests remote standard spellings when the server cannot answer.
+ *
+ *	<p>
+ *	Uses a stub server session which fails, returns too few standard
+ *	spellings, or returns null standard spellings, and checks that
+ *	the input spellings returned in their place are neither reported
+ *	as answered nor memoized.
+ *	</p>
+ */
+
+public class RemoteSpellingStandardizerTest
+{
+	/**	Part of speech tags. */
+
+	protected static PartOfSpeechTags partOfSpeechTags;
+
+	/**	Stub server session. */
+
+	protected StubSession stubSession;
+
+	/**	Remote standardizer using the stub session. */
+
+	protected RemoteSpellingStandardizer standardizer;
+
+	/**	Standardized spelling memo. */
+
+	protected StandardizedSpellingMemo memo;
+
+	@BeforeClass
+	public static void loadPartOfSpeechTags()
+		throws IOException
+	{
+		partOfSpeechTags	= new NUPOSPartOfSpeechTags();
+	}
+
+	@Before
+	public void createStandardizer()
+	{
+		stubSession		= new StubSession();
+		standardizer	= new StubRemoteSpellingStandardizer( stubSession );
+
+		memo	=
+			new StandardizedSpellingMemo
+			(
+				BoundedCacheFactory.<CompoundKey, String>newBoundedCache
+				(
+					"lru" ,
+					1000
+				)
+			);
+	}
+
+	@After
+	public void closeStandardizer()
+	{
+		standardizer.close();
+	}
+
+	@Test
+	public void failedCallIsNotAnswered()
+	{
+		stubSession.mode	= StubSession.FAIL;
+
+		boolean[] answered	= new boolean[ 2 ];
+
+		String[] result	=
+			standardizer.standardizeSpellings
+			(
+				new String[]{ "vnto" , "haue" } ,
+				new String[]{ "adverb" , "adverb" } ,
+				answered
+			);
+
+		assertArrayEquals( new String[]{ "vnto" , "haue" } , result );
+		assertFalse( answered[ 0 ] );
+		assertFalse( answered[ 1 ] );
+
+								//	Fallbacks are not cached, so the
+								//	server is asked again.
+
+		standardizer.standardizeSpellings
+		(
+			new String[]{ "vnto" , "haue" } ,
+			new String[]{ "adverb" , "adverb" } ,
+			answered
+		);
+
+		assertEquals( 2 , stubSession.calls );
+	}
+
+	@Test
+	public void shortResultIsNotAnswered()
+	{
+		stubSession.mode	= StubSession.SHORT;
+
+		boolean[] answered	= new boolean[ 2 ];
+
+		String[] result	=
+			standardizer.standardizeSpellings
+			(
+				new String[]{ "vnto" , "haue" } ,
+				new String[]{ "adverb" , "adverb" } ,
+				answered
+			);
+
+		assertArrayEquals( new String[]{ "vnto" , "haue" } , result );
+		assertFalse( answered[ 0 ] );
+		assertFalse( answered[ 1 ] );
+	}
+
+	@Test
+	public void nullEntryIsNotAnswered()
+	{
+		stubSession.mode	= StubSession.NULLS;
+
+		boolean[] answered	= new boolean[ 2 ];
+
+		String[] result	=
+			standardizer.standardizeSpellings
+			(
+				new String[]{ "vnto" , "haue" } ,
+				new String[]{ "adverb" , "adverb" } ,
+				answered
+			);
+
+		assertArrayEquals( new String[]{ "unto" , "haue" } , result );
+		assertTrue( answered[ 0 ] );
+		assertFalse( answered[ 1 ] );
+	}
+
+	@Test
+	public void failedSingleSpellingIsNotAnswered()
+	{
+		stubSession.mode	= StubSession.FAIL;
+
+		boolean[] answered	= new boolean[ 1 ];
+
+		assertEquals
+		(
+			"vnto" ,
+			standardizer.standardizeSpelling( "vnto" , "adverb" , answered )
+		);
+
+		assertFalse( answered[ 0 ] );
+	}
+
+	@Test
+	public void prefetchMemoizesOnlyAnsweredSpellings()
+	{
+		stubSession.mode	= StubSession.NULLS;
+
+		List<List<AdornedWord>> sentences	=
+			new ArrayList<List<AdornedWord>>();
+
+		List<AdornedWord> sentence	= new ArrayList<AdornedWord>();
+
+		sentence.add( new BaseAdornedWord( "vnto" , "av" ) );
+		sentence.add( new BaseAdornedWord( "haue" , "av" ) );
+
+		sentences.add( sentence );
+
+		AdornerEngine.prefetchStandardizedSpellings
+		(
+			sentences ,
+			partOfSpeechTags ,
+			standardizer ,
+			memo
+		);
+
+		assertEquals( "unto" , memo.get( "vnto" , "adverb" ) );
+		assertNull( memo.get( "haue" , "adverb" ) );
+	}
+
+	@Test
+	public void prefetchDoesNotMemoizeFailedCall()
+	{
+		stubSession.mode	= StubSession.FAIL;
+
+		List<List<AdornedWord>> sentences	=
+			new ArrayList<List<AdornedWord>>();
+
+		List<AdornedWord> sentence	= new ArrayList<AdornedWord>();
+
+		sentence.add( new BaseAdornedWord( "vnto" , "av" ) );
+
+		sentences.add( sentence );
+
+		AdornerEngine.prefetchStandardizedSpellings
+		(
+			sentences ,
+			partOfSpeechTags ,
+			standardizer ,
+			memo
+		);
+
+		assertEquals( 0 , memo.size() );
+	}
+
+	@Test
+	public void failedStandardizedSpellingIsNotMemoized()
+	{
+		stubSession.mode	= StubSession.FAIL;
+
+		assertEquals
+		(
+			"vnto" ,
+			AdornerEngine.getStandardizedSpelling
+			(
+				"vnto" ,
+				"av" ,
+				partOfSpeechTags ,
+				null ,
+				standardizer ,
+				memo
+			)
+		);
+
+		assertEquals( 0 , memo.size() );
+
+								//	The server answers once it is back.
+
+		stubSession.mode	= StubSession.NULLS;
+
+		assertEquals
+		(
+			"unto" ,
+			AdornerEngine.getStandardizedSpelling
+			(
+				"vnto" ,
+				"av" ,
+				partOfSpeechTags ,
+				null ,
+				standardizer ,
+				memo
+			)
+		);
+
+		assertEquals( "unto" , memo.get( "vnto" , "adverb" ) );
+	}
+
+	/**	Remote standardizer using a stub server session. */
+
+	protected static class StubRemoteSpellingStandardizer
+		extends RemoteSpellingStandardizer
+	{
+		protected StubRemoteSpellingStandardizer( StandardizerServerSession session )
+		{
+			super();
+
+			this.session	= session;
+		}
+
+		/**	Do not look up a server. */
+
+		protected void initializeServerSession()
+		{
+		}
+	}
+
+	/**	Stub standardizer server session.
+	 *
+	 *	<p>
+	 *	Standardizes "vnto" as "unto" and has no standard spelling for
+	 *	anything else, or fails as set by the mode.
+	 *	</p>
+	 */
+
+	protected static class StubSession implements StandardizerServerSession
+	{
+		/**	Throw a RemoteException. */
+
+		public static final int FAIL	= 0;
+
+		/**	Return one fewer standard spelling than requested. */
+
+		public static final int SHORT	= 1;
+
+		/**	Return null for spellings with no standard spelling. */
+
+		public static final int NULLS	= 2;
+
+		/**	Current mode. */
+
+		protected volatile int mode	= FAIL;
+
+		/**	Number of calls to standardize word classed spellings. */
+
+		protected volatile int calls	= 0;
+
+		public String[] standardizeSpellings
+		(
+			String[] spellings ,
+			String[] wordClasses
+		)
+			throws RemoteException
+		{
+			calls++;
+
+			switch ( mode )
+			{
+				case FAIL	:
+					throw new RemoteException( "Server unavailable." );
+
+				case SHORT	:
+					return new String[ spellings.length - 1 ];
+
+				default		:
+					String[] result	= new String[ spellings.length ];
+
+					for ( int i = 0 ; i < spellings.length ; i++ )
+					{
+						if ( spellings[ i ].equals( "vnto" ) )
+						{
+							result[ i ]	= "unto";
+						}
+					}
+
+					return result;
+			}
+		}
+
+		public String standardizeSpelling( String spelling , String pos )
+			throws RemoteException
+		{
+			return standardizeSpellings
+			(
+				new String[]{ spelling } ,
+				new String[]{ pos }
+			)[ 0 ];
+		}
+
+		public String[] standardizeSpelling( String spelling )
+			throws RemoteException
+		{
+			throw new RemoteException( "Not supported." );
+		}
+
+		public String[][] standardizeSpellings( String[] spellings )
+			throws RemoteException
+		{
+			throw new RemoteException( "Not supported." );
+		}
+
+		public void endSession()
+		{
+		}
+
+		public void tickle()
+		{
+		}
+
+		public void logMessage( int level , String msg )
+		{
+		}
+
+		public int getNumberOfAlternateSpellings()
+		{
+			return 0;
+		}
+
+		public int[] getNumberOfAlternateSpellingsByWordClass()
+		{
+			return new int[ 0 ];
+		}
+
+		public int getNumberOfStandardSpellings()
+		{
+			return 0;
+		}
+	}
+}
+
+/*
+Copyright (c) 2008, 2009 by Northwestern University.
+All rights reserved.
+
+Developed by:
+   Academic and Research Technologies
+   Northwestern University
+   http://www.it.northwestern.edu/about/departments/at/
+
+Permission is hereby granted, free of charge, to any person
+obtaining a copy of this software and associated documentation
+files (the "Software"), to deal with the Software without
+restriction, including without limitation the rights to use,
+copy, modify, merge, publish, distribute, sublicense, and/or
+sell copies of the Software, and to permit persons to whom the
+Software is furnished to do so, subject to the following
+conditions:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimers.
+
+    * Redistributions in binary form must reproduce the above
+      copyright notice, this list of conditions and the following
+      disclaimers in the documentation and/or other materials provided
+      with the distribution.
+
+    * Neither the names of Academic and Research Technologies,
+      Northwestern University, nor the names of its contributors may be
+      used to endorse or promote products derived from this Software
+      without specific prior written permission.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+NONINFRINGEMENT. IN NO EVENT SHALL THE CONTRIBUTORS OR
+COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS WITH THE SOFTWARE.
+*/
+
+
+